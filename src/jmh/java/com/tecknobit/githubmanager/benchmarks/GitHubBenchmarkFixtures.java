@@ -0,0 +1,107 @@
+package com.tecknobit.githubmanager.benchmarks;
+
+import com.tecknobit.githubmanager.transport.GitHubTransport;
+import com.tecknobit.githubmanager.transport.records.GitHubHTTPResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The {@code GitHubBenchmarkFixtures} class is useful to load the payloads used by the benchmarks <br>
+ * The payloads are realistic responses of {@code "GitHub"}, stored as resources in the {@code "fixtures"} folder:
+ * <ul>
+ *     <li>
+ *         {@link #REPOSITORY} -> a repository with its organization, parent and source
+ *     </li>
+ *     <li>
+ *         {@link #PULL_REQUEST} -> an open pull request with its labels, reviewers and both parts
+ *     </li>
+ *     <li>
+ *         {@link #WORKFLOW_RUN} -> a completed workflow run with its head commit and repositories
+ *     </li>
+ *     <li>
+ *         {@link #COMMIT} -> a commit with its stats and twenty patched files
+ *     </li>
+ *     <li>
+ *         {@link #EVENTS} -> a page of thirty public events of mixed types
+ *     </li>
+ *     <li>
+ *         {@link #SEARCH_REPOSITORIES} -> the first page of thirty repositories found by a search
+ *     </li>
+ * </ul>
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ **/
+public class GitHubBenchmarkFixtures {
+
+    /**
+     * {@code REPOSITORY} name of the repository payload
+     **/
+    public static final String REPOSITORY = "repository";
+
+    /**
+     * {@code PULL_REQUEST} name of the pull request payload
+     **/
+    public static final String PULL_REQUEST = "pull_request";
+
+    /**
+     * {@code WORKFLOW_RUN} name of the workflow run payload
+     **/
+    public static final String WORKFLOW_RUN = "workflow_run";
+
+    /**
+     * {@code COMMIT} name of the commit payload
+     **/
+    public static final String COMMIT = "commit";
+
+    /**
+     * {@code EVENTS} name of the events payload
+     **/
+    public static final String EVENTS = "events";
+
+    /**
+     * {@code SEARCH_REPOSITORIES} name of the repositories search payload
+     **/
+    public static final String SEARCH_REPOSITORIES = "search_repositories";
+
+    /**
+     * Constructor to init a {@link GitHubBenchmarkFixtures} <br>
+     * No-any params required
+     *
+     * @apiNote this class has only static methods
+     **/
+    private GitHubBenchmarkFixtures() {
+    }
+
+    /**
+     * Method to load a payload
+     *
+     * @param name: name of the payload to load, as {@link #REPOSITORY}
+     * @return payload as {@link String}
+     * @throws IOException when the payload cannot be found or read
+     **/
+    public static String load(String name) throws IOException {
+        try (InputStream payload = GitHubBenchmarkFixtures.class.getResourceAsStream("/fixtures/" + name + ".json")) {
+            if (payload == null)
+                throw new IOException("The payload " + name + " cannot be found");
+            return new String(payload.readAllBytes(), UTF_8);
+        }
+    }
+
+    /**
+     * Method to create a transport which answers to each request with a payload, without sending any request
+     *
+     * @param name: name of the payload to answer with, as {@link #REPOSITORY}
+     * @return transport as {@link GitHubTransport}
+     * @throws IOException when the payload cannot be found or read
+     * @apiNote the response is created once, so the benchmarks measure only the work made by the managers on it
+     **/
+    public static GitHubTransport cannedTransport(String name) throws IOException {
+        GitHubHTTPResponse response = new GitHubHTTPResponse(200, Map.of(), load(name));
+        return request -> response;
+    }
+
+}
@@ -0,0 +1,152 @@
+package com.tecknobit.githubmanager.benchmarks;
+
+import com.tecknobit.githubmanager.actions.workflow.runs.records.WorkflowRun;
+import com.tecknobit.githubmanager.activity.events.records.Event;
+import com.tecknobit.githubmanager.commits.commits.records.Commit;
+import com.tecknobit.githubmanager.pulls.pulls.records.PullRequest;
+import com.tecknobit.githubmanager.repositories.repositories.records.Repository;
+import com.tecknobit.githubmanager.search.records.SearchResults;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static com.tecknobit.githubmanager.benchmarks.GitHubBenchmarkFixtures.*;
+
+/**
+ * The {@code GitHubRecordsBenchmark} class is useful to measure the decoding of the payloads into the heaviest
+ * records of the library, from the body of the response to the record, as the managers do with the
+ * {@link com.tecknobit.githubmanager.GitHubManager.ReturnFormat#LIBRARY_OBJECT} format <br>
+ * Run with {@code "-prof gc"} to get the bytes allocated to decode each record, as {@code "gc.alloc.rate.norm"}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see GitHubReturnFormatBenchmark
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GitHubRecordsBenchmark {
+
+    /**
+     * {@code repository} the repository payload
+     **/
+    private String repository;
+
+    /**
+     * {@code pullRequest} the pull request payload
+     **/
+    private String pullRequest;
+
+    /**
+     * {@code workflowRun} the workflow run payload
+     **/
+    private String workflowRun;
+
+    /**
+     * {@code commit} the commit payload
+     **/
+    private String commit;
+
+    /**
+     * {@code events} the events payload
+     **/
+    private String events;
+
+    /**
+     * {@code searchRepositories} the repositories search payload
+     **/
+    private String searchRepositories;
+
+    /**
+     * Method to load the payloads before the benchmarks <br>
+     * No-any params required
+     *
+     * @throws IOException when a payload cannot be loaded
+     **/
+    @Setup
+    public void setup() throws IOException {
+        repository = load(REPOSITORY);
+        pullRequest = load(PULL_REQUEST);
+        workflowRun = load(WORKFLOW_RUN);
+        commit = load(COMMIT);
+        events = load(EVENTS);
+        searchRepositories = load(SEARCH_REPOSITORIES);
+    }
+
+    /**
+     * Method to decode the repository payload <br>
+     * No-any params required
+     *
+     * @return repository as {@link Repository}
+     **/
+    @Benchmark
+    public Repository repository() {
+        return new Repository(new JSONObject(repository));
+    }
+
+    /**
+     * Method to decode the pull request payload <br>
+     * No-any params required
+     *
+     * @return pull request as {@link PullRequest}
+     **/
+    @Benchmark
+    public PullRequest pullRequest() {
+        return new PullRequest(new JSONObject(pullRequest));
+    }
+
+    /**
+     * Method to decode the workflow run payload <br>
+     * No-any params required
+     *
+     * @return workflow run as {@link WorkflowRun}
+     **/
+    @Benchmark
+    public WorkflowRun workflowRun() {
+        return new WorkflowRun(new JSONObject(workflowRun));
+    }
+
+    /**
+     * Method to decode the commit payload <br>
+     * No-any params required
+     *
+     * @return commit as {@link Commit}
+     **/
+    @Benchmark
+    public Commit commit() {
+        return new Commit(new JSONObject(commit));
+    }
+
+    /**
+     * Method to decode the events payload <br>
+     * No-any params required
+     *
+     * @return events as {@link ArrayList} of {@link Event}
+     **/
+    @Benchmark
+    public ArrayList<Event> events() {
+        ArrayList<Event> eventsList = new ArrayList<>();
+        JSONArray jEvents = new JSONArray(events);
+        for (int j = 0; j < jEvents.length(); j++)
+            eventsList.add(new Event(jEvents.getJSONObject(j)));
+        return eventsList;
+    }
+
+    /**
+     * Method to decode the repositories search payload <br>
+     * No-any params required
+     *
+     * @return search results as {@link SearchResults}
+     **/
+    @Benchmark
+    public SearchResults searchResults() {
+        return new SearchResults(Repository.class, new JSONObject(searchRepositories));
+    }
+
+}
@@ -0,0 +1,166 @@
+package com.tecknobit.githubmanager.benchmarks;
+
+import com.tecknobit.githubmanager.GitHubManager.ReturnFormat;
+import com.tecknobit.githubmanager.actions.workflow.runs.GitHubWorkflowRunsManager;
+import com.tecknobit.githubmanager.activity.events.GitHubEventsManager;
+import com.tecknobit.githubmanager.commits.commits.GitHubCommitsManager;
+import com.tecknobit.githubmanager.pulls.pulls.GitHubPullsManager;
+import com.tecknobit.githubmanager.repositories.repositories.GitHubRepositoriesManager;
+import com.tecknobit.githubmanager.search.GitHubSearchManager;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static com.tecknobit.githubmanager.benchmarks.GitHubBenchmarkFixtures.*;
+
+/**
+ * The {@code GitHubReturnFormatBenchmark} class is useful to measure the whole path of a request made by the
+ * managers, from the response of the transport to the value returned as the {@link ReturnFormat} defines <br>
+ * Each manager uses a transport which answers with a payload without sending any request, so the benchmarks measure
+ * only the work made by the library: the requests creation, the responses handling and the {@code "returnXxx"}
+ * helpers <br>
+ * Run with {@code "-prof gc"} to get the bytes allocated by each call, as {@code "gc.alloc.rate.norm"}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see GitHubRecordsBenchmark
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GitHubReturnFormatBenchmark {
+
+    /**
+     * {@code format} return type formatter of the calls
+     **/
+    @Param({"JSON", "LIBRARY_OBJECT"})
+    public ReturnFormat format;
+
+    /**
+     * {@code repositoriesManager} the manager which answers with the repository payload
+     **/
+    private GitHubRepositoriesManager repositoriesManager;
+
+    /**
+     * {@code pullsManager} the manager which answers with the pull request payload
+     **/
+    private GitHubPullsManager pullsManager;
+
+    /**
+     * {@code workflowRunsManager} the manager which answers with the workflow run payload
+     **/
+    private GitHubWorkflowRunsManager workflowRunsManager;
+
+    /**
+     * {@code commitsManager} the manager which answers with the commit payload
+     **/
+    private GitHubCommitsManager commitsManager;
+
+    /**
+     * {@code eventsManager} the manager which answers with the events payload
+     **/
+    private GitHubEventsManager eventsManager;
+
+    /**
+     * {@code searchManager} the manager which answers with the repositories search payload
+     **/
+    private GitHubSearchManager searchManager;
+
+    /**
+     * Method to create the managers before the benchmarks <br>
+     * No-any params required
+     *
+     * @throws IOException when a payload cannot be loaded
+     **/
+    @Setup
+    public void setup() throws IOException {
+        repositoriesManager = new GitHubRepositoriesManager("benchmark");
+        repositoriesManager.setTransport(cannedTransport(REPOSITORY));
+        pullsManager = new GitHubPullsManager("benchmark");
+        pullsManager.setTransport(cannedTransport(PULL_REQUEST));
+        workflowRunsManager = new GitHubWorkflowRunsManager("benchmark");
+        workflowRunsManager.setTransport(cannedTransport(WORKFLOW_RUN));
+        commitsManager = new GitHubCommitsManager("benchmark");
+        commitsManager.setTransport(cannedTransport(COMMIT));
+        eventsManager = new GitHubEventsManager("benchmark");
+        eventsManager.setTransport(cannedTransport(EVENTS));
+        searchManager = new GitHubSearchManager("benchmark");
+        searchManager.setTransport(cannedTransport(SEARCH_REPOSITORIES));
+    }
+
+    /**
+     * Method to get a repository <br>
+     * No-any params required
+     *
+     * @return repository as {@code "format"} defines
+     * @throws IOException when the request has been go wrong
+     **/
+    @Benchmark
+    public Object getRepository() throws IOException {
+        return repositoriesManager.getRepository("octocat", "Hello-World", format);
+    }
+
+    /**
+     * Method to get a pull request <br>
+     * No-any params required
+     *
+     * @return pull request as {@code "format"} defines
+     * @throws IOException when the request has been go wrong
+     **/
+    @Benchmark
+    public Object getPullRequest() throws IOException {
+        return pullsManager.getPullRequest("octocat", "Hello-World", 1347, format);
+    }
+
+    /**
+     * Method to get a workflow run <br>
+     * No-any params required
+     *
+     * @return workflow run as {@code "format"} defines
+     * @throws IOException when the request has been go wrong
+     **/
+    @Benchmark
+    public Object getWorkflowRun() throws IOException {
+        return workflowRunsManager.getWorkflowRun("octo-org", "octo-repo", 30433642, false, format);
+    }
+
+    /**
+     * Method to get a commit <br>
+     * No-any params required
+     *
+     * @return commit as {@code "format"} defines
+     * @throws IOException when the request has been go wrong
+     **/
+    @Benchmark
+    public Object getCommit() throws IOException {
+        return commitsManager.getCommit("octocat", "Hello-World", "main", format);
+    }
+
+    /**
+     * Method to get the public events <br>
+     * No-any params required
+     *
+     * @return events as {@code "format"} defines
+     * @throws IOException when the request has been go wrong
+     **/
+    @Benchmark
+    public Object getPublicEvents() throws IOException {
+        return eventsManager.getPublicEvents(format);
+    }
+
+    /**
+     * Method to search the repositories <br>
+     * No-any params required
+     *
+     * @return search results as {@code "format"} defines
+     * @throws IOException when the request has been go wrong
+     **/
+    @Benchmark
+    public Object searchRepositories() throws IOException {
+        return searchManager.searchRepositories("github api language:java", format);
+    }
+
+}
@@ -2,24 +2,62 @@ package com.tecknobit.githubmanager;
 
 import com.tecknobit.apimanager.annotations.Returner;
 import com.tecknobit.apimanager.apis.APIRequest;
-import com.tecknobit.apimanager.apis.APIRequest.Headers;
+import com.tecknobit.githubmanager.auth.GitHubCredentials;
+import com.tecknobit.githubmanager.auth.GitHubTokenCredentials;
+import com.tecknobit.githubmanager.monitoring.GitHubRequestPathResolver;
+import com.tecknobit.githubmanager.monitoring.GitHubRequestListener;
+import com.tecknobit.githubmanager.monitoring.GitHubRequestTrace;
+import com.tecknobit.githubmanager.monitoring.GitHubRequestTracer;
+import com.tecknobit.githubmanager.pagination.GitHubPaginator;
+import com.tecknobit.githubmanager.transport.GitHubBodyReader;
+import com.tecknobit.githubmanager.transport.GitHubHTTPClientTransport;
+import com.tecknobit.githubmanager.transport.GitHubProgressListener;
+import com.tecknobit.githubmanager.transport.GitHubRequestBody;
+import com.tecknobit.githubmanager.transport.GitHubRequestException;
+import com.tecknobit.githubmanager.transport.GitHubTransport;
+import com.tecknobit.githubmanager.transport.records.GitHubHTTPRequest;
+import com.tecknobit.githubmanager.transport.records.GitHubHTTPResponse;
 import org.json.JSONArray;
+import org.json.JSONException;
 import org.json.JSONObject;
 
-import java.io.BufferedReader;
+import java.io.File;
+import java.io.FilterInputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
-import java.net.URL;
-import java.util.Arrays;
-import java.util.HashMap;
-import java.util.Properties;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod;
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.*;
 import static com.tecknobit.githubmanager.codespaces.codespaces.GitHubCodespacesManager.CODESPACES_PATH;
+import static com.tecknobit.githubmanager.monitoring.records.RequestEvent.UNKNOWN_STATUS_CODE;
 import static com.tecknobit.githubmanager.organizations.organizations.GitHubOrganizationsManager.ORGANIZATIONS_PATH;
+import static com.tecknobit.githubmanager.pagination.GitHubPaginator.createFirstPageEndpoint;
+import static com.tecknobit.githubmanager.streaming.GitHubJSONStreamReader.readList;
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
 
 /**
  * The {@code GitHubManager} class is useful to manage all GitHubManager's endpoints
@@ -32,10 +70,17 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 public class GitHubManager {
 
     /**
-     * {@code BASE_ENDPOINT} is instance for GitHub's base endpoint to work on
+     * {@code BASE_ENDPOINT} is instance for GitHub's base endpoint to work on, used when a custom base endpoint has
+     * not been set
      **/
     public static final String BASE_ENDPOINT = "https://api.github.com/";
 
+    /**
+     * {@code UPLOADS_ENDPOINT} is instance for GitHub's endpoint where upload the files, as the release assets, used
+     * when a custom uploads endpoint has not been set
+     **/
+    public static final String UPLOADS_ENDPOINT = "https://uploads.github.com/";
+
     /**
      * {@code ACTIONS_PATH} constant for {@code "/actions/"} path
      **/
@@ -138,9 +183,42 @@ public class GitHubManager {
     private static final Properties properties = new Properties();
 
     /**
-     * {@code mainHeaders} is instance for main headers of all requests
+     * {@code DEFAULT_ERROR_MESSAGE} error message to show when is not a request error and a custom one has not been set
+     **/
+    public static final String DEFAULT_ERROR_MESSAGE = "Error is not in api request, check out your code";
+
+    /**
+     * {@code MAX_REDIRECTS} maximum number of the redirects followed for a single request
+     **/
+    public static final int MAX_REDIRECTS = 5;
+
+    /**
+     * {@code MAX_DOWNLOAD_ATTEMPTS} maximum number of the attempts of a download, each attempt after the first one
+     * resumes the download from the last byte written
+     **/
+    public static final int MAX_DOWNLOAD_ATTEMPTS = 5;
+
+    /**
+     * {@code DOWNLOAD_CHUNK_SIZE} maximum number of the bytes transferred at a time while downloading
+     **/
+    private static final int DOWNLOAD_CHUNK_SIZE = 1 << 20;
+
+    /**
+     * {@code DEFAULT_DOWNLOAD_PARTS} number of the parts downloaded at the same time for the large files, as the
+     * release assets and the migration archives
+     **/
+    public static final int DEFAULT_DOWNLOAD_PARTS = 4;
+
+    /**
+     * {@code MIN_DOWNLOAD_PART_SIZE} minimum number of the bytes of each part of a file downloaded in parts, the smaller
+     * files are downloaded as a single stream
+     **/
+    public static final long MIN_DOWNLOAD_PART_SIZE = 8L << 20;
+
+    /**
+     * {@code MAX_UPLOAD_ATTEMPTS} maximum number of the attempts of an upload which goes wrong for a transient error
      **/
-    protected static Headers mainHeaders;
+    public static final int MAX_UPLOAD_ATTEMPTS = 3;
 
     /**
      * {@code accessToken} personal access token for authentication to {@code "GitHub"}
@@ -148,9 +226,80 @@ public class GitHubManager {
     protected final String accessToken;
 
     /**
-     * {@code apiRequest} is instance to make the API requests
+     * {@code credentials} credentials used to authenticate the requests to {@code "GitHub"}
+     **/
+    protected final GitHubCredentials credentials;
+
+    /**
+     * {@code mainCredentials} credentials stored to instantiate a new manager without re-insert them
+     **/
+    private static volatile GitHubCredentials mainCredentials;
+
+    /**
+     * {@code defaultErrorMessage} custom error to show when is not a request error
+     **/
+    protected final String defaultErrorMessage;
+
+    /**
+     * {@code requestTimeout} custom timeout for request, {@code "-1"} if has not been set
+     **/
+    protected final int requestTimeout;
+
+    /**
+     * {@code defaultTransport} is the transport shared by all the managers which have not a custom transport
+     **/
+    private static volatile GitHubTransport defaultTransport = new GitHubHTTPClientTransport();
+
+    /**
+     * {@code transport} is the custom transport of this manager, {@code "null"} to use the {@link #defaultTransport}
+     **/
+    private volatile GitHubTransport transport;
+
+    /**
+     * {@code defaultBaseEndpoint} is the base endpoint of the API used by all the managers which have not a custom base
+     * endpoint
+     **/
+    private static volatile String defaultBaseEndpoint = BASE_ENDPOINT;
+
+    /**
+     * {@code defaultUploadsEndpoint} is the endpoint where upload the files used by all the managers which have not a
+     * custom uploads endpoint
+     **/
+    private static volatile String defaultUploadsEndpoint = UPLOADS_ENDPOINT;
+
+    /**
+     * {@code endpointsHosts} the hosts of all the base and uploads endpoints configured on the managers, as
+     * {@code "https://api.github.com"}, the transports keep a pool of connections for each of them
+     **/
+    private static final Set<String> endpointsHosts = ConcurrentHashMap.newKeySet();
+
+    static {
+        registerEndpointHost(BASE_ENDPOINT);
+        registerEndpointHost(UPLOADS_ENDPOINT);
+    }
+
+    /**
+     * {@code baseEndpoint} is the custom base endpoint of the API of this manager, {@code "null"} to use the
+     * {@link #defaultBaseEndpoint}
+     **/
+    private volatile String baseEndpoint;
+
+    /**
+     * {@code uploadsEndpoint} is the custom endpoint where upload the files of this manager, {@code "null"} to use the
+     * {@link #defaultUploadsEndpoint}
+     **/
+    private volatile String uploadsEndpoint;
+
+    /**
+     * {@code asyncExecutor} is the executor used to run the asynchronous requests
      **/
-    protected final APIRequest apiRequest;
+    private static volatile Executor asyncExecutor = createAsyncExecutor();
+
+    /**
+     * {@code lastResponse} is the last response received by each thread which uses this manager, so the status and
+     * the error of a request are never overwritten by requests sent by other threads
+     **/
+    private final ThreadLocal<GitHubHTTPResponse> lastResponse = new ThreadLocal<>();
 
     /**
      * Constructor to init a {@link GitHubManager}
@@ -158,9 +307,7 @@ public class GitHubManager {
      * @param accessToken: personal access token for authentication to {@code "GitHub"}
      **/
     public GitHubManager(String accessToken) {
-        this.accessToken = accessToken;
-        apiRequest = new APIRequest();
-        storeProperties(accessToken, null, -1);
+        this(accessToken, null, -1);
     }
 
     /**
@@ -170,9 +317,7 @@ public class GitHubManager {
      * @param defaultErrorMessage: custom error to show when is not a request error
      **/
     public GitHubManager(String accessToken, String defaultErrorMessage) {
-        this.accessToken = accessToken;
-        apiRequest = new APIRequest(defaultErrorMessage);
-        storeProperties(accessToken, defaultErrorMessage, -1);
+        this(accessToken, defaultErrorMessage, -1);
     }
 
     /**
@@ -182,9 +327,7 @@ public class GitHubManager {
      * @param requestTimeout: custom timeout for request
      **/
     public GitHubManager(String accessToken, int requestTimeout) {
-        this.accessToken = accessToken;
-        apiRequest = new APIRequest(requestTimeout);
-        storeProperties(accessToken, null, requestTimeout);
+        this(accessToken, null, requestTimeout);
     }
 
     /**
@@ -195,9 +338,50 @@ public class GitHubManager {
      * @param requestTimeout:      custom timeout for request
      **/
     public GitHubManager(String accessToken, String defaultErrorMessage, int requestTimeout) {
+        this(new GitHubTokenCredentials(accessToken), accessToken, defaultErrorMessage, requestTimeout);
+    }
+
+    /**
+     * Constructor to init a {@link GitHubManager}
+     *
+     * @param credentials: credentials for authentication to {@code "GitHub"}, as the ones of an installation of a
+     *                     {@code "GitHub App"}
+     * @apiNote the other managers can be instantiated with the same credentials with their constructor without params
+     **/
+    public GitHubManager(GitHubCredentials credentials) {
+        this(credentials, null, -1);
+    }
+
+    /**
+     * Constructor to init a {@link GitHubManager}
+     *
+     * @param credentials:         credentials for authentication to {@code "GitHub"}, as the ones of an installation
+     *                             of a {@code "GitHub App"}
+     * @param defaultErrorMessage: custom error to show when is not a request error
+     * @param requestTimeout:      custom timeout for request
+     * @apiNote the other managers can be instantiated with the same credentials with their constructor without params
+     **/
+    public GitHubManager(GitHubCredentials credentials, String defaultErrorMessage, int requestTimeout) {
+        this(credentials, null, defaultErrorMessage, requestTimeout);
+    }
+
+    /**
+     * Constructor to init a {@link GitHubManager}
+     *
+     * @param credentials:         credentials for authentication to {@code "GitHub"}
+     * @param accessToken:         personal access token of the credentials, {@code "null"} if they are not a token
+     * @param defaultErrorMessage: custom error to show when is not a request error
+     * @param requestTimeout:      custom timeout for request
+     **/
+    private GitHubManager(GitHubCredentials credentials, String accessToken, String defaultErrorMessage,
+                          int requestTimeout) {
+        if (credentials == null)
+            throw new IllegalArgumentException("The credentials cannot be null");
+        this.credentials = credentials;
         this.accessToken = accessToken;
-        apiRequest = new APIRequest(defaultErrorMessage, requestTimeout);
-        storeProperties(accessToken, defaultErrorMessage, -1);
+        this.defaultErrorMessage = defaultErrorMessage;
+        this.requestTimeout = requestTimeout;
+        storeProperties(credentials, defaultErrorMessage, requestTimeout);
     }
 
     /**
@@ -217,39 +401,29 @@ public class GitHubManager {
      * </pre>
      **/
     public GitHubManager() {
-        accessToken = properties.getProperty("accessToken");
-        if (accessToken == null)
+        credentials = mainCredentials;
+        if (credentials == null)
             throw new IllegalArgumentException("You need to call a parameterized constructor first");
-        int requestTimeout = Integer.parseInt(properties.getProperty("requestTimeout"));
-        String defaultErrorMessage = properties.getProperty("defaultErrorMessage");
-        if (requestTimeout != -1 && defaultErrorMessage != null)
-            apiRequest = new APIRequest(defaultErrorMessage, requestTimeout);
-        else if (defaultErrorMessage != null)
-            apiRequest = new APIRequest(defaultErrorMessage);
-        else if (requestTimeout != -1)
-            apiRequest = new APIRequest(requestTimeout);
-        else
-            apiRequest = new APIRequest();
+        accessToken = properties.getProperty("accessToken");
+        requestTimeout = Integer.parseInt(properties.getProperty("requestTimeout"));
+        defaultErrorMessage = properties.getProperty("defaultErrorMessage");
     }
 
     /**
      * Method to store some properties
      *
-     * @param accessToken:         personal access token for authentication to {@code "GitHub"}
+     * @param credentials:         credentials for authentication to {@code "GitHub"}
      * @param defaultErrorMessage: custom error to show when is not a request error
      * @param requestTimeout:      custom timeout for request
      **/
-    private void storeProperties(String accessToken, String defaultErrorMessage, int requestTimeout) {
+    private void storeProperties(GitHubCredentials credentials, String defaultErrorMessage, int requestTimeout) {
         properties.clear();
-        properties.setProperty("accessToken", accessToken);
+        mainCredentials = credentials;
+        if (accessToken != null)
+            properties.setProperty("accessToken", accessToken);
         if (defaultErrorMessage != null)
             properties.setProperty("defaultErrorMessage", defaultErrorMessage);
         properties.setProperty("requestTimeout", String.valueOf(requestTimeout));
-        if (mainHeaders == null) {
-            mainHeaders = new Headers();
-            mainHeaders.addHeader("authorization", " token " + accessToken);
-            mainHeaders.addHeader("accept", "application/vnd.github+json");
-        }
     }
 
     /**
@@ -316,29 +490,13 @@ public class GitHubManager {
      *                     </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
      **/
     public <T> HashMap<String, T> sendDeleteRequest(String endpoint, Params payload) throws IOException {
-        HttpURLConnection request = (HttpURLConnection) new URL(BASE_ENDPOINT + endpoint).openConnection();
+        GitHubHTTPResponse sResponse = sendHTTPRequest(endpoint, DELETE, payload);
         HashMap<String, T> response = new HashMap<>();
-        request.setRequestMethod(DELETE.name());
-        request.setRequestProperty("authorization", " token " + this.accessToken);
-        request.setRequestProperty("accept", "application/vnd.github+json");
-        request.setDoOutput(true);
-        byte[] tBytes = payload.createJSONPayload().toString().getBytes(UTF_8);
-        request.getOutputStream().write(tBytes, 0, tBytes.length);
-        request.connect();
-        response.put("code", (T) String.valueOf(request.getResponseCode()));
-        StringBuilder sResponse = new StringBuilder();
-        BufferedReader bufferedReader;
-        String resultKey = "success";
-        try {
-            bufferedReader = new BufferedReader(new InputStreamReader(request.getInputStream()));
-        } catch (IOException e) {
-            bufferedReader = new BufferedReader(new InputStreamReader(request.getErrorStream()));
-            resultKey = "error";
-        }
-        String line;
-        while ((line = bufferedReader.readLine()) != null)
-            sResponse.append(line);
-        response.put(resultKey, (T) sResponse.toString());
+        response.put("code", (T) String.valueOf(sResponse.getStatusCode()));
+        if (sResponse.isSuccessful())
+            response.put("success", (T) sResponse.getBody());
+        else
+            response.put("error", (T) sResponse.getBody());
         return response;
     }
 
@@ -361,8 +519,7 @@ public class GitHubManager {
      * </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
      **/
     private String sendRequest(String endpoint, RequestMethod method) throws IOException {
-        apiRequest.sendAPIRequest(BASE_ENDPOINT + endpoint, method, mainHeaders);
-        return apiRequest.getResponse();
+        return sendHTTPRequest(endpoint, method, null).getBody();
     }
 
     /**
@@ -450,152 +607,1593 @@ public class GitHubManager {
      *                     </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
      **/
     private String sendRequestWithBody(String endpoint, RequestMethod method, Params payload) throws IOException {
-        apiRequest.sendJSONPayloadedAPIRequest(BASE_ENDPOINT + endpoint, method, mainHeaders, payload);
-        return apiRequest.getResponse();
+        return sendHTTPRequest(endpoint, method, payload).getBody();
     }
 
     /**
-     * Method to get error response of the request <br>
-     * No-any params required
+     * Method to send a request to {@code "GitHub"} and get its own response
      *
-     * @return error response of request as {@link String} or defaultErrorResponse as {@link String} if is not a request
-     * error
+     * @param endpoint: endpoint of the request {@code "GitHub"} or complete url of the request
+     * @param method:   method of the request
+     * @param payload:  payload to send with the request, {@code "null"} if the request has not a body
+     * @return response of the request as {@link GitHubHTTPResponse}
+     * @throws IOException when request has been go wrong
+     * @apiNote the returned response is immutable and is not shared with the other threads, so the same manager can be
+     * used concurrently reading the status code and the body of each request from its own response
      **/
-    public String getErrorResponse() {
-        return apiRequest.getErrorResponse();
+    public GitHubHTTPResponse sendHTTPRequest(String endpoint, RequestMethod method, Params payload) throws IOException {
+        if (payload == null)
+            return sendHTTPRequest(endpoint, method, null, null);
+        return sendHTTPRequest(endpoint, method, "application/json",
+                payload.createJSONPayload().toString().getBytes(UTF_8));
     }
 
     /**
-     * Method to get error response of the request <br>
-     * No-any params required
+     * Method to send a request to {@code "GitHub"} and get its own response
      *
-     * @return error response of the request formatted as {@link JSONObject} or {@link JSONArray} object or defaultErrorResponse
-     * as {@link String} if is not a request error
+     * @param endpoint:    endpoint of the request {@code "GitHub"} or complete url of the request
+     * @param method:      method of the request
+     * @param contentType: content type of the body, {@code "null"} if the request has not a body
+     * @param body:        body of the request, {@code "null"} if the request has not a body
+     * @return response of the request as {@link GitHubHTTPResponse}
+     * @throws IOException when request has been go wrong
+     * @apiNote the returned response is immutable and is not shared with the other threads, so the same manager can be
+     * used concurrently reading the status code and the body of each request from its own response
      **/
-    public <T> T getJSONErrorResponse() {
-        return apiRequest.getJSONErrorResponse();
+    public GitHubHTTPResponse sendHTTPRequest(String endpoint, RequestMethod method, String contentType,
+                                              byte[] body) throws IOException {
+        lastResponse.remove();
+        GitHubHTTPResponse response = execute(createRequest(endpoint, method, contentType, body), null);
+        lastResponse.set(response);
+        return response;
     }
 
     /**
-     * Method to print error response of the request <br>
-     * No-any params required
+     * Method to send a {@code "GET"} request to {@code "GitHub"} reading the body of its response while it is
+     * received, without storing it as a whole {@link String}
+     *
+     * @param endpoint: endpoint of the request {@code "GitHub"} or complete url of the request
+     * @param reader:   reader of the body of the response
+     * @return the value read from the body of the response as {@link T}
+     * @throws IOException when request has been go wrong -> you can use these methods to get more details about error:
+     *                     <ul>
+     *                         <li>
+     *                             {@link #getErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #getJSONErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #printErrorResponse()}
+     *                         </li>
+     *                     </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
+     * @apiNote only the body of a successful response is given to the reader, the body of an error response is read
+     * as {@link String} as usual
      **/
-    public void printErrorResponse() {
-        apiRequest.printErrorResponse();
+    public <T> T sendGetRequest(String endpoint, GitHubBodyReader<T> reader) throws IOException {
+        GitHubHTTPResponse response = sendHTTPRequest(endpoint, reader);
+        if (!response.isSuccessful())
+            throw new IOException(response.getBody());
+        return response.getContent();
     }
 
     /**
-     * Method to print error response of request <br>
-     * No-any params required
+     * Method to send a {@code "GET"} request to {@code "GitHub"} and get its own response, reading the body of a
+     * successful response with a {@link GitHubBodyReader}
      *
-     * @implNote response will be printed in JSON format or in a simple {@link String} format
+     * @param endpoint: endpoint of the request {@code "GitHub"} or complete url of the request
+     * @param reader:   reader of the body of a successful response, its result is given by
+     *                  {@link GitHubHTTPResponse#getContent()}
+     * @return response of the request as {@link GitHubHTTPResponse}
+     * @throws IOException when request has been go wrong
      **/
-    public void printJSONErrorResponse() {
-        apiRequest.printJSONErrorResponse();
+    public GitHubHTTPResponse sendHTTPRequest(String endpoint, GitHubBodyReader<?> reader) throws IOException {
+        lastResponse.remove();
+        GitHubHTTPResponse response = execute(createRequest(endpoint, GET, null, null), reader);
+        lastResponse.set(response);
+        return response;
     }
 
     /**
-     * Method to get status response code of the request <br>
-     * No-any params required
+     * Method to send a request with the transport of this manager, following the redirects of the {@code "GET"}
+     * requests
      *
-     * @return response code of the request as int
+     * @param request: request to send
+     * @param reader:  reader of the body of a successful response, {@code "null"} to read it as {@link String}
+     * @return response of the request, or of the last redirect followed, as {@link GitHubHTTPResponse}
+     * @throws IOException when request has been go wrong
      **/
-    public int getStatusCode() {
-        return apiRequest.getResponseStatusCode();
+    private GitHubHTTPResponse execute(GitHubHTTPRequest request, GitHubBodyReader<?> reader) throws IOException {
+        return execute(request, reader, true);
     }
 
     /**
-     * Method to enable selected items for a list
+     * Method to send a request with the transport of this manager, tracing it with the {@link GitHubRequestTracer}
+     * when there are listeners of the requests or the recording of their events is enabled
      *
-     * @param endpoint: endpoint to do the request
-     * @param key:      key to add
-     * @param ids:      list of ids to enable
-     * @return result of the operation -> {@code "true"} is successful, {@code "false"} and error printed with {@link #printErrorResponse()} method if not successful
+     * @param request:         request to send
+     * @param reader:          reader of the body of a successful response, {@code "null"} to read it as {@link String}
+     * @param followRedirects: whether follow the redirects of the {@code "GET"} requests
+     * @return response of the request, or of the last redirect followed, as {@link GitHubHTTPResponse}
+     * @throws IOException when request has been go wrong
      **/
-    protected boolean setItems(String endpoint, String key, Long[] ids) {
-        Params params = new Params();
-        params.addParam(key, Arrays.stream(ids).toList());
+    private GitHubHTTPResponse execute(GitHubHTTPRequest request, GitHubBodyReader<?> reader,
+                                       boolean followRedirects) throws IOException {
+        GitHubRequestTrace trace = GitHubRequestTracer.start(request);
+        if (trace == null)
+            return send(request, reader, followRedirects);
         try {
-            sendPutRequest(endpoint, params);
-            if (apiRequest.getResponseStatusCode() != 204) {
-                printErrorResponse();
-                return false;
-            }
-            return true;
-        } catch (IOException e) {
-            printErrorResponse();
-            return false;
+            GitHubHTTPResponse response = send(request, trace.count(reader), followRedirects);
+            trace.end(response);
+            return response;
+        } catch (IOException | RuntimeException | Error e) {
+            trace.end(e);
+            throw e;
         }
     }
 
     /**
-     * {@code Visibility} list of available visibilities
+     * Method to send a request with the transport of this manager
+     *
+     * @param request:         request to send
+     * @param reader:          reader of the body of a successful response, {@code "null"} to read it as {@link String}
+     * @param followRedirects: whether follow the redirects of the {@code "GET"} requests
+     * @return response of the request, or of the last redirect followed, as {@link GitHubHTTPResponse}
+     * @throws IOException when request has been go wrong
+     * @implNote the {@code "authorization"} header is not sent to a host different from the one of the request, as the
+     * storages where the downloads are redirected, and a redirect from {@code "https"} to {@code "http"} is never
+     * followed
      **/
-    public enum Visibility {
+    private GitHubHTTPResponse send(GitHubHTTPRequest request, GitHubBodyReader<?> reader,
+                                    boolean followRedirects) throws IOException {
+        GitHubTransport transport = getTransport();
+        GitHubHTTPResponse response = transport.execute(request, reader);
+        if (!followRedirects || request.getMethod() != GET || !isRedirect(response))
+            return response;
+        // the redirects are grouped with the request which started them
+        String previousRequestPath = GitHubRequestPathResolver.bind(GitHubRequestPathResolver.resolve(request));
+        try {
+            for (int j = 0; j < MAX_REDIRECTS && isRedirect(response); j++) {
+                String location = response.getHeader("location");
+                if (location == null)
+                    break;
+                URI source = URI.create(request.getUrl());
+                URI target = source.resolve(location);
+                if ("https".equalsIgnoreCase(source.getScheme()) && !"https".equalsIgnoreCase(target.getScheme()))
+                    break;
+                request = request.withUrl(target.toString());
+                if (!Objects.equals(source.getHost(), target.getHost()) || source.getPort() != target.getPort())
+                    request = request.withoutHeader("authorization");
+                response = transport.execute(request, reader);
+            }
+        } finally {
+            GitHubRequestPathResolver.bind(previousRequestPath);
+        }
+        return response;
+    }
 
-        /**
-         * {@code "public"} visibility
-         **/
-        all("all"),
+    /**
+     * Method to send a {@code "GET"} request to {@code "GitHub"} which replies with a redirect, without following it
+     *
+     * @param endpoint: endpoint of the request {@code "GitHub"}
+     * @return url where the request is redirected, as given by the {@code "Location"} header, as {@link String}
+     * @throws IOException when request has been go wrong or it has not been redirected -> you can use these methods
+     *                     to get more details about error:
+     *                     <ul>
+     *                         <li>
+     *                             {@link #getErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #getJSONErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #printErrorResponse()}
+     *                         </li>
+     *                     </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
+     * @apiNote the urls of the downloads given by {@code "GitHub"} expire after few minutes
+     **/
+    protected String sendRedirectRequest(String endpoint) throws IOException {
+        lastResponse.remove();
+        GitHubHTTPResponse response = execute(createRequest(endpoint, GET, null, null), null, false);
+        lastResponse.set(response);
+        String location = response.getHeader("location");
+        if (!isRedirect(response) || location == null)
+            throw new IOException(response.getBody());
+        return URI.create(resolveUrl(endpoint)).resolve(location).toString();
+    }
 
-        /**
-         * {@code "private"} visibility
-         **/
-        vPrivate("private"),
+    /**
+     * Method to get whether a response is a redirect
+     *
+     * @param response: response to check
+     * @return whether a response is a redirect as boolean
+     **/
+    private boolean isRedirect(GitHubHTTPResponse response) {
+        int statusCode = response.getStatusCode();
+        return statusCode == 301 || statusCode == 302 || statusCode == 303 || statusCode == 307 || statusCode == 308;
+    }
 
-        /**
-         * {@code "selected"} visibility
-         **/
-        selected("selected");
+    /**
+     * Method to download a file from {@code "GitHub"}, the file is written while it is received
+     *
+     * @param endpoint: endpoint of the download {@code "GitHub"} or complete url of the file
+     * @param pathName: path name for the file
+     * @param save:     flag whether save the file, if is set to {@code "false"} the file will be deleted on exit
+     * @return file downloaded as {@link File}
+     * @throws IOException when request has been go wrong -> you can use these methods to get more details about error:
+     *                     <ul>
+     *                         <li>
+     *                             {@link #getErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #getJSONErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #printErrorResponse()}
+     *                         </li>
+     *                     </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
+     **/
+    protected File downloadFile(String endpoint, String pathName, boolean save) throws IOException {
+        File file = new File(pathName);
+        if (!save)
+            file.deleteOnExit();
+        download(endpoint, file.toPath());
+        return file;
+    }
 
-        /**
-         * {@code "visibility"} value
-         **/
-        private final String visibility;
+    /**
+     * Method to download a large file from {@code "GitHub"} in parts downloaded at the same time, the file is written
+     * while it is received
+     *
+     * @param endpoint: endpoint of the download {@code "GitHub"} or complete url of the file
+     * @param pathName: path name for the file
+     * @param save:     flag whether save the file, if is set to {@code "false"} the file will be deleted on exit
+     * @param size:     size of the file in bytes, {@code "-1"} to request it before the download
+     * @param digest:   digest of the file, as {@code "sha256:<hex>"}, {@code "null"} if it is not known
+     * @return file downloaded as {@link File}
+     * @throws IOException when request has been go wrong or the file downloaded is not the one expected -> you can use
+     *                     these methods to get more details about error:
+     *                     <ul>
+     *                         <li>
+     *                             {@link #getErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #getJSONErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #printErrorResponse()}
+     *                         </li>
+     *                     </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
+     * @implNote the file is downloaded in {@link #DEFAULT_DOWNLOAD_PARTS} parts, see
+     * {@link #downloadInParts(String, Path, long, String, int)}
+     **/
+    protected File downloadFile(String endpoint, String pathName, boolean save, long size,
+                                String digest) throws IOException {
+        File file = new File(pathName);
+        if (!save)
+            file.deleteOnExit();
+        downloadInParts(endpoint, file.toPath(), size, digest, DEFAULT_DOWNLOAD_PARTS);
+        return file;
+    }
 
-        /**
-         * Constructor to init a {@link Visibility}
-         *
-         * @param visibility : {@code "visibility"} value
-         **/
-        Visibility(String visibility) {
-            this.visibility = visibility;
+    /**
+     * Method to download a file from {@code "GitHub"} writing it in a path while it is received
+     *
+     * @param endpoint: endpoint of the download {@code "GitHub"} or complete url of the file
+     * @param path:     path where write the file, an existing file is overwritten
+     * @return number of the bytes downloaded as long
+     * @throws IOException when request has been go wrong or the file cannot be written
+     * @implNote the body is transferred to a {@link FileChannel} without being stored in memory and, when the
+     * connection breaks, the download is resumed from the last byte written with a {@code "Range"} request
+     **/
+    public long download(String endpoint, Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, CREATE, WRITE, TRUNCATE_EXISTING)) {
+            return download(endpoint, channel);
         }
+    }
 
-        /**
-         * Method to get {@link #visibility} instance <br>
-         * No-any params required
-         *
-         * @return {@link #visibility} instance as {@link String}
-         **/
-        @Override
-        public String toString() {
-            return visibility;
-        }
+    /**
+     * Method to download a file from {@code "GitHub"} writing it in a channel while it is received
+     *
+     * @param endpoint: endpoint of the download {@code "GitHub"} or complete url of the file
+     * @param channel:  channel where write the file, it is not closed by this method
+     * @return number of the bytes downloaded as long
+     * @throws IOException when request has been go wrong or the channel cannot be written
+     * @implNote the body is transferred to the channel without being stored in memory and, when the connection
+     * breaks, the download is resumed from the last byte written with a {@code "Range"} request, up to
+     * {@link #MAX_DOWNLOAD_ATTEMPTS} attempts. If the server does not support the ranges, the bytes already
+     * written are skipped from the new body
+     **/
+    public long download(String endpoint, WritableByteChannel channel) throws IOException {
+        return download(endpoint, new DownloadReader(channel));
+    }
 
+    /**
+     * Method to download a file from {@code "GitHub"} splitting it in parts which are downloaded at the same time, the
+     * size of the file is requested before the download
+     *
+     * @param endpoint: endpoint of the download {@code "GitHub"} or complete url of the file
+     * @param path:     path where write the file, an existing file is overwritten
+     * @param parts:    maximum number of the parts downloaded at the same time
+     * @return number of the bytes downloaded as long
+     * @throws IOException when request has been go wrong, the file cannot be written or its size is not the one
+     *                     expected
+     * @implNote see {@link #downloadInParts(String, Path, long, String, int)}
+     **/
+    public long downloadInParts(String endpoint, Path path, int parts) throws IOException {
+        return downloadInParts(endpoint, path, -1, null, parts);
     }
 
     /**
-     * {@code ReturnFormat} is the instance to pass in {@link Returner} methods to format as you want the response by
-     * {@code "Binance"}
+     * Method to download a file from {@code "GitHub"} splitting it in parts which are downloaded at the same time
      *
-     * @apiNote you can choose between:
-     * <ul>
-     * <li>
-     * {@link Returner.ReturnFormat#STRING} -> returns the response formatted as {@link String}
-     * </li>
-     * <li>
-     * {@link Returner.ReturnFormat#JSON} -> returns the response formatted as {@code "JSON"}
+     * @param endpoint: endpoint of the download {@code "GitHub"} or complete url of the file
+     * @param path:     path where write the file, an existing file is overwritten
+     * @param size:     size of the file in bytes, {@code "-1"} to request it before the download
+     * @param digest:   digest of the file, as {@code "sha256:<hex>"}, to verify the file downloaded, {@code "null"} if
+     *                  it is not known
+     * @param parts:    maximum number of the parts downloaded at the same time
+     * @return number of the bytes downloaded as long
+     * @throws IOException when request has been go wrong, the file cannot be written or its size or its digest are not
+     *                     the ones expected
+     * @implNote the file is created with its final size and each part is requested with its own {@code "Range"},
+     * on the {@link #getAsyncExecutor()} executor and on the current thread, and written at its own position while it
+     * is received, so this method cannot deadlock when it is invoked from a task of that executor, even if it is
+     * bounded. When the
+     * connection of a part breaks, only that part is resumed from its last byte written, while the first part which
+     * fails cancels the other ones and its response is given by {@link #getErrorResponse()}. When the server does not
+     * support the ranges, or each part would be smaller than {@link #MIN_DOWNLOAD_PART_SIZE} bytes, the file is
+     * downloaded as a single stream as {@link #download(String, Path)} does
+     **/
+    public long downloadInParts(String endpoint, Path path, long size, String digest, int parts) throws IOException {
+        if (parts < 1)
+            throw new IllegalArgumentException("The number of the parts must be positive: " + parts);
+        if (size < 0)
+            size = getDownloadSize(endpoint);
+        try (FileChannel channel = FileChannel.open(path, CREATE, READ, WRITE, TRUNCATE_EXISTING)) {
+            long written;
+            if (Math.min(parts, size / MIN_DOWNLOAD_PART_SIZE) <= 1)
+                written = download(endpoint, channel);
+            else
+                written = downloadParts(endpoint, channel, size, (int) Math.min(parts, size / MIN_DOWNLOAD_PART_SIZE));
+            if (size >= 0 && (written != size || channel.size() != size)) {
+                throw new IOException("The file downloaded from " + endpoint + " has " + channel.size()
+                        + " bytes instead of " + size);
+            }
+            if (digest != null)
+                verifyDigest(channel, digest);
+            return written;
+        }
+    }
+
+    /**
+     * Method to get the size of a file to download, requesting its first byte
+     *
+     * @param endpoint: endpoint of the download {@code "GitHub"} or complete url of the file
+     * @return size of the file in bytes as long, {@code "-1"} if the server does not support the ranges
+     * @throws IOException when request has been go wrong
+     **/
+    private long getDownloadSize(String endpoint) throws IOException {
+        lastResponse.remove();
+        GitHubHTTPResponse response = execute(createDownloadRequest(endpoint).withHeader("range", "bytes=0-0"),
+                new GitHubBodyReader<Long>() {
+
+                    @Override
+                    public Long read(InputStream body) {
+                        return -1L;
+                    }
+
+                    @Override
+                    public Long read(GitHubHTTPResponse response, InputStream body) {
+                        // the body of a server which ignores the range is not read
+                        if (response.getStatusCode() != 206)
+                            return -1L;
+                        return DownloadReader.getRangeSize(response.getHeader("content-range"));
+                    }
+
+                });
+        lastResponse.set(response);
+        // an empty file has no byte to request
+        if (response.getStatusCode() == 416)
+            return 0;
+        if (!response.isSuccessful())
+            throw new IOException(response.getBody());
+        Long size = response.getContent();
+        return size != null ? size : -1;
+    }
+
+    /**
+     * Method to download the parts of a file at the same time
+     *
+     * @param endpoint: endpoint of the download {@code "GitHub"} or complete url of the file
+     * @param channel:  channel where write the file
+     * @param size:     size of the file in bytes
+     * @param parts:    number of the parts to download
+     * @return number of the bytes downloaded as long
+     * @throws IOException when the download of a part has been go wrong or the file cannot be written
+     * @implNote the first part which goes wrong cancels the other ones: the parts in progress stop at their next
+     * chunk or attempt and the remaining parts are only claimed
+     **/
+    private long downloadParts(String endpoint, FileChannel channel, long size, int parts) throws IOException {
+        channel.write(ByteBuffer.allocate(1), size - 1);
+        long partSize = (size + parts - 1) / parts;
+        AtomicBoolean cancelled = new AtomicBoolean();
+        List<DownloadReader> readers = new ArrayList<>();
+        for (long from = 0; from < size; from += partSize)
+            readers.add(new DownloadReader(channel, from, Math.min(partSize, size - from), cancelled));
+        AtomicInteger nextPart = new AtomicInteger();
+        AtomicLong written = new AtomicLong();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        AtomicReference<GitHubHTTPResponse> failedResponse = new AtomicReference<>();
+        CountDownLatch downloaded = new CountDownLatch(readers.size());
+        String requestPath = GitHubRequestPathResolver.getCurrentRequestPath();
+        Runnable worker = () -> {
+            String previousRequestPath = GitHubRequestPathResolver.bind(requestPath);
+            try {
+                int index;
+                while ((index = nextPart.getAndIncrement()) < readers.size()) {
+                    try {
+                        if (!cancelled.get())
+                            written.addAndGet(download(endpoint, readers.get(index)));
+                    } catch (IOException | RuntimeException e) {
+                        if (failure.compareAndSet(null, e)) {
+                            // the response is read on the thread of the part, the current thread gives it back
+                            failedResponse.set(lastResponse.get());
+                            cancelled.set(true);
+                        }
+                    } finally {
+                        downloaded.countDown();
+                    }
+                }
+            } finally {
+                GitHubRequestPathResolver.bind(previousRequestPath);
+            }
+        };
+        for (int j = 1; j < readers.size(); j++) {
+            try {
+                asyncExecutor.execute(worker);
+            } catch (RejectedExecutionException e) {
+                break;
+            }
+        }
+        // the current thread downloads the parts too, so they are all downloaded even if the workers never start
+        worker.run();
+        try {
+            downloaded.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Download interrupted: " + endpoint);
+        }
+        Throwable error = failure.get();
+        if (error != null) {
+            if (failedResponse.get() != null)
+                lastResponse.set(failedResponse.get());
+            else
+                lastResponse.remove();
+        }
+        if (error instanceof IOException)
+            throw (IOException) error;
+        if (error != null)
+            throw (RuntimeException) error;
+        return written.get();
+    }
+
+    /**
+     * Method to download a file, or a part of it, resuming it when the connection breaks
+     *
+     * @param endpoint: endpoint of the download {@code "GitHub"} or complete url of the file
+     * @param reader:   reader which writes the body in the channel
+     * @return number of the bytes downloaded as long
+     * @throws IOException when request has been go wrong or the channel cannot be written
+     **/
+    private long download(String endpoint, DownloadReader reader) throws IOException {
+        GitHubHTTPRequest request = createDownloadRequest(endpoint);
+        for (int attempt = 1; ; attempt++) {
+            reader.checkCancelled(endpoint);
+            long written = reader.written;
+            GitHubHTTPRequest sRequest = request;
+            String range = reader.getRange();
+            if (range != null)
+                sRequest = request.withHeader("range", range);
+            GitHubHTTPResponse response;
+            lastResponse.remove();
+            try {
+                response = execute(sRequest, reader);
+                if (response.isSuccessful() && !reader.isCompleted()) {
+                    throw new IOException("The download of " + endpoint + " has been interrupted after "
+                            + reader.written + " bytes");
+                }
+            } catch (InterruptedIOException | ClosedChannelException e) {
+                // the file cannot be written anymore, so a new attempt cannot go better
+                throw e;
+            } catch (IOException e) {
+                if (attempt >= MAX_DOWNLOAD_ATTEMPTS || reader.isCancelled())
+                    throw e;
+                GitHubRequestTracer.retry(sRequest, attempt, UNKNOWN_STATUS_CODE, e);
+                try {
+                    Thread.sleep(Math.min(attempt * 1000L, 5000));
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Download interrupted: " + endpoint);
+                }
+                continue;
+            }
+            lastResponse.set(response);
+            // the whole file had already been written when the connection broke
+            if (response.getStatusCode() == 416 && written > 0)
+                return written;
+            if (!response.isSuccessful())
+                throw new IOException(response.getBody());
+            return reader.written;
+        }
+    }
+
+    /**
+     * Method to create the request of a download
+     *
+     * @param endpoint: endpoint of the download {@code "GitHub"} or complete url of the file
+     * @return request of the download as {@link GitHubHTTPRequest}
+     * @throws IOException when the authorization of the request cannot be created
+     **/
+    private GitHubHTTPRequest createDownloadRequest(String endpoint) throws IOException {
+        return createRequest(endpoint, GET, null, null)
+                .withHeader("accept", "application/octet-stream")
+                .withHeader("accept-encoding", "identity");
+    }
+
+    /**
+     * Method to verify the digest of a file downloaded
+     *
+     * @param channel: channel of the file downloaded
+     * @param digest:  digest expected, as {@code "sha256:<hex>"}, the algorithm is {@code "SHA-256"} when it is
+     *                 not specified
+     * @throws IOException when the file cannot be read or its digest is not the one expected
+     **/
+    private void verifyDigest(FileChannel channel, String digest) throws IOException {
+        String algorithm = "SHA-256";
+        String expected = digest;
+        int separator = digest.indexOf(':');
+        if (separator != -1) {
+            algorithm = digest.substring(0, separator).toUpperCase().replaceFirst("^SHA(\\d)", "SHA-$1");
+            expected = digest.substring(separator + 1);
+        }
+        MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException("The algorithm of the digest is not supported: " + algorithm, e);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(DOWNLOAD_CHUNK_SIZE / 16);
+        long position = 0;
+        int read;
+        while ((read = channel.read(buffer, position)) != -1) {
+            position += read;
+            buffer.flip();
+            messageDigest.update(buffer);
+            buffer.clear();
+        }
+        StringBuilder actual = new StringBuilder();
+        for (byte b : messageDigest.digest())
+            actual.append(String.format("%02x", b));
+        if (!actual.toString().equalsIgnoreCase(expected))
+            throw new IOException("The digest of the file downloaded is " + actual + " instead of " + expected);
+    }
+
+    /**
+     * The {@code DownloadReader} class is useful to write the body of a download, or of a part of it, in a channel,
+     * keeping the number of the bytes written to resume the download
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     **/
+    private static class DownloadReader implements GitHubBodyReader<Long> {
+
+        /**
+         * {@code channel} channel where write the file
+         **/
+        private final WritableByteChannel channel;
+
+        /**
+         * {@code part} whether this reader downloads a part of the file, written at its own position without moving
+         * the position of the channel, so the parts can be written at the same time
+         **/
+        private final boolean part;
+
+        /**
+         * {@code from} first byte of the file downloaded by this reader
+         **/
+        private final long from;
+
+        /**
+         * {@code length} number of the bytes downloaded by this reader, {@code "-1"} until the end of the file
+         **/
+        private final long length;
+
+        /**
+         * {@code start} position of the channel where write the first byte, when it is a {@link FileChannel}
+         **/
+        private final long start;
+
+        /**
+         * {@code cancelled} whether the download has been cancelled, shared by all the parts of a file, {@code "null"}
+         * if the download cannot be cancelled
+         **/
+        private final AtomicBoolean cancelled;
+
+        /**
+         * {@code written} number of the bytes written in the channel
+         **/
+        private volatile long written;
+
+        /**
+         * Constructor to init a {@link DownloadReader} to download the whole file
+         *
+         * @param channel: channel where write the file
+         * @throws IOException when the position of the channel cannot be read
+         **/
+        private DownloadReader(WritableByteChannel channel) throws IOException {
+            this.channel = channel;
+            part = false;
+            from = 0;
+            length = -1;
+            cancelled = null;
+            if (channel instanceof FileChannel)
+                start = ((FileChannel) channel).position();
+            else
+                start = 0;
+        }
+
+        /**
+         * Constructor to init a {@link DownloadReader} to download a part of the file
+         *
+         * @param channel: channel where write the file
+         * @param from:      first byte of the part
+         * @param length:    number of the bytes of the part
+         * @param cancelled: whether the download has been cancelled, shared by all the parts of the file
+         **/
+        private DownloadReader(FileChannel channel, long from, long length, AtomicBoolean cancelled) {
+            this.channel = channel;
+            part = true;
+            this.from = from;
+            this.length = length;
+            this.cancelled = cancelled;
+            start = from;
+        }
+
+        /**
+         * Method to get whether the download has been cancelled <br>
+         * No-any params required
+         *
+         * @return whether the download has been cancelled as boolean
+         **/
+        private boolean isCancelled() {
+            return cancelled != null && cancelled.get();
+        }
+
+        /**
+         * Method to stop the download when it has been cancelled
+         *
+         * @param endpoint: endpoint of the download
+         * @throws InterruptedIOException when the download has been cancelled
+         **/
+        private void checkCancelled(String endpoint) throws InterruptedIOException {
+            if (isCancelled())
+                throw new InterruptedIOException("Download cancelled: " + endpoint);
+        }
+
+        /**
+         * Method to get the {@code "Range"} to request <br>
+         * No-any params required
+         *
+         * @return {@code "Range"} as {@link String}, {@code "null"} if the whole file has to be requested
+         **/
+        private String getRange() {
+            if (part)
+                return "bytes=" + (from + written) + "-" + (from + length - 1);
+            if (written > 0)
+                return "bytes=" + written + "-";
+            return null;
+        }
+
+        /**
+         * Method to get whether all the bytes of this reader have been written <br>
+         * No-any params required
+         *
+         * @return whether all the bytes of this reader have been written as boolean, always {@code "true"} when the
+         * reader downloads until the end of the file
+         **/
+        private boolean isCompleted() {
+            return length == -1 || written >= length;
+        }
+
+        /**
+         * Method to write a body in the channel
+         *
+         * @param body: body to write
+         * @return number of the bytes written as {@link Long}
+         * @throws IOException when the body cannot be read or the channel cannot be written
+         **/
+        @Override
+        public Long read(InputStream body) throws IOException {
+            return read(null, body);
+        }
+
+        /**
+         * Method to write a body in the channel, skipping the bytes before the next one to write when the response is
+         * not a partial content which starts from it
+         *
+         * @param response: response without the body, to read its status code and its headers
+         * @param body:     body to write
+         * @return number of the bytes written as {@link Long}
+         * @throws IOException when the body cannot be read or the channel cannot be written
+         **/
+        @Override
+        public Long read(GitHubHTTPResponse response, InputStream body) throws IOException {
+            long next = from + written;
+            long skip = next;
+            if (response != null && response.getStatusCode() == 206) {
+                long rangeStart = getRangeStart(response.getHeader("content-range"));
+                if (rangeStart > next)
+                    throw new IOException("The range received starts after the bytes written: " + rangeStart);
+                skip = next - rangeStart;
+            }
+            body.skipNBytes(skip);
+            ReadableByteChannel source = Channels.newChannel(body);
+            long remaining = length == -1 ? Long.MAX_VALUE : length - written;
+            if (channel instanceof FileChannel) {
+                FileChannel file = (FileChannel) channel;
+                long transferred;
+                while (remaining > 0 && (transferred = file.transferFrom(source, start + written,
+                        Math.min(DOWNLOAD_CHUNK_SIZE, remaining))) > 0) {
+                    written += transferred;
+                    remaining -= transferred;
+                    if (isCancelled())
+                        throw new InterruptedIOException("Download cancelled after " + written + " bytes");
+                }
+                if (!part)
+                    file.position(start + written);
+            } else {
+                ByteBuffer buffer = ByteBuffer.allocate(DOWNLOAD_CHUNK_SIZE / 16);
+                while (source.read(buffer) != -1) {
+                    buffer.flip();
+                    while (buffer.hasRemaining())
+                        written += channel.write(buffer);
+                    buffer.clear();
+                }
+            }
+            return written;
+        }
+
+        /**
+         * Method to get the first byte of a {@code "Content-Range"} header
+         *
+         * @param contentRange: value of the header, as {@code "bytes 100-199/200"}
+         * @return first byte of the range as long, {@code "0"} if the header is not valid
+         **/
+        private static long getRangeStart(String contentRange) {
+            if (contentRange == null)
+                return 0;
+            try {
+                String range = contentRange.trim().replaceFirst("^bytes\\s+", "");
+                return Long.parseLong(range.substring(0, range.indexOf('-')).trim());
+            } catch (RuntimeException e) {
+                return 0;
+            }
+        }
+
+        /**
+         * Method to get the size of the whole file from a {@code "Content-Range"} header
+         *
+         * @param contentRange: value of the header, as {@code "bytes 100-199/200"}
+         * @return size of the whole file as long, {@code "-1"} if it is not known or the header is not valid
+         **/
+        private static long getRangeSize(String contentRange) {
+            if (contentRange == null)
+                return -1;
+            try {
+                return Long.parseLong(contentRange.substring(contentRange.lastIndexOf('/') + 1).trim());
+            } catch (RuntimeException e) {
+                return -1;
+            }
+        }
+
+    }
+
+    /**
+     * Method to send a request to {@code "GitHub"} with a body sent while it is read and get its own response
+     *
+     * @param endpoint:    endpoint of the request {@code "GitHub"} or complete url of the request
+     * @param method:      method of the request
+     * @param contentType: content type of the body
+     * @param body:        body of the request
+     * @return response of the request as {@link GitHubHTTPResponse}
+     * @throws IOException when request has been go wrong or the body cannot be read
+     **/
+    public GitHubHTTPResponse sendStreamedHTTPRequest(String endpoint, RequestMethod method, String contentType,
+                                                      GitHubRequestBody body) throws IOException {
+        lastResponse.remove();
+        GitHubHTTPResponse response = execute(createRequest(endpoint, method, contentType, null)
+                .withStreamedBody(body), null);
+        lastResponse.set(response);
+        return response;
+    }
+
+    /**
+     * Method to upload a body to {@code "GitHub"} while it is read, retrying the upload when it goes wrong for a
+     * transient error
+     *
+     * @param endpoint:    endpoint of the request {@code "GitHub"} or complete url of the request
+     * @param method:      method of the request
+     * @param contentType: content type of the body
+     * @param body:        body to upload
+     * @param listener:    listener of the progress of the upload, {@code "null"} to not follow it
+     * @param recovery:    action to perform before each retry, which checks whether the failed attempt has been
+     *                     accepted anyway, returning its result, otherwise deletes what it left and returns
+     *                     {@code "null"}; {@code "null"} if there is no way to check it
+     * @return response of the request as {@link GitHubHTTPResponse}
+     * @throws IOException when request has been go wrong or the body cannot be read
+     * @implNote the upload is retried up to {@link #MAX_UPLOAD_ATTEMPTS} attempts when the connection breaks or
+     * {@code "GitHub"} replies with a server error, only if the body can be opened again or no byte of it has been
+     * read yet. When the whole body has been sent the failed attempt could have been accepted, so the upload is
+     * retried only if the recovery confirms that it has not been, and it is never retried without a recovery
+     **/
+    protected GitHubHTTPResponse sendUploadRequest(String endpoint, RequestMethod method, String contentType,
+                                                   GitHubRequestBody body, GitHubProgressListener listener,
+                                                   Callable<GitHubHTTPResponse> recovery) throws IOException {
+        for (int attempt = 1; ; attempt++) {
+            ProgressBody progressBody = new ProgressBody(body, listener);
+            GitHubHTTPResponse response;
+            try {
+                response = sendStreamedHTTPRequest(endpoint, method, contentType, progressBody);
+                if (response.getStatusCode() < 500 || !canRetryUpload(attempt, body, progressBody, recovery))
+                    return response;
+                traceRetry(endpoint, method, attempt, response.getStatusCode(), null);
+            } catch (InterruptedIOException e) {
+                throw e;
+            } catch (IOException e) {
+                if (!canRetryUpload(attempt, body, progressBody, recovery))
+                    throw e;
+                traceRetry(endpoint, method, attempt, UNKNOWN_STATUS_CODE, e);
+            }
+            try {
+                Thread.sleep(Math.min(attempt * 1000L, 5000));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Upload interrupted: " + endpoint);
+            }
+            if (recovery != null) {
+                GitHubHTTPResponse accepted;
+                try {
+                    accepted = recovery.call();
+                } catch (IOException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new IOException(e);
+                }
+                if (accepted != null) {
+                    lastResponse.set(accepted);
+                    return accepted;
+                }
+            }
+        }
+    }
+
+    /**
+     * Method to report the retry of a request to the {@link GitHubRequestTracer}
+     *
+     * @param endpoint:   endpoint of the request {@code "GitHub"} or complete url of the request
+     * @param method:     method of the request
+     * @param attempt:    number of the attempt which is going to be sent, {@code "1"} for the first retry
+     * @param statusCode: status code of the response which caused the retry, {@code "-1"} if the request has been go
+     *                    wrong without a response
+     * @param error:      error which caused the retry, {@code "null"} if the retry is caused by a response
+     **/
+    private void traceRetry(String endpoint, RequestMethod method, int attempt, int statusCode, IOException error) {
+        if (GitHubRequestTracer.isEnabled()) {
+            GitHubRequestTracer.retry(new GitHubHTTPRequest(method, resolveUrl(endpoint), null, null, requestTimeout),
+                    attempt, statusCode, error);
+        }
+    }
+
+    /**
+     * Method to get whether an upload which has been go wrong can be retried
+     *
+     * @param attempt:      number of the attempt which has been go wrong
+     * @param body:         body uploaded
+     * @param progressBody: body of the attempt which has been go wrong
+     * @param recovery:     action which checks whether the failed attempt has been accepted anyway, {@code "null"} if
+     *                      there is no way to check it
+     * @return whether the upload can be retried as boolean
+     **/
+    private boolean canRetryUpload(int attempt, GitHubRequestBody body, ProgressBody progressBody,
+                                   Callable<GitHubHTTPResponse> recovery) {
+        if (attempt >= MAX_UPLOAD_ATTEMPTS || (!body.isRepeatable() && progressBody.transferred > 0))
+            return false;
+        return recovery != null || !progressBody.isSent();
+    }
+
+    /**
+     * The {@code ProgressBody} class is useful to count the bytes of a body read to be sent, notifying the progress
+     * to a {@link GitHubProgressListener}
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     **/
+    private static class ProgressBody implements GitHubRequestBody {
+
+        /**
+         * {@code body} body to send
+         **/
+        private final GitHubRequestBody body;
+
+        /**
+         * {@code listener} listener of the progress, {@code "null"} to not notify it
+         **/
+        private final GitHubProgressListener listener;
+
+        /**
+         * {@code transferred} number of the bytes read to be sent
+         **/
+        private volatile long transferred;
+
+        /**
+         * {@code ended} whether the end of the body has been read
+         **/
+        private volatile boolean ended;
+
+        /**
+         * Constructor to init a {@link ProgressBody}
+         *
+         * @param body:     body to send
+         * @param listener: listener of the progress, {@code "null"} to not notify it
+         **/
+        private ProgressBody(GitHubRequestBody body, GitHubProgressListener listener) {
+            this.body = body;
+            this.listener = listener;
+        }
+
+        /**
+         * Method to open the body to send, counting the bytes read from it <br>
+         * No-any params required
+         *
+         * @return body to send as {@link InputStream}
+         * @throws IOException when the body cannot be opened
+         **/
+        @Override
+        public InputStream open() throws IOException {
+            transferred = 0;
+            ended = false;
+            return new FilterInputStream(body.open()) {
+
+                @Override
+                public int read() throws IOException {
+                    int read = super.read();
+                    if (read != -1)
+                        notifyProgress(1);
+                    else
+                        ended = true;
+                    return read;
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    int read = super.read(b, off, len);
+                    if (read > 0)
+                        notifyProgress(read);
+                    else if (read == -1)
+                        ended = true;
+                    return read;
+                }
+
+            };
+        }
+
+        /**
+         * Method to get whether the whole body has been read to be sent, so the server could have received it <br>
+         * No-any params required
+         *
+         * @return whether the whole body has been read to be sent as boolean
+         **/
+        private boolean isSent() {
+            long length = body.getLength();
+            return ended || (length >= 0 && transferred >= length);
+        }
+
+        /**
+         * Method to count the bytes read and notify the progress
+         *
+         * @param read: number of the bytes read
+         **/
+        private void notifyProgress(int read) {
+            transferred += read;
+            if (listener != null)
+                listener.onProgress(transferred, body.getLength());
+        }
+
+        /**
+         * Method to get the number of the bytes of the body <br>
+         * No-any params required
+         *
+         * @return number of the bytes of the body as long, {@code "-1"} if it is not known
+         **/
+        @Override
+        public long getLength() {
+            return body.getLength();
+        }
+
+        /**
+         * Method to get whether the body can be opened again from its first byte <br>
+         * No-any params required
+         *
+         * @return whether the body can be opened again from its first byte as boolean
+         **/
+        @Override
+        public boolean isRepeatable() {
+            return body.isRepeatable();
+        }
+
+    }
+
+    /**
+     * Method to create a request to {@code "GitHub"}
+     *
+     * @param endpoint:    endpoint of the request {@code "GitHub"} or complete url of the request
+     * @param method:      method of the request
+     * @param contentType: content type of the body, {@code "null"} if the request has not a body
+     * @param body:        body of the request, {@code "null"} if the request has not a body
+     * @return request as {@link GitHubHTTPRequest}
+     * @throws IOException when the authorization of the credentials cannot be created
+     **/
+    private GitHubHTTPRequest createRequest(String endpoint, RequestMethod method, String contentType,
+                                            byte[] body) throws IOException {
+        HashMap<String, String> headers = new HashMap<>();
+        headers.put("authorization", credentials.getAuthorization());
+        headers.put("accept", "application/vnd.github+json");
+        if (contentType != null)
+            headers.put("content-type", contentType);
+        return new GitHubHTTPRequest(method, resolveUrl(endpoint), headers, body, requestTimeout);
+    }
+
+    /**
+     * Method to get the complete url of an endpoint
+     *
+     * @param endpoint: endpoint of the request or complete url, as the links of the {@code "Link"} header
+     * @return complete url of the endpoint as {@link String}
+     **/
+    private String resolveUrl(String endpoint) {
+        if (endpoint.startsWith("https://") || endpoint.startsWith("http://"))
+            return endpoint;
+        return getBaseEndpoint() + endpoint;
+    }
+
+    /**
+     * Method to create a paginator over all the pages of a list endpoint, so every list endpoint can be iterated even
+     * if its manager has not a {@code "getAll..."} method
+     *
+     * @param endpoint:    endpoint of the list, as {@code "orgs/{org}/members"}, or its complete url
+     * @param queryParams: query params of the list, can be {@code "null"}
+     * @param pageParser:  function to create the items from the body of a page
+     * @return paginator over all the pages as {@link GitHubPaginator} of {@link T}
+     * @apiNote the body of a page is a {@code "JSON"} array for most of the list endpoints, otherwise an object which
+     * wraps the array, as {@code "workflow_runs"}, which the {@code pageParser} has to unwrap
+     **/
+    public <T> GitHubPaginator<T> paginate(String endpoint, Params queryParams, Function<String, List<T>> pageParser) {
+        return new GitHubPaginator<>(this, createFirstPageEndpoint(endpoint, queryParams), pageParser);
+    }
+
+    /**
+     * Method to create a lazy stream over all the items of all the pages of a list endpoint, used by the
+     * {@link ReturnFormat#STREAM} format <br>
+     * The pages are fetched only when their items are needed and each item is created only when it is consumed, so
+     * the short-circuiting operations, as {@link Stream#findFirst()} or {@link Stream#limit(long)}, stop the requests
+     * and only a page at a time is held in memory: the next page is not prefetched, it is requested only when the
+     * items of the current page have been consumed
+     *
+     * @param endpoint:    endpoint of the list, with its query params if any
+     * @param itemCreator: function to create an item from its {@code "JSON"} details
+     * @return stream over all the items as {@link Stream} of {@link T}
+     * @implNote the stream throws an {@link java.io.UncheckedIOException} if the request of a page has been go wrong
+     **/
+    protected <T> Stream<T> streamList(String endpoint, Function<JSONObject, T> itemCreator) {
+        if (!endpoint.contains("per_page=")) {
+            if (!endpoint.contains("?"))
+                endpoint += "?";
+            else if (!endpoint.endsWith("?") && !endpoint.endsWith("&"))
+                endpoint += "&";
+            endpoint += "per_page=" + GitHubPaginator.DEFAULT_PER_PAGE;
+        }
+        return new GitHubPaginator<>(this, endpoint, readList(Function.identity()), false).stream().map(itemCreator);
+    }
+
+    /**
+     * Method to check that a request supports the format requested, before it is sent
+     *
+     * @param format: return type formatter -> {@link ReturnFormat}
+     * @throws IllegalArgumentException when the format is {@link ReturnFormat#STREAM}, supported only by the lists of
+     *                                  the events and of the issues
+     **/
+    protected static void requireNonStream(ReturnFormat format) {
+        if (format == ReturnFormat.STREAM)
+            throw new IllegalArgumentException("The STREAM format is not supported by this request");
+    }
+
+    /**
+     * Method to get the transport used by this manager <br>
+     * No-any params required
+     *
+     * @return transport used by this manager as {@link GitHubTransport}
+     **/
+    public GitHubTransport getTransport() {
+        GitHubTransport transport = this.transport;
+        if (transport == null)
+            return defaultTransport;
+        return transport;
+    }
+
+    /**
+     * Method to set a custom transport for this manager
+     *
+     * @param transport: transport to use, {@code "null"} to use the transport shared by all the managers
+     **/
+    public void setTransport(GitHubTransport transport) {
+        this.transport = transport;
+    }
+
+    /**
+     * Method to get the transport shared by all the managers which have not a custom transport <br>
+     * No-any params required
+     *
+     * @return transport shared by the managers as {@link GitHubTransport}
+     **/
+    public static GitHubTransport getDefaultTransport() {
+        return defaultTransport;
+    }
+
+    /**
+     * Method to set the transport shared by all the managers which have not a custom transport
+     *
+     * @param transport: transport to share, for example a {@link GitHubHTTPClientTransport} with custom timeouts
+     **/
+    public static void setDefaultTransport(GitHubTransport transport) {
+        if (transport == null)
+            throw new IllegalArgumentException("The transport cannot be null");
+        defaultTransport = transport;
+    }
+
+    /**
+     * Method to get the base endpoint of the API used by this manager <br>
+     * No-any params required
+     *
+     * @return base endpoint used by this manager as {@link String}, as {@link #BASE_ENDPOINT}
+     **/
+    public String getBaseEndpoint() {
+        String baseEndpoint = this.baseEndpoint;
+        if (baseEndpoint == null)
+            return defaultBaseEndpoint;
+        return baseEndpoint;
+    }
+
+    /**
+     * Method to set a custom base endpoint of the API for this manager, as the one of a {@code "GitHub Enterprise
+     * Server"}, of a caching proxy or of a local stand-in
+     *
+     * @param baseEndpoint: base endpoint to use, as {@code "https://github.example.com/api/v3/"}, {@code "null"} to
+     *                      use the base endpoint shared by all the managers
+     * @throws IllegalArgumentException when the base endpoint is not a valid {@code "HTTP"} url
+     **/
+    public void setBaseEndpoint(String baseEndpoint) {
+        this.baseEndpoint = baseEndpoint != null ? registerEndpointHost(normalizeEndpoint(baseEndpoint)) : null;
+    }
+
+    /**
+     * Method to get the endpoint where upload the files used by this manager, as the release assets <br>
+     * No-any params required
+     *
+     * @return uploads endpoint used by this manager as {@link String}, as {@link #UPLOADS_ENDPOINT}
+     **/
+    public String getUploadsEndpoint() {
+        String uploadsEndpoint = this.uploadsEndpoint;
+        if (uploadsEndpoint == null)
+            return defaultUploadsEndpoint;
+        return uploadsEndpoint;
+    }
+
+    /**
+     * Method to set a custom endpoint where upload the files for this manager
+     *
+     * @param uploadsEndpoint: uploads endpoint to use, as {@code "https://github.example.com/api/uploads/"},
+     *                         {@code "null"} to use the uploads endpoint shared by all the managers
+     * @throws IllegalArgumentException when the uploads endpoint is not a valid {@code "HTTP"} url
+     **/
+    public void setUploadsEndpoint(String uploadsEndpoint) {
+        this.uploadsEndpoint = uploadsEndpoint != null ? registerEndpointHost(normalizeEndpoint(uploadsEndpoint)) : null;
+    }
+
+    /**
+     * Method to get the base endpoint of the API shared by all the managers which have not a custom base endpoint <br>
+     * No-any params required
+     *
+     * @return base endpoint shared by the managers as {@link String}
+     **/
+    public static String getDefaultBaseEndpoint() {
+        return defaultBaseEndpoint;
+    }
+
+    /**
+     * Method to set the base endpoint of the API shared by all the managers which have not a custom base endpoint
+     *
+     * @param baseEndpoint: base endpoint to share, as {@code "https://github.example.com/api/v3/"}
+     * @throws IllegalArgumentException when the base endpoint is not a valid {@code "HTTP"} url
+     **/
+    public static void setDefaultBaseEndpoint(String baseEndpoint) {
+        if (baseEndpoint == null)
+            throw new IllegalArgumentException("The base endpoint cannot be null");
+        defaultBaseEndpoint = registerEndpointHost(normalizeEndpoint(baseEndpoint));
+    }
+
+    /**
+     * Method to get the endpoint where upload the files shared by all the managers which have not a custom uploads
+     * endpoint <br>
+     * No-any params required
+     *
+     * @return uploads endpoint shared by the managers as {@link String}
+     **/
+    public static String getDefaultUploadsEndpoint() {
+        return defaultUploadsEndpoint;
+    }
+
+    /**
+     * Method to set the endpoint where upload the files shared by all the managers which have not a custom uploads
+     * endpoint
+     *
+     * @param uploadsEndpoint: uploads endpoint to share, as {@code "https://github.example.com/api/uploads/"}
+     * @throws IllegalArgumentException when the uploads endpoint is not a valid {@code "HTTP"} url
+     **/
+    public static void setDefaultUploadsEndpoint(String uploadsEndpoint) {
+        if (uploadsEndpoint == null)
+            throw new IllegalArgumentException("The uploads endpoint cannot be null");
+        defaultUploadsEndpoint = registerEndpointHost(normalizeEndpoint(uploadsEndpoint));
+    }
+
+    /**
+     * Method to get the hosts of all the base and uploads endpoints configured on the managers <br>
+     * No-any params required
+     *
+     * @return hosts of the endpoints, as {@code "https://api.github.com"}, as {@link Set} of {@link String}
+     * @apiNote the hosts of the redirects, as the storages of the downloads, are not included
+     **/
+    public static Set<String> getEndpointsHosts() {
+        return Collections.unmodifiableSet(endpointsHosts);
+    }
+
+    /**
+     * Method to register the host of an endpoint configured on the managers
+     *
+     * @param endpoint: endpoint configured
+     * @return the endpoint as {@link String}
+     **/
+    private static String registerEndpointHost(String endpoint) {
+        endpointsHosts.add(GitHubHTTPClientTransport.getHostKey(URI.create(endpoint)));
+        return endpoint;
+    }
+
+    /**
+     * Method to check an endpoint and end it with a slash, so the paths can be appended to it
+     *
+     * @param endpoint: endpoint to check
+     * @return endpoint ended with a slash as {@link String}
+     * @throws IllegalArgumentException when the endpoint is not a valid {@code "HTTP"} url
+     **/
+    private static String normalizeEndpoint(String endpoint) {
+        URI uri;
+        try {
+            uri = new URI(endpoint);
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("The endpoint " + endpoint + " is not a valid url", e);
+        }
+        String scheme = uri.getScheme();
+        if (scheme == null || !(scheme.equalsIgnoreCase("https") || scheme.equalsIgnoreCase("http"))
+                || uri.getHost() == null || uri.getRawQuery() != null || uri.getRawFragment() != null)
+            throw new IllegalArgumentException("The endpoint " + endpoint + " must be an http or https url without query");
+        return endpoint.endsWith("/") ? endpoint : endpoint + "/";
+    }
+
+    /**
+     * Method to add a listener notified about the lifecycle of the requests sent by all the managers: their start,
+     * the first byte of their responses, their end, their retries and the responses served from a cache
+     *
+     * @param listener: listener to add
+     * @apiNote the events have the template of the {@link com.tecknobit.apimanager.annotations.RequestPath} of the
+     * requests, as {@code "/repos/{owner}/{repo}/actions/runs"}; the same requests are recorded as
+     * {@code "Java Flight Recorder"} events when the recording of the {@code "com.tecknobit.githubmanager.*"} events is
+     * enabled
+     **/
+    public static void addRequestListener(GitHubRequestListener listener) {
+        GitHubRequestTracer.addListener(listener);
+    }
+
+    /**
+     * Method to remove a listener of the requests
+     *
+     * @param listener: listener to remove
+     **/
+    public static void removeRequestListener(GitHubRequestListener listener) {
+        GitHubRequestTracer.removeListener(listener);
+    }
+
+    /**
+     * Method to send asynchronously a request of a manager
+     *
+     * @param request: request to send, for example {@code () -> manager.getRepository(owner, repo, JSON)}
+     * @return response of the request as {@link CompletableFuture} of {@link T}, completed exceptionally with a
+     * {@link GitHubRequestException} if the request has been go wrong
+     * @apiNote the request is sent on the {@link #getAsyncExecutor()} executor and its response is formatted as the
+     * {@link ReturnFormat} chosen for the request; the {@link GitHubRequestException} carries the last response
+     * received by this manager in the thread which sent the request, so its status code and its error can be read
+     * from any thread, while the exception thrown by the request is its cause
+     **/
+    public <T> CompletableFuture<T> async(Callable<T> request) {
+        return async(request, asyncExecutor);
+    }
+
+    /**
+     * Method to send asynchronously a request of a manager
+     *
+     * @param request:  request to send, for example {@code () -> manager.getRepository(owner, repo, JSON)}
+     * @param executor: executor on which send the request
+     * @return response of the request as {@link CompletableFuture} of {@link T}, completed exceptionally with a
+     * {@link GitHubRequestException} if the request has been go wrong
+     **/
+    public <T> CompletableFuture<T> async(Callable<T> request, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            lastResponse.remove();
+            try {
+                return request.call();
+            } catch (Exception e) {
+                throw new CompletionException(new GitHubRequestException(lastResponse.get(), e));
+            } finally {
+                lastResponse.remove();
+            }
+        }, executor);
+    }
+
+    /**
+     * Method to get the executor used to run the asynchronous requests <br>
+     * No-any params required
+     *
+     * @return executor used to run the asynchronous requests as {@link Executor}
+     **/
+    public static Executor getAsyncExecutor() {
+        return asyncExecutor;
+    }
+
+    /**
+     * Method to set the executor used to run the asynchronous requests
+     *
+     * @param executor: executor to use
+     **/
+    public static void setAsyncExecutor(Executor executor) {
+        if (executor == null)
+            throw new IllegalArgumentException("The executor cannot be null");
+        asyncExecutor = executor;
+    }
+
+    /**
+     * Method to create the default executor for the asynchronous requests <br>
+     * No-any params required
+     *
+     * @return a virtual thread per task executor if the running {@code "JVM"} supports them, a cached pool of daemon
+     * threads otherwise, as {@link Executor}
+     **/
+    private static Executor createAsyncExecutor() {
+        try {
+            return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger threads = new AtomicInteger();
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "github-manager-async-" + threads.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Method to get the last response received by the current thread <br>
+     * No-any params required
+     *
+     * @return last response received by the current thread as {@link GitHubHTTPResponse}, {@code "null"} if the
+     * current thread has not sent any request yet
+     **/
+    public GitHubHTTPResponse getLastResponse() {
+        return lastResponse.get();
+    }
+
+    /**
+     * Method to get the response of the last request sent by the current thread formatted as {@code "JSON"} <br>
+     * No-any params required
+     *
+     * @return response of the request formatted as {@link JSONObject} or {@link JSONArray} object, {@code "null"} if
+     * is not a {@code "JSON"} response
+     **/
+    protected <T> T getJSONResponse() {
+        GitHubHTTPResponse response = lastResponse.get();
+        if (response == null)
+            return null;
+        return response.getJSONBody();
+    }
+
+    /**
+     * Method to get error response of the request <br>
+     * No-any params required
+     *
+     * @return error response of request as {@link String} or defaultErrorResponse as {@link String} if is not a request
+     * error
+     **/
+    public String getErrorResponse() {
+        GitHubHTTPResponse response = lastResponse.get();
+        if (response == null || response.isSuccessful() || response.getBody() == null) {
+            if (defaultErrorMessage != null)
+                return defaultErrorMessage;
+            return DEFAULT_ERROR_MESSAGE;
+        }
+        return response.getBody();
+    }
+
+    /**
+     * Method to get error response of the request <br>
+     * No-any params required
+     *
+     * @return error response of the request formatted as {@link JSONObject} or {@link JSONArray} object or defaultErrorResponse
+     * as {@link String} if is not a request error
+     **/
+    public <T> T getJSONErrorResponse() {
+        String errorResponse = getErrorResponse();
+        try {
+            return (T) new JSONObject(errorResponse);
+        } catch (JSONException e) {
+            try {
+                return (T) new JSONArray(errorResponse);
+            } catch (JSONException ignored) {
+                return (T) errorResponse;
+            }
+        }
+    }
+
+    /**
+     * Method to print error response of the request <br>
+     * No-any params required
+     **/
+    public void printErrorResponse() {
+        System.out.println(getErrorResponse());
+    }
+
+    /**
+     * Method to print error response of request <br>
+     * No-any params required
+     *
+     * @implNote response will be printed in JSON format or in a simple {@link String} format
+     **/
+    public void printJSONErrorResponse() {
+        Object errorResponse = getJSONErrorResponse();
+        if (errorResponse instanceof JSONObject)
+            System.out.println(((JSONObject) errorResponse).toString(4));
+        else if (errorResponse instanceof JSONArray)
+            System.out.println(((JSONArray) errorResponse).toString(4));
+        else
+            System.out.println(errorResponse);
+    }
+
+    /**
+     * Method to get status response code of the request <br>
+     * No-any params required
+     *
+     * @return response code of the request as int, {@code "-1"} if the current thread has not sent any request yet
+     **/
+    public int getStatusCode() {
+        GitHubHTTPResponse response = lastResponse.get();
+        if (response == null)
+            return -1;
+        return response.getStatusCode();
+    }
+
+    /**
+     * Method to enable selected items for a list
+     *
+     * @param endpoint: endpoint to do the request
+     * @param key:      key to add
+     * @param ids:      list of ids to enable
+     * @return result of the operation -> {@code "true"} is successful, {@code "false"} and error printed with {@link #printErrorResponse()} method if not successful
+     **/
+    protected boolean setItems(String endpoint, String key, Long[] ids) {
+        Params params = new Params();
+        params.addParam(key, Arrays.stream(ids).toList());
+        try {
+            sendPutRequest(endpoint, params);
+            if (getStatusCode() != 204) {
+                printErrorResponse();
+                return false;
+            }
+            return true;
+        } catch (IOException e) {
+            printErrorResponse();
+            return false;
+        }
+    }
+
+    /**
+     * {@code Visibility} list of available visibilities
+     **/
+    public enum Visibility {
+
+        /**
+         * {@code "public"} visibility
+         **/
+        all("all"),
+
+        /**
+         * {@code "private"} visibility
+         **/
+        vPrivate("private"),
+
+        /**
+         * {@code "selected"} visibility
+         **/
+        selected("selected");
+
+        /**
+         * {@code "visibility"} value
+         **/
+        private final String visibility;
+
+        /**
+         * Constructor to init a {@link Visibility}
+         *
+         * @param visibility : {@code "visibility"} value
+         **/
+        Visibility(String visibility) {
+            this.visibility = visibility;
+        }
+
+        /**
+         * Method to get {@link #visibility} instance <br>
+         * No-any params required
+         *
+         * @return {@link #visibility} instance as {@link String}
+         **/
+        @Override
+        public String toString() {
+            return visibility;
+        }
+
+    }
+
+    /**
+     * {@code ReturnFormat} is the instance to pass in {@link Returner} methods to format as you want the response by
+     * {@code "Binance"}
+     *
+     * @apiNote you can choose between:
+     * <ul>
+     * <li>
+     * {@link Returner.ReturnFormat#STRING} -> returns the response formatted as {@link String}
+     * </li>
+     * <li>
+     * {@link Returner.ReturnFormat#JSON} -> returns the response formatted as {@code "JSON"}
      * </li>
      * <li>
      * {@link Returner.ReturnFormat#LIBRARY_OBJECT} -> returns the response formatted as custom object offered by library that uses this list
      * </li>
+     * <li>
+     * {@link #STREAM} -> returns the items of a list as a lazy {@link Stream} of custom objects, which fetches the
+     * next pages when needed
+     * </li>
      * </ul>
+     * The {@link #STREAM} format is supported by the lists of the events and of the issues, the other endpoints throw
+     * an {@link IllegalArgumentException} with it before sending the request
      **/
     public enum ReturnFormat {
         STRING,
         JSON,
-        LIBRARY_OBJECT
+        LIBRARY_OBJECT,
+        STREAM
     }
 
     /**
@@ -4,7 +4,6 @@ import com.tecknobit.apimanager.annotations.RequestPath;
 import com.tecknobit.apimanager.annotations.Returner;
 import com.tecknobit.apimanager.annotations.WrappedRequest;
 import com.tecknobit.apimanager.annotations.Wrapper;
-import com.tecknobit.apimanager.formatters.JsonHelper;
 import com.tecknobit.githubmanager.GitHubManager;
 import com.tecknobit.githubmanager.actions.artifacts.records.Artifact;
 import com.tecknobit.githubmanager.actions.artifacts.records.Artifact.ArtifactWorkflowRun;
@@ -17,7 +16,6 @@ import java.io.IOException;
 
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.DELETE;
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.GET;
-import static com.tecknobit.apimanager.apis.APIRequest.downloadFile;
 import static com.tecknobit.githubmanager.GitHubManager.ReturnFormat.LIBRARY_OBJECT;
 
 /**
@@ -163,6 +161,7 @@ public class GitHubArtifactsManager extends GitHubManager {
     @WrappedRequest
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/artifacts")
     public <T> T getArtifactsList(Repository repository, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnArtifactsList(sendGetRequest(repository.getOwner().getLogin(), repository.getName(), ARTIFACTS_PATH),
                 format);
     }
@@ -224,6 +223,7 @@ public class GitHubArtifactsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/artifacts")
     public <T> T getArtifactsList(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnArtifactsList(sendGetRequest(owner, repo, ARTIFACTS_PATH), format);
     }
 
@@ -392,6 +392,7 @@ public class GitHubArtifactsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/artifacts")
     public <T> T getArtifactsList(String owner, String repo, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnArtifactsList(sendGetRequest(owner, repo, ARTIFACTS_PATH + queryParams.createQueryString()),
                 format);
     }
@@ -518,6 +519,7 @@ public class GitHubArtifactsManager extends GitHubManager {
     @Returner
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/artifacts/{artifact_id}")
     public <T> T getArtifact(String owner, String repo, long artifactId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String artifactResponse = sendGetRequest(owner, repo, ARTIFACTS_PATH + artifactId);
         switch (format) {
             case JSON:
@@ -600,7 +602,7 @@ public class GitHubArtifactsManager extends GitHubManager {
     public boolean deleteArtifact(String owner, String repo, long artifactId) {
         try {
             sendDeleteRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_PATH + ARTIFACTS_PATH + artifactId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -647,8 +649,7 @@ public class GitHubArtifactsManager extends GitHubManager {
     @WrappedRequest
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/artifacts/{artifact_id}/{archive_format}")
     public File downloadArtifact(Repository repository, Artifact artifact, String pathName, boolean save) throws IOException {
-        return downloadFile(downloadArtifact(repository.getOwner().getLogin(), repository.getName(), artifact.getId()),
-                pathName, save);
+        return downloadArtifact(repository.getOwner().getLogin(), repository.getName(), artifact.getId(), pathName, save);
     }
 
     /**
@@ -687,8 +688,7 @@ public class GitHubArtifactsManager extends GitHubManager {
     @WrappedRequest
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/artifacts/{artifact_id}/{archive_format}")
     public File downloadArtifact(Repository repository, long artifactId, String pathName, boolean save) throws IOException {
-        return downloadFile(downloadArtifact(repository.getOwner().getLogin(), repository.getName(), artifactId), pathName,
-                save);
+        return downloadArtifact(repository.getOwner().getLogin(), repository.getName(), artifactId, pathName, save);
     }
 
     /**
@@ -729,7 +729,7 @@ public class GitHubArtifactsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/artifacts/{artifact_id}/{archive_format}")
     public File downloadArtifact(String owner, String repo, Artifact artifact, String pathName,
                                  boolean save) throws IOException {
-        return downloadFile(downloadArtifact(owner, repo, artifact.getId()), pathName, save);
+        return downloadArtifact(owner, repo, artifact.getId(), pathName, save);
     }
 
     /**
@@ -769,7 +769,8 @@ public class GitHubArtifactsManager extends GitHubManager {
     @WrappedRequest
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/artifacts/{artifact_id}/{archive_format}")
     public File downloadArtifact(String owner, String repo, long artifactId, String pathName, boolean save) throws IOException {
-        return downloadFile(downloadArtifact(owner, repo, artifactId), pathName, save);
+        return downloadFile(REPOS_PATH + owner + "/" + repo + ACTIONS_PATH + ARTIFACTS_PATH + artifactId + "/zip",
+                pathName, save);
     }
 
     /**
@@ -842,8 +843,7 @@ public class GitHubArtifactsManager extends GitHubManager {
     @WrappedRequest
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/artifacts/{artifact_id}/{archive_format}")
     public String downloadArtifact(String owner, String repo, Artifact artifact) throws IOException {
-        sendGetRequest(owner, repo, ARTIFACTS_PATH + artifact.getId() + "/zip");
-        return new JsonHelper((JSONObject) apiRequest.getJSONResponse()).getString("Location");
+        return downloadArtifact(owner, repo, artifact.getId());
     }
 
     /**
@@ -915,8 +915,7 @@ public class GitHubArtifactsManager extends GitHubManager {
     @WrappedRequest
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/artifacts/{artifact_id}/{archive_format}")
     public String downloadArtifact(String owner, String repo, long artifactId) throws IOException {
-        sendGetRequest(owner, repo, ARTIFACTS_PATH + artifactId + "/zip");
-        return new JsonHelper((JSONObject) apiRequest.getJSONResponse()).getString("Location");
+        return sendRedirectRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_PATH + ARTIFACTS_PATH + artifactId + "/zip");
     }
 
     /**
@@ -978,6 +977,7 @@ public class GitHubArtifactsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/runs/{run_id}/artifacts")
     public <T> T getWorkflowRunArtifactsList(Repository repository, ArtifactWorkflowRun run,
                                              ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnArtifactsList(sendGetRequest(repository.getOwner().getLogin(), repository.getName(),
                 RUNS_PATH + run.getId() + QUERY_ARTIFACTS_PATH), format);
     }
@@ -1040,6 +1040,7 @@ public class GitHubArtifactsManager extends GitHubManager {
     @WrappedRequest
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/runs/{run_id}/artifacts")
     public <T> T getWorkflowRunArtifactsList(Repository repository, long runId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnArtifactsList(sendGetRequest(repository.getOwner().getLogin(), repository.getName(),
                 RUNS_PATH + runId + QUERY_ARTIFACTS_PATH), format);
     }
@@ -1105,6 +1106,7 @@ public class GitHubArtifactsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/runs/{run_id}/artifacts")
     public <T> T getWorkflowRunArtifactsList(String owner, String repo, ArtifactWorkflowRun run,
                                              ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnArtifactsList(sendGetRequest(owner, repo, RUNS_PATH + run.getId() + QUERY_ARTIFACTS_PATH),
                 format);
     }
@@ -1167,6 +1169,7 @@ public class GitHubArtifactsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/runs/{run_id}/artifacts")
     public <T> T getWorkflowRunArtifactsList(String owner, String repo, long runId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnArtifactsList(sendGetRequest(owner, repo, RUNS_PATH + runId + QUERY_ARTIFACTS_PATH), format);
     }
 
@@ -1248,6 +1251,7 @@ public class GitHubArtifactsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/runs/{run_id}/artifacts")
     public <T> T getWorkflowRunArtifactsList(Repository repository, ArtifactWorkflowRun run, Params queryParams,
                                              ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnArtifactsList(sendGetRequest(repository.getOwner().getLogin(), repository.getName(),
                 RUNS_PATH + run.getId() + QUERY_ARTIFACTS_PATH + queryParams.createQueryString()), format);
     }
@@ -1330,6 +1334,7 @@ public class GitHubArtifactsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/runs/{run_id}/artifacts")
     public <T> T getWorkflowRunArtifactsList(Repository repository, long runId, Params queryParams,
                                              ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnArtifactsList(sendGetRequest(repository.getOwner().getLogin(), repository.getName(),
                 RUNS_PATH + runId + QUERY_ARTIFACTS_PATH + queryParams.createQueryString()), format);
     }
@@ -1411,6 +1416,7 @@ public class GitHubArtifactsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/runs/{run_id}/artifacts")
     public <T> T getWorkflowRunArtifactsList(String owner, String repo, ArtifactWorkflowRun run, Params queryParams,
                                              ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnArtifactsList(sendGetRequest(owner, repo, RUNS_PATH + run.getId() + QUERY_ARTIFACTS_PATH +
                 queryParams.createQueryString()), format);
     }
@@ -1492,6 +1498,7 @@ public class GitHubArtifactsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/runs/{run_id}/artifacts")
     public <T> T getWorkflowRunArtifactsList(String owner, String repo, long runId, Params queryParams,
                                              ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnArtifactsList(sendGetRequest(owner, repo, RUNS_PATH + runId + QUERY_ARTIFACTS_PATH +
                 queryParams.createQueryString()), format);
     }
@@ -158,6 +158,7 @@ public class GitHubCacheManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/enterprises/{enterprise}/actions/cache/usage")
     public <T> T getEnterpriseCacheUsage(String enterprise, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnCacheUsage(sendGetRequest(ENTERPRISES_PATH + enterprise + ACTIONS_CACHE_USAGE_PATH), format);
     }
 
@@ -220,6 +221,7 @@ public class GitHubCacheManager extends GitHubManager {
     @WrappedRequest
     @RequestPath(method = GET, path = "/orgs/{org}/actions/cache/usage")
     public <T> T getOrganizationCacheUsage(Organization org, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnCacheUsage(sendGetRequest(ORGS_PATH + org.getLogin() + ACTIONS_CACHE_USAGE_PATH), format);
     }
 
@@ -281,6 +283,7 @@ public class GitHubCacheManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/actions/cache/usage")
     public <T> T getOrganizationCacheUsage(String org, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnCacheUsage(sendGetRequest(ORGS_PATH + org + ACTIONS_CACHE_USAGE_PATH), format);
     }
 
@@ -422,6 +425,7 @@ public class GitHubCacheManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/actions/cache/usage-by-repository")
     public <T> T getRepositoriesCacheUsagesList(String org, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositoriesCacheUsagesList(sendGetRequest(ORGS_PATH + org +
                 ACTIONS_CACHE_USAGE_BY_REPOSITORY_PATH), format);
     }
@@ -581,6 +585,7 @@ public class GitHubCacheManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/actions/cache/usage-by-repository")
     public <T> T getRepositoriesCacheUsagesList(String org, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositoriesCacheUsagesList(sendGetRequest(ORGS_PATH + org +
                 ACTIONS_CACHE_USAGE_BY_REPOSITORY_PATH + queryParams.createQueryString()), format);
     }
@@ -729,6 +734,7 @@ public class GitHubCacheManager extends GitHubManager {
     @Returner
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/cache/usage")
     public <T> T getRepositoryCacheUsage(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String repositoryCacheUsageResponse = sendGetRequest(REPOS_PATH + owner + "/" + repo +
                 ACTIONS_CACHE_USAGE_PATH);
         switch (format) {
@@ -858,6 +864,7 @@ public class GitHubCacheManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/caches")
     public <T> T getRepositoryCachesList(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositoryCachesList(sendGetRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_CACHES_PATH),
                 format);
     }
@@ -1093,6 +1100,7 @@ public class GitHubCacheManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/caches")
     public <T> T getRepositoryCachesList(String owner, String repo, Params queryParams,
                                          ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositoryCachesList(sendGetRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_CACHES_PATH +
                 queryParams.createQueryString()), format);
     }
@@ -1226,6 +1234,7 @@ public class GitHubCacheManager extends GitHubManager {
     @WrappedRequest
     @RequestPath(method = DELETE, path = "/repos/{owner}/{repo}/actions/caches")
     public <T> T deleteRepositoryCache(String owner, String repo, String key, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositoryCachesList(sendGetRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_CACHES_PATH +
                 "?key=" + key), format);
     }
@@ -1510,6 +1519,7 @@ public class GitHubCacheManager extends GitHubManager {
     @RequestPath(method = DELETE, path = "/repos/{owner}/{repo}/actions/caches")
     public <T> T deleteRepositoryCache(String owner, String repo, String key, String ref,
                                        ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params params = new Params();
         params.addParam("key", key);
         params.addParam("ref", ref);
@@ -1612,7 +1622,7 @@ public class GitHubCacheManager extends GitHubManager {
     public boolean deleteRepositoryCache(String owner, String repo, long cacheId) {
         try {
             sendDeleteRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_CACHES_PATH + "/" + cacheId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -209,6 +209,7 @@ public class GitHubOIDCManager extends GitHubManager {
     @Returner
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/oidc/customization/sub")
     public <T> T getOrganizationOIDCSubjectClaim(String org, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String OIDCResponse = sendGetRequest(ORGS_PATH + org + ACTIONS_OIDC_CUSTOMIZATION_SUB_PATH);
         switch (format) {
             case JSON:
@@ -295,7 +296,7 @@ public class GitHubOIDCManager extends GitHubManager {
         payload.addParam("include_claim_keys", includeClaimKeys);
         try {
             sendPutRequest(ORGS_PATH + org + ACTIONS_OIDC_CUSTOMIZATION_SUB_PATH, payload);
-            if (apiRequest.getResponseStatusCode() != 201) {
+            if (getStatusCode() != 201) {
                 printErrorResponse();
                 return false;
             }
@@ -424,6 +425,7 @@ public class GitHubOIDCManager extends GitHubManager {
     @Returner
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/oidc/customization/sub")
     public <T> T getRepositoryOIDCSubjectClaim(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String OIDCResponse = sendGetRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_OIDC_CUSTOMIZATION_SUB_PATH);
         switch (format) {
             case JSON:
@@ -474,7 +476,7 @@ public class GitHubOIDCManager extends GitHubManager {
         payload.addParam("use_default", useDefault);
         try {
             sendPutRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_OIDC_CUSTOMIZATION_SUB_PATH, payload);
-            if (apiRequest.getResponseStatusCode() != 201) {
+            if (getStatusCode() != 201) {
                 printErrorResponse();
                 return false;
             }
@@ -574,7 +576,7 @@ public class GitHubOIDCManager extends GitHubManager {
         payload.addParam("include_claim_keys", claimKeys);
         try {
             sendPutRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_OIDC_CUSTOMIZATION_SUB_PATH, payload);
-            if (apiRequest.getResponseStatusCode() != 201) {
+            if (getStatusCode() != 201) {
                 printErrorResponse();
                 return false;
             }
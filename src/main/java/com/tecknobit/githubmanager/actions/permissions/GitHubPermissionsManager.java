@@ -192,6 +192,7 @@ public class GitHubPermissionsManager extends GitHubManager {
     @Returner
     @RequestPath(method = GET, path = "/enterprises/{enterprise}/actions/permissions")
     public <T> T getEnterpriseActionsPermissions(String enterprise, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String enterprisePermissionsResponse = sendGetRequest(ENTERPRISES_PATH + enterprise +
                 ACTIONS_PERMISSIONS_PATH);
         switch (format) {
@@ -323,6 +324,7 @@ public class GitHubPermissionsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/enterprises/{enterprise}/actions/permissions/organizations")
     public <T> T getEnabledEnterpriseOrganizations(String enterprise, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnOrganizationsList(sendGetRequest(ENTERPRISES_PATH + enterprise +
                 ACTIONS_PERMISSIONS_ORGANIZATIONS_PATH), format);
     }
@@ -403,6 +405,7 @@ public class GitHubPermissionsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/enterprises/{enterprise}/actions/permissions/organizations")
     public <T> T getEnabledEnterpriseOrganizations(String enterprise, Params queryParams,
                                                    ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnOrganizationsList(sendGetRequest(ENTERPRISES_PATH + enterprise +
                 ACTIONS_PERMISSIONS_ORGANIZATIONS_PATH + queryParams.createQueryString()), format);
     }
@@ -506,7 +509,7 @@ public class GitHubPermissionsManager extends GitHubManager {
         try {
             sendPutRequest(ENTERPRISES_PATH + enterprise + ACTIONS_PERMISSIONS_ORGANIZATIONS_PATH + orgId,
                     null);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -554,7 +557,7 @@ public class GitHubPermissionsManager extends GitHubManager {
     public boolean disableSelectedEnterpriseOrganization(String enterprise, long orgId) {
         try {
             sendDeleteRequest(ENTERPRISES_PATH + enterprise + ACTIONS_PERMISSIONS_ORGANIZATIONS_PATH + orgId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -622,6 +625,7 @@ public class GitHubPermissionsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/enterprises/{enterprise}/actions/permissions/selected-actions")
     public <T> T getEnterpriseAARW(String enterprise, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnAARW(sendGetRequest(ENTERPRISES_PATH + enterprise +
                 ACTIONS_PERMISSIONS_ORGANIZATIONS_SELECTED_ACTIONS_PATH), format);
     }
@@ -740,6 +744,7 @@ public class GitHubPermissionsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/enterprises/{enterprise}/actions/permissions/workflow")
     public <T> T getDefaultEnterpriseWorkflowPermissions(String enterprise, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnDefaultWorkflowPermissions(sendGetRequest(ENTERPRISES_PATH + enterprise +
                 ACTIONS_PERMISSIONS_WORKFLOW_PATH), format);
     }
@@ -910,6 +915,7 @@ public class GitHubPermissionsManager extends GitHubManager {
     @Returner
     @RequestPath(method = GET, path = "/orgs/{org}/actions/permissions")
     public <T> T getOrganizationActionsPermissions(String org, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String orgPermissionsResponse = sendGetRequest(ORGS_PATH + org + ACTIONS_PERMISSIONS_PATH);
         switch (format) {
             case JSON:
@@ -1177,6 +1183,7 @@ public class GitHubPermissionsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/actions/permissions/repositories")
     public <T> T getEnabledOrganizationRepositories(String org, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositoriesList(sendGetRequest(ORGS_PATH + org +
                 ACTIONS_PERMISSIONS_REPOSITORIES_PATH), format);
     }
@@ -1341,6 +1348,7 @@ public class GitHubPermissionsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/actions/permissions/repositories")
     public <T> T getEnabledOrganizationRepositories(String org, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositoriesList(sendGetRequest(ORGS_PATH + org + ACTIONS_PERMISSIONS_REPOSITORIES_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -1547,7 +1555,7 @@ public class GitHubPermissionsManager extends GitHubManager {
     public boolean enableSelectedOrganizationRepository(String org, long repositoryId) {
         try {
             sendPutRequest(ORGS_PATH + org + ACTIONS_PERMISSIONS_ORGANIZATIONS_PATH + repositoryId, null);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -1636,7 +1644,7 @@ public class GitHubPermissionsManager extends GitHubManager {
     public boolean disableSelectedOrganizationRepositories(String org, long repositoryId) {
         try {
             sendDeleteRequest(ORGS_PATH + org + ACTIONS_PERMISSIONS_REPOSITORIES_PATH + repositoryId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -1770,6 +1778,7 @@ public class GitHubPermissionsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/actions/permissions/selected-actions")
     public <T> T getOrganizationAARW(String org, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnAARW(sendGetRequest(ORGS_PATH + org + ACTIONS_PERMISSIONS_SELECTED_ACTIONS_PATH), format);
     }
 
@@ -2026,6 +2035,7 @@ public class GitHubPermissionsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/actions/permissions/workflow")
     public <T> T getDefaultOrganizationWorkflowPermissions(String org, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnDefaultWorkflowPermissions(sendGetRequest(ORGS_PATH + org +
                 ACTIONS_PERMISSIONS_WORKFLOW_PATH), format);
     }
@@ -2273,6 +2283,7 @@ public class GitHubPermissionsManager extends GitHubManager {
     @Returner
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/permissions")
     public <T> T getRepositoryActionsPermissions(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String orgPermissionsResponse = sendGetRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_PERMISSIONS_PATH);
         switch (format) {
             case JSON:
@@ -2441,7 +2452,7 @@ public class GitHubPermissionsManager extends GitHubManager {
             params.addParam("allowed_actions", allowedActions);
         try {
             sendPutRequest(endpoint, params);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -2532,6 +2543,7 @@ public class GitHubPermissionsManager extends GitHubManager {
     @Returner
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/permissions/access")
     public <T> T getAccessLevelOutsideRepository(String owner, String repo, ReturnFormat format) {
+        requireNonStream(format);
         try {
             JSONObject levelAccessResponse = new JSONObject(sendGetRequest(REPOS_PATH + owner + "/" + repo +
                     ACTIONS_PERMISSIONS_ACCESS_PATH));
@@ -2592,7 +2604,7 @@ public class GitHubPermissionsManager extends GitHubManager {
         params.addParam("access_level", accessLevel);
         try {
             sendPutRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_PERMISSIONS_ACCESS_PATH, params);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -2728,6 +2740,7 @@ public class GitHubPermissionsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/permissions/selected-actions")
     public <T> T getRepositoryAARW(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnAARW(sendGetRequest(REPOS_PATH + owner + "/" + repo +
                 ACTIONS_PERMISSIONS_SELECTED_ACTIONS_PATH), format);
     }
@@ -2924,7 +2937,7 @@ public class GitHubPermissionsManager extends GitHubManager {
     private boolean setAARW(String endpoint, Params aarw) {
         try {
             sendPutRequest(endpoint, aarw);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -3061,6 +3074,7 @@ public class GitHubPermissionsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/permissions/workflow")
     public <T> T getDefaultRepositoryWorkflowPermissions(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnDefaultWorkflowPermissions(sendGetRequest(REPOS_PATH + owner + "/" + repo +
                 ACTIONS_PERMISSIONS_WORKFLOW_PATH), format);
     }
@@ -3216,7 +3230,7 @@ public class GitHubPermissionsManager extends GitHubManager {
     private boolean setDefaultWorkflowPermissions(String endpoint, Params defaultWorkflowPermissions) {
         try {
             sendPutRequest(endpoint, defaultWorkflowPermissions);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
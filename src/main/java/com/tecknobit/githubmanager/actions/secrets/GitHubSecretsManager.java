@@ -233,6 +233,7 @@ public class GitHubSecretsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/actions/secrets")
     public <T> T getOrganizationSecretsList(String org, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnSecretsList(sendGetRequest(ORGS_PATH + org + ACTIONS_SECRETS_PATH), format);
     }
 
@@ -387,6 +388,7 @@ public class GitHubSecretsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/actions/secrets")
     public <T> T getOrganizationSecretsList(String org, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnSecretsList(sendGetRequest(ORGS_PATH + org + ACTIONS_SECRETS_PATH +
                 queryParams.createQueryString()), format);
     }
@@ -510,6 +512,7 @@ public class GitHubSecretsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/actions/secrets/public-key")
     public <T> T getOrganizationPublicKey(String org, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnPublicKey(sendGetRequest(ORGS_PATH + org + ACTIONS_SECRETS_PUBLIC_KEY_PATH), format);
     }
 
@@ -632,6 +635,7 @@ public class GitHubSecretsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/actions/secrets/{secret_name}")
     public <T> T getOrganizationSecret(String org, String secretName, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnSecret(sendGetRequest(ORGS_PATH + org + ACTIONS_SECRETS_PATH + "/" + secretName), format);
     }
 
@@ -1663,7 +1667,7 @@ public class GitHubSecretsManager extends GitHubManager {
             params.addParam("selected_repository_ids", Arrays.stream(repositoriesIds).toList());
         try {
             sendPutRequest(ORGS_PATH + org + ACTIONS_SECRETS_PATH + "/" + secretName, params);
-            int statusCode = apiRequest.getResponseStatusCode();
+            int statusCode = getStatusCode();
             if (statusCode != 201 && statusCode != 204) {
                 printErrorResponse();
                 return false;
@@ -1745,7 +1749,7 @@ public class GitHubSecretsManager extends GitHubManager {
     public boolean deleteOrganizationSecret(String org, String secretName) {
         try {
             sendDeleteRequest(ORGS_PATH + org + ACTIONS_SECRETS_PATH + "/" + secretName);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -1828,6 +1832,7 @@ public class GitHubSecretsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/actions/secrets/{secret_name}/repositories")
     public <T> T getOrganizationSecretRepositoriesList(String org, String secretName, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositoriesList(sendGetRequest(ORGS_PATH + org + ACTIONS_SECRETS_PATH + secretName +
                 REPOSITORIES_PATH), format);
     }
@@ -1943,6 +1948,7 @@ public class GitHubSecretsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/orgs/{org}/actions/secrets/{secret_name}/repositories")
     public <T> T getOrganizationSecretRepositoriesList(String org, String secretName, Params queryParams,
                                                        ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositoriesList(sendGetRequest(ORGS_PATH + org + ACTIONS_SECRETS_PATH + secretName +
                 REPOSITORIES_PATH + queryParams.createQueryString()), format);
     }
@@ -2165,7 +2171,7 @@ public class GitHubSecretsManager extends GitHubManager {
         try {
             sendPutRequest(ORGS_PATH + org + ACTIONS_SECRETS_PATH + secretName + REPOSITORIES_PATH + "/" +
                     repositoryId, null);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -2256,7 +2262,7 @@ public class GitHubSecretsManager extends GitHubManager {
         try {
             sendDeleteRequest(ORGS_PATH + org + ACTIONS_SECRETS_PATH + secretName + REPOSITORIES_PATH + "/" +
                     repositoryId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -2384,6 +2390,7 @@ public class GitHubSecretsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/secrets")
     public <T> T getRepositorySecretsList(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnSecretsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_SECRETS_PATH),
                 format);
     }
@@ -2544,6 +2551,7 @@ public class GitHubSecretsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/secrets")
     public <T> T getRepositorySecretsList(String owner, String repo, Params queryParams,
                                           ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnSecretsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_SECRETS_PATH +
                 queryParams.createQueryString()), format);
     }
@@ -2673,6 +2681,7 @@ public class GitHubSecretsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/secrets/public-key")
     public <T> T getRepositoryPublicKey(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnPublicKey(sendGetRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_SECRETS_PUBLIC_KEY_PATH),
                 format);
     }
@@ -2798,6 +2807,7 @@ public class GitHubSecretsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/secrets/{secret_name}")
     public <T> T getRepositorySecret(String owner, String repo, String secretName, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnSecret(sendGetRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_SECRETS_PATH + "/" +
                 secretName), format);
     }
@@ -3176,7 +3186,7 @@ public class GitHubSecretsManager extends GitHubManager {
     public boolean deleteRepositorySecret(String owner, String repo, String secretName) {
         try {
             sendDeleteRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_SECRETS_PATH + "/" + secretName);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -3308,6 +3318,7 @@ public class GitHubSecretsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repositories/{repository_id}/environments/{environment_name}/secrets")
     public <T> T getEnvironmentsSecretsList(long repositoryId, String environmentName,
                                             ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnSecretsList(sendGetRequest(REPOSITORIES_QUERY_PATH + repositoryId + ENVIRONMENTS_PATH +
                 environmentName + SECRETS_PATH), format);
     }
@@ -3471,6 +3482,7 @@ public class GitHubSecretsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repositories/{repository_id}/environments/{environment_name}/secrets")
     public <T> T getEnvironmentsSecretsList(long repositoryId, String environmentName, Params queryParams,
                                             ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnSecretsList(sendGetRequest(REPOSITORIES_QUERY_PATH + repositoryId + ENVIRONMENTS_PATH +
                 environmentName + SECRETS_PATH + queryParams.createQueryString()), format);
     }
@@ -3603,6 +3615,7 @@ public class GitHubSecretsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repositories/{repository_id}/environments/{environment_name}/secrets/public-key")
     public <T> T getEnvironmentPublicKey(long repositoryId, String environmentName, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnPublicKey(sendGetRequest(REPOSITORIES_QUERY_PATH + repositoryId + ENVIRONMENTS_PATH +
                 environmentName + ACTIONS_SECRETS_PUBLIC_KEY_PATH), format);
     }
@@ -3732,6 +3745,7 @@ public class GitHubSecretsManager extends GitHubManager {
     @RequestPath(method = PUT, path = "/repositories/{repository_id}/environments/{environment_name}/secrets/{secret_name")
     public <T> T getEnvironmentSecret(long repositoryId, String environmentName, String secretName,
                                       ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnSecret(sendGetRequest(REPOSITORIES_QUERY_PATH + repositoryId + ENVIRONMENTS_PATH +
                 environmentName + SECRETS_PATH + "/" + secretName), format);
     }
@@ -4066,7 +4080,7 @@ public class GitHubSecretsManager extends GitHubManager {
     private boolean workWithSecret(String endpoint, String secretValue, GitHubPublicKey publicKey) throws Exception {
         try {
             sendPutRequest(endpoint, createSecretPayload(secretValue, publicKey, null));
-            int statusCode = apiRequest.getResponseStatusCode();
+            int statusCode = getStatusCode();
             if (statusCode != 201 && statusCode != 204) {
                 printErrorResponse();
                 return false;
@@ -4115,7 +4129,7 @@ public class GitHubSecretsManager extends GitHubManager {
         try {
             sendDeleteRequest(REPOSITORIES_QUERY_PATH + repositoryId + ENVIRONMENTS_PATH + environmentName +
                     SECRETS_PATH + "/" + secretName);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -152,6 +152,7 @@ public class GitHubRunnerGroupsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/enterprises/{enterprise}/actions/runner-groups")
     public <T> T getEnterpriseRunnerGroupsList(String enterprise, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRunnerGroupsList(sendGetRequest(ENTERPRISES_PATH + enterprise + ACTIONS_RUNNER_GROUPS_PATH),
                 format);
     }
@@ -234,6 +235,7 @@ public class GitHubRunnerGroupsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/enterprises/{enterprise}/actions/runner-groups")
     public <T> T getEnterpriseRunnerGroupsList(String enterprise, Params queryParams,
                                                ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRunnerGroupsList(sendGetRequest(ENTERPRISES_PATH + enterprise + ACTIONS_RUNNER_GROUPS_PATH +
                 queryParams.createQueryString()), format);
     }
@@ -293,6 +295,7 @@ public class GitHubRunnerGroupsManager extends GitHubManager {
      **/
     @RequestPath(method = POST, path = "/enterprises/{enterprise}/actions/runner-groups")
     public <T> T createEnterpriseRunnerGroup(String enterprise, String name, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params bodyParams = new Params();
         bodyParams.addParam("name", name);
         return returnRunnerGroup(sendPostRequest(ENTERPRISES_PATH + enterprise + ACTIONS_RUNNER_GROUPS_PATH,
@@ -410,6 +413,7 @@ public class GitHubRunnerGroupsManager extends GitHubManager {
     @RequestPath(method = POST, path = "/enterprises/{enterprise}/actions/runner-groups")
     public <T> T createEnterpriseRunnerGroup(String enterprise, String name, Params runnerGroupDetails,
                                              ReturnFormat format) throws IOException {
+        requireNonStream(format);
         runnerGroupDetails.addParam("name", name);
         return returnRunnerGroup(sendPostRequest(ENTERPRISES_PATH + enterprise + ACTIONS_RUNNER_GROUPS_PATH,
                 runnerGroupDetails), format);
@@ -470,6 +474,7 @@ public class GitHubRunnerGroupsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/enterprises/{enterprise}/actions/runner-groups/{runner_group_id}")
     public <T> T getEnterpriseRunnerGroup(String enterprise, long runnerGroupId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRunnerGroup(sendGetRequest(ENTERPRISES_PATH + enterprise + ACTIONS_RUNNER_GROUPS_PATH +
                 "/" + runnerGroupId), format);
     }
@@ -712,6 +717,7 @@ public class GitHubRunnerGroupsManager extends GitHubManager {
     @RequestPath(method = PATCH, path = "/enterprises/{enterprise}/actions/runner-groups/{runner_group_id}")
     public <T> T updateEnterpriseRunnerGroup(String enterprise, long runnerGroupId, Params runnerGroupDetails,
                                              ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRunnerGroup(sendPatchRequest(ENTERPRISES_PATH + enterprise + ACTIONS_RUNNER_GROUPS_PATH +
                 "/" + runnerGroupId, runnerGroupDetails), format);
     }
@@ -748,7 +754,7 @@ public class GitHubRunnerGroupsManager extends GitHubManager {
     public boolean deleteEnterpriseRunnerGroup(String enterprise, long runnerGroupId) {
         try {
             sendDeleteRequest(ENTERPRISES_PATH + enterprise + ACTIONS_RUNNER_GROUPS_PATH + "/" + runnerGroupId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -876,6 +882,7 @@ public class GitHubRunnerGroupsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/enterprises/{enterprise}/actions/runner-groups/{runner_group_id}/organizations")
     public <T> T getAuthorizedOrganizationsList(String enterprise, long runnerGroupId,
                                                 ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnOrganizationsList(sendGetRequest(ENTERPRISES_PATH + enterprise + ACTIONS_RUNNER_GROUPS_PATH
                 + "/" + runnerGroupId + ORGANIZATIONS_QUERY_PATH), format);
     }
@@ -1035,6 +1042,7 @@ public class GitHubRunnerGroupsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/enterprises/{enterprise}/actions/runner-groups/{runner_group_id}/organizations")
     public <T> T getAuthorizedOrganizationsList(String enterprise, long runnerGroupId, Params queryParams,
                                                 ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnOrganizationsList(sendGetRequest(ENTERPRISES_PATH + enterprise + ACTIONS_RUNNER_GROUPS_PATH
                 + "/" + runnerGroupId + ORGANIZATIONS_QUERY_PATH + queryParams.createQueryString()), format);
     }
@@ -1224,7 +1232,7 @@ public class GitHubRunnerGroupsManager extends GitHubManager {
         try {
             sendPutRequest(ENTERPRISES_PATH + enterprise + ACTIONS_RUNNER_GROUPS_PATH + "/" + runnerGroupId +
                     ORGANIZATIONS_QUERY_PATH + "/" + orgId, null);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -1310,7 +1318,7 @@ public class GitHubRunnerGroupsManager extends GitHubManager {
         try {
             sendDeleteRequest(ENTERPRISES_PATH + enterprise + ACTIONS_RUNNER_GROUPS_PATH + "/" + runnerGroupId +
                     ORGANIZATIONS_QUERY_PATH + "/" + orgId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -1438,6 +1446,7 @@ public class GitHubRunnerGroupsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/enterprises/{enterprise}/actions/runner-groups/{runner_group_id}/runners")
     public <T> T getEnterpriseRunnersGroupList(String enterprise, long runnerGroupId,
                                                ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRunnersList(sendGetRequest(ENTERPRISES_PATH + enterprise + ACTIONS_RUNNER_GROUPS_PATH + "/"
                 + runnerGroupId + RUNNERS_PATH), format);
     }
@@ -1597,6 +1606,7 @@ public class GitHubRunnerGroupsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/enterprises/{enterprise}/actions/runner-groups/{runner_group_id}/runners")
     public <T> T getEnterpriseRunnersGroupList(String enterprise, long runnerGroupId, Params queryParams,
                                                ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRunnersList(sendGetRequest(ENTERPRISES_PATH + enterprise + ACTIONS_RUNNER_GROUPS_PATH + "/"
                 + runnerGroupId + RUNNERS_PATH + queryParams.createQueryString()), format);
     }
@@ -1782,7 +1792,7 @@ public class GitHubRunnerGroupsManager extends GitHubManager {
         try {
             sendPutRequest(ENTERPRISES_PATH + enterprise + ACTIONS_RUNNER_GROUPS_PATH + "/" + runnerGroupId +
                     RUNNERS_PATH + "/" + runnerId, null);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -1864,7 +1874,7 @@ public class GitHubRunnerGroupsManager extends GitHubManager {
         try {
             sendDeleteRequest(ENTERPRISES_PATH + enterprise + ACTIONS_RUNNER_GROUPS_PATH + "/" + runnerGroupId +
                     RUNNERS_PATH + "/" + runnerId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -1994,6 +2004,7 @@ public class GitHubRunnerGroupsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/actions/runner-groups")
     public <T> T getOrganizationRunnerGroupsList(String org, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRunnerGroupsList(sendGetRequest(ORGS_PATH + org + ACTIONS_RUNNER_GROUPS_PATH),
                 format);
     }
@@ -2169,6 +2180,7 @@ public class GitHubRunnerGroupsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/orgs/{org}/actions/runner-groups")
     public <T> T getOrganizationRunnerGroupsList(String org, Params queryParams,
                                                  ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRunnerGroupsList(sendGetRequest(ORGS_PATH + org + ACTIONS_RUNNER_GROUPS_PATH +
                 queryParams.createQueryString()), format);
     }
@@ -2315,6 +2327,7 @@ public class GitHubRunnerGroupsManager extends GitHubManager {
      **/
     @RequestPath(method = POST, path = "/orgs/{org}/actions/runner-groups")
     public <T> T createOrganizationRunnerGroup(String org, String name, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params bodyParams = new Params();
         bodyParams.addParam("name", name);
         return returnRunnerGroup(sendPostRequest(ORGS_PATH + org + ACTIONS_RUNNER_GROUPS_PATH,
@@ -2568,6 +2581,7 @@ public class GitHubRunnerGroupsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/orgs/{org}/actions/runner-groups")
     public <T> T createOrganizationRunnerGroup(String org, String name, Params runnerGroupDetails,
                                                ReturnFormat format) throws IOException {
+        requireNonStream(format);
         runnerGroupDetails.addParam("name", name);
         return returnRunnerGroup(sendPostRequest(ORGS_PATH + org + ACTIONS_RUNNER_GROUPS_PATH,
                 runnerGroupDetails), format);
@@ -2692,6 +2706,7 @@ public class GitHubRunnerGroupsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/actions/runner-groups/{runner_group_id}")
     public <T> T getOrganizationRunnerGroup(String org, long runnerGroupId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRunnerGroup(sendGetRequest(ORGS_PATH + org + ACTIONS_RUNNER_GROUPS_PATH + "/" + runnerGroupId),
                 format);
     }
@@ -3189,6 +3204,7 @@ public class GitHubRunnerGroupsManager extends GitHubManager {
     @RequestPath(method = PATCH, path = "/orgs/{org}/actions/runner-groups/{runner_group_id}")
     public <T> T updateOrganizationRunnerGroup(String org, long runnerGroupId, Params runnerGroupDetails,
                                                ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRunnerGroup(sendPatchRequest(ORGS_PATH + org + ACTIONS_RUNNER_GROUPS_PATH + "/" +
                 runnerGroupId, runnerGroupDetails), format);
     }
@@ -3282,7 +3298,7 @@ public class GitHubRunnerGroupsManager extends GitHubManager {
     public boolean deleteOrganizationRunnerGroup(String org, long runnerGroupId) {
         try {
             sendDeleteRequest(ORGS_PATH + org + ACTIONS_RUNNER_GROUPS_PATH + "/" + runnerGroupId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -3539,6 +3555,7 @@ public class GitHubRunnerGroupsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/actions/runner-groups/{runner_group_id}/repositories")
     public <T> T getAuthorizedRepositoriesList(String org, long runnerGroupId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositoriesList(sendGetRequest(ORGS_PATH + org + ACTIONS_RUNNER_GROUPS_PATH + "/"
                 + runnerGroupId + REPOSITORIES_PATH), format);
     }
@@ -3898,6 +3915,7 @@ public class GitHubRunnerGroupsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/orgs/{org}/actions/runner-groups/{runner_group_id}/repositories")
     public <T> T getAuthorizedRepositoriesList(String org, long runnerGroupId, Params queryParams,
                                                ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositoriesList(sendGetRequest(ORGS_PATH + org + ACTIONS_RUNNER_GROUPS_PATH + "/"
                 + runnerGroupId + REPOSITORIES_PATH + queryParams.createQueryString()), format);
     }
@@ -4302,7 +4320,7 @@ public class GitHubRunnerGroupsManager extends GitHubManager {
         try {
             sendDeleteRequest(ORGS_PATH + org + ACTIONS_RUNNER_GROUPS_PATH + "/" + runnerGroupId +
                     REPOSITORIES_PATH + "/" + repositoryId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -4558,6 +4576,7 @@ public class GitHubRunnerGroupsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/actions/runner-groups/{runner_group_id}/runners")
     public <T> T getOrganizationRunnersGroupList(String org, long runnerGroupId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRunnersList(sendGetRequest(ORGS_PATH + org + ACTIONS_RUNNER_GROUPS_PATH + "/" +
                 runnerGroupId + RUNNERS_PATH), format);
     }
@@ -4885,6 +4904,7 @@ public class GitHubRunnerGroupsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/orgs/{org}/actions/runner-groups/{runner_group_id}/runners")
     public <T> T getOrganizationRunnersGroupList(String org, long runnerGroupId, Params queryParams,
                                                  ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRunnersList(sendGetRequest(ORGS_PATH + org + ACTIONS_RUNNER_GROUPS_PATH + "/" +
                 runnerGroupId + RUNNERS_PATH + queryParams.createQueryString()), format);
     }
@@ -5310,7 +5330,7 @@ public class GitHubRunnerGroupsManager extends GitHubManager {
         try {
             sendPutRequest(ORGS_PATH + org + ACTIONS_RUNNER_GROUPS_PATH + "/" + runnerGroupId +
                     RUNNERS_PATH + "/" + runnerId, null);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -5488,7 +5508,7 @@ public class GitHubRunnerGroupsManager extends GitHubManager {
         try {
             sendDeleteRequest(ORGS_PATH + org + ACTIONS_RUNNER_GROUPS_PATH + "/" + runnerGroupId +
                     RUNNERS_PATH + "/" + runnerId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
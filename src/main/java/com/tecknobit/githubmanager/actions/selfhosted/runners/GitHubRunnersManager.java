@@ -173,6 +173,7 @@ public class GitHubRunnersManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/enterprises/{enterprise}/actions/runners")
     public <T> T getEnterpriseRunnersList(String enterprise, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRunnersList(sendGetRequest(ENTERPRISES_PATH + enterprise + ACTIONS_RUNNERS_PATH),
                 format);
     }
@@ -248,6 +249,7 @@ public class GitHubRunnersManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/enterprises/{enterprise}/actions/runners")
     public <T> T getEnterpriseRunnersList(String enterprise, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRunnersList(sendGetRequest(ENTERPRISES_PATH + enterprise + ACTIONS_RUNNERS_PATH +
                 queryParams.createQueryString()), format);
     }
@@ -305,6 +307,7 @@ public class GitHubRunnersManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/enterprises/{enterprise}/actions/runners/downloads")
     public <T> T getEnterpriseApplicationsList(String enterprise, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnApplicationsList(sendGetRequest(ENTERPRISES_PATH + enterprise + ACTIONS_RUNNERS_PATH +
                 DOWNLOADS_PATH), format);
     }
@@ -362,6 +365,7 @@ public class GitHubRunnersManager extends GitHubManager {
      **/
     @RequestPath(method = POST, path = "/enterprises/{enterprise}/actions/runners/registration-token")
     public <T> T createEnterpriseRegistrationToken(String enterprise, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnGitHubToken(sendPostRequest(ENTERPRISES_PATH + enterprise + ACTIONS_RUNNERS_PATH + "/"
                 + REGISTRATION_TOKEN_PATH, null), format);
     }
@@ -419,6 +423,7 @@ public class GitHubRunnersManager extends GitHubManager {
      **/
     @RequestPath(method = POST, path = "/enterprises/{enterprise}/actions/runners/remove-token")
     public <T> T createEnterpriseRemoveToken(String enterprise, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnGitHubToken(sendPostRequest(ENTERPRISES_PATH + enterprise + ACTIONS_RUNNERS_PATH + "/"
                 + REMOVE_TOKEN_PATH, null), format);
     }
@@ -478,6 +483,7 @@ public class GitHubRunnersManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/enterprises/{enterprise}/actions/runners/{runner_id}")
     public <T> T getEnterpriseRunner(String enterprise, long runnerId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRunner(sendGetRequest(ENTERPRISES_PATH + enterprise + ACTIONS_RUNNERS_PATH + "/" +
                 runnerId), format);
     }
@@ -516,7 +522,7 @@ public class GitHubRunnersManager extends GitHubManager {
     public boolean deleteEnterpriseRunner(String enterprise, long runnerId) {
         try {
             sendDeleteRequest(ENTERPRISES_PATH + enterprise + ACTIONS_RUNNERS_PATH + "/" + runnerId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -642,6 +648,7 @@ public class GitHubRunnersManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/enterprises/{enterprise}/actions/runners/{runner_id}/labels")
     public <T> T getEnterpriseLabelsList(String enterprise, long runnerId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnLabelsList(sendGetRequest(ENTERPRISES_PATH + enterprise + ACTIONS_RUNNERS_PATH + "/" +
                 runnerId + LABELS_PATH), format);
     }
@@ -898,6 +905,7 @@ public class GitHubRunnersManager extends GitHubManager {
     @RequestPath(method = POST, path = "/enterprises/{enterprise}/actions/runners/{runner_id}/labels")
     public <T> T addEnterpriseCustomLabels(String enterprise, long runnerId, ArrayList<String> labels,
                                            ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("labels", labels.stream().toList());
         return returnLabelsList(sendPostRequest(ENTERPRISES_PATH + enterprise + ACTIONS_RUNNERS_PATH + "/" +
@@ -1025,6 +1033,7 @@ public class GitHubRunnersManager extends GitHubManager {
     @RequestPath(method = POST, path = "/enterprises/{enterprise}/actions/runners/{runner_id}/labels")
     public <T> T addEnterpriseCustomLabels(String enterprise, long runnerId, String[] labels,
                                            ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("labels", Arrays.stream(labels).toList());
         return returnLabelsList(sendPostRequest(ENTERPRISES_PATH + enterprise + ACTIONS_RUNNERS_PATH + "/" +
@@ -1291,6 +1300,7 @@ public class GitHubRunnersManager extends GitHubManager {
     @RequestPath(method = PUT, path = "/enterprises/{enterprise}/actions/runners/{runner_id}/labels")
     public <T> T setEnterpriseCustomLabels(String enterprise, long runnerId, ArrayList<String> labels,
                                            ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("labels", labels.stream().toList());
         return returnLabelsList(sendPutRequest(ENTERPRISES_PATH + enterprise + ACTIONS_RUNNERS_PATH + "/" +
@@ -1422,6 +1432,7 @@ public class GitHubRunnersManager extends GitHubManager {
     @RequestPath(method = PUT, path = "/enterprises/{enterprise}/actions/runners/{runner_id}/labels")
     public <T> T setEnterpriseCustomLabels(String enterprise, long runnerId, String[] labels,
                                            ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("labels", Arrays.stream(labels).toList());
         return returnLabelsList(sendPutRequest(ENTERPRISES_PATH + enterprise + ACTIONS_RUNNERS_PATH + "/" +
@@ -1543,6 +1554,7 @@ public class GitHubRunnersManager extends GitHubManager {
      **/
     @RequestPath(method = DELETE, path = "/enterprises/{enterprise}/actions/runners/{runner_id}/labels")
     public <T> T removeAllEnterpriseCustomLabels(String enterprise, long runnerId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnLabelsList(sendDeleteRequest(ENTERPRISES_PATH + enterprise + ACTIONS_RUNNERS_PATH + "/" +
                 runnerId + LABELS_PATH), format);
     }
@@ -1802,6 +1814,7 @@ public class GitHubRunnersManager extends GitHubManager {
     @RequestPath(method = DELETE, path = "/enterprises/{enterprise}/actions/runners/{runner_id}/labels/{name}")
     public <T> T removeEnterpriseCustomLabel(String enterprise, long runnerId, String name,
                                              ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnLabelsList(sendDeleteRequest(ENTERPRISES_PATH + enterprise + ACTIONS_RUNNERS_PATH + "/" +
                 runnerId + LABELS_PATH + "/" + name), format);
     }
@@ -1917,6 +1930,7 @@ public class GitHubRunnersManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/actions/runners")
     public <T> T getOrganizationRunnersList(String org, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRunnersList(sendGetRequest(ORGS_PATH + org + ACTIONS_RUNNERS_PATH),
                 format);
     }
@@ -2068,6 +2082,7 @@ public class GitHubRunnersManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/actions/runners")
     public <T> T getOrganizationRunnersList(String org, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRunnersList(sendGetRequest(ORGS_PATH + org + ACTIONS_RUNNERS_PATH +
                 queryParams.createQueryString()), format);
     }
@@ -2183,6 +2198,7 @@ public class GitHubRunnersManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/actions/runners/downloads")
     public <T> T getOrganizationApplicationsList(String org, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnApplicationsList(sendGetRequest(ORGS_PATH + org + ACTIONS_RUNNERS_PATH +
                 DOWNLOADS_PATH), format);
     }
@@ -2298,6 +2314,7 @@ public class GitHubRunnersManager extends GitHubManager {
      **/
     @RequestPath(method = POST, path = "/orgs/{org}/actions/runners/registration-token")
     public <T> T createOrganizationRegistrationToken(String org, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnGitHubToken(sendPostRequest(ORGS_PATH + org + ACTIONS_RUNNERS_PATH + "/"
                 + REGISTRATION_TOKEN_PATH, null), format);
     }
@@ -2413,6 +2430,7 @@ public class GitHubRunnersManager extends GitHubManager {
      **/
     @RequestPath(method = POST, path = "/orgs/{org}/actions/runners/remove-token")
     public <T> T createOrganizationRemoveToken(String org, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnGitHubToken(sendPostRequest(ORGS_PATH + org + ACTIONS_RUNNERS_PATH + "/"
                 + REMOVE_TOKEN_PATH, null), format);
     }
@@ -2532,6 +2550,7 @@ public class GitHubRunnersManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/actions/runners/{runner_id}")
     public <T> T getOrganizationRunner(String org, long runnerId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRunner(sendGetRequest(ORGS_PATH + org + ACTIONS_RUNNERS_PATH + "/" +
                 runnerId), format);
     }
@@ -2606,7 +2625,7 @@ public class GitHubRunnersManager extends GitHubManager {
     public boolean deleteOrganizationRunner(String org, long runnerId) {
         try {
             sendDeleteRequest(ORGS_PATH + org + ACTIONS_RUNNERS_PATH + "/" + runnerId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -2852,6 +2871,7 @@ public class GitHubRunnersManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/actions/runners/{runner_id}/labels")
     public <T> T getOrganizationLabelsList(String org, long runnerId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnLabelsList(sendGetRequest(ORGS_PATH + org + ACTIONS_RUNNERS_PATH + "/" +
                 runnerId + LABELS_PATH), format);
     }
@@ -3364,6 +3384,7 @@ public class GitHubRunnersManager extends GitHubManager {
     @RequestPath(method = POST, path = "/orgs/{org}/actions/runners/{runner_id}/labels")
     public <T> T addOrganizationCustomLabels(String org, long runnerId, ArrayList<String> labels,
                                              ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("labels", labels.stream().toList());
         return returnLabelsList(sendPostRequest(ORGS_PATH + org + ACTIONS_RUNNERS_PATH + "/" +
@@ -3617,6 +3638,7 @@ public class GitHubRunnersManager extends GitHubManager {
     @RequestPath(method = POST, path = "/orgs/{org}/actions/runners/{runner_id}/labels")
     public <T> T addOrganizationCustomLabels(String org, long runnerId, String[] labels,
                                              ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("labels", Arrays.stream(labels).toList());
         return returnLabelsList(sendPostRequest(ORGS_PATH + org + ACTIONS_RUNNERS_PATH + "/" +
@@ -4131,6 +4153,7 @@ public class GitHubRunnersManager extends GitHubManager {
     @RequestPath(method = PUT, path = "/orgs/{org}/actions/runners/{runner_id}/labels")
     public <T> T setOrganizationCustomLabels(String org, long runnerId, ArrayList<String> labels,
                                              ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("labels", labels.stream().toList());
         return returnLabelsList(sendPutRequest(ORGS_PATH + org + ACTIONS_RUNNERS_PATH + "/" +
@@ -4384,6 +4407,7 @@ public class GitHubRunnersManager extends GitHubManager {
     @RequestPath(method = PUT, path = "/orgs/{org}/actions/runners/{runner_id}/labels")
     public <T> T setOrganizationCustomLabels(String org, long runnerId, String[] labels,
                                              ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("labels", Arrays.stream(labels).toList());
         return returnLabelsList(sendPutRequest(ORGS_PATH + org + ACTIONS_RUNNERS_PATH + "/" +
@@ -4625,6 +4649,7 @@ public class GitHubRunnersManager extends GitHubManager {
      **/
     @RequestPath(method = DELETE, path = "/orgs/{org}/actions/runners/{runner_id}/labels")
     public <T> T removeAllOrganizationCustomLabels(String org, long runnerId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnLabelsList(sendDeleteRequest(ORGS_PATH + org + ACTIONS_RUNNERS_PATH + "/" +
                 runnerId + LABELS_PATH), format);
     }
@@ -5144,6 +5169,7 @@ public class GitHubRunnersManager extends GitHubManager {
     @RequestPath(method = DELETE, path = "/orgs/{org}/actions/runners/{runner_id}/labels/{name}")
     public <T> T removeOrganizationCustomLabel(String org, long runnerId, String name,
                                                ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnLabelsList(sendDeleteRequest(ORGS_PATH + org + ACTIONS_RUNNERS_PATH + "/" +
                 runnerId + LABELS_PATH + "/" + name), format);
     }
@@ -5261,6 +5287,7 @@ public class GitHubRunnersManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/runners")
     public <T> T getRepositoryRunnersList(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRunnersList(sendGetRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_RUNNERS_PATH),
                 format);
     }
@@ -5416,6 +5443,7 @@ public class GitHubRunnersManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/runners")
     public <T> T getRepositoryRunnersList(String owner, String repo, Params queryParams,
                                           ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRunnersList(sendGetRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_RUNNERS_PATH +
                 queryParams.createQueryString()), format);
     }
@@ -5533,6 +5561,7 @@ public class GitHubRunnersManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/runners/downloads")
     public <T> T getRepositoryApplicationsList(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnApplicationsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_RUNNERS_PATH +
                 DOWNLOADS_PATH), format);
     }
@@ -5678,6 +5707,7 @@ public class GitHubRunnersManager extends GitHubManager {
      **/
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/actions/runners/registration-token")
     public <T> T createRepositoryRegistrationToken(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnGitHubToken(sendPostRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_RUNNERS_PATH + "/"
                 + REGISTRATION_TOKEN_PATH, null), format);
     }
@@ -5795,6 +5825,7 @@ public class GitHubRunnersManager extends GitHubManager {
      **/
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/actions/runners/remove-token")
     public <T> T createRepositoryRemoveToken(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnGitHubToken(sendPostRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_RUNNERS_PATH + "/"
                 + REMOVE_TOKEN_PATH, null), format);
     }
@@ -5935,6 +5966,7 @@ public class GitHubRunnersManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/runners/{runner_id}")
     public <T> T getRepositoryRunner(String owner, String repo, long runnerId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRunner(sendGetRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_RUNNERS_PATH + "/" +
                 runnerId), format);
     }
@@ -6031,7 +6063,7 @@ public class GitHubRunnersManager extends GitHubManager {
     public boolean deleteRepositoryRunner(String owner, String repo, long runnerId) {
         try {
             sendDeleteRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_RUNNERS_PATH + "/" + runnerId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -6282,6 +6314,7 @@ public class GitHubRunnersManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/runners/{runner_id}/labels")
     public <T> T getRepositoryLabelsList(String owner, String repo, long runnerId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnLabelsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_RUNNERS_PATH + "/" +
                 runnerId + LABELS_PATH), format);
     }
@@ -6807,6 +6840,7 @@ public class GitHubRunnersManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/actions/runners/{runner_id}/labels")
     public <T> T addRepositoryCustomLabels(String owner, String repo, long runnerId, ArrayList<String> labels,
                                            ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("labels", labels.stream().toList());
         return returnLabelsList(sendPostRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_RUNNERS_PATH + "/" +
@@ -7067,6 +7101,7 @@ public class GitHubRunnersManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/actions/runners/{runner_id}/labels")
     public <T> T addRepositoryCustomLabels(String owner, String repo, long runnerId, String[] labels,
                                            ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("labels", Arrays.stream(labels).toList());
         return returnLabelsList(sendPostRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_RUNNERS_PATH + "/" +
@@ -7612,6 +7647,7 @@ public class GitHubRunnersManager extends GitHubManager {
     @RequestPath(method = PUT, path = "/repos/{owner}/{repo}/actions/runners/{runner_id}/labels")
     public <T> T setRepositoryCustomLabels(String owner, String repo, long runnerId, ArrayList<String> labels,
                                            ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("labels", labels.stream().toList());
         return returnLabelsList(sendPutRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_RUNNERS_PATH + "/" +
@@ -7885,6 +7921,7 @@ public class GitHubRunnersManager extends GitHubManager {
     @RequestPath(method = PUT, path = "/repos/{owner}/{repo}/actions/runners/{runner_id}/labels")
     public <T> T setRepositoryCustomLabels(String owner, String repo, long runnerId, String[] labels,
                                            ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("labels", Arrays.stream(labels).toList());
         return returnLabelsList(sendPutRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_RUNNERS_PATH + "/" +
@@ -8143,6 +8180,7 @@ public class GitHubRunnersManager extends GitHubManager {
     @RequestPath(method = PUT, path = "/repos/{owner}/{repo}/actions/runners/{runner_id}/labels")
     public <T> T removeAllRepositoryCustomLabels(String owner, String repo, long runnerId,
                                                  ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnLabelsList(sendDeleteRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_RUNNERS_PATH + "/" +
                 runnerId + LABELS_PATH), format);
     }
@@ -8677,6 +8715,7 @@ public class GitHubRunnersManager extends GitHubManager {
     @RequestPath(method = DELETE, path = "/repos/{owner}/{repo}/actions/runners/{runner_id}/labels/{name}")
     public <T> T removeRepositoryCustomLabel(String owner, String repo, long runnerId, String name,
                                              ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnLabelsList(sendDeleteRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_RUNNERS_PATH + "/" +
                 runnerId + LABELS_PATH + "/" + name), format);
     }
@@ -247,6 +247,7 @@ public class GitHubWorkflowsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/workflows")
     public <T> T getRepositoryWorkflows(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnWorkflowsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_WORKFLOWS_PATH),
                 format);
     }
@@ -410,6 +411,7 @@ public class GitHubWorkflowsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/workflows")
     public <T> T getRepositoryWorkflows(String owner, String repo, Params queryParams,
                                         ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnWorkflowsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_WORKFLOWS_PATH +
                 queryParams.createQueryString()), format);
     }
@@ -562,6 +564,7 @@ public class GitHubWorkflowsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/workflows/{workflow_id}")
     public <T> T getWorkflow(String owner, String repo, long workflowId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnWorkflow(sendGetRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_WORKFLOWS_PATH
                 + "/" + workflowId), format);
     }
@@ -695,6 +698,7 @@ public class GitHubWorkflowsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/workflows/{workflow_id}")
     public <T> T getWorkflow(String owner, String repo, String workflowName, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnWorkflow(sendGetRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_WORKFLOWS_PATH
                 + "/" + workflowName), format);
     }
@@ -858,7 +862,7 @@ public class GitHubWorkflowsManager extends GitHubManager {
         try {
             sendPutRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_WORKFLOWS_PATH + "/" + workflow +
                     DISABLE_PATH, null);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -1187,7 +1191,7 @@ public class GitHubWorkflowsManager extends GitHubManager {
         try {
             sendPostRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_WORKFLOWS_PATH + "/" + workflow +
                     DISPATCHES_PATH, inputs);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -1326,7 +1330,7 @@ public class GitHubWorkflowsManager extends GitHubManager {
         try {
             sendPutRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_WORKFLOWS_PATH + "/" + workflow +
                     ENABLE_PATH, null);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -1632,6 +1636,7 @@ public class GitHubWorkflowsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/workflows/{workflow_id}/timing")
     public <T> T getWorkflowUsage(String owner, String repo, long workflowId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnWorkflowUsage(sendGetRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_WORKFLOWS_PATH + "/"
                 + workflowId + TIMING_PATH), format);
     }
@@ -1781,6 +1786,7 @@ public class GitHubWorkflowsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/workflows/{workflow_id}/timing")
     public <T> T getWorkflowUsage(String owner, String repo, String workflowName, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnWorkflowUsage(sendGetRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_WORKFLOWS_PATH + "/"
                 + workflowName + TIMING_PATH), format);
     }
@@ -4,7 +4,6 @@ import com.tecknobit.apimanager.annotations.RequestPath;
 import com.tecknobit.apimanager.annotations.Returner;
 import com.tecknobit.apimanager.annotations.WrappedRequest;
 import com.tecknobit.apimanager.annotations.Wrapper;
-import com.tecknobit.apimanager.formatters.JsonHelper;
 import com.tecknobit.githubmanager.GitHubManager;
 import com.tecknobit.githubmanager.actions.workflow.jobs.records.Job;
 import com.tecknobit.githubmanager.actions.workflow.jobs.records.JobsList;
@@ -16,7 +15,6 @@ import java.io.File;
 import java.io.IOException;
 
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.GET;
-import static com.tecknobit.apimanager.apis.APIRequest.downloadFile;
 import static com.tecknobit.githubmanager.GitHubManager.ReturnFormat.LIBRARY_OBJECT;
 import static com.tecknobit.githubmanager.actions.workflow.GitHubWorkflowsManager.*;
 
@@ -222,6 +220,7 @@ public class GitHubWorkflowJobsManager extends GitHubManager {
     @Returner
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/jobs/{job_id}")
     public <T> T getWorkflowRunJob(String owner, String repo, long jobId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String jobResponse = sendGetRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_JOBS_PATH + "/" + jobId);
         switch (format) {
             case JSON:
@@ -269,7 +268,7 @@ public class GitHubWorkflowJobsManager extends GitHubManager {
     @WrappedRequest
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/jobs/{job_id}/logs")
     public File downloadJobLogs(Repository repository, long jobId, String pathName, boolean save) throws IOException {
-        return downloadFile(downloadJobLogs(repository.getOwner().getLogin(), repository.getName(), jobId), pathName, save);
+        return downloadJobLogs(repository.getOwner().getLogin(), repository.getName(), jobId, pathName, save);
     }
 
     /**
@@ -309,7 +308,7 @@ public class GitHubWorkflowJobsManager extends GitHubManager {
     @WrappedRequest
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/jobs/{job_id}/logs")
     public File downloadJobLogs(String owner, String repo, long jobId, String pathName, boolean save) throws IOException {
-        return downloadFile(downloadJobLogs(owner, repo, jobId), pathName, save);
+        return downloadFile(REPOS_PATH + owner + "/" + repo + ACTIONS_JOBS_PATH + "/" + jobId + LOGS_PATH, pathName, save);
     }
 
     /**
@@ -382,8 +381,7 @@ public class GitHubWorkflowJobsManager extends GitHubManager {
     @WrappedRequest
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/jobs/{job_id}/logs")
     public String downloadJobLogs(String owner, String repo, long jobId) throws IOException {
-        sendGetRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_JOBS_PATH + "/" + jobId + LOGS_PATH);
-        return new JsonHelper((JSONObject) apiRequest.getJSONResponse()).getString("Location");
+        return sendRedirectRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_JOBS_PATH + "/" + jobId + LOGS_PATH);
     }
 
     /**
@@ -846,6 +844,7 @@ public class GitHubWorkflowJobsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/runs/{run_id}/attempts/{attempt_number}/jobs")
     public <T> T getWorkflowAttemptsJobsList(String owner, String repo, long runId, int attemptNumber,
                                              ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnJobsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_RUNS_PATH + "/" + runId +
                 ATTEMPTS_PATH + attemptNumber + JOBS_PATH), format);
     }
@@ -1025,6 +1024,7 @@ public class GitHubWorkflowJobsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/runs/{run_id}/attempts/{attempt_number}/jobs")
     public <T> T getWorkflowAttemptsJobsList(String owner, String repo, long runId, int attemptNumber,
                                              Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnJobsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_RUNS_PATH + "/" + runId +
                 ATTEMPTS_PATH + attemptNumber + JOBS_PATH + queryParams), format);
     }
@@ -1292,6 +1292,7 @@ public class GitHubWorkflowJobsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/runs/{run_id}/jobs")
     public <T> T getWorkflowJobsList(String owner, String repo, long runId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnJobsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_RUNS_PATH + "/" + runId +
                 JOBS_PATH), format);
     }
@@ -1638,6 +1639,7 @@ public class GitHubWorkflowJobsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/runs/{run_id}/jobs")
     public <T> T getWorkflowJobsList(String owner, String repo, long runId, Params queryParams,
                                      ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnJobsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_RUNS_PATH + "/" + runId +
                 JOBS_PATH + queryParams.createQueryString()), format);
     }
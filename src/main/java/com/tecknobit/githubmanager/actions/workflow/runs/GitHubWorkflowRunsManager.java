@@ -4,13 +4,14 @@ import com.tecknobit.apimanager.annotations.RequestPath;
 import com.tecknobit.apimanager.annotations.Returner;
 import com.tecknobit.apimanager.annotations.WrappedRequest;
 import com.tecknobit.apimanager.annotations.Wrapper;
-import com.tecknobit.apimanager.formatters.JsonHelper;
 import com.tecknobit.githubmanager.GitHubManager;
 import com.tecknobit.githubmanager.actions.workflow.jobs.records.Job;
 import com.tecknobit.githubmanager.actions.workflow.records.Workflow;
 import com.tecknobit.githubmanager.actions.workflow.runs.records.*;
 import com.tecknobit.githubmanager.actions.workflow.runs.records.WorkflowRun.WorkflowRunStatus;
+import com.tecknobit.githubmanager.pagination.GitHubPaginator;
 import com.tecknobit.githubmanager.repositories.repositories.records.Repository;
+import com.tecknobit.githubmanager.transport.records.GitHubHTTPResponse;
 import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
@@ -21,10 +22,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.*;
-import static com.tecknobit.apimanager.apis.APIRequest.downloadFile;
 import static com.tecknobit.githubmanager.GitHubManager.ReturnFormat.LIBRARY_OBJECT;
 import static com.tecknobit.githubmanager.actions.workflow.GitHubWorkflowsManager.*;
 import static com.tecknobit.githubmanager.actions.workflow.jobs.GitHubWorkflowJobsManager.LOGS_PATH;
+import static com.tecknobit.githubmanager.streaming.GitHubJSONStreamReader.readObjectList;
 
 /**
  * The {@code GitHubWorkflowRunsManager} class is useful to manage all GitHub's workflows-runs endpoints
@@ -205,7 +206,7 @@ public class GitHubWorkflowRunsManager extends GitHubManager {
             params.addParam("enable_debug_logging", true);
         try {
             sendPostRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_JOBS_PATH + "/" + jobId + RERUN_PATH, params);
-            if (apiRequest.getResponseStatusCode() != 201) {
+            if (getStatusCode() != 201) {
                 printErrorResponse();
                 return false;
             }
@@ -501,7 +502,7 @@ public class GitHubWorkflowRunsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/runs")
     public <T> T getRepositoryWorkflowRunsList(String owner, String repo, ReturnFormat format) throws IOException {
-        return returnWorkflowRunsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_RUNS_PATH),
+        return sendWorkflowRunsRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_RUNS_PATH,
                 format);
     }
 
@@ -661,8 +662,114 @@ public class GitHubWorkflowRunsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/runs")
     public <T> T getRepositoryWorkflowRunsList(String owner, String repo, Params queryParams,
                                                ReturnFormat format) throws IOException {
-        return returnWorkflowRunsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_RUNS_PATH +
-                queryParams.createQueryString()), format);
+        return sendWorkflowRunsRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_RUNS_PATH +
+                queryParams.createQueryString(), format);
+    }
+
+    /**
+     * Method to iterate all the workflow runs for a repository following all the pages of the list. You can use
+     * parameters to narrow the list of results.
+     * Anyone with read access to the repository can use this endpoint.
+     * If the repository is private you must use an access token with the repo scope -> <b> this step is automatically made
+     * by this library. </b> <br>
+     * {@code "GitHub Apps"} must have the actions:read permission to use this endpoint
+     *
+     * @param repository: the repository to fetch the list
+     * @return all the workflow runs as {@link GitHubPaginator} of {@link WorkflowRun} custom object, the pages are
+     * fetched while the workflow runs are iterated
+     * @apiNote see the official documentation at: <a href="https://docs.github.com/en/rest/actions/workflow-runs#list-workflow-runs-for-a-repository">
+     * List workflow runs for a repository</a>
+     **/
+    @Wrapper
+    @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/runs")
+    public GitHubPaginator<WorkflowRun> getAllRepositoryWorkflowRuns(Repository repository) {
+        return getAllRepositoryWorkflowRuns(repository.getOwner().getLogin(), repository.getName(), null);
+    }
+
+    /**
+     * Method to iterate all the workflow runs for a repository following all the pages of the list. You can use
+     * parameters to narrow the list of results.
+     * Anyone with read access to the repository can use this endpoint.
+     * If the repository is private you must use an access token with the repo scope -> <b> this step is automatically made
+     * by this library. </b> <br>
+     * {@code "GitHub Apps"} must have the actions:read permission to use this endpoint
+     *
+     * @param owner: the account owner of the repository. The name is not case-sensitive
+     * @param repo:  the name of the repository. The name is not case-sensitive
+     * @return all the workflow runs as {@link GitHubPaginator} of {@link WorkflowRun} custom object, the pages are
+     * fetched while the workflow runs are iterated
+     * @apiNote see the official documentation at: <a href="https://docs.github.com/en/rest/actions/workflow-runs#list-workflow-runs-for-a-repository">
+     * List workflow runs for a repository</a>
+     **/
+    @Wrapper
+    @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/runs")
+    public GitHubPaginator<WorkflowRun> getAllRepositoryWorkflowRuns(String owner, String repo) {
+        return getAllRepositoryWorkflowRuns(owner, repo, null);
+    }
+
+    /**
+     * Method to iterate all the workflow runs for a repository following all the pages of the list. You can use
+     * parameters to narrow the list of results.
+     * Anyone with read access to the repository can use this endpoint.
+     * If the repository is private you must use an access token with the repo scope -> <b> this step is automatically made
+     * by this library. </b> <br>
+     * {@code "GitHub Apps"} must have the actions:read permission to use this endpoint
+     *
+     * @param owner:       the account owner of the repository. The name is not case-sensitive
+     * @param repo:        the name of the repository. The name is not case-sensitive
+     * @param queryParams: extra query params not mandatory, keys accepted are:
+     *                     <ul>
+     *                        <li>
+     *                            {@code "actor"} -> returns someone's workflow runs. Use the login for the user who created
+     *                            the push associated with the check suite or workflow run - [string]
+     *                        </li>
+     *                        <li>
+     *                            {@code "branch"} -> returns workflow runs associated with a branch.
+     *                            Use the name of the branch of the {@code "push"} - [string]
+     *                        </li>
+     *                        <li>
+     *                            {@code "event"} -> returns workflow run triggered by the event you specify.
+     *                            For example, {@code "push"}, {@code "pull_request"} or {@code "issues"}.
+     *                            For more information, see Events that trigger workflows. - [string]
+     *                        </li>
+     *                        <li>
+     *                            {@code "status"} -> returns workflow runs with the check run status or conclusion that you specify.
+     *                            For example, a conclusion can be success or a status can be {@code "in_progress"}.
+     *                            Only GitHub can set a status of waiting or requested
+     *                            Can be one of: {@code "completed"}, {@code "action_required"}, {@code "cancelled"}, {@code "failure"},
+     *                            {@code "neutral"}, {@code "skipped"}, {@code "stale"}, {@code "success"}, {@code "timed_out"},
+     *                            {@code "in_progress"}, {@code "queued"}, {@code "requested"}, {@code "waiting"} - [string]
+     *                             - constants available at {@link WorkflowRunStatus}
+     *                        </li>
+     *                        <li>
+     *                            {@code "per_page"} -> the number of results per page (max 100) - [integer, default 100]
+     *                        </li>
+     *                        <li>
+     *                            {@code "created"} -> returns workflow runs created within the given date-time range.
+     *                            For more information on the syntax, see Understanding the search syntax. - [string]
+     *                        </li>
+     *                        <li>
+     *                            {@code "exclude_pull_requests"} -> if true pull requests are omitted from the response
+     *                            (empty array) - [boolean, default false]
+     *                        </li>
+     *                        <li>
+     *                            {@code "check_suite_id"} -> returns workflow runs with the {@code "check_suite_id"}
+     *                            that you specify - [string]
+     *                        </li>
+     *                        <li>
+     *                            {@code "head_sha"} -> only returns workflow runs that are associated with the specified
+     *                            {@code "head_sha"} - [string]
+     *                        </li>
+     *                     </ul>
+     * @return all the workflow runs as {@link GitHubPaginator} of {@link WorkflowRun} custom object, the pages are
+     * fetched while the workflow runs are iterated
+     * @apiNote see the official documentation at: <a href="https://docs.github.com/en/rest/actions/workflow-runs#list-workflow-runs-for-a-repository">
+     * List workflow runs for a repository</a>
+     **/
+    @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/runs")
+    public GitHubPaginator<WorkflowRun> getAllRepositoryWorkflowRuns(String owner, String repo, Params queryParams) {
+        return paginate(REPOS_PATH + owner + "/" + repo + ACTIONS_RUNS_PATH, queryParams,
+                runs -> ((WorkflowRunsList) returnWorkflowRunsList(runs, LIBRARY_OBJECT)).getWorkflowRuns());
     }
 
     /**
@@ -797,6 +904,7 @@ public class GitHubWorkflowRunsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/runs/{run_id}")
     public <T> T getWorkflowRun(String owner, String repo, long runId, boolean excludePullRequests,
                                 ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnWorkflowRun(sendGetRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_RUNS_PATH + "/" + runId +
                 "?exclude_pull_requests=" + excludePullRequests), format);
     }
@@ -873,7 +981,7 @@ public class GitHubWorkflowRunsManager extends GitHubManager {
     public boolean deleteWorkflowRun(String owner, String repo, long runId) {
         try {
             sendDeleteRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_RUNS_PATH + "/" + runId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -1140,6 +1248,7 @@ public class GitHubWorkflowRunsManager extends GitHubManager {
     @Returner
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/runs/{run_id}/approvals")
     public <T> T getReviewsHistory(String owner, String repo, long runId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String reviewsHistoryResponse = sendGetRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_RUNS_PATH + "/"
                 + runId + APPROVALS_PATH);
         try {
@@ -1238,7 +1347,7 @@ public class GitHubWorkflowRunsManager extends GitHubManager {
     public boolean approvePullRequestFork(String owner, String repo, long runId) {
         try {
             sendPostRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_RUNS_PATH + "/" + runId + APPROVE_PATH, null);
-            if (apiRequest.getResponseStatusCode() != 201) {
+            if (getStatusCode() != 201) {
                 printErrorResponse();
                 return false;
             }
@@ -1532,6 +1641,7 @@ public class GitHubWorkflowRunsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/runs/{run_id}/attempts/{attempt_number}")
     public <T> T getWorkflowRunAttempt(String owner, String repo, long runId, int attemptNumber,
                                        boolean excludePullRequests, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params queryParams = new Params();
         queryParams.addParam("exclude_pull_requests", excludePullRequests);
         return returnWorkflowRun(sendGetRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_RUNS_PATH + "/"
@@ -1591,8 +1701,8 @@ public class GitHubWorkflowRunsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/runs/{run_id}/attempts/{attempt_number}/logs")
     public File downloadWorkflowAttemptLogs(Repository repository, WorkflowRun run, int attemptNumber, String pathName,
                                             boolean save) throws IOException {
-        return downloadFile(downloadWorkflowAttemptLogs(repository.getOwner().getLogin(), repository.getName(),
-                run.getId(), attemptNumber), pathName, save);
+        return downloadWorkflowAttemptLogs(repository.getOwner().getLogin(), repository.getName(),
+                run.getId(), attemptNumber, pathName, save);
     }
 
     /**
@@ -1629,8 +1739,8 @@ public class GitHubWorkflowRunsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/runs/{run_id}/attempts/{attempt_number}/logs")
     public File downloadWorkflowAttemptLogs(Repository repository, long runId, int attemptNumber, String pathName,
                                             boolean save) throws IOException {
-        return downloadFile(downloadWorkflowAttemptLogs(repository.getOwner().getLogin(), repository.getName(), runId,
-                attemptNumber), pathName, save);
+        return downloadWorkflowAttemptLogs(repository.getOwner().getLogin(), repository.getName(), runId,
+                attemptNumber, pathName, save);
     }
 
     /**
@@ -1668,7 +1778,7 @@ public class GitHubWorkflowRunsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/runs/{run_id}/attempts/{attempt_number}/logs")
     public File downloadWorkflowAttemptLogs(String owner, String repo, WorkflowRun run, int attemptNumber, String pathName,
                                             boolean save) throws IOException {
-        return downloadFile(downloadWorkflowAttemptLogs(owner, repo, run.getId(), attemptNumber), pathName, save);
+        return downloadWorkflowAttemptLogs(owner, repo, run.getId(), attemptNumber, pathName, save);
     }
 
     /**
@@ -1706,7 +1816,8 @@ public class GitHubWorkflowRunsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/runs/{run_id}/attempts/{attempt_number}/logs")
     public File downloadWorkflowAttemptLogs(String owner, String repo, long runId, int attemptNumber, String pathName,
                                             boolean save) throws IOException {
-        return downloadFile(downloadWorkflowAttemptLogs(owner, repo, runId, attemptNumber), pathName, save);
+        return downloadFile(REPOS_PATH + owner + "/" + repo + ACTIONS_RUNS_PATH + "/" + runId + ATTEMPTS_PATH
+                + attemptNumber + LOGS_PATH, pathName, save);
     }
 
     /**
@@ -1841,9 +1952,8 @@ public class GitHubWorkflowRunsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/runs/{run_id}/attempts/{attempt_number}/logs")
     public String downloadWorkflowAttemptLogs(String owner, String repo, long runId, int attemptNumber) throws IOException {
-        sendGetRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_RUNS_PATH + "/" + runId + ATTEMPTS_PATH +
-                attemptNumber + LOGS_PATH);
-        return new JsonHelper((JSONObject) apiRequest.getJSONResponse()).getString("Location");
+        return sendRedirectRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_RUNS_PATH + "/" + runId + ATTEMPTS_PATH
+                + attemptNumber + LOGS_PATH);
     }
 
     /**
@@ -1918,7 +2028,7 @@ public class GitHubWorkflowRunsManager extends GitHubManager {
     public boolean cancelWorkflowRun(String owner, String repo, long runId) {
         try {
             sendPostRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_RUNS_PATH + "/" + runId + CANCEL_PATH, null);
-            if (apiRequest.getResponseStatusCode() != 202) {
+            if (getStatusCode() != 202) {
                 printErrorResponse();
                 return false;
             }
@@ -1962,8 +2072,7 @@ public class GitHubWorkflowRunsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/runs/{run_id}/logs")
     public File downloadWorkflowLogs(Repository repository, WorkflowRun run, String pathName,
                                      boolean save) throws IOException {
-        return downloadFile(downloadWorkflowLogs(repository.getOwner().getLogin(), repository.getName(), run.getId()),
-                pathName, save);
+        return downloadWorkflowLogs(repository.getOwner().getLogin(), repository.getName(), run.getId(), pathName, save);
     }
 
     /**
@@ -1998,8 +2107,7 @@ public class GitHubWorkflowRunsManager extends GitHubManager {
     @WrappedRequest
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/runs/{run_id}/logs")
     public File downloadWorkflowLogs(Repository repository, long runId, String pathName, boolean save) throws IOException {
-        return downloadFile(downloadWorkflowLogs(repository.getOwner().getLogin(), repository.getName(), runId),
-                pathName, save);
+        return downloadWorkflowLogs(repository.getOwner().getLogin(), repository.getName(), runId, pathName, save);
     }
 
     /**
@@ -2036,7 +2144,7 @@ public class GitHubWorkflowRunsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/runs/{run_id}/logs")
     public File downloadWorkflowLogs(String owner, String repo, WorkflowRun run, String pathName,
                                      boolean save) throws IOException {
-        return downloadFile(downloadWorkflowLogs(owner, repo, run.getId()), pathName, save);
+        return downloadWorkflowLogs(owner, repo, run.getId(), pathName, save);
     }
 
     /**
@@ -2072,7 +2180,7 @@ public class GitHubWorkflowRunsManager extends GitHubManager {
     @WrappedRequest
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/runs/{run_id}/logs")
     public File downloadWorkflowLogs(String owner, String repo, long runId, String pathName, boolean save) throws IOException {
-        return downloadFile(downloadWorkflowLogs(owner, repo, runId), pathName, save);
+        return downloadFile(REPOS_PATH + owner + "/" + repo + ACTIONS_RUNS_PATH + "/" + runId + LOGS_PATH, pathName, save);
     }
 
     /**
@@ -2201,8 +2309,7 @@ public class GitHubWorkflowRunsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/runs/{run_id}/logs")
     public String downloadWorkflowLogs(String owner, String repo, long runId) throws IOException {
-        sendGetRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_RUNS_PATH + "/" + runId + LOGS_PATH);
-        return new JsonHelper((JSONObject) apiRequest.getJSONResponse()).getString("Location");
+        return sendRedirectRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_RUNS_PATH + "/" + runId + LOGS_PATH);
     }
 
     /**
@@ -2277,7 +2384,7 @@ public class GitHubWorkflowRunsManager extends GitHubManager {
     public boolean deleteWorkflowLogs(String owner, String repo, long runId) {
         try {
             sendDeleteRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_RUNS_PATH + "/" + runId + LOGS_PATH);
-            if (apiRequest.getResponseStatusCode() != 202) {
+            if (getStatusCode() != 202) {
                 printErrorResponse();
                 return false;
             }
@@ -2554,6 +2661,7 @@ public class GitHubWorkflowRunsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/runs/{run_id}/pending_deployments")
     public <T> T getWorkflowRunPendingDeployments(String owner, String repo, long runId,
                                                   ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String deploymentsResponse = sendGetRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_RUNS_PATH + "/"
                 + runId + PENDING_DEPLOYMENTS_PATH);
         try {
@@ -2862,6 +2970,7 @@ public class GitHubWorkflowRunsManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/actions/runs/{run_id}/pending_deployments")
     public <T> T reviewPendingDeployments(String owner, String repo, long runId, ArrayList<Long> environmentsIds,
                                           ApprovalState state, String comment, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("environment_ids", environmentsIds.stream().toList());
         payload.addParam("state", state);
@@ -3157,6 +3266,7 @@ public class GitHubWorkflowRunsManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/actions/runs/{run_id}/pending_deployments")
     public <T> T reviewPendingDeployments(String owner, String repo, long runId, Long[] environmentsIds,
                                           ApprovalState state, String comment, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("environment_ids", Arrays.stream(environmentsIds).toList());
         payload.addParam("state", state);
@@ -3273,7 +3383,7 @@ public class GitHubWorkflowRunsManager extends GitHubManager {
             params.addParam("enable_debug_logging", true);
         try {
             sendPostRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_RUNS_PATH + "/" + runId + RERUN_PATH, params);
-            if (apiRequest.getResponseStatusCode() != 201) {
+            if (getStatusCode() != 201) {
                 printErrorResponse();
                 return false;
             }
@@ -3365,7 +3475,7 @@ public class GitHubWorkflowRunsManager extends GitHubManager {
         try {
             sendPostRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_RUNS_PATH + "/" + runId +
                     RERUN_FAILED_JOBS_PATH, params);
-            if (apiRequest.getResponseStatusCode() != 201) {
+            if (getStatusCode() != 201) {
                 printErrorResponse();
                 return false;
             }
@@ -3664,6 +3774,7 @@ public class GitHubWorkflowRunsManager extends GitHubManager {
     @Returner
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/runs/{run_id}/timing")
     public <T> T getWorkflowRunUsage(String owner, String repo, long runId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String workflowRunUsage = sendGetRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_RUNS_PATH + "/"
                 + runId + TIMING_PATH);
         switch (format) {
@@ -4291,8 +4402,8 @@ public class GitHubWorkflowRunsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/workflows/{workflow_id}/runs")
     public <T> T getWorkflowRunsList(String owner, String repo, long workflowId, ReturnFormat format) throws IOException {
-        return returnWorkflowRunsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_WORKFLOWS_PATH
-                + "/" + workflowId + RUNS_PATH), format);
+        return sendWorkflowRunsRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_WORKFLOWS_PATH
+                + "/" + workflowId + RUNS_PATH, format);
     }
 
     /**
@@ -4626,8 +4737,8 @@ public class GitHubWorkflowRunsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/workflows/{workflow_id}/runs")
     public <T> T getWorkflowRunsList(String owner, String repo, long workflowId, Params queryParams,
                                      ReturnFormat format) throws IOException {
-        return returnWorkflowRunsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_WORKFLOWS_PATH
-                + "/" + workflowId + RUNS_PATH + queryParams.createQueryString()), format);
+        return sendWorkflowRunsRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_WORKFLOWS_PATH
+                + "/" + workflowId + RUNS_PATH + queryParams.createQueryString(), format);
     }
 
     /**
@@ -4933,8 +5044,8 @@ public class GitHubWorkflowRunsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/workflows/{workflow_id}/runs")
     public <T> T getWorkflowRunsList(String owner, String repo, String workflowName, ReturnFormat format) throws IOException {
-        return returnWorkflowRunsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_WORKFLOWS_PATH
-                + "/" + workflowName + RUNS_PATH), format);
+        return sendWorkflowRunsRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_WORKFLOWS_PATH
+                + "/" + workflowName + RUNS_PATH, format);
     }
 
     /**
@@ -5098,8 +5209,31 @@ public class GitHubWorkflowRunsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/actions/workflows/{workflow_id}/runs")
     public <T> T getWorkflowRunsList(String owner, String repo, String workflowName, Params queryParams,
                                      ReturnFormat format) throws IOException {
-        return returnWorkflowRunsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_WORKFLOWS_PATH
-                + "/" + workflowName + RUNS_PATH + queryParams.createQueryString()), format);
+        return sendWorkflowRunsRequest(REPOS_PATH + owner + "/" + repo + ACTIONS_WORKFLOWS_PATH
+                + "/" + workflowName + RUNS_PATH + queryParams.createQueryString(), format);
+    }
+
+    /**
+     * Method to send a request to get a workflow runs list, the {@link ReturnFormat#LIBRARY_OBJECT} format of a
+     * successful response is read while the response is received, without storing its body as {@link String}, while
+     * an error response gives a list instantiated with the error
+     *
+     * @param endpoint: endpoint of the request
+     * @param format:   return type formatter -> {@link ReturnFormat}
+     * @return workflow runs list as {@code "format"} defines
+     * @throws IOException when request has been go wrong
+     **/
+    private <T> T sendWorkflowRunsRequest(String endpoint, ReturnFormat format) throws IOException {
+        requireNonStream(format);
+        if (format == LIBRARY_OBJECT) {
+            GitHubHTTPResponse response = sendHTTPRequest(endpoint, readObjectList("workflow_runs", WorkflowRun::new,
+                    (jList, workflowRuns) -> new WorkflowRunsList(jList.optInt("total_count", workflowRuns.size()),
+                            workflowRuns)));
+            if (response.isSuccessful())
+                return response.getContent();
+            return returnWorkflowRunsList(response.getBody(), format);
+        }
+        return returnWorkflowRunsList(sendGetRequest(endpoint), format);
     }
 
     /**
@@ -7,6 +7,7 @@ import com.tecknobit.apimanager.annotations.Wrapper;
 import com.tecknobit.githubmanager.GitHubManager;
 import com.tecknobit.githubmanager.activity.events.records.Event;
 import com.tecknobit.githubmanager.organizations.organizations.records.Organization;
+import com.tecknobit.githubmanager.pagination.GitHubPaginator;
 import com.tecknobit.githubmanager.repositories.repositories.records.Repository;
 import org.json.JSONArray;
 
@@ -15,6 +16,7 @@ import java.util.ArrayList;
 
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.GET;
 import static com.tecknobit.githubmanager.GitHubManager.ReturnFormat.LIBRARY_OBJECT;
+import static com.tecknobit.githubmanager.GitHubManager.ReturnFormat.STREAM;
 
 /**
  * The {@code GitHubEventsManager} class is useful to manage all GitHub's events endpoints
@@ -159,7 +161,7 @@ public class GitHubEventsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/events")
     public <T> T getPublicEvents(ReturnFormat format) throws IOException {
-        return returnEventsList(sendGetRequest(EVENTS_PATH), format);
+        return sendEventsRequest(EVENTS_PATH, format);
     }
 
     /**
@@ -231,7 +233,7 @@ public class GitHubEventsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/events")
     public <T> T getPublicEvents(Params queryParams, ReturnFormat format) throws IOException {
-        return returnEventsList(sendGetRequest(EVENTS_PATH + queryParams.createQueryString()), format);
+        return sendEventsRequest(EVENTS_PATH + queryParams.createQueryString(), format);
     }
 
     /**
@@ -339,7 +341,7 @@ public class GitHubEventsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/networks/{owner}/{repo}/events")
     public <T> T getRepositoriesPublicEvents(String owner, String repo, ReturnFormat format) throws IOException {
-        return returnEventsList(sendGetRequest(NETWORKS_PATH + owner + "/" + repo + "/" + EVENTS_PATH), format);
+        return sendEventsRequest(NETWORKS_PATH + owner + "/" + repo + "/" + EVENTS_PATH, format);
     }
 
     /**
@@ -486,8 +488,8 @@ public class GitHubEventsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/networks/{owner}/{repo}/events")
     public <T> T getRepositoriesPublicEvents(String owner, String repo, Params queryParams,
                                              ReturnFormat format) throws IOException {
-        return returnEventsList(sendGetRequest(NETWORKS_PATH + owner + "/" + repo + "/" + EVENTS_PATH +
-                queryParams.createQueryString()), format);
+        return sendEventsRequest(NETWORKS_PATH + owner + "/" + repo + "/" + EVENTS_PATH +
+                queryParams.createQueryString(), format);
     }
 
     /**
@@ -593,7 +595,7 @@ public class GitHubEventsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/events")
     public <T> T getOrganizationPublicEvents(String org, ReturnFormat format) throws IOException {
-        return returnEventsList(sendGetRequest(ORGS_PATH + org + "/" + EVENTS_PATH), format);
+        return sendEventsRequest(ORGS_PATH + org + "/" + EVENTS_PATH, format);
     }
 
     /**
@@ -735,8 +737,58 @@ public class GitHubEventsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/events")
     public <T> T getOrganizationPublicEvents(String org, Params queryParams, ReturnFormat format) throws IOException {
-        return returnEventsList(sendGetRequest(ORGS_PATH + org + "/" + EVENTS_PATH +
-                queryParams.createQueryString()), format);
+        return sendEventsRequest(ORGS_PATH + org + "/" + EVENTS_PATH +
+                queryParams.createQueryString(), format);
+    }
+
+    /**
+     * Method to iterate all the public events of an organization following all the pages of the list
+     *
+     * @param org: organization from fetch the list
+     * @return all the events as {@link GitHubPaginator} of {@link Event} custom object, use
+     * {@link GitHubPaginator#fetchAll()} to fetch all the pages concurrently
+     * @apiNote see the official documentation at: <a href="https://docs.github.com/en/rest/activity/events#list-public-organization-events">
+     * List public organization events</a>
+     **/
+    @Wrapper
+    @RequestPath(method = GET, path = "/orgs/{org}/events")
+    public GitHubPaginator<Event> getAllOrganizationPublicEvents(Organization org) {
+        return getAllOrganizationPublicEvents(org.getLogin(), null);
+    }
+
+    /**
+     * Method to iterate all the public events of an organization following all the pages of the list
+     *
+     * @param org: organization from fetch the list
+     * @return all the events as {@link GitHubPaginator} of {@link Event} custom object, use
+     * {@link GitHubPaginator#fetchAll()} to fetch all the pages concurrently
+     * @apiNote see the official documentation at: <a href="https://docs.github.com/en/rest/activity/events#list-public-organization-events">
+     * List public organization events</a>
+     **/
+    @Wrapper
+    @RequestPath(method = GET, path = "/orgs/{org}/events")
+    public GitHubPaginator<Event> getAllOrganizationPublicEvents(String org) {
+        return getAllOrganizationPublicEvents(org, null);
+    }
+
+    /**
+     * Method to iterate all the public events of an organization following all the pages of the list
+     *
+     * @param org:         organization from fetch the list
+     * @param queryParams: extra query params not mandatory, keys accepted are:
+     *                     <ul>
+     *                        <li>
+     *                            {@code "per_page"} -> the number of results per page (max 100) - [integer, default 100]
+     *                        </li>
+     *                     </ul>
+     * @return all the events as {@link GitHubPaginator} of {@link Event} custom object, use
+     * {@link GitHubPaginator#fetchAll()} to fetch all the pages concurrently
+     * @apiNote see the official documentation at: <a href="https://docs.github.com/en/rest/activity/events#list-public-organization-events">
+     * List public organization events</a>
+     **/
+    @RequestPath(method = GET, path = "/orgs/{org}/events")
+    public GitHubPaginator<Event> getAllOrganizationPublicEvents(String org, Params queryParams) {
+        return paginate(ORGS_PATH + org + "/" + EVENTS_PATH, queryParams, events -> returnEventsList(events, LIBRARY_OBJECT));
     }
 
     /**
@@ -844,7 +896,7 @@ public class GitHubEventsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/events")
     public <T> T getRepositoryEvents(String owner, String repo, ReturnFormat format) throws IOException {
-        return returnEventsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + "/" + EVENTS_PATH), format);
+        return sendEventsRequest(REPOS_PATH + owner + "/" + repo + "/" + EVENTS_PATH, format);
     }
 
     /**
@@ -989,8 +1041,8 @@ public class GitHubEventsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/events")
     public <T> T getRepositoryEvents(String owner, String repo, Params queryParams,
                                      ReturnFormat format) throws IOException {
-        return returnEventsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + "/" + EVENTS_PATH +
-                queryParams.createQueryString()), format);
+        return sendEventsRequest(REPOS_PATH + owner + "/" + repo + "/" + EVENTS_PATH +
+                queryParams.createQueryString(), format);
     }
 
     /**
@@ -1044,7 +1096,7 @@ public class GitHubEventsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/users/{username}/events")
     public <T> T getAuthenticatedUserEvents(String username, ReturnFormat format) throws IOException {
-        return returnEventsList(sendGetRequest(USERS_PATH + username + "/" + EVENTS_PATH), format);
+        return sendEventsRequest(USERS_PATH + username + "/" + EVENTS_PATH, format);
     }
 
     /**
@@ -1116,8 +1168,8 @@ public class GitHubEventsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/users/{username}/events")
     public <T> T getAuthenticatedUserEvents(String username, Params queryParams, ReturnFormat format) throws IOException {
-        return returnEventsList(sendGetRequest(USERS_PATH + username + "/" + EVENTS_PATH +
-                queryParams.createQueryString()), format);
+        return sendEventsRequest(USERS_PATH + username + "/" + EVENTS_PATH +
+                queryParams.createQueryString(), format);
     }
 
     /**
@@ -1233,7 +1285,7 @@ public class GitHubEventsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/users/{username}/events/orgs/{org}")
     public <T> T getAuthenticatedUserOrganizationEvents(String org, String username,
                                                         ReturnFormat format) throws IOException {
-        return returnEventsList(sendGetRequest(USERS_PATH + username + "/" + EVENTS_PATH + "/" + ORGS_PATH + org),
+        return sendEventsRequest(USERS_PATH + username + "/" + EVENTS_PATH + "/" + ORGS_PATH + org,
                 format);
     }
 
@@ -1388,8 +1440,8 @@ public class GitHubEventsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/users/{username}/events/orgs/{org}")
     public <T> T getAuthenticatedUserOrganizationEvents(String org, String username, Params queryParams,
                                                         ReturnFormat format) throws IOException {
-        return returnEventsList(sendGetRequest(USERS_PATH + username + "/" + EVENTS_PATH + "/" + ORGS_PATH + org
-                + queryParams.createQueryString()), format);
+        return sendEventsRequest(USERS_PATH + username + "/" + EVENTS_PATH + "/" + ORGS_PATH + org
+                + queryParams.createQueryString(), format);
     }
 
     /**
@@ -1441,7 +1493,7 @@ public class GitHubEventsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/users/{username}/events/public")
     public <T> T getUserPublicEvents(String username, ReturnFormat format) throws IOException {
-        return returnEventsList(sendGetRequest(USERS_PATH + username + "/" + EVENTS_PATH + PUBLIC_PATH), format);
+        return sendEventsRequest(USERS_PATH + username + "/" + EVENTS_PATH + PUBLIC_PATH, format);
     }
 
     /**
@@ -1511,8 +1563,8 @@ public class GitHubEventsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/users/{username}/events/public")
     public <T> T getUserPublicEvents(String username, Params queryParams, ReturnFormat format) throws IOException {
-        return returnEventsList(sendGetRequest(USERS_PATH + username + "/" + EVENTS_PATH + PUBLIC_PATH +
-                queryParams.createQueryString()), format);
+        return sendEventsRequest(USERS_PATH + username + "/" + EVENTS_PATH + PUBLIC_PATH +
+                queryParams.createQueryString(), format);
     }
 
     /**
@@ -1568,7 +1620,7 @@ public class GitHubEventsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/users/{username}/received_events")
     public <T> T getAuthenticatedUserReceivedEvents(String username, ReturnFormat format) throws IOException {
-        return returnEventsList(sendGetRequest(USERS_PATH + username + RECEIVED_EVENTS_PATH), format);
+        return sendEventsRequest(USERS_PATH + username + RECEIVED_EVENTS_PATH, format);
     }
 
     /**
@@ -1643,8 +1695,8 @@ public class GitHubEventsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/users/{username}/received_events")
     public <T> T getAuthenticatedUserReceivedEvents(String username, Params queryParams,
                                                     ReturnFormat format) throws IOException {
-        return returnEventsList(sendGetRequest(USERS_PATH + username + RECEIVED_EVENTS_PATH +
-                queryParams.createQueryString()), format);
+        return sendEventsRequest(USERS_PATH + username + RECEIVED_EVENTS_PATH +
+                queryParams.createQueryString(), format);
     }
 
     /**
@@ -1696,7 +1748,7 @@ public class GitHubEventsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/users/{username}/received_events/public")
     public <T> T getUserReceivedPublicEvents(String username, ReturnFormat format) throws IOException {
-        return returnEventsList(sendGetRequest(USERS_PATH + username + RECEIVED_EVENTS_PATH + PUBLIC_PATH),
+        return sendEventsRequest(USERS_PATH + username + RECEIVED_EVENTS_PATH + PUBLIC_PATH,
                 format);
     }
 
@@ -1767,8 +1819,23 @@ public class GitHubEventsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/users/{username}/received_events/public")
     public <T> T getUserReceivedPublicEvents(String username, Params queryParams, ReturnFormat format) throws IOException {
-        return returnEventsList(sendGetRequest(USERS_PATH + username + RECEIVED_EVENTS_PATH + PUBLIC_PATH +
-                queryParams.createQueryString()), format);
+        return sendEventsRequest(USERS_PATH + username + RECEIVED_EVENTS_PATH + PUBLIC_PATH +
+                queryParams.createQueryString(), format);
+    }
+
+    /**
+     * Method to send a request to get a list of events, the {@link ReturnFormat#STREAM} format returns a lazy
+     * {@link java.util.stream.Stream} of {@link Event} over all the pages of the list
+     *
+     * @param endpoint: endpoint of the request
+     * @param format:   return type formatter -> {@link ReturnFormat}
+     * @return events list as {@code "format"} defines
+     * @throws IOException when request has been go wrong
+     **/
+    private <T> T sendEventsRequest(String endpoint, ReturnFormat format) throws IOException {
+        if (format == STREAM)
+            return (T) streamList(endpoint, Event::new);
+        return returnEventsList(sendGetRequest(endpoint), format);
     }
 
     /**
@@ -190,6 +190,7 @@ public class GitHubFeedsManager extends GitHubManager {
     @Returner
     @RequestPath(method = GET, path = "/feeds")
     public <T> T getFeeds(ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String feedsResponse = sendGetRequest(FEEDS_PATH);
         switch (format) {
             case JSON:
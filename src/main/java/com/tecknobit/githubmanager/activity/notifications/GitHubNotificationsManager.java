@@ -145,6 +145,7 @@ public class GitHubNotificationsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/notifications")
     public <T> T getAuthenticatedUserNotifications(ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnNotificationsList(sendGetRequest(NOTIFICATIONS_PATH), format);
     }
 
@@ -243,6 +244,7 @@ public class GitHubNotificationsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/notifications")
     public <T> T getAuthenticatedUserNotifications(Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnNotificationsList(sendGetRequest(NOTIFICATIONS_PATH + queryParams.createQueryString()), format);
     }
 
@@ -300,6 +302,7 @@ public class GitHubNotificationsManager extends GitHubManager {
      **/
     @RequestPath(method = PUT, path = "/notifications")
     public <T> T markNotificationsAsRead(ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnMessage(sendPutRequest(NOTIFICATIONS_PATH, null), format);
     }
 
@@ -382,6 +385,7 @@ public class GitHubNotificationsManager extends GitHubManager {
      **/
     @RequestPath(method = PUT, path = "/notifications")
     public <T> T markNotificationsAsRead(Params bodyParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnMessage(sendPutRequest(NOTIFICATIONS_PATH, bodyParams), format);
     }
 
@@ -435,6 +439,7 @@ public class GitHubNotificationsManager extends GitHubManager {
     @Returner
     @RequestPath(method = GET, path = "/notifications/threads/{thread_id")
     public <T> T getThread(long threadId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String threadResponse = sendGetRequest(NOTIFICATIONS_THREADS_PATH + threadId);
         switch (format) {
             case JSON:
@@ -477,7 +482,7 @@ public class GitHubNotificationsManager extends GitHubManager {
     public boolean markThreadAsRead(long threadId) {
         try {
             sendPatchRequest(NOTIFICATIONS_THREADS_PATH + threadId, null);
-            if (apiRequest.getResponseStatusCode() != 205) {
+            if (getStatusCode() != 205) {
                 printErrorResponse();
                 return false;
             }
@@ -599,6 +604,7 @@ public class GitHubNotificationsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/notifications/threads/{thread_id}/subscription")
     public <T> T getAuthenticatedUserThreadSubscription(long threadId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnThreadSubscription(sendGetRequest(NOTIFICATIONS_THREADS_PATH + threadId + SUBSCRIPTION_PATH),
                 format);
     }
@@ -730,6 +736,7 @@ public class GitHubNotificationsManager extends GitHubManager {
      **/
     @RequestPath(method = PUT, path = "/notifications/threads/{thread_id}/subscription")
     public <T> T setThreadSubscription(long threadId, boolean ignored, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("ignored", ignored);
         return returnThreadSubscription(sendPutRequest(NOTIFICATIONS_THREADS_PATH + threadId + SUBSCRIPTION_PATH,
@@ -787,7 +794,7 @@ public class GitHubNotificationsManager extends GitHubManager {
     public boolean deleteThreadSubscription(long threadId) {
         try {
             sendDeleteRequest(NOTIFICATIONS_THREADS_PATH + threadId + SUBSCRIPTION_PATH);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -903,6 +910,7 @@ public class GitHubNotificationsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/notifications")
     public <T> T getRepositoryNotifications(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnNotificationsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + "/" + NOTIFICATIONS_PATH),
                 format);
     }
@@ -1112,6 +1120,7 @@ public class GitHubNotificationsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/notifications")
     public <T> T getRepositoryNotifications(String owner, String repo, Params queryParams,
                                             ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnNotificationsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + "/" + NOTIFICATIONS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -1259,6 +1268,7 @@ public class GitHubNotificationsManager extends GitHubManager {
      **/
     @RequestPath(method = PUT, path = "/repos/{owner}/{repo}/notifications")
     public <T> T markRepositoryNotificationsAsRead(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnMessage(sendPutRequest(REPOS_PATH + owner + "/" + repo + "/" + NOTIFICATIONS_PATH,
                 null), format);
     }
@@ -1400,6 +1410,7 @@ public class GitHubNotificationsManager extends GitHubManager {
     @RequestPath(method = PUT, path = "/repos/{owner}/{repo}/notifications")
     public <T> T markRepositoryNotificationsAsRead(String owner, String repo, String lastReadAt,
                                                    ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("last_read_at", lastReadAt);
         return returnMessage(sendPutRequest(REPOS_PATH + owner + "/" + repo + "/" + NOTIFICATIONS_PATH,
@@ -4,6 +4,7 @@ import com.tecknobit.apimanager.annotations.RequestPath;
 import com.tecknobit.apimanager.annotations.WrappedRequest;
 import com.tecknobit.apimanager.annotations.Wrapper;
 import com.tecknobit.githubmanager.GitHubManager;
+import com.tecknobit.githubmanager.pagination.GitHubPaginator;
 import com.tecknobit.githubmanager.repositories.repositories.records.Repository;
 import com.tecknobit.githubmanager.users.users.records.User;
 
@@ -205,6 +206,7 @@ public class GitHubStarringManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/stargazers")
     public <T> T getStargazers(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnUsersList(sendGetRequest(REPOS_PATH + owner + "/" + repo + STARGAZERS_PATH), format);
     }
 
@@ -349,10 +351,64 @@ public class GitHubStarringManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/stargazers")
     public <T> T getStargazers(String owner, String repo, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnUsersList(sendGetRequest(REPOS_PATH + owner + "/" + repo + STARGAZERS_PATH
                 + queryParams.createQueryString()), format);
     }
 
+    /**
+     * Method to iterate all the people that have starred the repository following all the pages of the list
+     *
+     * @param repository: the repository from fetch the list
+     * @return all the stargazers as {@link GitHubPaginator} of {@link User} custom object, use
+     * {@link GitHubPaginator#fetchAll()} to fetch all the pages concurrently
+     * @apiNote see the official documentation at:<a href="https://docs.github.com/en/rest/activity/starring#list-stargazers">
+     * List stargazers</a>
+     **/
+    @Wrapper
+    @RequestPath(method = GET, path = "/repos/{owner}/{repo}/stargazers")
+    public GitHubPaginator<User> getAllStargazers(Repository repository) {
+        return getAllStargazers(repository.getOwner().getLogin(), repository.getName(), null);
+    }
+
+    /**
+     * Method to iterate all the people that have starred the repository following all the pages of the list
+     *
+     * @param owner: the account owner of the repository. The name is not case-sensitive
+     * @param repo:  the name of the repository. The name is not case-sensitive
+     * @return all the stargazers as {@link GitHubPaginator} of {@link User} custom object, use
+     * {@link GitHubPaginator#fetchAll()} to fetch all the pages concurrently
+     * @apiNote see the official documentation at:<a href="https://docs.github.com/en/rest/activity/starring#list-stargazers">
+     * List stargazers</a>
+     **/
+    @Wrapper
+    @RequestPath(method = GET, path = "/repos/{owner}/{repo}/stargazers")
+    public GitHubPaginator<User> getAllStargazers(String owner, String repo) {
+        return getAllStargazers(owner, repo, null);
+    }
+
+    /**
+     * Method to iterate all the people that have starred the repository following all the pages of the list
+     *
+     * @param owner:       the account owner of the repository. The name is not case-sensitive
+     * @param repo:        the name of the repository. The name is not case-sensitive
+     * @param queryParams: extra query params not mandatory, keys accepted are:
+     *                     <ul>
+     *                        <li>
+     *                            {@code "per_page"} -> the number of results per page (max 100) - [integer, default 100]
+     *                        </li>
+     *                     </ul>
+     * @return all the stargazers as {@link GitHubPaginator} of {@link User} custom object, use
+     * {@link GitHubPaginator#fetchAll()} to fetch all the pages concurrently
+     * @apiNote see the official documentation at:<a href="https://docs.github.com/en/rest/activity/starring#list-stargazers">
+     * List stargazers</a>
+     **/
+    @RequestPath(method = GET, path = "/repos/{owner}/{repo}/stargazers")
+    public GitHubPaginator<User> getAllStargazers(String owner, String repo, Params queryParams) {
+        return paginate(REPOS_PATH + owner + "/" + repo + STARGAZERS_PATH, queryParams,
+                stargazers -> returnUsersList(stargazers, LIBRARY_OBJECT));
+    }
+
     /**
      * Method to get the repositories the authenticated user has starred <br>
      * No-any params required
@@ -402,6 +458,7 @@ public class GitHubStarringManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/starred")
     public <T> T getAuthenticatedUserStarredRepositories(ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositoriesList(sendGetRequest(USER_STARRED_PATH), format);
     }
 
@@ -488,6 +545,7 @@ public class GitHubStarringManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/starred")
     public <T> T getAuthenticatedUserStarredRepositories(Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositoriesList(sendGetRequest(USER_STARRED_PATH + queryParams.createQueryString()), format);
     }
 
@@ -518,7 +576,7 @@ public class GitHubStarringManager extends GitHubManager {
     public boolean checkStarredRepository(String owner, String repo) {
         try {
             sendGetRequest(USER_STARRED_PATH + "/" + owner + "/" + repo);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -556,7 +614,7 @@ public class GitHubStarringManager extends GitHubManager {
     public boolean starRepository(String owner, String repo) {
         try {
             sendPutRequest(USER_STARRED_PATH + "/" + owner + "/" + repo, null);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -594,7 +652,7 @@ public class GitHubStarringManager extends GitHubManager {
     public boolean unstarRepository(String owner, String repo) {
         try {
             sendDeleteRequest(USER_STARRED_PATH + "/" + owner + "/" + repo);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -654,6 +712,7 @@ public class GitHubStarringManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/users/{username}/starred")
     public <T> T getStarredRepositories(String username, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositoriesList(sendGetRequest(USERS_PATH + username + STARRED_PATH), format);
     }
 
@@ -742,6 +801,7 @@ public class GitHubStarringManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/users/{username}/starred")
     public <T> T getStarredRepositories(String username, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositoriesList(sendGetRequest(USERS_PATH + username + STARRED_PATH +
                 queryParams.createQueryString()), format);
     }
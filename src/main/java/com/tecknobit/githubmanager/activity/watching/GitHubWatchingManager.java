@@ -208,6 +208,7 @@ public class GitHubWatchingManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/subscribers")
     public <T> T getWatchers(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnUsersList(sendGetRequest(REPOS_PATH + owner + "/" + repo + SUBSCRIBERS_PATH), format);
     }
 
@@ -352,6 +353,7 @@ public class GitHubWatchingManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/subscribers")
     public <T> T getWatchers(String owner, String repo, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnUsersList(sendGetRequest(REPOS_PATH + owner + "/" + repo + SUBSCRIBERS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -461,6 +463,7 @@ public class GitHubWatchingManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/subscription")
     public <T> T getRepositorySubscription(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositorySubscription(sendGetRequest(REPOS_PATH + owner + "/" + repo + SUBSCRIPTION_PATH),
                 format);
     }
@@ -582,6 +585,7 @@ public class GitHubWatchingManager extends GitHubManager {
      **/
     @RequestPath(method = PUT, path = "/repos/{owner}/{repo}/subscription")
     public <T> T setRepositorySubscription(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositorySubscription(sendPutRequest(REPOS_PATH + owner + "/" + repo + SUBSCRIPTION_PATH,
                 null), format);
     }
@@ -749,6 +753,7 @@ public class GitHubWatchingManager extends GitHubManager {
     @RequestPath(method = PUT, path = "/repos/{owner}/{repo}/subscription")
     public <T> T setRepositorySubscription(String owner, String repo, Params bodyParams,
                                            ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositorySubscription(sendPutRequest(REPOS_PATH + owner + "/" + repo + SUBSCRIPTION_PATH,
                 bodyParams), format);
     }
@@ -805,7 +810,7 @@ public class GitHubWatchingManager extends GitHubManager {
     public boolean deleteRepositorySubscription(String owner, String repo) {
         try {
             sendDeleteRequest(REPOS_PATH + owner + "/" + repo + SUBSCRIPTION_PATH);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -864,6 +869,7 @@ public class GitHubWatchingManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/subscriptions")
     public <T> T getAuthenticatedUserRepositoriesWatched(ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositoriesList(sendGetRequest(USER_SUBSCRIPTIONS_PATH), format);
     }
 
@@ -932,6 +938,7 @@ public class GitHubWatchingManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/subscriptions")
     public <T> T getAuthenticatedUserRepositoriesWatched(Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositoriesList(sendGetRequest(USER_SUBSCRIPTIONS_PATH + queryParams.createQueryString()),
                 format);
     }
@@ -985,6 +992,7 @@ public class GitHubWatchingManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/users/{username}/subscriptions")
     public <T> T getUserRepositoriesWatched(String username, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositoriesList(sendGetRequest(USERS_PATH + username + SUBSCRIPTIONS_PATH), format);
     }
 
@@ -1055,6 +1063,7 @@ public class GitHubWatchingManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/users/{username}/subscriptions")
     public <T> T getUserRepositoriesWatched(String username, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositoriesList(sendGetRequest(USERS_PATH + username + SUBSCRIPTIONS_PATH +
                 queryParams.createQueryString()), format);
     }
@@ -187,6 +187,7 @@ public class GitHubAppsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/app")
     public <T> T getAuthenticatedApp(ReturnFormat format) throws Exception {
+        requireNonStream(format);
         return returnGitHubApp(sendGetRequest(APP_PATH), format);
     }
 
@@ -243,6 +244,7 @@ public class GitHubAppsManager extends GitHubManager {
      **/
     @RequestPath(method = POST, path = "/app-manifests/{code}/conversions")
     public <T> T createAuthenticatedAppFromManifest(String code, ReturnFormat format) throws Exception {
+        requireNonStream(format);
         return returnGitHubApp(sendPostRequest(APP_MANIFESTS_PATH + code + CONVERSIONS_PATH, null),
                 format);
     }
@@ -299,6 +301,7 @@ public class GitHubAppsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/app/installations")
     public <T> T getInstallationsList(ReturnFormat format) throws Exception {
+        requireNonStream(format);
         return returnInstallationsList(sendGetRequest(APP_INSTALLATIONS_PATH), format);
     }
 
@@ -385,6 +388,7 @@ public class GitHubAppsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/app/installations")
     public <T> T getInstallationsList(Params queryParams, ReturnFormat format) throws Exception {
+        requireNonStream(format);
         return returnInstallationsList(sendGetRequest(APP_INSTALLATIONS_PATH + queryParams.createQueryString()),
                 format);
     }
@@ -463,6 +467,7 @@ public class GitHubAppsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/app/installations/{installation_id}")
     public <T> T getInstallation(long installationId, ReturnFormat format) throws Exception {
+        requireNonStream(format);
         return returnInstallation(sendGetRequest(APP_INSTALLATIONS_PATH + "/" + installationId), format);
     }
 
@@ -498,7 +503,7 @@ public class GitHubAppsManager extends GitHubManager {
     public boolean deleteInstallation(long installationId) {
         try {
             sendDeleteRequest(APP_INSTALLATIONS_PATH + "/" + installationId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -707,6 +712,7 @@ public class GitHubAppsManager extends GitHubManager {
     @Returner
     @RequestPath(method = POST, path = "/app/installations/{installation_id}/access_tokens")
     public <T> T createInstallationAccessToken(long installationId, Params bodyParams, ReturnFormat format) throws Exception {
+        requireNonStream(format);
         String installationTokenResponse = sendPostRequest(APP_INSTALLATIONS_PATH + "/" + installationId +
                 ACCESS_TOKENS_PATH, bodyParams);
         switch (format) {
@@ -751,7 +757,7 @@ public class GitHubAppsManager extends GitHubManager {
     public boolean suspendAppInstallation(long installationId) {
         try {
             sendPutRequest(APP_INSTALLATIONS_PATH + "/" + installationId + SUSPENDED_PATH, null);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -790,7 +796,7 @@ public class GitHubAppsManager extends GitHubManager {
     public boolean unsuspendAppInstallation(long installationId) {
         try {
             sendDeleteRequest(APP_INSTALLATIONS_PATH + "/" + installationId + SUSPENDED_PATH);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -860,6 +866,7 @@ public class GitHubAppsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/apps/{app_slug}")
     public <T> T getApp(String appSlug, ReturnFormat format) throws Exception {
+        requireNonStream(format);
         return returnGitHubApp(sendGetRequest(APPS_PATH + appSlug), format);
     }
 
@@ -989,6 +996,7 @@ public class GitHubAppsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/installation")
     public <T> T getOrganizationInstallation(String org, ReturnFormat format) throws Exception {
+        requireNonStream(format);
         return returnInstallation(sendGetRequest(ORGS_PATH + org + INSTALLATION_PATH), format);
     }
 
@@ -1109,6 +1117,7 @@ public class GitHubAppsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/installation")
     public <T> T getRepositoryInstallation(String owner, String repo, ReturnFormat format) throws Exception {
+        requireNonStream(format);
         return returnInstallation(sendGetRequest(REPOS_PATH + owner + "/" + repo + INSTALLATION_PATH), format);
     }
 
@@ -1163,6 +1172,7 @@ public class GitHubAppsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/users/{username}/installation")
     public <T> T getUserInstallation(String username, ReturnFormat format) throws Exception {
+        requireNonStream(format);
         return returnInstallation(sendGetRequest(USERS_PATH + username + INSTALLATION_PATH), format);
     }
 
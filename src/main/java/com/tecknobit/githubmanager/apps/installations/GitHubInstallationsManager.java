@@ -156,6 +156,7 @@ public class GitHubInstallationsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/installation/repositories")
     public <T> T getRepositoriesAppAccessible(ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositoriesList(sendGetRequest(INSTALLATION_REPOSITORIES_PATH), format);
     }
 
@@ -226,6 +227,7 @@ public class GitHubInstallationsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/installation/repositories")
     public <T> T getRepositoriesAppAccessible(Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositoriesList(sendGetRequest(INSTALLATION_REPOSITORIES_PATH + queryParams.createQueryString()),
                 format);
     }
@@ -245,7 +247,7 @@ public class GitHubInstallationsManager extends GitHubManager {
     public boolean revokeInstallationAccessToken() {
         try {
             sendDeleteRequest(INSTALLATION_TOKEN_PATH);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -314,6 +316,7 @@ public class GitHubInstallationsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/installations")
     public <T> T getAppInstallationsTokenAccessible(ReturnFormat format) throws Exception {
+        requireNonStream(format);
         return returnInstallationsList(sendGetRequest(USER_INSTALLATIONS_PATH), format);
     }
 
@@ -392,6 +395,7 @@ public class GitHubInstallationsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/installations")
     public <T> T getAppInstallationsTokenAccessible(Params queryParams, ReturnFormat format) throws Exception {
+        requireNonStream(format);
         return returnInstallationsList(sendGetRequest(USER_INSTALLATIONS_PATH + queryParams.createQueryString()),
                 format);
     }
@@ -515,6 +519,7 @@ public class GitHubInstallationsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/installations/{installation_id}/repositories")
     public <T> T getRepositoriesUserTokenAccessible(long installationId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositoriesList(sendGetRequest(USER_INSTALLATIONS_PATH + "/" + installationId +
                 REPOSITORIES_PATH), format);
     }
@@ -677,6 +682,7 @@ public class GitHubInstallationsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/user/installations/{installation_id}/repositories")
     public <T> T getRepositoriesUserTokenAccessible(long installationId, Params queryParams,
                                                     ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositoriesList(sendGetRequest(USER_INSTALLATIONS_PATH + "/" + installationId +
                 REPOSITORIES_PATH), format);
     }
@@ -744,7 +750,7 @@ public class GitHubInstallationsManager extends GitHubManager {
         try {
             sendPutRequest(USER_INSTALLATIONS_PATH + "/" + installationId + REPOSITORIES_PATH + "/" +
                     repositoryId, null);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -818,7 +824,7 @@ public class GitHubInstallationsManager extends GitHubManager {
         try {
             sendDeleteRequest(USER_INSTALLATIONS_PATH + "/" + installationId + REPOSITORIES_PATH + "/" +
                     repositoryId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -233,6 +233,7 @@ public class GitHubMarketplaceManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/marketplace_listing/accounts/{account_id}")
     public <T> T getSubscriptionPlan(long accountId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String subscriptionPlanResponse = sendGetRequest(MARKETPLACE_LISTING_ACCOUNTS_PATH + accountId);
         switch (format) {
             case JSON:
@@ -296,6 +297,7 @@ public class GitHubMarketplaceManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/marketplace_listing/plans")
     public <T> T getPlans(ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnPlansList(sendGetRequest(MARKETPLACE_LISTING_PLANS_PATH), format);
     }
 
@@ -368,6 +370,7 @@ public class GitHubMarketplaceManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/marketplace_listing/plans")
     public <T> T getPlans(Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnPlansList(sendGetRequest(MARKETPLACE_LISTING_PLANS_PATH + queryParams.createQueryString()),
                 format);
     }
@@ -518,6 +521,7 @@ public class GitHubMarketplaceManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/marketplace_listing/plans/{plan_id}/accounts")
     public <T> T getAccountsForPlan(long planId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnAccountsList(sendGetRequest(MARKETPLACE_LISTING_PLANS_PATH + "/" + planId + "/" +
                 ACCOUNTS_PATH), format);
     }
@@ -718,6 +722,7 @@ public class GitHubMarketplaceManager extends GitHubManager {
     @Wrapper
     @RequestPath(method = GET, path = "/marketplace_listing/plans/{plan_id}/accounts")
     public <T> T getAccountsForPlan(long planId, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnAccountsList(sendGetRequest(MARKETPLACE_LISTING_PLANS_PATH + "/" + planId + "/" +
                 ACCOUNTS_PATH + queryParams.createQueryString()), format);
     }
@@ -797,6 +802,7 @@ public class GitHubMarketplaceManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/marketplace_purchases")
     public <T> T getAuthenticatedUserSubscriptions(ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnSubscriptionsList(sendGetRequest(USER_MARKETPLACE_PURCHASES_PATH), format);
     }
 
@@ -869,6 +875,7 @@ public class GitHubMarketplaceManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/marketplace_purchases")
     public <T> T getAuthenticatedUserSubscriptions(Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnSubscriptionsList(sendGetRequest(USER_MARKETPLACE_PURCHASES_PATH +
                 queryParams.createQueryString()), format);
     }
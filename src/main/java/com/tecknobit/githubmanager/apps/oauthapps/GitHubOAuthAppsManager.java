@@ -142,7 +142,7 @@ public class GitHubOAuthAppsManager extends GitHubManager {
      **/
     @RequestPath(method = DELETE, path = "/applications/{client_id}/grant")
     public boolean deleteAppAuthorization(String clientId, String accessToken) {
-        return sendDeletePayloadedRequest(BASE_ENDPOINT + APPLICATIONS_PATH + clientId + GRANT_PATH, accessToken);
+        return sendDeletePayloadedRequest(APPLICATIONS_PATH + clientId + GRANT_PATH, accessToken);
     }
 
     /**
@@ -262,6 +262,7 @@ public class GitHubOAuthAppsManager extends GitHubManager {
      **/
     @RequestPath(method = POST, path = "/applications/{client_id}/token")
     public <T> T checkToken(String clientId, String accessToken, ReturnFormat format) throws Exception {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("access_token", accessToken);
         return returnScopedAccessToken(sendPostRequest(APPLICATIONS_PATH + clientId + TOKEN_PATH, payload),
@@ -385,6 +386,7 @@ public class GitHubOAuthAppsManager extends GitHubManager {
      **/
     @RequestPath(method = PATCH, path = "/applications/{client_id}/token")
     public <T> T resetToken(String clientId, String accessToken, ReturnFormat format) throws Exception {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("access_token", accessToken);
         return returnScopedAccessToken(sendPatchRequest(APPLICATIONS_PATH + clientId + TOKEN_PATH, payload),
@@ -556,6 +558,7 @@ public class GitHubOAuthAppsManager extends GitHubManager {
     @RequestPath(method = POST, path = "/applications/{client_id}/token/scoped")
     public <T> T createScopedAccessToken(String clientId, String accessToken, Params bodyParams,
                                          ReturnFormat format) throws Exception {
+        requireNonStream(format);
         bodyParams.addParam("access_token", accessToken);
         return returnScopedAccessToken(sendPostRequest(APPLICATIONS_PATH + clientId + TOKEN_PATH + SCOPED_PATH,
                 bodyParams), format);
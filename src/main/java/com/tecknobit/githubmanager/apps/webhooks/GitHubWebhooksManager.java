@@ -159,6 +159,7 @@ public class GitHubWebhooksManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/app/hook/config")
     public <T> T getAppWebhookConfiguration(ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnWebhook(sendGetRequest(APP_HOOK_CONFIG_PATH), format);
     }
 
@@ -255,6 +256,7 @@ public class GitHubWebhooksManager extends GitHubManager {
      **/
     @RequestPath(method = PATCH, path = "/app/hook/config")
     public <T> T updateAppWebhookConfiguration(Params bodyParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnWebhook(sendPatchRequest(APP_HOOK_CONFIG_PATH, bodyParams), format);
     }
 
@@ -308,6 +310,7 @@ public class GitHubWebhooksManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/app/hook/deliveries")
     public <T> T getAppWebhookDeliveries(ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnDeliveriesList(sendGetRequest(APP_HOOK_DELIVERIES_PATH), format);
     }
 
@@ -388,6 +391,7 @@ public class GitHubWebhooksManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/app/hook/deliveries")
     public <T> T getAppWebhookDeliveries(Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnDeliveriesList(sendGetRequest(APP_HOOK_DELIVERIES_PATH + queryParams.createQueryString()),
                 format);
     }
@@ -443,6 +447,7 @@ public class GitHubWebhooksManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/app/hook/deliveries/{delivery_id}")
     public <T> T getAppWebhookDelivery(long deliveryId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnDelivery(sendGetRequest(APP_HOOK_DELIVERIES_PATH + "/" + deliveryId), format);
     }
 
@@ -474,7 +479,7 @@ public class GitHubWebhooksManager extends GitHubManager {
     public boolean redeliverAppWebhookDelivery(long deliveryId) {
         try {
             sendPostRequest(APP_HOOK_DELIVERIES_PATH + "/" + deliveryId + ATTEMPTS_QUERY_PATH, null);
-            if (apiRequest.getResponseStatusCode() != 202) {
+            if (getStatusCode() != 202) {
                 printErrorResponse();
                 return false;
             }
@@ -0,0 +1,25 @@
+package com.tecknobit.githubmanager.auth;
+
+import java.io.IOException;
+
+/**
+ * The {@code GitHubCredentials} interface is useful to give the authorization of an identity to use with the
+ * requests to {@code "GitHub"}, as a personal access token or an installation of a {@code "GitHub App"} <br>
+ * The implementations must be thread-safe, because the same credentials can be used by different requests at the
+ * same time
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see GitHubTokenCredentials
+ **/
+public interface GitHubCredentials {
+
+    /**
+     * Method to get the value of the {@code "authorization"} header for a request <br>
+     * No-any params required
+     *
+     * @return value of the {@code "authorization"} header as {@link String}
+     * @throws IOException when the authorization cannot be created, for example when a token must be refreshed
+     **/
+    String getAuthorization() throws IOException;
+
+}
@@ -0,0 +1,247 @@
+package com.tecknobit.githubmanager.auth;
+
+import com.tecknobit.githubmanager.apps.apps.records.InstallationAccessToken;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.*;
+
+import static com.tecknobit.githubmanager.auth.GitHubAppCredentials.minter;
+import static com.tecknobit.githubmanager.auth.GitHubAppCredentials.refresher;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * The {@code GitHubInstallationCredentials} class is useful to authenticate as an installation of a
+ * {@code "GitHub App"} with an installation access token <br>
+ * The token is created in background as soon as the credentials are created and is refreshed in background before
+ * its expiration, so the requests do not wait the creation of a token except when the first one is not ready yet <br>
+ * Each creation of a token is bounded by {@link #MINT_TIMEOUT} and runs on its own thread, so a creation which hangs
+ * does not stall the refreshes of the other installations; the refreshes go on until the credentials are closed
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote see the official documentation at: <a href="https://docs.github.com/en/apps/creating-github-apps/authenticating-with-a-github-app/authenticating-as-a-github-app-installation">
+ * Authenticating as a GitHub App installation</a>
+ * @see GitHubCredentials
+ **/
+public class GitHubInstallationCredentials implements GitHubCredentials, Closeable {
+
+    /**
+     * {@code MINT_TIMEOUT} maximum milliseconds to wait the creation of a token
+     **/
+    public static final long MINT_TIMEOUT = 60000;
+
+    /**
+     * {@code REFRESH_MARGIN} milliseconds before the expiration of a token when a new one is created in background
+     **/
+    private static final long REFRESH_MARGIN = 300000;
+
+    /**
+     * {@code EXPIRATION_MARGIN} milliseconds before the expiration of a token when it is not used anymore
+     **/
+    private static final long EXPIRATION_MARGIN = 30000;
+
+    /**
+     * {@code RETRY_DELAY} milliseconds to wait before retrying the refresh of a token when it has been go wrong
+     **/
+    private static final long RETRY_DELAY = 30000;
+
+    /**
+     * {@code app} credentials of the app used to create the tokens
+     **/
+    protected final GitHubAppCredentials app;
+
+    /**
+     * {@code installationId} identifier of the installation
+     **/
+    protected final long installationId;
+
+    /**
+     * {@code token} the current installation access token, {@code "null"} if not created yet
+     **/
+    private volatile String token;
+
+    /**
+     * {@code expiration} time in milliseconds when the current token expires
+     **/
+    private volatile long expiration;
+
+    /**
+     * {@code refreshing} the creation of the token in progress, {@code "null"} if no token is being created
+     **/
+    private CompletableFuture<String> refreshing;
+
+    /**
+     * {@code scheduledRefresh} the next refresh of the token, {@code "null"} if no refresh is scheduled
+     **/
+    private ScheduledFuture<?> scheduledRefresh;
+
+    /**
+     * {@code closed} whether the credentials have been closed
+     **/
+    private volatile boolean closed;
+
+    /**
+     * Constructor to init a {@link GitHubInstallationCredentials}
+     *
+     * @param app:            credentials of the app used to create the tokens
+     * @param installationId: identifier of the installation
+     * @apiNote use {@link GitHubAppCredentials#getInstallationCredentials(long)} to share the same instance, and
+     * so the same token, for the same installation
+     **/
+    public GitHubInstallationCredentials(GitHubAppCredentials app, long installationId) {
+        if (app == null)
+            throw new IllegalArgumentException("The app credentials cannot be null");
+        this.app = app;
+        this.installationId = installationId;
+        refresh();
+    }
+
+    /**
+     * Method to get the value of the {@code "authorization"} header for a request as the installation <br>
+     * No-any params required
+     *
+     * @return value of the {@code "authorization"} header as {@link String}
+     * @throws IOException when the token is not valid anymore and a new one cannot be created, or the credentials
+     *                     have been closed
+     **/
+    @Override
+    public String getAuthorization() throws IOException {
+        if (closed)
+            throw new IOException("The credentials of the installation " + installationId + " have been closed");
+        String sToken = token;
+        if (sToken != null && System.currentTimeMillis() < expiration - EXPIRATION_MARGIN)
+            return "token " + sToken;
+        try {
+            return "token " + refresh().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while creating the token of the installation " + installationId);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException)
+                throw (IOException) e.getCause();
+            if (e.getCause() instanceof TimeoutException) {
+                throw new IOException("The creation of the token of the installation " + installationId
+                        + " has not been completed in " + MINT_TIMEOUT + " ms", e.getCause());
+            }
+            throw new IOException("Cannot create the token of the installation " + installationId, e.getCause());
+        }
+    }
+
+    /**
+     * Method to create a new token in background, when a token is already being created that creation is returned <br>
+     * No-any params required
+     *
+     * @return the creation of the token as {@link CompletableFuture} of {@link String}
+     **/
+    public synchronized CompletableFuture<String> refresh() {
+        if (closed) {
+            return CompletableFuture.failedFuture(new IOException("The credentials of the installation "
+                    + installationId + " have been closed"));
+        }
+        if (refreshing == null || refreshing.isDone()) {
+            CompletableFuture<String> sRefreshing = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return createToken();
+                } catch (IOException e) {
+                    throw new CompletionException(e);
+                }
+            }, minter).orTimeout(MINT_TIMEOUT, MILLISECONDS);
+            refreshing = sRefreshing;
+            sRefreshing.whenComplete((sToken, e) -> {
+                if (e == null)
+                    scheduleRefresh(Math.max(RETRY_DELAY, expiration - REFRESH_MARGIN - System.currentTimeMillis()));
+                else if (token != null && System.currentTimeMillis() < expiration - EXPIRATION_MARGIN)
+                    scheduleRefresh(RETRY_DELAY);
+            });
+        }
+        return refreshing;
+    }
+
+    /**
+     * Method to schedule the next refresh of the token
+     *
+     * @param delay: milliseconds to wait before the refresh
+     **/
+    private synchronized void scheduleRefresh(long delay) {
+        if (closed)
+            return;
+        if (scheduledRefresh != null)
+            scheduledRefresh.cancel(false);
+        scheduledRefresh = refresher.schedule(this::refresh, delay, MILLISECONDS);
+    }
+
+    /**
+     * Method to create a new token <br>
+     * No-any params required
+     *
+     * @return the new token as {@link String}
+     * @throws IOException when the token cannot be created
+     **/
+    private String createToken() throws IOException {
+        InstallationAccessToken accessToken = app.createInstallationAccessToken(installationId);
+        long sExpiration;
+        try {
+            sExpiration = Instant.parse(accessToken.getExpiresAt()).toEpochMilli();
+        } catch (DateTimeParseException | NullPointerException e) {
+            // the installation tokens expire after one hour
+            sExpiration = System.currentTimeMillis() + 3600000;
+        }
+        expiration = sExpiration;
+        token = accessToken.getToken();
+        return token;
+    }
+
+    /**
+     * Method to close the credentials, cancelling the refresh of the token and removing them from the credentials of
+     * the app, the token already created is not revoked <br>
+     * No-any params required
+     **/
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed)
+                return;
+            closed = true;
+            if (scheduledRefresh != null)
+                scheduledRefresh.cancel(false);
+            scheduledRefresh = null;
+            if (refreshing != null)
+                refreshing.cancel(false);
+        }
+        app.removeInstallationCredentials(this);
+    }
+
+    /**
+     * Method to get whether the credentials have been closed <br>
+     * No-any params required
+     *
+     * @return whether the credentials have been closed as boolean
+     **/
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Method to get {@link #installationId} instance <br>
+     * No-any params required
+     *
+     * @return {@link #installationId} instance as long
+     **/
+    public long getInstallationId() {
+        return installationId;
+    }
+
+    /**
+     * Method to get {@link #app} instance <br>
+     * No-any params required
+     *
+     * @return {@link #app} instance as {@link GitHubAppCredentials}
+     **/
+    public GitHubAppCredentials getApp() {
+        return app;
+    }
+
+}
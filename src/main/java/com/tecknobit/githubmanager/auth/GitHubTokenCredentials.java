@@ -0,0 +1,51 @@
+package com.tecknobit.githubmanager.auth;
+
+/**
+ * The {@code GitHubTokenCredentials} class is useful to use a personal access token as {@link GitHubCredentials}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote see the official documentation at: <a href="https://docs.github.com/en/authentication/keeping-your-account-and-data-secure/creating-a-personal-access-token">
+ * Creating a personal access token</a>
+ * @see GitHubCredentials
+ **/
+public final class GitHubTokenCredentials implements GitHubCredentials {
+
+    /**
+     * {@code accessToken} personal access token for authentication to {@code "GitHub"}
+     **/
+    private final String accessToken;
+
+    /**
+     * Constructor to init a {@link GitHubTokenCredentials}
+     *
+     * @param accessToken: personal access token for authentication to {@code "GitHub"}
+     **/
+    public GitHubTokenCredentials(String accessToken) {
+        if (accessToken == null || accessToken.isEmpty())
+            throw new IllegalArgumentException("The access token cannot be null or empty");
+        this.accessToken = accessToken;
+    }
+
+    /**
+     * Method to get the value of the {@code "authorization"} header for a request <br>
+     * No-any params required
+     *
+     * @return value of the {@code "authorization"} header as {@link String}
+     **/
+    @Override
+    public String getAuthorization() {
+        return "token " + accessToken;
+    }
+
+    /**
+     * Returns a string representation of the object, without the access token <br>
+     * No-any params required
+     *
+     * @return a string representation of the object as {@link String}
+     */
+    @Override
+    public String toString() {
+        return "GitHubTokenCredentials{accessToken=***" + accessToken.substring(Math.max(0, accessToken.length() - 4)) + "}";
+    }
+
+}
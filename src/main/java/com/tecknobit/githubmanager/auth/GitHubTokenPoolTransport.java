@@ -0,0 +1,387 @@
+package com.tecknobit.githubmanager.auth;
+
+import com.tecknobit.githubmanager.GitHubManager;
+import com.tecknobit.githubmanager.ratelimit.records.RateOverview.RateLimit;
+import com.tecknobit.githubmanager.transport.GitHubBodyReader;
+import com.tecknobit.githubmanager.transport.GitHubTransport;
+import com.tecknobit.githubmanager.transport.records.GitHubHTTPRequest;
+import com.tecknobit.githubmanager.transport.records.GitHubHTTPResponse;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.GET;
+import static com.tecknobit.githubmanager.ratelimit.GitHubRateLimitGovernor.resolveResource;
+
+/**
+ * The {@code GitHubTokenPoolTransport} class is a {@link GitHubTransport} which spreads the read requests across a
+ * pool of {@link GitHubCredentials}, as several personal access tokens or several installations of a
+ * {@code "GitHub App"} <br>
+ * The rate limit of each credentials is tracked for each resource from the {@code "X-RateLimit-*"} headers of the
+ * responses and each read request is sent with the credentials that have more requests remaining, so the depleted
+ * credentials are skipped until their reset <br>
+ * Only the {@code "GET"} requests to the public resources whose result does not depend on the identity, as the
+ * repositories, the users and the searches, sent to the host of the {@link #getBaseEndpoint()} with an access token are
+ * spread across the pool; all the other requests, as the writes, the requests about the authenticated user, the
+ * requests authenticated as a {@code "GitHub App"} and the requests to the other hosts, as the storages of the
+ * downloads, are sent as they are
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote to pace the requests of each credentials, wrap a
+ * {@link com.tecknobit.githubmanager.ratelimit.GitHubRateLimitGovernor} with this transport, so the governor receives
+ * the authorization chosen by the pool
+ * @see GitHubTransport
+ **/
+public class GitHubTokenPoolTransport implements GitHubTransport {
+
+    /**
+     * {@code POOLABLE_PATHS} pattern of the paths, relative to the base endpoint, of the resources whose result does
+     * not depend on the identity
+     **/
+    private static final Pattern POOLABLE_PATHS = Pattern.compile("^(repos/[^/]+/[^/]+(/.*)?"
+            + "|users/[^/]+(/(repos|followers|following|gists|orgs|starred|subscriptions|events/public"
+            + "|received_events/public))?|orgs/[^/]+(/repos)?|search/.+|licenses(/.*)?|gitignore/templates(/.*)?"
+            + "|codes_of_conduct(/.*)?|emojis|repositories|events|networks/[^/]+/[^/]+/events)$");
+
+    /**
+     * {@code IDENTITY_REPOSITORY_PATHS} pattern of the paths of a repository whose result depends on the identity
+     **/
+    private static final Pattern IDENTITY_REPOSITORY_PATHS = Pattern.compile("^repos/[^/]+/[^/]+/(subscription"
+            + "|notifications|invitations|installation|codespaces)(/.*)?$");
+
+    /**
+     * {@code transport} used to send the requests
+     **/
+    protected final GitHubTransport transport;
+
+    /**
+     * {@code baseEndpoint} base endpoint of the API whose requests are spread across the pool, {@code "null"} to use
+     * the {@link GitHubManager#getDefaultBaseEndpoint()}
+     **/
+    protected final String baseEndpoint;
+
+    /**
+     * {@code credentials} the pool of the credentials
+     **/
+    protected final List<GitHubCredentials> credentials;
+
+    /**
+     * {@code budgets} the rate limits of the credentials, the keys are the index of the credentials and the resource
+     **/
+    private final ConcurrentHashMap<String, Budget> budgets;
+
+    /**
+     * {@code rotation} counter to spread the requests across the credentials with the same remaining requests
+     **/
+    private final AtomicInteger rotation;
+
+    /**
+     * Constructor to init a {@link GitHubTokenPoolTransport}
+     *
+     * @param transport:    transport used to send the requests
+     * @param accessTokens: personal access tokens of the pool
+     **/
+    public GitHubTokenPoolTransport(GitHubTransport transport, String... accessTokens) {
+        this(transport, Arrays.stream(accessTokens).map(GitHubTokenCredentials::new)
+                .map(GitHubCredentials.class::cast).toList());
+    }
+
+    /**
+     * Constructor to init a {@link GitHubTokenPoolTransport}
+     *
+     * @param transport:   transport used to send the requests
+     * @param credentials: credentials of the pool
+     **/
+    public GitHubTokenPoolTransport(GitHubTransport transport, List<GitHubCredentials> credentials) {
+        this(transport, null, credentials);
+    }
+
+    /**
+     * Constructor to init a {@link GitHubTokenPoolTransport}
+     *
+     * @param transport:    transport used to send the requests
+     * @param baseEndpoint: base endpoint of the API whose requests are spread across the pool, as
+     *                      {@code "https://github.example.com/api/v3/"}, {@code "null"} to use the
+     *                      {@link GitHubManager#getDefaultBaseEndpoint()}
+     * @param credentials:  credentials of the pool
+     **/
+    public GitHubTokenPoolTransport(GitHubTransport transport, String baseEndpoint,
+                                    List<GitHubCredentials> credentials) {
+        if (transport == null)
+            throw new IllegalArgumentException("The transport cannot be null");
+        if (credentials == null || credentials.isEmpty())
+            throw new IllegalArgumentException("The pool must have at least one credentials");
+        if (baseEndpoint != null && !baseEndpoint.endsWith("/"))
+            baseEndpoint += "/";
+        this.transport = transport;
+        this.baseEndpoint = baseEndpoint;
+        this.credentials = List.copyOf(new ArrayList<>(credentials));
+        budgets = new ConcurrentHashMap<>();
+        rotation = new AtomicInteger();
+    }
+
+    /**
+     * Method to send a request
+     *
+     * @param request: request to send
+     * @return response of the request as {@link GitHubHTTPResponse}
+     * @throws IOException when the request cannot be sent, its response cannot be read or the authorization of the
+     *                     credentials chosen cannot be created
+     **/
+    @Override
+    public GitHubHTTPResponse execute(GitHubHTTPRequest request) throws IOException {
+        return execute(request, null);
+    }
+
+    /**
+     * Method to send a request reading the body of its response with a {@link GitHubBodyReader}
+     *
+     * @param request: request to send
+     * @param reader:  reader of the body of a successful response, {@code "null"} to read it as {@link String}
+     * @return response of the request as {@link GitHubHTTPResponse}
+     * @throws IOException when the request cannot be sent, its response cannot be read or the authorization of the
+     *                     credentials chosen cannot be created
+     **/
+    @Override
+    public GitHubHTTPResponse execute(GitHubHTTPRequest request, GitHubBodyReader<?> reader) throws IOException {
+        if (!isPoolable(request))
+            return transport.execute(request, reader);
+        String resource = resolveResource(request);
+        int index = choose(resource);
+        Budget budget = getBudget(index, resource);
+        budget.take();
+        GitHubHTTPResponse response = transport.execute(request.withHeader("authorization",
+                credentials.get(index).getAuthorization()), reader);
+        RateLimit rateLimit = response.getRateLimit();
+        if (rateLimit != null) {
+            String sResource = response.getRateLimitResource();
+            if (sResource != null && !sResource.equals(resource))
+                budget = getBudget(index, sResource);
+            budget.update(rateLimit);
+        }
+        return response;
+    }
+
+    /**
+     * Method to choose the credentials to use for a request
+     *
+     * @param resource: resource of the rate limit used by the request
+     * @return index of the credentials chosen as int
+     * @implNote when all the credentials are depleted, the ones with the nearest reset are chosen
+     **/
+    private int choose(String resource) {
+        int size = credentials.size();
+        int start = Math.floorMod(rotation.getAndIncrement(), size);
+        long now = System.currentTimeMillis();
+        int chosen = -1;
+        long bestAvailable = 0;
+        int nearest = start;
+        long nearestReset = Long.MAX_VALUE;
+        for (int j = 0; j < size; j++) {
+            int index = (start + j) % size;
+            Budget budget = getBudget(index, resource);
+            long available = budget.getAvailable(now);
+            if (available > bestAvailable) {
+                bestAvailable = available;
+                chosen = index;
+            } else if (available <= 0 && budget.getReset() < nearestReset) {
+                nearestReset = budget.getReset();
+                nearest = index;
+            }
+        }
+        return chosen != -1 ? chosen : nearest;
+    }
+
+    /**
+     * Method to get the budget of credentials for a resource
+     *
+     * @param index:    index of the credentials
+     * @param resource: resource of the rate limit
+     * @return budget as {@link Budget}
+     **/
+    private Budget getBudget(int index, String resource) {
+        return budgets.computeIfAbsent(index + " " + resource, key -> new Budget());
+    }
+
+    /**
+     * Method to get whether a request can be sent with any credentials of the pool
+     *
+     * @param request: request to check
+     * @return whether a request can be sent with any credentials of the pool as boolean
+     * @implNote only the {@code "GET"} requests sent with an access token to the host of the {@link #getBaseEndpoint()}
+     * and about the public resources whose result does not depend on the identity are spread across the pool, the
+     * requests without an authorization, as the ones redirected to the storages of the downloads, or authenticated as a
+     * {@code "GitHub App"} are never spread
+     **/
+    protected boolean isPoolable(GitHubHTTPRequest request) {
+        if (request.getMethod() != GET)
+            return false;
+        String authorization = request.getHeader("authorization");
+        if (authorization == null || !authorization.regionMatches(true, 0, "token ", 0, 6))
+            return false;
+        URI base = URI.create(getBaseEndpoint());
+        URI uri = URI.create(request.getUrl());
+        if (!base.getScheme().equalsIgnoreCase(uri.getScheme()) || !base.getHost().equalsIgnoreCase(uri.getHost())
+                || getPort(base) != getPort(uri)) {
+            return false;
+        }
+        String path = uri.getPath();
+        String basePath = base.getPath();
+        if (path == null || !path.startsWith(basePath))
+            return false;
+        path = path.substring(basePath.length());
+        return POOLABLE_PATHS.matcher(path).matches() && !IDENTITY_REPOSITORY_PATHS.matcher(path).matches();
+    }
+
+    /**
+     * Method to get the port of an uri
+     *
+     * @param uri: uri from get the port
+     * @return port of the uri, the default one of its scheme if it is not specified, as int
+     **/
+    private static int getPort(URI uri) {
+        if (uri.getPort() != -1)
+            return uri.getPort();
+        return "https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80;
+    }
+
+    /**
+     * Method to get the base endpoint of the API whose requests are spread across the pool <br>
+     * No-any params required
+     *
+     * @return base endpoint of the API as {@link String}, the {@link GitHubManager#getDefaultBaseEndpoint()} if
+     * {@link #baseEndpoint} has not been chosen
+     **/
+    public String getBaseEndpoint() {
+        return baseEndpoint != null ? baseEndpoint : GitHubManager.getDefaultBaseEndpoint();
+    }
+
+    /**
+     * Method to get the tracked rate limit of credentials of the pool
+     *
+     * @param credentials: credentials of the pool
+     * @param resource:    resource of the rate limit, for example {@code "core"}
+     * @return rate limit as {@link RateLimit} custom object, {@code "null"} if it is not known yet
+     **/
+    public RateLimit getRateLimit(GitHubCredentials credentials, String resource) {
+        int index = this.credentials.indexOf(credentials);
+        if (index == -1)
+            return null;
+        Budget budget = budgets.get(index + " " + resource);
+        if (budget == null)
+            return null;
+        return budget.getRateLimit();
+    }
+
+    /**
+     * Method to get {@link #transport} instance <br>
+     * No-any params required
+     *
+     * @return {@link #transport} instance as {@link GitHubTransport}
+     **/
+    public GitHubTransport getTransport() {
+        return transport;
+    }
+
+    /**
+     * Method to get {@link #credentials} instance <br>
+     * No-any params required
+     *
+     * @return {@link #credentials} instance as {@link List} of {@link GitHubCredentials}
+     **/
+    public List<GitHubCredentials> getCredentials() {
+        return credentials;
+    }
+
+    /**
+     * The {@code Budget} class is useful to track the rate limit of credentials for a single resource
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     **/
+    private static class Budget {
+
+        /**
+         * {@code limit} maximum number of the requests for each window, {@code "-1"} if it is not known yet
+         **/
+        private int limit = -1;
+
+        /**
+         * {@code remaining} number of the requests remaining in the current window
+         **/
+        private int remaining;
+
+        /**
+         * {@code reset} time in milliseconds when the current window resets
+         **/
+        private long reset;
+
+        /**
+         * Method to get the number of the requests available
+         *
+         * @param now: current time in milliseconds
+         * @return number of the requests available as long, {@link Integer#MAX_VALUE} if the rate limit is not known yet
+         **/
+        private synchronized long getAvailable(long now) {
+            if (limit == -1)
+                return Integer.MAX_VALUE;
+            if (now >= reset)
+                return limit;
+            return remaining;
+        }
+
+        /**
+         * Method to take a request from the budget <br>
+         * No-any params required
+         **/
+        private synchronized void take() {
+            if (limit != -1 && System.currentTimeMillis() < reset)
+                remaining--;
+        }
+
+        /**
+         * Method to update the budget with the rate limit of a response
+         *
+         * @param rateLimit: rate limit value
+         **/
+        private synchronized void update(RateLimit rateLimit) {
+            long sReset = rateLimit.getReset() * 1000;
+            if (limit != -1 && sReset == reset)
+                remaining = Math.min(remaining, rateLimit.getRemaining());
+            else if (sReset >= reset) {
+                limit = rateLimit.getLimit();
+                remaining = rateLimit.getRemaining();
+                reset = sReset;
+            }
+        }
+
+        /**
+         * Method to get {@link #reset} instance <br>
+         * No-any params required
+         *
+         * @return {@link #reset} instance as long
+         **/
+        private synchronized long getReset() {
+            return reset;
+        }
+
+        /**
+         * Method to get the rate limit of the budget <br>
+         * No-any params required
+         *
+         * @return rate limit as {@link RateLimit} custom object, {@code "null"} if it is not known yet
+         **/
+        private synchronized RateLimit getRateLimit() {
+            if (limit == -1)
+                return null;
+            return new RateLimit(limit, remaining, reset / 1000, limit - remaining);
+        }
+
+    }
+
+}
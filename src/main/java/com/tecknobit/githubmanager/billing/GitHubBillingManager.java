@@ -235,6 +235,7 @@ public class GitHubBillingManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/settings/billing/actions")
     public <T> T getOrganizationActionsBilling(String org, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnActionsBilling(sendGetRequest(ORGS_PATH + org + SETTINGS_BILLING_PATH + ACTIONS_QUERY_PATH), format);
     }
 
@@ -365,6 +366,7 @@ public class GitHubBillingManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/settings/billing/advanced-security")
     public <T> T getOrganizationSecurityCommitters(String org, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnAdvanceSecurityActiveCommitters(sendGetRequest(ORGS_PATH + org +
                 SETTINGS_BILLING_PATH + ADVANCED_SECURITY_PATH), format);
     }
@@ -534,6 +536,7 @@ public class GitHubBillingManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/settings/billing/advanced-security")
     public <T> T getOrganizationSecurityCommitters(String org, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnAdvanceSecurityActiveCommitters(sendGetRequest(ORGS_PATH + org +
                 SETTINGS_BILLING_PATH + ADVANCED_SECURITY_PATH + queryParams.createQueryString()), format);
     }
@@ -668,6 +671,7 @@ public class GitHubBillingManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/settings/billing/packages")
     public <T> T getOrganizationPackagesBilling(String org, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnPackagesBilling(sendGetRequest(ORGS_PATH + org + SETTINGS_BILLING_PATH + PACKAGES_PATH),
                 format);
     }
@@ -783,6 +787,7 @@ public class GitHubBillingManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/settings/billing/shared-storage")
     public <T> T getOrganizationSharedStorageBilling(String org, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnSharedStorageBilling(sendGetRequest(ORGS_PATH + org + SETTINGS_BILLING_PATH +
                 SHARED_STORAGE_PATH), format);
     }
@@ -846,6 +851,7 @@ public class GitHubBillingManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/users/{username}/settings/billing/actions")
     public <T> T getUserActionsBilling(String username, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnActionsBilling(sendGetRequest(USERS_PATH + username + SETTINGS_BILLING_PATH +
                 ACTIONS_QUERY_PATH), format);
     }
@@ -922,6 +928,7 @@ public class GitHubBillingManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/users/{username}/settings/billing/packages")
     public <T> T getUserPackagesBilling(String username, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnPackagesBilling(sendGetRequest(USERS_PATH + username + SETTINGS_BILLING_PATH + PACKAGES_PATH),
                 format);
     }
@@ -998,6 +1005,7 @@ public class GitHubBillingManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/users/{username}/settings/billing/shared-storage")
     public <T> T getUserSharedStorageBilling(String username, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnSharedStorageBilling(sendGetRequest(USERS_PATH + username + SETTINGS_BILLING_PATH +
                 SHARED_STORAGE_PATH), format);
     }
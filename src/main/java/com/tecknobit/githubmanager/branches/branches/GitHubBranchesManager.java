@@ -214,6 +214,7 @@ public class GitHubBranchesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/branches")
     public <T> T getBranches(String owner, String repo, ReturnFormat format) throws Exception {
+        requireNonStream(format);
         return returnBranchesList(sendGetRequest(REPOS_PATH + owner + "/" + repo + BRANCHES_PATH), format);
     }
 
@@ -378,6 +379,7 @@ public class GitHubBranchesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/branches")
     public <T> T getBranches(String owner, String repo, Params queryParams, ReturnFormat format) throws Exception {
+        requireNonStream(format);
         return returnBranchesList(sendGetRequest(REPOS_PATH + owner + "/" + repo + BRANCHES_PATH +
                 queryParams.createQueryString()), format);
     }
@@ -510,6 +512,7 @@ public class GitHubBranchesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/branches/{branch}")
     public <T> T getBranch(String owner, String repo, String branch, ReturnFormat format) throws Exception {
+        requireNonStream(format);
         return returnBranch(sendGetRequest(REPOS_PATH + owner + "/" + repo + BRANCHES_PATH + "/" + branch),
                 format);
     }
@@ -963,6 +966,7 @@ public class GitHubBranchesManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/branches/{branch}/rename")
     public <T> T renameBranch(String owner, String repo, String branch, String newName,
                               ReturnFormat format) throws Exception {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("new_name", newName);
         return returnBranch(sendPostRequest(REPOS_PATH + owner + "/" + repo + BRANCHES_PATH + "/" + branch +
@@ -1212,6 +1216,7 @@ public class GitHubBranchesManager extends GitHubManager {
     @Returner
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/merge-upstream")
     public <T> T syncForkBranch(String owner, String repo, String branch, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("branch", branch);
         String forkBranchResponse = sendPostRequest(REPOS_PATH + owner + "/" + repo + MERGE_UPSTREAM_PATH, payload);
@@ -1463,6 +1468,7 @@ public class GitHubBranchesManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/merges")
     public <T> T mergeBranch(String owner, String repo, String base, String head, String commitMessage,
                              ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("base", base);
         payload.addParam("head", head);
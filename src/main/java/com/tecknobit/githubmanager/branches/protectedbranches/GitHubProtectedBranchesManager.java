@@ -395,6 +395,7 @@ public class GitHubProtectedBranchesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/branches/{branch}/protection")
     public <T> T getBranchProtection(String owner, String repo, String branch, ReturnFormat format) throws Exception {
+        requireNonStream(format);
         return returnBranchProtection(sendGetRequest(REPOS_PATH + owner + "/" + repo + BRANCHES_QUERY_PATH +
                 branch + PROTECTION_PATH), format);
     }
@@ -1423,6 +1424,7 @@ public class GitHubProtectedBranchesManager extends GitHubManager {
                                         ProtectionItem enforceAdmins, RequiredPullRequestReviews<String> requiredPullRequestReviews,
                                         Restrictions<String> restrictions, Params bodyParams,
                                         ReturnFormat format) throws Exception {
+        requireNonStream(format);
         Params payload = new Params(bodyParams);
         if (requiredStatusCheck != null)
             payload.addParam("required_status_checks", requiredStatusCheck);
@@ -1523,7 +1525,7 @@ public class GitHubProtectedBranchesManager extends GitHubManager {
     public boolean deleteBranchProtection(String owner, String repo, String branch) {
         try {
             sendDeleteRequest(REPOS_PATH + owner + "/" + repo + BRANCHES_QUERY_PATH + branch + PROTECTION_PATH);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -1774,6 +1776,7 @@ public class GitHubProtectedBranchesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/branches/{branch}/protection/enforce_admins")
     public <T> T getAdminBranchProtection(String owner, String repo, String branch, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnProtectionItem(sendGetRequest(REPOS_PATH + owner + "/" + repo + BRANCHES_QUERY_PATH + branch
                 + PROTECTION_ENFORCE_ADMINS_PATH), format);
     }
@@ -2026,6 +2029,7 @@ public class GitHubProtectedBranchesManager extends GitHubManager {
      **/
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/branches/{branch}/protection/enforce_admins")
     public <T> T setAdminBranchProtection(String owner, String repo, String branch, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnProtectionItem(sendPostRequest(REPOS_PATH + owner + "/" + repo + BRANCHES_QUERY_PATH + branch
                 + PROTECTION_ENFORCE_ADMINS_PATH, null), format);
     }
@@ -2103,7 +2107,7 @@ public class GitHubProtectedBranchesManager extends GitHubManager {
         try {
             sendDeleteRequest(REPOS_PATH + owner + "/" + repo + BRANCHES_QUERY_PATH + branch
                     + PROTECTION_ENFORCE_ADMINS_PATH);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -2362,6 +2366,7 @@ public class GitHubProtectedBranchesManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/branches/{branch}/protection/required_pull_request_reviews")
     public <T> T getPullRequestReviewProtection(String owner, String repo, String branch,
                                                 ReturnFormat format) throws Exception {
+        requireNonStream(format);
         return returnPullRequestReview(sendGetRequest(REPOS_PATH + owner + "/" + repo + BRANCHES_QUERY_PATH + branch
                 + PROTECTION_REQUIRED_PULL_REQUEST_REVIEWS_PATH), format);
     }
@@ -2873,6 +2878,7 @@ public class GitHubProtectedBranchesManager extends GitHubManager {
     @RequestPath(method = PATCH, path = "/repos/{owner}/{repo}/branches/{branch}/protection/required_pull_request_reviews")
     public <T> T updatePullRequestReviewProtection(String owner, String repo, String branch, Params bodyParams,
                                                    ReturnFormat format) throws Exception {
+        requireNonStream(format);
         return returnPullRequestReview(sendPatchRequest(REPOS_PATH + owner + "/" + repo + BRANCHES_QUERY_PATH +
                 branch + PROTECTION_REQUIRED_PULL_REQUEST_REVIEWS_PATH, bodyParams), format);
     }
@@ -2969,7 +2975,7 @@ public class GitHubProtectedBranchesManager extends GitHubManager {
         try {
             sendDeleteRequest(REPOS_PATH + owner + "/" + repo + BRANCHES_QUERY_PATH + branch +
                     PROTECTION_REQUIRED_PULL_REQUEST_REVIEWS_PATH);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -3254,6 +3260,7 @@ public class GitHubProtectedBranchesManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/branches/{branch}/protection/required_signatures")
     public <T> T getCommitSignatureProtection(String owner, String repo, String branch,
                                               ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnProtectionItem(sendGetRequest(REPOS_PATH + owner + "/" + repo + BRANCHES_QUERY_PATH + branch
                 + PROTECTION_REQUIRED_SIGNATURES_PATH), format);
     }
@@ -3528,6 +3535,7 @@ public class GitHubProtectedBranchesManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/branches/{branch}/protection/required_signatures")
     public <T> T createCommitSignatureProtection(String owner, String repo, String branch,
                                                  ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnProtectionItem(sendPostRequest(REPOS_PATH + owner + "/" + repo + BRANCHES_QUERY_PATH +
                 branch + PROTECTION_REQUIRED_SIGNATURES_PATH, null), format);
     }
@@ -3632,7 +3640,7 @@ public class GitHubProtectedBranchesManager extends GitHubManager {
         try {
             sendDeleteRequest(REPOS_PATH + owner + "/" + repo + BRANCHES_QUERY_PATH + branch +
                     PROTECTION_REQUIRED_SIGNATURES_PATH);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -3883,6 +3891,7 @@ public class GitHubProtectedBranchesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/branches/{branch}/protection/required_status_checks")
     public <T> T getStatusChecksProtection(String owner, String repo, String branch, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnProtectionItem(sendGetRequest(REPOS_PATH + owner + "/" + repo + BRANCHES_QUERY_PATH + branch
                 + PROTECTION_REQUIRED_STATUS_CHECKS_PATH), format);
     }
@@ -4226,6 +4235,7 @@ public class GitHubProtectedBranchesManager extends GitHubManager {
     @RequestPath(method = PATCH, path = "/repos/{owner}/{repo}/branches/{branch}/protection/required_status_checks")
     public <T> T updateStatusChecksProtection(String owner, String repo, String branch, Params bodyParams,
                                               ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnProtectionItem(sendPatchRequest(REPOS_PATH + owner + "/" + repo + BRANCHES_QUERY_PATH + branch
                 + PROTECTION_REQUIRED_STATUS_CHECKS_PATH, bodyParams), format);
     }
@@ -4318,7 +4328,7 @@ public class GitHubProtectedBranchesManager extends GitHubManager {
         try {
             sendDeleteRequest(REPOS_PATH + owner + "/" + repo + BRANCHES_QUERY_PATH + branch
                     + PROTECTION_REQUIRED_STATUS_CHECKS_PATH);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -4574,6 +4584,7 @@ public class GitHubProtectedBranchesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/branches/{branch}/protection/required_status_checks/contexts")
     public <T> T getAllStatusCheckContexts(String owner, String repo, String branch, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnContexts(sendGetRequest(REPOS_PATH + owner + "/" + repo + BRANCHES_QUERY_PATH + branch +
                 PROTECTION_REQUIRED_STATUS_CHECKS_CONTEXTS_PATH), format);
     }
@@ -5097,6 +5108,7 @@ public class GitHubProtectedBranchesManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/branches/{branch}/protection/required_status_checks/contexts")
     public <T> T addStatusCheckContexts(String owner, String repo, String branch, String[] contexts,
                                         ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("contexts", contexts);
         return returnContexts(sendPostRequest(REPOS_PATH + owner + "/" + repo + BRANCHES_QUERY_PATH + branch +
@@ -5622,6 +5634,7 @@ public class GitHubProtectedBranchesManager extends GitHubManager {
     @RequestPath(method = PUT, path = "/repos/{owner}/{repo}/branches/{branch}/protection/required_status_checks/contexts")
     public <T> T setStatusCheckContexts(String owner, String repo, String branch, String[] contexts,
                                         ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("contexts", contexts);
         return returnContexts(sendPutRequest(REPOS_PATH + owner + "/" + repo + BRANCHES_QUERY_PATH + branch +
@@ -6147,6 +6160,7 @@ public class GitHubProtectedBranchesManager extends GitHubManager {
     @RequestPath(method = DELETE, path = "/repos/{owner}/{repo}/branches/{branch}/protection/required_status_checks/contexts")
     public <T> T removeStatusCheckContexts(String owner, String repo, String branch, String[] contexts,
                                            ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("contexts", contexts);
         HashMap<String, Object> response = sendDeleteRequest(REPOS_PATH + owner + "/" + repo + BRANCHES_QUERY_PATH +
@@ -6434,6 +6448,7 @@ public class GitHubProtectedBranchesManager extends GitHubManager {
     @Returner
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/branches/{branch}/protection/restrictions")
     public <T> T getAccessRestrictions(String owner, String repo, String branch, ReturnFormat format) throws Exception {
+        requireNonStream(format);
         String restrictionsResponse = sendGetRequest(REPOS_PATH + owner + "/" + repo + BRANCHES_QUERY_PATH +
                 branch + PROTECTION_RESTRICTIONS_PATH);
         switch (format) {
@@ -6519,7 +6534,7 @@ public class GitHubProtectedBranchesManager extends GitHubManager {
         try {
             sendDeleteRequest(REPOS_PATH + owner + "/" + repo + BRANCHES_QUERY_PATH + branch
                     + PROTECTION_RESTRICTIONS_PATH);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -6786,6 +6801,7 @@ public class GitHubProtectedBranchesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/branches/{branch}/protection/restrictions/apps")
     public <T> T getAppsWithTheAccess(String owner, String repo, String branch, ReturnFormat format) throws Exception {
+        requireNonStream(format);
         return returnAppsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + BRANCHES_QUERY_PATH + branch +
                 PROTECTION_RESTRICTIONS_APPS_PATH), format);
     }
@@ -7357,6 +7373,7 @@ public class GitHubProtectedBranchesManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/branches/{branch}/protection/restrictions/apps")
     public <T> T addAppAccessRestrictions(String owner, String repo, String branch, String[] apps,
                                           ReturnFormat format) throws Exception {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("apps", apps);
         return returnAppsList(sendPostRequest(REPOS_PATH + owner + "/" + repo + BRANCHES_QUERY_PATH + branch +
@@ -7946,6 +7963,7 @@ public class GitHubProtectedBranchesManager extends GitHubManager {
     @RequestPath(method = PUT, path = "/repos/{owner}/{repo}/branches/{branch}/protection/restrictions/apps")
     public <T> T setAppAccessRestrictions(String owner, String repo, String branch, String[] apps,
                                           ReturnFormat format) throws Exception {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("apps", apps);
         return returnAppsList(sendPutRequest(REPOS_PATH + owner + "/" + repo + BRANCHES_QUERY_PATH + branch +
@@ -8519,6 +8537,7 @@ public class GitHubProtectedBranchesManager extends GitHubManager {
     @RequestPath(method = DELETE, path = "/repos/{owner}/{repo}/branches/{branch}/protection/restrictions/apps")
     public <T> T removeAppAccessRestrictions(String owner, String repo, String branch, String[] apps,
                                              ReturnFormat format) throws Exception {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("apps", apps);
         HashMap<String, Object> response = sendDeleteRequest(REPOS_PATH + owner + "/" + repo + BRANCHES_QUERY_PATH
@@ -8778,6 +8797,7 @@ public class GitHubProtectedBranchesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/branches/{branch}/protection/restrictions/teams")
     public <T> T getTeamsWithTheAccess(String owner, String repo, String branch, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnTeamsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + BRANCHES_QUERY_PATH + branch +
                 PROTECTION_RESTRICTIONS_TEAMS_PATH), format);
     }
@@ -9317,6 +9337,7 @@ public class GitHubProtectedBranchesManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/branches/{branch}/protection/restrictions/teams")
     public <T> T addTeamAccessRestrictions(String owner, String repo, String branch, String[] teams,
                                            ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("teams", teams);
         return returnTeamsList(sendPostRequest(REPOS_PATH + owner + "/" + repo + BRANCHES_QUERY_PATH + branch +
@@ -9874,6 +9895,7 @@ public class GitHubProtectedBranchesManager extends GitHubManager {
     @RequestPath(method = PUT, path = "/repos/{owner}/{repo}/branches/{branch}/protection/restrictions/teams")
     public <T> T setTeamAccessRestrictions(String owner, String repo, String branch, String[] teams,
                                            ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("teams", teams);
         return returnTeamsList(sendPutRequest(REPOS_PATH + owner + "/" + repo + BRANCHES_QUERY_PATH + branch +
@@ -10447,6 +10469,7 @@ public class GitHubProtectedBranchesManager extends GitHubManager {
     @RequestPath(method = DELETE, path = "/repos/{owner}/{repo}/branches/{branch}/protection/restrictions/teams")
     public <T> T removeTeamAccessRestrictions(String owner, String repo, String branch, String[] teams,
                                               ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("teams", teams);
         HashMap<String, Object> response = sendDeleteRequest(REPOS_PATH + owner + "/" + repo + BRANCHES_QUERY_PATH
@@ -10708,6 +10731,7 @@ public class GitHubProtectedBranchesManager extends GitHubManager {
     @WrappedRequest
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/branches/{branch}/protection/restrictions/users")
     public <T> T getUsersWithTheAccess(String owner, String repo, String branch, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnUsersList(sendGetRequest(REPOS_PATH + owner + "/" + repo + BRANCHES_QUERY_PATH + branch +
                 PROTECTION_RESTRICTIONS_USERS_PATH), format);
     }
@@ -11247,6 +11271,7 @@ public class GitHubProtectedBranchesManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/branches/{branch}/protection/restrictions/users")
     public <T> T addUserAccessRestrictions(String owner, String repo, String branch, String[] users,
                                            ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("users", users);
         return returnUsersList(sendPostRequest(REPOS_PATH + owner + "/" + repo + BRANCHES_QUERY_PATH + branch +
@@ -11804,6 +11829,7 @@ public class GitHubProtectedBranchesManager extends GitHubManager {
     @RequestPath(method = PUT, path = "/repos/{owner}/{repo}/branches/{branch}/protection/restrictions/users")
     public <T> T setUserAccessRestrictions(String owner, String repo, String branch, String[] users,
                                            ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("users", users);
         return returnUsersList(sendPutRequest(REPOS_PATH + owner + "/" + repo + BRANCHES_QUERY_PATH + branch +
@@ -12377,6 +12403,7 @@ public class GitHubProtectedBranchesManager extends GitHubManager {
     @RequestPath(method = DELETE, path = "/repos/{owner}/{repo}/branches/{branch}/protection/restrictions/users")
     public <T> T removeUserAccessRestrictions(String owner, String repo, String branch, String[] users,
                                               ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("users", users);
         HashMap<String, Object> response = sendDeleteRequest(REPOS_PATH + owner + "/" + repo + BRANCHES_QUERY_PATH
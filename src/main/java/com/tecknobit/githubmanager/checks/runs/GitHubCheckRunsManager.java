@@ -14,8 +14,10 @@ import com.tecknobit.githubmanager.checks.runs.records.CheckRun.Output;
 import com.tecknobit.githubmanager.checks.runs.records.CheckRunAnnotation;
 import com.tecknobit.githubmanager.checks.runs.records.CheckRunsList;
 import com.tecknobit.githubmanager.checks.suites.records.CheckSuite;
+import com.tecknobit.githubmanager.pagination.GitHubPaginator;
 import com.tecknobit.githubmanager.repositories.repositories.records.Repository;
 import org.json.JSONArray;
+import org.json.JSONException;
 import org.json.JSONObject;
 
 import java.io.IOException;
@@ -561,6 +563,7 @@ public class GitHubCheckRunsManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/check-runs")
     public <T> T createCheckRun(String owner, String repo, String name, String headSha, Params bodyParams,
                                 ReturnFormat format) throws Exception {
+        requireNonStream(format);
         bodyParams.addParam("name", name);
         bodyParams.addParam("head_sha", headSha);
         return returnCheckRun(sendPostRequest(REPOS_PATH + owner + "/" + repo + CHECK_RUNS_PATH, bodyParams),
@@ -692,6 +695,7 @@ public class GitHubCheckRunsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/check-runs/{check_run_id}")
     public <T> T getCheckRun(String owner, String repo, long checkRunId, ReturnFormat format) throws Exception {
+        requireNonStream(format);
         return returnCheckRun(sendGetRequest(REPOS_PATH + owner + "/" + repo + CHECK_RUNS_PATH + "/" + checkRunId),
                 format);
     }
@@ -996,6 +1000,7 @@ public class GitHubCheckRunsManager extends GitHubManager {
     @RequestPath(method = PATCH, path = "/repos/{owner}/{repo}/check-runs/{check_run_id}")
     public <T> T updateCheckRun(String owner, String repo, long checkRunId, Params bodyParams,
                                 ReturnFormat format) throws Exception {
+        requireNonStream(format);
         return returnCheckRun(sendPatchRequest(REPOS_PATH + owner + "/" + repo + CHECK_RUNS_PATH + "/" +
                 checkRunId, bodyParams), format);
     }
@@ -1270,6 +1275,7 @@ public class GitHubCheckRunsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/check-runs/{check_run_id}/annotations")
     public <T> T getCheckRunAnnotations(String owner, String repo, long checkRunId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnCheckRunAnnotations(sendGetRequest(REPOS_PATH + owner + "/" + repo + CHECK_RUNS_PATH + "/" +
                 checkRunId + ANNOTATIONS_PATH), format);
     }
@@ -1605,6 +1611,7 @@ public class GitHubCheckRunsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/check-runs/{check_run_id}/annotations")
     public <T> T getCheckRunAnnotations(String owner, String repo, long checkRunId, Params queryParams,
                                         ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnCheckRunAnnotations(sendGetRequest(REPOS_PATH + owner + "/" + repo + CHECK_RUNS_PATH + "/" +
                 checkRunId + ANNOTATIONS_PATH + queryParams.createQueryString()), format);
     }
@@ -1709,7 +1716,7 @@ public class GitHubCheckRunsManager extends GitHubManager {
         try {
             sendPostRequest(REPOS_PATH + owner + "/" + repo + CHECK_RUNS_PATH + "/" + checkRunId +
                     REREQUEST_PATH, null);
-            if (apiRequest.getResponseStatusCode() != 201) {
+            if (getStatusCode() != 201) {
                 printErrorResponse();
                 return false;
             }
@@ -1970,6 +1977,7 @@ public class GitHubCheckRunsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/check-suites/{check_suite_id}/check-runs")
     public <T> T getCheckSuiteCheckRuns(String owner, String repo, long checkSuiteId, ReturnFormat format) throws Exception {
+        requireNonStream(format);
         return returnCheckRunsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + CHECK_SUITES_PATH + "/" +
                 checkSuiteId + CHECK_RUNS_PATH), format);
     }
@@ -2401,10 +2409,86 @@ public class GitHubCheckRunsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/check-suites/{check_suite_id}/check-runs")
     public <T> T getCheckSuiteCheckRuns(String owner, String repo, long checkSuiteId, Params queryParams,
                                         ReturnFormat format) throws Exception {
+        requireNonStream(format);
         return returnCheckRunsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + CHECK_SUITES_PATH + "/" +
                 checkSuiteId + CHECK_RUNS_PATH + queryParams.createQueryString()), format);
     }
 
+    /**
+     * Method to iterate all the check runs for a check suite following all the pages of the list
+     *
+     * @param repository:   the repository from fetch the list
+     * @param checkSuiteId: the unique identifier of the check suite
+     * @return all the check runs as {@link GitHubPaginator} of {@link CheckRun} custom object, use
+     * {@link GitHubPaginator#publisher()} to receive them as their pages are requested
+     * @apiNote see the official documentation at: <a href="https://docs.github.com/en/rest/checks/runs#list-check-runs-in-a-check-suite">
+     * List check runs in a check suite</a>
+     **/
+    @Wrapper
+    @RequestPath(method = GET, path = "/repos/{owner}/{repo}/check-suites/{check_suite_id}/check-runs")
+    public GitHubPaginator<CheckRun> getAllCheckSuiteCheckRuns(Repository repository, long checkSuiteId) {
+        return getAllCheckSuiteCheckRuns(repository.getOwner().getLogin(), repository.getName(), checkSuiteId, null);
+    }
+
+    /**
+     * Method to iterate all the check runs for a check suite following all the pages of the list
+     *
+     * @param owner:        the account owner of the repository. The name is not case-sensitive
+     * @param repo:         the name of the repository. The name is not case-sensitive
+     * @param checkSuiteId: the unique identifier of the check suite
+     * @return all the check runs as {@link GitHubPaginator} of {@link CheckRun} custom object, use
+     * {@link GitHubPaginator#publisher()} to receive them as their pages are requested
+     * @apiNote see the official documentation at: <a href="https://docs.github.com/en/rest/checks/runs#list-check-runs-in-a-check-suite">
+     * List check runs in a check suite</a>
+     **/
+    @Wrapper
+    @RequestPath(method = GET, path = "/repos/{owner}/{repo}/check-suites/{check_suite_id}/check-runs")
+    public GitHubPaginator<CheckRun> getAllCheckSuiteCheckRuns(String owner, String repo, long checkSuiteId) {
+        return getAllCheckSuiteCheckRuns(owner, repo, checkSuiteId, null);
+    }
+
+    /**
+     * Method to iterate all the check runs for a check suite following all the pages of the list
+     *
+     * @param owner:        the account owner of the repository. The name is not case-sensitive
+     * @param repo:         the name of the repository. The name is not case-sensitive
+     * @param checkSuiteId: the unique identifier of the check suite
+     * @param queryParams:  extra query params not mandatory, keys accepted are:
+     *                      <ul>
+     *                         <li>
+     *                             {@code "check_name"} -> returns check runs with the specified name - [string]
+     *                         </li>
+     *                         <li>
+     *                             {@code "status"} -> returns check runs with the specified status,
+     *                             constants available at {@link CheckStatus} - [string]
+     *                         </li>
+     *                         <li>
+     *                             {@code "filter"} -> filters check runs by their completed_at timestamp.
+     *                             latest returns the most recent check runs,
+     *                             constants available at {@link CheckRunFilter} - [string, default latest]
+     *                         </li>
+     *                         <li>
+     *                             {@code "per_page"} -> the number of results per page (max 100) - [integer, default 100]
+     *                         </li>
+     *                      </ul>
+     * @return all the check runs as {@link GitHubPaginator} of {@link CheckRun} custom object, use
+     * {@link GitHubPaginator#publisher()} to receive them as their pages are requested
+     * @apiNote see the official documentation at: <a href="https://docs.github.com/en/rest/checks/runs#list-check-runs-in-a-check-suite">
+     * List check runs in a check suite</a>
+     **/
+    @RequestPath(method = GET, path = "/repos/{owner}/{repo}/check-suites/{check_suite_id}/check-runs")
+    public GitHubPaginator<CheckRun> getAllCheckSuiteCheckRuns(String owner, String repo, long checkSuiteId,
+                                                               Params queryParams) {
+        return paginate(REPOS_PATH + owner + "/" + repo + CHECK_SUITES_PATH + "/" + checkSuiteId + CHECK_RUNS_PATH,
+                queryParams, checkRuns -> {
+                    try {
+                        return new CheckRunsList(new JSONObject(checkRuns)).getCheckRuns();
+                    } catch (Exception e) {
+                        throw new JSONException(e);
+                    }
+                });
+    }
+
     /**
      * Method to get the list of check runs for a commit ref.
      * The ref can be an SHA, branch name, or a tag name. GitHub Apps must have the {@code "checks:read"}
@@ -2534,6 +2618,7 @@ public class GitHubCheckRunsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/commits/{ref}/check-runs")
     public <T> T getGitReferenceCheckRuns(String owner, String repo, String ref, ReturnFormat format) throws Exception {
+        requireNonStream(format);
         return returnCheckRunsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + COMMITS_QUERY_PATH + ref +
                 CHECK_RUNS_PATH), format);
     }
@@ -2755,6 +2840,7 @@ public class GitHubCheckRunsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/commits/{ref}/check-runs")
     public <T> T getGitReferenceCheckRuns(String owner, String repo, String ref, Params queryParams,
                                           ReturnFormat format) throws Exception {
+        requireNonStream(format);
         return returnCheckRunsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + COMMITS_QUERY_PATH + ref +
                 CHECK_RUNS_PATH + queryParams.createQueryString()), format);
     }
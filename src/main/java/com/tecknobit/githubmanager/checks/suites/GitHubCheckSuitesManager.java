@@ -236,6 +236,7 @@ public class GitHubCheckSuitesManager extends GitHubManager {
      **/
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/check-suites")
     public <T> T createCheckSuite(String owner, String repo, String headSha, ReturnFormat format) throws Exception {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("head_sha", headSha);
         return returnCheckSuite(sendPostRequest(REPOS_PATH + owner + "/" + repo + CHECK_SUITES_PATH, payload),
@@ -508,6 +509,7 @@ public class GitHubCheckSuitesManager extends GitHubManager {
     @RequestPath(method = PATCH, path = "/repos/{owner}/{repo}/check-suites/preferences")
     public <T> T updateSuitesRepositoryPreferences(String owner, String repo, AutoTriggerCheck[] autoTriggerChecks,
                                                    ReturnFormat format) throws Exception {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("auto_trigger_checks", autoTriggerChecks);
         String preferencesResponse = sendPatchRequest(REPOS_PATH + owner + "/" + repo + CHECK_SUITES_PREFERENCES_PATH,
@@ -651,6 +653,7 @@ public class GitHubCheckSuitesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/check-suites/{check_suite_id}")
     public <T> T getCheckSuite(String owner, String repo, long checkSuiteId, ReturnFormat format) throws Exception {
+        requireNonStream(format);
         return returnCheckSuite(sendGetRequest(REPOS_PATH + owner + "/" + repo + CHECK_SUITES_PATH + "/" +
                 checkSuiteId), format);
     }
@@ -751,7 +754,7 @@ public class GitHubCheckSuitesManager extends GitHubManager {
         try {
             sendPostRequest(REPOS_PATH + owner + "/" + repo + CHECK_SUITES_PATH + "/" + checkSuiteId +
                     REREQUEST_PATH, null);
-            if (apiRequest.getResponseStatusCode() != 201) {
+            if (getStatusCode() != 201) {
                 printErrorResponse();
                 return false;
             }
@@ -895,6 +898,7 @@ public class GitHubCheckSuitesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/commits/{ref}/check-suites")
     public <T> T getGitReferenceCheckSuites(String owner, String repo, String ref, ReturnFormat format) throws Exception {
+        requireNonStream(format);
         return returnCheckSuitesList(sendGetRequest(REPOS_PATH + owner + "/" + repo + COMMITS_PATH + ref +
                 CHECK_SUITES_PATH), format);
     }
@@ -1096,6 +1100,7 @@ public class GitHubCheckSuitesManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/commits/{ref}/check-suites")
     public <T> T getGitReferenceCheckSuites(String owner, String repo, String ref, Params queryParams,
                                             ReturnFormat format) throws Exception {
+        requireNonStream(format);
         return returnCheckSuitesList(sendGetRequest(REPOS_PATH + owner + "/" + repo + COMMITS_PATH + ref +
                 CHECK_SUITES_PATH + queryParams.createQueryString()), format);
     }
@@ -10,18 +10,31 @@ import com.tecknobit.githubmanager.codescanning.records.ScanningAlert.DismissedR
 import com.tecknobit.githubmanager.codescanning.records.ScanningAlert.Rule.Severity;
 import com.tecknobit.githubmanager.organizations.organizations.records.Organization;
 import com.tecknobit.githubmanager.repositories.repositories.records.Repository;
+import com.tecknobit.githubmanager.transport.GitHubRequestBody;
+import com.tecknobit.githubmanager.transport.records.GitHubHTTPResponse;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.SequenceInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Base64;
-import java.util.Scanner;
+import java.util.Collections;
+import java.util.List;
 
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.*;
 import static com.tecknobit.githubmanager.GitHubManager.ReturnFormat.LIBRARY_OBJECT;
+import static com.tecknobit.githubmanager.GitHubManager.ReturnFormat.STRING;
+import static com.tecknobit.githubmanager.codescanning.records.SARIFUpload.ProcessingStatus.pending;
 import static com.tecknobit.githubmanager.codescanning.records.ScanningAlert.State;
+import static com.tecknobit.githubmanager.streaming.GitHubStreamEncoder.base64;
+import static com.tecknobit.githubmanager.streaming.GitHubStreamEncoder.getBase64Length;
+import static com.tecknobit.githubmanager.streaming.GitHubStreamEncoder.gzip;
 import static java.nio.charset.StandardCharsets.UTF_8;
 
 /**
@@ -64,6 +77,17 @@ public class GithubCodeScanningManager extends GitHubManager {
      **/
     public static final String CODE_SCANNING_SARIFS_PATH = CODE_SCANNING_PATH + "sarifs";
 
+    /**
+     * {@code SARIF_POLLING_INTERVAL} milliseconds to wait before the first check of the processing of a SARIF upload
+     **/
+    public static final long SARIF_POLLING_INTERVAL = 1000;
+
+    /**
+     * {@code MAX_SARIF_POLLING_INTERVAL} maximum milliseconds to wait between two checks of the processing of a SARIF
+     * upload
+     **/
+    public static final long MAX_SARIF_POLLING_INTERVAL = 30000;
+
     /**
      * Constructor to init a {@link GithubCodeScanningManager}
      *
@@ -181,6 +205,7 @@ public class GithubCodeScanningManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/enterprises/{enterprise}/code-scanning/alerts")
     public <T> T getEnterpriseScanningAlerts(String enterprise, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnScanningAlerts(sendGetRequest(ENTERPRISES_PATH + enterprise + CODE_SCANNING_ALERTS_PATH),
                 format);
     }
@@ -324,6 +349,7 @@ public class GithubCodeScanningManager extends GitHubManager {
     @RequestPath(method = GET, path = "/enterprises/{enterprise}/code-scanning/alerts")
     public <T> T getEnterpriseScanningAlerts(String enterprise, Params queryParams,
                                              ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnScanningAlerts(sendGetRequest(ENTERPRISES_PATH + enterprise + CODE_SCANNING_ALERTS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -455,6 +481,7 @@ public class GithubCodeScanningManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/code-scanning/alerts")
     public <T> T getOrganizationScanningAlerts(String org, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnScanningAlerts(sendGetRequest(ORGS_PATH + org + CODE_SCANNING_ALERTS_PATH),
                 format);
     }
@@ -762,6 +789,7 @@ public class GithubCodeScanningManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/code-scanning/alerts")
     public <T> T getOrganizationScanningAlerts(String org, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnScanningAlerts(sendGetRequest(ORGS_PATH + org + CODE_SCANNING_ALERTS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -891,6 +919,7 @@ public class GithubCodeScanningManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/code-scanning/alerts")
     public <T> T getRepositoryScanningAlerts(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnScanningAlerts(sendGetRequest(REPOS_PATH + owner + "/" + repo + CODE_SCANNING_ALERTS_PATH),
                 format);
     }
@@ -1201,6 +1230,7 @@ public class GithubCodeScanningManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/code-scanning/alerts")
     public <T> T getRepositoryScanningAlerts(String owner, String repo, Params queryParams,
                                              ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnScanningAlerts(sendGetRequest(REPOS_PATH + owner + "/" + repo + CODE_SCANNING_ALERTS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -1349,6 +1379,7 @@ public class GithubCodeScanningManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/code-scanning/alerts/{alert_number}")
     public <T> T getScanningAlert(String owner, String repo, long alertNumber, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnScanningAlert(sendGetRequest(REPOS_PATH + owner + "/" + repo + CODE_SCANNING_ALERTS_PATH
                 + "/" + alertNumber), format);
     }
@@ -1485,6 +1516,7 @@ public class GithubCodeScanningManager extends GitHubManager {
     @RequestPath(method = PATCH, path = "/repos/{owner}/{repo}/code-scanning/alerts/{alert_number}")
     public <T> T updateScanningAlert(String owner, String repo, long alertNumber, State state,
                                      ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("state", state);
         return returnScanningAlert(sendPatchRequest(REPOS_PATH + owner + "/" + repo + CODE_SCANNING_ALERTS_PATH
@@ -1670,6 +1702,7 @@ public class GithubCodeScanningManager extends GitHubManager {
     @RequestPath(method = PATCH, path = "/repos/{owner}/{repo}/code-scanning/alerts/{alert_number}")
     public <T> T updateScanningAlert(String owner, String repo, long alertNumber, State state, Params bodyParams,
                                      ReturnFormat format) throws IOException {
+        requireNonStream(format);
         bodyParams.addParam("state", state);
         return returnScanningAlert(sendPatchRequest(REPOS_PATH + owner + "/" + repo + CODE_SCANNING_ALERTS_PATH
                 + "/" + alertNumber, bodyParams), format);
@@ -1947,6 +1980,7 @@ public class GithubCodeScanningManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/code-scanning/alerts/{alert_number}/instances")
     public <T> T getCodeScanningInstances(String owner, String repo, long alertNumber,
                                           ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnInstances(sendGetRequest(REPOS_PATH + owner + "/" + repo + CODE_SCANNING_ALERTS_PATH
                 + "/" + alertNumber + INSTANCES_PATH), format);
     }
@@ -2322,6 +2356,7 @@ public class GithubCodeScanningManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/code-scanning/alerts/{alert_number}/instances")
     public <T> T getCodeScanningInstances(String owner, String repo, long alertNumber, Params queryParams,
                                           ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnInstances(sendGetRequest(REPOS_PATH + owner + "/" + repo + CODE_SCANNING_ALERTS_PATH
                 + "/" + alertNumber + INSTANCES_PATH + queryParams.createQueryString()), format);
     }
@@ -2482,6 +2517,7 @@ public class GithubCodeScanningManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/code-scanning/analyses")
     public <T> T getCodeScanningAnalyses(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnAnalyses(sendGetRequest(REPOS_PATH + owner + "/" + repo + CODE_SCANNING_ANALYSES_PATH),
                 format);
     }
@@ -2783,6 +2819,7 @@ public class GithubCodeScanningManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/code-scanning/analyses")
     public <T> T getCodeScanningAnalyses(String owner, String repo, Params queryParams,
                                          ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnAnalyses(sendGetRequest(REPOS_PATH + owner + "/" + repo + CODE_SCANNING_ANALYSES_PATH +
                 queryParams.createQueryString()), format);
     }
@@ -2946,6 +2983,7 @@ public class GithubCodeScanningManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/code-scanning/analyses/{analysis_id}")
     public <T> T getCodeScanningAnalysis(String owner, String repo, long analysisId,
                                          ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String analysisResponse = sendGetRequest(REPOS_PATH + owner + "/" + repo + CODE_SCANNING_ANALYSES_PATH
                 + "/" + analysisId);
         switch (format) {
@@ -3190,6 +3228,7 @@ public class GithubCodeScanningManager extends GitHubManager {
     @RequestPath(method = DELETE, path = "/repos/{owner}/{repo}/code-scanning/analyses/{analysis_id}")
     public <T> T deleteCodeScanningAnalysis(String owner, String repo, long analysisId,
                                             ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnScanningAnalysisDeletion(sendDeleteRequest(REPOS_PATH + owner + "/" + repo
                 + CODE_SCANNING_ANALYSES_PATH + "/" + analysisId), format);
     }
@@ -3461,6 +3500,7 @@ public class GithubCodeScanningManager extends GitHubManager {
     @RequestPath(method = DELETE, path = "/repos/{owner}/{repo}/code-scanning/analyses/{analysis_id}")
     public <T> T deleteCodeScanningAnalysis(String owner, String repo, long analysisId, String confirmDelete,
                                             ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnScanningAnalysisDeletion(sendDeleteRequest(REPOS_PATH + owner + "/" + repo
                 + CODE_SCANNING_ANALYSES_PATH + "/" + analysisId), format);
     }
@@ -3590,6 +3630,7 @@ public class GithubCodeScanningManager extends GitHubManager {
     @Returner
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/code-scanning/codeql/databases")
     public <T> T getCodeQLDatabases(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String codeQLDatabasesResponse = sendGetRequest(REPOS_PATH + owner + "/" + repo +
                 CODE_SCANNING_CODEQL_DATABASES_PATH);
         switch (format) {
@@ -3728,6 +3769,7 @@ public class GithubCodeScanningManager extends GitHubManager {
     @Returner
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/code-scanning/codeql/databases/{language}")
     public <T> T getCodeQLDatabase(String owner, String repo, String language, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String codeQLDatabaseResponse = sendGetRequest(REPOS_PATH + owner + "/" + repo +
                 CODE_SCANNING_CODEQL_DATABASES_PATH + "/" + language);
         switch (format) {
@@ -3751,7 +3793,7 @@ public class GithubCodeScanningManager extends GitHubManager {
      * @param commitSha:  the SHA of the commit to which the analysis you are uploading relates
      * @param ref:        the full Git reference, formatted as {@code "refs/heads/<branch name>"}, {@code "refs/pull/<number>/merge"},
      *                    or {@code "refs/pull/<number>/head"}
-     * @param sarif:      sarif data as zipped {@link File}, will be correctly formatted by the library
+     * @param sarif:      sarif data as {@link File}, compressed with gzip or not, will be correctly formatted by the library
      * @return SARIF data as {@link SARIFData} custom object
      * @throws IOException when request has been go wrong -> you can use these methods to get more details about error:
      *                     <ul>
@@ -3788,7 +3830,7 @@ public class GithubCodeScanningManager extends GitHubManager {
      * @param commitSha:  the SHA of the commit to which the analysis you are uploading relates
      * @param ref:        the full Git reference, formatted as {@code "refs/heads/<branch name>"}, {@code "refs/pull/<number>/merge"},
      *                    or {@code "refs/pull/<number>/head"}
-     * @param sarif:      sarif data as zipped {@link File}, will be correctly formatted by the library
+     * @param sarif:      sarif data as {@link File}, compressed with gzip or not, will be correctly formatted by the library
      * @param format:     return type formatter -> {@link ReturnFormat}
      * @return SARIF upload as {@code "format"} defines
      * @throws IOException when request has been go wrong -> you can use these methods to get more details about error:
@@ -3825,7 +3867,7 @@ public class GithubCodeScanningManager extends GitHubManager {
      * @param commitSha: the SHA of the commit to which the analysis you are uploading relates
      * @param ref:       the full Git reference, formatted as {@code "refs/heads/<branch name>"}, {@code "refs/pull/<number>/merge"},
      *                   or {@code "refs/pull/<number>/head"}
-     * @param sarif:     sarif data as zipped {@link File}, will be correctly formatted by the library
+     * @param sarif:     sarif data as {@link File}, compressed with gzip or not, will be correctly formatted by the library
      * @return SARIF data as {@link SARIFData} custom object
      * @throws IOException when request has been go wrong -> you can use these methods to get more details about error:
      *                     <ul>
@@ -3862,7 +3904,7 @@ public class GithubCodeScanningManager extends GitHubManager {
      * @param commitSha: the SHA of the commit to which the analysis you are uploading relates
      * @param ref:       the full Git reference, formatted as {@code "refs/heads/<branch name>"}, {@code "refs/pull/<number>/merge"},
      *                   or {@code "refs/pull/<number>/head"}
-     * @param sarif:     sarif data as zipped {@link File}, will be correctly formatted by the library
+     * @param sarif:     sarif data as {@link File}, compressed with gzip or not, will be correctly formatted by the library
      * @param format:    return type formatter -> {@link ReturnFormat}
      * @return SARIF upload as {@code "format"} defines
      * @throws IOException when request has been go wrong -> you can use these methods to get more details about error:
@@ -3884,11 +3926,7 @@ public class GithubCodeScanningManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/code-scanning/sarifs")
     public <T> T uploadSARIFAnalysis(String owner, String repo, String commitSha, String ref, File sarif,
                                      ReturnFormat format) throws IOException {
-        if (sarif.getPath().endsWith(".gz")) {
-            return uploadSARIFAnalysis(owner, repo, commitSha, ref, Base64.getEncoder().encodeToString(new Scanner(sarif)
-                    .useDelimiter("\\Z").next().getBytes(UTF_8)), format);
-        } else
-            throw new IllegalArgumentException("The SARIF must be a gzip file");
+        return uploadSARIFAnalysis(owner, repo, commitSha, ref, sarif.toPath(), new Params(), format);
     }
 
     /**
@@ -4042,6 +4080,7 @@ public class GithubCodeScanningManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/code-scanning/sarifs")
     public <T> T uploadSARIFAnalysis(String owner, String repo, String commitSha, String ref, String sarif,
                                      ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("commit_sha", commitSha);
         payload.addParam("ref", ref);
@@ -4061,7 +4100,7 @@ public class GithubCodeScanningManager extends GitHubManager {
      * @param commitSha:  the SHA of the commit to which the analysis you are uploading relates
      * @param ref:        the full Git reference, formatted as {@code "refs/heads/<branch name>"}, {@code "refs/pull/<number>/merge"},
      *                    or {@code "refs/pull/<number>/head"}
-     * @param sarif:      sarif data as zipped {@link File}, will be correctly formatted by the library
+     * @param sarif:      sarif data as {@link File}, compressed with gzip or not, will be correctly formatted by the library
      * @param bodyParams: extra body params not mandatory, keys accepted are:
      *                    <ul>
      *                       <li>
@@ -4121,7 +4160,7 @@ public class GithubCodeScanningManager extends GitHubManager {
      * @param commitSha:  the SHA of the commit to which the analysis you are uploading relates
      * @param ref:        the full Git reference, formatted as {@code "refs/heads/<branch name>"}, {@code "refs/pull/<number>/merge"},
      *                    or {@code "refs/pull/<number>/head"}
-     * @param sarif:      sarif data as zipped {@link File}, will be correctly formatted by the library
+     * @param sarif:      sarif data as {@link File}, compressed with gzip or not, will be correctly formatted by the library
      * @param bodyParams: extra body params not mandatory, keys accepted are:
      *                    <ul>
      *                       <li>
@@ -4182,7 +4221,7 @@ public class GithubCodeScanningManager extends GitHubManager {
      * @param commitSha:  the SHA of the commit to which the analysis you are uploading relates
      * @param ref:        the full Git reference, formatted as {@code "refs/heads/<branch name>"}, {@code "refs/pull/<number>/merge"},
      *                    or {@code "refs/pull/<number>/head"}
-     * @param sarif:      sarif data as zipped {@link File}, will be correctly formatted by the library
+     * @param sarif:      sarif data as {@link File}, compressed with gzip or not, will be correctly formatted by the library
      * @param bodyParams: extra body params not mandatory, keys accepted are:
      *                    <ul>
      *                       <li>
@@ -4241,7 +4280,7 @@ public class GithubCodeScanningManager extends GitHubManager {
      * @param commitSha:  the SHA of the commit to which the analysis you are uploading relates
      * @param ref:        the full Git reference, formatted as {@code "refs/heads/<branch name>"}, {@code "refs/pull/<number>/merge"},
      *                    or {@code "refs/pull/<number>/head"}
-     * @param sarif:      sarif data as zipped {@link File}, will be correctly formatted by the library
+     * @param sarif:      sarif data as {@link File}, compressed with gzip or not, will be correctly formatted by the library
      * @param bodyParams: extra body params not mandatory, keys accepted are:
      *                    <ul>
      *                       <li>
@@ -4285,11 +4324,7 @@ public class GithubCodeScanningManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/code-scanning/sarifs")
     public <T> T uploadSARIFAnalysis(String owner, String repo, String commitSha, String ref, File sarif,
                                      Params bodyParams, ReturnFormat format) throws IOException {
-        if (sarif.getPath().endsWith(".gz")) {
-            return uploadSARIFAnalysis(owner, repo, commitSha, ref, Base64.getEncoder().encodeToString(new Scanner(sarif)
-                    .useDelimiter("\\Z").next().getBytes(UTF_8)), bodyParams, format);
-        } else
-            throw new IllegalArgumentException("The SARIF must be a gzip file");
+        return uploadSARIFAnalysis(owner, repo, commitSha, ref, sarif.toPath(), bodyParams, format);
     }
 
     /**
@@ -4535,6 +4570,7 @@ public class GithubCodeScanningManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/code-scanning/sarifs")
     public <T> T uploadSARIFAnalysis(String owner, String repo, String commitSha, String ref, String sarif,
                                      Params bodyParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         bodyParams.addParam("commit_sha", commitSha);
         bodyParams.addParam("ref", ref);
         bodyParams.addParam("sarif", sarif);
@@ -4542,6 +4578,271 @@ public class GithubCodeScanningManager extends GitHubManager {
                 bodyParams), format);
     }
 
+    /**
+     * Method to upload a SARIF data containing the results of a code scanning analysis to make the results available in
+     * a repository. <br>
+     * You must use an access token with the {@code "security_events"} scope to use this endpoint for private repositories.
+     * You can also use tokens with the {@code "public_repo"} scope for public repositories only.
+     * GitHub Apps must have the {@code "security_events"} write permission to use this endpoint
+     *
+     * @param repository: the repository where upload the SARIF data
+     * @param commitSha:  the SHA of the commit to which the analysis you are uploading relates
+     * @param ref:        the full Git reference, formatted as {@code "refs/heads/<branch name>"}, {@code "refs/pull/<number>/merge"},
+     *                    or {@code "refs/pull/<number>/head"}
+     * @param sarif:      path of the SARIF file, compressed with gzip or not, sent while it is read
+     * @return SARIF data as {@link SARIFData} custom object
+     * @throws IOException when request has been go wrong or the SARIF file cannot be read -> you can use these methods
+     *                     to get more details about error:
+     *                     <ul>
+     *                         <li>
+     *                             {@link #getErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #getJSONErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #printErrorResponse()}
+     *                         </li>
+     *                     </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
+     * @apiNote see the official documentation at: <a href="https://docs.github.com/en/rest/code-scanning#upload-an-analysis-as-sarif-data">
+     * Upload an analysis as SARIF data</a>
+     **/
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = POST, path = "/repos/{owner}/{repo}/code-scanning/sarifs")
+    public SARIFData uploadSARIFAnalysis(Repository repository, String commitSha, String ref,
+                                         Path sarif) throws IOException {
+        return uploadSARIFAnalysis(repository.getOwner().getLogin(), repository.getName(), commitSha, ref, sarif,
+                new Params(), LIBRARY_OBJECT);
+    }
+
+    /**
+     * Method to upload a SARIF data containing the results of a code scanning analysis to make the results available in
+     * a repository. <br>
+     * You must use an access token with the {@code "security_events"} scope to use this endpoint for private repositories.
+     * You can also use tokens with the {@code "public_repo"} scope for public repositories only.
+     * GitHub Apps must have the {@code "security_events"} write permission to use this endpoint
+     *
+     * @param owner:      the account owner of the repository. The name is not case-sensitive
+     * @param repo:       the name of the repository. The name is not case-sensitive
+     * @param commitSha:  the SHA of the commit to which the analysis you are uploading relates
+     * @param ref:        the full Git reference, formatted as {@code "refs/heads/<branch name>"}, {@code "refs/pull/<number>/merge"},
+     *                    or {@code "refs/pull/<number>/head"}
+     * @param sarif:      path of the SARIF file, compressed with gzip or not, sent while it is read
+     * @return SARIF data as {@link SARIFData} custom object
+     * @throws IOException when request has been go wrong or the SARIF file cannot be read -> you can use these methods
+     *                     to get more details about error:
+     *                     <ul>
+     *                         <li>
+     *                             {@link #getErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #getJSONErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #printErrorResponse()}
+     *                         </li>
+     *                     </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
+     * @apiNote see the official documentation at: <a href="https://docs.github.com/en/rest/code-scanning#upload-an-analysis-as-sarif-data">
+     * Upload an analysis as SARIF data</a>
+     **/
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = POST, path = "/repos/{owner}/{repo}/code-scanning/sarifs")
+    public SARIFData uploadSARIFAnalysis(String owner, String repo, String commitSha, String ref,
+                                         Path sarif) throws IOException {
+        return uploadSARIFAnalysis(owner, repo, commitSha, ref, sarif, new Params(), LIBRARY_OBJECT);
+    }
+
+    /**
+     * Method to upload a SARIF data containing the results of a code scanning analysis to make the results available in
+     * a repository. <br>
+     * You must use an access token with the {@code "security_events"} scope to use this endpoint for private repositories.
+     * You can also use tokens with the {@code "public_repo"} scope for public repositories only.
+     * GitHub Apps must have the {@code "security_events"} write permission to use this endpoint
+     *
+     * @param owner:      the account owner of the repository. The name is not case-sensitive
+     * @param repo:       the name of the repository. The name is not case-sensitive
+     * @param commitSha:  the SHA of the commit to which the analysis you are uploading relates
+     * @param ref:        the full Git reference, formatted as {@code "refs/heads/<branch name>"}, {@code "refs/pull/<number>/merge"},
+     *                    or {@code "refs/pull/<number>/head"}
+     * @param sarif:      path of the SARIF file, compressed with gzip or not, sent while it is read
+     * @param bodyParams: extra body params not mandatory, keys accepted are:
+     *                    <ul>
+     *                       <li>
+     *                           {@code "checkout_uri"} -> the base directory used in the analysis, as it appears in the
+     *                           SARIF file. This property is used to convert file paths from absolute to relative, so
+     *                           that alerts can be mapped to their correct location in the repository - [string]
+     *                       </li>
+     *                       <li>
+     *                           {@code "started_at"} -> the time that the analysis run began. This is a timestamp in ISO
+     *                           8601 format: YYYY-MM-DDTHH:MM:SSZ - [string]
+     *                       </li>
+     *                       <li>
+     *                           {@code "tool_name"} -> the name of the tool used to generate the code scanning analysis.
+     *                           If this parameter is not used, the tool name defaults to "API". If the uploaded SARIF
+     *                           contains a tool GUID, this will be available for filtering using the {@code "tool_guid"}
+     *                           parameter of operations such as GET /repos/{owner}/{repo}/code-scanning/alerts - [string]
+     *                       </li>
+     *                       <li>
+     *                           {@code "validate"} -> whether the SARIF file will be validated according to the code scanning
+     *                           specifications. This parameter is intended to help integrators ensure that the uploaded
+     *                           SARIF files are correctly rendered by code scanning - [boolean]
+     *                       </li>
+     *                    </ul>
+     * @param format:     return type formatter -> {@link ReturnFormat}
+     * @return SARIF data as {@code "format"} defines
+     * @throws IOException when request has been go wrong or the SARIF file cannot be read -> you can use these methods
+     *                     to get more details about error:
+     *                     <ul>
+     *                         <li>
+     *                             {@link #getErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #getJSONErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #printErrorResponse()}
+     *                         </li>
+     *                     </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
+     * @apiNote see the official documentation at: <a href="https://docs.github.com/en/rest/code-scanning#upload-an-analysis-as-sarif-data">
+     * Upload an analysis as SARIF data</a>
+     * @implNote the SARIF file is compressed with gzip, when it is not already compressed, and encoded in
+     * {@code "Base64"} while the body of the request is sent, so only a small buffer is held in memory whatever is
+     * its size; the upload is retried only when it goes wrong before the whole body has been sent, so an analysis is
+     * never uploaded twice
+     **/
+    @RequestPath(method = POST, path = "/repos/{owner}/{repo}/code-scanning/sarifs")
+    public <T> T uploadSARIFAnalysis(String owner, String repo, String commitSha, String ref, Path sarif,
+                                     Params bodyParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
+        bodyParams.addParam("commit_sha", commitSha);
+        bodyParams.addParam("ref", ref);
+        GitHubHTTPResponse response = sendUploadRequest(REPOS_PATH + owner + "/" + repo + CODE_SCANNING_SARIFS_PATH,
+                POST, "application/json", createSARIFBody(sarif, bodyParams), null, null);
+        if (!response.isSuccessful())
+            throw new IOException(response.getBody());
+        return returnSARIFData(response.getBody(), format);
+    }
+
+    /**
+     * Method to upload a SARIF data containing the results of a code scanning analysis to make the results available in
+     * a repository. <br>
+     * You must use an access token with the {@code "security_events"} scope to use this endpoint for private repositories.
+     * You can also use tokens with the {@code "public_repo"} scope for public repositories only.
+     * GitHub Apps must have the {@code "security_events"} write permission to use this endpoint
+     * The method waits until the SARIF data has been processed by {@code "GitHub"}
+     *
+     * @param owner:      the account owner of the repository. The name is not case-sensitive
+     * @param repo:       the name of the repository. The name is not case-sensitive
+     * @param commitSha:  the SHA of the commit to which the analysis you are uploading relates
+     * @param ref:        the full Git reference, formatted as {@code "refs/heads/<branch name>"}, {@code "refs/pull/<number>/merge"},
+     *                    or {@code "refs/pull/<number>/head"}
+     * @param sarif:      path of the SARIF file, compressed with gzip or not, sent while it is read
+     * @param bodyParams: extra body params not mandatory, keys accepted are:
+     *                    <ul>
+     *                       <li>
+     *                           {@code "checkout_uri"} -> the base directory used in the analysis, as it appears in the
+     *                           SARIF file. This property is used to convert file paths from absolute to relative, so
+     *                           that alerts can be mapped to their correct location in the repository - [string]
+     *                       </li>
+     *                       <li>
+     *                           {@code "started_at"} -> the time that the analysis run began. This is a timestamp in ISO
+     *                           8601 format: YYYY-MM-DDTHH:MM:SSZ - [string]
+     *                       </li>
+     *                       <li>
+     *                           {@code "tool_name"} -> the name of the tool used to generate the code scanning analysis.
+     *                           If this parameter is not used, the tool name defaults to "API". If the uploaded SARIF
+     *                           contains a tool GUID, this will be available for filtering using the {@code "tool_guid"}
+     *                           parameter of operations such as GET /repos/{owner}/{repo}/code-scanning/alerts - [string]
+     *                       </li>
+     *                       <li>
+     *                           {@code "validate"} -> whether the SARIF file will be validated according to the code scanning
+     *                           specifications. This parameter is intended to help integrators ensure that the uploaded
+     *                           SARIF files are correctly rendered by code scanning - [boolean]
+     *                       </li>
+     *                    </ul>
+     * @param timeout:    maximum time in milliseconds to wait the processing of the SARIF data
+     * @return SARIF upload information as {@link SARIFUpload} custom object
+     * @throws IOException when request has been go wrong or the SARIF file cannot be read or the SARIF data
+     *                     has not been processed in time -> you can use these
+     *                     methods to get more details about error:
+     *                     <ul>
+     *                         <li>
+     *                             {@link #getErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #getJSONErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #printErrorResponse()}
+     *                         </li>
+     *                     </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
+     * @apiNote see the official documentation at: <a href="https://docs.github.com/en/rest/code-scanning#upload-an-analysis-as-sarif-data">
+     * Upload an analysis as SARIF data</a>
+     * @implNote see {@link #waitSARIFProcessing(String, String, String, long)}
+     **/
+    @WrappedRequest
+    @RequestPath(method = POST, path = "/repos/{owner}/{repo}/code-scanning/sarifs")
+    public SARIFUpload uploadSARIFAnalysisAndWait(String owner, String repo, String commitSha, String ref, Path sarif,
+                                                  Params bodyParams, long timeout) throws IOException {
+        SARIFData SARIF = uploadSARIFAnalysis(owner, repo, commitSha, ref, sarif, bodyParams, LIBRARY_OBJECT);
+        return waitSARIFProcessing(owner, repo, SARIF.getId(), timeout);
+    }
+
+    /**
+     * Method to create the body of the upload of a SARIF file
+     *
+     * @param sarif:      path of the SARIF file, compressed with gzip or not
+     * @param bodyParams: the other params of the body
+     * @return body of the upload as {@link GitHubRequestBody}
+     * @throws IOException when the SARIF file cannot be read
+     **/
+    private GitHubRequestBody createSARIFBody(Path sarif, Params bodyParams) throws IOException {
+        String payload = bodyParams.createJSONPayload().toString();
+        String separator = payload.equals("{}") ? "" : ",";
+        byte[] prefix = (payload.substring(0, payload.length() - 1) + separator + "\"sarif\":\"").getBytes(UTF_8);
+        byte[] suffix = "\"}".getBytes(UTF_8);
+        boolean compressed = isGzip(sarif);
+        // the length is known only when the file has not to be compressed
+        long length = compressed ? prefix.length + getBase64Length(Files.size(sarif)) + suffix.length : -1;
+        return new GitHubRequestBody() {
+
+            @Override
+            public InputStream open() throws IOException {
+                InputStream content = Files.newInputStream(sarif);
+                if (!compressed)
+                    content = gzip(content);
+                return new SequenceInputStream(Collections.enumeration(List.of(new ByteArrayInputStream(prefix),
+                        base64(content), new ByteArrayInputStream(suffix))));
+            }
+
+            @Override
+            public long getLength() {
+                return length;
+            }
+
+            @Override
+            public boolean isRepeatable() {
+                return true;
+            }
+
+        };
+    }
+
+    /**
+     * Method to get whether a file is compressed with gzip
+     *
+     * @param file: path of the file to check
+     * @return whether a file is compressed with gzip as boolean
+     * @throws IOException when the file cannot be read
+     **/
+    private boolean isGzip(Path file) throws IOException {
+        try (InputStream content = Files.newInputStream(file)) {
+            return content.read() == 0x1f && content.read() == 0x8b;
+        }
+    }
+
     /**
      * Method to create a SARIF upload
      *
@@ -4828,6 +5129,7 @@ public class GithubCodeScanningManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/code-scanning/sarifs/{sarif_id}")
     public <T> T getSARIFUploadInformation(String owner, String repo, String SARIFId,
                                            ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String SARIFResponse = sendGetRequest(REPOS_PATH + owner + "/" + repo + CODE_SCANNING_SARIFS_PATH + "/"
                 + SARIFId);
         switch (format) {
@@ -4840,4 +5142,92 @@ public class GithubCodeScanningManager extends GitHubManager {
         }
     }
 
+
+    /**
+     * Method to wait until a SARIF upload has been processed, polling its information
+     *
+     * @param repository: the repository where the SARIF data has been uploaded
+     * @param SARIF:      the SARIF data uploaded
+     * @param timeout:    maximum time in milliseconds to wait the processing of the SARIF data
+     * @return SARIF upload information as {@link SARIFUpload} custom object
+     * @throws IOException when request has been go wrong or the SARIF data has not been processed in time -> you can
+     *                     use these methods to get more details about error:
+     *                     <ul>
+     *                         <li>
+     *                             {@link #getErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #getJSONErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #printErrorResponse()}
+     *                         </li>
+     *                     </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
+     * @apiNote see the official documentation at: <a href="https://docs.github.com/en/rest/code-scanning#get-information-about-a-sarif-upload">
+     * Get information about a SARIF upload</a>
+     * @implNote see {@link #waitSARIFProcessing(String, String, String, long)}
+     **/
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = GET, path = "/repos/{owner}/{repo}/code-scanning/sarifs/{sarif_id}")
+    public SARIFUpload waitSARIFProcessing(Repository repository, SARIFData SARIF, long timeout) throws IOException {
+        return waitSARIFProcessing(repository.getOwner().getLogin(), repository.getName(), SARIF.getId(), timeout);
+    }
+
+    /**
+     * Method to wait until a SARIF upload has been processed, polling its information
+     *
+     * @param owner:   the account owner of the repository. The name is not case-sensitive
+     * @param repo:    the name of the repository. The name is not case-sensitive
+     * @param SARIFId: the SARIF ID obtained after uploading
+     * @param timeout: maximum time in milliseconds to wait the processing of the SARIF data
+     * @return SARIF upload information as {@link SARIFUpload} custom object, with the {@code "complete"} or the
+     * {@code "failed"} status
+     * @throws IOException when request has been go wrong or the SARIF data has not been processed in time -> you can
+     *                     use these methods to get more details about error:
+     *                     <ul>
+     *                         <li>
+     *                             {@link #getErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #getJSONErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #printErrorResponse()}
+     *                         </li>
+     *                     </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
+     * @apiNote see the official documentation at: <a href="https://docs.github.com/en/rest/code-scanning#get-information-about-a-sarif-upload">
+     * Get information about a SARIF upload</a>
+     * @implNote the information is requested again after {@link #SARIF_POLLING_INTERVAL} milliseconds, doubled after
+     * each request up to {@link #MAX_SARIF_POLLING_INTERVAL} milliseconds. A SARIF upload not found yet is considered
+     * still pending, because it can take a while to be visible after the upload
+     **/
+    @WrappedRequest
+    @RequestPath(method = GET, path = "/repos/{owner}/{repo}/code-scanning/sarifs/{sarif_id}")
+    public SARIFUpload waitSARIFProcessing(String owner, String repo, String SARIFId, long timeout) throws IOException {
+        long deadline = System.currentTimeMillis() + timeout;
+        long interval = SARIF_POLLING_INTERVAL;
+        while (true) {
+            String response = getSARIFUploadInformation(owner, repo, SARIFId, STRING);
+            int statusCode = getStatusCode();
+            if (statusCode != 404) {
+                if (statusCode < 200 || statusCode >= 300)
+                    throw new IOException(response);
+                SARIFUpload upload = new SARIFUpload(new JSONObject(response));
+                if (upload.getProcessingStatus() != pending)
+                    return upload;
+            }
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0)
+                throw new IOException("The SARIF upload " + SARIFId + " has not been processed in " + timeout + " ms");
+            try {
+                Thread.sleep(Math.min(interval, remaining));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting the SARIF upload " + SARIFId);
+            }
+            interval = Math.min(interval * 2, MAX_SARIF_POLLING_INTERVAL);
+        }
+    }
+
 }
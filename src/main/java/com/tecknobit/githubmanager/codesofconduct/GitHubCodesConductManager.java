@@ -138,6 +138,7 @@ public class GitHubCodesConductManager extends GitHubManager {
     @Returner
     @RequestPath(method = GET, path = "/codes_of_conduct")
     public <T> T getAllCodesOfConduct(ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String codesList = sendGetRequest(CODES_OF_CONDUCT_PATH);
         switch (format) {
             case JSON:
@@ -203,6 +204,7 @@ public class GitHubCodesConductManager extends GitHubManager {
     @Returner
     @RequestPath(method = GET, path = "/codes_of_conduct/{key}")
     public <T> T getSingleCodeOfConduct(String key, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String codeResponse = sendGetRequest(CODES_OF_CONDUCT_PATH + "/" + key);
         switch (format) {
             case JSON:
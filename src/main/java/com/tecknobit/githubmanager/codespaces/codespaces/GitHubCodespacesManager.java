@@ -236,6 +236,7 @@ public class GitHubCodespacesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/codespaces")
     public <T> T getRepositoryCodespaces(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnCodespacesList(sendGetRequest(REPOS_PATH + owner + "/" + repo + CODESPACES_PATH), format);
     }
 
@@ -389,6 +390,7 @@ public class GitHubCodespacesManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/codespaces")
     public <T> T getRepositoryCodespaces(String owner, String repo, Params queryParams,
                                          ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnCodespacesList(sendGetRequest(REPOS_PATH + owner + "/" + repo + CODESPACES_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -659,6 +661,7 @@ public class GitHubCodespacesManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/codespaces")
     public <T> T createRepositoryCodespace(String owner, String repo, Params bodyParams,
                                            ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnCodespace(sendPostRequest(REPOS_PATH + owner + "/" + repo + CODESPACES_PATH, bodyParams),
                 format);
     }
@@ -780,6 +783,7 @@ public class GitHubCodespacesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/codespaces/devcontainers")
     public <T> T getRepositoryDevContainers(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnDevContainers(sendGetRequest(REPOS_PATH + owner + "/" + repo + CODESPACES_DEVCONTAINERS_PATH),
                 format);
     }
@@ -940,6 +944,7 @@ public class GitHubCodespacesManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/codespaces/devcontainers")
     public <T> T getRepositoryDevContainers(String owner, String repo, Params queryParams,
                                             ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnDevContainers(sendGetRequest(REPOS_PATH + owner + "/" + repo + CODESPACES_DEVCONTAINERS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -1057,6 +1062,7 @@ public class GitHubCodespacesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/codespaces/new")
     public <T> T getDefaultCodespaceAttributes(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnDevContainers(sendGetRequest(REPOS_PATH + owner + "/" + repo + CODESPACES_NEW_PATH),
                 format);
     }
@@ -1221,6 +1227,7 @@ public class GitHubCodespacesManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/codespaces/new")
     public <T> T getDefaultCodespaceAttributes(String owner, String repo, Params queryParams,
                                                ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnDevContainers(sendGetRequest(REPOS_PATH + owner + "/" + repo + CODESPACES_NEW_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -1519,6 +1526,7 @@ public class GitHubCodespacesManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/pulls/{pull_number}/codespaces")
     public <T> T createCodespaceFromPullRequest(String owner, String repo, long pullNumber, Params bodyParams,
                                                 ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnCodespace(sendPostRequest(REPOS_PATH + owner + "/" + repo + PULLS_QUERY_PATH + pullNumber
                 + CODESPACES_PATH, bodyParams), format);
     }
@@ -1575,6 +1583,7 @@ public class GitHubCodespacesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/codespaces")
     public <T> T getUserCodespaces(ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnCodespacesList(sendGetRequest(USER_CODESPACES_PATH), format);
     }
 
@@ -1647,6 +1656,7 @@ public class GitHubCodespacesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/codespaces")
     public <T> T getUserCodespaces(Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnCodespacesList(sendGetRequest(USER_CODESPACES_PATH + queryParams.createQueryString()),
                 format);
     }
@@ -1914,6 +1924,7 @@ public class GitHubCodespacesManager extends GitHubManager {
      **/
     @RequestPath(method = POST, path = "/user/codespaces")
     public <T> T createUserCodespace(long repositoryId, Params bodyParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         if (bodyParams == null)
             bodyParams = new Params();
         bodyParams.addParam("repository_id", repositoryId);
@@ -1973,6 +1984,7 @@ public class GitHubCodespacesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/codespaces/{codespace_name}")
     public <T> T getUserCodespace(String codespaceName, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnCodespace(sendGetRequest(USER_CODESPACES_PATH + "/" + codespaceName), format);
     }
 
@@ -2139,6 +2151,7 @@ public class GitHubCodespacesManager extends GitHubManager {
      **/
     @RequestPath(method = PATCH, path = "/user/codespaces")
     public <T> T updateUserCodespace(String codespaceName, Params bodyParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnCodespace(sendPatchRequest(USER_CODESPACES_PATH + "/" + codespaceName, bodyParams), format);
     }
 
@@ -2172,7 +2185,7 @@ public class GitHubCodespacesManager extends GitHubManager {
     public boolean deleteUserCodespace(String codespaceName) {
         try {
             sendDeleteRequest(USER_CODESPACES_PATH + "/" + codespaceName);
-            if (apiRequest.getResponseStatusCode() != 202) {
+            if (getStatusCode() != 202) {
                 printErrorResponse();
                 return false;
             }
@@ -2302,6 +2315,7 @@ public class GitHubCodespacesManager extends GitHubManager {
      **/
     @RequestPath(method = POST, path = "/user/codespaces/{codespace_name}/exports")
     public <T> T exportUserCodespace(String codespaceName, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnCodespaceExportDetails(sendPostRequest(USER_CODESPACES_PATH + "/" + codespaceName
                 + EXPORTS_PATH, null), format);
     }
@@ -2425,6 +2439,7 @@ public class GitHubCodespacesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/codespaces/{codespace_name}/exports/{export_id}")
     public <T> T getUserCodespaceExportDetails(String codespaceName, long exportId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnCodespaceExportDetails(sendGetRequest(USER_CODESPACES_PATH + "/" + codespaceName
                 + EXPORTS_PATH + "/" + exportId), format);
     }
@@ -2563,6 +2578,7 @@ public class GitHubCodespacesManager extends GitHubManager {
      **/
     @RequestPath(method = POST, path = "/user/codespaces/{codespace_name}/start")
     public <T> T startUserCodespace(String codespaceName, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnCodespace(sendPostRequest(USER_CODESPACES_PATH + "/" + codespaceName + START_PATH, null),
                 format);
     }
@@ -2682,6 +2698,7 @@ public class GitHubCodespacesManager extends GitHubManager {
      **/
     @RequestPath(method = POST, path = "/user/codespaces/{codespace_name}/stop")
     public <T> T stopUserCodespace(String codespaceName, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnCodespace(sendPostRequest(USER_CODESPACES_PATH + "/" + codespaceName + STOP_PATH, null),
                 format);
     }
@@ -204,6 +204,7 @@ public class GitHubMachinesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/codespaces/machines")
     public <T> T getRepositoryAvailableMachineTypes(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnMachinesList(sendGetRequest(REPOS_PATH + owner + "/" + repo + CODESPACES_PATH
                 + MACHINES_PATH), format);
     }
@@ -365,6 +366,7 @@ public class GitHubMachinesManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/codespaces/machines")
     public <T> T getRepositoryAvailableMachineTypes(String owner, String repo, Params queryParams,
                                                     ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnMachinesList(sendGetRequest(REPOS_PATH + owner + "/" + repo + CODESPACES_PATH
                 + MACHINES_PATH + queryParams.createQueryString()), format);
     }
@@ -480,6 +482,7 @@ public class GitHubMachinesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/codespaces/{codespace_name}/machines")
     public <T> T getCodespaceMachineTypes(String codespaceName, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnMachinesList(sendGetRequest(USER_CODESPACES_PATH + codespaceName + MACHINES_PATH), format);
     }
 
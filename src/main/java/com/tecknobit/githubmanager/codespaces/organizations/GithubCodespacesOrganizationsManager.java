@@ -207,6 +207,7 @@ public class GithubCodespacesOrganizationsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/codespaces")
     public <T> T getOrganizationCodespaces(String org, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnCodespacesList(sendGetRequest(ORGS_PATH + org + CODESPACES_PATH), format);
     }
 
@@ -353,6 +354,7 @@ public class GithubCodespacesOrganizationsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/codespaces")
     public <T> T getOrganizationCodespaces(String org, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnCodespacesList(sendGetRequest(ORGS_PATH + org + CODESPACES_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -470,7 +472,7 @@ public class GithubCodespacesOrganizationsManager extends GitHubManager {
             payload.addParam("selected_usernames", selectedUsernames);
         try {
             sendPutRequest(ORGS_PATH + org + CODESPACES_PATH + BILLING_PATH, payload);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -592,6 +594,7 @@ public class GithubCodespacesOrganizationsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/members/{username}/codespaces")
     public <T> T getOrganizationUserCodespaces(String org, String username, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnCodespacesList(sendGetRequest(ORGS_PATH + org + MEMBERS_QUERY_PATH + username + CODESPACES_PATH),
                 format);
     }
@@ -746,6 +749,7 @@ public class GithubCodespacesOrganizationsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/orgs/{org}/members/{username}/codespaces")
     public <T> T getOrganizationUserCodespaces(String org, String username, Params queryParams,
                                                ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnCodespacesList(sendGetRequest(ORGS_PATH + org + MEMBERS_QUERY_PATH + username + CODESPACES_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -816,7 +820,7 @@ public class GithubCodespacesOrganizationsManager extends GitHubManager {
     public boolean deleteOrganizationCodespace(String org, String username, String codespaceName) {
         try {
             sendDeleteRequest(ORGS_PATH + org + MEMBERS_QUERY_PATH + username + CODESPACES_PATH + "/" + codespaceName);
-            if (apiRequest.getResponseStatusCode() != 202) {
+            if (getStatusCode() != 202) {
                 printErrorResponse();
                 return false;
             }
@@ -1066,6 +1070,7 @@ public class GithubCodespacesOrganizationsManager extends GitHubManager {
     @RequestPath(method = POST, path = "/orgs/{org}/members/{username}/codespaces/{codespace_name}/stop")
     public <T> T stopOrganizationUserCodespace(String org, String username, String codespaceName,
                                                ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnCodespace(sendPostRequest(ORGS_PATH + org + MEMBERS_QUERY_PATH + username + CODESPACES_PATH + "/"
                 + codespaceName + STOP_PATH, null), format);
     }
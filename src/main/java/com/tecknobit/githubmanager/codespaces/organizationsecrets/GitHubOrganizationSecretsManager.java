@@ -203,6 +203,7 @@ public class GitHubOrganizationSecretsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/codespaces/secrets")
     public <T> T getOrganizationSecrets(String org, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnSecretsList(sendGetRequest(ORGS_PATH + org + CODESPACES_SECRETS_PATH), format);
     }
 
@@ -353,6 +354,7 @@ public class GitHubOrganizationSecretsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/codespaces/secrets")
     public <T> T getOrganizationSecrets(String org, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnSecretsList(sendGetRequest(ORGS_PATH + org + CODESPACES_SECRETS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -468,6 +470,7 @@ public class GitHubOrganizationSecretsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/codespaces/secrets/public-key")
     public <T> T getOrganizationPublicKey(String org, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnPublicKey(sendGetRequest(ORGS_PATH + org + CODESPACES_SECRETS_PATH + PUBLIC_KEY_PATH),
                 format);
     }
@@ -583,6 +586,7 @@ public class GitHubOrganizationSecretsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/codespaces/secrets/{secret_name}")
     public <T> T getOrganizationSecret(String org, String secretName, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnSecret(sendGetRequest(ORGS_PATH + org + CODESPACES_SECRETS_PATH + "/" + secretName), format);
     }
 
@@ -756,7 +760,7 @@ public class GitHubOrganizationSecretsManager extends GitHubManager {
         try {
             sendPutRequest(ORGS_PATH + org + CODESPACES_SECRETS_PATH + "/" + secretName,
                     createSecretPayload(secretValue, key, payload));
-            if (apiRequest.getResponseStatusCode() != 201) {
+            if (getStatusCode() != 201) {
                 printErrorResponse();
                 return false;
             }
@@ -829,7 +833,7 @@ public class GitHubOrganizationSecretsManager extends GitHubManager {
     public boolean deleteOrganizationSecret(String org, String secretName) {
         try {
             sendDeleteRequest(ORGS_PATH + org + CODESPACES_SECRETS_PATH + "/" + secretName);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -1075,6 +1079,7 @@ public class GitHubOrganizationSecretsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/codespaces/secrets/{secret_name}/repositories")
     public <T> T getSelectedRepositories(String org, String secretName, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositoriesList(sendGetRequest(ORGS_PATH + org + CODESPACES_SECRETS_PATH + "/" +
                 secretName + REPOSITORIES_PATH), format);
     }
@@ -1391,6 +1396,7 @@ public class GitHubOrganizationSecretsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/orgs/{org}/codespaces/secrets/{secret_name}/repositories")
     public <T> T getSelectedRepositories(String org, String secretName, Params queryParams,
                                          ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositoriesList(sendGetRequest(ORGS_PATH + org + CODESPACES_SECRETS_PATH + "/" +
                 secretName + REPOSITORIES_PATH + queryParams.createQueryString()), format);
     }
@@ -1612,7 +1618,7 @@ public class GitHubOrganizationSecretsManager extends GitHubManager {
         try {
             sendPutRequest(ORGS_PATH + org + CODESPACES_SECRETS_PATH + "/" + secretName + REPOSITORIES_PATH,
                     payload);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -1766,7 +1772,7 @@ public class GitHubOrganizationSecretsManager extends GitHubManager {
         try {
             sendPutRequest(ORGS_PATH + org + CODESPACES_SECRETS_PATH + "/" + secretName + REPOSITORIES_PATH
                     + "/" + repositoryId, null);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -1920,7 +1926,7 @@ public class GitHubOrganizationSecretsManager extends GitHubManager {
         try {
             sendDeleteRequest(ORGS_PATH + org + CODESPACES_SECRETS_PATH + "/" + secretName + REPOSITORIES_PATH
                     + "/" + repositoryId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -202,6 +202,7 @@ public class GitHubRepositorySecretsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/codespaces/secrets")
     public <T> T getRepositorySecrets(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnSecretsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + CODESPACES_SECRETS_PATH),
                 format);
     }
@@ -356,6 +357,7 @@ public class GitHubRepositorySecretsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/codespaces/secrets")
     public <T> T getRepositorySecrets(String owner, String repo, Params queryParams,
                                       ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnSecretsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + CODESPACES_SECRETS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -481,6 +483,7 @@ public class GitHubRepositorySecretsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/codespaces/secrets/public-key")
     public <T> T getRepositoryPublicKey(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnPublicKey(sendGetRequest(REPOS_PATH + owner + "/" + repo + CODESPACES_SECRETS_PATH
                 + PUBLIC_KEY_PATH), format);
     }
@@ -602,6 +605,7 @@ public class GitHubRepositorySecretsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/codespaces/secrets/{secret_name}")
     public <T> T getRepositorySecret(String owner, String repo, String secretName, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnSecret(sendGetRequest(REPOS_PATH + owner + "/" + repo + CODESPACES_SECRETS_PATH + "/"
                 + secretName), format);
     }
@@ -642,7 +646,7 @@ public class GitHubRepositorySecretsManager extends GitHubManager {
         try {
             sendPutRequest(REPOS_PATH + owner + "/" + repo + CODESPACES_SECRETS_PATH + "/" + secretName,
                     createSecretPayload(secretValue, getRepositoryPublicKey(owner, repo), null));
-            if (apiRequest.getResponseStatusCode() != 201) {
+            if (getStatusCode() != 201) {
                 printErrorResponse();
                 return false;
             }
@@ -721,7 +725,7 @@ public class GitHubRepositorySecretsManager extends GitHubManager {
     public boolean deleteRepositorySecret(String owner, String repo, String secretName) {
         try {
             sendDeleteRequest(REPOS_PATH + owner + "/" + repo + CODESPACES_SECRETS_PATH + "/" + secretName);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -153,6 +153,7 @@ public class GitHubUserSecretsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/codespaces/secrets")
     public <T> T getUserSecrets(ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnSecretsList(sendGetRequest(USER_CODESPACES_SECRETS_PATH), format);
     }
 
@@ -229,6 +230,7 @@ public class GitHubUserSecretsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/codespaces/secrets")
     public <T> T getUserSecrets(Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnSecretsList(sendGetRequest(USER_CODESPACES_SECRETS_PATH + queryParams.createQueryString()),
                 format);
     }
@@ -291,6 +293,7 @@ public class GitHubUserSecretsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/codespaces/secrets/public-key")
     public <T> T getUserPublicKey(ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnPublicKey(sendGetRequest(USER_CODESPACES_SECRETS_PATH + PUBLIC_KEY_PATH), format);
     }
 
@@ -351,6 +354,7 @@ public class GitHubUserSecretsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/codespaces/secrets/{secret_name}")
     public <T> T getUserSecret(String secretName, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnSecret(sendGetRequest(USER_CODESPACES_SECRETS_PATH + "/" + secretName), format);
     }
 
@@ -436,7 +440,7 @@ public class GitHubUserSecretsManager extends GitHubManager {
         try {
             sendPutRequest(USER_CODESPACES_SECRETS_PATH + "/" + secretName, createSecretPayload(secretValue,
                     getUserPublicKey(), payload));
-            if (apiRequest.getResponseStatusCode() != 201) {
+            if (getStatusCode() != 201) {
                 printErrorResponse();
                 return false;
             }
@@ -483,7 +487,7 @@ public class GitHubUserSecretsManager extends GitHubManager {
     public boolean deleteUserSecret(String secretName) {
         try {
             sendDeleteRequest(USER_CODESPACES_SECRETS_PATH + "/" + secretName);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -613,6 +617,7 @@ public class GitHubUserSecretsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/codespaces/secrets/{secret_name}/repositories")
     public <T> T getUserSecretSelectedRepositories(String secretName, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositoriesList(sendGetRequest(USER_CODESPACES_SECRETS_PATH + "/" + secretName
                 + REPOSITORIES_PATH), format);
     }
@@ -731,7 +736,7 @@ public class GitHubUserSecretsManager extends GitHubManager {
         payload.addParam("selected_repository_ids", repositoryIds);
         try {
             sendPutRequest(USER_CODESPACES_SECRETS_PATH + "/" + secretName + REPOSITORIES_PATH, payload);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -817,7 +822,7 @@ public class GitHubUserSecretsManager extends GitHubManager {
         try {
             sendPutRequest(USER_CODESPACES_SECRETS_PATH + "/" + secretName + REPOSITORIES_PATH + "/"
                     + repositoryId, null);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -903,7 +908,7 @@ public class GitHubUserSecretsManager extends GitHubManager {
         try {
             sendDeleteRequest(USER_CODESPACES_SECRETS_PATH + "/" + secretName + REPOSITORIES_PATH + "/"
                     + repositoryId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
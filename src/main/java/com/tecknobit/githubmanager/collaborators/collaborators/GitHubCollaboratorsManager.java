@@ -238,6 +238,7 @@ public class GitHubCollaboratorsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/collaborators")
     public <T> T getRepositoryCollaborators(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnCollaboratorsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + COLLABORATORS_PATH),
                 format);
     }
@@ -467,6 +468,7 @@ public class GitHubCollaboratorsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/collaborators")
     public <T> T getRepositoryCollaborators(String owner, String repo, Params queryParams,
                                             ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnCollaboratorsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + COLLABORATORS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -539,7 +541,7 @@ public class GitHubCollaboratorsManager extends GitHubManager {
     public boolean checkRepositoryCollaborator(String owner, String repo, String username) {
         try {
             sendGetRequest(REPOS_PATH + owner + "/" + repo + COLLABORATORS_PATH + "/" + username);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -660,6 +662,7 @@ public class GitHubCollaboratorsManager extends GitHubManager {
     @RequestPath(method = PUT, path = "/repos/{owner}/{repo}/collaborators/{username}")
     public <T> T addRepositoryCollaborator(String owner, String repo, String username,
                                            ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnInvitation(sendPutRequest(REPOS_PATH + owner + "/" + repo + COLLABORATORS_PATH + "/"
                 + username, null), format);
     }
@@ -783,6 +786,7 @@ public class GitHubCollaboratorsManager extends GitHubManager {
     @RequestPath(method = PUT, path = "/repos/{owner}/{repo}/collaborators/{username}")
     public <T> T addRepositoryCollaborator(String owner, String repo, String username, CollaboratorPermission permission,
                                            ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("permission", permission);
         return returnInvitation(sendPutRequest(REPOS_PATH + owner + "/" + repo + COLLABORATORS_PATH + "/"
@@ -818,7 +822,7 @@ public class GitHubCollaboratorsManager extends GitHubManager {
     public boolean removeRepositoryCollaborator(String owner, String repo, String username) {
         try {
             sendDeleteRequest(REPOS_PATH + owner + "/" + repo + COLLABORATORS_PATH + "/" + username);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -940,6 +944,7 @@ public class GitHubCollaboratorsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/collaborators/{username}/permission")
     public <T> T getRepositoryPermissions(String owner, String repo, String username,
                                           ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String repositoryPermissionsResponse = sendGetRequest(REPOS_PATH + owner + "/" + repo + COLLABORATORS_PATH
                 + "/" + username + PERMISSION_PATH);
         switch (format) {
@@ -202,6 +202,7 @@ public class GitHubInvitationsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/invitations")
     public <T> T getRepositoryInvitations(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnInvitationsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + INVITATIONS_PATH), format);
     }
 
@@ -348,6 +349,7 @@ public class GitHubInvitationsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/invitations")
     public <T> T getRepositoryInvitations(String owner, String repo, Params queryParams,
                                           ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnInvitationsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + INVITATIONS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -595,6 +597,7 @@ public class GitHubInvitationsManager extends GitHubManager {
     @RequestPath(method = PATCH, path = "/repos/{owner}/{repo}/invitations/{invitation_id}")
     public <T> T updateRepositoryInvitation(String owner, String repo, long invitationId, CollaboratorPermission permissions,
                                             ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("permissions", permissions);
         return returnInvitation(sendPatchRequest(REPOS_PATH + owner + "/" + repo + INVITATIONS_PATH
@@ -661,7 +664,7 @@ public class GitHubInvitationsManager extends GitHubManager {
     public boolean deleteRepositoryInvitation(String owner, String repo, long invitationId) {
         try {
             sendDeleteRequest(REPOS_PATH + owner + "/" + repo + INVITATIONS_PATH + "/" + invitationId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -720,6 +723,7 @@ public class GitHubInvitationsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/repository_invitations")
     public <T> T getUserRepositoryInvitations(ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnInvitationsList(sendGetRequest(USER_REPOSITORY_INVITATIONS_PATH), format);
     }
 
@@ -788,6 +792,7 @@ public class GitHubInvitationsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/repository_invitations")
     public <T> T getUserRepositoryInvitations(Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnInvitationsList(sendGetRequest(USER_REPOSITORY_INVITATIONS_PATH + queryParams.createQueryString()),
                 format);
     }
@@ -841,7 +846,7 @@ public class GitHubInvitationsManager extends GitHubManager {
     public boolean acceptRepositoryInvitation(long invitationId) {
         try {
             sendPatchRequest(USER_REPOSITORY_INVITATIONS_PATH + "/" + invitationId, null);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -878,7 +883,7 @@ public class GitHubInvitationsManager extends GitHubManager {
     public boolean declineRepositoryInvitation(long invitationId) {
         try {
             sendDeleteRequest(USER_REPOSITORY_INVITATIONS_PATH + "/" + invitationId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -198,6 +198,7 @@ public class GitHubCommitCommentsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/comments")
     public <T> T getRepositoryCommitComments(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnCommitCommentsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + COMMENTS_PATH), format);
     }
 
@@ -347,6 +348,7 @@ public class GitHubCommitCommentsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/comments")
     public <T> T getRepositoryCommitComments(String owner, String repo, Params queryParams,
                                              ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnCommitCommentsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + COMMENTS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -460,6 +462,7 @@ public class GitHubCommitCommentsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/comments/{comment_id}")
     public <T> T getCommitComment(String owner, String repo, long commentId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnCommitComment(sendGetRequest(REPOS_PATH + owner + "/" + repo + COMMENTS_PATH + "/"
                 + commentId), format);
     }
@@ -702,6 +705,7 @@ public class GitHubCommitCommentsManager extends GitHubManager {
     @RequestPath(method = PATCH, path = "/repos/{owner}/{repo}/comments/{comment_id}")
     public <T> T updateCommitComment(String owner, String repo, long commentId, String body,
                                      ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("body", body);
         return returnCommitComment(sendPatchRequest(REPOS_PATH + owner + "/" + repo + COMMENTS_PATH + "/"
@@ -768,7 +772,7 @@ public class GitHubCommitCommentsManager extends GitHubManager {
     public boolean deleteCommitComment(String owner, String repo, long commentId) {
         try {
             sendDeleteRequest(REPOS_PATH + owner + "/" + repo + COMMENTS_PATH + "/" + commentId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -1002,6 +1006,7 @@ public class GitHubCommitCommentsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/commits/{commit_sha}/comments")
     public <T> T getCommitComments(String owner, String repo, String commitSha, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnCommitCommentsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + COMMITS_QUERY_PATH +
                 commitSha + COMMENTS_PATH), format);
     }
@@ -1312,6 +1317,7 @@ public class GitHubCommitCommentsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/commits/{commit_sha}/comments")
     public <T> T getCommitComments(String owner, String repo, String commitSha, Params queryParams,
                                    ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnCommitCommentsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + COMMITS_QUERY_PATH +
                 commitSha + COMMENTS_PATH + queryParams.createQueryString()), format);
     }
@@ -1575,6 +1581,7 @@ public class GitHubCommitCommentsManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/commits/{commit_sha}/comments")
     public <T> T createCommitComment(String owner, String repo, String commitSha, String body,
                                      ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("body", body);
         return returnCommitComment(sendPostRequest(REPOS_PATH + owner + "/" + repo + COMMITS_QUERY_PATH +
@@ -1825,6 +1832,7 @@ public class GitHubCommitCommentsManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/commits/{commit_sha}/comments")
     public <T> T createCommitComment(String owner, String repo, String commitSha, CommitComment comment,
                                      ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         JSONObject jComment = new JSONObject(comment);
         for (String key : jComment.keySet())
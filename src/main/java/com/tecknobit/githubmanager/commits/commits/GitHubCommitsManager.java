@@ -211,6 +211,7 @@ public class GitHubCommitsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/commits")
     public <T> T getCommits(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnCommitsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + COMMITS_PATH), format);
     }
 
@@ -431,6 +432,7 @@ public class GitHubCommitsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/commits")
     public <T> T getCommits(String owner, String repo, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnCommitsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + COMMITS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -660,6 +662,7 @@ public class GitHubCommitsManager extends GitHubManager {
     @Returner
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/commits/{commit_sha}/branches-where-head")
     public <T> T getHeadCommitBranches(String owner, String repo, String commitSha, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String branchesResponse = sendGetRequest(REPOS_PATH + owner + "/" + repo + COMMITS_QUERY_PATH
                 + commitSha + BRANCHES_WHERE_HEAD_PATH);
         switch (format) {
@@ -908,6 +911,7 @@ public class GitHubCommitsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/commits/{commit_sha}/pulls")
     public <T> T getCommitPullRequests(String owner, String repo, String commitSha, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnPullRequestsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + COMMITS_QUERY_PATH
                 + commitSha + PULLS_PATH), format);
     }
@@ -1227,6 +1231,7 @@ public class GitHubCommitsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/commits/{commit_sha}/pulls")
     public <T> T getCommitPullRequests(String owner, String repo, String commitSha, Params queryParams,
                                        ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnPullRequestsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + COMMITS_QUERY_PATH
                 + commitSha + PULLS_PATH + queryParams.createQueryString()), format);
     }
@@ -1353,6 +1358,7 @@ public class GitHubCommitsManager extends GitHubManager {
     @Returner
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/commits/{ref}")
     public <T> T getCommit(String owner, String repo, String ref, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String commitResponse = sendGetRequest(REPOS_PATH + owner + "/" + repo + COMMITS_QUERY_PATH + ref);
         switch (format) {
             case JSON:
@@ -1486,6 +1492,7 @@ public class GitHubCommitsManager extends GitHubManager {
     @Returner
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/compare/{basehead}")
     public <T> T compareTwoCommits(String owner, String repo, String basehead, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String comparisonResponse = sendGetRequest(REPOS_PATH + owner + "/" + repo + COMPARE_PATH + basehead);
         switch (format) {
             case JSON:
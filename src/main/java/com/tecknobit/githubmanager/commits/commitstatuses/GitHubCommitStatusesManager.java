@@ -259,6 +259,7 @@ public class GitHubCommitStatusesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/commits/{ref}/status")
     public <T> T getReferenceCombinedStatus(String owner, String repo, String ref, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnCombinedStatus(sendGetRequest(REPOS_PATH + owner + "/" + repo + COMMITS_QUERY_PATH
                 + ref + STATUS_PATH), format);
     }
@@ -466,6 +467,7 @@ public class GitHubCommitStatusesManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/commits/{ref}/status")
     public <T> T getReferenceCombinedStatus(String owner, String repo, String ref, Params queryParams,
                                             ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnCombinedStatus(sendGetRequest(REPOS_PATH + owner + "/" + repo + COMMITS_QUERY_PATH
                 + ref + STATUS_PATH + queryParams.createQueryString()), format);
     }
@@ -606,6 +608,7 @@ public class GitHubCommitStatusesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/commits/{ref}/statuses")
     public <T> T getCommitStatuses(String owner, String repo, String ref, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnCommitStatuses(sendGetRequest(REPOS_PATH + owner + "/" + repo + COMMITS_QUERY_PATH
                 + ref + STATUSES_PATH), format);
     }
@@ -767,6 +770,7 @@ public class GitHubCommitStatusesManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/commits/{ref}/statuses")
     public <T> T getCommitStatuses(String owner, String repo, String ref, Params queryParams,
                                    ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnCommitStatuses(sendGetRequest(REPOS_PATH + owner + "/" + repo + COMMITS_QUERY_PATH
                 + ref + STATUSES_PATH + queryParams.createQueryString()), format);
     }
@@ -921,6 +925,7 @@ public class GitHubCommitStatusesManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/statuses/{sha}")
     public <T> T createCommitStatus(String owner, String repo, String sha, CommitStatusState state,
                                     ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("state", state);
         return returnCommitStatus(sendPostRequest(REPOS_PATH + owner + "/" + repo + STATUSES_PATH + "/" + sha,
@@ -1058,6 +1063,7 @@ public class GitHubCommitStatusesManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/statuses/{sha}")
     public <T> T createCommitStatus(String owner, String repo, String sha, CommitStatus commitStatus,
                                     ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         JSONObject jCommitStatus = new JSONObject(commitStatus);
         for (String key : jCommitStatus.keySet())
@@ -11,6 +11,7 @@ import com.tecknobit.githubmanager.dependabot.alerts.records.DependabotAlert.Dep
 import com.tecknobit.githubmanager.dependabot.alerts.records.DependabotAlert.Dependency.Scope;
 import com.tecknobit.githubmanager.dependabot.alerts.records.DependabotAlert.Ecosystem;
 import com.tecknobit.githubmanager.organizations.organizations.records.Organization;
+import com.tecknobit.githubmanager.pagination.GitHubPaginator;
 import com.tecknobit.githubmanager.repositories.repositories.records.Repository;
 import org.json.JSONArray;
 import org.json.JSONObject;
@@ -154,6 +155,7 @@ public class GitHubDependabotAlertsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/enterprises/{enterprise}/dependabot/alerts")
     public <T> T getEnterpriseDependabotAlerts(String enterprise, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnDependabotAlertsList(sendGetRequest(ENTERPRISES_PATH + enterprise + DEPENDABOT_ALERTS_PATH), format);
     }
 
@@ -300,6 +302,7 @@ public class GitHubDependabotAlertsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/enterprises/{enterprise}/dependabot/alerts")
     public <T> T getEnterpriseDependabotAlerts(String enterprise, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnDependabotAlertsList(sendGetRequest(ENTERPRISES_PATH + enterprise + DEPENDABOT_ALERTS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -423,6 +426,7 @@ public class GitHubDependabotAlertsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/dependabot/alerts")
     public <T> T getOrganizationDependabotAlerts(String org, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnDependabotAlertsList(sendGetRequest(ORGS_PATH + org + DEPENDABOT_ALERTS_PATH), format);
     }
 
@@ -717,10 +721,105 @@ public class GitHubDependabotAlertsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/dependabot/alerts")
     public <T> T getOrganizationDependabotAlerts(String org, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnDependabotAlertsList(sendGetRequest(ORGS_PATH + org + DEPENDABOT_ALERTS_PATH
                 + queryParams.createQueryString()), format);
     }
 
+    /**
+     * Method to iterate all the dependabot alerts for an organization following all the pages of the list. <br>
+     * To use this endpoint, you must be an owner or security manager for the organization, and you must use an access
+     * token with the repo scope or {@code "security_events"} scope
+     *
+     * @param org: the organization from fetch the list
+     * @return all the dependabot alerts as {@link GitHubPaginator} of {@link DependabotAlert} custom object, use
+     * {@link GitHubPaginator#publisher()} to receive them as their pages are requested
+     * @apiNote see the official documentation at: <a href="https://docs.github.com/en/rest/dependabot/alerts#list-dependabot-alerts-for-an-organization">
+     * List Dependabot alerts for an organization</a>
+     **/
+    @Wrapper
+    @RequestPath(method = GET, path = "/orgs/{org}/dependabot/alerts")
+    public GitHubPaginator<DependabotAlert> getAllOrganizationDependabotAlerts(Organization org) {
+        return getAllOrganizationDependabotAlerts(org.getLogin(), null);
+    }
+
+    /**
+     * Method to iterate all the dependabot alerts for an organization following all the pages of the list. <br>
+     * To use this endpoint, you must be an owner or security manager for the organization, and you must use an access
+     * token with the repo scope or {@code "security_events"} scope
+     *
+     * @param org: the organization name. The name is not case-sensitive
+     * @return all the dependabot alerts as {@link GitHubPaginator} of {@link DependabotAlert} custom object, use
+     * {@link GitHubPaginator#publisher()} to receive them as their pages are requested
+     * @apiNote see the official documentation at: <a href="https://docs.github.com/en/rest/dependabot/alerts#list-dependabot-alerts-for-an-organization">
+     * List Dependabot alerts for an organization</a>
+     **/
+    @Wrapper
+    @RequestPath(method = GET, path = "/orgs/{org}/dependabot/alerts")
+    public GitHubPaginator<DependabotAlert> getAllOrganizationDependabotAlerts(String org) {
+        return getAllOrganizationDependabotAlerts(org, null);
+    }
+
+    /**
+     * Method to iterate all the dependabot alerts for an organization following all the pages of the list. <br>
+     * To use this endpoint, you must be an owner or security manager for the organization, and you must use an access
+     * token with the repo scope or {@code "security_events"} scope
+     *
+     * @param org:         the organization name. The name is not case-sensitive
+     * @param queryParams: extra query params not mandatory, keys accepted are:
+     *                     <ul>
+     *                        <li>
+     *                            {@code "state"} -> comma-separated list of states. If specified, only alerts with these
+     *                            states will be returned, constants available {@link DependabotAlertState} - [string]
+     *                        </li>
+     *                        <li>
+     *                            {@code "severity"} -> a comma-separated list of severities. If specified, only alerts
+     *                            with these severities will be returned, constants available {@link SeverityLevel} - [string]
+     *                        </li>
+     *                        <li>
+     *                            {@code "ecosystem"} -> a comma-separated list of ecosystems. If specified, only alerts for
+     *                            these ecosystems will be returned, constants available {@link Ecosystem}- [string]
+     *                        </li>
+     *                        <li>
+     *                            {@code "package"} -> a comma-separated list of package names. If specified, only alerts for
+     *                            these packages will be returned - [string]
+     *                        </li>
+     *                        <li>
+     *                            {@code "scope"} -> the scope of the vulnerable dependency. If specified, only alerts
+     *                            with this scope will be returned, constants available {@link Scope} - [string]
+     *                        </li>
+     *                        <li>
+     *                            {@code "sort"} -> the property by which to sort the results. created means when the alert
+     *                            was created. updated means when the alert's state last changed,
+     *                            constants available {@link Sort}- [string]
+     *                        </li>
+     *                        <li>
+     *                            {@code "direction"} -> the direction to sort the results by,
+     *                            constants available {@link Directions}- [string]
+     *                        </li>
+     *                        <li>
+     *                            {@code "before"} -> a cursor, as given in the Link header. If specified, the query only
+     *                            searches for results before this cursor - [string]
+     *                        </li>
+     *                        <li>
+     *                            {@code "after"} -> a cursor, as given in the Link header. If specified, the query only
+     *                            searches for results after this cursor - [string]
+     *                        </li>
+     *                        <li>
+     *                            {@code "per_page"} -> the number of results per page (max 100) - [integer, default 100]
+     *                        </li>
+     *                     </ul>
+     * @return all the dependabot alerts as {@link GitHubPaginator} of {@link DependabotAlert} custom object, use
+     * {@link GitHubPaginator#publisher()} to receive them as their pages are requested
+     * @apiNote see the official documentation at: <a href="https://docs.github.com/en/rest/dependabot/alerts#list-dependabot-alerts-for-an-organization">
+     * List Dependabot alerts for an organization</a>
+     **/
+    @RequestPath(method = GET, path = "/orgs/{org}/dependabot/alerts")
+    public GitHubPaginator<DependabotAlert> getAllOrganizationDependabotAlerts(String org, Params queryParams) {
+        return paginate(ORGS_PATH + org + DEPENDABOT_ALERTS_PATH, queryParams,
+                alerts -> returnDependabotAlertsList(alerts, LIBRARY_OBJECT));
+    }
+
     /**
      * Method to get the list of the dependabot alerts for a repository. <br>
      * You must use an access token with the {@code "security_events"} scope to use this endpoint with private repositories.
@@ -838,6 +937,7 @@ public class GitHubDependabotAlertsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/dependabot/alerts")
     public <T> T getRepositoryDependabotAlerts(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnDependabotAlertsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + DEPENDABOT_ALERTS_PATH),
                 format);
     }
@@ -1136,6 +1236,7 @@ public class GitHubDependabotAlertsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/dependabot/alerts")
     public <T> T getRepositoryDependabotAlerts(String owner, String repo, Params queryParams,
                                                ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnDependabotAlertsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + DEPENDABOT_ALERTS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -1292,6 +1393,7 @@ public class GitHubDependabotAlertsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/dependabot/alerts/{alert_number}")
     public <T> T getDependabotAlert(String owner, String repo, long alertNumber, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnDependabotAlertsList(sendGetRequest(REPOS_PATH + owner + "/" + repo
                 + DEPENDABOT_ALERTS_PATH + "/" + alertNumber), format);
     }
@@ -1948,6 +2050,7 @@ public class GitHubDependabotAlertsManager extends GitHubManager {
     @RequestPath(method = PATCH, path = "/repos/{owner}/{repo}/dependabot/alerts/{alert_number}")
     public <T> T updateDependabotAlert(String owner, String repo, long alertNumber, DependabotAlertState state,
                                        Params bodyParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         if (bodyParams == null)
             bodyParams = new Params();
         bodyParams.addParam("state", state);
@@ -209,6 +209,7 @@ public class GitHubDependabotSecretsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/dependabot/secrets")
     public <T> T getOrganizationSecrets(String org, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnSecretsList(sendGetRequest(ORGS_PATH + org + DEPENDABOT_SECRETS_PATH), format);
     }
 
@@ -359,6 +360,7 @@ public class GitHubDependabotSecretsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/dependabot/secrets")
     public <T> T getOrganizationSecrets(String org, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnSecretsList(sendGetRequest(ORGS_PATH + org + DEPENDABOT_SECRETS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -478,6 +480,7 @@ public class GitHubDependabotSecretsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/dependabot/secrets/public-key")
     public <T> T getOrganizationPublicKey(String org, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnPublicKey(sendGetRequest(ORGS_PATH + org + DEPENDABOT_SECRETS_PATH + PUBLIC_KEY_PATH),
                 format);
     }
@@ -597,6 +600,7 @@ public class GitHubDependabotSecretsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/dependabot/secrets/{secret_name}")
     public <T> T getOrganizationSecret(String org, String secretName, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnSecret(sendGetRequest(ORGS_PATH + org + DEPENDABOT_SECRETS_PATH + "/" + secretName), format);
     }
 
@@ -774,7 +778,7 @@ public class GitHubDependabotSecretsManager extends GitHubManager {
                 payload.addParam("selected_repository_ids", repositoryIds);
             sendPutRequest(ORGS_PATH + org + DEPENDABOT_SECRETS_PATH + "/" + secretName,
                     createSecretPayload(secretValue, getOrganizationPublicKey(org), payload));
-            if (apiRequest.getResponseStatusCode() != 201) {
+            if (getStatusCode() != 201) {
                 printErrorResponse();
                 return false;
             }
@@ -851,7 +855,7 @@ public class GitHubDependabotSecretsManager extends GitHubManager {
     public boolean deleteOrganizationSecret(String org, String secretName) {
         try {
             sendDeleteRequest(ORGS_PATH + org + DEPENDABOT_SECRETS_PATH + "/" + secretName);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -1105,6 +1109,7 @@ public class GitHubDependabotSecretsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/dependabot/secrets/{secret_name}/repositories")
     public <T> T getOrganizationSecretRepositories(String org, String secretName, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositoriesList(sendGetRequest(ORGS_PATH + org + DEPENDABOT_SECRETS_PATH + "/"
                 + secretName + REPOSITORIES_PATH), format);
     }
@@ -1432,6 +1437,7 @@ public class GitHubDependabotSecretsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/orgs/{org}/dependabot/secrets/{secret_name}/repositories")
     public <T> T getOrganizationSecretRepositories(String org, String secretName, Params queryParams,
                                                    ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositoriesList(sendGetRequest(ORGS_PATH + org + DEPENDABOT_SECRETS_PATH + "/"
                 + secretName + REPOSITORIES_PATH + queryParams.createQueryString()), format);
     }
@@ -1664,7 +1670,7 @@ public class GitHubDependabotSecretsManager extends GitHubManager {
             payload.addParam("selected_repository_ids", repositoriesIds);
             sendPutRequest(ORGS_PATH + org + DEPENDABOT_SECRETS_PATH + "/" + secretName + REPOSITORIES_PATH,
                     payload);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -1826,7 +1832,7 @@ public class GitHubDependabotSecretsManager extends GitHubManager {
         try {
             sendPutRequest(ORGS_PATH + org + DEPENDABOT_SECRETS_PATH + "/" + secretName + REPOSITORIES_PATH
                     + "/" + repositoryId, null);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -1988,7 +1994,7 @@ public class GitHubDependabotSecretsManager extends GitHubManager {
         try {
             sendDeleteRequest(ORGS_PATH + org + DEPENDABOT_SECRETS_PATH + "/" + secretName + REPOSITORIES_PATH
                     + "/" + repositoryId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -2112,6 +2118,7 @@ public class GitHubDependabotSecretsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/dependabot/secrets")
     public <T> T getRepositorySecrets(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnSecretsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + DEPENDABOT_SECRETS_PATH), format);
     }
 
@@ -2264,6 +2271,7 @@ public class GitHubDependabotSecretsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/dependabot/secrets")
     public <T> T getRepositorySecrets(String owner, String repo, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnSecretsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + DEPENDABOT_SECRETS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -2389,6 +2397,7 @@ public class GitHubDependabotSecretsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/dependabot/secrets/public-key")
     public <T> T getRepositoryPublicKey(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnPublicKey(sendGetRequest(REPOS_PATH + owner + "/" + repo + DEPENDABOT_SECRETS_PATH
                 + PUBLIC_KEY_PATH), format);
     }
@@ -2514,6 +2523,7 @@ public class GitHubDependabotSecretsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/dependabot/secrets/{secret_name}")
     public <T> T getRepositorySecret(String owner, String repo, String secretName, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnSecret(sendGetRequest(REPOS_PATH + owner + "/" + repo + DEPENDABOT_SECRETS_PATH
                 + "/" + secretName), format);
     }
@@ -2556,7 +2566,7 @@ public class GitHubDependabotSecretsManager extends GitHubManager {
         try {
             sendPutRequest(REPOS_PATH + owner + "/" + repo + DEPENDABOT_SECRETS_PATH + "/" + secretName,
                     createSecretPayload(secretValue, getRepositoryPublicKey(owner, repo), null));
-            if (apiRequest.getResponseStatusCode() != 201) {
+            if (getStatusCode() != 201) {
                 printErrorResponse();
                 return false;
             }
@@ -2639,7 +2649,7 @@ public class GitHubDependabotSecretsManager extends GitHubManager {
     public boolean deleteRepositorySecret(String owner, String repo, String secretName) {
         try {
             sendDeleteRequest(REPOS_PATH + owner + "/" + repo + DEPENDABOT_SECRETS_PATH + "/" + secretName);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -217,6 +217,7 @@ public class GitHubDependencyReviewManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/dependency-graph/compare/{basehead}")
     public <T> T getDiffDependenciesBetweenCommits(String owner, String repo, String basehead,
                                                    ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnDependencyReview(sendGetRequest(REPOS_PATH + owner + "/" + repo + DEPENDENCY_GRAPH_PATH
                 + COMPARE_PATH + basehead), format);
     }
@@ -352,6 +353,7 @@ public class GitHubDependencyReviewManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/dependency-graph/compare/{basehead}")
     public <T> T getDiffDependenciesBetweenCommits(String owner, String repo, String basehead, String name,
                                                    ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnDependencyReview(sendGetRequest(REPOS_PATH + owner + "/" + repo + DEPENDENCY_GRAPH_PATH
                 + COMPARE_PATH + basehead + "?name=" + name), format);
     }
@@ -793,6 +793,7 @@ public class GitHubDependencySubmissionManager extends GitHubManager {
     public <T> T createRepositorySnapshot(String owner, String repo, String version, SubmissionJob job, String sha,
                                           String ref, Detector detector, String scanned, Params bodyParams,
                                           ReturnFormat format) throws IOException {
+        requireNonStream(format);
         if (bodyParams == null)
             bodyParams = new Params();
         bodyParams.addParam("version", version);
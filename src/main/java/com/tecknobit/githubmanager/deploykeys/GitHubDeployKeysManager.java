@@ -196,6 +196,7 @@ public class GitHubDeployKeysManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/keys")
     public <T> T getDeployKeys(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnDeployKeys(sendGetRequest(REPOS_PATH + owner + "/" + repo + KEYS_PATH), format);
     }
 
@@ -340,6 +341,7 @@ public class GitHubDeployKeysManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/keys")
     public <T> T getDeployKeys(String owner, String repo, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnDeployKeys(sendGetRequest(REPOS_PATH + owner + "/" + repo + KEYS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -628,6 +630,7 @@ public class GitHubDeployKeysManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/keys")
     public <T> T createDeployKey(String owner, String repo, String key, boolean readOnly, String title,
                                  ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("key", key);
         payload.addParam("read_only", readOnly);
@@ -744,6 +747,7 @@ public class GitHubDeployKeysManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/keys/{key_id}")
     public <T> T getDeployKey(String owner, String repo, long keyId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnDeployKey(sendGetRequest(REPOS_PATH + owner + "/" + repo + KEYS_PATH + "/" + keyId), format);
     }
 
@@ -830,7 +834,7 @@ public class GitHubDeployKeysManager extends GitHubManager {
     public boolean deleteDeployKey(String owner, String repo, long keyId) {
         try {
             sendDeleteRequest(REPOS_PATH + owner + "/" + repo + KEYS_PATH + "/" + keyId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -351,6 +351,7 @@ public class GitHubDeploymentBranchPoliciesManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/environments/{environment_name}/deployment-branch-policies")
     public <T> T getDeploymentBranchPolicies(String owner, String repo, String environmentName,
                                              ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnBranchPolicies(sendGetRequest(REPOS_PATH + owner + "/" + repo + ENVIRONMENTS_PATH
                 + environmentName + DEPLOYMENT_BRANCH_POLICIES_PATH), format);
     }
@@ -686,6 +687,7 @@ public class GitHubDeploymentBranchPoliciesManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/environments/{environment_name}/deployment-branch-policies")
     public <T> T getDeploymentBranchPolicies(String owner, String repo, String environmentName, Params queryParams,
                                              ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnBranchPolicies(sendGetRequest(REPOS_PATH + owner + "/" + repo + ENVIRONMENTS_PATH
                 + environmentName + DEPLOYMENT_BRANCH_POLICIES_PATH + queryParams.createQueryString()), format);
     }
@@ -976,6 +978,7 @@ public class GitHubDeploymentBranchPoliciesManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/environments/{environment_name}/deployment-branch-policies")
     public <T> T createDeploymentBranchPolicy(String owner, String repo, String environmentName, String name,
                                               ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("name", name);
         return returnBranchPolicy(sendPostRequest(REPOS_PATH + owner + "/" + repo + ENVIRONMENTS_PATH
@@ -1257,6 +1260,7 @@ public class GitHubDeploymentBranchPoliciesManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/environments/{environment_name}/deployment-branch-policies/{branch_policy_id}")
     public <T> T getDeploymentBranchPolicy(String owner, String repo, String environmentName, String name,
                                            long branchPolicyId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnBranchPolicy(sendGetRequest(REPOS_PATH + owner + "/" + repo + ENVIRONMENTS_PATH
                 + environmentName + DEPLOYMENT_BRANCH_POLICIES_PATH + "/" + branchPolicyId), format);
     }
@@ -1834,6 +1838,7 @@ public class GitHubDeploymentBranchPoliciesManager extends GitHubManager {
     @RequestPath(method = PUT, path = "/repos/{owner}/{repo}/environments/{environment_name}/deployment-branch-policies/{branch_policy_id}")
     public <T> T updateDeploymentBranchPolicy(String owner, String repo, String environmentName, String name,
                                               long branchPolicyId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("name", name);
         return returnBranchPolicy(sendPutRequest(REPOS_PATH + owner + "/" + repo + ENVIRONMENTS_PATH
@@ -2022,7 +2027,7 @@ public class GitHubDeploymentBranchPoliciesManager extends GitHubManager {
         try {
             sendDeleteRequest(REPOS_PATH + owner + "/" + repo + ENVIRONMENTS_PATH + environmentName
                     + DEPLOYMENT_BRANCH_POLICIES_PATH + "/" + branchPolicyId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
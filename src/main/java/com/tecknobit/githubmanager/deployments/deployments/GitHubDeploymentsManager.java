@@ -196,6 +196,7 @@ public class GitHubDeploymentsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/deployments")
     public <T> T getDeployments(String owner, String repo, ReturnFormat format) throws Exception {
+        requireNonStream(format);
         return returnDeployments(sendGetRequest(REPOS_PATH + owner + "/" + repo + DEPLOYMENTS_PATH), format);
     }
 
@@ -396,6 +397,7 @@ public class GitHubDeploymentsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/deployments")
     public <T> T getDeployments(String owner, String repo, Params queryParams, ReturnFormat format) throws Exception {
+        requireNonStream(format);
         return returnDeployments(sendGetRequest(REPOS_PATH + owner + "/" + repo + DEPLOYMENTS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -681,6 +683,7 @@ public class GitHubDeploymentsManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/deployments")
     public <T> T createDeployment(String owner, String repo, String ref, Params bodyParams,
                                   ReturnFormat format) throws Exception {
+        requireNonStream(format);
         return returnDeployment(sendPostRequest(REPOS_PATH + owner + "/" + repo + DEPLOYMENTS_PATH, bodyParams),
                 format);
     }
@@ -794,6 +797,7 @@ public class GitHubDeploymentsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/deployments/{deployment_id}")
     public <T> T getDeployment(String owner, String repo, long deploymentId, ReturnFormat format) throws Exception {
+        requireNonStream(format);
         return returnDeployment(sendGetRequest(REPOS_PATH + owner + "/" + repo + DEPLOYMENTS_PATH
                 + "/" + deploymentId), format);
     }
@@ -933,7 +937,7 @@ public class GitHubDeploymentsManager extends GitHubManager {
     public boolean deleteDeployment(String owner, String repo, long deploymentId) {
         try {
             sendDeleteRequest(REPOS_PATH + owner + "/" + repo + DEPLOYMENTS_PATH + "/" + deploymentId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -315,6 +315,7 @@ public class GitHubDeploymentStatusesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/deployments/{deployment_id}/statuses")
     public <T> T getDeploymentStatuses(String owner, String repo, long deploymentId, ReturnFormat format) throws Exception {
+        requireNonStream(format);
         return returnDeploymentStatuses(sendGetRequest(REPOS_PATH + owner + "/" + repo + DEPLOYMENTS_PATH + "/"
                 + deploymentId + STATUSES_PATH), format);
     }
@@ -626,6 +627,7 @@ public class GitHubDeploymentStatusesManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/deployments/{deployment_id}/statuses")
     public <T> T getDeploymentStatuses(String owner, String repo, long deploymentId, Params queryParams,
                                        ReturnFormat format) throws Exception {
+        requireNonStream(format);
         return returnDeploymentStatuses(sendGetRequest(REPOS_PATH + owner + "/" + repo + DEPLOYMENTS_PATH + "/"
                 + deploymentId + STATUSES_PATH + queryParams.createQueryString()), format);
     }
@@ -1112,6 +1114,7 @@ public class GitHubDeploymentStatusesManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/deployments/{deployment_id}/statuses")
     public <T> T createDeploymentStatus(String owner, String repo, long deploymentId, DeploymentState state,
                                         Params bodyParams, ReturnFormat format) throws Exception {
+        requireNonStream(format);
         if (bodyParams == null)
             bodyParams = new Params();
         bodyParams.addParam("state", state);
@@ -1358,6 +1361,7 @@ public class GitHubDeploymentStatusesManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/deployments/{deployment_id}/statuses/{status_id}")
     public <T> T getDeploymentStatus(String owner, String repo, long deploymentId, long statusId,
                                      ReturnFormat format) throws Exception {
+        requireNonStream(format);
         return returnDeploymentStatus(sendGetRequest(REPOS_PATH + owner + "/" + repo + DEPLOYMENTS_PATH + "/"
                 + deploymentId + STATUSES_PATH + "/" + statusId), format);
     }
@@ -204,6 +204,7 @@ public class GitHubEnvironmentsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/environments")
     public <T> T getEnvironments(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnEnvironments(sendGetRequest(REPOS_PATH + owner + "/" + repo + ENVIRONMENTS_PATH), format);
     }
 
@@ -356,6 +357,7 @@ public class GitHubEnvironmentsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/environments")
     public <T> T getEnvironments(String owner, String repo, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnEnvironments(sendGetRequest(REPOS_PATH + owner + "/" + repo + ENVIRONMENTS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -504,6 +506,7 @@ public class GitHubEnvironmentsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/environments/{environment_name}")
     public <T> T getEnvironment(String owner, String repo, String environmentName, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnEnvironment(sendGetRequest(REPOS_PATH + owner + "/" + repo + ENVIRONMENTS_PATH +
                 "/" + environmentName), format);
     }
@@ -742,6 +745,7 @@ public class GitHubEnvironmentsManager extends GitHubManager {
     @RequestPath(method = PUT, path = "/repos/{owner}/{repo}/environments/{environment_name}")
     public <T> T createEnvironment(String owner, String repo, String environmentName, Params bodyParams,
                                    ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnEnvironment(sendPutRequest(REPOS_PATH + owner + "/" + repo + ENVIRONMENTS_PATH +
                 "/" + environmentName, bodyParams), format);
     }
@@ -825,7 +829,7 @@ public class GitHubEnvironmentsManager extends GitHubManager {
     public boolean deleteEnvironment(String owner, String repo, String environmentName) {
         try {
             sendDeleteRequest(REPOS_PATH + owner + "/" + repo + ENVIRONMENTS_PATH + "/" + environmentName);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
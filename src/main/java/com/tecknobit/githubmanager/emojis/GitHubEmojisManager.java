@@ -187,6 +187,7 @@ public class GitHubEmojisManager extends GitHubManager {
      **/
     @Returner
     private <T> T returnEmojis(String suffix, ReturnFormat format, String... emojis) throws IOException {
+        requireNonStream(format);
         JSONObject emojisResponse = new JSONObject(sendGetRequest(EMOJIS_PATH));
         if (emojis.length > 0) {
             if (suffix != null && !suffix.startsWith("."))
@@ -191,6 +191,7 @@ public class GitHubGistsCommentsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/gists/{gist_id}/comments")
     public <T> T getGistComments(String gistId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnGistComments(sendGetRequest(GISTS_PATH + "/" + gistId + COMMENTS_PATH), format);
     }
 
@@ -333,6 +334,7 @@ public class GitHubGistsCommentsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/gists/{gist_id}/comments")
     public <T> T getGistComments(String gistId, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnGistComments(sendGetRequest(GISTS_PATH + "/" + gistId + COMMENTS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -467,6 +469,7 @@ public class GitHubGistsCommentsManager extends GitHubManager {
      **/
     @RequestPath(method = POST, path = "/gists/{gist_id}/comments")
     public <T> T createGistComment(String gistId, String body, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("body", body);
         return returnGistComment(sendPostRequest(GISTS_PATH + "/" + gistId + COMMENTS_PATH, payload), format);
@@ -579,6 +582,7 @@ public class GitHubGistsCommentsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/gists/{gist_id}/comments/{comment_id}")
     public <T> T getGistComment(String gistId, long commentId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnGistComment(sendGetRequest(GISTS_PATH + "/" + gistId + COMMENTS_PATH + "/" + commentId), format);
     }
 
@@ -809,6 +813,7 @@ public class GitHubGistsCommentsManager extends GitHubManager {
      **/
     @RequestPath(method = PATCH, path = "/gists/{gist_id}/comments/{comment_id}")
     public <T> T updateGistComment(String gistId, long commentId, String body, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("body", body);
         return returnGistComment(sendPatchRequest(GISTS_PATH + "/" + gistId + COMMENTS_PATH + "/" + commentId,
@@ -892,7 +897,7 @@ public class GitHubGistsCommentsManager extends GitHubManager {
     public boolean deleteGistComment(String gistId, long commentId) {
         try {
             sendDeleteRequest(GISTS_PATH + "/" + gistId + COMMENTS_PATH + "/" + commentId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -159,6 +159,7 @@ public class GitHubGistsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/gists")
     public <T> T getAuthenticatedUserGists(ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnGists(sendGetRequest(GISTS_PATH), format);
     }
 
@@ -237,6 +238,7 @@ public class GitHubGistsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/gists")
     public <T> T getAuthenticatedUserGists(Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnGists(sendGetRequest(GISTS_PATH + queryParams.createQueryString()), format);
     }
 
@@ -367,6 +369,7 @@ public class GitHubGistsManager extends GitHubManager {
      **/
     @RequestPath(method = POST, path = "/gists")
     public <T> T createGist(String key, String content, Params bodyParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         if (bodyParams == null)
             bodyParams = new Params();
         bodyParams.addParam("files", new JSONObject().put(key, new JSONObject().put("content", content)));
@@ -425,6 +428,7 @@ public class GitHubGistsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/gists/public")
     public <T> T getPublicGists(ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnGists(sendGetRequest(GISTS_PUBLIC_PATH), format);
     }
 
@@ -505,6 +509,7 @@ public class GitHubGistsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/gists/public")
     public <T> T getPublicGists(Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnGists(sendGetRequest(GISTS_PUBLIC_PATH + queryParams.createQueryString()), format);
     }
 
@@ -556,6 +561,7 @@ public class GitHubGistsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/gists/starred")
     public <T> T getStarredGists(ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnGists(sendGetRequest(GISTS_STARRED_PATH), format);
     }
 
@@ -632,6 +638,7 @@ public class GitHubGistsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/gists/starred")
     public <T> T getStarredGists(Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnGists(sendGetRequest(GISTS_STARRED_PATH + queryParams.createQueryString()), format);
     }
 
@@ -684,6 +691,7 @@ public class GitHubGistsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/gists/{gist_id}")
     public <T> T getGist(String gistId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnGist(sendGetRequest(GISTS_PATH + "/" + gistId), format);
     }
 
@@ -930,6 +938,7 @@ public class GitHubGistsManager extends GitHubManager {
     @RequestPath(method = PATCH, path = "/gists/{gist_id}")
     public <T> T updateGist(String gistId, String key, GistFile gistFile, String description,
                             ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         JSONObject file = new JSONObject().put(key, new JSONObject()
                 .put("content", gistFile.getContent())
@@ -966,7 +975,7 @@ public class GitHubGistsManager extends GitHubManager {
     public boolean deleteGist(String gistId) {
         try {
             sendDeleteRequest(GISTS_PATH + "/" + gistId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -1080,6 +1089,7 @@ public class GitHubGistsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/gists/{gist_id}/commits")
     public <T> T getGistCommits(String gistId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnGistCommits(sendGetRequest(GISTS_PATH + "/" + gistId + COMMITS_PATH), format);
     }
 
@@ -1222,6 +1232,7 @@ public class GitHubGistsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/gists/{gist_id}/commits")
     public <T> T getGistCommits(String gistId, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnGistCommits(sendGetRequest(GISTS_PATH + "/" + gistId + COMMITS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -1352,6 +1363,7 @@ public class GitHubGistsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/gists/{gist_id}/forks")
     public <T> T getGistForks(String gistId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnGists(sendGetRequest(GISTS_PATH + "/" + gistId + FORKS_PATH), format);
     }
 
@@ -1494,6 +1506,7 @@ public class GitHubGistsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/gists/{gist_id}/forks")
     public <T> T getGistForks(String gistId, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnGists(sendGetRequest(GISTS_PATH + "/" + gistId + FORKS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -1601,6 +1614,7 @@ public class GitHubGistsManager extends GitHubManager {
      **/
     @RequestPath(method = POST, path = "/gists/{gist_id}/forks")
     public <T> T forkGist(String gistId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnGist(sendPostRequest(GISTS_PATH + "/" + gistId + FORKS_PATH, null), format);
     }
 
@@ -1649,7 +1663,7 @@ public class GitHubGistsManager extends GitHubManager {
     public boolean checkIfGistIsStarred(String gistId) {
         try {
             sendGetRequest(GISTS_PATH + "/" + gistId + STAR_PATH);
-            return apiRequest.getResponseStatusCode() == 204;
+            return getStatusCode() == 204;
         } catch (IOException e) {
             return false;
         }
@@ -1681,7 +1695,7 @@ public class GitHubGistsManager extends GitHubManager {
     public boolean starGist(String gistId) {
         try {
             sendPutRequest(GISTS_PATH + "/" + gistId + STAR_PATH, null);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -1718,7 +1732,7 @@ public class GitHubGistsManager extends GitHubManager {
     public boolean unstarGist(String gistId) {
         try {
             sendDeleteRequest(GISTS_PATH + "/" + gistId + STAR_PATH);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -1837,6 +1851,7 @@ public class GitHubGistsManager extends GitHubManager {
     @Returner
     @RequestPath(method = GET, path = "/gists/{gist_id}/{sha}")
     public <T> T getGistRevision(String gistId, String sha, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String gistCommitResponse = sendGetRequest(GISTS_PATH + "/" + gistId + "/" + sha);
         switch (format) {
             case JSON:
@@ -1897,6 +1912,7 @@ public class GitHubGistsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/gists/{gist_id}/forks")
     public <T> T getUserGists(String username, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnGists(sendGetRequest(USERS_PATH + username + "/" + GISTS_PATH), format);
     }
 
@@ -1975,6 +1991,7 @@ public class GitHubGistsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/gists/{gist_id}/forks")
     public <T> T getUserGists(String username, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnGists(sendGetRequest(USERS_PATH + username + "/" + GISTS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -324,6 +324,7 @@ public class GitHubBlobsManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/git/blobs")
     public <T> T createBlob(String owner, String repo, String content, Encoding encoding,
                             ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("content", content);
         if (encoding != null)
@@ -441,6 +442,7 @@ public class GitHubBlobsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/git/blobs")
     public <T> T getBlob(String owner, String repo, String fileSha, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String blobResponse = sendGetRequest(REPOS_PATH + owner + "/" + repo + "/" + GIT_BLOBS_PATH + "/"
                 + fileSha);
         switch (format) {
@@ -433,6 +433,7 @@ public class GitHubGitDatabaseCommitsManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/git/commits")
     public <T> T createCommit(String owner, String repo, String message, String tree, Params bodyParams,
                               ReturnFormat format) throws IOException {
+        requireNonStream(format);
         if (bodyParams == null)
             bodyParams = new Params();
         bodyParams.addParam("message", message);
@@ -550,6 +551,7 @@ public class GitHubGitDatabaseCommitsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/git/commits/{commit_sha}")
     public <T> T getCommit(String owner, String repo, String commitSha, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnGitCommit(sendGetRequest(REPOS_PATH + owner + "/" + repo + "/" + GIT_COMMITS_PATH + "/"
                 + commitSha), format);
     }
@@ -212,6 +212,7 @@ public class GitHubReferencesManager extends GitHubManager {
     @Returner
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/git/matching-refs/{ref}")
     public <T> T getMatchingReferences(String owner, String repo, String ref, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String matchingResponse = sendGetRequest(REPOS_PATH + owner + "/" + repo + "/" + GIT_MATCHING_REFS_PATH);
         switch (format) {
             case JSON:
@@ -336,6 +337,7 @@ public class GitHubReferencesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/git/ref/{ref}")
     public <T> T getReference(String owner, String repo, String ref, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnGitReference(sendGetRequest(REPOS_PATH + owner + "/" + repo + "/" + GIT_REF_PATH + ref),
                 format);
     }
@@ -461,6 +463,7 @@ public class GitHubReferencesManager extends GitHubManager {
      **/
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/git/refs")
     public <T> T createReference(String owner, String repo, String ref, String sha, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("ref", ref);
         payload.addParam("sha", sha);
@@ -587,6 +590,7 @@ public class GitHubReferencesManager extends GitHubManager {
     @RequestPath(method = PATCH, path = "/repos/{owner}/{repo}/git/refs/{ref}")
     public <T> T updateReference(String owner, String repo, String ref, String sha, boolean force,
                                  ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("sha", sha);
         payload.addParam("force", force);
@@ -673,7 +677,7 @@ public class GitHubReferencesManager extends GitHubManager {
     public boolean deleteReference(String owner, String repo, String ref) {
         try {
             sendDeleteRequest(REPOS_PATH + owner + "/" + repo + "/" + GIT_REFS_PATH + ref);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
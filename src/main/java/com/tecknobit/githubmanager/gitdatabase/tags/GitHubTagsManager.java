@@ -376,6 +376,7 @@ public class GitHubTagsManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/git/tags")
     public <T> T createTag(String owner, String repo, String tag, String message, String object, ObjectType type,
                            CommitProfile tagger, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("tag", tag);
         payload.addParam("message", message);
@@ -495,6 +496,7 @@ public class GitHubTagsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/git/tags/{tag_sha}")
     public <T> T getTag(String owner, String repo, String tagSha, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnTag(sendGetRequest(REPOS_PATH + owner + "/" + repo + "/" + GIT_TAGS_PATH + "/" + tagSha),
                 format);
     }
@@ -8,6 +8,7 @@ import com.tecknobit.githubmanager.GitHubManager;
 import com.tecknobit.githubmanager.gitdatabase.trees.records.Tree;
 import com.tecknobit.githubmanager.gitdatabase.trees.records.Tree.TreeValue;
 import com.tecknobit.githubmanager.repositories.repositories.records.Repository;
+import com.tecknobit.githubmanager.transport.records.GitHubHTTPResponse;
 import org.json.JSONObject;
 
 import java.io.IOException;
@@ -17,6 +18,7 @@ import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.GET;
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.POST;
 import static com.tecknobit.githubmanager.GitHubManager.ReturnFormat.LIBRARY_OBJECT;
 import static com.tecknobit.githubmanager.gitdatabase.blobs.GitHubBlobsManager.GIT_PATH;
+import static com.tecknobit.githubmanager.streaming.GitHubJSONStreamReader.readObjectList;
 
 /**
  * The {@code GitHubTreesManager} class is useful to manage all GitHub's trees endpoints
@@ -396,6 +398,7 @@ public class GitHubTreesManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/git/trees")
     public <T> T createTree(String owner, String repo, ArrayList<TreeValue> tree, String baseTree,
                             ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("tree", tree);
         if (baseTree != null)
@@ -521,7 +524,7 @@ public class GitHubTreesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/git/trees/{tree_sha}")
     public <T> T getTree(String owner, String repo, String treeSha, ReturnFormat format) throws IOException {
-        return returnTree(sendGetRequest(REPOS_PATH + owner + "/" + repo + "/" + GIT_TREES_PATH + treeSha),
+        return sendTreeRequest(REPOS_PATH + owner + "/" + repo + "/" + GIT_TREES_PATH + treeSha,
                 format);
     }
 
@@ -659,8 +662,31 @@ public class GitHubTreesManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/git/trees/{tree_sha}")
     public <T> T getTree(String owner, String repo, String treeSha, String recursive,
                          ReturnFormat format) throws IOException {
-        return returnTree(sendGetRequest(REPOS_PATH + owner + "/" + repo + "/" + GIT_TREES_PATH + "/" + treeSha
-                + "?recursive=" + recursive), format);
+        return sendTreeRequest(REPOS_PATH + owner + "/" + repo + "/" + GIT_TREES_PATH + "/" + treeSha
+                + "?recursive=" + recursive, format);
+    }
+
+    /**
+     * Method to send a request to get a tree, the {@link ReturnFormat#LIBRARY_OBJECT} format of a successful response
+     * is read while the response is received, without storing its body as {@link String}, while an error response gives
+     * a tree instantiated with the error
+     *
+     * @param endpoint: endpoint of the request
+     * @param format:   return type formatter -> {@link ReturnFormat}
+     * @return tree as {@code "format"} defines
+     * @throws IOException when request has been go wrong
+     **/
+    private <T> T sendTreeRequest(String endpoint, ReturnFormat format) throws IOException {
+        requireNonStream(format);
+        if (format == LIBRARY_OBJECT) {
+            GitHubHTTPResponse response = sendHTTPRequest(endpoint, readObjectList("tree", TreeValue::new,
+                    (jTree, tree) -> new Tree(jTree.optString("sha", null), jTree.optString("url", null),
+                            jTree.optBoolean("truncated"), tree)));
+            if (response.isSuccessful())
+                return response.getContent();
+            return returnTree(response.getBody(), format);
+        }
+        return returnTree(sendGetRequest(endpoint), format);
     }
 
     /**
@@ -138,6 +138,7 @@ public class GitHubGitignoreManager extends GitHubManager {
     @Returner
     @RequestPath(method = GET, path = "/gitignore/templates")
     public <T> T getAllGitignoreTemplates(ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String templatesResponse = sendGetRequest(GITIGNORE_TEMPLATES_PATH);
         switch (format) {
             case JSON:
@@ -205,6 +206,7 @@ public class GitHubGitignoreManager extends GitHubManager {
     @Returner
     @RequestPath(method = GET, path = "/gitignore/templates/{name}")
     public <T> T getGitignoreTemplate(String name, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String templateResponse = sendGetRequest(GITIGNORE_TEMPLATES_PATH + "/" + name);
         switch (format) {
             case JSON:
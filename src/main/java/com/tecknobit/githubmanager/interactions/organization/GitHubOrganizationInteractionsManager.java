@@ -197,6 +197,7 @@ public class GitHubOrganizationInteractionsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/interaction-limits")
     public <T> T getInteractionRestrictions(String org, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnInteraction(sendGetRequest(ORGS_PATH + org + INTERACTION_LIMITS_PATH), format);
     }
 
@@ -454,6 +455,7 @@ public class GitHubOrganizationInteractionsManager extends GitHubManager {
      **/
     @RequestPath(method = PUT, path = "/orgs/{org}/interaction-limits")
     public <T> T setInteractionRestrictions(String org, Limit limit, Expiry expiry, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("limit", limit);
         if (expiry != null)
@@ -489,7 +491,7 @@ public class GitHubOrganizationInteractionsManager extends GitHubManager {
     public boolean removeInteractionRestrictions(String org) {
         try {
             sendDeleteRequest(ORGS_PATH + org + INTERACTION_LIMITS_PATH);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -195,6 +195,7 @@ public class GitHubRepositoryInteractionsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/interaction-limits")
     public <T> T getInteractionRestrictions(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnInteraction(sendGetRequest(REPOS_PATH + owner + "/" + repo
                 + INTERACTION_LIMITS_PATH), format);
     }
@@ -459,6 +460,7 @@ public class GitHubRepositoryInteractionsManager extends GitHubManager {
     @RequestPath(method = PUT, path = "/repos/{owner}/{repo}/interaction-limits")
     public <T> T setInteractionRestrictions(String owner, String repo, Limit limit, Expiry expiry,
                                             ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("limit", limit);
         if (expiry != null)
@@ -500,7 +502,7 @@ public class GitHubRepositoryInteractionsManager extends GitHubManager {
     public boolean removeInteractionRestrictions(String owner, String repo) {
         try {
             sendDeleteRequest(REPOS_PATH + owner + "/" + repo + INTERACTION_LIMITS_PATH);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -140,6 +140,7 @@ public class GitHubUserInteractionsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/interaction-limits")
     public <T> T getInteractionRestrictions(ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnInteraction(sendGetRequest(USER_INTERACTIONS_LIMITS_PATH), format);
     }
 
@@ -258,6 +259,7 @@ public class GitHubUserInteractionsManager extends GitHubManager {
      **/
     @RequestPath(method = PUT, path = "/user/interaction-limits")
     public <T> T setInteractionRestrictions(Limit limit, Expiry expiry, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("limit", limit);
         if (expiry != null)
@@ -277,7 +279,7 @@ public class GitHubUserInteractionsManager extends GitHubManager {
     public boolean removeInteractionRestrictions() {
         try {
             sendDeleteRequest(USER_INTERACTIONS_LIMITS_PATH);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
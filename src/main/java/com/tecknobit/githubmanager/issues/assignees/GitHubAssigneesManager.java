@@ -197,6 +197,7 @@ public class GitHubAssigneesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/assignees")
     public <T> T getAssignees(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnUsersList(sendGetRequest(REPOS_PATH + owner + "/" + repo + ASSIGNEES_PATH), format);
     }
 
@@ -341,6 +342,7 @@ public class GitHubAssigneesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/assignees")
     public <T> T getAssignees(String owner, String repo, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnUsersList(sendGetRequest(REPOS_PATH + owner + "/" + repo + ASSIGNEES_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -413,7 +415,7 @@ public class GitHubAssigneesManager extends GitHubManager {
     public boolean checkIfAUserCanBeAssigned(String owner, String repo, String assignee) {
         try {
             sendGetRequest(REPOS_PATH + owner + "/" + repo + ASSIGNEES_PATH + "/" + assignee);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -670,6 +672,7 @@ public class GitHubAssigneesManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/issues/{issue_number}/assignees")
     public <T> T addIssueAssignees(String owner, String repo, long issueNumber, ReturnFormat format,
                                    String... assignees) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("assignees", assignees);
         return returnIssue(sendPostRequest(REPOS_PATH + owner + "/" + repo + "/" + ISSUES_PATH + "/"
@@ -923,6 +926,7 @@ public class GitHubAssigneesManager extends GitHubManager {
     @RequestPath(method = DELETE, path = "/repos/{owner}/{repo}/issues/{issue_number}/assignees")
     public <T> T removeIssueAssignees(String owner, String repo, long issueNumber, ReturnFormat format,
                                       String... assignees) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("assignees", assignees);
         return returnIssue(sendDeleteRequest(REPOS_PATH + owner + "/" + repo + "/" + ISSUES_PATH + "/"
@@ -1081,7 +1085,7 @@ public class GitHubAssigneesManager extends GitHubManager {
         try {
             sendGetRequest(REPOS_PATH + owner + "/" + repo + "/" + ISSUES_PATH + "/" + issueNumber
                     + ASSIGNEES_PATH + "/" + assignee);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
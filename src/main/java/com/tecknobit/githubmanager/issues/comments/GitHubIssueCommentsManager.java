@@ -203,6 +203,7 @@ public class GitHubIssueCommentsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/issues/comments")
     public <T> T getRepositoryIssueComments(String owner, String repo, ReturnFormat format) throws Exception {
+        requireNonStream(format);
         return returnIssueCommentsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + ISSUES_COMMENTS_PATH),
                 format);
     }
@@ -403,6 +404,7 @@ public class GitHubIssueCommentsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/issues/comments")
     public <T> T getRepositoryIssueComments(String owner, String repo, Params queryParams,
                                             ReturnFormat format) throws Exception {
+        requireNonStream(format);
         return returnIssueCommentsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + ISSUES_COMMENTS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -516,6 +518,7 @@ public class GitHubIssueCommentsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/issues/comments/{comment_id}")
     public <T> T getIssueComment(String owner, String repo, long commentId, ReturnFormat format) throws Exception {
+        requireNonStream(format);
         return returnIssueComment(sendGetRequest(REPOS_PATH + owner + "/" + repo + ISSUES_COMMENTS_PATH
                 + "/" + commentId), format);
     }
@@ -757,6 +760,7 @@ public class GitHubIssueCommentsManager extends GitHubManager {
     @RequestPath(method = PATCH, path = "/repos/{owner}/{repo}/issues/comments/{comment_id}")
     public <T> T updateIssueComment(String owner, String repo, long commentId, String body,
                                     ReturnFormat format) throws Exception {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("body", body);
         return returnIssueComment(sendPatchRequest(REPOS_PATH + owner + "/" + repo + ISSUES_COMMENTS_PATH
@@ -823,7 +827,7 @@ public class GitHubIssueCommentsManager extends GitHubManager {
     public boolean deleteIssueComment(String owner, String repo, long commentId) {
         try {
             sendDeleteRequest(REPOS_PATH + owner + "/" + repo + ISSUES_COMMENTS_PATH + "/" + commentId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -1065,6 +1069,7 @@ public class GitHubIssueCommentsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/issues/{issue_number}/comments")
     public <T> T getIssueComments(String owner, String repo, long issueNumber, ReturnFormat format) throws Exception {
+        requireNonStream(format);
         return returnIssueCommentsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + "/"
                 + ISSUES_PATH + "/" + issueNumber + COMMENTS_PATH), format);
     }
@@ -1414,6 +1419,7 @@ public class GitHubIssueCommentsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/issues/{issue_number}/comments")
     public <T> T getIssueComments(String owner, String repo, long issueNumber, Params queryParams,
                                   ReturnFormat format) throws Exception {
+        requireNonStream(format);
         return returnIssueCommentsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + "/"
                 + ISSUES_PATH + "/" + issueNumber + COMMENTS_PATH + queryParams.createQueryString()), format);
     }
@@ -1693,6 +1699,7 @@ public class GitHubIssueCommentsManager extends GitHubManager {
      **/
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/issues/{issue_number}/comments")
     public <T> T createIssueComment(String owner, String repo, long issueNumber, String body, ReturnFormat format) throws Exception {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("body", body);
         return returnIssueComment(sendPostRequest(REPOS_PATH + owner + "/" + repo + "/"
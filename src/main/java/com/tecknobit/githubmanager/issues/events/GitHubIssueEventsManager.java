@@ -197,6 +197,7 @@ public class GitHubIssueEventsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/issues/events")
     public <T> T getRepositoryIssueEvents(String owner, String repo, ReturnFormat format) throws Exception {
+        requireNonStream(format);
         return returnIssueEventsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + ISSUES_EVENTS_PATH), format);
     }
 
@@ -343,6 +344,7 @@ public class GitHubIssueEventsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/issues/events")
     public <T> T getRepositoryIssueEvents(String owner, String repo, Params queryParams,
                                           ReturnFormat format) throws Exception {
+        requireNonStream(format);
         return returnIssueEventsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + ISSUES_EVENTS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -456,6 +458,7 @@ public class GitHubIssueEventsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/issues/events/{event_id}")
     public <T> T getIssueEvent(String owner, String repo, long eventId, ReturnFormat format) throws Exception {
+        requireNonStream(format);
         String issueEventResponse = sendGetRequest(REPOS_PATH + owner + "/" + repo + ISSUES_EVENTS_PATH + "/"
                 + eventId);
         switch (format) {
@@ -690,6 +693,7 @@ public class GitHubIssueEventsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/issues/{issue_number}/events")
     public <T> T getIssueEvents(String owner, String repo, long issueNumber, ReturnFormat format) throws Exception {
+        requireNonStream(format);
         return returnIssueEventsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + ISSUES_EVENTS_PATH
                 + "/" + issueNumber), format);
     }
@@ -997,6 +1001,7 @@ public class GitHubIssueEventsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/issues/{issue_number}/events")
     public <T> T getIssueEvents(String owner, String repo, long issueNumber, Params queryParams,
                                 ReturnFormat format) throws Exception {
+        requireNonStream(format);
         return returnIssueEventsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + ISSUES_EVENTS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -10,6 +10,7 @@ import com.tecknobit.githubmanager.issues.issues.records.Issue.IssueFilter;
 import com.tecknobit.githubmanager.issues.issues.records.Issue.IssueSort;
 import com.tecknobit.githubmanager.issues.issues.records.Issue.StateReason;
 import com.tecknobit.githubmanager.organizations.organizations.records.Organization;
+import com.tecknobit.githubmanager.pagination.GitHubPaginator;
 import com.tecknobit.githubmanager.records.parents.GitHubOperation.LockReason;
 import com.tecknobit.githubmanager.records.parents.GitHubOperationBaseStructure.OperationState;
 import com.tecknobit.githubmanager.repositories.repositories.records.Repository;
@@ -20,6 +21,7 @@ import java.util.ArrayList;
 
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.*;
 import static com.tecknobit.githubmanager.GitHubManager.ReturnFormat.LIBRARY_OBJECT;
+import static com.tecknobit.githubmanager.GitHubManager.ReturnFormat.STREAM;
 import static com.tecknobit.githubmanager.issues.issues.records.Issue.returnIssue;
 
 /**
@@ -167,7 +169,7 @@ public class GitHubIssuesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/issues")
     public <T> T getUserAssignedIssues(ReturnFormat format) throws IOException {
-        return returnIssuesList(sendGetRequest(ISSUES_PATH), format);
+        return sendIssuesRequest(ISSUES_PATH, format);
     }
 
     /**
@@ -323,7 +325,7 @@ public class GitHubIssuesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/issues")
     public <T> T getUserAssignedIssues(Params queryParams, ReturnFormat format) throws IOException {
-        return returnIssuesList(sendGetRequest(ISSUES_PATH + queryParams.createQueryString()), format);
+        return sendIssuesRequest(ISSUES_PATH + queryParams.createQueryString(), format);
     }
 
     /**
@@ -445,7 +447,7 @@ public class GitHubIssuesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/issues")
     public <T> T getOrganizationAssignedIssues(String org, ReturnFormat format) throws IOException {
-        return returnIssuesList(sendGetRequest(ORGS_PATH + org + "/" + ISSUES_PATH), format);
+        return sendIssuesRequest(ORGS_PATH + org + "/" + ISSUES_PATH, format);
     }
 
     /**
@@ -707,8 +709,8 @@ public class GitHubIssuesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/issues")
     public <T> T getOrganizationAssignedIssues(String org, Params queryParams, ReturnFormat format) throws IOException {
-        return returnIssuesList(sendGetRequest(ORGS_PATH + org + "/" + ISSUES_PATH
-                + queryParams.createQueryString()), format);
+        return sendIssuesRequest(ORGS_PATH + org + "/" + ISSUES_PATH
+                + queryParams.createQueryString(), format);
     }
 
     /**
@@ -832,7 +834,7 @@ public class GitHubIssuesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/issues")
     public <T> T getRepositoryIssues(String owner, String repo, ReturnFormat format) throws IOException {
-        return returnIssuesList(sendGetRequest(REPOS_PATH + owner + "/" + repo + "/" + ISSUES_PATH), format);
+        return sendIssuesRequest(REPOS_PATH + owner + "/" + repo + "/" + ISSUES_PATH, format);
     }
 
     /**
@@ -1116,8 +1118,104 @@ public class GitHubIssuesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/issues")
     public <T> T getRepositoryIssues(String owner, String repo, Params queryParams, ReturnFormat format) throws IOException {
-        return returnIssuesList(sendGetRequest(REPOS_PATH + owner + "/" + repo + "/" + ISSUES_PATH
-                + queryParams.createQueryString()), format);
+        return sendIssuesRequest(REPOS_PATH + owner + "/" + repo + "/" + ISSUES_PATH
+                + queryParams.createQueryString(), format);
+    }
+
+    /**
+     * Method to iterate all the issues in a repository following all the pages of the list. Only open issues will be listed.
+     *
+     * @param repository: the repository to fetch the issues
+     * @return all the issues as {@link GitHubPaginator} of {@link Issue} custom object, the pages are fetched while
+     * the issues are iterated
+     * @apiNote see the official documentation at: <a href="https://docs.github.com/en/rest/issues/issues#list-repository-issues">
+     * List repository issues</a>
+     * @implNote GitHub's REST API considers every pull request an issue, but not every issue is a pull request.
+     * For this reason, "Issues" endpoints may return both issues and pull requests in the response.
+     * You can identify pull requests by the pull_request key. Be aware that the id of a pull request returned from
+     * "Issues" endpoints will be an issue id. To find out the pull request id, use the "List pull requests" endpoint
+     **/
+    @Wrapper
+    @RequestPath(method = GET, path = "/repos/{owner}/{repo}/issues")
+    public GitHubPaginator<Issue> getAllRepositoryIssues(Repository repository) {
+        return getAllRepositoryIssues(repository.getOwner().getLogin(), repository.getName(), null);
+    }
+
+    /**
+     * Method to iterate all the issues in a repository following all the pages of the list. Only open issues will be listed.
+     *
+     * @param owner: the account owner of the repository. The name is not case-sensitive
+     * @param repo:  the name of the repository. The name is not case-sensitive
+     * @return all the issues as {@link GitHubPaginator} of {@link Issue} custom object, the pages are fetched while
+     * the issues are iterated
+     * @apiNote see the official documentation at: <a href="https://docs.github.com/en/rest/issues/issues#list-repository-issues">
+     * List repository issues</a>
+     * @implNote GitHub's REST API considers every pull request an issue, but not every issue is a pull request.
+     * For this reason, "Issues" endpoints may return both issues and pull requests in the response.
+     * You can identify pull requests by the pull_request key. Be aware that the id of a pull request returned from
+     * "Issues" endpoints will be an issue id. To find out the pull request id, use the "List pull requests" endpoint
+     **/
+    @Wrapper
+    @RequestPath(method = GET, path = "/repos/{owner}/{repo}/issues")
+    public GitHubPaginator<Issue> getAllRepositoryIssues(String owner, String repo) {
+        return getAllRepositoryIssues(owner, repo, null);
+    }
+
+    /**
+     * Method to iterate all the issues in a repository following all the pages of the list. Only open issues will be listed.
+     *
+     * @param owner:       the account owner of the repository. The name is not case-sensitive
+     * @param repo:        the name of the repository. The name is not case-sensitive
+     * @param queryParams: extra query params not mandatory, keys accepted are:
+     *                     <ul>
+     *                        <li>
+     *                            {@code "milestone"} -> if an integer is passed, it should refer to a milestone by its
+     *                            number field. If the string * is passed, issues with any milestone are accepted.
+     *                            If the string none is passed, issues without milestones are returned - [string, default assigned]
+     *                        </li>
+     *                        <li>
+     *                            {@code "state"} -> indicates the state of the issues to return, constants available
+     *                            {@link OperationState} - [string, default open]
+     *                        </li>
+     *                        <li>
+     *                            {@code "assignee"} -> can be the name of a user. Pass in none for issues with no assigned
+     *                            user, and * for issues assigned to any user - [string]
+     *                        </li>
+     *                        <li>
+     *                            {@code "creator"} -> the user that created the issue - [string]
+     *                        </li>
+     *                        <li>
+     *                            {@code "mentioned"} -> a user that's mentioned in the issue - [string]
+     *                        </li>
+     *                        <li>
+     *                            {@code "sort"} -> what to sort results by, constants available {@link IssueSort}
+     *                            - [string, default created]
+     *                        </li>
+     *                        <li>
+     *                            {@code "direction"} -> the direction to sort the results by, constants available
+     *                             {@link Directions} - [string, default desc]
+     *                        </li>
+     *                        <li>
+     *                            {@code "since"} -> only show notifications updated after the given time.
+     *                            This is a timestamp in ISO 8601 format: YYYY-MM-DDTHH:MM:SSZ - [string]
+     *                        </li>
+     *                        <li>
+     *                            {@code "per_page"} -> the number of results per page (max 100) - [integer, default 100]
+     *                        </li>
+     *                     </ul>
+     * @return all the issues as {@link GitHubPaginator} of {@link Issue} custom object, the pages are fetched while
+     * the issues are iterated
+     * @apiNote see the official documentation at: <a href="https://docs.github.com/en/rest/issues/issues#list-repository-issues">
+     * List repository issues</a>
+     * @implNote GitHub's REST API considers every pull request an issue, but not every issue is a pull request.
+     * For this reason, "Issues" endpoints may return both issues and pull requests in the response.
+     * You can identify pull requests by the pull_request key. Be aware that the id of a pull request returned from
+     * "Issues" endpoints will be an issue id. To find out the pull request id, use the "List pull requests" endpoint
+     **/
+    @RequestPath(method = GET, path = "/repos/{owner}/{repo}/issues")
+    public GitHubPaginator<Issue> getAllRepositoryIssues(String owner, String repo, Params queryParams) {
+        return paginate(REPOS_PATH + owner + "/" + repo + "/" + ISSUES_PATH, queryParams,
+                issues -> returnIssuesList(issues, LIBRARY_OBJECT));
     }
 
     /**
@@ -1325,6 +1423,7 @@ public class GitHubIssuesManager extends GitHubManager {
      **/
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/issues")
     public <T> T createIssue(String owner, String repo, String title, Params bodyParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         if (bodyParams == null)
             bodyParams = new Params();
         bodyParams.addParam("title", title);
@@ -1477,6 +1576,7 @@ public class GitHubIssuesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/issues/{issue_number}")
     public <T> T getIssue(String owner, String repo, long issueNumber, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnIssue(sendGetRequest(REPOS_PATH + owner + "/" + repo + "/" + ISSUES_PATH + "/" + issueNumber),
                 format);
     }
@@ -1997,6 +2097,7 @@ public class GitHubIssuesManager extends GitHubManager {
     @RequestPath(method = PATCH, path = "/repos/{owner}/{repo}/issues")
     public <T> T updateIssue(String owner, String repo, long issueNumber, Params bodyParams,
                              ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnIssue(sendPatchRequest(REPOS_PATH + owner + "/" + repo + "/" + ISSUES_PATH
                 + "/" + issueNumber, bodyParams), format);
     }
@@ -2157,7 +2258,7 @@ public class GitHubIssuesManager extends GitHubManager {
                 payload = null;
             sendPutRequest(REPOS_PATH + owner + "/" + repo + "/" + ISSUES_PATH + "/" + issueNumber + LOCK_PATH,
                     payload);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -2233,7 +2334,7 @@ public class GitHubIssuesManager extends GitHubManager {
         try {
             sendDeleteRequest(REPOS_PATH + owner + "/" + repo + "/" + ISSUES_PATH + "/" + issueNumber
                     + LOCK_PATH);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -2300,7 +2401,7 @@ public class GitHubIssuesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/issues")
     public <T> T getUserAccountAssignedIssues(ReturnFormat format) throws IOException {
-        return returnIssuesList(sendGetRequest(USER_ISSUES_PATH), format);
+        return sendIssuesRequest(USER_ISSUES_PATH, format);
     }
 
     /**
@@ -2428,7 +2529,22 @@ public class GitHubIssuesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/issues")
     public <T> T getUserAccountAssignedIssues(Params queryParams, ReturnFormat format) throws IOException {
-        return returnIssuesList(sendGetRequest(USER_ISSUES_PATH + queryParams.createQueryString()), format);
+        return sendIssuesRequest(USER_ISSUES_PATH + queryParams.createQueryString(), format);
+    }
+
+    /**
+     * Method to send a request to get a list of issues, the {@link ReturnFormat#STREAM} format returns a lazy
+     * {@link java.util.stream.Stream} of {@link Issue} over all the pages of the list
+     *
+     * @param endpoint: endpoint of the request
+     * @param format:   return type formatter -> {@link ReturnFormat}
+     * @return issues list as {@code "format"} defines
+     * @throws IOException when request has been go wrong
+     **/
+    private <T> T sendIssuesRequest(String endpoint, ReturnFormat format) throws IOException {
+        if (format == STREAM)
+            return (T) streamList(endpoint, Issue::new);
+        return returnIssuesList(sendGetRequest(endpoint), format);
     }
 
     /**
@@ -314,6 +314,7 @@ public class GitHubIssueLabelsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/issues/{issue_number}/labels")
     public <T> T getIssueLabels(String owner, String repo, long issueNumber, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnLabelsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + "/" + ISSUES_PATH
                 + "/" + issueNumber + LABELS_PATH), format);
     }
@@ -621,6 +622,7 @@ public class GitHubIssueLabelsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/issues/{issue_number}/labels")
     public <T> T getIssueLabels(String owner, String repo, long issueNumber, Params queryParams,
                                 ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnLabelsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + "/" + ISSUES_PATH
                 + "/" + issueNumber + LABELS_PATH + queryParams.createQueryString()), format);
     }
@@ -894,6 +896,7 @@ public class GitHubIssueLabelsManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/issues/{issue_number}/labels")
     public <T> T addIssueLabels(String owner, String repo, long issueNumber, ReturnFormat format,
                                 String... labels) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("labels", labels);
         return returnLabelsList(sendPostRequest(REPOS_PATH + owner + "/" + repo + "/" + ISSUES_PATH
@@ -1178,6 +1181,7 @@ public class GitHubIssueLabelsManager extends GitHubManager {
     @RequestPath(method = PUT, path = "/repos/{owner}/{repo}/issues/{issue_number}/labels")
     public <T> T setIssueLabels(String owner, String repo, long issueNumber, ReturnFormat format,
                                 String... labels) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("labels", labels);
         return returnLabelsList(sendPutRequest(REPOS_PATH + owner + "/" + repo + "/" + ISSUES_PATH
@@ -1244,7 +1248,7 @@ public class GitHubIssueLabelsManager extends GitHubManager {
     public boolean removeAllIssueLabels(String owner, String repo, long issueNumber) {
         try {
             sendDeleteRequest(REPOS_PATH + owner + "/" + repo + "/" + ISSUES_PATH + "/" + issueNumber + LABELS_PATH);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -1733,6 +1737,7 @@ public class GitHubIssueLabelsManager extends GitHubManager {
     @RequestPath(method = DELETE, path = "/repos/{owner}/{repo}/issues/{issue_number}/labels/{name}")
     public <T> T removeIssueLabel(String owner, String repo, long issueNumber, String name,
                                   ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnLabelsList(sendDeleteRequest(REPOS_PATH + owner + "/" + repo + "/" + ISSUES_PATH + "/"
                 + issueNumber + LABELS_PATH + "/" + name), format);
     }
@@ -1842,6 +1847,7 @@ public class GitHubIssueLabelsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/labels")
     public <T> T getRepositoryLabels(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnLabelsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + LABELS_PATH), format);
     }
 
@@ -1986,6 +1992,7 @@ public class GitHubIssueLabelsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/labels")
     public <T> T getRepositoryLabels(String owner, String repo, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnLabelsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + LABELS_PATH + queryParams),
                 format);
     }
@@ -2272,6 +2279,7 @@ public class GitHubIssueLabelsManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/labels")
     public <T> T createLabel(String owner, String repo, String name, Params bodyParams,
                              ReturnFormat format) throws IOException {
+        requireNonStream(format);
         if (bodyParams == null)
             bodyParams = new Params();
         bodyParams.addParam("name", name);
@@ -2387,6 +2395,7 @@ public class GitHubIssueLabelsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/labels/{name}")
     public <T> T getLabel(String owner, String repo, String name, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnLabel(sendGetRequest(REPOS_PATH + owner + "/" + repo + LABELS_PATH + "/" + name), format);
     }
 
@@ -2568,6 +2577,7 @@ public class GitHubIssueLabelsManager extends GitHubManager {
     @RequestPath(method = PATCH, path = "/repos/{owner}/{repo}/labels/{name}")
     public <T> T updateLabel(String owner, String repo, String name, Params bodyParams,
                              ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnLabel(sendPatchRequest(REPOS_PATH + owner + "/" + repo + LABELS_PATH + "/" + name,
                 bodyParams), format);
     }
@@ -2651,7 +2661,7 @@ public class GitHubIssueLabelsManager extends GitHubManager {
     public boolean deleteLabel(String owner, String repo, String name) {
         try {
             sendDeleteRequest(REPOS_PATH + owner + "/" + repo + LABELS_PATH + "/" + name);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -2891,6 +2901,7 @@ public class GitHubIssueLabelsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/milestones/{milestone_number}/labels")
     public <T> T getMilestoneIssuesLabels(String owner, String repo, long milestoneNumber,
                                           ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnLabelsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + MILESTONES_PATH
                 + "/" + milestoneNumber + LABELS_PATH), format);
     }
@@ -3202,6 +3213,7 @@ public class GitHubIssueLabelsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/milestones/{milestone_number}/labels")
     public <T> T getMilestoneIssuesLabels(String owner, String repo, long milestoneNumber, Params queryParams,
                                           ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnLabelsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + MILESTONES_PATH
                 + "/" + milestoneNumber + LABELS_PATH + queryParams.createQueryString()), format);
     }
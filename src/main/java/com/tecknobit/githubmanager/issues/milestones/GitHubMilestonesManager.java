@@ -198,6 +198,7 @@ public class GitHubMilestonesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/milestones")
     public <T> T getMilestones(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnMilestonesList(sendGetRequest(REPOS_PATH + owner + "/" + repo + MILESTONES_PATH), format);
     }
 
@@ -390,6 +391,7 @@ public class GitHubMilestonesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/milestones")
     public <T> T getMilestones(String owner, String repo, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnMilestonesList(sendGetRequest(REPOS_PATH + owner + "/" + repo
                 + MILESTONES_PATH + queryParams.createQueryString()), format);
     }
@@ -584,6 +586,7 @@ public class GitHubMilestonesManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/milestones")
     public <T> T createMilestone(String owner, String repo, String title, Params bodyParams,
                                  ReturnFormat format) throws IOException {
+        requireNonStream(format);
         if (bodyParams == null)
             bodyParams = new Params();
         bodyParams.addParam("title", title);
@@ -700,6 +703,7 @@ public class GitHubMilestonesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/milestones/{milestone_number}")
     public <T> T getMilestone(String owner, String repo, long milestoneNumber, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnMilestone(sendGetRequest(REPOS_PATH + owner + "/" + repo + MILESTONES_PATH + "/" +
                 milestoneNumber), format);
     }
@@ -1070,6 +1074,7 @@ public class GitHubMilestonesManager extends GitHubManager {
     @RequestPath(method = PATCH, path = "/repos/{owner}/{repo}/milestones/{milestone_number}")
     public <T> T updateMilestone(String owner, String repo, long milestoneNumber, Params bodyParams,
                                  ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnMilestone(sendPatchRequest(REPOS_PATH + owner + "/" + repo + MILESTONES_PATH
                 + "/" + milestoneNumber, bodyParams), format);
     }
@@ -1153,7 +1158,7 @@ public class GitHubMilestonesManager extends GitHubManager {
     public boolean deleteMilestone(String owner, String repo, long milestoneNumber) {
         try {
             sendDeleteRequest(REPOS_PATH + owner + "/" + repo + MILESTONES_PATH + "/" + milestoneNumber);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
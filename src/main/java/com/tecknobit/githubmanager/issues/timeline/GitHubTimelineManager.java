@@ -315,6 +315,7 @@ public class GitHubTimelineManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/issues/{issue_number}/timeline")
     public <T> T getIssueTimelineEvents(String owner, String repo, long issueNumber, ReturnFormat format) throws Exception {
+        requireNonStream(format);
         return returnIssueEventsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + "/" + ISSUES_PATH + "/"
                 + issueNumber + TIMELINE_PATH), format);
     }
@@ -626,6 +627,7 @@ public class GitHubTimelineManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/issues/{issue_number}/timeline")
     public <T> T getIssueTimelineEvents(String owner, String repo, long issueNumber, Params queryParams,
                                         ReturnFormat format) throws Exception {
+        requireNonStream(format);
         return returnIssueEventsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + "/" + ISSUES_PATH + "/"
                 + issueNumber + TIMELINE_PATH + queryParams.createQueryString()), format);
     }
@@ -146,6 +146,7 @@ public class GitHubLicensesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/licenses")
     public <T> T getAllCommonlyUsedLicenses(ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnCommonLicenses(sendGetRequest(LICENSES_PATH), format);
     }
 
@@ -220,6 +221,7 @@ public class GitHubLicensesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/licenses")
     public <T> T getAllCommonlyUsedLicenses(Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnCommonLicenses(sendGetRequest(LICENSES_PATH + queryParams.createQueryString()), format);
     }
 
@@ -296,6 +298,7 @@ public class GitHubLicensesManager extends GitHubManager {
     @Returner
     @RequestPath(method = GET, path = "/licenses/{license}")
     public <T> T getLicense(String license, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String licenseResponse = sendGetRequest(LICENSES_PATH + "/" + license);
         switch (format) {
             case JSON:
@@ -425,6 +428,7 @@ public class GitHubLicensesManager extends GitHubManager {
     @Returner
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/license")
     public <T> T getRepositoryLicense(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String licenseResponse = sendGetRequest(REPOS_PATH + owner + "/" + repo + LICENSE_PATH);
         switch (format) {
             case JSON:
@@ -7,6 +7,7 @@ import com.tecknobit.githubmanager.GitHubManager;
 import java.io.IOException;
 
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.POST;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 /**
  * The {@code GitHubMarkdownManager} class is useful to manage all GitHub's markdown endpoints
@@ -217,8 +218,8 @@ public class GitHubMarkdownManager extends GitHubManager {
         if (bodyParams == null)
             bodyParams = new Params();
         bodyParams.addParam("text", text);
-        mainHeaders.addHeader("Content-Type", "text/plain");
-        return sendPostRequest(MARKDOWN_RAW_PATH, bodyParams);
+        return sendHTTPRequest(MARKDOWN_RAW_PATH, POST, "text/plain",
+                bodyParams.createJSONPayload().toString().getBytes(UTF_8)).getBody();
     }
 
     /**
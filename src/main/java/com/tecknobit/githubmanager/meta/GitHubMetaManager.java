@@ -155,6 +155,7 @@ public class GitHubMetaManager extends GitHubManager {
     @Returner
     @RequestPath(method = GET, path = "/")
     public <T> T getGitHubAPIRoot(ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String APIRootResponse = sendGetRequest("");
         switch (format) {
             case JSON:
@@ -237,6 +238,7 @@ public class GitHubMetaManager extends GitHubManager {
     @Returner
     @RequestPath(method = GET, path = "/meta")
     public <T> T getGitHubMetaInformation(ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String APIRootResponse = sendGetRequest(META_PATH);
         switch (format) {
             case JSON:
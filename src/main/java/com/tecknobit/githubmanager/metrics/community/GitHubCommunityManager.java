@@ -223,6 +223,7 @@ public class GitHubCommunityManager extends GitHubManager {
     @Returner
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/community/profile")
     public <T> T getCommunityProfileMetrics(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String communityProfileResponse = sendGetRequest(REPOS_PATH + owner + "/" + repo + COMMUNITY_PROFILE_PATH);
         switch (format) {
             case JSON:
@@ -224,6 +224,7 @@ public class GitHubStatisticsManager extends GitHubManager {
     @Returner
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/stats/code_frequency")
     public <T> T getWeeklyCommitActivity(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String weeklyCommitActivityResponse = sendGetRequest(REPOS_PATH + owner + "/" + repo
                 + STATS_CODE_FREQUENCY_PATH);
         switch (format) {
@@ -353,6 +354,7 @@ public class GitHubStatisticsManager extends GitHubManager {
     @Returner
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/stats/commit_activity")
     public <T> T getLastYearCommitActivity(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String lastYearCommitActivityResponse = sendGetRequest(REPOS_PATH + owner + "/" + repo
                 + STATS_COMMIT_ACTIVITY_PATH);
         switch (format) {
@@ -542,6 +544,7 @@ public class GitHubStatisticsManager extends GitHubManager {
     @Returner
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/stats/contributors")
     public <T> T getAllContributorCommitActivity(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String contributorActivityResponse = sendGetRequest(REPOS_PATH + owner + "/" + repo
                 + STATS_CONTRIBUTORS_PATH);
         switch (format) {
@@ -679,6 +682,7 @@ public class GitHubStatisticsManager extends GitHubManager {
     @Returner
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/stats/participation")
     public <T> T getWeeklyCommitCount(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String weeklyCommitCountResponse = sendGetRequest(REPOS_PATH + owner + "/" + repo
                 + STATS_PARTICIPATION_PATH);
         switch (format) {
@@ -853,6 +857,7 @@ public class GitHubStatisticsManager extends GitHubManager {
     @Returner
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/stats/punch_card")
     public <T> T getEachDayHourlyCommitCount(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String eachDayResponse = sendGetRequest(REPOS_PATH + owner + "/" + repo + STATS_PUNCH_CARD_PATH);
         switch (format) {
             case JSON:
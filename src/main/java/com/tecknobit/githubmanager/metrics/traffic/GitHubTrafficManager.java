@@ -227,6 +227,7 @@ public class GitHubTrafficManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/traffic/clones")
     public <T> T getRepositoryClones(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositoryClones(sendGetRequest(REPOS_PATH + owner + "/" + repo + TRAFFIC_CLONES_PATH),
                 format);
     }
@@ -344,6 +345,7 @@ public class GitHubTrafficManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/traffic/clones")
     public <T> T getRepositoryClones(String owner, String repo, Per per, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositoryClones(sendGetRequest(REPOS_PATH + owner + "/" + repo + TRAFFIC_CLONES_PATH
                 + "?per=" + per), format);
     }
@@ -473,6 +475,7 @@ public class GitHubTrafficManager extends GitHubManager {
     @Returner
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/traffic/popular/paths")
     public <T> T getTopReferralPaths(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String referralPathsResponse = sendGetRequest(REPOS_PATH + owner + "/" + repo
                 + TRAFFIC_POPULAR_PATHS_PATH);
         switch (format) {
@@ -595,6 +598,7 @@ public class GitHubTrafficManager extends GitHubManager {
     @Returner
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/traffic/popular/referrers")
     public <T> T getTopReferralSources(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String referralSourcesResponse = sendGetRequest(REPOS_PATH + owner + "/" + repo
                 + TRAFFIC_POPULAR_REFERRERS_PATH);
         switch (format) {
@@ -720,6 +724,7 @@ public class GitHubTrafficManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/traffic/views")
     public <T> T getPageViews(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnPageViews(sendGetRequest(REPOS_PATH + owner + "/" + repo + TRAFFIC_VIEWS_PATH),
                 format);
     }
@@ -837,6 +842,7 @@ public class GitHubTrafficManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/traffic/views")
     public <T> T getPageViews(String owner, String repo, Per per, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnPageViews(sendGetRequest(REPOS_PATH + owner + "/" + repo + TRAFFIC_VIEWS_PATH
                 + "?per=" + per), format);
     }
@@ -14,7 +14,6 @@ import java.io.IOException;
 import java.util.ArrayList;
 
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.*;
-import static com.tecknobit.apimanager.apis.APIRequest.downloadFile;
 import static com.tecknobit.githubmanager.GitHubManager.ReturnFormat.LIBRARY_OBJECT;
 import static com.tecknobit.githubmanager.issues.issues.GitHubIssuesManager.LOCK_PATH;
 import static com.tecknobit.githubmanager.migrations.records.Migration.returnMigration;
@@ -212,6 +211,7 @@ public class GitHubOrganizationsMigrationsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/migrations")
     public <T> T getOrganizationMigrations(String org, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnMigrations(sendGetRequest(ORGS_PATH + org + MIGRATIONS_PATH), format);
     }
 
@@ -378,6 +378,7 @@ public class GitHubOrganizationsMigrationsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/migrations")
     public <T> T getOrganizationMigrations(String org, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnMigrations(sendGetRequest(ORGS_PATH + org + MIGRATIONS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -1129,6 +1130,7 @@ public class GitHubOrganizationsMigrationsManager extends GitHubManager {
     @RequestPath(method = POST, path = "/orgs/{org}/migrations")
     public <T> T startOrganizationMigration(String org, Params bodyParams, ReturnFormat format,
                                             String... repositories) throws IOException {
+        requireNonStream(format);
         if (bodyParams == null)
             bodyParams = new Params();
         bodyParams.addParam("repositories", repositories);
@@ -1243,6 +1245,7 @@ public class GitHubOrganizationsMigrationsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/migrations/{migration_id}")
     public <T> T getOrganizationMigration(String org, long migrationId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnMigration(sendGetRequest(ORGS_PATH + org + MIGRATIONS_PATH + "/" + migrationId),
                 format);
     }
@@ -1358,6 +1361,7 @@ public class GitHubOrganizationsMigrationsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/migrations/{migration_id}")
     public <T> T getOrganizationMigration(String org, long migrationId, T exclude, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnMigration(sendGetRequest(ORGS_PATH + org + MIGRATIONS_PATH + "/" + migrationId
                 + "?exclude=" + exclude), format);
     }
@@ -1430,6 +1434,7 @@ public class GitHubOrganizationsMigrationsManager extends GitHubManager {
      * @param save:        flag whether save the file, if is set to {@code "false"} will be created a temporary file
      *                     that will be deleted on exit
      * @return migration archive as {@link File}
+     * @implNote the large archives are downloaded in parts at the same time
      * @apiNote see the official documentation at: <a href="https://docs.github.com/en/rest/migrations/orgs#download-an-organization-migration-archive">
      * Download an organization migration archive</a>
      **/
@@ -1437,13 +1442,8 @@ public class GitHubOrganizationsMigrationsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/orgs/{org}/migrations/{migration_id}/archive")
     public File downloadOrganizationMigrationArchive(String org, long migrationId, String archiveName, boolean save) {
         try {
-            String archiveUrl = sendGetRequest(ORGS_PATH + org + MIGRATIONS_PATH + "/" + migrationId
-                    + ARCHIVE_PATH);
-            if (apiRequest.getResponseStatusCode() != 302) {
-                printErrorResponse();
-                return null;
-            }
-            return downloadFile(archiveUrl, archiveName, save);
+            return downloadFile(ORGS_PATH + org + MIGRATIONS_PATH + "/" + migrationId + ARCHIVE_PATH, archiveName,
+                    save, -1, null);
         } catch (IOException e) {
             printErrorResponse();
             return null;
@@ -1512,7 +1512,7 @@ public class GitHubOrganizationsMigrationsManager extends GitHubManager {
     public boolean deleteOrganizationMigrationArchive(String org, long migrationId) {
         try {
             sendDeleteRequest(ORGS_PATH + org + MIGRATIONS_PATH + "/" + migrationId + ARCHIVE_PATH);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -1666,7 +1666,7 @@ public class GitHubOrganizationsMigrationsManager extends GitHubManager {
         try {
             sendDeleteRequest(ORGS_PATH + org + MIGRATIONS_PATH + "/" + migrationId + "/" + REPOS_PATH
                     + repoName + LOCK_PATH);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -1902,6 +1902,7 @@ public class GitHubOrganizationsMigrationsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/migrations/{migration_id}/repositories")
     public <T> T getOrganizationMigrationRepositories(String org, long migrationId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositoriesList(sendGetRequest(ORGS_PATH + org + MIGRATIONS_PATH + "/"
                 + migrationId + REPOSITORIES_PATH), format);
     }
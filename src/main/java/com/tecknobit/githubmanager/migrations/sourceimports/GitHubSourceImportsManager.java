@@ -217,6 +217,7 @@ public class GitHubSourceImportsManager extends GitHubManager {
     @WrappedRequest
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/import")
     public <T> T getImportStatus(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnImport(sendGetRequest(REPOS_PATH + owner + "/" + repo + IMPORT_PATH), format);
     }
 
@@ -530,6 +531,7 @@ public class GitHubSourceImportsManager extends GitHubManager {
     @RequestPath(method = PUT, path = "/repos/{owner}/{repo}/import")
     public <T> T startImport(String owner, String repo, String vcsUrl, Params bodyParams,
                              ReturnFormat format) throws IOException {
+        requireNonStream(format);
         if (bodyParams == null)
             bodyParams = new Params();
         bodyParams.addParam("vcs_url", vcsUrl);
@@ -749,6 +751,7 @@ public class GitHubSourceImportsManager extends GitHubManager {
      **/
     @RequestPath(method = PATCH, path = "/repos/{owner}/{repo}/import")
     public <T> T updateImport(String owner, String repo, Params bodyParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnImport(sendPatchRequest(REPOS_PATH + owner + "/" + repo + IMPORT_PATH, bodyParams), format);
     }
 
@@ -779,7 +782,7 @@ public class GitHubSourceImportsManager extends GitHubManager {
     public boolean cancelImport(String owner, String repo) {
         try {
             sendDeleteRequest(REPOS_PATH + owner + "/" + repo + IMPORT_PATH);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -919,6 +922,7 @@ public class GitHubSourceImportsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/import/authors")
     public <T> T getCommitAuthors(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnCommitAuthors(sendGetRequest(REPOS_PATH + owner + "/" + repo + IMPORT_AUTHORS_PATH), format);
     }
 
@@ -1055,6 +1059,7 @@ public class GitHubSourceImportsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/import/authors")
     public <T> T getCommitAuthors(String owner, String repo, long since, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnCommitAuthors(sendGetRequest(REPOS_PATH + owner + "/" + repo + IMPORT_AUTHORS_PATH
                 + "?since=" + since), format);
     }
@@ -1390,6 +1395,7 @@ public class GitHubSourceImportsManager extends GitHubManager {
     @RequestPath(method = PATCH, path = "/repos/{owner}/{repo}/import/authors/{author_id}")
     public <T> T mapCommitAuthor(String owner, String repo, long authorId, Params bodyParams,
                                  ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String commitAuthorResponse = sendPatchRequest(REPOS_PATH + owner + "/" + repo + IMPORT_AUTHORS_PATH
                 + "/" + authorId, bodyParams);
         switch (format) {
@@ -1508,6 +1514,7 @@ public class GitHubSourceImportsManager extends GitHubManager {
     @Returner
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/import/large_files")
     public <T> T getLargeFiles(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String largeFilesResponse = sendGetRequest(REPOS_PATH + owner + "/" + repo + IMPORT_LARGE_FILES_PATH);
         switch (format) {
             case JSON:
@@ -1644,6 +1651,7 @@ public class GitHubSourceImportsManager extends GitHubManager {
      **/
     @RequestPath(method = PATCH, path = "/repos/{owner}/{repo}/import/lfs")
     public <T> T updateGitLFSPreference(String owner, String repo, LFS lfs, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("use_lfs", lfs);
         return returnImport(sendPatchRequest(REPOS_PATH + owner + "/" + repo + IMPORT_LFS_PATH, payload), format);
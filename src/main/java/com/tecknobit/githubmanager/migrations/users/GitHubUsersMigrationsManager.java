@@ -13,7 +13,6 @@ import java.io.IOException;
 import java.util.ArrayList;
 
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.*;
-import static com.tecknobit.apimanager.apis.APIRequest.downloadFile;
 import static com.tecknobit.githubmanager.GitHubManager.ReturnFormat.LIBRARY_OBJECT;
 import static com.tecknobit.githubmanager.issues.issues.GitHubIssuesManager.LOCK_PATH;
 import static com.tecknobit.githubmanager.migrations.organizations.GitHubOrganizationsMigrationsManager.ARCHIVE_PATH;
@@ -146,6 +145,7 @@ public class GitHubUsersMigrationsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/migrations")
     public <T> T getUserMigrations(ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnMigrations(sendGetRequest(USER_MIGRATIONS_PATH), format);
     }
 
@@ -214,6 +214,7 @@ public class GitHubUsersMigrationsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/migrations")
     public <T> T getUserMigrations(Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnMigrations(sendGetRequest(USER_MIGRATIONS_PATH + queryParams.createQueryString()), format);
     }
 
@@ -566,6 +567,7 @@ public class GitHubUsersMigrationsManager extends GitHubManager {
      **/
     @RequestPath(method = POST, path = "/user/migrations")
     public <T> T startUserMigration(Params bodyParams, ReturnFormat format, String... repositories) throws IOException {
+        requireNonStream(format);
         if (bodyParams == null)
             bodyParams = new Params();
         bodyParams.addParam("repositories", repositories);
@@ -653,6 +655,7 @@ public class GitHubUsersMigrationsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/migrations/{migration_id}")
     public <T> T getUserMigrationStatus(long migrationId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnMigration(sendGetRequest(USER_MIGRATIONS_PATH + "/" + migrationId), format);
     }
 
@@ -739,6 +742,7 @@ public class GitHubUsersMigrationsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/migrations/{migration_id}")
     public <T> T getUserMigrationStatus(long migrationId, T exclude, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnMigration(sendGetRequest(USER_MIGRATIONS_PATH + "/" + migrationId + "?exclude=" + exclude),
                 format);
     }
@@ -769,6 +773,7 @@ public class GitHubUsersMigrationsManager extends GitHubManager {
      * @param save:        flag whether save the file, if is set to {@code "false"} will be created a temporary file
      *                     that will be deleted on exit
      * @return migration archive as {@link File}
+     * @implNote the large archives are downloaded in parts at the same time
      * @apiNote see the official documentation at: <a href="https://docs.github.com/en/rest/migrations/users#download-a-user-migration-archive">
      * Download a user migration archive</a>
      **/
@@ -776,12 +781,8 @@ public class GitHubUsersMigrationsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/user/migrations/{migration_id}/archive")
     public File downloadUserMigrationArchive(long migrationId, String archiveName, boolean save) {
         try {
-            String archiveUrl = sendGetRequest(USER_MIGRATIONS_PATH + "/" + migrationId + ARCHIVE_PATH);
-            if (apiRequest.getResponseStatusCode() != 302) {
-                printErrorResponse();
-                return null;
-            } else
-                return downloadFile(archiveUrl, archiveName, save);
+            return downloadFile(USER_MIGRATIONS_PATH + "/" + migrationId + ARCHIVE_PATH, archiveName, save, -1,
+                    null);
         } catch (IOException e) {
             printErrorResponse();
             return null;
@@ -818,7 +819,7 @@ public class GitHubUsersMigrationsManager extends GitHubManager {
     public boolean deleteUserMigrationArchive(long migrationId) {
         try {
             sendDeleteRequest(USER_MIGRATIONS_PATH + "/" + migrationId + ARCHIVE_PATH);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -895,7 +896,7 @@ public class GitHubUsersMigrationsManager extends GitHubManager {
     public boolean unlockUserRepository(long migrationId, String repoName) {
         try {
             sendDeleteRequest(USER_MIGRATIONS_PATH + "/" + migrationId + "/" + REPOS_PATH + repoName + LOCK_PATH);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -1009,6 +1010,7 @@ public class GitHubUsersMigrationsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/migrations/{migration_id}/repositories")
     public <T> T getUserMigrationRepositories(long migrationId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositoriesList(sendGetRequest(USER_MIGRATIONS_PATH + "/" + migrationId
                 + REPOSITORIES_PATH), format);
     }
@@ -1155,6 +1157,7 @@ public class GitHubUsersMigrationsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/migrations/{migration_id}/repositories")
     public <T> T getUserMigrationRepositories(long migrationId, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositoriesList(sendGetRequest(USER_MIGRATIONS_PATH + "/" + migrationId
                 + REPOSITORIES_PATH + queryParams.createQueryString()), format);
     }
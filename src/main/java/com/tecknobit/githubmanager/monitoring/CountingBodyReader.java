@@ -0,0 +1,148 @@
+package com.tecknobit.githubmanager.monitoring;
+
+import com.tecknobit.githubmanager.transport.GitHubBodyReader;
+import com.tecknobit.githubmanager.transport.records.GitHubHTTPRequest;
+import com.tecknobit.githubmanager.transport.records.GitHubHTTPResponse;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * The {@code CountingBodyReader} class is useful to count the bytes of a body read by a {@link GitHubBodyReader}
+ *
+ * @param <T> type of the value read from the body
+ * @author N7ghtm4r3 - Tecknobit
+ **/
+class CountingBodyReader<T> implements GitHubBodyReader<T> {
+
+    /**
+     * {@code reader} the reader of the body
+     **/
+    private final GitHubBodyReader<T> reader;
+
+    /**
+     * {@code count} number of the bytes read
+     **/
+    private volatile long count;
+
+    /**
+     * Constructor to init a {@link CountingBodyReader}
+     *
+     * @param reader: the reader of the body
+     **/
+    CountingBodyReader(GitHubBodyReader<T> reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Method to read a body counting its bytes
+     *
+     * @param body: body to read
+     * @return the value read as {@link T}
+     * @throws IOException when the body cannot be read
+     **/
+    @Override
+    public T read(InputStream body) throws IOException {
+        return reader.read(count(body));
+    }
+
+    /**
+     * Method to read a body counting its bytes
+     *
+     * @param response: response which has the body, without the body
+     * @param body:     body to read
+     * @return the value read as {@link T}
+     * @throws IOException when the body cannot be read
+     **/
+    @Override
+    public T read(GitHubHTTPResponse response, InputStream body) throws IOException {
+        return reader.read(response, count(body));
+    }
+
+    /**
+     * Method to get {@link #count} instance <br>
+     * No-any params required
+     *
+     * @return {@link #count} instance as long
+     **/
+    long getCount() {
+        return count;
+    }
+
+    /**
+     * Method to wrap a body to count its bytes while they are read
+     *
+     * @param body: body to wrap
+     * @return body wrapped as {@link InputStream}
+     **/
+    private InputStream count(InputStream body) {
+        return new FilterInputStream(body) {
+
+            @Override
+            public int read() throws IOException {
+                int b = super.read();
+                if (b >= 0)
+                    count++;
+                return b;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                int read = in.read(b, off, len);
+                if (read > 0)
+                    count += read;
+                return read;
+            }
+
+            @Override
+            public long skip(long n) throws IOException {
+                long skipped = super.skip(n);
+                count += skipped;
+                return skipped;
+            }
+
+        };
+    }
+
+    /**
+     * Method to get the number of the bytes of the body of a request
+     *
+     * @param request: request from count the bytes of the body
+     * @return number of the bytes of the body as long, {@code "-1"} if the length of a streamed body is unknown
+     **/
+    static long getSentBytes(GitHubHTTPRequest request) {
+        if (request.getBody() != null)
+            return request.getBody().length;
+        if (request.getStreamedBody() != null)
+            return request.getStreamedBody().getLength();
+        return 0;
+    }
+
+    /**
+     * Method to get the number of the bytes of a body encoded in {@code "UTF-8"}, without encoding it
+     *
+     * @param body: body from count the bytes, can be {@code "null"}
+     * @return number of the bytes of the body as long
+     **/
+    static long getUTF8Length(String body) {
+        if (body == null)
+            return 0;
+        long length = 0;
+        for (int j = 0; j < body.length(); j++) {
+            char c = body.charAt(j);
+            if (c < 0x80)
+                length++;
+            else if (c < 0x800)
+                length += 2;
+            else if (Character.isHighSurrogate(c) && j + 1 < body.length()
+                    && Character.isLowSurrogate(body.charAt(j + 1))) {
+                length += 4;
+                j++;
+            } else
+                length += 3;
+        }
+        return length;
+    }
+
+}
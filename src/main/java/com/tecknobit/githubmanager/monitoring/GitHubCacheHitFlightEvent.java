@@ -0,0 +1,36 @@
+package com.tecknobit.githubmanager.monitoring;
+
+import jdk.jfr.*;
+
+/**
+ * The {@code GitHubCacheHitFlightEvent} class is the {@code "Java Flight Recorder"} event of a response served from a
+ * cache
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see GitHubRequestTracer
+ **/
+@Name("com.tecknobit.githubmanager.CacheHit")
+@Label("GitHub Cache Hit")
+@Category({"GitHubManager"})
+@Description("A response of GitHub served from a cache")
+final class GitHubCacheHitFlightEvent extends Event {
+
+    /**
+     * {@code requestPath} template of the request
+     **/
+    @Label("Request Path")
+    String requestPath;
+
+    /**
+     * {@code method} method of the request
+     **/
+    @Label("Method")
+    String method;
+
+    /**
+     * {@code url} complete url of the request
+     **/
+    @Label("URL")
+    String url;
+
+}
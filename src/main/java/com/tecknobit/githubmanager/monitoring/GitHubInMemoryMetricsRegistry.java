@@ -0,0 +1,280 @@
+package com.tecknobit.githubmanager.monitoring;
+
+import com.tecknobit.apimanager.apis.APIRequest.RequestMethod;
+import com.tecknobit.githubmanager.monitoring.records.EndpointMetrics;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.tecknobit.githubmanager.monitoring.GitHubMetricsRegistry.FAILED_REQUEST;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * The {@code GitHubInMemoryMetricsRegistry} class is a {@link GitHubMetricsRegistry} which keeps in memory the metrics
+ * of each endpoint: the number of the requests and of the errors, the bytes sent and received and the percentiles of
+ * the latencies <br>
+ * The metrics can be read with {@link #getEndpoints()} or with any {@code "JMX"} client after
+ * {@link #registerMBean()}, without any external metrics backend
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see GitHubMetricsTransport
+ **/
+public class GitHubInMemoryMetricsRegistry implements GitHubMetricsRegistry, GitHubMetricsMXBean {
+
+    /**
+     * {@code DEFAULT_OBJECT_NAME} default name of the {@code "MBean"} of the registry
+     **/
+    public static final String DEFAULT_OBJECT_NAME = "com.tecknobit.githubmanager:type=GitHubMetrics";
+
+    /**
+     * {@code endpoints} the metrics of each endpoint, the keys are the method and the template of the endpoint
+     **/
+    private final ConcurrentHashMap<String, EndpointRecorder> endpoints;
+
+    /**
+     * Constructor to init a {@link GitHubInMemoryMetricsRegistry} <br>
+     * No-any params required
+     **/
+    public GitHubInMemoryMetricsRegistry() {
+        endpoints = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Method to record a request
+     *
+     * @param requestPath:   template of the request, as {@code "/repos/{owner}/{repo}/actions/runs"}
+     * @param method:        method of the request
+     * @param statusCode:    status code of the response, {@link #FAILED_REQUEST} if the request has been go wrong
+     *                       without a response
+     * @param sentBytes:     number of the bytes of the body sent, {@code "-1"} if unknown
+     * @param receivedBytes: number of the bytes of the body received
+     * @param latency:       nanoseconds elapsed from the request to the end of its response
+     **/
+    @Override
+    public void record(String requestPath, RequestMethod method, int statusCode, long sentBytes, long receivedBytes,
+                       long latency) {
+        EndpointRecorder recorder = endpoints.get(method + " " + requestPath);
+        if (recorder == null) {
+            recorder = endpoints.computeIfAbsent(method + " " + requestPath,
+                    key -> new EndpointRecorder(requestPath, method));
+        }
+        recorder.requests.increment();
+        if (statusCode == FAILED_REQUEST || statusCode >= 400)
+            recorder.errors.increment();
+        if (sentBytes > 0)
+            recorder.sentBytes.add(sentBytes);
+        recorder.receivedBytes.add(receivedBytes);
+        recorder.latencies.record(latency, NANOSECONDS);
+    }
+
+    /**
+     * Method to get the metrics of an endpoint
+     *
+     * @param method:      method of the requests
+     * @param requestPath: template of the endpoint, as {@code "/repos/{owner}/{repo}/actions/runs"}
+     * @return metrics of the endpoint as {@link EndpointMetrics}, {@code "null"} if no request has been sent to the
+     * endpoint
+     **/
+    public EndpointMetrics getEndpointMetrics(RequestMethod method, String requestPath) {
+        EndpointRecorder recorder = endpoints.get(method + " " + requestPath);
+        if (recorder == null)
+            return null;
+        return recorder.getMetrics();
+    }
+
+    /**
+     * Method to get the metrics of each endpoint <br>
+     * No-any params required
+     *
+     * @return metrics of each endpoint, sorted by the number of the requests, as {@link List} of {@link EndpointMetrics}
+     **/
+    @Override
+    public List<EndpointMetrics> getEndpoints() {
+        ArrayList<EndpointMetrics> metrics = new ArrayList<>();
+        for (EndpointRecorder recorder : endpoints.values())
+            metrics.add(recorder.getMetrics());
+        metrics.sort(Comparator.comparingLong(EndpointMetrics::getRequestCount).reversed());
+        return metrics;
+    }
+
+    /**
+     * Method to get the number of the requests sent to all the endpoints <br>
+     * No-any params required
+     *
+     * @return number of the requests as long
+     **/
+    @Override
+    public long getRequestCount() {
+        long count = 0;
+        for (EndpointRecorder recorder : endpoints.values())
+            count += recorder.requests.sum();
+        return count;
+    }
+
+    /**
+     * Method to get the number of the requests sent to all the endpoints gone wrong or with an error status code <br>
+     * No-any params required
+     *
+     * @return number of the requests as long
+     **/
+    @Override
+    public long getErrorCount() {
+        long count = 0;
+        for (EndpointRecorder recorder : endpoints.values())
+            count += recorder.errors.sum();
+        return count;
+    }
+
+    /**
+     * Method to get the number of the bytes of the bodies sent to all the endpoints <br>
+     * No-any params required
+     *
+     * @return number of the bytes as long
+     **/
+    @Override
+    public long getSentBytes() {
+        long count = 0;
+        for (EndpointRecorder recorder : endpoints.values())
+            count += recorder.sentBytes.sum();
+        return count;
+    }
+
+    /**
+     * Method to get the number of the bytes of the bodies received from all the endpoints <br>
+     * No-any params required
+     *
+     * @return number of the bytes as long
+     **/
+    @Override
+    public long getReceivedBytes() {
+        long count = 0;
+        for (EndpointRecorder recorder : endpoints.values())
+            count += recorder.receivedBytes.sum();
+        return count;
+    }
+
+    /**
+     * Method to reset all the metrics collected <br>
+     * No-any params required
+     **/
+    @Override
+    public void reset() {
+        endpoints.clear();
+    }
+
+    /**
+     * Method to register the registry in the platform {@code "MBeanServer"} as {@link #DEFAULT_OBJECT_NAME} <br>
+     * No-any params required
+     *
+     * @return name of the {@code "MBean"} registered as {@link ObjectName}
+     * @throws JMException when the registry cannot be registered, for example because another {@code "MBean"} has the
+     *                     same name
+     **/
+    public ObjectName registerMBean() throws JMException {
+        return registerMBean(DEFAULT_OBJECT_NAME);
+    }
+
+    /**
+     * Method to register the registry in the platform {@code "MBeanServer"}
+     *
+     * @param objectName: name of the {@code "MBean"}, as {@code "com.tecknobit.githubmanager:type=GitHubMetrics,name=main"}
+     * @return name of the {@code "MBean"} registered as {@link ObjectName}
+     * @throws JMException when the registry cannot be registered, for example because another {@code "MBean"} has the
+     *                     same name
+     **/
+    public ObjectName registerMBean(String objectName) throws JMException {
+        ObjectName name = new ObjectName(objectName);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        return server.registerMBean(this, name).getObjectName();
+    }
+
+    /**
+     * Method to unregister the registry from the platform {@code "MBeanServer"}
+     *
+     * @param objectName: name of the {@code "MBean"} as returned by {@link #registerMBean(String)}
+     * @throws JMException when the registry cannot be unregistered
+     **/
+    public void unregisterMBean(ObjectName objectName) throws JMException {
+        ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+    }
+
+    /**
+     * The {@code EndpointRecorder} class is useful to collect the metrics of an endpoint
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     **/
+    private static class EndpointRecorder {
+
+        /**
+         * {@code requestPath} template of the endpoint
+         **/
+        private final String requestPath;
+
+        /**
+         * {@code method} method of the requests
+         **/
+        private final RequestMethod method;
+
+        /**
+         * {@code requests} number of the requests sent
+         **/
+        private final LongAdder requests;
+
+        /**
+         * {@code errors} number of the requests gone wrong or with an error status code
+         **/
+        private final LongAdder errors;
+
+        /**
+         * {@code sentBytes} number of the bytes of the bodies sent
+         **/
+        private final LongAdder sentBytes;
+
+        /**
+         * {@code receivedBytes} number of the bytes of the bodies received
+         **/
+        private final LongAdder receivedBytes;
+
+        /**
+         * {@code latencies} the latencies of the requests
+         **/
+        private final GitHubLatencyHistogram latencies;
+
+        /**
+         * Constructor to init a {@link EndpointRecorder}
+         *
+         * @param requestPath: template of the endpoint
+         * @param method:      method of the requests
+         **/
+        private EndpointRecorder(String requestPath, RequestMethod method) {
+            this.requestPath = requestPath;
+            this.method = method;
+            requests = new LongAdder();
+            errors = new LongAdder();
+            sentBytes = new LongAdder();
+            receivedBytes = new LongAdder();
+            latencies = new GitHubLatencyHistogram();
+        }
+
+        /**
+         * Method to get the metrics collected <br>
+         * No-any params required
+         *
+         * @return metrics collected as {@link EndpointMetrics}
+         **/
+        private EndpointMetrics getMetrics() {
+            return new EndpointMetrics(requestPath, method, requests.sum(), errors.sum(), sentBytes.sum(),
+                    receivedBytes.sum(), latencies.getMean(), latencies.getPercentile(50),
+                    latencies.getPercentile(90), latencies.getPercentile(99), latencies.getMax());
+        }
+
+    }
+
+}
@@ -0,0 +1,177 @@
+package com.tecknobit.githubmanager.monitoring;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The {@code GitHubLatencyHistogram} class is useful to record the latencies of the requests and to get their
+ * percentiles <br>
+ * The latencies are recorded in microseconds in log-linear buckets, as an {@code "HdrHistogram"}: each power of two is
+ * split in {@link #SUB_BUCKETS} buckets, so a percentile is given with a relative error of about {@code "3%"} using a
+ * fixed amount of memory, whatever the number of the latencies recorded
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote the latencies can be recorded concurrently without locks, a percentile read while other latencies are
+ * recorded can miss the latest ones
+ **/
+public class GitHubLatencyHistogram {
+
+    /**
+     * {@code SUB_BUCKETS} number of the buckets of each power of two
+     **/
+    public static final int SUB_BUCKETS = 32;
+
+    /**
+     * {@code SUB_BUCKETS_BITS} number of the bits of {@link #SUB_BUCKETS}
+     **/
+    private static final int SUB_BUCKETS_BITS = Integer.numberOfTrailingZeros(SUB_BUCKETS);
+
+    /**
+     * {@code MAX_TRACKABLE_VALUE} maximum latency in microseconds which can be recorded, about one hour, the higher
+     * latencies are recorded as this value
+     **/
+    public static final long MAX_TRACKABLE_VALUE = (1L << 32) - 1;
+
+    /**
+     * {@code counts} the number of the latencies recorded in each bucket
+     **/
+    private final AtomicLongArray counts;
+
+    /**
+     * {@code totalCount} the number of the latencies recorded
+     **/
+    private final LongAdder totalCount;
+
+    /**
+     * {@code totalValue} the sum of the latencies recorded in microseconds
+     **/
+    private final LongAdder totalValue;
+
+    /**
+     * {@code maxValue} the maximum latency recorded in microseconds
+     **/
+    private final LongAccumulator maxValue;
+
+    /**
+     * Constructor to init a {@link GitHubLatencyHistogram} <br>
+     * No-any params required
+     **/
+    public GitHubLatencyHistogram() {
+        counts = new AtomicLongArray(getBucketIndex(MAX_TRACKABLE_VALUE) + 1);
+        totalCount = new LongAdder();
+        totalValue = new LongAdder();
+        maxValue = new LongAccumulator(Math::max, 0);
+    }
+
+    /**
+     * Method to record a latency
+     *
+     * @param latency: latency to record
+     * @param unit:    unit of the latency
+     **/
+    public void record(long latency, TimeUnit unit) {
+        long value = Math.min(Math.max(unit.toMicros(latency), 0), MAX_TRACKABLE_VALUE);
+        counts.incrementAndGet(getBucketIndex(value));
+        totalCount.increment();
+        totalValue.add(value);
+        maxValue.accumulate(value);
+    }
+
+    /**
+     * Method to get the number of the latencies recorded <br>
+     * No-any params required
+     *
+     * @return number of the latencies recorded as long
+     **/
+    public long getCount() {
+        return totalCount.sum();
+    }
+
+    /**
+     * Method to get the mean of the latencies recorded <br>
+     * No-any params required
+     *
+     * @return mean of the latencies recorded in milliseconds as double
+     **/
+    public double getMean() {
+        long count = totalCount.sum();
+        if (count == 0)
+            return 0;
+        return totalValue.sum() / (count * 1000.0);
+    }
+
+    /**
+     * Method to get the maximum latency recorded <br>
+     * No-any params required
+     *
+     * @return maximum latency recorded in milliseconds as double
+     **/
+    public double getMax() {
+        return maxValue.get() / 1000.0;
+    }
+
+    /**
+     * Method to get a percentile of the latencies recorded
+     *
+     * @param percentile: percentile to get, from {@code "0"} to {@code "100"}, as {@code "99"} for the {@code "p99"}
+     * @return the latency under which are the given percentage of the latencies recorded, in milliseconds as double
+     **/
+    public double getPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100)
+            throw new IllegalArgumentException("The percentile must be between 0 and 100: " + percentile);
+        long count = totalCount.sum();
+        if (count == 0)
+            return 0;
+        long target = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int j = 0; j < counts.length(); j++) {
+            seen += counts.get(j);
+            if (seen >= target)
+                return Math.min(getHighestValue(j), maxValue.get()) / 1000.0;
+        }
+        return getMax();
+    }
+
+    /**
+     * Method to reset the latencies recorded <br>
+     * No-any params required
+     **/
+    public void reset() {
+        for (int j = 0; j < counts.length(); j++)
+            counts.set(j, 0);
+        totalCount.reset();
+        totalValue.reset();
+        maxValue.reset();
+    }
+
+    /**
+     * Method to get the index of the bucket of a latency
+     *
+     * @param value: latency in microseconds
+     * @return index of the bucket as int
+     **/
+    private static int getBucketIndex(long value) {
+        if (value < 2 * SUB_BUCKETS)
+            return (int) value;
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKETS_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+    }
+
+    /**
+     * Method to get the highest latency of a bucket
+     *
+     * @param index: index of the bucket
+     * @return highest latency of the bucket in microseconds as long
+     **/
+    private static long getHighestValue(int index) {
+        if (index < 2 * SUB_BUCKETS)
+            return index;
+        int shift = index / SUB_BUCKETS - 1;
+        long mantissa = index % SUB_BUCKETS + SUB_BUCKETS;
+        return ((mantissa + 1) << shift) - 1;
+    }
+
+}
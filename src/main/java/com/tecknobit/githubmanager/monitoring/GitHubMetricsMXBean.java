@@ -0,0 +1,63 @@
+package com.tecknobit.githubmanager.monitoring;
+
+import com.tecknobit.githubmanager.monitoring.records.EndpointMetrics;
+
+import java.util.List;
+
+/**
+ * The {@code GitHubMetricsMXBean} interface is useful to expose with {@code "JMX"} the metrics collected by a
+ * {@link GitHubInMemoryMetricsRegistry}, so they can be read with any {@code "JMX"} client, as {@code "JConsole"} or
+ * {@code "VisualVM"}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see GitHubInMemoryMetricsRegistry#registerMBean()
+ **/
+public interface GitHubMetricsMXBean {
+
+    /**
+     * Method to get the number of the requests sent to all the endpoints <br>
+     * No-any params required
+     *
+     * @return number of the requests as long
+     **/
+    long getRequestCount();
+
+    /**
+     * Method to get the number of the requests sent to all the endpoints gone wrong or with an error status code <br>
+     * No-any params required
+     *
+     * @return number of the requests as long
+     **/
+    long getErrorCount();
+
+    /**
+     * Method to get the number of the bytes of the bodies sent to all the endpoints <br>
+     * No-any params required
+     *
+     * @return number of the bytes as long
+     **/
+    long getSentBytes();
+
+    /**
+     * Method to get the number of the bytes of the bodies received from all the endpoints <br>
+     * No-any params required
+     *
+     * @return number of the bytes as long
+     **/
+    long getReceivedBytes();
+
+    /**
+     * Method to get the metrics of each endpoint <br>
+     * No-any params required
+     *
+     * @return metrics of each endpoint, sorted by the number of the requests, as {@link List} of {@link EndpointMetrics}
+     **/
+    List<EndpointMetrics> getEndpoints();
+
+    /**
+     * Method to reset all the metrics collected <br>
+     * No-any params required
+     **/
+    void reset();
+
+}
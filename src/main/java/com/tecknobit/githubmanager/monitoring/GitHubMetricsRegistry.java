@@ -0,0 +1,38 @@
+package com.tecknobit.githubmanager.monitoring;
+
+import com.tecknobit.apimanager.apis.APIRequest.RequestMethod;
+
+/**
+ * The {@code GitHubMetricsRegistry} interface is useful to collect the metrics of the requests sent by a
+ * {@link GitHubMetricsTransport} <br>
+ * The {@link GitHubInMemoryMetricsRegistry} keeps them in memory and exposes them with {@code "JMX"}, but they can be
+ * forwarded to any metrics backend implementing this interface
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see GitHubMetricsTransport
+ **/
+@FunctionalInterface
+public interface GitHubMetricsRegistry {
+
+    /**
+     * {@code FAILED_REQUEST} status code recorded when a request has been go wrong without a response
+     **/
+    int FAILED_REQUEST = -1;
+
+    /**
+     * Method to record a request
+     *
+     * @param requestPath:   template of the request, as {@code "/repos/{owner}/{repo}/actions/runs"}
+     * @param method:        method of the request
+     * @param statusCode:    status code of the response, {@link #FAILED_REQUEST} if the request has been go wrong
+     *                       without a response
+     * @param sentBytes:     number of the bytes of the body sent, {@code "-1"} if unknown
+     * @param receivedBytes: number of the bytes of the body received
+     * @param latency:       nanoseconds elapsed from the request to the end of its response
+     * @implNote this method is invoked by the threads which send the requests, so it must be thread-safe and should
+     * not block
+     **/
+    void record(String requestPath, RequestMethod method, int statusCode, long sentBytes, long receivedBytes,
+                long latency);
+
+}
@@ -0,0 +1,135 @@
+package com.tecknobit.githubmanager.monitoring;
+
+import com.tecknobit.githubmanager.transport.GitHubBodyReader;
+import com.tecknobit.githubmanager.transport.GitHubTransport;
+import com.tecknobit.githubmanager.transport.records.GitHubHTTPRequest;
+import com.tecknobit.githubmanager.transport.records.GitHubHTTPResponse;
+
+import java.io.IOException;
+
+import static com.tecknobit.githubmanager.monitoring.GitHubMetricsRegistry.FAILED_REQUEST;
+
+/**
+ * The {@code GitHubMetricsTransport} class is a {@link GitHubTransport} which records the metrics of each request in a
+ * {@link GitHubMetricsRegistry}: its status code, the bytes sent and received and its latency <br>
+ * The requests are grouped by the template of their {@link com.tecknobit.apimanager.annotations.RequestPath}, as
+ * {@code "/repos/{owner}/{repo}/actions/runs"}, so the metrics show which endpoints dominate the latency and the rate
+ * limit regardless of the values of the requests
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see GitHubTransport
+ * @see GitHubRequestPathResolver
+ **/
+public class GitHubMetricsTransport implements GitHubTransport {
+
+    /**
+     * {@code transport} used to send the requests
+     **/
+    protected final GitHubTransport transport;
+
+    /**
+     * {@code registry} where record the metrics of the requests
+     **/
+    protected final GitHubMetricsRegistry registry;
+
+    /**
+     * Constructor to init a {@link GitHubMetricsTransport}
+     *
+     * @param transport: transport used to send the requests
+     * @param registry:  registry where record the metrics of the requests
+     **/
+    public GitHubMetricsTransport(GitHubTransport transport, GitHubMetricsRegistry registry) {
+        if (transport == null || registry == null)
+            throw new IllegalArgumentException("The transport and the registry cannot be null");
+        this.transport = transport;
+        this.registry = registry;
+    }
+
+    /**
+     * Method to send a request recording its metrics
+     *
+     * @param request: request to send
+     * @return response of the request as {@link GitHubHTTPResponse}
+     * @throws IOException when the request cannot be sent or its response cannot be read
+     **/
+    @Override
+    public GitHubHTTPResponse execute(GitHubHTTPRequest request) throws IOException {
+        String requestPath = GitHubRequestPathResolver.resolve(request);
+        long start = System.nanoTime();
+        GitHubHTTPResponse response = null;
+        try {
+            response = transport.execute(request);
+            return response;
+        } finally {
+            record(requestPath, request, response, 0, start);
+        }
+    }
+
+    /**
+     * Method to send a request reading the body of its response with a {@link GitHubBodyReader}, recording its
+     * metrics
+     *
+     * @param request: request to send
+     * @param reader:  reader of the body of a successful response, {@code "null"} to read it as {@link String}
+     * @return response of the request as {@link GitHubHTTPResponse}
+     * @throws IOException when the request cannot be sent or its response cannot be read
+     * @implNote the bytes given to the reader are counted while it reads them, so the latency of a download includes
+     * the time to read its whole body
+     **/
+    @Override
+    public GitHubHTTPResponse execute(GitHubHTTPRequest request, GitHubBodyReader<?> reader) throws IOException {
+        String requestPath = GitHubRequestPathResolver.resolve(request);
+        long start = System.nanoTime();
+        GitHubHTTPResponse response = null;
+        CountingBodyReader<?> countingReader = reader != null ? new CountingBodyReader<>(reader) : null;
+        try {
+            response = transport.execute(request, countingReader);
+            return response;
+        } finally {
+            record(requestPath, request, response, countingReader != null ? countingReader.getCount() : 0, start);
+        }
+    }
+
+    /**
+     * Method to record the metrics of a request
+     *
+     * @param requestPath: template of the request
+     * @param request:     the request sent
+     * @param response:    response of the request, {@code "null"} if the request has been go wrong
+     * @param readBytes:   number of the bytes of the body given to a {@link GitHubBodyReader}
+     * @param start:       {@link System#nanoTime()} when the request has been sent
+     **/
+    private void record(String requestPath, GitHubHTTPRequest request, GitHubHTTPResponse response, long readBytes,
+                        long start) {
+        long latency = System.nanoTime() - start;
+        long sentBytes = CountingBodyReader.getSentBytes(request);
+        int statusCode = FAILED_REQUEST;
+        long receivedBytes = readBytes;
+        if (response != null) {
+            statusCode = response.getStatusCode();
+            receivedBytes += CountingBodyReader.getUTF8Length(response.getBody());
+        }
+        registry.record(requestPath, request.getMethod(), statusCode, sentBytes, receivedBytes, latency);
+    }
+
+    /**
+     * Method to get {@link #transport} instance <br>
+     * No-any params required
+     *
+     * @return {@link #transport} instance as {@link GitHubTransport}
+     **/
+    public GitHubTransport getTransport() {
+        return transport;
+    }
+
+    /**
+     * Method to get {@link #registry} instance <br>
+     * No-any params required
+     *
+     * @return {@link #registry} instance as {@link GitHubMetricsRegistry}
+     **/
+    public GitHubMetricsRegistry getRegistry() {
+        return registry;
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.tecknobit.githubmanager.monitoring;
+
+import jdk.jfr.*;
+
+/**
+ * The {@code GitHubRequestFlightEvent} class is the {@code "Java Flight Recorder"} event of a request sent by a
+ * manager, its duration is the time from the start of the request to the end of its response
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see GitHubRequestTracer
+ **/
+@Name("com.tecknobit.githubmanager.Request")
+@Label("GitHub Request")
+@Category({"GitHubManager"})
+@Description("A request sent to GitHub by a manager")
+final class GitHubRequestFlightEvent extends Event {
+
+    /**
+     * {@code requestPath} template of the request
+     **/
+    @Label("Request Path")
+    String requestPath;
+
+    /**
+     * {@code method} method of the request
+     **/
+    @Label("Method")
+    String method;
+
+    /**
+     * {@code url} complete url of the request
+     **/
+    @Label("URL")
+    String url;
+
+    /**
+     * {@code statusCode} status code of the response, {@code "-1"} if the request has been go wrong
+     **/
+    @Label("Status Code")
+    int statusCode;
+
+    /**
+     * {@code sentBytes} number of the bytes of the body sent
+     **/
+    @Label("Sent Bytes")
+    @DataAmount
+    long sentBytes;
+
+    /**
+     * {@code receivedBytes} number of the bytes of the body received
+     **/
+    @Label("Received Bytes")
+    @DataAmount
+    long receivedBytes;
+
+    /**
+     * {@code firstByteTime} nanoseconds elapsed to receive the status code and the headers of the response,
+     * {@code "-1"} if unknown
+     **/
+    @Label("Time To First Byte")
+    @Timespan
+    long firstByteTime;
+
+    /**
+     * {@code retries} number of the retries of the request
+     **/
+    @Label("Retries")
+    int retries;
+
+    /**
+     * {@code cacheHit} whether the response has been served from a cache
+     **/
+    @Label("Cache Hit")
+    boolean cacheHit;
+
+    /**
+     * {@code error} message of the error of the request, {@code "null"} if the request has not been go wrong
+     **/
+    @Label("Error")
+    String error;
+
+}
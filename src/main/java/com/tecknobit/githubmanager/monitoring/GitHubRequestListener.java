@@ -0,0 +1,63 @@
+package com.tecknobit.githubmanager.monitoring;
+
+import com.tecknobit.githubmanager.monitoring.records.RequestEvent;
+
+/**
+ * The {@code GitHubRequestListener} interface is useful to be notified about the lifecycle of the requests sent by
+ * the managers: their start, the first byte of their responses, their end, their retries and the responses served from
+ * a cache <br>
+ * Each event has the template of the request, as {@code "/repos/{owner}/{repo}/actions/runs"}, its method, the status
+ * code and the bytes sent and received, so the listeners can trace which calls sit on the critical path
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote the events are given on the threads which send the requests, so the listeners must be thread-safe and
+ * should not block; the exceptions thrown by a listener are ignored so they cannot make a request go wrong
+ * @see GitHubRequestTracer#addListener(GitHubRequestListener)
+ **/
+public interface GitHubRequestListener {
+
+    /**
+     * Method invoked when a request is going to be sent
+     *
+     * @param event: the event of the request
+     **/
+    default void onRequestStart(RequestEvent event) {
+    }
+
+    /**
+     * Method invoked when the status code and the headers of the response of a request have been received
+     *
+     * @param event: the event of the request, with the time elapsed to the first byte
+     * @apiNote this event is given only by the transports which can detect it, as the default
+     * {@link com.tecknobit.githubmanager.transport.GitHubHTTPClientTransport}
+     **/
+    default void onFirstByte(RequestEvent event) {
+    }
+
+    /**
+     * Method invoked when the response of a request has been received or the request has been go wrong
+     *
+     * @param event: the event of the request, with its status code, the bytes received and the error if any
+     **/
+    default void onRequestEnd(RequestEvent event) {
+    }
+
+    /**
+     * Method invoked when a request is going to be sent again, for example after a secondary rate limit or an
+     * interrupted download
+     *
+     * @param event: the event of the request, with the number of the attempt and the reason of the retry
+     **/
+    default void onRetry(RequestEvent event) {
+    }
+
+    /**
+     * Method invoked when the response of a request has been served from a cache, as the
+     * {@link com.tecknobit.githubmanager.transport.GitHubETagCacheTransport}
+     *
+     * @param event: the event of the request
+     **/
+    default void onCacheHit(RequestEvent event) {
+    }
+
+}
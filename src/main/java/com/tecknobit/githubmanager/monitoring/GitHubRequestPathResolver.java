@@ -0,0 +1,198 @@
+package com.tecknobit.githubmanager.monitoring;
+
+import com.tecknobit.apimanager.annotations.RequestPath;
+import com.tecknobit.githubmanager.GitHubManager;
+import com.tecknobit.githubmanager.transport.records.GitHubHTTPRequest;
+
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import static java.lang.StackWalker.Option.RETAIN_CLASS_REFERENCE;
+
+/**
+ * The {@code GitHubRequestPathResolver} class is useful to find the {@link RequestPath} template of a request, as
+ * {@code "/repos/{owner}/{repo}/actions/runs"}, to group the requests of the same endpoint regardless of their values
+ * <br>
+ * The template is read from the {@link RequestPath} annotation of the innermost method of a manager which is sending
+ * the request on the current thread, or from the template bound to the current thread with {@link #bind(String)}, so
+ * the requests sent on other threads for the same call, as the pages prefetched or the parts of a download, and the
+ * redirects followed are grouped with the request which started them
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ **/
+public class GitHubRequestPathResolver {
+
+    /**
+     * {@code UNRESOLVED} value of a method of a manager without {@link RequestPath} annotation in the cache
+     **/
+    private static final String UNRESOLVED = "";
+
+    /**
+     * {@code EXTERNAL_REQUEST_PATH} template of the requests without a template sent to a host different from the ones
+     * of the API and of the uploads, as the storages where the downloads are redirected
+     **/
+    public static final String EXTERNAL_REQUEST_PATH = "{external}";
+
+    /**
+     * {@code ID_SEGMENT} pattern of a segment of an url which is an identifier, as a number or a commit sha
+     **/
+    private static final Pattern ID_SEGMENT = Pattern.compile("/(?:\\d+|[0-9a-f]{40})(?=/|$)");
+
+    /**
+     * {@code walker} used to find the methods of the managers which are sending a request
+     **/
+    private static final StackWalker walker = StackWalker.getInstance(RETAIN_CLASS_REFERENCE);
+
+    /**
+     * {@code requestPaths} the templates of the methods of the managers already found, the keys are created with
+     * the class, the name and the descriptor of the method
+     **/
+    private static final ConcurrentHashMap<String, String> requestPaths = new ConcurrentHashMap<>();
+
+    /**
+     * {@code boundRequestPath} the template bound to the current thread, used when no method of a manager with the
+     * {@link RequestPath} annotation is sending the request
+     **/
+    private static final ThreadLocal<String> boundRequestPath = new ThreadLocal<>();
+
+    /**
+     * Constructor to init a {@link GitHubRequestPathResolver} <br>
+     * No-any params required
+     *
+     * @apiNote this class has only static methods
+     **/
+    private GitHubRequestPathResolver() {
+    }
+
+    /**
+     * Method to get the template of a request
+     *
+     * @param request: request from get the template
+     * @return template of the request as {@link String}, when the request is not sent by a method with the
+     * {@link RequestPath} annotation and no template is bound to the current thread the path of its url is returned,
+     * with the identifiers replaced by {@code "{id}"}, or {@link #EXTERNAL_REQUEST_PATH} when its host is not the one
+     * of the API or of the uploads
+     **/
+    public static String resolve(GitHubHTTPRequest request) {
+        String requestPath = getCurrentRequestPath();
+        if (requestPath != null)
+            return requestPath;
+        return getUrlPath(request.getUrl());
+    }
+
+    /**
+     * Method to get the template of the request which the current thread is sending <br>
+     * No-any params required
+     *
+     * @return template as {@link String}, {@code "null"} if no method of a manager with the {@link RequestPath}
+     * annotation is sending a request and no template is bound to the current thread
+     **/
+    public static String getCurrentRequestPath() {
+        String requestPath = findRequestPath();
+        if (requestPath != null)
+            return requestPath;
+        return boundRequestPath.get();
+    }
+
+    /**
+     * Method to bind a template to the current thread, so the requests sent on this thread without a template are
+     * grouped with it
+     *
+     * @param requestPath: template to bind, {@code "null"} to unbind the current one
+     * @return template previously bound to the current thread as {@link String}, {@code "null"} if no template was
+     * bound
+     * @apiNote the previous template must be bound again when the requests have been sent, as:
+     * <pre>
+     *     {@code
+     *        String previous = GitHubRequestPathResolver.bind(requestPath);
+     *        try {
+     *            // send the requests
+     *        } finally {
+     *            GitHubRequestPathResolver.bind(previous);
+     *        }
+     *     }
+     * </pre>
+     **/
+    public static String bind(String requestPath) {
+        String previous = boundRequestPath.get();
+        if (requestPath == null)
+            boundRequestPath.remove();
+        else
+            boundRequestPath.set(requestPath);
+        return previous;
+    }
+
+    /**
+     * Method to find the template of the innermost method of a manager which is sending a request on the current
+     * thread <br>
+     * No-any params required
+     *
+     * @return template as {@link String}, {@code "null"} if no method of a manager with the {@link RequestPath}
+     * annotation is sending a request
+     **/
+    public static String findRequestPath() {
+        Optional<String> requestPath = walker.walk(frames -> frames
+                .filter(frame -> GitHubManager.class.isAssignableFrom(frame.getDeclaringClass()))
+                .map(frame -> requestPaths.computeIfAbsent(frame.getClassName() + "#" + frame.getMethodName()
+                        + frame.getDescriptor(), key -> readRequestPath(frame)))
+                .filter(path -> !path.equals(UNRESOLVED))
+                .findFirst());
+        return requestPath.orElse(null);
+    }
+
+    /**
+     * Method to read the template of the {@link RequestPath} annotation of a method of a manager
+     *
+     * @param frame: frame of the method
+     * @return template as {@link String}, {@link #UNRESOLVED} if the method has not the annotation
+     **/
+    private static String readRequestPath(StackWalker.StackFrame frame) {
+        try {
+            Method method = frame.getDeclaringClass().getDeclaredMethod(frame.getMethodName(),
+                    frame.getMethodType().parameterArray());
+            RequestPath requestPath = method.getAnnotation(RequestPath.class);
+            if (requestPath == null || requestPath.path().isEmpty())
+                return UNRESOLVED;
+            return requestPath.path();
+        } catch (NoSuchMethodException | SecurityException e) {
+            return UNRESOLVED;
+        }
+    }
+
+    /**
+     * Method to get the path of an url with the identifiers replaced by {@code "{id}"}
+     *
+     * @param url: url from get the path
+     * @return path of the url as {@link String}
+     **/
+    private static String getUrlPath(String url) {
+        String path;
+        try {
+            URI uri = URI.create(url);
+            if (uri.getHost() != null && !isAPIHost(uri.getHost()))
+                return EXTERNAL_REQUEST_PATH;
+            path = uri.getRawPath();
+        } catch (IllegalArgumentException e) {
+            int query = url.indexOf('?');
+            path = query < 0 ? url : url.substring(0, query);
+        }
+        if (path == null || path.isEmpty())
+            return "/";
+        return ID_SEGMENT.matcher(path).replaceAll("/{id}");
+    }
+
+    /**
+     * Method to get whether a host is the one of the API or of the uploads shared by the managers
+     *
+     * @param host: host to check
+     * @return whether a host is the one of the API or of the uploads as boolean
+     **/
+    private static boolean isAPIHost(String host) {
+        return host.equalsIgnoreCase(URI.create(GitHubManager.getDefaultBaseEndpoint()).getHost())
+                || host.equalsIgnoreCase(URI.create(GitHubManager.getDefaultUploadsEndpoint()).getHost());
+    }
+
+}
@@ -0,0 +1,260 @@
+package com.tecknobit.githubmanager.monitoring;
+
+import com.tecknobit.githubmanager.monitoring.records.RequestEvent;
+import com.tecknobit.githubmanager.monitoring.records.RequestEvent.EventType;
+import com.tecknobit.githubmanager.transport.GitHubBodyReader;
+import com.tecknobit.githubmanager.transport.records.GitHubHTTPRequest;
+import com.tecknobit.githubmanager.transport.records.GitHubHTTPResponse;
+
+import static com.tecknobit.githubmanager.monitoring.records.RequestEvent.EventType.*;
+import static com.tecknobit.githubmanager.monitoring.records.RequestEvent.UNKNOWN_STATUS_CODE;
+
+/**
+ * The {@code GitHubRequestTrace} class is useful to trace a single request sent by a manager, from its start to its
+ * end, including the redirects followed <br>
+ * It is created by {@link GitHubRequestTracer#start(GitHubHTTPRequest)} and bound to the thread which sends the
+ * request until it is ended
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see GitHubRequestTracer
+ **/
+public final class GitHubRequestTrace {
+
+    /**
+     * {@code request} the request traced
+     **/
+    private final GitHubHTTPRequest request;
+
+    /**
+     * {@code requestPath} template of the request
+     **/
+    private final String requestPath;
+
+    /**
+     * {@code parent} trace of the request which was sent by the current thread when this trace started, can be
+     * {@code "null"}
+     **/
+    private final GitHubRequestTrace parent;
+
+    /**
+     * {@code flightEvent} the {@code "Java Flight Recorder"} event of the request, {@code "null"} if its recording is
+     * disabled
+     **/
+    private final GitHubRequestFlightEvent flightEvent;
+
+    /**
+     * {@code start} {@link System#nanoTime()} when the request has been started
+     **/
+    private long start;
+
+    /**
+     * {@code firstByteTime} nanoseconds elapsed to receive the first byte of the response, {@code "-1"} if not
+     * received yet
+     **/
+    private long firstByteTime;
+
+    /**
+     * {@code retries} number of the retries of the request
+     **/
+    private int retries;
+
+    /**
+     * {@code cacheHit} whether the response has been served from a cache
+     **/
+    private boolean cacheHit;
+
+    /**
+     * {@code reader} the reader which counts the bytes of the body read, {@code "null"} if the body is read as
+     * {@link String}
+     **/
+    private CountingBodyReader<?> reader;
+
+    /**
+     * {@code ended} whether the trace has been ended
+     **/
+    private boolean ended;
+
+    /**
+     * Constructor to init a {@link GitHubRequestTrace}
+     *
+     * @param request:     the request traced
+     * @param requestPath: template of the request
+     * @param parent:      trace of the request which was sent by the current thread, can be {@code "null"}
+     * @param recorded:    whether the {@code "Java Flight Recorder"} event of the request has to be recorded
+     **/
+    GitHubRequestTrace(GitHubHTTPRequest request, String requestPath, GitHubRequestTrace parent, boolean recorded) {
+        this.request = request;
+        this.requestPath = requestPath;
+        this.parent = parent;
+        flightEvent = recorded ? new GitHubRequestFlightEvent() : null;
+        firstByteTime = -1;
+    }
+
+    /**
+     * Method to start the trace <br>
+     * No-any params required
+     **/
+    void start() {
+        start = System.nanoTime();
+        if (flightEvent != null)
+            flightEvent.begin();
+        GitHubRequestTracer.fireEvent(createEvent(REQUEST_START, UNKNOWN_STATUS_CODE, 0, 0, null));
+    }
+
+    /**
+     * Method to wrap the reader of the body of the response to count the bytes read
+     *
+     * @param reader: reader of the body, can be {@code "null"}
+     * @return reader wrapped as {@link GitHubBodyReader} of {@link T}, {@code "null"} if the reader is {@code "null"}
+     **/
+    public <T> GitHubBodyReader<T> count(GitHubBodyReader<T> reader) {
+        if (reader == null)
+            return null;
+        CountingBodyReader<T> countingReader = new CountingBodyReader<>(reader);
+        this.reader = countingReader;
+        return countingReader;
+    }
+
+    /**
+     * Method to report that the first byte of the response has been received, only the first report is considered
+     *
+     * @param statusCode: status code of the response
+     **/
+    void firstByte(int statusCode) {
+        if (firstByteTime != -1)
+            return;
+        firstByteTime = getElapsed();
+        GitHubRequestTracer.fireEvent(createEvent(FIRST_BYTE, statusCode, 0, firstByteTime, null));
+    }
+
+    /**
+     * Method to report that the request is going to be sent again <br>
+     * No-any params required
+     *
+     * @return template of the request as {@link String}
+     **/
+    String retry() {
+        retries++;
+        return requestPath;
+    }
+
+    /**
+     * Method to report that the response has been served from a cache <br>
+     * No-any params required
+     *
+     * @return template of the request as {@link String}
+     **/
+    String cacheHit() {
+        cacheHit = true;
+        return requestPath;
+    }
+
+    /**
+     * Method to end the trace with the response of the request
+     *
+     * @param response: response of the request
+     **/
+    public void end(GitHubHTTPResponse response) {
+        long receivedBytes = reader != null ? reader.getCount() : 0;
+        end(response.getStatusCode(), receivedBytes + CountingBodyReader.getUTF8Length(response.getBody()), null);
+    }
+
+    /**
+     * Method to end the trace of a request gone wrong
+     *
+     * @param error: error of the request
+     **/
+    public void end(Throwable error) {
+        end(UNKNOWN_STATUS_CODE, reader != null ? reader.getCount() : 0, error);
+    }
+
+    /**
+     * Method to end the trace, only the first end is considered
+     *
+     * @param statusCode:    status code of the response, {@link RequestEvent#UNKNOWN_STATUS_CODE} if the request
+     *                       has been go wrong without a response
+     * @param receivedBytes: number of the bytes of the body received
+     * @param error:         error of the request, {@code "null"} if the request has not been go wrong
+     **/
+    private void end(int statusCode, long receivedBytes, Throwable error) {
+        if (ended)
+            return;
+        ended = true;
+        GitHubRequestTracer.unbind(this);
+        long elapsed = getElapsed();
+        if (flightEvent != null) {
+            flightEvent.end();
+            if (flightEvent.shouldCommit()) {
+                flightEvent.requestPath = requestPath;
+                flightEvent.method = request.getMethod().name();
+                flightEvent.url = request.getUrl();
+                flightEvent.statusCode = statusCode;
+                flightEvent.sentBytes = CountingBodyReader.getSentBytes(request);
+                flightEvent.receivedBytes = receivedBytes;
+                flightEvent.firstByteTime = firstByteTime;
+                flightEvent.retries = retries;
+                flightEvent.cacheHit = cacheHit;
+                flightEvent.error = error != null ? String.valueOf(error.getMessage()) : null;
+                flightEvent.commit();
+            }
+        }
+        GitHubRequestTracer.fireEvent(createEvent(REQUEST_END, statusCode, receivedBytes, elapsed, error));
+    }
+
+    /**
+     * Method to create an event of the request
+     *
+     * @param type:          type of the event
+     * @param statusCode:    status code of the response
+     * @param receivedBytes: number of the bytes of the body received
+     * @param elapsed:       nanoseconds elapsed from the start of the request
+     * @param error:         error of the request, can be {@code "null"}
+     * @return event as {@link RequestEvent}
+     **/
+    private RequestEvent createEvent(EventType type, int statusCode, long receivedBytes, long elapsed,
+                                     Throwable error) {
+        return new RequestEvent(type, requestPath, request.getMethod(), request.getUrl(), statusCode,
+                CountingBodyReader.getSentBytes(request), receivedBytes, elapsed, retries, error);
+    }
+
+    /**
+     * Method to get the nanoseconds elapsed from the start of the request <br>
+     * No-any params required
+     *
+     * @return nanoseconds elapsed as long
+     **/
+    long getElapsed() {
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Method to get {@link #parent} instance <br>
+     * No-any params required
+     *
+     * @return {@link #parent} instance as {@link GitHubRequestTrace}
+     **/
+    GitHubRequestTrace getParent() {
+        return parent;
+    }
+
+    /**
+     * Method to get {@link #requestPath} instance <br>
+     * No-any params required
+     *
+     * @return {@link #requestPath} instance as {@link String}
+     **/
+    public String getRequestPath() {
+        return requestPath;
+    }
+
+    /**
+     * Method to get {@link #request} instance <br>
+     * No-any params required
+     *
+     * @return {@link #request} instance as {@link GitHubHTTPRequest}
+     **/
+    public GitHubHTTPRequest getRequest() {
+        return request;
+    }
+
+}
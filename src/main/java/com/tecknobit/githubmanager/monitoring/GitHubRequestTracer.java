@@ -0,0 +1,231 @@
+package com.tecknobit.githubmanager.monitoring;
+
+import com.tecknobit.githubmanager.monitoring.records.RequestEvent;
+import com.tecknobit.githubmanager.transport.records.GitHubHTTPRequest;
+import jdk.jfr.EventType;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.tecknobit.githubmanager.monitoring.records.RequestEvent.EventType.CACHE_HIT;
+import static com.tecknobit.githubmanager.monitoring.records.RequestEvent.EventType.RETRY;
+import static com.tecknobit.githubmanager.monitoring.records.RequestEvent.UNKNOWN_STATUS_CODE;
+
+/**
+ * The {@code GitHubRequestTracer} class is useful to trace the lifecycle of the requests sent by the managers,
+ * notifying the {@link GitHubRequestListener} added and committing the {@code "Java Flight Recorder"} events of the
+ * requests, as {@code "com.tecknobit.githubmanager.Request"}, {@code "com.tecknobit.githubmanager.Retry"} and
+ * {@code "com.tecknobit.githubmanager.CacheHit"} <br>
+ * Each request sent by a manager is traced with a {@link GitHubRequestTrace} bound to the thread which sends it, so
+ * the transports can report its first byte, its retries and its cache hits
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote when there are no listeners and the recording of the events is disabled the requests are not traced, so
+ * the tracing has no cost
+ **/
+public class GitHubRequestTracer {
+
+    /**
+     * {@code listeners} the listeners notified about the lifecycle of the requests
+     **/
+    private static final CopyOnWriteArrayList<GitHubRequestListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * {@code REQUEST_EVENT} type of the {@code "Java Flight Recorder"} event of the requests
+     **/
+    private static final EventType REQUEST_EVENT = EventType.getEventType(GitHubRequestFlightEvent.class);
+
+    /**
+     * {@code RETRY_EVENT} type of the {@code "Java Flight Recorder"} event of the retries
+     **/
+    private static final EventType RETRY_EVENT = EventType.getEventType(GitHubRetryFlightEvent.class);
+
+    /**
+     * {@code CACHE_HIT_EVENT} type of the {@code "Java Flight Recorder"} event of the cache hits
+     **/
+    private static final EventType CACHE_HIT_EVENT = EventType.getEventType(GitHubCacheHitFlightEvent.class);
+
+    /**
+     * {@code currentTrace} the trace of the request which the current thread is sending
+     **/
+    private static final ThreadLocal<GitHubRequestTrace> currentTrace = new ThreadLocal<>();
+
+    /**
+     * Constructor to init a {@link GitHubRequestTracer} <br>
+     * No-any params required
+     *
+     * @apiNote this class has only static methods
+     **/
+    private GitHubRequestTracer() {
+    }
+
+    /**
+     * Method to add a listener notified about the lifecycle of the requests sent by all the managers
+     *
+     * @param listener: listener to add
+     **/
+    public static void addListener(GitHubRequestListener listener) {
+        if (listener == null)
+            throw new IllegalArgumentException("The listener cannot be null");
+        listeners.add(listener);
+    }
+
+    /**
+     * Method to remove a listener
+     *
+     * @param listener: listener to remove
+     **/
+    public static void removeListener(GitHubRequestListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Method to get the listeners notified about the lifecycle of the requests <br>
+     * No-any params required
+     *
+     * @return listeners as {@link List} of {@link GitHubRequestListener}
+     **/
+    public static List<GitHubRequestListener> getListeners() {
+        return Collections.unmodifiableList(listeners);
+    }
+
+    /**
+     * Method to get whether the requests are traced, because there are listeners or the recording of the events is
+     * enabled <br>
+     * No-any params required
+     *
+     * @return whether the requests are traced as boolean
+     **/
+    public static boolean isEnabled() {
+        return !listeners.isEmpty() || REQUEST_EVENT.isEnabled() || RETRY_EVENT.isEnabled()
+                || CACHE_HIT_EVENT.isEnabled();
+    }
+
+    /**
+     * Method to start the trace of a request on the current thread
+     *
+     * @param request: request which is going to be sent
+     * @return trace of the request as {@link GitHubRequestTrace}, {@code "null"} if the requests are not traced
+     * @apiNote the trace must be ended with {@link GitHubRequestTrace#end(com.tecknobit.githubmanager.transport.records.GitHubHTTPResponse)}
+     * or {@link GitHubRequestTrace#end(Throwable)} on the same thread
+     **/
+    public static GitHubRequestTrace start(GitHubHTTPRequest request) {
+        if (!isEnabled())
+            return null;
+        GitHubRequestTrace trace = new GitHubRequestTrace(request, GitHubRequestPathResolver.resolve(request),
+                currentTrace.get(), REQUEST_EVENT.isEnabled());
+        currentTrace.set(trace);
+        trace.start();
+        return trace;
+    }
+
+    /**
+     * Method to report that the status code and the headers of the response of the request which the current thread
+     * is sending have been received
+     *
+     * @param statusCode: status code of the response
+     * @apiNote the first byte is reported only for the requests traced by a manager
+     **/
+    public static void firstByte(int statusCode) {
+        GitHubRequestTrace trace = currentTrace.get();
+        if (trace != null)
+            trace.firstByte(statusCode);
+    }
+
+    /**
+     * Method to report that a request is going to be sent again
+     *
+     * @param request:    the request which is going to be sent again
+     * @param attempt:    number of the attempt which is going to be sent, {@code "1"} for the first retry
+     * @param statusCode: status code of the response which caused the retry, {@link RequestEvent#UNKNOWN_STATUS_CODE}
+     *                    if the request has been go wrong without a response
+     * @param error:      error which caused the retry, {@code "null"} if the retry is caused by a response
+     **/
+    public static void retry(GitHubHTTPRequest request, int attempt, int statusCode, Throwable error) {
+        if (!isEnabled())
+            return;
+        GitHubRequestTrace trace = currentTrace.get();
+        String requestPath = trace != null ? trace.retry() : GitHubRequestPathResolver.resolve(request);
+        long elapsed = trace != null ? trace.getElapsed() : 0;
+        if (RETRY_EVENT.isEnabled()) {
+            GitHubRetryFlightEvent event = new GitHubRetryFlightEvent();
+            event.requestPath = requestPath;
+            event.method = request.getMethod().name();
+            event.url = request.getUrl();
+            event.attempt = attempt;
+            event.statusCode = statusCode;
+            event.error = error != null ? String.valueOf(error.getMessage()) : null;
+            event.commit();
+        }
+        fireEvent(new RequestEvent(RETRY, requestPath, request.getMethod(), request.getUrl(), statusCode,
+                CountingBodyReader.getSentBytes(request), 0, elapsed, attempt, error));
+    }
+
+    /**
+     * Method to report that the response of a request has been served from a cache
+     *
+     * @param request: the request served from the cache
+     **/
+    public static void cacheHit(GitHubHTTPRequest request) {
+        if (!isEnabled())
+            return;
+        GitHubRequestTrace trace = currentTrace.get();
+        String requestPath = trace != null ? trace.cacheHit() : GitHubRequestPathResolver.resolve(request);
+        long elapsed = trace != null ? trace.getElapsed() : 0;
+        if (CACHE_HIT_EVENT.isEnabled()) {
+            GitHubCacheHitFlightEvent event = new GitHubCacheHitFlightEvent();
+            event.requestPath = requestPath;
+            event.method = request.getMethod().name();
+            event.url = request.getUrl();
+            event.commit();
+        }
+        fireEvent(new RequestEvent(CACHE_HIT, requestPath, request.getMethod(), request.getUrl(), UNKNOWN_STATUS_CODE,
+                0, 0, elapsed, 0, null));
+    }
+
+    /**
+     * Method to unbind an ended trace from the current thread
+     *
+     * @param trace: the trace ended
+     **/
+    static void unbind(GitHubRequestTrace trace) {
+        if (currentTrace.get() != trace)
+            return;
+        GitHubRequestTrace parent = trace.getParent();
+        if (parent == null)
+            currentTrace.remove();
+        else
+            currentTrace.set(parent);
+    }
+
+    /**
+     * Method to notify an event to the listeners
+     *
+     * @param event: event to notify
+     **/
+    static void fireEvent(RequestEvent event) {
+        for (GitHubRequestListener listener : listeners) {
+            try {
+                switch (event.getType()) {
+                    case REQUEST_START:
+                        listener.onRequestStart(event);
+                        break;
+                    case FIRST_BYTE:
+                        listener.onFirstByte(event);
+                        break;
+                    case REQUEST_END:
+                        listener.onRequestEnd(event);
+                        break;
+                    case RETRY:
+                        listener.onRetry(event);
+                        break;
+                    default:
+                        listener.onCacheHit(event);
+                }
+            } catch (RuntimeException ignored) {
+            }
+        }
+    }
+
+}
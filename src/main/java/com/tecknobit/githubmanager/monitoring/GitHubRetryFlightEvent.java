@@ -0,0 +1,55 @@
+package com.tecknobit.githubmanager.monitoring;
+
+import jdk.jfr.*;
+
+/**
+ * The {@code GitHubRetryFlightEvent} class is the {@code "Java Flight Recorder"} event of a retry of a request sent by
+ * a manager
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see GitHubRequestTracer
+ **/
+@Name("com.tecknobit.githubmanager.Retry")
+@Label("GitHub Retry")
+@Category({"GitHubManager"})
+@Description("A request to GitHub sent again")
+final class GitHubRetryFlightEvent extends Event {
+
+    /**
+     * {@code requestPath} template of the request
+     **/
+    @Label("Request Path")
+    String requestPath;
+
+    /**
+     * {@code method} method of the request
+     **/
+    @Label("Method")
+    String method;
+
+    /**
+     * {@code url} complete url of the request
+     **/
+    @Label("URL")
+    String url;
+
+    /**
+     * {@code attempt} number of the attempt which is going to be sent
+     **/
+    @Label("Attempt")
+    int attempt;
+
+    /**
+     * {@code statusCode} status code of the response which caused the retry, {@code "-1"} if the request has been go
+     * wrong without a response
+     **/
+    @Label("Status Code")
+    int statusCode;
+
+    /**
+     * {@code error} message of the error which caused the retry, {@code "null"} if the retry is caused by a response
+     **/
+    @Label("Error")
+    String error;
+
+}
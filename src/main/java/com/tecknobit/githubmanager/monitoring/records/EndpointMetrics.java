@@ -0,0 +1,226 @@
+package com.tecknobit.githubmanager.monitoring.records;
+
+import com.tecknobit.apimanager.apis.APIRequest.RequestMethod;
+import org.json.JSONObject;
+
+import javax.management.ConstructorParameters;
+
+/**
+ * The {@code EndpointMetrics} class is useful to format the metrics of the requests sent to an endpoint, collected by
+ * a {@link com.tecknobit.githubmanager.monitoring.GitHubInMemoryMetricsRegistry}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote the latencies are in milliseconds and the percentiles have a relative error of about {@code "3%"}
+ **/
+public final class EndpointMetrics {
+
+    /**
+     * {@code requestPath} template of the endpoint, as {@code "/repos/{owner}/{repo}/actions/runs"}
+     **/
+    private final String requestPath;
+
+    /**
+     * {@code method} method of the requests
+     **/
+    private final RequestMethod method;
+
+    /**
+     * {@code requestCount} number of the requests sent
+     **/
+    private final long requestCount;
+
+    /**
+     * {@code errorCount} number of the requests gone wrong or with an error status code
+     **/
+    private final long errorCount;
+
+    /**
+     * {@code sentBytes} number of the bytes of the bodies sent
+     **/
+    private final long sentBytes;
+
+    /**
+     * {@code receivedBytes} number of the bytes of the bodies received
+     **/
+    private final long receivedBytes;
+
+    /**
+     * {@code meanLatency} mean latency of the requests
+     **/
+    private final double meanLatency;
+
+    /**
+     * {@code p50Latency} latency under which are the half of the requests
+     **/
+    private final double p50Latency;
+
+    /**
+     * {@code p90Latency} latency under which are the {@code "90%"} of the requests
+     **/
+    private final double p90Latency;
+
+    /**
+     * {@code p99Latency} latency under which are the {@code "99%"} of the requests
+     **/
+    private final double p99Latency;
+
+    /**
+     * {@code maxLatency} maximum latency of the requests
+     **/
+    private final double maxLatency;
+
+    /**
+     * Constructor to init a {@link EndpointMetrics}
+     *
+     * @param requestPath:   template of the endpoint, as {@code "/repos/{owner}/{repo}/actions/runs"}
+     * @param method:        method of the requests
+     * @param requestCount:  number of the requests sent
+     * @param errorCount:    number of the requests gone wrong or with an error status code
+     * @param sentBytes:     number of the bytes of the bodies sent
+     * @param receivedBytes: number of the bytes of the bodies received
+     * @param meanLatency:   mean latency of the requests
+     * @param p50Latency:    latency under which are the half of the requests
+     * @param p90Latency:    latency under which are the {@code "90%"} of the requests
+     * @param p99Latency:    latency under which are the {@code "99%"} of the requests
+     * @param maxLatency:    maximum latency of the requests
+     **/
+    @ConstructorParameters({"requestPath", "method", "requestCount", "errorCount", "sentBytes", "receivedBytes",
+            "meanLatency", "p50Latency", "p90Latency", "p99Latency", "maxLatency"})
+    public EndpointMetrics(String requestPath, RequestMethod method, long requestCount, long errorCount,
+                           long sentBytes, long receivedBytes, double meanLatency, double p50Latency,
+                           double p90Latency, double p99Latency, double maxLatency) {
+        this.requestPath = requestPath;
+        this.method = method;
+        this.requestCount = requestCount;
+        this.errorCount = errorCount;
+        this.sentBytes = sentBytes;
+        this.receivedBytes = receivedBytes;
+        this.meanLatency = meanLatency;
+        this.p50Latency = p50Latency;
+        this.p90Latency = p90Latency;
+        this.p99Latency = p99Latency;
+        this.maxLatency = maxLatency;
+    }
+
+    /**
+     * Method to get {@link #requestPath} instance <br>
+     * No-any params required
+     *
+     * @return {@link #requestPath} instance as {@link String}
+     **/
+    public String getRequestPath() {
+        return requestPath;
+    }
+
+    /**
+     * Method to get {@link #method} instance <br>
+     * No-any params required
+     *
+     * @return {@link #method} instance as {@link RequestMethod}
+     **/
+    public RequestMethod getMethod() {
+        return method;
+    }
+
+    /**
+     * Method to get {@link #requestCount} instance <br>
+     * No-any params required
+     *
+     * @return {@link #requestCount} instance as long
+     **/
+    public long getRequestCount() {
+        return requestCount;
+    }
+
+    /**
+     * Method to get {@link #errorCount} instance <br>
+     * No-any params required
+     *
+     * @return {@link #errorCount} instance as long
+     **/
+    public long getErrorCount() {
+        return errorCount;
+    }
+
+    /**
+     * Method to get {@link #sentBytes} instance <br>
+     * No-any params required
+     *
+     * @return {@link #sentBytes} instance as long
+     **/
+    public long getSentBytes() {
+        return sentBytes;
+    }
+
+    /**
+     * Method to get {@link #receivedBytes} instance <br>
+     * No-any params required
+     *
+     * @return {@link #receivedBytes} instance as long
+     **/
+    public long getReceivedBytes() {
+        return receivedBytes;
+    }
+
+    /**
+     * Method to get {@link #meanLatency} instance <br>
+     * No-any params required
+     *
+     * @return {@link #meanLatency} instance in milliseconds as double
+     **/
+    public double getMeanLatency() {
+        return meanLatency;
+    }
+
+    /**
+     * Method to get {@link #p50Latency} instance <br>
+     * No-any params required
+     *
+     * @return {@link #p50Latency} instance in milliseconds as double
+     **/
+    public double getP50Latency() {
+        return p50Latency;
+    }
+
+    /**
+     * Method to get {@link #p90Latency} instance <br>
+     * No-any params required
+     *
+     * @return {@link #p90Latency} instance in milliseconds as double
+     **/
+    public double getP90Latency() {
+        return p90Latency;
+    }
+
+    /**
+     * Method to get {@link #p99Latency} instance <br>
+     * No-any params required
+     *
+     * @return {@link #p99Latency} instance in milliseconds as double
+     **/
+    public double getP99Latency() {
+        return p99Latency;
+    }
+
+    /**
+     * Method to get {@link #maxLatency} instance <br>
+     * No-any params required
+     *
+     * @return {@link #maxLatency} instance in milliseconds as double
+     **/
+    public double getMaxLatency() {
+        return maxLatency;
+    }
+
+    /**
+     * Returns a string representation of the object <br>
+     * No-any params required
+     *
+     * @return a string representation of the object as {@link String}
+     */
+    @Override
+    public String toString() {
+        return new JSONObject(this).toString();
+    }
+
+}
@@ -0,0 +1,240 @@
+package com.tecknobit.githubmanager.monitoring.records;
+
+import com.tecknobit.apimanager.apis.APIRequest.RequestMethod;
+import org.json.JSONObject;
+
+/**
+ * The {@code RequestEvent} class is useful to format an event of the lifecycle of a request, given to the
+ * {@link com.tecknobit.githubmanager.monitoring.GitHubRequestListener}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ **/
+public final class RequestEvent {
+
+    /**
+     * {@code UNKNOWN_STATUS_CODE} status code of an event without a response
+     **/
+    public static final int UNKNOWN_STATUS_CODE = -1;
+
+    /**
+     * {@code type} type of the event
+     **/
+    private final EventType type;
+
+    /**
+     * {@code requestPath} template of the request, as {@code "/repos/{owner}/{repo}/actions/runs"}
+     **/
+    private final String requestPath;
+
+    /**
+     * {@code method} method of the request
+     **/
+    private final RequestMethod method;
+
+    /**
+     * {@code url} complete url of the request
+     **/
+    private final String url;
+
+    /**
+     * {@code statusCode} status code of the response, {@link #UNKNOWN_STATUS_CODE} if the event has not a response
+     **/
+    private final int statusCode;
+
+    /**
+     * {@code sentBytes} number of the bytes of the body sent, {@code "-1"} if unknown
+     **/
+    private final long sentBytes;
+
+    /**
+     * {@code receivedBytes} number of the bytes of the body received
+     **/
+    private final long receivedBytes;
+
+    /**
+     * {@code elapsed} nanoseconds elapsed from the start of the request to the event
+     **/
+    private final long elapsed;
+
+    /**
+     * {@code attempt} number of the attempt of the request, {@code "0"} for the first one
+     **/
+    private final int attempt;
+
+    /**
+     * {@code error} error of the request, {@code "null"} if the request has not been go wrong
+     **/
+    private final Throwable error;
+
+    /**
+     * Constructor to init a {@link RequestEvent}
+     *
+     * @param type:          type of the event
+     * @param requestPath:   template of the request, as {@code "/repos/{owner}/{repo}/actions/runs"}
+     * @param method:        method of the request
+     * @param url:           complete url of the request
+     * @param statusCode:    status code of the response, {@link #UNKNOWN_STATUS_CODE} if the event has not a response
+     * @param sentBytes:     number of the bytes of the body sent, {@code "-1"} if unknown
+     * @param receivedBytes: number of the bytes of the body received
+     * @param elapsed:       nanoseconds elapsed from the start of the request to the event
+     * @param attempt:       number of the attempt of the request, {@code "0"} for the first one
+     * @param error:         error of the request, {@code "null"} if the request has not been go wrong
+     **/
+    public RequestEvent(EventType type, String requestPath, RequestMethod method, String url, int statusCode,
+                        long sentBytes, long receivedBytes, long elapsed, int attempt, Throwable error) {
+        this.type = type;
+        this.requestPath = requestPath;
+        this.method = method;
+        this.url = url;
+        this.statusCode = statusCode;
+        this.sentBytes = sentBytes;
+        this.receivedBytes = receivedBytes;
+        this.elapsed = elapsed;
+        this.attempt = attempt;
+        this.error = error;
+    }
+
+    /**
+     * Method to get {@link #type} instance <br>
+     * No-any params required
+     *
+     * @return {@link #type} instance as {@link EventType}
+     **/
+    public EventType getType() {
+        return type;
+    }
+
+    /**
+     * Method to get {@link #requestPath} instance <br>
+     * No-any params required
+     *
+     * @return {@link #requestPath} instance as {@link String}
+     **/
+    public String getRequestPath() {
+        return requestPath;
+    }
+
+    /**
+     * Method to get {@link #method} instance <br>
+     * No-any params required
+     *
+     * @return {@link #method} instance as {@link RequestMethod}
+     **/
+    public RequestMethod getMethod() {
+        return method;
+    }
+
+    /**
+     * Method to get {@link #url} instance <br>
+     * No-any params required
+     *
+     * @return {@link #url} instance as {@link String}
+     **/
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Method to get {@link #statusCode} instance <br>
+     * No-any params required
+     *
+     * @return {@link #statusCode} instance as int
+     **/
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * Method to get {@link #sentBytes} instance <br>
+     * No-any params required
+     *
+     * @return {@link #sentBytes} instance as long
+     **/
+    public long getSentBytes() {
+        return sentBytes;
+    }
+
+    /**
+     * Method to get {@link #receivedBytes} instance <br>
+     * No-any params required
+     *
+     * @return {@link #receivedBytes} instance as long
+     **/
+    public long getReceivedBytes() {
+        return receivedBytes;
+    }
+
+    /**
+     * Method to get {@link #elapsed} instance <br>
+     * No-any params required
+     *
+     * @return {@link #elapsed} instance in nanoseconds as long
+     **/
+    public long getElapsed() {
+        return elapsed;
+    }
+
+    /**
+     * Method to get {@link #attempt} instance <br>
+     * No-any params required
+     *
+     * @return {@link #attempt} instance as int
+     **/
+    public int getAttempt() {
+        return attempt;
+    }
+
+    /**
+     * Method to get {@link #error} instance <br>
+     * No-any params required
+     *
+     * @return {@link #error} instance as {@link Throwable}
+     **/
+    public Throwable getError() {
+        return error;
+    }
+
+    /**
+     * Returns a string representation of the object <br>
+     * No-any params required
+     *
+     * @return a string representation of the object as {@link String}
+     */
+    @Override
+    public String toString() {
+        return new JSONObject(this).toString();
+    }
+
+    /**
+     * {@code EventType} list of available event types
+     **/
+    public enum EventType {
+
+        /**
+         * {@code REQUEST_START} the request is going to be sent
+         **/
+        REQUEST_START,
+
+        /**
+         * {@code FIRST_BYTE} the status code and the headers of the response have been received
+         **/
+        FIRST_BYTE,
+
+        /**
+         * {@code REQUEST_END} the response has been received or the request has been go wrong
+         **/
+        REQUEST_END,
+
+        /**
+         * {@code RETRY} the request is going to be sent again
+         **/
+        RETRY,
+
+        /**
+         * {@code CACHE_HIT} the response has been served from a cache
+         **/
+        CACHE_HIT
+
+    }
+
+}
@@ -192,6 +192,7 @@ public class GithubBlockingUsersManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/blocks")
     public <T> T getOrganizationBlockedUsers(String org, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnUsersList(sendGetRequest(ORGS_PATH + org + BLOCKS_PATH), format);
     }
 
@@ -334,6 +335,7 @@ public class GithubBlockingUsersManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/blocks")
     public <T> T getOrganizationBlockedUsers(String org, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnUsersList(sendGetRequest(ORGS_PATH + org + BLOCKS_PATH + queryParams.createQueryString()),
                 format);
     }
@@ -366,7 +368,7 @@ public class GithubBlockingUsersManager extends GitHubManager {
     public boolean checkIfUserBlockedByOrganization(String org, String username) {
         try {
             sendGetRequest(ORGS_PATH + org + BLOCKS_PATH + "/" + username);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -405,7 +407,7 @@ public class GithubBlockingUsersManager extends GitHubManager {
     public boolean blockUserFromOrganization(String org, String username) {
         try {
             sendPutRequest(ORGS_PATH + org + BLOCKS_PATH + "/" + username, null);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -444,7 +446,7 @@ public class GithubBlockingUsersManager extends GitHubManager {
     public boolean unblockUserFromOrganization(String org, String username) {
         try {
             sendDeleteRequest(ORGS_PATH + org + BLOCKS_PATH + "/" + username);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -228,6 +228,7 @@ public class GitHubMembersManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/failed_invitations")
     public <T> T getFailedOrganizationInvitations(String org, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnEntityInvitations(sendGetRequest(ORGS_PATH + org + FAILED_INVITATIONS_PATH), format);
     }
 
@@ -373,6 +374,7 @@ public class GitHubMembersManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/failed_invitations")
     public <T> T getFailedOrganizationInvitations(String org, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnEntityInvitations(sendGetRequest(ORGS_PATH + org + FAILED_INVITATIONS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -488,6 +490,7 @@ public class GitHubMembersManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/invitations")
     public <T> T getPendingOrganizationInvitations(String org, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnEntityInvitations(sendGetRequest(ORGS_PATH + org + INVITATIONS_PATH), format);
     }
 
@@ -673,6 +676,7 @@ public class GitHubMembersManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/invitations")
     public <T> T getPendingOrganizationInvitations(String org, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnEntityInvitations(sendGetRequest(ORGS_PATH + org + INVITATIONS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -916,6 +920,7 @@ public class GitHubMembersManager extends GitHubManager {
      **/
     @RequestPath(method = POST, path = "/orgs/{org}/invitations")
     public <T> T createOrganizationInvitation(String org, Params bodyParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnOrganizationInvitation(sendPostRequest(ORGS_PATH + org + INVITATIONS_PATH, bodyParams),
                 format);
     }
@@ -1005,7 +1010,7 @@ public class GitHubMembersManager extends GitHubManager {
     public boolean cancelOrganizationInvitation(String org, long invitationId) {
         try {
             sendDeleteRequest(ORGS_PATH + org + INVITATIONS_PATH + "/" + invitationId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -1244,6 +1249,7 @@ public class GitHubMembersManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/invitations/{invitation_id}/teams")
     public <T> T getOrganizationInvitationTeams(String org, long invitationId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnTeamsList(sendGetRequest(ORGS_PATH + org + INVITATIONS_PATH + "/" + invitationId
                 + TEAMS_PATH), format);
     }
@@ -1555,6 +1561,7 @@ public class GitHubMembersManager extends GitHubManager {
     @RequestPath(method = GET, path = "/orgs/{org}/invitations/{invitation_id}/teams")
     public <T> T getOrganizationInvitationTeams(String org, long invitationId, Params queryParams,
                                                 ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnTeamsList(sendGetRequest(ORGS_PATH + org + INVITATIONS_PATH + "/" + invitationId
                 + TEAMS_PATH + queryParams.createQueryString()), format);
     }
@@ -1666,6 +1673,7 @@ public class GitHubMembersManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/members")
     public <T> T getOrganizationMembers(String org, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnUsersList(sendGetRequest(ORGS_PATH + org + MEMBERS_PATH), format);
     }
 
@@ -1852,6 +1860,7 @@ public class GitHubMembersManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/members")
     public <T> T getOrganizationMembers(String org, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnUsersList(sendGetRequest(ORGS_PATH + org + MEMBERS_PATH + queryParams.createQueryString()),
                 format);
     }
@@ -1884,7 +1893,7 @@ public class GitHubMembersManager extends GitHubManager {
     public boolean checkUserOrganizationMembership(String org, String username) {
         try {
             sendGetRequest(ORGS_PATH + org + MEMBERS_QUERY_PATH + username);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -1925,7 +1934,7 @@ public class GitHubMembersManager extends GitHubManager {
     public boolean removeOrganizationMember(String org, String username) {
         try {
             sendDeleteRequest(ORGS_PATH + org + MEMBERS_QUERY_PATH + username);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -2051,6 +2060,7 @@ public class GitHubMembersManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/memberships/{username}")
     public <T> T getUserOrganizationMembership(String org, String username, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnOrganizationMembership(sendGetRequest(ORGS_PATH + org + MEMBERSHIPS_PATH + username), format);
     }
 
@@ -2209,6 +2219,7 @@ public class GitHubMembersManager extends GitHubManager {
     @RequestPath(method = PUT, path = "/orgs/{org}/memberships/{username}")
     public <T> T setUserOrganizationMembership(String org, String username, MembershipRole role,
                                                ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("role", role);
         return returnOrganizationMembership(sendPutRequest(ORGS_PATH + org + MEMBERSHIPS_PATH + username,
@@ -2251,7 +2262,7 @@ public class GitHubMembersManager extends GitHubManager {
     public boolean removeUserOrganizationMembership(String org, String username) {
         try {
             sendDeleteRequest(ORGS_PATH + org + MEMBERSHIPS_PATH + username);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -2369,6 +2380,7 @@ public class GitHubMembersManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/public_members")
     public <T> T getPublicOrganizationMembers(String org, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnUsersList(sendGetRequest(ORGS_PATH + org + PUBLIC_MEMBERS_PATH), format);
     }
 
@@ -2515,6 +2527,7 @@ public class GitHubMembersManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/public_members")
     public <T> T getPublicOrganizationMembers(String org, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnUsersList(sendGetRequest(ORGS_PATH + org + PUBLIC_MEMBERS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -2547,7 +2560,7 @@ public class GitHubMembersManager extends GitHubManager {
     public boolean checkUserPublicOrganizationMembership(String org, String username) {
         try {
             sendGetRequest(ORGS_PATH + org + PUBLIC_MEMBERS_PATH + "/" + username);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -2590,7 +2603,7 @@ public class GitHubMembersManager extends GitHubManager {
     public boolean setAUserPublicOrganizationMembership(String org, String username) {
         try {
             sendPutRequest(ORGS_PATH + org + PUBLIC_MEMBERS_PATH + "/" + username, null);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -2629,7 +2642,7 @@ public class GitHubMembersManager extends GitHubManager {
     public boolean removeAUserPublicOrganizationMembership(String org, String username) {
         try {
             sendDeleteRequest(ORGS_PATH + org + PUBLIC_MEMBERS_PATH + "/" + username);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -2688,6 +2701,7 @@ public class GitHubMembersManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/memberships/orgs")
     public <T> T getAuthenticatedUserOrganizationMemberships(ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnOrganizationMemberships(sendGetRequest(USER_MEMBERS_ORGS_PATH), format);
     }
 
@@ -2766,6 +2780,7 @@ public class GitHubMembersManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/memberships/orgs")
     public <T> T getAuthenticatedUserOrganizationMemberships(Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnOrganizationMemberships(sendGetRequest(USER_MEMBERS_ORGS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -2896,6 +2911,7 @@ public class GitHubMembersManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/memberships/orgs/{org}")
     public <T> T getAuthenticatedUserOrganizationMembership(String org, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnOrganizationMembership(sendGetRequest(USER_MEMBERS_ORGS_PATH + "/" + org), format);
     }
 
@@ -3002,6 +3018,7 @@ public class GitHubMembersManager extends GitHubManager {
      **/
     @RequestPath(method = PATCH, path = "/user/memberships/orgs/{org}")
     public <T> T updateAuthenticatedUserOrganizationMembership(String org, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("state", MembershipState.active);
         return returnOrganizationMembership(sendPatchRequest(USER_MEMBERS_ORGS_PATH + "/" + org, payload), format);
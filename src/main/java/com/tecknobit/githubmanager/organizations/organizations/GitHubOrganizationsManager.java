@@ -154,6 +154,7 @@ public class GitHubOrganizationsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/organizations")
     public <T> T getOrganizations(ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnOrganizations(sendGetRequest(ORGANIZATIONS_PATH), format);
     }
 
@@ -223,6 +224,7 @@ public class GitHubOrganizationsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/organizations")
     public <T> T getOrganizations(Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnOrganizations(sendGetRequest(ORGANIZATIONS_PATH + queryParams.createQueryString()), format);
     }
 
@@ -289,6 +291,7 @@ public class GitHubOrganizationsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}")
     public <T> T getOrganization(String org, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnOrganization(sendGetRequest(ORGS_PATH + org), format);
     }
 
@@ -983,6 +986,7 @@ public class GitHubOrganizationsManager extends GitHubManager {
      **/
     @RequestPath(method = PATCH, path = "/orgs/{org}")
     public <T> T updateOrganization(String org, Params bodyParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnOrganization(sendPatchRequest(ORGS_PATH + org, bodyParams), format);
     }
 
@@ -1116,6 +1120,7 @@ public class GitHubOrganizationsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/installations")
     public <T> T getOrganizationAppInstallations(String org, ReturnFormat format) throws Exception {
+        requireNonStream(format);
         return returnInstallationsList(sendGetRequest(ORGS_PATH + org + INSTALLATIONS_PATH), format);
     }
 
@@ -1266,6 +1271,7 @@ public class GitHubOrganizationsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/installations")
     public <T> T getOrganizationAppInstallations(String org, Params queryParams, ReturnFormat format) throws Exception {
+        requireNonStream(format);
         return returnInstallationsList(sendGetRequest(ORGS_PATH + org + INSTALLATIONS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -1329,7 +1335,7 @@ public class GitHubOrganizationsManager extends GitHubManager {
     public boolean workWithOrganizationSecurityFeature(String org, SecurityProduct securityProduct, Enablement enablement) {
         try {
             sendPostRequest(ORGS_PATH + org + "/" + securityProduct + "/" + enablement, null);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -1398,6 +1404,7 @@ public class GitHubOrganizationsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/orgs")
     public <T> T getAuthenticatedUserOrganizations(ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnOrganizations(sendGetRequest(USER_ORGS_PATH), format);
     }
 
@@ -1476,6 +1483,7 @@ public class GitHubOrganizationsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/orgs")
     public <T> T getAuthenticatedUserOrganizations(Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnOrganizations(sendGetRequest(USER_ORGS_PATH + queryParams.createQueryString()), format);
     }
 
@@ -1534,6 +1542,7 @@ public class GitHubOrganizationsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/users/{username}/orgs")
     public <T> T getUserOrganizations(String username, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnOrganizations(sendGetRequest(USERS_PATH + username + ORGS_QUERY_PATH), format);
     }
 
@@ -1610,6 +1619,7 @@ public class GitHubOrganizationsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/users/{username}/orgs")
     public <T> T getUserOrganizations(String username, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnOrganizations(sendGetRequest(USERS_PATH + username + ORGS_QUERY_PATH
                 + queryParams.createQueryString()), format);
     }
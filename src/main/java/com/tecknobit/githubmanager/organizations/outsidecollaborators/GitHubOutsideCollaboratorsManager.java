@@ -193,6 +193,7 @@ public class GitHubOutsideCollaboratorsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/outside_collaborators")
     public <T> T getOrganizationOutsideCollaborators(String org, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnUsersList(sendGetRequest(ORGS_PATH + org + OUTSIDE_COLLABORATORS_PATH), format);
     }
 
@@ -376,6 +377,7 @@ public class GitHubOutsideCollaboratorsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/outside_collaborators")
     public <T> T getOrganizationOutsideCollaborators(String org, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnUsersList(sendGetRequest(ORGS_PATH + org + OUTSIDE_COLLABORATORS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -424,7 +426,7 @@ public class GitHubOutsideCollaboratorsManager extends GitHubManager {
             Params payload = new Params();
             payload.addParam("async", async);
             sendPutRequest(ORGS_PATH + org + OUTSIDE_COLLABORATORS_PATH + "/" + username, payload);
-            if (apiRequest.getResponseStatusCode() != 202) {
+            if (getStatusCode() != 202) {
                 printErrorResponse();
                 return false;
             }
@@ -465,7 +467,7 @@ public class GitHubOutsideCollaboratorsManager extends GitHubManager {
     public boolean removeOutsideCollaborator(String org, String username) {
         try {
             sendDeleteRequest(ORGS_PATH + org + OUTSIDE_COLLABORATORS_PATH + "/" + username);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -208,6 +208,7 @@ public class GitHubOrganizationSecurityManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/security-managers")
     public <T> T getSecurityManagerTeams(String org, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnTeamsList(sendGetRequest(ORGS_PATH + org + SECURITY_MANAGERS_PATH), format);
     }
 
@@ -285,7 +286,7 @@ public class GitHubOrganizationSecurityManager extends GitHubManager {
     public boolean addSecurityManagerTeam(String org, String teamSlug) {
         try {
             sendPutRequest(ORGS_PATH + org + SECURITY_MANAGERS_PATH + TEAMS_PATH + "/" + teamSlug, null);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -370,7 +371,7 @@ public class GitHubOrganizationSecurityManager extends GitHubManager {
     public boolean removeSecurityManagerTeam(String org, String teamSlug) {
         try {
             sendDeleteRequest(ORGS_PATH + org + SECURITY_MANAGERS_PATH + TEAMS_PATH + "/" + teamSlug);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -215,6 +215,7 @@ public class GitHubOrganizationWebhooksManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/hooks")
     public <T> T getOrganizationWebhooks(String org, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnOrganizationWebhooks(sendGetRequest(ORGS_PATH + org + HOOKS_PATH), format);
     }
 
@@ -357,6 +358,7 @@ public class GitHubOrganizationWebhooksManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/hooks")
     public <T> T getOrganizationWebhooks(String org, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnOrganizationWebhooks(sendGetRequest(ORGS_PATH + org + HOOKS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -662,6 +664,7 @@ public class GitHubOrganizationWebhooksManager extends GitHubManager {
     @RequestPath(method = POST, path = "/orgs/{org}/hooks")
     public <T> T createOrganizationWebhook(String org, String name, Webhook config, Params bodyParams,
                                            ReturnFormat format) throws IOException {
+        requireNonStream(format);
         if (bodyParams == null)
             bodyParams = new Params();
         bodyParams.addParam("name", name);
@@ -780,6 +783,7 @@ public class GitHubOrganizationWebhooksManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/hooks/{hook_id}")
     public <T> T getOrganizationWebhook(String org, long hookId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnOrganizationWebhook(sendGetRequest(ORGS_PATH + org + HOOKS_PATH + "/" + hookId), format);
     }
 
@@ -1151,6 +1155,7 @@ public class GitHubOrganizationWebhooksManager extends GitHubManager {
      **/
     @RequestPath(method = PATCH, path = "/orgs/{org}/hooks/{hook_id}")
     public <T> T updateOrganizationWebhook(String org, long hookId, Params bodyParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnOrganizationWebhook(sendPatchRequest(ORGS_PATH + org + HOOKS_PATH + "/" + hookId,
                 bodyParams), format);
     }
@@ -1232,7 +1237,7 @@ public class GitHubOrganizationWebhooksManager extends GitHubManager {
     public boolean deleteOrganizationWebhook(String org, long hookId) {
         try {
             sendDeleteRequest(ORGS_PATH + org + HOOKS_PATH + "/" + hookId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -1489,6 +1494,7 @@ public class GitHubOrganizationWebhooksManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/hooks/{hook_id}/config")
     public <T> T getOrganizationWebhookConfiguration(String org, long hookId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnWebhook(sendGetRequest(ORGS_PATH + org + HOOKS_PATH + "/" + hookId + CONFIG_PATH), format);
     }
 
@@ -1909,6 +1915,7 @@ public class GitHubOrganizationWebhooksManager extends GitHubManager {
     @RequestPath(method = PATCH, path = "/orgs/{org}/hooks/{hook_id}/config")
     public <T> T updateOrganizationWebhookConfiguration(String org, long hookId, Params bodyParams,
                                                         ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnWebhook(sendPatchRequest(ORGS_PATH + org + HOOKS_PATH + "/" + hookId + CONFIG_PATH,
                 bodyParams), format);
     }
@@ -2133,6 +2140,7 @@ public class GitHubOrganizationWebhooksManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/hooks/{hook_id}/deliveries")
     public <T> T getOrganizationWebhookDeliveries(String org, long hookId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnDeliveriesList(sendGetRequest(ORGS_PATH + org + HOOKS_PATH + "/" + hookId + DELIVERIES_PATH),
                 format);
     }
@@ -2475,6 +2483,7 @@ public class GitHubOrganizationWebhooksManager extends GitHubManager {
     @RequestPath(method = GET, path = "/orgs/{org}/hooks/{hook_id}/deliveries")
     public <T> T getOrganizationWebhookDeliveries(String org, long hookId, Params queryParams,
                                                   ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnDeliveriesList(sendGetRequest(ORGS_PATH + org + HOOKS_PATH + "/" + hookId + DELIVERIES_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -2711,6 +2720,7 @@ public class GitHubOrganizationWebhooksManager extends GitHubManager {
     @RequestPath(method = GET, path = "/orgs/{org}/hooks/{hook_id}/deliveries/{delivery_id}")
     public <T> T getOrganizationWebhookDelivery(String org, long hookId, long deliveryId,
                                                 ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnDelivery(sendGetRequest(ORGS_PATH + org + HOOKS_PATH + "/" + hookId + DELIVERIES_PATH
                 + "/" + deliveryId), format);
     }
@@ -2842,7 +2852,7 @@ public class GitHubOrganizationWebhooksManager extends GitHubManager {
         try {
             sendPostRequest(ORGS_PATH + org + HOOKS_PATH + "/" + hookId + DELIVERIES_PATH + "/" + deliveryId
                     + ATTEMPTS_QUERY_PATH, null);
-            if (apiRequest.getResponseStatusCode() != 202) {
+            if (getStatusCode() != 202) {
                 printErrorResponse();
                 return false;
             }
@@ -2915,7 +2925,7 @@ public class GitHubOrganizationWebhooksManager extends GitHubManager {
     public boolean pingOrganizationWebhook(String org, long hookId) {
         try {
             sendPostRequest(ORGS_PATH + org + HOOKS_PATH + "/" + hookId + PINGS_PATH, null);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
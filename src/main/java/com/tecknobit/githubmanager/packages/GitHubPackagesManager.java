@@ -9,6 +9,7 @@ import com.tecknobit.githubmanager.organizations.organizations.records.Organizat
 import com.tecknobit.githubmanager.packages.records.GitHubPackage;
 import com.tecknobit.githubmanager.packages.records.GitHubPackage.PackageType;
 import com.tecknobit.githubmanager.packages.records.GitHubPackageVersion;
+import com.tecknobit.githubmanager.pagination.GitHubPaginator;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
@@ -427,6 +428,7 @@ public class GitHubPackagesManager extends GitHubManager {
     @RequestPath(method = GET, path = "/orgs/{org}/packages")
     public <T> T getOrganizationPackages(String org, PackageType packageType, Params queryParams,
                                          ReturnFormat format) throws IOException {
+        requireNonStream(format);
         if (queryParams == null)
             queryParams = new Params();
         queryParams.addParam("package_type", packageType);
@@ -564,6 +566,7 @@ public class GitHubPackagesManager extends GitHubManager {
     @RequestPath(method = GET, path = "/orgs/{org}/packages/{package_type}/{package_name}")
     public <T> T getOrganizationPackage(PackageType packageType, String packageName, String org,
                                         ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnPackage(sendGetRequest(ORGS_PATH + org + PACKAGES_PATH + "/" + packageType + "/"
                 + packageName), format);
     }
@@ -690,7 +693,7 @@ public class GitHubPackagesManager extends GitHubManager {
     public boolean deleteOrganizationPackage(PackageType packageType, String packageName, String org) {
         try {
             sendDeleteRequest(ORGS_PATH + org + PACKAGES_PATH + "/" + packageType + "/" + packageName);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -1034,7 +1037,7 @@ public class GitHubPackagesManager extends GitHubManager {
             if (token != null)
                 reqUrl += "?token=" + token;
             sendPostRequest(reqUrl, null);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -1312,6 +1315,7 @@ public class GitHubPackagesManager extends GitHubManager {
     @RequestPath(method = GET, path = "/orgs/{org}/packages/{package_type}/{package_name}/versions")
     public <T> T getOrganizationPackageVersions(PackageType packageType, String packageName, String org,
                                                 ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnPackageVersions(sendGetRequest(ORGS_PATH + org + PACKAGES_PATH + "/" + packageType + "/"
                 + packageName + VERSIONS_QUERY_PATH), format);
     }
@@ -1690,10 +1694,92 @@ public class GitHubPackagesManager extends GitHubManager {
     @RequestPath(method = GET, path = "/orgs/{org}/packages/{package_type}/{package_name}/versions")
     public <T> T getOrganizationPackageVersions(PackageType packageType, String packageName, String org,
                                                 Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnPackageVersions(sendGetRequest(ORGS_PATH + org + PACKAGES_PATH + "/" + packageType + "/"
                 + packageName + VERSIONS_QUERY_PATH + queryParams.createQueryString()), format);
     }
 
+    /**
+     * Method to iterate all the package versions for a package owned by an organization following all the pages of
+     * the list <br>
+     * To use this endpoint, you must authenticate using an access token with the {@code "read:packages"} scope.
+     * If the {@code "package_type"} belongs to a registry that only supports repository-scoped permissions, your token
+     * must also include the repo scope. For the list of GitHub Packages registries that only support repository-scoped
+     * permissions, see "About permissions for GitHub Packages."
+     *
+     * @param packageType: type of supported package
+     * @param gPackage:    the package from fetch the list
+     * @param org:         the organization from fetch the list
+     * @return all the package versions as {@link GitHubPaginator} of {@link GitHubPackageVersion} custom object, use
+     * {@link GitHubPaginator#fetchAll()} to fetch all the pages concurrently
+     * @apiNote see the official documentation at: <a href="https://docs.github.com/en/rest/packages#list-package-versions-for-a-package-owned-by-an-organization">
+     * List package versions for a package owned by an organization</a>
+     **/
+    @Wrapper
+    @RequestPath(method = GET, path = "/orgs/{org}/packages/{package_type}/{package_name}/versions")
+    public GitHubPaginator<GitHubPackageVersion> getAllOrganizationPackageVersions(PackageType packageType,
+                                                                                   GitHubPackage gPackage,
+                                                                                   Organization org) {
+        return getAllOrganizationPackageVersions(packageType, gPackage.getName(), org.getLogin(), null);
+    }
+
+    /**
+     * Method to iterate all the package versions for a package owned by an organization following all the pages of
+     * the list <br>
+     * To use this endpoint, you must authenticate using an access token with the {@code "read:packages"} scope.
+     * If the {@code "package_type"} belongs to a registry that only supports repository-scoped permissions, your token
+     * must also include the repo scope. For the list of GitHub Packages registries that only support repository-scoped
+     * permissions, see "About permissions for GitHub Packages."
+     *
+     * @param packageType: type of supported package
+     * @param packageName: the name of the package
+     * @param org:         the organization name. The name is not case-sensitive
+     * @return all the package versions as {@link GitHubPaginator} of {@link GitHubPackageVersion} custom object, use
+     * {@link GitHubPaginator#fetchAll()} to fetch all the pages concurrently
+     * @apiNote see the official documentation at: <a href="https://docs.github.com/en/rest/packages#list-package-versions-for-a-package-owned-by-an-organization">
+     * List package versions for a package owned by an organization</a>
+     **/
+    @Wrapper
+    @RequestPath(method = GET, path = "/orgs/{org}/packages/{package_type}/{package_name}/versions")
+    public GitHubPaginator<GitHubPackageVersion> getAllOrganizationPackageVersions(PackageType packageType,
+                                                                                   String packageName, String org) {
+        return getAllOrganizationPackageVersions(packageType, packageName, org, null);
+    }
+
+    /**
+     * Method to iterate all the package versions for a package owned by an organization following all the pages of
+     * the list <br>
+     * To use this endpoint, you must authenticate using an access token with the {@code "read:packages"} scope.
+     * If the {@code "package_type"} belongs to a registry that only supports repository-scoped permissions, your token
+     * must also include the repo scope. For the list of GitHub Packages registries that only support repository-scoped
+     * permissions, see "About permissions for GitHub Packages."
+     *
+     * @param packageType: type of supported package
+     * @param packageName: the name of the package
+     * @param org:         the organization name. The name is not case-sensitive
+     * @param queryParams: extra query params not mandatory, keys accepted are:
+     *                     <ul>
+     *                        <li>
+     *                            {@code "per_page"} -> the number of results per page (max 100) - [integer, default 100]
+     *                        </li>
+     *                        <li>
+     *                            {@code "state"} -> the state of the package, either active or deleted
+     *                            - [string, default active]
+     *                        </li>
+     *                     </ul>
+     * @return all the package versions as {@link GitHubPaginator} of {@link GitHubPackageVersion} custom object, use
+     * {@link GitHubPaginator#fetchAll()} to fetch all the pages concurrently
+     * @apiNote see the official documentation at: <a href="https://docs.github.com/en/rest/packages#list-package-versions-for-a-package-owned-by-an-organization">
+     * List package versions for a package owned by an organization</a>
+     **/
+    @RequestPath(method = GET, path = "/orgs/{org}/packages/{package_type}/{package_name}/versions")
+    public GitHubPaginator<GitHubPackageVersion> getAllOrganizationPackageVersions(PackageType packageType,
+                                                                                   String packageName, String org,
+                                                                                   Params queryParams) {
+        return paginate(ORGS_PATH + org + PACKAGES_PATH + "/" + packageType + "/" + packageName + VERSIONS_QUERY_PATH,
+                queryParams, versions -> returnPackageVersions(versions, LIBRARY_OBJECT));
+    }
+
     /**
      * Method to get a specific package version in an organization <br>
      * You must authenticate using an access token with the {@code "read:packages"} scope. If the {@code "package_type"}
@@ -1970,6 +2056,7 @@ public class GitHubPackagesManager extends GitHubManager {
     @RequestPath(method = GET, path = "/orgs/{org}/packages/{package_type}/{package_name}/versions/{package_version_id}")
     public <T> T getOrganizationPackageVersion(PackageType packageType, String packageName, String org,
                                                long packageVersionId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnPackageVersion(sendGetRequest(ORGS_PATH + org + PACKAGES_PATH + "/" + packageType + "/"
                 + packageName + VERSIONS_QUERY_PATH + "/" + packageVersionId), format);
     }
@@ -2245,7 +2332,7 @@ public class GitHubPackagesManager extends GitHubManager {
         try {
             sendDeleteRequest(ORGS_PATH + org + PACKAGES_PATH + "/" + packageType + "/" + packageName
                     + VERSIONS_QUERY_PATH + "/" + packageVersionId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -2599,7 +2686,7 @@ public class GitHubPackagesManager extends GitHubManager {
         try {
             sendPostRequest(ORGS_PATH + org + PACKAGES_PATH + "/" + packageType + "/" + packageName
                     + VERSIONS_QUERY_PATH + "/" + packageVersionId + RESTORE_PATH, null);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -2739,6 +2826,7 @@ public class GitHubPackagesManager extends GitHubManager {
     @RequestPath(method = GET, path = "/user/packages")
     public <T> T getAuthenticatedUserPackages(PackageType packageType, RepoVisibility visibility,
                                               ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String reqUrl = USER_PACKAGES_PATH + "?package_type=" + packageType;
         if (visibility != null)
             reqUrl += "&visibility=" + visibility;
@@ -2805,6 +2893,7 @@ public class GitHubPackagesManager extends GitHubManager {
     @RequestPath(method = GET, path = "/user/packages/{package_type}/{package_name}")
     public <T> T getAuthenticatedUserPackage(PackageType packageType, String packageName,
                                              ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnPackage(sendGetRequest(USER_PACKAGES_PATH + "/" + packageType + "/" + packageName), format);
     }
 
@@ -2850,7 +2939,7 @@ public class GitHubPackagesManager extends GitHubManager {
     public boolean deleteAuthenticatedUserPackage(PackageType packageType, String packageName) {
         try {
             sendDeleteRequest(USER_PACKAGES_PATH + "/" + packageType + "/" + packageName);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -3024,7 +3113,7 @@ public class GitHubPackagesManager extends GitHubManager {
             if (token != null)
                 reqUrl += "?token=" + token;
             sendPostRequest(reqUrl, null);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -3162,6 +3251,7 @@ public class GitHubPackagesManager extends GitHubManager {
     @RequestPath(method = GET, path = "/user/packages/{package_type}/{package_name}/versions")
     public <T> T getAuthenticatedUserPackageVersions(PackageType packageType, String packageName,
                                                      ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnPackageVersions(sendGetRequest(USER_PACKAGES_PATH + "/" + packageType + "/" + packageName
                 + VERSIONS_QUERY_PATH), format);
     }
@@ -3346,6 +3436,7 @@ public class GitHubPackagesManager extends GitHubManager {
     @RequestPath(method = GET, path = "/user/packages/{package_type}/{package_name}/versions")
     public <T> T getAuthenticatedUserPackageVersions(PackageType packageType, String packageName, Params queryParams,
                                                      ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnPackageVersions(sendGetRequest(USER_PACKAGES_PATH + "/" + packageType + "/" + packageName
                 + VERSIONS_QUERY_PATH + queryParams.createQueryString()), format);
     }
@@ -3481,6 +3572,7 @@ public class GitHubPackagesManager extends GitHubManager {
     @RequestPath(method = GET, path = "/user/packages/{package_type}/{package_name}/versions/{package_version_id}")
     public <T> T getAuthenticatedUserPackageVersion(PackageType packageType, String packageName, long packageVersionId,
                                                     ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnPackageVersion(sendGetRequest(USER_PACKAGES_PATH + "/" + packageType + "/" + packageName
                 + VERSIONS_QUERY_PATH + "/" + packageVersionId), format);
     }
@@ -3580,7 +3672,7 @@ public class GitHubPackagesManager extends GitHubManager {
         try {
             sendDeleteRequest(USER_PACKAGES_PATH + "/" + packageType + "/" + packageName + VERSIONS_QUERY_PATH
                     + "/" + packageVersionId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -3758,7 +3850,7 @@ public class GitHubPackagesManager extends GitHubManager {
         try {
             sendPostRequest(USER_PACKAGES_PATH + "/" + packageType + "/" + packageName + VERSIONS_QUERY_PATH
                     + "/" + packageVersionId + RESTORE_PATH, null);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -3902,6 +3994,7 @@ public class GitHubPackagesManager extends GitHubManager {
     @RequestPath(method = GET, path = "/users/{username}/packages")
     public <T> T getUserPackages(String username, PackageType packageType, RepoVisibility visibility,
                                  ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String reqUrl = USERS_PATH + username + PACKAGES_PATH + "?package_type=" + packageType;
         if (visibility != null)
             reqUrl += "&visibility=" + visibility;
@@ -4060,6 +4153,7 @@ public class GitHubPackagesManager extends GitHubManager {
     @RequestPath(method = GET, path = "/users/{username}/packages/{package_type}/{package_name}")
     public <T> T getUserPackage(PackageType packageType, String packageName, String username,
                                 ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnPackage(sendGetRequest(USERS_PATH + username + PACKAGES_PATH + "/" + packageType + "/"
                 + packageName), format);
     }
@@ -4145,7 +4239,7 @@ public class GitHubPackagesManager extends GitHubManager {
     public boolean deleteUserPackage(PackageType packageType, String packageName, String username) {
         try {
             sendDeleteRequest(USERS_PATH + username + PACKAGES_PATH + "/" + packageType + "/" + packageName);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -4237,7 +4331,7 @@ public class GitHubPackagesManager extends GitHubManager {
         try {
             sendPostRequest(USERS_PATH + username + PACKAGES_PATH + "/" + packageType + "/" + packageName
                     + RESTORE_PATH, null);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -4379,6 +4473,7 @@ public class GitHubPackagesManager extends GitHubManager {
     @RequestPath(method = GET, path = "/users/{username}/packages/{package_type}/{package_name}/versions")
     public <T> T getUserPackageVersions(PackageType packageType, String packageName, String username,
                                         ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnPackageVersions(sendGetRequest(USERS_PATH + username + PACKAGES_PATH + "/" + packageType
                 + "/" + packageName + VERSIONS_QUERY_PATH), format);
     }
@@ -4541,6 +4636,7 @@ public class GitHubPackagesManager extends GitHubManager {
     @RequestPath(method = GET, path = "/users/{username}/packages/{package_type}/{package_name}/versions/{package_version_id}")
     public <T> T getUserPackageVersion(PackageType packageType, String packageName, long packageVersionId,
                                        String username, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnPackageVersion(sendGetRequest(USERS_PATH + username + PACKAGES_PATH + "/" + packageType
                 + "/" + packageName + VERSIONS_QUERY_PATH + packageVersionId), format);
     }
@@ -4699,7 +4795,7 @@ public class GitHubPackagesManager extends GitHubManager {
         try {
             sendDeleteRequest(USERS_PATH + username + PACKAGES_PATH + "/" + packageType + "/" + packageName
                     + VERSIONS_QUERY_PATH + packageVersionId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -4881,7 +4977,7 @@ public class GitHubPackagesManager extends GitHubManager {
         try {
             sendPostRequest(USERS_PATH + username + PACKAGES_PATH + "/" + packageType + "/" + packageName
                     + VERSIONS_QUERY_PATH + packageVersionId + RESTORE_PATH, null);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -221,6 +221,7 @@ public class GitHubPagesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/pages")
     public <T> T getGitHubPagesSite(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnPagesSite(sendGetRequest(REPOS_PATH + owner + "/" + repo + PAGES_PATH), format);
     }
 
@@ -385,6 +386,7 @@ public class GitHubPagesManager extends GitHubManager {
      **/
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/pages")
     public <T> T createGitHubPagesSite(String owner, String repo, Params bodyParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnPagesSite(sendPostRequest(REPOS_PATH + owner + "/" + repo + PAGES_PATH, bodyParams), format);
     }
 
@@ -480,7 +482,7 @@ public class GitHubPagesManager extends GitHubManager {
     public boolean updateGitHubPagesSiteInformation(String owner, String repo, Params bodyParams) {
         try {
             sendPutRequest(REPOS_PATH + owner + "/" + repo + PAGES_PATH, bodyParams);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -524,7 +526,7 @@ public class GitHubPagesManager extends GitHubManager {
     public boolean deleteGitHubPagesSite(String owner, String repo) {
         try {
             sendDeleteRequest(REPOS_PATH + owner + "/" + repo + PAGES_PATH);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -640,6 +642,7 @@ public class GitHubPagesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/pages/builds")
     public <T> T getGitHubPagesBuilds(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnPagesBuilds(sendGetRequest(REPOS_PATH + owner + "/" + repo + PAGES_BUILDS_PATH), format);
     }
 
@@ -784,6 +787,7 @@ public class GitHubPagesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/pages/builds")
     public <T> T getGitHubPagesBuilds(String owner, String repo, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnPagesBuilds(sendGetRequest(REPOS_PATH + owner + "/" + repo + PAGES_BUILDS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -940,6 +944,7 @@ public class GitHubPagesManager extends GitHubManager {
      **/
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/pages/builds")
     public <T> T requestGitHubPagesBuild(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnPagesBuild(sendPostRequest(REPOS_PATH + owner + "/" + repo + PAGES_BUILDS_PATH, null), format);
     }
 
@@ -1048,6 +1053,7 @@ public class GitHubPagesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/pages/builds/latest")
     public <T> T getLatestGitHubPagesBuild(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnPagesBuild(sendGetRequest(REPOS_PATH + owner + "/" + repo + PAGES_BUILDS_LATEST_PATH), format);
     }
 
@@ -1160,6 +1166,7 @@ public class GitHubPagesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/pages/builds/{build_id}")
     public <T> T getGitHubPagesBuild(String owner, String repo, long buildId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnPagesBuild(sendGetRequest(REPOS_PATH + owner + "/" + repo + PAGES_BUILDS_PATH + "/"
                 + buildId), format);
     }
@@ -1456,6 +1463,7 @@ public class GitHubPagesManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/pages/deployment")
     public <T> T createGitHubPagesDeployment(String owner, String repo, String artifactUrl, String pagesBuildVersion,
                                              String oidcToken, String environment, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("artifact_url", artifactUrl);
         payload.addParam("pages_build_version", pagesBuildVersion);
@@ -1604,6 +1612,7 @@ public class GitHubPagesManager extends GitHubManager {
     @Returner
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/pages/health")
     public <T> T getDNSHealthCheck(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String healthResponse = sendGetRequest(REPOS_PATH + owner + "/" + repo + PAGES_HEALTH_PATH);
         switch (format) {
             case JSON:
@@ -0,0 +1,239 @@
+package com.tecknobit.githubmanager.pagination;
+
+import com.tecknobit.githubmanager.GitHubManager;
+import com.tecknobit.githubmanager.pagination.records.GitHubPage;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The {@code GitHubPagePublisher} class is a {@link Flow.Publisher} of all the items of a GitHub's list endpoint <br>
+ * The pages are fetched only when the subscriber requests more items than the ones already fetched, so a slow
+ * subscriber does not make the pages pile up in memory, and when the subscription is cancelled no more pages are
+ * requested
+ *
+ * @param <T> type of the items to publish
+ * @author N7ghtm4r3 - Tecknobit
+ * @see GitHubPaginator#publisher()
+ **/
+public class GitHubPagePublisher<T> implements Flow.Publisher<T> {
+
+    /**
+     * {@code paginator} used to fetch the pages
+     **/
+    protected final GitHubPaginator<T> paginator;
+
+    /**
+     * {@code executor} used to fetch the pages and to signal the subscribers
+     **/
+    protected final Executor executor;
+
+    /**
+     * Constructor to init a {@link GitHubPagePublisher}
+     *
+     * @param paginator: paginator used to fetch the pages
+     * @apiNote the pages are fetched on the {@link GitHubManager#getAsyncExecutor()} executor
+     **/
+    public GitHubPagePublisher(GitHubPaginator<T> paginator) {
+        this(paginator, GitHubManager.getAsyncExecutor());
+    }
+
+    /**
+     * Constructor to init a {@link GitHubPagePublisher}
+     *
+     * @param paginator: paginator used to fetch the pages
+     * @param executor:  executor used to fetch the pages and to signal the subscribers
+     **/
+    public GitHubPagePublisher(GitHubPaginator<T> paginator, Executor executor) {
+        if (paginator == null || executor == null)
+            throw new IllegalArgumentException("The paginator and the executor cannot be null");
+        this.paginator = paginator;
+        this.executor = executor;
+    }
+
+    /**
+     * Method to subscribe a subscriber, each subscriber receives all the items starting from the first page
+     *
+     * @param subscriber: subscriber to add
+     **/
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        if (subscriber == null)
+            throw new NullPointerException("The subscriber cannot be null");
+        PagesSubscription subscription = new PagesSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+    }
+
+    /**
+     * Method to get {@link #paginator} instance <br>
+     * No-any params required
+     *
+     * @return {@link #paginator} instance as {@link GitHubPaginator} of {@link T}
+     **/
+    public GitHubPaginator<T> getPaginator() {
+        return paginator;
+    }
+
+    /**
+     * The {@code PagesSubscription} class is useful to deliver the items to a subscriber as they are requested
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     **/
+    private class PagesSubscription implements Flow.Subscription {
+
+        /**
+         * {@code subscriber} the subscriber which receives the items
+         **/
+        private final Flow.Subscriber<? super T> subscriber;
+
+        /**
+         * {@code demand} number of the items requested and not delivered yet
+         **/
+        private final AtomicLong demand;
+
+        /**
+         * {@code pending} number of the signals to process, the items are delivered only by the thread which
+         * increments it from zero
+         **/
+        private final AtomicInteger pending;
+
+        /**
+         * {@code items} iterator over the items of the current page
+         **/
+        private Iterator<T> items;
+
+        /**
+         * {@code nextPageEndpoint} endpoint of the next page to fetch, {@code "null"} if there are no more pages
+         **/
+        private String nextPageEndpoint;
+
+        /**
+         * {@code error} the error to signal, {@code "null"} if there is no error
+         **/
+        private volatile Throwable error;
+
+        /**
+         * {@code cancelled} whether the subscription has been cancelled or terminated
+         **/
+        private volatile boolean cancelled;
+
+        /**
+         * Constructor to init a {@link PagesSubscription}
+         *
+         * @param subscriber: the subscriber which receives the items
+         **/
+        private PagesSubscription(Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+            demand = new AtomicLong();
+            pending = new AtomicInteger();
+            items = Collections.emptyIterator();
+            nextPageEndpoint = paginator.getFirstPageEndpoint();
+        }
+
+        /**
+         * Method to request more items
+         *
+         * @param n: number of the items to request, must be positive
+         **/
+        @Override
+        public void request(long n) {
+            if (n <= 0)
+                error = new IllegalArgumentException("The number of the items requested must be positive: " + n);
+            else
+                demand.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+            schedule();
+        }
+
+        /**
+         * Method to cancel the subscription, no more pages are fetched <br>
+         * No-any params required
+         **/
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        /**
+         * Method to schedule the delivery of the items requested <br>
+         * No-any params required
+         **/
+        private void schedule() {
+            if (pending.getAndIncrement() == 0) {
+                try {
+                    executor.execute(this::deliver);
+                } catch (RejectedExecutionException e) {
+                    terminate(e);
+                }
+            }
+        }
+
+        /**
+         * Method to deliver the items requested, fetching the next page only when the items of the current one
+         * have been delivered and more items are requested <br>
+         * No-any params required
+         **/
+        private void deliver() {
+            int missed = 1;
+            do {
+                while (!cancelled) {
+                    if (error != null) {
+                        terminate(error);
+                        break;
+                    }
+                    if (demand.get() == 0)
+                        break;
+                    if (items.hasNext()) {
+                        T item = items.next();
+                        if (demand.get() != Long.MAX_VALUE)
+                            demand.decrementAndGet();
+                        try {
+                            subscriber.onNext(item);
+                        } catch (Throwable e) {
+                            terminate(e);
+                            break;
+                        }
+                    } else if (nextPageEndpoint == null) {
+                        terminate(null);
+                        break;
+                    } else {
+                        try {
+                            GitHubPage<T> page = paginator.fetchPage(nextPageEndpoint);
+                            items = page.getItems().iterator();
+                            nextPageEndpoint = page.hasNextPage() ? page.getNextPageUrl() : null;
+                        } catch (Throwable e) {
+                            terminate(e);
+                            break;
+                        }
+                    }
+                }
+                missed = pending.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        /**
+         * Method to terminate the subscription
+         *
+         * @param e: the error to signal, {@code "null"} to signal the completion
+         * @implNote an exception thrown by the subscriber is ignored, the subscription is already cancelled and the
+         * delivery loop must go on to release its pending signals
+         **/
+        private void terminate(Throwable e) {
+            cancelled = true;
+            try {
+                if (e == null)
+                    subscriber.onComplete();
+                else
+                    subscriber.onError(e);
+            } catch (Throwable ignored) {
+                // the subscriber broke the rule 2.13 of the reactive streams, nothing else can be signaled to it
+            }
+        }
+
+    }
+
+}
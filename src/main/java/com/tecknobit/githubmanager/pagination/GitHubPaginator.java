@@ -0,0 +1,455 @@
+package com.tecknobit.githubmanager.pagination;
+
+import com.tecknobit.githubmanager.GitHubManager;
+import com.tecknobit.githubmanager.monitoring.GitHubRequestPathResolver;
+import com.tecknobit.githubmanager.pagination.records.GitHubPage;
+import com.tecknobit.githubmanager.transport.GitHubBodyReader;
+import com.tecknobit.githubmanager.transport.records.GitHubHTTPResponse;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.GET;
+import static java.util.Spliterator.NONNULL;
+import static java.util.Spliterator.ORDERED;
+
+/**
+ * The {@code GitHubPaginator} class is useful to iterate all the items of a GitHub's list endpoint following the
+ * {@code "next"} links of its pages <br>
+ * While the items of a page are consumed, the next page is already fetched in background, so the iteration does
+ * not wait a full request for each page
+ *
+ * @param <T> type of the items to iterate
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote see the official documentation at: <a href="https://docs.github.com/en/rest/guides/using-pagination-in-the-rest-api">
+ * Using pagination in the REST API</a>
+ **/
+public class GitHubPaginator<T> implements Iterable<T> {
+
+    /**
+     * {@code DEFAULT_PER_PAGE} number of the items requested for each page when it has not been chosen
+     **/
+    public static final int DEFAULT_PER_PAGE = 100;
+
+    /**
+     * {@code DEFAULT_PARALLELISM} maximum number of the pages fetched at the same time by {@link #fetchAll()}
+     **/
+    public static final int DEFAULT_PARALLELISM = 8;
+
+    /**
+     * {@code PAGE_QUERY_PATTERN} pattern to replace the {@code "page"} query param of a link
+     **/
+    private static final Pattern PAGE_QUERY_PATTERN = Pattern.compile("([?&])page=\\d+");
+
+    /**
+     * {@code manager} used to fetch the pages
+     **/
+    protected final GitHubManager manager;
+
+    /**
+     * {@code firstPageEndpoint} endpoint of the first page to fetch
+     **/
+    protected final String firstPageEndpoint;
+
+    /**
+     * {@code pageParser} function to create the items from the body of a page, {@code "null"} when the items are
+     * created with the {@link #pageReader}
+     **/
+    protected final Function<String, List<T>> pageParser;
+
+    /**
+     * {@code pageReader} reader to create the items while the body of a page is received, {@code "null"} when the
+     * items are created with the {@link #pageParser}
+     **/
+    protected final GitHubBodyReader<? extends List<T>> pageReader;
+
+    /**
+     * {@code prefetch} whether the next page has to be fetched while the current one is consumed
+     **/
+    protected final boolean prefetch;
+
+    /**
+     * {@code requestPath} template of the list, read when the paginator is created, so the pages fetched later or on
+     * other threads are grouped with it, {@code "null"} if the paginator has not been created by a method of a manager
+     * with the {@link com.tecknobit.apimanager.annotations.RequestPath} annotation
+     **/
+    protected final String requestPath;
+
+    /**
+     * Constructor to init a {@link GitHubPaginator}
+     *
+     * @param manager:           manager used to fetch the pages
+     * @param firstPageEndpoint: endpoint of the first page to fetch
+     * @param pageParser:        function to create the items from the body of a page
+     **/
+    public GitHubPaginator(GitHubManager manager, String firstPageEndpoint, Function<String, List<T>> pageParser) {
+        this(manager, firstPageEndpoint, pageParser, true);
+    }
+
+    /**
+     * Constructor to init a {@link GitHubPaginator}
+     *
+     * @param manager:           manager used to fetch the pages
+     * @param firstPageEndpoint: endpoint of the first page to fetch
+     * @param pageParser:        function to create the items from the body of a page
+     * @param prefetch:          whether the next page has to be fetched while the current one is consumed
+     **/
+    public GitHubPaginator(GitHubManager manager, String firstPageEndpoint, Function<String, List<T>> pageParser,
+                           boolean prefetch) {
+        this.manager = manager;
+        this.firstPageEndpoint = firstPageEndpoint;
+        this.pageParser = pageParser;
+        pageReader = null;
+        this.prefetch = prefetch;
+        requestPath = GitHubRequestPathResolver.getCurrentRequestPath();
+    }
+
+    /**
+     * Constructor to init a {@link GitHubPaginator}
+     *
+     * @param manager:           manager used to fetch the pages
+     * @param firstPageEndpoint: endpoint of the first page to fetch
+     * @param pageReader:        reader to create the items while the body of a page is received, so the body is not
+     *                           stored as {@link String}
+     * @param prefetch:          whether the next page has to be fetched while the current one is consumed
+     **/
+    public GitHubPaginator(GitHubManager manager, String firstPageEndpoint,
+                           GitHubBodyReader<? extends List<T>> pageReader, boolean prefetch) {
+        this.manager = manager;
+        this.firstPageEndpoint = firstPageEndpoint;
+        pageParser = null;
+        this.pageReader = pageReader;
+        this.prefetch = prefetch;
+        requestPath = GitHubRequestPathResolver.getCurrentRequestPath();
+    }
+
+    /**
+     * Method to get an iterator over all the items of all the pages <br>
+     * No-any params required
+     *
+     * @return iterator over the items as {@link Iterator} of {@link T}
+     * @implNote the iterator throws an {@link UncheckedIOException} if the request of a page has been go wrong
+     **/
+    @Override
+    public Iterator<T> iterator() {
+        return new PagesIterator();
+    }
+
+    /**
+     * Method to get a spliterator over all the items of all the pages <br>
+     * No-any params required
+     *
+     * @return spliterator over the items as {@link Spliterator} of {@link T}
+     **/
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliteratorUnknownSize(iterator(), ORDERED | NONNULL);
+    }
+
+    /**
+     * Method to get a lazy stream over all the items of all the pages, the pages are fetched only when their items
+     * are needed, so the short-circuiting operations stop the requests <br>
+     * No-any params required
+     *
+     * @return stream over the items as {@link Stream} of {@link T}
+     * @implNote the stream throws an {@link UncheckedIOException} if the request of a page has been go wrong
+     **/
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Method to get a publisher of all the items of all the pages, the pages are fetched only when the subscriber
+     * requests their items <br>
+     * No-any params required
+     *
+     * @return publisher of the items as {@link Flow.Publisher} of {@link T}
+     * @apiNote the pages are fetched on the {@link GitHubManager#getAsyncExecutor()} executor
+     **/
+    public Flow.Publisher<T> publisher() {
+        return new GitHubPagePublisher<>(this);
+    }
+
+    /**
+     * Method to get a publisher of all the items of all the pages, the pages are fetched only when the subscriber
+     * requests their items
+     *
+     * @param executor: executor used to fetch the pages and to signal the subscribers
+     * @return publisher of the items as {@link Flow.Publisher} of {@link T}
+     **/
+    public Flow.Publisher<T> publisher(Executor executor) {
+        return new GitHubPagePublisher<>(this, executor);
+    }
+
+    /**
+     * Method to fetch all the items of all the pages <br>
+     * No-any params required
+     *
+     * @return all the items as {@link ArrayList} of {@link T}, in the same order of the pages
+     * @throws IOException when the request of a page has been go wrong, the message of the exception is the error response
+     * @implNote up to {@link #DEFAULT_PARALLELISM} pages are fetched at the same time, see {@link #fetchAll(int)}
+     **/
+    public ArrayList<T> fetchAll() throws IOException {
+        return fetchAll(DEFAULT_PARALLELISM);
+    }
+
+    /**
+     * Method to fetch all the items of all the pages
+     *
+     * @param parallelism: maximum number of the pages to fetch at the same time
+     * @return all the items as {@link ArrayList} of {@link T}, in the same order of the pages
+     * @throws IOException when the request of a page has been go wrong, the message of the exception is the error response
+     * @implNote when the first page has the {@code "last"} link, the numbers of all the other pages are known, so they
+     * are fetched concurrently and then reassembled in order, otherwise the {@code "next"} links are followed one by one.
+     * The current thread fetches the pages together with the workers submitted to the
+     * {@link GitHubManager#getAsyncExecutor()} executor, so this method cannot deadlock when it is invoked from a task of
+     * that executor, even if it is bounded
+     **/
+    public ArrayList<T> fetchAll(int parallelism) throws IOException {
+        if (parallelism < 1)
+            throw new IllegalArgumentException("The parallelism must be at least 1");
+        GitHubPage<T> firstPage = fetchPage(firstPageEndpoint);
+        ArrayList<T> items = new ArrayList<>(firstPage.getItems());
+        if (!firstPage.hasNextPage())
+            return items;
+        String lastPageUrl = firstPage.getLastPageUrl();
+        int nextPage = GitHubPage.getPageNumber(firstPage.getNextPageUrl());
+        int lastPage = firstPage.getLastPageNumber();
+        if (lastPageUrl == null || nextPage == -1 || lastPage < nextPage) {
+            GitHubPage<T> page = firstPage;
+            while (page.hasNextPage()) {
+                page = fetchPage(page.getNextPageUrl());
+                items.addAll(page.getItems());
+            }
+            return items;
+        }
+        int pagesCount = lastPage - nextPage + 1;
+        List<T>[] pages = new List[pagesCount];
+        AtomicInteger nextIndex = new AtomicInteger();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CountDownLatch fetched = new CountDownLatch(pagesCount);
+        Runnable worker = () -> {
+            int index;
+            while ((index = nextIndex.getAndIncrement()) < pagesCount) {
+                try {
+                    // after a failure the remaining pages are only claimed, so the latch is released
+                    if (failure.get() == null) {
+                        pages[index] = fetchPage(PAGE_QUERY_PATTERN.matcher(lastPageUrl)
+                                .replaceFirst("$1page=" + (nextPage + index))).getItems();
+                    }
+                } catch (IOException | RuntimeException e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    fetched.countDown();
+                }
+            }
+        };
+        Executor executor = GitHubManager.getAsyncExecutor();
+        for (int j = 1; j < Math.min(parallelism, pagesCount); j++) {
+            try {
+                executor.execute(worker);
+            } catch (RejectedExecutionException e) {
+                break;
+            }
+        }
+        // the current thread fetches the pages too, so they are all fetched even if the workers never start
+        worker.run();
+        try {
+            fetched.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Pages fetching interrupted: " + firstPageEndpoint);
+        }
+        Throwable error = failure.get();
+        if (error instanceof IOException)
+            throw (IOException) error;
+        if (error != null)
+            throw (RuntimeException) error;
+        for (List<T> page : pages)
+            items.addAll(page);
+        return items;
+    }
+
+    /**
+     * Method to fetch a single page
+     *
+     * @param endpoint: endpoint or complete link of the page to fetch
+     * @return page as {@link GitHubPage} of {@link T}
+     * @throws IOException when the request has been go wrong, the message of the exception is the error response
+     **/
+    public GitHubPage<T> fetchPage(String endpoint) throws IOException {
+        String previousRequestPath = GitHubRequestPathResolver.bind(requestPath);
+        try {
+            if (pageReader != null) {
+                GitHubHTTPResponse response = manager.sendHTTPRequest(endpoint, pageReader);
+                if (!response.isSuccessful())
+                    throw new IOException(response.getBody());
+                return new GitHubPage<>(response.<List<T>>getContent(), response);
+            }
+            GitHubHTTPResponse response = manager.sendHTTPRequest(endpoint, GET, null);
+            if (!response.isSuccessful())
+                throw new IOException(response.getBody());
+            return new GitHubPage<>(pageParser.apply(response.getBody()), response);
+        } finally {
+            GitHubRequestPathResolver.bind(previousRequestPath);
+        }
+    }
+
+    /**
+     * Method to get {@link #firstPageEndpoint} instance <br>
+     * No-any params required
+     *
+     * @return {@link #firstPageEndpoint} instance as {@link String}
+     **/
+    public String getFirstPageEndpoint() {
+        return firstPageEndpoint;
+    }
+
+    /**
+     * Method to create the endpoint of the first page of a list, requesting {@link #DEFAULT_PER_PAGE} items for each page
+     * if the number of the items has not been chosen
+     *
+     * @param endpoint:    endpoint of the list
+     * @param queryParams: query params of the list, can be {@code "null"}
+     * @return endpoint of the first page as {@link String}
+     **/
+    public static String createFirstPageEndpoint(String endpoint, GitHubManager.Params queryParams) {
+        String query = "";
+        if (queryParams != null)
+            query = queryParams.createQueryString();
+        if (query == null || query.equals("?"))
+            query = "";
+        if (!query.contains("per_page="))
+            query += (query.isEmpty() ? "?" : "&") + "per_page=" + DEFAULT_PER_PAGE;
+        return endpoint + query;
+    }
+
+    /**
+     * The {@code PagesIterator} class is useful to iterate the items fetching the pages when needed
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     **/
+    private class PagesIterator implements Iterator<T> {
+
+        /**
+         * {@code items} iterator over the items of the current page
+         **/
+        private Iterator<T> items = Collections.emptyIterator();
+
+        /**
+         * {@code nextPage} the next page to consume, {@code "null"} if there are no more pages
+         **/
+        private CompletableFuture<GitHubPage<T>> nextPage;
+
+        /**
+         * {@code nextPageFetch} the fetch of the {@link #nextPage}, which does nothing when it has been already run
+         **/
+        private Runnable nextPageFetch;
+
+        /**
+         * {@code started} whether the first page has been requested
+         **/
+        private boolean started;
+
+        /**
+         * Method to get whether there are other items <br>
+         * No-any params required
+         *
+         * @return whether there are other items as boolean
+         **/
+        @Override
+        public boolean hasNext() {
+            if (!started) {
+                started = true;
+                nextPage = fetch(firstPageEndpoint, false);
+            }
+            while (!items.hasNext()) {
+                if (nextPage == null)
+                    return false;
+                GitHubPage<T> page = await(nextPage);
+                if (page.hasNextPage())
+                    nextPage = fetch(page.getNextPageUrl(), prefetch);
+                else
+                    nextPage = null;
+                items = page.getItems().iterator();
+            }
+            return true;
+        }
+
+        /**
+         * Method to get the next item <br>
+         * No-any params required
+         *
+         * @return next item as {@link T}
+         **/
+        @Override
+        public T next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            return items.next();
+        }
+
+        /**
+         * Method to fetch a page
+         *
+         * @param endpoint: endpoint or complete link of the page to fetch
+         * @param async:    whether fetch the page in background, otherwise it is fetched only when it is awaited
+         * @return page as {@link CompletableFuture} of {@link GitHubPage}
+         **/
+        private CompletableFuture<GitHubPage<T>> fetch(String endpoint, boolean async) {
+            CompletableFuture<GitHubPage<T>> page = new CompletableFuture<>();
+            AtomicBoolean claimed = new AtomicBoolean();
+            nextPageFetch = () -> {
+                if (!claimed.compareAndSet(false, true))
+                    return;
+                try {
+                    page.complete(fetchPage(endpoint));
+                } catch (IOException | RuntimeException e) {
+                    page.completeExceptionally(e);
+                }
+            };
+            if (async) {
+                try {
+                    GitHubManager.getAsyncExecutor().execute(nextPageFetch);
+                } catch (RejectedExecutionException ignored) {
+                    // the page is fetched by the current thread when it is needed
+                }
+            }
+            return page;
+        }
+
+        /**
+         * Method to wait a page
+         *
+         * @param page: page to wait
+         * @return page as {@link GitHubPage}
+         **/
+        private GitHubPage<T> await(CompletableFuture<GitHubPage<T>> page) {
+            // a prefetch not started yet, as on a busy bounded executor, is run by the current thread
+            nextPageFetch.run();
+            try {
+                return page.join();
+            } catch (CompletionException e) {
+                nextPage = null;
+                Throwable cause = e.getCause();
+                if (cause instanceof IOException)
+                    throw new UncheckedIOException((IOException) cause);
+                if (cause instanceof RuntimeException)
+                    throw (RuntimeException) cause;
+                throw e;
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,166 @@
+package com.tecknobit.githubmanager.pagination.records;
+
+import com.tecknobit.githubmanager.transport.records.GitHubHTTPResponse;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The {@code GitHubPage} class is useful to format a single page of a GitHub's list response with the links to the
+ * other pages taken from its {@code "Link"} header
+ *
+ * @param <T> type of the items of the page
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote see the official documentation at: <a href="https://docs.github.com/en/rest/guides/using-pagination-in-the-rest-api">
+ * Using pagination in the REST API</a>
+ **/
+public class GitHubPage<T> {
+
+    /**
+     * {@code LINK_PATTERN} pattern to fetch the single links from a {@code "Link"} header
+     **/
+    private static final Pattern LINK_PATTERN = Pattern.compile("<([^>]+)>\\s*;\\s*rel=\"([^\"]+)\"");
+
+    /**
+     * {@code PAGE_PATTERN} pattern to fetch the {@code "page"} query param from a link
+     **/
+    private static final Pattern PAGE_PATTERN = Pattern.compile("[?&]page=(\\d+)");
+
+    /**
+     * {@code items} of the page
+     **/
+    private final List<T> items;
+
+    /**
+     * {@code links} of the page, the keys are the {@code "rel"} values as {@code "next"} or {@code "last"}
+     **/
+    private final HashMap<String, String> links;
+
+    /**
+     * {@code response} from which the page has been created
+     **/
+    private final GitHubHTTPResponse response;
+
+    /**
+     * Constructor to init a {@link GitHubPage}
+     *
+     * @param items:    items of the page
+     * @param response: response from which the page has been created
+     **/
+    public GitHubPage(List<T> items, GitHubHTTPResponse response) {
+        if (items == null)
+            items = new ArrayList<>();
+        this.items = Collections.unmodifiableList(items);
+        this.response = response;
+        links = parseLinks(response.getHeader("Link"));
+    }
+
+    /**
+     * Method to get {@link #items} instance <br>
+     * No-any params required
+     *
+     * @return {@link #items} instance as {@link List} of {@link T}
+     **/
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * Method to get {@link #response} instance <br>
+     * No-any params required
+     *
+     * @return {@link #response} instance as {@link GitHubHTTPResponse}
+     **/
+    public GitHubHTTPResponse getResponse() {
+        return response;
+    }
+
+    /**
+     * Method to get a link of the page
+     *
+     * @param rel: the relation of the link, for example {@code "next"}, {@code "prev"}, {@code "first"} or {@code "last"}
+     * @return link as {@link String}, {@code "null"} if the page has not that link
+     **/
+    public String getLink(String rel) {
+        return links.get(rel);
+    }
+
+    /**
+     * Method to get the link of the next page <br>
+     * No-any params required
+     *
+     * @return link of the next page as {@link String}, {@code "null"} if this is the last page
+     **/
+    public String getNextPageUrl() {
+        return links.get("next");
+    }
+
+    /**
+     * Method to get the link of the last page <br>
+     * No-any params required
+     *
+     * @return link of the last page as {@link String}, {@code "null"} if this is the last page or if the last page
+     * is not known
+     **/
+    public String getLastPageUrl() {
+        return links.get("last");
+    }
+
+    /**
+     * Method to get whether there is a next page <br>
+     * No-any params required
+     *
+     * @return whether there is a next page as boolean
+     **/
+    public boolean hasNextPage() {
+        return links.containsKey("next");
+    }
+
+    /**
+     * Method to get the number of the last page <br>
+     * No-any params required
+     *
+     * @return number of the last page as int, {@code "-1"} if it is not known
+     **/
+    public int getLastPageNumber() {
+        return getPageNumber(getLastPageUrl());
+    }
+
+    /**
+     * Method to get the number of the page of a link
+     *
+     * @param link: the link from fetch the page number
+     * @return number of the page as int, {@code "-1"} if the link has not the {@code "page"} query param
+     **/
+    public static int getPageNumber(String link) {
+        if (link == null)
+            return -1;
+        Matcher matcher = PAGE_PATTERN.matcher(link);
+        if (!matcher.find())
+            return -1;
+        return Integer.parseInt(matcher.group(1));
+    }
+
+    /**
+     * Method to parse a {@code "Link"} header
+     *
+     * @param linkHeader: the header to parse, for example
+     *                    {@code "<https://api.github.com/...?page=2>; rel="next", <https://api.github.com/...?page=5>; rel="last""}
+     * @return links as {@link HashMap} where the keys are the {@code "rel"} values and the values are the links
+     **/
+    public static HashMap<String, String> parseLinks(String linkHeader) {
+        HashMap<String, String> links = new HashMap<>();
+        if (linkHeader != null) {
+            Matcher matcher = LINK_PATTERN.matcher(linkHeader);
+            while (matcher.find())
+                for (String rel : matcher.group(2).trim().split("\\s+"))
+                    links.put(rel, matcher.group(1));
+        }
+        return links;
+    }
+
+}
@@ -209,6 +209,7 @@ public class GitHubBoardsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/projects")
     public <T> T getOrganizationProjects(String org, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnProjects(sendGetRequest(ORGS_PATH + org + PROJECTS_PATH), format);
     }
 
@@ -375,6 +376,7 @@ public class GitHubBoardsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/projects")
     public <T> T getOrganizationProjects(String org, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnProjects(sendGetRequest(ORGS_PATH + org + PROJECTS_PATH + queryParams.createQueryString()),
                 format);
     }
@@ -616,6 +618,7 @@ public class GitHubBoardsManager extends GitHubManager {
      **/
     @RequestPath(method = POST, path = "/orgs/{org}/projects")
     public <T> T createOrganizationProject(String org, String name, String body, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnProject(sendPostRequest(ORGS_PATH + org + PROJECTS_PATH, createProjectPayload(name, body)),
                 format);
     }
@@ -673,6 +676,7 @@ public class GitHubBoardsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/projects/{project_id}")
     public <T> T getProject(long projectId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnProject(sendGetRequest(ROOT_PROJECTS_PATH + "/" + projectId), format);
     }
 
@@ -871,6 +875,7 @@ public class GitHubBoardsManager extends GitHubManager {
      **/
     @RequestPath(method = PATCH, path = "/projects/{project_id}")
     public <T> T updateProject(long projectId, Params bodyParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnProject(sendPatchRequest(ROOT_PROJECTS_PATH + "/" + projectId, bodyParams), format);
     }
 
@@ -900,7 +905,7 @@ public class GitHubBoardsManager extends GitHubManager {
     public boolean deleteProject(long projectId) {
         try {
             sendDeleteRequest(ROOT_PROJECTS_PATH + "/" + projectId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -1024,6 +1029,7 @@ public class GitHubBoardsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/projects")
     public <T> T getRepositoryProjects(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnProjects(sendGetRequest(REPOS_PATH + owner + "/" + repo + PROJECTS_PATH), format);
     }
 
@@ -1192,6 +1198,7 @@ public class GitHubBoardsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/projects")
     public <T> T getRepositoryProjects(String owner, String repo, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnProjects(sendGetRequest(REPOS_PATH + owner + "/" + repo + PROJECTS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -1439,6 +1446,7 @@ public class GitHubBoardsManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/projects")
     public <T> T createRepositoryProject(String owner, String repo, String name, String body,
                                          ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnProject(sendPostRequest(REPOS_PATH + owner + "/" + repo + PROJECTS_PATH,
                 createProjectPayload(name, body)), format);
     }
@@ -1554,6 +1562,7 @@ public class GitHubBoardsManager extends GitHubManager {
      **/
     @RequestPath(method = POST, path = "/user/projects")
     public <T> T createUserProject(String name, String body, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnProject(sendPostRequest(USER_PATH + PROJECTS_PATH, createProjectPayload(name, body)),
                 format);
     }
@@ -1622,6 +1631,7 @@ public class GitHubBoardsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/users/{username}/projects")
     public <T> T getUserProjects(String username, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnProjects(sendGetRequest(USERS_PATH + username + PROJECTS_PATH), format);
     }
 
@@ -1700,6 +1710,7 @@ public class GitHubBoardsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/users/{username}/projects")
     public <T> T getUserProjects(String username, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnProjects(sendGetRequest(USERS_PATH + username + PROJECTS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -161,6 +161,7 @@ public class GitHubCardsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/projects/columns/cards/{card_id}")
     public <T> T getProjectCard(long cardId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnProjectCard(sendGetRequest(PROJECTS_COLUMNS_CARDS_PATH + "/" + cardId), format);
     }
 
@@ -303,6 +304,7 @@ public class GitHubCardsManager extends GitHubManager {
      **/
     @RequestPath(method = PATCH, path = "/projects/columns/cards/{card_id}")
     public <T> T updateProjectCard(long cardId, Params bodyParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnProjectCard(sendPatchRequest(PROJECTS_COLUMNS_CARDS_PATH + "/" + cardId, bodyParams), format);
     }
 
@@ -332,7 +334,7 @@ public class GitHubCardsManager extends GitHubManager {
     public boolean deleteProjectCard(long cardId) {
         try {
             sendDeleteRequest(PROJECTS_COLUMNS_CARDS_PATH + "/" + cardId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -410,7 +412,7 @@ public class GitHubCardsManager extends GitHubManager {
             if (columnId != -1)
                 payload.addParam("column_id", columnId);
             sendPostRequest(PROJECTS_COLUMNS_CARDS_PATH + "/" + cardId + MOVES_PATH, payload);
-            if (apiRequest.getResponseStatusCode() != 201) {
+            if (getStatusCode() != 201) {
                 printErrorResponse();
                 return false;
             }
@@ -470,6 +472,7 @@ public class GitHubCardsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/projects/columns/{column_id}/cards")
     public <T> T getProjectCards(long columnId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnProjectCards(sendGetRequest(PROJECTS_COLUMNS_PATH + "/" + columnId + CARDS_PATH), format);
     }
 
@@ -548,6 +551,7 @@ public class GitHubCardsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/projects/columns/{column_id}/cards")
     public <T> T getProjectCards(long columnId, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnProjectCards(sendGetRequest(PROJECTS_COLUMNS_PATH + "/" + columnId + CARDS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -631,6 +635,7 @@ public class GitHubCardsManager extends GitHubManager {
     @RequestPath(method = POST, path = "/projects/columns/{column_id}/cards")
     public <T> T createProjectCard(long columnId, String note, long contentId, String contentType,
                                    ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("note", note);
         payload.addParam("content_id", contentId);
@@ -211,6 +211,7 @@ public class GitHubProjectsCollaboratorsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/projects/{project_id}/collaborators")
     public <T> T getProjectCollaborators(long projectId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnUsersList(sendGetRequest(ROOT_PROJECTS_PATH + "/" + projectId + COLLABORATORS_PATH), format);
     }
 
@@ -397,6 +398,7 @@ public class GitHubProjectsCollaboratorsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/projects/{project_id}/collaborators")
     public <T> T getProjectCollaborators(long projectId, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnUsersList(sendGetRequest(ROOT_PROJECTS_PATH + "/" + projectId + COLLABORATORS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -469,7 +471,7 @@ public class GitHubProjectsCollaboratorsManager extends GitHubManager {
                 payload.addParam("permission", permission);
             }
             sendPutRequest(ROOT_PROJECTS_PATH + "/" + projectId + COLLABORATORS_PATH + "/" + username, payload);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -510,7 +512,7 @@ public class GitHubProjectsCollaboratorsManager extends GitHubManager {
     public boolean removeProjectCollaborator(long projectId, String username) {
         try {
             sendDeleteRequest(ROOT_PROJECTS_PATH + "/" + projectId + COLLABORATORS_PATH + "/" + username);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -637,6 +639,7 @@ public class GitHubProjectsCollaboratorsManager extends GitHubManager {
     @Returner
     @RequestPath(method = GET, path = "/projects/{project_id}/collaborators/{username}/permission")
     public <T> T getUserProjectPermission(long projectId, String username, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String permissionResponse = sendGetRequest(ROOT_PROJECTS_PATH + "/" + projectId + COLLABORATORS_PATH
                 + "/" + username + PERMISSION_PATH);
         switch (format) {
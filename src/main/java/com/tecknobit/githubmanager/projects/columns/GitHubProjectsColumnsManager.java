@@ -136,6 +136,7 @@ public class GitHubProjectsColumnsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/projects/columns/{column_id}")
     public <T> T getProjectColumn(long columnId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnProjectColumn(sendGetRequest(PROJECTS_COLUMNS_PATH + "/" + columnId), format);
     }
 
@@ -244,6 +245,7 @@ public class GitHubProjectsColumnsManager extends GitHubManager {
      **/
     @RequestPath(method = PATCH, path = "/projects/columns/{column_id}")
     public <T> T updateProjectColumn(long columnId, String name, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("name", name);
         return returnProjectColumn(sendPatchRequest(PROJECTS_COLUMNS_PATH + "/" + columnId, payload), format);
@@ -275,7 +277,7 @@ public class GitHubProjectsColumnsManager extends GitHubManager {
     public boolean deleteProjectColumn(long columnId) {
         try {
             sendDeleteRequest(PROJECTS_COLUMNS_PATH + "/" + columnId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -318,7 +320,7 @@ public class GitHubProjectsColumnsManager extends GitHubManager {
             Params payload = new Params();
             payload.addParam("position", position);
             sendPostRequest(PROJECTS_COLUMNS_PATH + "/" + columnId + MOVES_PATH, payload);
-            if (apiRequest.getResponseStatusCode() != 201) {
+            if (getStatusCode() != 201) {
                 printErrorResponse();
                 return false;
             }
@@ -432,6 +434,7 @@ public class GitHubProjectsColumnsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/projects/{project_id}/columns")
     public <T> T getProjectColumns(long projectId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnProjectColumns(sendGetRequest(ROOT_PROJECTS_PATH + "/" + projectId + COLUMNS_PATH), format);
     }
 
@@ -574,6 +577,7 @@ public class GitHubProjectsColumnsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/projects/{project_id}/columns")
     public <T> T getProjectColumns(long projectId, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnProjectColumns(sendGetRequest(ROOT_PROJECTS_PATH + "/" + projectId + COLUMNS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -708,6 +712,7 @@ public class GitHubProjectsColumnsManager extends GitHubManager {
      **/
     @RequestPath(method = POST, path = "/projects/{project_id}/columns")
     public <T> T createProjectColumn(long projectId, String name, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("name", name);
         return returnProjectColumn(sendPatchRequest(ROOT_PROJECTS_PATH + "/" + projectId + COLUMNS_PATH, payload),
@@ -223,6 +223,7 @@ public class GitHubPullsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/pulls")
     public <T> T getPullRequests(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnPullRequestsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + PULLS_PATH), format);
     }
 
@@ -475,6 +476,7 @@ public class GitHubPullsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/pulls")
     public <T> T getPullRequests(String owner, String repo, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnPullRequestsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + PULLS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -729,6 +731,7 @@ public class GitHubPullsManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/pulls")
     public <T> T createPullRequest(String owner, String repo, String head, String base, Params bodyParams,
                                    ReturnFormat format) throws IOException {
+        requireNonStream(format);
         if (bodyParams == null)
             bodyParams = new Params();
         bodyParams.addParam("head", head);
@@ -846,6 +849,7 @@ public class GitHubPullsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/pulls/{pull_number}")
     public <T> T getPullRequest(String owner, String repo, long pullNumber, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnPullRequest(sendGetRequest(REPOS_PATH + owner + "/" + repo + PULLS_PATH + "/" + pullNumber),
                 format);
     }
@@ -1274,6 +1278,7 @@ public class GitHubPullsManager extends GitHubManager {
     @RequestPath(method = PATCH, path = "/repos/{owner}/{repo}/pulls/{pull_number}")
     public <T> T updatePullRequest(String owner, String repo, long pullNumber, Params bodyParams,
                                    ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnPullRequest(sendPatchRequest(REPOS_PATH + owner + "/" + repo + PULLS_PATH + "/"
                 + pullNumber, bodyParams), format);
     }
@@ -1510,6 +1515,7 @@ public class GitHubPullsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/pulls/{pull_number}/commits")
     public <T> T getPullRequestCommits(String owner, String repo, long pullNumber, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnCommitsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + PULLS_PATH + "/" + pullNumber
                 + COMMITS_PATH), format);
     }
@@ -1829,6 +1835,7 @@ public class GitHubPullsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/pulls/{pull_number}/commits")
     public <T> T getPullRequestCommits(String owner, String repo, long pullNumber, Params queryParams,
                                        ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnCommitsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + PULLS_PATH + "/" + pullNumber
                 + COMMITS_PATH + queryParams.createQueryString()), format);
     }
@@ -2066,6 +2073,7 @@ public class GitHubPullsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/pulls/{pull_number}/files")
     public <T> T getPullRequestsFiles(String owner, String repo, long pullNumber, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnCommitsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + PULLS_PATH + "/" + pullNumber
                 + FILES_PATH), format);
     }
@@ -2385,6 +2393,7 @@ public class GitHubPullsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/pulls/{pull_number}/files")
     public <T> T getPullRequestsFiles(String owner, String repo, long pullNumber, Params queryParams,
                                       ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnCommitsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + PULLS_PATH + "/" + pullNumber
                 + FILES_PATH + queryParams.createQueryString()), format);
     }
@@ -2449,7 +2458,7 @@ public class GitHubPullsManager extends GitHubManager {
     public boolean checkIfPullRequestMerged(String owner, String repo, long pullNumber) {
         try {
             sendGetRequest(REPOS_PATH + owner + "/" + repo + PULLS_PATH + "/" + pullNumber + MERGE_PATH);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -3078,6 +3087,7 @@ public class GitHubPullsManager extends GitHubManager {
     @RequestPath(method = PUT, path = "/repos/{owner}/{repo}/pulls/{pull_number}/merge")
     public <T> T mergePullRequest(String owner, String repo, long pullNumber, Params bodyParams,
                                   ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String mergeResultResponse = sendPutRequest(REPOS_PATH + owner + "/" + repo + PULLS_PATH + "/"
                 + pullNumber + MERGE_PATH, bodyParams);
         switch (format) {
@@ -3602,6 +3612,7 @@ public class GitHubPullsManager extends GitHubManager {
     @RequestPath(method = PUT, path = "/repos/{owner}/{repo}/pulls/{pull_number}/update-branch")
     public <T> T updatePullRequestBranch(String owner, String repo, long pullNumber, String expectedHeadSha,
                                          ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params bodyParams = null;
         if (expectedHeadSha != null) {
             bodyParams = new Params();
@@ -209,6 +209,7 @@ public class GitHubReviewCommentsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/pulls/comments")
     public <T> T getRepositoryReviewComments(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnReviewComments(sendGetRequest(REPOS_PATH + owner + "/" + repo + PULLS_COMMENTS_PATH),
                 format);
     }
@@ -411,6 +412,7 @@ public class GitHubReviewCommentsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/pulls/comments")
     public <T> T getRepositoryReviewComments(String owner, String repo, Params queryParams,
                                              ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnReviewComments(sendGetRequest(REPOS_PATH + owner + "/" + repo + PULLS_COMMENTS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -526,6 +528,7 @@ public class GitHubReviewCommentsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/pulls/comments/{comment_id}")
     public <T> T getPullRequestReviewComment(String owner, String repo, long commentId,
                                              ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnReviewComment(sendGetRequest(REPOS_PATH + owner + "/" + repo + PULLS_COMMENTS_PATH
                 + "/" + commentId), format);
     }
@@ -773,6 +776,7 @@ public class GitHubReviewCommentsManager extends GitHubManager {
     @RequestPath(method = PATCH, path = "/repos/{owner}/{repo}/pulls/comments/{comment_id}")
     public <T> T updatePullRequestReviewComment(String owner, String repo, long commentId, String body,
                                                 ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("body", body);
         return returnReviewComment(sendPatchRequest(REPOS_PATH + owner + "/" + repo + PULLS_COMMENTS_PATH
@@ -839,7 +843,7 @@ public class GitHubReviewCommentsManager extends GitHubManager {
     public boolean deletePullRequestReviewComment(String owner, String repo, long commentId) {
         try {
             sendDeleteRequest(REPOS_PATH + owner + "/" + repo + PULLS_COMMENTS_PATH + "/" + commentId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -1091,6 +1095,7 @@ public class GitHubReviewCommentsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/pulls/{pull_number}/comments")
     public <T> T getPullRequestReviewComments(String owner, String repo, long pullNumber,
                                               ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnReviewComments(sendGetRequest(REPOS_PATH + owner + "/" + repo + PULLS_PATH + "/"
                 + pullNumber + COMMENTS_PATH), format);
     }
@@ -1506,6 +1511,7 @@ public class GitHubReviewCommentsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/pulls/{pull_number}/comments")
     public <T> T getPullRequestReviewComments(String owner, String repo, long pullNumber, Params queryParams,
                                               ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnReviewComments(sendGetRequest(REPOS_PATH + owner + "/" + repo + PULLS_PATH + "/"
                 + pullNumber + COMMENTS_PATH + queryParams.createQueryString()), format);
     }
@@ -2435,6 +2441,7 @@ public class GitHubReviewCommentsManager extends GitHubManager {
     public <T> T createPullRequestReviewComment(String owner, String repo, long pullNumber, String body, String commitId,
                                                 String path, int line, Params bodyParams,
                                                 ReturnFormat format) throws IOException {
+        requireNonStream(format);
         if (bodyParams == null)
             bodyParams = new Params();
         bodyParams.addParam("body", body);
@@ -3016,6 +3023,7 @@ public class GitHubReviewCommentsManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/pulls/{pull_number}/comments/{comment_id}/replies")
     public <T> T createReviewCommentReply(String owner, String repo, long pullNumber, long commentId, String body,
                                           ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("body", body);
         return returnReviewComment(sendPostRequest(REPOS_PATH + owner + "/" + repo + PULLS_PATH + "/"
@@ -343,6 +343,7 @@ public class GitHubReviewRequestsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/pulls/{pull_number}/requested_reviewers")
     public <T> T getAllRequestedPullRequestReviewers(String owner, String repo, long pullNumber,
                                                      ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String requestedReviewersResponse = sendGetRequest(REPOS_PATH + owner + "/" + repo + PULLS_PATH + "/"
                 + pullNumber + REQUESTED_REVIEWERS_PATH);
         switch (format) {
@@ -926,6 +927,7 @@ public class GitHubReviewRequestsManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/pulls/{pull_number}/requested_reviewers")
     public <T> T requestPullRequestReviewers(String owner, String repo, long pullNumber, Params bodyParams,
                                              ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnPullRequest(sendPostRequest(REPOS_PATH + owner + "/" + repo + PULLS_PATH + "/"
                 + pullNumber + REQUESTED_REVIEWERS_PATH, bodyParams), format);
     }
@@ -1450,6 +1452,7 @@ public class GitHubReviewRequestsManager extends GitHubManager {
     public <T> T removeRequestedPullRequestReviewers(String owner, String repo, long pullNumber,
                                                      String[] reviewers, ReturnFormat format,
                                                      String... teamReviewers) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("reviewers", reviewers);
         payload.addParam("team_reviewers", teamReviewers);
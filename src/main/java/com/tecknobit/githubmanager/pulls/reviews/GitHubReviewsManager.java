@@ -330,6 +330,7 @@ public class GitHubReviewsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/pulls/{pull_number}/reviews")
     public <T> T getPullRequestReviews(String owner, String repo, long pullNumber, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnReviews(sendGetRequest(REPOS_PATH + owner + "/" + repo + PULLS_PATH + "/"
                 + pullNumber + REVIEWS_PATH), format);
     }
@@ -641,6 +642,7 @@ public class GitHubReviewsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/pulls/{pull_number}/reviews")
     public <T> T getPullRequestReviews(String owner, String repo, long pullNumber, Params queryParams,
                                        ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnReviews(sendGetRequest(REPOS_PATH + owner + "/" + repo + PULLS_PATH + "/"
                 + pullNumber + REVIEWS_PATH + queryParams.createQueryString()), format);
     }
@@ -1095,6 +1097,7 @@ public class GitHubReviewsManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/pulls/{pull_number}/reviews")
     public <T> T createPullRequestReview(String owner, String repo, long pullNumber, Params bodyParams,
                                          ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnReview(sendPostRequest(REPOS_PATH + owner + "/" + repo + PULLS_PATH + "/"
                 + pullNumber + REVIEWS_PATH, bodyParams), format);
     }
@@ -1341,6 +1344,7 @@ public class GitHubReviewsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/pulls/{pull_number}/reviews/{review_id}")
     public <T> T getPullRequestReview(String owner, String repo, long pullNumber, long reviewId,
                                       ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnReview(sendGetRequest(REPOS_PATH + owner + "/" + repo + PULLS_PATH + "/"
                 + pullNumber + REVIEWS_PATH + "/" + reviewId), format);
     }
@@ -1852,6 +1856,7 @@ public class GitHubReviewsManager extends GitHubManager {
     @RequestPath(method = PUT, path = "/repos/{owner}/{repo}/pulls/{pull_number}/reviews/{review_id}")
     public <T> T updatePullRequestReview(String owner, String repo, long pullNumber, long reviewId, String body,
                                          ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("body", body);
         return returnReview(sendPutRequest(REPOS_PATH + owner + "/" + repo + PULLS_PATH + "/"
@@ -2349,6 +2354,7 @@ public class GitHubReviewsManager extends GitHubManager {
     @RequestPath(method = DELETE, path = "/repos/{owner}/{repo}/pulls/{pull_number}/reviews/{review_id}")
     public <T> T deletePendingPullRequestReview(String owner, String repo, long pullNumber, long reviewId,
                                                 ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnReview(sendDeleteRequest(REPOS_PATH + owner + "/" + repo + PULLS_PATH + "/" + pullNumber
                 + REVIEWS_PATH + "/" + reviewId), format);
     }
@@ -2844,6 +2850,7 @@ public class GitHubReviewsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/pulls/{pull_number}/reviews/{review_id}/comments")
     public <T> T getPullRequestReviewComments(String owner, String repo, long pullNumber, long reviewId,
                                               ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnReviewComments(sendGetRequest(REPOS_PATH + owner + "/" + repo + PULLS_PATH + "/"
                 + pullNumber + REVIEWS_PATH + "/" + reviewId + COMMENTS_PATH), format);
     }
@@ -3491,6 +3498,7 @@ public class GitHubReviewsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/pulls/{pull_number}/reviews/{review_id}/comments")
     public <T> T getPullRequestReviewComments(String owner, String repo, long pullNumber, long reviewId,
                                               Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnReviewComments(sendGetRequest(REPOS_PATH + owner + "/" + repo + PULLS_PATH + "/"
                 + pullNumber + REVIEWS_PATH + "/" + reviewId + COMMENTS_PATH + queryParams.createQueryString()), format);
     }
@@ -4034,6 +4042,7 @@ public class GitHubReviewsManager extends GitHubManager {
     @RequestPath(method = PUT, path = "/repos/{owner}/{repo}/pulls/{pull_number}/reviews/{review_id}/dismissals")
     public <T> T dismissPullRequestReview(String owner, String repo, long pullNumber, long reviewId, String message,
                                           ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("message", message);
         return returnReview(sendPutRequest(REPOS_PATH + owner + "/" + repo + PULLS_PATH + "/" + pullNumber
@@ -5203,6 +5212,7 @@ public class GitHubReviewsManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/pulls/{pull_number}/reviews/{review_id}/events")
     public <T> T submitPullRequestReview(String owner, String repo, long pullNumber, long reviewId, ReviewEvent event,
                                          String body, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("event", event);
         if (body != null)
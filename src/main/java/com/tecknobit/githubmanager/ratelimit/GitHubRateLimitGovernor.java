@@ -0,0 +1,584 @@
+package com.tecknobit.githubmanager.ratelimit;
+
+import com.tecknobit.githubmanager.GitHubManager;
+import com.tecknobit.githubmanager.ratelimit.records.RateOverview;
+import com.tecknobit.githubmanager.ratelimit.records.RateOverview.RateLimit;
+import com.tecknobit.githubmanager.ratelimit.records.RateOverview.Resources;
+import com.tecknobit.githubmanager.transport.GitHubBodyReader;
+import com.tecknobit.githubmanager.transport.GitHubTransport;
+import com.tecknobit.githubmanager.transport.records.GitHubHTTPRequest;
+import com.tecknobit.githubmanager.transport.records.GitHubHTTPResponse;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.GET;
+import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.POST;
+import static com.tecknobit.githubmanager.ratelimit.GitHubRateLimitManager.RATE_LIMIT_PATH;
+
+/**
+ * The {@code GitHubRateLimitGovernor} class is a {@link GitHubTransport} which paces the requests to never exceed the
+ * primary rate limit of {@code "GitHub"} <br>
+ * The rate limit of each resource ({@code "core"}, {@code "search"}, {@code "graphql"}, {@code "code_scanning_upload"},
+ * etc.) is tracked for each access token from the {@code "X-RateLimit-*"} headers of the responses and works as a
+ * token bucket refilled at its reset time: when the remaining requests are running low they are spread until the
+ * reset and when there are no more requests the governor waits the reset instead of receiving a {@code "403"} <br>
+ * The state of all the resources of an access token is seeded the first time that the token is used, fetching its
+ * {@link RateOverview} from the {@code "rate_limit"} endpoint, which does not count against the rate limit, before
+ * sending its first request; it is seeded again whenever a {@link RateOverview} is fetched with
+ * {@link GitHubRateLimitManager#getRateLimitStatus()}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote see the official documentation at: <a href="https://docs.github.com/en/rest/overview/resources-in-the-rest-api#rate-limiting">
+ * Rate limiting</a>
+ * @see GitHubTransport
+ **/
+public class GitHubRateLimitGovernor implements GitHubTransport {
+
+    /**
+     * {@code CORE_RESOURCE} constant for {@code "core"} resource
+     **/
+    public static final String CORE_RESOURCE = "core";
+
+    /**
+     * {@code SEARCH_RESOURCE} constant for {@code "search"} resource
+     **/
+    public static final String SEARCH_RESOURCE = "search";
+
+    /**
+     * {@code GRAPHQL_RESOURCE} constant for {@code "graphql"} resource
+     **/
+    public static final String GRAPHQL_RESOURCE = "graphql";
+
+    /**
+     * {@code CODE_SCANNING_UPLOAD_RESOURCE} constant for {@code "code_scanning_upload"} resource
+     **/
+    public static final String CODE_SCANNING_UPLOAD_RESOURCE = "code_scanning_upload";
+
+    /**
+     * {@code DEFAULT_PACING_THRESHOLD} default fraction of the limit below which the remaining requests are spread
+     * until the reset
+     **/
+    public static final double DEFAULT_PACING_THRESHOLD = 0.1;
+
+    /**
+     * {@code RESET_MARGIN} milliseconds waited after a reset time to absorb the clock differences with {@code "GitHub"}
+     **/
+    private static final long RESET_MARGIN = 1000;
+
+    /**
+     * {@code PURGE_INTERVAL} milliseconds between two removals of the tracked rate limits whose window has been reset
+     **/
+    private static final long PURGE_INTERVAL = 60000;
+
+    /**
+     * {@code transport} used to send the requests
+     **/
+    protected final GitHubTransport transport;
+
+    /**
+     * {@code pacingThreshold} fraction of the limit below which the remaining requests are spread until the reset
+     **/
+    protected final double pacingThreshold;
+
+    /**
+     * {@code maxWait} maximum milliseconds to wait before a request, when exceeded the request fails without being sent
+     **/
+    protected final long maxWait;
+
+    /**
+     * {@code baseEndpoint} base endpoint of the API whose rate limits are seeded on the first use of each access token,
+     * {@code "null"} to use the {@link GitHubManager#getDefaultBaseEndpoint()}
+     **/
+    protected final String baseEndpoint;
+
+    /**
+     * {@code seedOnFirstUse} whether the rate limits of each access token are seeded the first time it is used
+     **/
+    protected final boolean seedOnFirstUse;
+
+    /**
+     * {@code seedings} the seedings of the rate limits of the access tokens already used, the keys are the
+     * authorization of the requests
+     **/
+    private final ConcurrentHashMap<String, CompletableFuture<Void>> seedings;
+
+    /**
+     * {@code buckets} the tracked rate limits, the keys are the authorization of the requests and the resource
+     **/
+    private final ConcurrentHashMap<String, Bucket> buckets;
+
+    /**
+     * {@code nextPurge} time in milliseconds from which the tracked rate limits whose window has been reset are
+     * removed, so the rate limits of the tokens not used anymore, as the expired installation tokens, are not kept
+     **/
+    private volatile long nextPurge;
+
+    /**
+     * Constructor to init a {@link GitHubRateLimitGovernor}
+     *
+     * @param transport: transport used to send the requests
+     **/
+    public GitHubRateLimitGovernor(GitHubTransport transport) {
+        this(transport, DEFAULT_PACING_THRESHOLD, Long.MAX_VALUE);
+    }
+
+    /**
+     * Constructor to init a {@link GitHubRateLimitGovernor}
+     *
+     * @param transport:       transport used to send the requests
+     * @param pacingThreshold: fraction of the limit below which the remaining requests are spread until the reset,
+     *                         {@code "0"} to wait only when there are no more requests
+     * @param maxWait:         maximum milliseconds to wait before a request, when exceeded the request fails without
+     *                         being sent
+     **/
+    public GitHubRateLimitGovernor(GitHubTransport transport, double pacingThreshold, long maxWait) {
+        this(transport, pacingThreshold, maxWait, null, true);
+    }
+
+    /**
+     * Constructor to init a {@link GitHubRateLimitGovernor}
+     *
+     * @param transport:       transport used to send the requests
+     * @param pacingThreshold: fraction of the limit below which the remaining requests are spread until the reset,
+     *                         {@code "0"} to wait only when there are no more requests
+     * @param maxWait:         maximum milliseconds to wait before a request, when exceeded the request fails without
+     *                         being sent
+     * @param baseEndpoint:    base endpoint of the API whose rate limits are seeded on the first use of each access
+     *                         token, as {@code "https://github.example.com/api/v3/"}, {@code "null"} to use the
+     *                         {@link GitHubManager#getDefaultBaseEndpoint()}
+     * @param seedOnFirstUse:  whether the rate limits of each access token are seeded the first time it is used,
+     *                         otherwise they are learned from the responses
+     **/
+    public GitHubRateLimitGovernor(GitHubTransport transport, double pacingThreshold, long maxWait,
+                                   String baseEndpoint, boolean seedOnFirstUse) {
+        if (transport == null)
+            throw new IllegalArgumentException("The transport cannot be null");
+        if (pacingThreshold < 0 || pacingThreshold > 1)
+            throw new IllegalArgumentException("The pacing threshold must be between 0 and 1");
+        this.transport = transport;
+        this.pacingThreshold = pacingThreshold;
+        this.maxWait = maxWait;
+        if (baseEndpoint != null && !baseEndpoint.endsWith("/"))
+            baseEndpoint += "/";
+        this.baseEndpoint = baseEndpoint;
+        this.seedOnFirstUse = seedOnFirstUse;
+        seedings = new ConcurrentHashMap<>();
+        buckets = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Method to send a request
+     *
+     * @param request: request to send
+     * @return response of the request as {@link GitHubHTTPResponse}
+     * @throws IOException when the request cannot be sent, its response cannot be read or the time to wait the
+     *                     rate limit reset exceeds {@link #maxWait}
+     **/
+    @Override
+    public GitHubHTTPResponse execute(GitHubHTTPRequest request) throws IOException {
+        return execute(request, null);
+    }
+
+    /**
+     * Method to send a request reading the body of its response with a {@link GitHubBodyReader}
+     *
+     * @param request: request to send
+     * @param reader:  reader of the body of a successful response, {@code "null"} to read it as {@link String}
+     * @return response of the request as {@link GitHubHTTPResponse}
+     * @throws IOException when the request cannot be sent, its response cannot be read or the time to wait the
+     *                     rate limit reset exceeds {@link #maxWait}
+     **/
+    @Override
+    public GitHubHTTPResponse execute(GitHubHTTPRequest request, GitHubBodyReader<?> reader) throws IOException {
+        String authorization = request.getHeader("authorization");
+        boolean rateLimitStatus = isRateLimitStatusRequest(request);
+        if (!rateLimitStatus) {
+            if (seedOnFirstUse)
+                seedOnFirstUse(authorization, request);
+            acquire(getBucket(authorization, getResource(request)), request, !isConditionalRequest(request));
+        }
+        GitHubHTTPResponse response = transport.execute(request, reader);
+        if (rateLimitStatus && response.isSuccessful())
+            seed(authorization, response.getBody());
+        else {
+            RateLimit rateLimit = response.getRateLimit();
+            if (rateLimit != null) {
+                String resource = response.getRateLimitResource();
+                if (resource == null)
+                    resource = getResource(request);
+                getBucket(authorization, resource).update(rateLimit);
+            }
+        }
+        return response;
+    }
+
+    /**
+     * Method to wait, if needed, before sending a request
+     *
+     * @param bucket:  bucket of the resource used by the request
+     * @param request: request to send
+     * @param charged: whether the request is counted against the rate limit, the conditional requests are not
+     *                 counted because their {@code "304"} responses are free
+     * @throws IOException when the time to wait exceeds {@link #maxWait} or the thread has been interrupted
+     **/
+    private void acquire(Bucket bucket, GitHubHTTPRequest request, boolean charged) throws IOException {
+        long wait;
+        while ((wait = bucket.acquire(pacingThreshold, charged)) != 0) {
+            long time = Math.abs(wait);
+            if (time > maxWait)
+                throw new IOException("Rate limit exceeded, the request " + request + " should wait " + time + " ms");
+            try {
+                Thread.sleep(time);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Request interrupted while waiting the rate limit: " + request);
+            }
+            if (wait < 0)
+                return;
+        }
+    }
+
+    /**
+     * Method to seed the rate limits of an authorization the first time it is used, fetching its {@link RateOverview}
+     *
+     * @param authorization: authorization of the request
+     * @param request:       request which is going to be sent
+     * @throws IOException when the thread has been interrupted while the rate limits were seeded
+     * @implNote the requests sent with the same authorization while its rate limits are seeded wait the seeding; when
+     * the seeding goes wrong the rate limits are learned from the responses
+     **/
+    private void seedOnFirstUse(String authorization, GitHubHTTPRequest request) throws IOException {
+        String baseEndpoint = getBaseEndpoint();
+        if (!request.getUrl().startsWith(baseEndpoint))
+            return;
+        String key = String.valueOf(authorization);
+        CompletableFuture<Void> seeding = new CompletableFuture<>();
+        CompletableFuture<Void> currentSeeding = seedings.putIfAbsent(key, seeding);
+        if (currentSeeding != null) {
+            currentSeeding.join();
+            return;
+        }
+        try {
+            HashMap<String, String> headers = new HashMap<>();
+            for (String header : new String[]{"authorization", "accept", "x-github-api-version", "user-agent"}) {
+                String value = request.getHeader(header);
+                if (value != null)
+                    headers.put(header, value);
+            }
+            GitHubHTTPResponse response = transport.execute(new GitHubHTTPRequest(GET, baseEndpoint + RATE_LIMIT_PATH,
+                    headers, null, request.getTimeout()));
+            if (response.isSuccessful())
+                seed(authorization, response.getBody());
+        } catch (InterruptedIOException e) {
+            seedings.remove(key, seeding);
+            throw e;
+        } catch (IOException ignored) {
+            // the rate limits are learned from the responses
+        } finally {
+            seeding.complete(null);
+        }
+    }
+
+    /**
+     * Method to seed the rate limits of an authorization with all its resources
+     *
+     * @param authorization: authorization of the rate limits
+     * @param rateOverview:  the rate overview from seed the rate limits
+     **/
+    public void seed(String authorization, RateOverview rateOverview) {
+        Resources resources = rateOverview.getResources();
+        seed(authorization, CORE_RESOURCE, resources.getCore());
+        seed(authorization, SEARCH_RESOURCE, resources.getSearch());
+        seed(authorization, GRAPHQL_RESOURCE, resources.getGraphql());
+        seed(authorization, CODE_SCANNING_UPLOAD_RESOURCE, resources.getCodeScanningUpload());
+        seed(authorization, "source_import", resources.getSourceImport());
+        seed(authorization, "integration_manifest", resources.getIntegrationManifest());
+        seed(authorization, "actions_runner_registration", resources.getActionsRunnerRegistration());
+        seed(authorization, "scim", resources.getScim());
+        seed(authorization, "dependency_snapshots", resources.getDependencySnapshots());
+    }
+
+    /**
+     * Method to seed the rate limits of an authorization from the body of a {@code "rate_limit"} response
+     *
+     * @param authorization: authorization of the rate limits
+     * @param body:          body of the response
+     **/
+    private void seed(String authorization, String body) {
+        try {
+            seed(authorization, new RateOverview(new JSONObject(body)));
+        } catch (JSONException | NullPointerException ignored) {
+        }
+    }
+
+    /**
+     * Method to seed the rate limit of a resource
+     *
+     * @param authorization: authorization of the rate limit
+     * @param resource:      resource of the rate limit
+     * @param rateLimit:     the rate limit value, {@code "null"} if the resource is not available
+     **/
+    private void seed(String authorization, String resource, RateLimit rateLimit) {
+        if (rateLimit != null)
+            getBucket(authorization, resource).seed(rateLimit);
+    }
+
+    /**
+     * Method to get the tracked rate limit of a resource
+     *
+     * @param authorization: authorization of the requests, as the {@code "authorization"} header sent
+     * @param resource:      resource of the rate limit, for example {@link #CORE_RESOURCE}
+     * @return rate limit as {@link RateLimit} custom object, {@code "null"} if it is not known yet
+     **/
+    public RateLimit getRateLimit(String authorization, String resource) {
+        Bucket bucket = buckets.get(authorization + " " + resource);
+        if (bucket == null)
+            return null;
+        return bucket.getRateLimit();
+    }
+
+    /**
+     * Method to get the bucket of a resource
+     *
+     * @param authorization: authorization of the requests
+     * @param resource:      resource of the rate limit
+     * @return bucket as {@link Bucket}
+     **/
+    private Bucket getBucket(String authorization, String resource) {
+        long now = System.currentTimeMillis();
+        if (now >= nextPurge) {
+            nextPurge = now + PURGE_INTERVAL;
+            buckets.values().removeIf(bucket -> bucket.isExpired(now));
+            seedings.entrySet().removeIf(seeding -> seeding.getValue().isDone()
+                    && buckets.keySet().stream().noneMatch(key -> key.startsWith(seeding.getKey() + " ")));
+        }
+        return buckets.computeIfAbsent(authorization + " " + resource, key -> new Bucket());
+    }
+
+    /**
+     * Method to get whether a request is conditional, so its {@code "304"} response is not counted against the rate
+     * limit
+     *
+     * @param request: request to check
+     * @return whether a request is conditional as boolean
+     **/
+    private boolean isConditionalRequest(GitHubHTTPRequest request) {
+        return request.getHeader("if-none-match") != null || request.getHeader("if-modified-since") != null;
+    }
+
+    /**
+     * Method to get the resource of the rate limit used by a request
+     *
+     * @param request: request from get the resource
+     * @return resource of the rate limit as {@link String}
+     **/
+    protected String getResource(GitHubHTTPRequest request) {
+        return resolveResource(request);
+    }
+
+    /**
+     * Method to resolve the resource of the rate limit used by a request from its method and its url
+     *
+     * @param request: request from resolve the resource
+     * @return resource of the rate limit as {@link String}
+     **/
+    public static String resolveResource(GitHubHTTPRequest request) {
+        String path = request.getUrl().split("\\?")[0];
+        if (path.contains("/search/"))
+            return SEARCH_RESOURCE;
+        if (path.endsWith("/graphql"))
+            return GRAPHQL_RESOURCE;
+        if (request.getMethod() == POST && path.endsWith("/code-scanning/sarifs"))
+            return CODE_SCANNING_UPLOAD_RESOURCE;
+        return CORE_RESOURCE;
+    }
+
+    /**
+     * Method to get whether a request fetches the rate limit status
+     *
+     * @param request: request to check
+     * @return whether a request fetches the rate limit status as boolean
+     **/
+    private boolean isRateLimitStatusRequest(GitHubHTTPRequest request) {
+        return request.getMethod() == GET && request.getUrl().split("\\?")[0].endsWith("/" + RATE_LIMIT_PATH);
+    }
+
+    /**
+     * Method to get {@link #transport} instance <br>
+     * No-any params required
+     *
+     * @return {@link #transport} instance as {@link GitHubTransport}
+     **/
+    public GitHubTransport getTransport() {
+        return transport;
+    }
+
+    /**
+     * Method to get the base endpoint of the API whose rate limits are seeded on the first use of each access token
+     * <br>
+     * No-any params required
+     *
+     * @return base endpoint as {@link String}, the {@link GitHubManager#getDefaultBaseEndpoint()} if the
+     * {@link #baseEndpoint} has not been chosen
+     **/
+    public String getBaseEndpoint() {
+        return baseEndpoint != null ? baseEndpoint : GitHubManager.getDefaultBaseEndpoint();
+    }
+
+    /**
+     * Method to get {@link #seedOnFirstUse} instance <br>
+     * No-any params required
+     *
+     * @return {@link #seedOnFirstUse} instance as boolean
+     **/
+    public boolean isSeedOnFirstUse() {
+        return seedOnFirstUse;
+    }
+
+    /**
+     * Method to get {@link #pacingThreshold} instance <br>
+     * No-any params required
+     *
+     * @return {@link #pacingThreshold} instance as double
+     **/
+    public double getPacingThreshold() {
+        return pacingThreshold;
+    }
+
+    /**
+     * Method to get {@link #maxWait} instance <br>
+     * No-any params required
+     *
+     * @return {@link #maxWait} instance as long
+     **/
+    public long getMaxWait() {
+        return maxWait;
+    }
+
+    /**
+     * The {@code Bucket} class is useful to track the rate limit of a single resource as a token bucket
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     **/
+    private static class Bucket {
+
+        /**
+         * {@code limit} maximum number of the requests for each window, {@code "-1"} if it is not known yet
+         **/
+        private int limit = -1;
+
+        /**
+         * {@code remaining} number of the requests remaining in the current window
+         **/
+        private int remaining;
+
+        /**
+         * {@code reset} time in milliseconds when the current window resets, {@code "0"} if the window has been
+         * refilled and its new reset is not known yet
+         **/
+        private long reset;
+
+        /**
+         * {@code nextSlot} time in milliseconds from which the next paced request can be sent
+         **/
+        private long nextSlot;
+
+        /**
+         * {@code created} time in milliseconds when the bucket has been created
+         **/
+        private final long created = System.currentTimeMillis();
+
+        /**
+         * Method to take a request from the bucket
+         *
+         * @param pacingThreshold: fraction of the limit below which the remaining requests are spread until the reset
+         * @param charged:         whether the request is counted against the rate limit, the requests not counted
+         *                         are neither taken from the bucket nor paced
+         * @return {@code "0"} if the request can be sent immediately, a negative value with the milliseconds to wait
+         * before sending the request, or a positive value with the milliseconds to wait before trying again
+         **/
+        private synchronized long acquire(double pacingThreshold, boolean charged) {
+            if (limit == -1)
+                return 0;
+            long now = System.currentTimeMillis();
+            if (reset != 0 && now >= reset + RESET_MARGIN) {
+                remaining = limit;
+                nextSlot = 0;
+                reset = 0;
+            }
+            if (reset == 0) {
+                if (charged)
+                    remaining--;
+                return 0;
+            }
+            if (remaining <= 0)
+                return Math.max(1, reset + RESET_MARGIN - now);
+            if (!charged)
+                return 0;
+            remaining--;
+            if (remaining >= limit * pacingThreshold)
+                return 0;
+            long slot = Math.max(now, nextSlot);
+            nextSlot = slot + (reset + RESET_MARGIN - now) / (remaining + 1);
+            if (slot == now)
+                return 0;
+            return -(slot - now);
+        }
+
+        /**
+         * Method to seed the bucket with a fresh rate limit
+         *
+         * @param rateLimit: rate limit value
+         **/
+        private synchronized void seed(RateLimit rateLimit) {
+            limit = rateLimit.getLimit();
+            remaining = rateLimit.getRemaining();
+            reset = rateLimit.getReset() * 1000;
+        }
+
+        /**
+         * Method to update the bucket with the rate limit of a response
+         *
+         * @param rateLimit: rate limit value
+         * @implNote the latest value given by {@code "GitHub"} replaces the one counted locally, so the requests which
+         * are not charged, as the {@code "304"} responses, do not make the bucket drift below the real remaining
+         * requests; the values of a previous window are ignored
+         **/
+        private synchronized void update(RateLimit rateLimit) {
+            if (reset == 0 || rateLimit.getReset() * 1000 >= reset)
+                seed(rateLimit);
+        }
+
+        /**
+         * Method to get whether the bucket is not needed anymore, because its window has been reset or its rate
+         * limit has not been known for longer than {@link #PURGE_INTERVAL}, so the buckets of the requests still in
+         * flight are kept
+         *
+         * @param now: current time in milliseconds
+         * @return whether the bucket is not needed anymore as boolean
+         **/
+        private synchronized boolean isExpired(long now) {
+            return (limit == -1 && now - created >= PURGE_INTERVAL) || (reset != 0 && now >= reset + RESET_MARGIN);
+        }
+
+        /**
+         * Method to get the rate limit of the bucket <br>
+         * No-any params required
+         *
+         * @return rate limit as {@link RateLimit} custom object, {@code "null"} if it is not known yet
+         **/
+        private synchronized RateLimit getRateLimit() {
+            if (limit == -1)
+                return null;
+            return new RateLimit(limit, remaining, reset / 1000, limit - remaining);
+        }
+
+    }
+
+}
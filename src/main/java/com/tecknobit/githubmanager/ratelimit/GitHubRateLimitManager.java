@@ -136,6 +136,7 @@ public class GitHubRateLimitManager extends GitHubManager {
     @Returner
     @RequestPath(method = GET, path = "/rate_limit")
     public <T> T getRateLimitStatus(ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String rateOverviewResponse = sendGetRequest(RATE_LIMIT_PATH);
         switch (format) {
             case JSON:
@@ -361,6 +361,7 @@ public class GitHubReactionsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/orgs/{org}/teams/{team_slug}/discussions/{discussion_number}/comments/{comment_number}/reactions")
     public <T> T getTeamDiscussionCommentReactions(String org, String teamSlug, long discussionNumber, long commentNumber,
                                                    ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnReactions(sendGetRequest(ORGS_PATH + org + TEAMS_PATH + "/" + teamSlug + DISCUSSIONS_PATH
                 + discussionNumber + COMMENTS_PATH + "/" + commentNumber + REACTIONS_PATH), format);
     }
@@ -728,6 +729,7 @@ public class GitHubReactionsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/orgs/{org}/teams/{team_slug}/discussions/{discussion_number}/comments/{comment_number}/reactions")
     public <T> T getTeamDiscussionCommentReactions(String org, String teamSlug, long discussionNumber, long commentNumber,
                                                    Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnReactions(sendGetRequest(ORGS_PATH + org + TEAMS_PATH + "/" + teamSlug + DISCUSSIONS_PATH
                 + discussionNumber + COMMENTS_PATH + "/" + commentNumber + REACTIONS_PATH
                 + queryParams.createQueryString()), format);
@@ -1000,6 +1002,7 @@ public class GitHubReactionsManager extends GitHubManager {
     public <T> T createTeamDiscussionCommentReaction(String org, String teamSlug, long discussionNumber,
                                                      long commentNumber, ReactionContent content,
                                                      ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnReaction(sendPostRequest(ORGS_PATH + org + TEAMS_PATH + "/" + teamSlug + DISCUSSIONS_PATH
                         + discussionNumber + COMMENTS_PATH + "/" + commentNumber + REACTIONS_PATH, createReactionPayload(content)),
                 format);
@@ -1167,7 +1170,7 @@ public class GitHubReactionsManager extends GitHubManager {
         try {
             sendDeleteRequest(ORGS_PATH + org + TEAMS_PATH + "/" + teamSlug + DISCUSSIONS_PATH + discussionNumber
                     + COMMENTS_PATH + "/" + commentNumber + REACTIONS_PATH + "/" + reactionId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -1420,6 +1423,7 @@ public class GitHubReactionsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/orgs/{org}/teams/{team_slug}/discussions/{discussion_number}/reactions")
     public <T> T getTeamDiscussionReactions(String org, String teamSlug, long discussionNumber,
                                             ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnReactions(sendGetRequest(ORGS_PATH + org + TEAMS_PATH + "/" + teamSlug + DISCUSSIONS_PATH
                 + discussionNumber + REACTIONS_PATH), format);
     }
@@ -1771,6 +1775,7 @@ public class GitHubReactionsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/orgs/{org}/teams/{team_slug}/discussions/{discussion_number}/reactions")
     public <T> T getTeamDiscussionReactions(String org, String teamSlug, long discussionNumber, Params queryParams,
                                             ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnReactions(sendGetRequest(ORGS_PATH + org + TEAMS_PATH + "/" + teamSlug + DISCUSSIONS_PATH
                 + discussionNumber + REACTIONS_PATH + queryParams.createQueryString()), format);
     }
@@ -2026,6 +2031,7 @@ public class GitHubReactionsManager extends GitHubManager {
     @RequestPath(method = POST, path = "/orgs/{org}/teams/{team_slug}/discussions/{discussion_number}/reactions")
     public <T> T createTeamDiscussionReaction(String org, String teamSlug, long discussionNumber, ReactionContent content,
                                               ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnReaction(sendPostRequest(ORGS_PATH + org + TEAMS_PATH + "/" + teamSlug + DISCUSSIONS_PATH
                 + discussionNumber + REACTIONS_PATH, createReactionPayload(content)), format);
     }
@@ -2175,7 +2181,7 @@ public class GitHubReactionsManager extends GitHubManager {
         try {
             sendDeleteRequest(ORGS_PATH + org + TEAMS_PATH + "/" + teamSlug + DISCUSSIONS_PATH + discussionNumber
                     + REACTIONS_PATH + "/" + reactionId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -2412,6 +2418,7 @@ public class GitHubReactionsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/comments/{comment_id}/reactions")
     public <T> T getCommitCommentReactions(String owner, String repo, long commentId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnReactions(sendGetRequest(REPOS_PATH + owner + "/" + repo + COMMENTS_PATH + "/" + commentId
                 + REACTIONS_PATH), format);
     }
@@ -2755,6 +2762,7 @@ public class GitHubReactionsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/comments/{comment_id}/reactions")
     public <T> T getCommitCommentReactions(String owner, String repo, long commentId, Params queryParams,
                                            ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnReactions(sendGetRequest(REPOS_PATH + owner + "/" + repo + COMMENTS_PATH + "/" + commentId
                 + REACTIONS_PATH + queryParams.createQueryString()), format);
     }
@@ -3010,6 +3018,7 @@ public class GitHubReactionsManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/comments/{comment_id}/reactions")
     public <T> T createCommitCommentReaction(String owner, String repo, long commentId, ReactionContent content,
                                              ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnReaction(sendPostRequest(REPOS_PATH + owner + "/" + repo + COMMENTS_PATH + "/" + commentId
                 + REACTIONS_PATH, createReactionPayload(content)), format);
     }
@@ -3149,7 +3158,7 @@ public class GitHubReactionsManager extends GitHubManager {
         try {
             sendDeleteRequest(REPOS_PATH + owner + "/" + repo + COMMENTS_PATH + "/" + commentId + REACTIONS_PATH
                     + "/" + reactionId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -3387,6 +3396,7 @@ public class GitHubReactionsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/issues/comments/{comment_id}/reactions")
     public <T> T getIssueCommentReactions(String owner, String repo, long commentId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnReactions(sendGetRequest(REPOS_PATH + owner + "/" + repo + ISSUES_COMMENTS_PATH + "/"
                 + commentId + REACTIONS_PATH), format);
     }
@@ -3730,6 +3740,7 @@ public class GitHubReactionsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/issues/comments/{comment_id}/reactions")
     public <T> T getIssueCommentReactions(String owner, String repo, long commentId, Params queryParams,
                                           ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnReactions(sendGetRequest(REPOS_PATH + owner + "/" + repo + ISSUES_COMMENTS_PATH + "/"
                 + commentId + REACTIONS_PATH + queryParams.createQueryString()), format);
     }
@@ -3985,6 +3996,7 @@ public class GitHubReactionsManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/issues/comments/{comment_id}/reactions")
     public <T> T createIssueCommentReaction(String owner, String repo, long commentId, ReactionContent content,
                                             ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnReaction(sendPostRequest(REPOS_PATH + owner + "/" + repo + ISSUES_COMMENTS_PATH + "/"
                 + commentId + REACTIONS_PATH, createReactionPayload(content)), format);
     }
@@ -4123,7 +4135,7 @@ public class GitHubReactionsManager extends GitHubManager {
         try {
             sendDeleteRequest(REPOS_PATH + owner + "/" + repo + ISSUES_COMMENTS_PATH + "/" + commentId
                     + REACTIONS_PATH + "/" + reactionId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -4358,6 +4370,7 @@ public class GitHubReactionsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/issues/{issue_number}/reactions")
     public <T> T getIssueReactions(String owner, String repo, long issueNumber, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnReactions(sendGetRequest(REPOS_PATH + owner + "/" + repo + "/" + ISSUES_PATH + "/"
                 + issueNumber + REACTIONS_PATH), format);
     }
@@ -4700,6 +4713,7 @@ public class GitHubReactionsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/issues/{issue_number}/reactions")
     public <T> T getIssueReactions(String owner, String repo, long issueNumber, Params queryParams,
                                    ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnReactions(sendGetRequest(REPOS_PATH + owner + "/" + repo + "/" + ISSUES_PATH + "/"
                 + issueNumber + REACTIONS_PATH + queryParams.createQueryString()), format);
     }
@@ -4952,6 +4966,7 @@ public class GitHubReactionsManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/issues/{issue_number}/reactions")
     public <T> T createIssueReaction(String owner, String repo, long issueNumber, ReactionContent content,
                                      ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnReaction(sendPostRequest(REPOS_PATH + owner + "/" + repo + "/" + ISSUES_PATH + "/"
                 + issueNumber + REACTIONS_PATH, createReactionPayload(content)), format);
     }
@@ -5090,7 +5105,7 @@ public class GitHubReactionsManager extends GitHubManager {
         try {
             sendDeleteRequest(REPOS_PATH + owner + "/" + repo + "/" + ISSUES_PATH + "/" + issueNumber
                     + REACTIONS_PATH + "/" + reactionId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -5335,6 +5350,7 @@ public class GitHubReactionsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/pulls/comments/{comment_id}/reactions")
     public <T> T getPullRequestReviewCommentReactions(String owner, String repo, long commentId,
                                                       ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnReactions(sendGetRequest(REPOS_PATH + owner + "/" + repo + PULLS_COMMENTS_PATH + "/"
                 + commentId + REACTIONS_PATH), format);
     }
@@ -5680,6 +5696,7 @@ public class GitHubReactionsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/pulls/comments/{comment_id}/reactions")
     public <T> T getPullRequestReviewCommentReactions(String owner, String repo, long commentId, Params queryParams,
                                                       ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnReactions(sendGetRequest(REPOS_PATH + owner + "/" + repo + PULLS_COMMENTS_PATH + "/"
                 + commentId + REACTIONS_PATH + queryParams.createQueryString()), format);
     }
@@ -5935,6 +5952,7 @@ public class GitHubReactionsManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/pulls/comments/{comment_id}/reactions")
     public <T> T createPullRequestReviewCommentReaction(String owner, String repo, long commentId, ReactionContent content,
                                                         ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnReaction(sendPostRequest(REPOS_PATH + owner + "/" + repo + PULLS_COMMENTS_PATH + "/"
                 + commentId + REACTIONS_PATH, createReactionPayload(content)), format);
     }
@@ -6077,7 +6095,7 @@ public class GitHubReactionsManager extends GitHubManager {
         try {
             sendDeleteRequest(REPOS_PATH + owner + "/" + repo + PULLS_COMMENTS_PATH + "/" + commentId
                     + REACTIONS_PATH + "/" + reactionId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -6312,6 +6330,7 @@ public class GitHubReactionsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/releases/{release_id}/reactions")
     public <T> T getReleaseReactions(String owner, String repo, long releaseId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnReactions(sendGetRequest(REPOS_PATH + owner + "/" + repo + RELEASES_QUERY_PATH + releaseId
                 + REACTIONS_PATH), format);
     }
@@ -6655,6 +6674,7 @@ public class GitHubReactionsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/releases/{release_id}/reactions")
     public <T> T getReleaseReactions(String owner, String repo, long releaseId, Params queryParams,
                                      ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnReactions(sendGetRequest(REPOS_PATH + owner + "/" + repo + RELEASES_QUERY_PATH + releaseId
                 + REACTIONS_PATH + queryParams.createQueryString()), format);
     }
@@ -6932,6 +6952,7 @@ public class GitHubReactionsManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/releases/{release_id}/reactions")
     public <T> T createReleaseReaction(String owner, String repo, long releaseId, ReactionContent content,
                                        ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnReaction(sendPostRequest(REPOS_PATH + owner + "/" + repo + RELEASES_QUERY_PATH + releaseId
                 + REACTIONS_PATH, createReactionPayload(content)), format);
     }
@@ -7100,7 +7121,7 @@ public class GitHubReactionsManager extends GitHubManager {
         try {
             sendDeleteRequest(REPOS_PATH + owner + "/" + repo + RELEASES_QUERY_PATH + releaseId + REACTIONS_PATH
                     + "/" + reactionId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
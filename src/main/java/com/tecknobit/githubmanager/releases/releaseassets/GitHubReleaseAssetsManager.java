@@ -8,10 +8,20 @@ import com.tecknobit.githubmanager.GitHubManager;
 import com.tecknobit.githubmanager.releases.releaseassets.records.ReleaseAsset;
 import com.tecknobit.githubmanager.releases.releases.records.Release;
 import com.tecknobit.githubmanager.repositories.repositories.records.Repository;
+import com.tecknobit.githubmanager.transport.GitHubProgressListener;
+import com.tecknobit.githubmanager.transport.GitHubRequestBody;
+import com.tecknobit.githubmanager.transport.records.GitHubHTTPResponse;
+import org.json.JSONArray;
 import org.json.JSONObject;
 
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Map;
 
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.*;
 import static com.tecknobit.githubmanager.GitHubManager.ReturnFormat.LIBRARY_OBJECT;
@@ -39,6 +49,11 @@ public class GitHubReleaseAssetsManager extends GitHubManager {
      **/
     public static final String RELEASES_ASSETS_PATH = RELEASES_PATH + ASSETS_PATH + "/";
 
+    /**
+     * {@code DEFAULT_ASSET_CONTENT_TYPE} content type of the uploaded files whose type cannot be detected
+     **/
+    public static final String DEFAULT_ASSET_CONTENT_TYPE = "application/octet-stream";
+
     /**
      * Constructor to init a {@link GitHubReleaseAssetsManager}
      *
@@ -208,10 +223,147 @@ public class GitHubReleaseAssetsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/releases/assets/{asset_id}")
     public <T> T getReleaseAsset(String owner, String repo, long assetId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnReleaseAsset(sendGetRequest(REPOS_PATH + owner + "/" + repo + RELEASES_ASSETS_PATH
                 + assetId), format);
     }
 
+    /**
+     * Method to download the binary content of a release asset, the large assets are downloaded in parts at the same
+     * time and the file downloaded is verified with the size and the digest of the asset
+     *
+     * @param repository: the repository from fetch the release asset
+     * @param asset:      the release asset to download
+     * @param pathName:   path name for the file
+     * @param save:       flag whether save the file, if is set to {@code "false"} will be created a temporary file
+     *                    that will be deleted on exit
+     * @return release asset as {@link File}
+     * @throws IOException when request has been go wrong or the file downloaded is not the one expected -> you can use
+     *                     these methods to get more details about error:
+     *                     <ul>
+     *                         <li>
+     *                             {@link #getErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #getJSONErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #printErrorResponse()}
+     *                         </li>
+     *                     </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
+     * @apiNote see the official documentation at: <a href="https://docs.github.com/en/rest/releases/assets#get-a-release-asset">
+     * Get a release asset</a>
+     **/
+    @Wrapper
+    @RequestPath(method = GET, path = "/repos/{owner}/{repo}/releases/assets/{asset_id}")
+    public File downloadReleaseAsset(Repository repository, ReleaseAsset asset, String pathName,
+                                     boolean save) throws IOException {
+        return downloadReleaseAsset(repository.getOwner().getLogin(), repository.getName(), asset, pathName, save);
+    }
+
+    /**
+     * Method to download the binary content of a release asset, the large assets are downloaded in parts at the same
+     * time and the file downloaded is verified with the size and the digest of the asset
+     *
+     * @param owner:    the account owner of the repository. The name is not case-sensitive
+     * @param repo:     the name of the repository. The name is not case-sensitive
+     * @param asset:    the release asset to download
+     * @param pathName: path name for the file
+     * @param save:     flag whether save the file, if is set to {@code "false"} will be created a temporary file
+     *                  that will be deleted on exit
+     * @return release asset as {@link File}
+     * @throws IOException when request has been go wrong or the file downloaded is not the one expected -> you can use
+     *                     these methods to get more details about error:
+     *                     <ul>
+     *                         <li>
+     *                             {@link #getErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #getJSONErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #printErrorResponse()}
+     *                         </li>
+     *                     </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
+     * @apiNote see the official documentation at: <a href="https://docs.github.com/en/rest/releases/assets#get-a-release-asset">
+     * Get a release asset</a>
+     **/
+    @WrappedRequest
+    @RequestPath(method = GET, path = "/repos/{owner}/{repo}/releases/assets/{asset_id}")
+    public File downloadReleaseAsset(String owner, String repo, ReleaseAsset asset, String pathName,
+                                     boolean save) throws IOException {
+        return downloadFile(REPOS_PATH + owner + "/" + repo + RELEASES_ASSETS_PATH + asset.getId(), pathName, save,
+                (long) asset.getSize(), asset.getDigest());
+    }
+
+    /**
+     * Method to download the binary content of a release asset, the large assets are downloaded in parts at the same
+     * time and the file downloaded is verified with the size given by {@code "GitHub"}
+     *
+     * @param repository: the repository from fetch the release asset
+     * @param assetId:    the unique identifier of the asset
+     * @param pathName:   path name for the file
+     * @param save:       flag whether save the file, if is set to {@code "false"} will be created a temporary file
+     *                    that will be deleted on exit
+     * @return release asset as {@link File}
+     * @throws IOException when request has been go wrong or the file downloaded is not the one expected -> you can use
+     *                     these methods to get more details about error:
+     *                     <ul>
+     *                         <li>
+     *                             {@link #getErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #getJSONErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #printErrorResponse()}
+     *                         </li>
+     *                     </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
+     * @apiNote see the official documentation at: <a href="https://docs.github.com/en/rest/releases/assets#get-a-release-asset">
+     * Get a release asset</a>
+     **/
+    @Wrapper
+    @RequestPath(method = GET, path = "/repos/{owner}/{repo}/releases/assets/{asset_id}")
+    public File downloadReleaseAsset(Repository repository, long assetId, String pathName,
+                                     boolean save) throws IOException {
+        return downloadReleaseAsset(repository.getOwner().getLogin(), repository.getName(), assetId, pathName, save);
+    }
+
+    /**
+     * Method to download the binary content of a release asset, the large assets are downloaded in parts at the same
+     * time and the file downloaded is verified with the size given by {@code "GitHub"}
+     *
+     * @param owner:    the account owner of the repository. The name is not case-sensitive
+     * @param repo:     the name of the repository. The name is not case-sensitive
+     * @param assetId:  the unique identifier of the asset
+     * @param pathName: path name for the file
+     * @param save:     flag whether save the file, if is set to {@code "false"} will be created a temporary file
+     *                  that will be deleted on exit
+     * @return release asset as {@link File}
+     * @throws IOException when request has been go wrong or the file downloaded is not the one expected -> you can use
+     *                     these methods to get more details about error:
+     *                     <ul>
+     *                         <li>
+     *                             {@link #getErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #getJSONErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #printErrorResponse()}
+     *                         </li>
+     *                     </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
+     * @apiNote see the official documentation at: <a href="https://docs.github.com/en/rest/releases/assets#get-a-release-asset">
+     * Get a release asset</a>
+     **/
+    @WrappedRequest
+    @RequestPath(method = GET, path = "/repos/{owner}/{repo}/releases/assets/{asset_id}")
+    public File downloadReleaseAsset(String owner, String repo, long assetId, String pathName,
+                                     boolean save) throws IOException {
+        return downloadFile(REPOS_PATH + owner + "/" + repo + RELEASES_ASSETS_PATH + assetId, pathName, save, -1,
+                null);
+    }
+
     /**
      * Method to update a release asset
      *
@@ -539,6 +691,7 @@ public class GitHubReleaseAssetsManager extends GitHubManager {
     @RequestPath(method = PATCH, path = "/repos/{owner}/{repo}/releases/assets/{asset_id}")
     public <T> T updateReleaseAsset(String owner, String repo, long assetId, Params bodyParams,
                                     ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnReleaseAsset(sendPatchRequest(REPOS_PATH + owner + "/" + repo + RELEASES_ASSETS_PATH
                 + assetId, bodyParams), format);
     }
@@ -603,7 +756,7 @@ public class GitHubReleaseAssetsManager extends GitHubManager {
     public boolean deleteReleaseAsset(String owner, String repo, long assetId) {
         try {
             sendDeleteRequest(REPOS_PATH + owner + "/" + repo + RELEASES_ASSETS_PATH + assetId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -837,6 +990,7 @@ public class GitHubReleaseAssetsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "repos/{owner}/{repo}/releases/{release_id}/assets")
     public <T> T getReleaseAssets(String owner, String repo, long releaseId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnReleaseAssets(sendGetRequest(REPOS_PATH + owner + "/" + repo + RELEASES_QUERY_PATH
                 + releaseId + ASSETS_PATH), format);
     }
@@ -1147,6 +1301,7 @@ public class GitHubReleaseAssetsManager extends GitHubManager {
     @RequestPath(method = GET, path = "repos/{owner}/{repo}/releases/{release_id}/assets")
     public <T> T getReleaseAssets(String owner, String repo, long releaseId, Params queryParams,
                                   ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnReleaseAssets(sendGetRequest(REPOS_PATH + owner + "/" + repo + RELEASES_QUERY_PATH
                 + releaseId + ASSETS_PATH + queryParams.createQueryString()), format);
     }
@@ -1641,6 +1796,7 @@ public class GitHubReleaseAssetsManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/releases/{release_id}/assets")
     public <T> T uploadReleaseAsset(String owner, String repo, long releaseId, String name, String label,
                                     ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params query = new Params();
         query.addParam("name", name);
         if (label != null)
@@ -1649,6 +1805,271 @@ public class GitHubReleaseAssetsManager extends GitHubManager {
                 + releaseId + ASSETS_PATH + query.createQueryString(), null), format);
     }
 
+    /**
+     * Method to upload a file as release asset, the file is sent while it is read and its name is used as name of the
+     * release asset
+     *
+     * @param repository: the repository where upload the release asset
+     * @param release:    the release where upload the release asset
+     * @param asset:      path of the file to upload
+     * @return release asset as {@link ReleaseAsset} custom object
+     * @throws IOException when request has been go wrong or the asset cannot be read -> you can use these methods to get
+     *                     more details about error:
+     *                     <ul>
+     *                         <li>
+     *                             {@link #getErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #getJSONErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #printErrorResponse()}
+     *                         </li>
+     *                     </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
+     * @apiNote see the official documentation at: <a href="https://docs.github.com/en/rest/releases/assets#upload-a-release-asset">
+     * Upload a release asset</a>
+     **/
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = POST, path = "/repos/{owner}/{repo}/releases/{release_id}/assets")
+    public ReleaseAsset uploadReleaseAsset(Repository repository, Release release, Path asset) throws IOException {
+        return uploadReleaseAsset(repository.getOwner().getLogin(), repository.getName(), release.getId(),
+                asset.getFileName().toString(), null, asset, null, LIBRARY_OBJECT);
+    }
+
+    /**
+     * Method to upload a file as release asset, the file is sent while it is read and its name is used as name of the
+     * release asset
+     *
+     * @param owner:     the account owner of the repository. The name is not case-sensitive
+     * @param repo:      the name of the repository. The name is not case-sensitive
+     * @param releaseId: the unique identifier of the release
+     * @param asset:     path of the file to upload
+     * @return release asset as {@link ReleaseAsset} custom object
+     * @throws IOException when request has been go wrong or the asset cannot be read -> you can use these methods to get
+     *                     more details about error:
+     *                     <ul>
+     *                         <li>
+     *                             {@link #getErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #getJSONErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #printErrorResponse()}
+     *                         </li>
+     *                     </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
+     * @apiNote see the official documentation at: <a href="https://docs.github.com/en/rest/releases/assets#upload-a-release-asset">
+     * Upload a release asset</a>
+     **/
+    @Wrapper
+    @WrappedRequest
+    @RequestPath(method = POST, path = "/repos/{owner}/{repo}/releases/{release_id}/assets")
+    public ReleaseAsset uploadReleaseAsset(String owner, String repo, long releaseId, Path asset) throws IOException {
+        return uploadReleaseAsset(owner, repo, releaseId, asset.getFileName().toString(), null, asset, null,
+                LIBRARY_OBJECT);
+    }
+
+    /**
+     * Method to upload a file as release asset, the file is sent while it is read
+     *
+     * @param owner:     the account owner of the repository. The name is not case-sensitive
+     * @param repo:      the name of the repository. The name is not case-sensitive
+     * @param releaseId: the unique identifier of the release
+     * @param name:      name of the release asset
+     * @param label:     label for the release asset, {@code "null"} to not set it
+     * @param asset:     path of the file to upload, its content type is detected from the file
+     * @param listener:  listener of the progress of the upload, {@code "null"} to not follow it
+     * @param format     :              return type formatter -> {@link ReturnFormat}
+     * @return release asset as {@code "format"} defines
+     * @throws IOException when request has been go wrong or the asset cannot be read -> you can use these methods to get
+     *                     more details about error:
+     *                     <ul>
+     *                         <li>
+     *                             {@link #getErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #getJSONErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #printErrorResponse()}
+     *                         </li>
+     *                     </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
+     * @apiNote see the official documentation at: <a href="https://docs.github.com/en/rest/releases/assets#upload-a-release-asset">
+     * Upload a release asset</a>
+     **/
+    @WrappedRequest
+    @RequestPath(method = POST, path = "/repos/{owner}/{repo}/releases/{release_id}/assets")
+    public <T> T uploadReleaseAsset(String owner, String repo, long releaseId, String name, String label, Path asset,
+                                    GitHubProgressListener listener, ReturnFormat format) throws IOException {
+        String contentType = Files.probeContentType(asset);
+        if (contentType == null)
+            contentType = DEFAULT_ASSET_CONTENT_TYPE;
+        return uploadReleaseAsset(owner, repo, releaseId, name, label, contentType, GitHubRequestBody.of(asset),
+                listener, format);
+    }
+
+    /**
+     * Method to upload a stream as release asset, the stream is sent while it is read
+     *
+     * @param owner:       the account owner of the repository. The name is not case-sensitive
+     * @param repo:        the name of the repository. The name is not case-sensitive
+     * @param releaseId:   the unique identifier of the release
+     * @param name:        name of the release asset
+     * @param label:       label for the release asset, {@code "null"} to not set it
+     * @param contentType: content type of the release asset, as {@code "application/zip"}
+     * @param asset:       stream to upload, it is not closed by this method
+     * @param length:      number of the bytes of the stream to upload
+     * @param listener:    listener of the progress of the upload, {@code "null"} to not follow it
+     * @param format       :              return type formatter -> {@link ReturnFormat}
+     * @return release asset as {@code "format"} defines
+     * @throws IOException when request has been go wrong or the asset cannot be read -> you can use these methods to get
+     *                     more details about error:
+     *                     <ul>
+     *                         <li>
+     *                             {@link #getErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #getJSONErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #printErrorResponse()}
+     *                         </li>
+     *                     </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
+     * @apiNote see the official documentation at: <a href="https://docs.github.com/en/rest/releases/assets#upload-a-release-asset">
+     * Upload a release asset</a>
+     **/
+    @WrappedRequest
+    @RequestPath(method = POST, path = "/repos/{owner}/{repo}/releases/{release_id}/assets")
+    public <T> T uploadReleaseAsset(String owner, String repo, long releaseId, String name, String label,
+                                    String contentType, InputStream asset, long length, GitHubProgressListener listener,
+                                    ReturnFormat format) throws IOException {
+        return uploadReleaseAsset(owner, repo, releaseId, name, label, contentType, GitHubRequestBody.of(asset, length),
+                listener, format);
+    }
+
+    /**
+     * Method to upload a channel as release asset, the channel is sent while it is read
+     *
+     * @param owner:       the account owner of the repository. The name is not case-sensitive
+     * @param repo:        the name of the repository. The name is not case-sensitive
+     * @param releaseId:   the unique identifier of the release
+     * @param name:        name of the release asset
+     * @param label:       label for the release asset, {@code "null"} to not set it
+     * @param contentType: content type of the release asset, as {@code "application/zip"}
+     * @param asset:       channel to upload, it is not closed by this method
+     * @param length:      number of the bytes of the channel to upload
+     * @param listener:    listener of the progress of the upload, {@code "null"} to not follow it
+     * @param format       :              return type formatter -> {@link ReturnFormat}
+     * @return release asset as {@code "format"} defines
+     * @throws IOException when request has been go wrong or the asset cannot be read -> you can use these methods to get
+     *                     more details about error:
+     *                     <ul>
+     *                         <li>
+     *                             {@link #getErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #getJSONErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #printErrorResponse()}
+     *                         </li>
+     *                     </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
+     * @apiNote see the official documentation at: <a href="https://docs.github.com/en/rest/releases/assets#upload-a-release-asset">
+     * Upload a release asset</a>
+     **/
+    @WrappedRequest
+    @RequestPath(method = POST, path = "/repos/{owner}/{repo}/releases/{release_id}/assets")
+    public <T> T uploadReleaseAsset(String owner, String repo, long releaseId, String name, String label,
+                                    String contentType, ReadableByteChannel asset, long length,
+                                    GitHubProgressListener listener, ReturnFormat format) throws IOException {
+        return uploadReleaseAsset(owner, repo, releaseId, name, label, contentType, GitHubRequestBody.of(asset, length),
+                listener, format);
+    }
+
+    /**
+     * Method to upload a release asset, the asset is sent while it is read so the large assets are never stored in
+     * memory
+     *
+     * @param owner:       the account owner of the repository. The name is not case-sensitive
+     * @param repo:        the name of the repository. The name is not case-sensitive
+     * @param releaseId:   the unique identifier of the release
+     * @param name:        name of the release asset
+     * @param label:       label for the release asset, {@code "null"} to not set it
+     * @param contentType: content type of the release asset, as {@code "application/zip"}
+     * @param asset:       body of the release asset to upload, its length must be known
+     * @param listener:    listener of the progress of the upload, {@code "null"} to not follow it
+     * @param format       :              return type formatter -> {@link ReturnFormat}
+     * @return release asset as {@code "format"} defines
+     * @throws IOException when request has been go wrong or the asset cannot be read -> you can use these methods to get
+     *                     more details about error:
+     *                     <ul>
+     *                         <li>
+     *                             {@link #getErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #getJSONErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #printErrorResponse()}
+     *                         </li>
+     *                     </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
+     * @apiNote see the official documentation at: <a href="https://docs.github.com/en/rest/releases/assets#upload-a-release-asset">
+     * Upload a release asset</a>
+     * @implNote the asset is sent to the {@link #getUploadsEndpoint()} and, when the upload goes wrong for a transient
+     * error and the asset can be read again, it is retried after deleting the incomplete release asset left by the
+     * failed attempt; when the failed attempt has completed the release asset anyway, it is returned without uploading
+     * it again
+     **/
+    @RequestPath(method = POST, path = "/repos/{owner}/{repo}/releases/{release_id}/assets")
+    public <T> T uploadReleaseAsset(String owner, String repo, long releaseId, String name, String label,
+                                    String contentType, GitHubRequestBody asset, GitHubProgressListener listener,
+                                    ReturnFormat format) throws IOException {
+        requireNonStream(format);
+        if (asset.getLength() < 0)
+            throw new IllegalArgumentException("The length of the release asset must be known");
+        Params query = new Params();
+        query.addParam("name", name);
+        if (label != null)
+            query.addParam("label", label);
+        GitHubHTTPResponse response = sendUploadRequest(getUploadsEndpoint() + REPOS_PATH + owner + "/" + repo
+                        + RELEASES_QUERY_PATH + releaseId + ASSETS_PATH + query.createQueryString(), POST, contentType,
+                asset, listener, () -> recoverReleaseAsset(owner, repo, releaseId, name));
+        if (!response.isSuccessful())
+            throw new IOException(response.getBody());
+        return returnReleaseAsset(response.getBody(), format);
+    }
+
+    /**
+     * Method to recover an upload of a release asset which has been go wrong: when the release asset has been
+     * completed anyway it is returned, otherwise the incomplete release asset left is deleted, so the upload can be
+     * retried with the same name
+     *
+     * @param owner:     the account owner of the repository. The name is not case-sensitive
+     * @param repo:      the name of the repository. The name is not case-sensitive
+     * @param releaseId: the unique identifier of the release
+     * @param name:      name of the release asset
+     * @return response with the release asset completed as {@link GitHubHTTPResponse}, {@code "null"} if the upload
+     * has to be retried
+     **/
+    private GitHubHTTPResponse recoverReleaseAsset(String owner, String repo, long releaseId, String name) {
+        try {
+            JSONArray assets = new JSONArray(sendGetRequest(REPOS_PATH + owner + "/" + repo + RELEASES_QUERY_PATH
+                    + releaseId + ASSETS_PATH + "?per_page=100"));
+            for (int j = 0; j < assets.length(); j++) {
+                JSONObject jAsset = assets.getJSONObject(j);
+                if (name.equals(jAsset.optString("name"))) {
+                    if ("uploaded".equals(jAsset.optString("state")))
+                        return new GitHubHTTPResponse(201, Map.of(), jAsset.toString());
+                    deleteReleaseAsset(owner, repo, jAsset.getLong("id"));
+                }
+            }
+        } catch (Exception e) {
+            // the next attempt reports the error if the incomplete release asset is still there
+        }
+        return null;
+    }
+
     /**
      * Method to create a release asset
      *
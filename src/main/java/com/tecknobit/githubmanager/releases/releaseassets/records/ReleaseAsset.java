@@ -97,6 +97,11 @@ public class ReleaseAsset extends BaseItemStructure {
      **/
     private final User uploader;
 
+    /**
+     * {@code digest} digest of the release asset, as {@code "sha256:<hex>"}
+     **/
+    private final String digest;
+
     /**
      * Constructor to init a {@link ReleaseAsset}
      *
@@ -117,6 +122,31 @@ public class ReleaseAsset extends BaseItemStructure {
     public <T> ReleaseAsset(String url, T id, String nodeId, String createdAt, String updatedAt, String browserDownloadUrl,
                             String name, String label, AssetState state, String contentType, double size, int downloadCount,
                             User uploader) {
+        this(url, id, nodeId, createdAt, updatedAt, browserDownloadUrl, name, label, state, contentType, size,
+                downloadCount, uploader, null);
+    }
+
+    /**
+     * Constructor to init a {@link ReleaseAsset}
+     *
+     * @param url                : the url of the release asset
+     * @param id                 : the id of the release asset
+     * @param nodeId             : the node id of the release asset
+     * @param createdAt          : the creation time of the release asset
+     * @param updatedAt          : the updated time of the release asset
+     * @param browserDownloadUrl : browser download url of the release asset
+     * @param name               :  name of the release asset
+     * @param label              : label of the release asset
+     * @param state              : state of the release asset
+     * @param contentType        : content type of the release asset
+     * @param size               : size of the release asset
+     * @param downloadCount      : download count of the release asset
+     * @param uploader           : uploader of the release asset
+     * @param digest             : digest of the release asset
+     **/
+    public <T> ReleaseAsset(String url, T id, String nodeId, String createdAt, String updatedAt, String browserDownloadUrl,
+                            String name, String label, AssetState state, String contentType, double size, int downloadCount,
+                            User uploader, String digest) {
         super(url, id, nodeId, createdAt, updatedAt);
         this.browserDownloadUrl = browserDownloadUrl;
         this.name = name;
@@ -126,6 +156,7 @@ public class ReleaseAsset extends BaseItemStructure {
         this.size = size;
         this.downloadCount = downloadCount;
         this.uploader = uploader;
+        this.digest = digest;
     }
 
     /**
@@ -143,6 +174,7 @@ public class ReleaseAsset extends BaseItemStructure {
         size = hResponse.getDouble("size");
         downloadCount = hResponse.getInt("download_count");
         uploader = new User(hResponse.getJSONObject("uploader"));
+        digest = hResponse.getString("digest");
     }
 
     /**
@@ -247,6 +279,16 @@ public class ReleaseAsset extends BaseItemStructure {
         return uploader;
     }
 
+    /**
+     * Method to get {@link #digest} instance <br>
+     * No-any params required
+     *
+     * @return {@link #digest} instance as {@link String}, {@code "null"} if it is not known
+     **/
+    public String getDigest() {
+        return digest;
+    }
+
     /**
      * Method to create a release assets list
      *
@@ -221,6 +221,7 @@ public class GitHubReleasesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/releases")
     public <T> T getReleases(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnReleases(sendGetRequest(REPOS_PATH + owner + "/" + repo + RELEASES_PATH), format);
     }
 
@@ -369,6 +370,7 @@ public class GitHubReleasesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/releases")
     public <T> T getReleases(String owner, String repo, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnReleases(sendGetRequest(REPOS_PATH + owner + "/" + repo + RELEASES_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -799,6 +801,7 @@ public class GitHubReleasesManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/releases")
     public <T> T createRelease(String owner, String repo, String tagName, Params bodyParams,
                                ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRelease(sendPostRequest(REPOS_PATH + owner + "/" + repo + RELEASES_PATH,
                 createReleasePayload(tagName, bodyParams)), format);
     }
@@ -1129,6 +1132,7 @@ public class GitHubReleasesManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/releases/generate-notes")
     public <T> T generateReleaseNotesContent(String owner, String repo, String tagName, Params bodyParams,
                                              ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String notesContentResponse = sendPostRequest(REPOS_PATH + owner + "/" + repo
                 + RELEASES_GENERATE_NOTES_PATH, createReleasePayload(tagName, bodyParams));
         switch (format) {
@@ -1258,6 +1262,7 @@ public class GitHubReleasesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/releases/latest")
     public <T> T getLatestRelease(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRelease(sendGetRequest(REPOS_PATH + owner + "/" + repo + RELEASES_LATEST_PATH), format);
     }
 
@@ -1370,6 +1375,7 @@ public class GitHubReleasesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/releases/tags/{tag}")
     public <T> T getReleaseByTagName(String owner, String repo, String tag, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRelease(sendGetRequest(REPOS_PATH + owner + "/" + repo + RELEASES_TAGS_PATH + tag), format);
     }
 
@@ -1482,6 +1488,7 @@ public class GitHubReleasesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/releases/{release_id}")
     public <T> T getRelease(String owner, String repo, long releaseId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRelease(sendGetRequest(REPOS_PATH + owner + "/" + repo + RELEASES_QUERY_PATH + releaseId),
                 format);
     }
@@ -2066,6 +2073,7 @@ public class GitHubReleasesManager extends GitHubManager {
     @RequestPath(method = PATCH, path = "/repos/{owner}/{repo}/releases/{release_id}")
     public <T> T updateRelease(String owner, String repo, long releaseId, Params bodyParams,
                                ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRelease(sendPatchRequest(REPOS_PATH + owner + "/" + repo + RELEASES_QUERY_PATH
                 + releaseId, bodyParams), format);
     }
@@ -2163,7 +2171,7 @@ public class GitHubReleasesManager extends GitHubManager {
     public boolean deleteRelease(String owner, String repo, long releaseId) {
         try {
             sendDeleteRequest(REPOS_PATH + owner + "/" + repo + RELEASES_QUERY_PATH + releaseId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
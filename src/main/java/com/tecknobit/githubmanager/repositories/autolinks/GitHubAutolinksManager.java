@@ -317,6 +317,7 @@ public class GitHubAutolinksManager extends GitHubManager {
     @Returner
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/autolinks")
     public <T> T getAllRepositoryAutolinks(String owner, String repo, int page, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String reqUrl = REPOS_PATH + owner + "/" + repo + AUTOLINKS_PATH;
         if (page != -1)
             reqUrl += "?page=" + page;
@@ -474,6 +475,7 @@ public class GitHubAutolinksManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/autolinks")
     public <T> T createRepositoryAutolinkReference(String owner, String repo, String keyPrefix, String urlTemplate,
                                                    boolean isAlphanumeric, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("key_prefix", keyPrefix);
         payload.addParam("url_template", urlTemplate);
@@ -597,6 +599,7 @@ public class GitHubAutolinksManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/autolinks/{autolink_id}")
     public <T> T getRepositoryAutolinkReference(String owner, String repo, long autolinkId,
                                                 ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnAutolink(sendGetRequest(REPOS_PATH + owner + "/" + repo + AUTOLINKS_PATH + "/" + autolinkId),
                 format);
     }
@@ -684,7 +687,7 @@ public class GitHubAutolinksManager extends GitHubManager {
     public boolean deleteRepositoryAutolinkReference(String owner, String repo, long autolinkId) {
         try {
             sendDeleteRequest(REPOS_PATH + owner + "/" + repo + AUTOLINKS_PATH + "/" + autolinkId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -17,7 +17,6 @@ import java.util.Base64;
 import java.util.HashMap;
 
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.*;
-import static com.tecknobit.apimanager.apis.APIRequest.downloadFile;
 import static com.tecknobit.githubmanager.GitHubManager.ReturnFormat.LIBRARY_OBJECT;
 
 /**
@@ -352,6 +351,7 @@ public class GitHubContentsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/contents/{path}")
     public <T> T getRepositoryContent(String owner, String repo, String path, String ref,
                                       ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String reqUrl = REPOS_PATH + owner + "/" + repo + CONTENTS_PATH + path;
         if (ref != null)
             reqUrl += "?ref=" + ref;
@@ -711,6 +711,7 @@ public class GitHubContentsManager extends GitHubManager {
     @RequestPath(method = PUT, path = "/repos/{owner}/{repo}/contents/{path}")
     public <T> T workWithFileContents(String owner, String repo, String path, String message, String content,
                                       Params bodyParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         if (bodyParams == null)
             bodyParams = new Params();
         bodyParams.addParam("message", message);
@@ -1046,6 +1047,7 @@ public class GitHubContentsManager extends GitHubManager {
     @RequestPath(method = DELETE, path = "/repos/{owner}/{repo}/contents/{path}")
     public <T> T deleteFile(String owner, String repo, String path, String message, String sha, Params bodyParams,
                             ReturnFormat format) throws IOException {
+        requireNonStream(format);
         if (bodyParams == null)
             bodyParams = new Params();
         bodyParams.addParam("message", message);
@@ -1303,6 +1305,7 @@ public class GitHubContentsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/readme")
     public <T> T getRepositoryREADME(String owner, String repo, String ref, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String reqUrl = REPOS_PATH + owner + "/" + repo + README_PATH;
         if (ref != null)
             reqUrl += "?ref=" + ref;
@@ -1545,6 +1548,7 @@ public class GitHubContentsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/readme/{dir}")
     public <T> T getRepositoryDirectoryREADME(String owner, String repo, String dir, String ref,
                                               ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String reqUrl = REPOS_PATH + owner + "/" + repo + README_PATH + "/" + dir;
         if (ref != null)
             reqUrl += "?ref=" + ref;
@@ -1601,8 +1605,7 @@ public class GitHubContentsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/tarball/{ref}")
     public File downloadRepositoryTarArchive(Repository repository, String ref, String pathName,
                                              boolean save) throws IOException {
-        return downloadFile(downloadRepositoryTarArchive(repository.getOwner().getLogin(), repository.getName(), ref),
-                pathName, save);
+        return downloadRepositoryTarArchive(repository.getOwner().getLogin(), repository.getName(), ref, pathName, save);
     }
 
     /**
@@ -1637,7 +1640,7 @@ public class GitHubContentsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/tarball/{ref}")
     public File downloadRepositoryTarArchive(String owner, String repo, String ref, String pathName,
                                              boolean save) throws IOException {
-        return downloadFile(downloadRepositoryTarArchive(owner, repo, ref), pathName, save);
+        return downloadFile(REPOS_PATH + owner + "/" + repo + TARBALL_PATH + ref, pathName, save);
     }
 
     /**
@@ -1667,8 +1670,7 @@ public class GitHubContentsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/tarball/{ref}")
     public String downloadRepositoryTarArchive(String owner, String repo, String ref) throws IOException {
-        sendGetRequest(REPOS_PATH + owner + "/" + repo + TARBALL_PATH + ref);
-        return apiRequest.getResponse();
+        return sendRedirectRequest(REPOS_PATH + owner + "/" + repo + TARBALL_PATH + ref);
     }
 
     /**
@@ -1702,8 +1704,7 @@ public class GitHubContentsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/zipball/{ref}")
     public File downloadRepositoryZipArchive(Repository repository, String ref, String pathName,
                                              boolean save) throws IOException {
-        return downloadFile(downloadRepositoryZipArchive(repository.getOwner().getLogin(), repository.getName(), ref),
-                pathName, save);
+        return downloadRepositoryZipArchive(repository.getOwner().getLogin(), repository.getName(), ref, pathName, save);
     }
 
     /**
@@ -1738,7 +1739,7 @@ public class GitHubContentsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/zipball/{ref}")
     public File downloadRepositoryZipArchive(String owner, String repo, String ref, String pathName,
                                              boolean save) throws IOException {
-        return downloadFile(downloadRepositoryZipArchive(owner, repo, ref), pathName, save);
+        return downloadFile(REPOS_PATH + owner + "/" + repo + ZIPBALL_PATH + ref, pathName, save);
     }
 
     /**
@@ -1769,8 +1770,7 @@ public class GitHubContentsManager extends GitHubManager {
     @WrappedRequest
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/zipball/{ref}")
     public String downloadRepositoryZipArchive(String owner, String repo, String ref) throws IOException {
-        sendGetRequest(REPOS_PATH + owner + "/" + repo + ZIPBALL_PATH + ref);
-        return apiRequest.getResponse();
+        return sendRedirectRequest(REPOS_PATH + owner + "/" + repo + ZIPBALL_PATH + ref);
     }
 
 }
@@ -196,6 +196,7 @@ public class GitHubForksManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/forks")
     public <T> T getForks(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositories(sendGetRequest(REPOS_PATH + owner + "/" + repo + FORKS_PATH), format);
     }
 
@@ -356,6 +357,7 @@ public class GitHubForksManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/forks")
     public <T> T getForks(String owner, String repo, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositories(sendGetRequest(REPOS_PATH + owner + "/" + repo + FORKS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -649,6 +651,7 @@ public class GitHubForksManager extends GitHubManager {
      **/
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/forks")
     public <T> T createFork(String owner, String repo, Params bodyParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepository(sendPostRequest(REPOS_PATH + owner + "/" + repo + FORKS_PATH, bodyParams), format);
     }
 
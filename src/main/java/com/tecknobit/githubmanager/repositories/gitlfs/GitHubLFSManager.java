@@ -112,7 +112,7 @@ public class GitHubLFSManager extends GitHubManager {
     public boolean enableGitLFS(String owner, String repo) {
         try {
             sendPutRequest(REPOS_PATH + owner + "/" + repo + LFS_PATH, null);
-            if (apiRequest.getResponseStatusCode() != 202) {
+            if (getStatusCode() != 202) {
                 printErrorResponse();
                 return false;
             }
@@ -150,7 +150,7 @@ public class GitHubLFSManager extends GitHubManager {
     public boolean disableGitLFS(String owner, String repo) {
         try {
             sendDeleteRequest(REPOS_PATH + owner + "/" + repo + LFS_PATH);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
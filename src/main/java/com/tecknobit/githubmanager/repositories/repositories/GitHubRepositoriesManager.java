@@ -7,6 +7,7 @@ import com.tecknobit.apimanager.annotations.Wrapper;
 import com.tecknobit.githubmanager.GitHubManager;
 import com.tecknobit.githubmanager.collaborators.collaborators.records.Collaborator.Affiliation;
 import com.tecknobit.githubmanager.organizations.organizations.records.Organization;
+import com.tecknobit.githubmanager.pagination.GitHubPaginator;
 import com.tecknobit.githubmanager.repositories.repositories.records.CodeOwnersError;
 import com.tecknobit.githubmanager.repositories.repositories.records.Repository;
 import com.tecknobit.githubmanager.repositories.repositories.records.Repository.RepoVisibility;
@@ -255,6 +256,7 @@ public class GitHubRepositoriesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/repos")
     public <T> T getOrganizationRepositories(String org, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositories(sendGetRequest(ORGS_PATH + org + REPOS_QUERY_PATH), format);
     }
 
@@ -445,10 +447,74 @@ public class GitHubRepositoriesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/repos")
     public <T> T getOrganizationRepositories(String org, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositories(sendGetRequest(ORGS_PATH + org + REPOS_QUERY_PATH
                 + queryParams.createQueryString()), format);
     }
 
+    /**
+     * Method to iterate all the repositories for the specified organization following all the pages of the list
+     *
+     * @param org: the organization from fetch the repositories
+     * @return all the repositories as {@link GitHubPaginator} of {@link Repository} custom object, the pages are
+     * fetched while the repositories are iterated
+     * @apiNote see the official documentation at: <a href="https://docs.github.com/en/rest/repos/repos#list-organization-repositories">
+     * List organization repositories</a>
+     **/
+    @Wrapper
+    @RequestPath(method = GET, path = "/orgs/{org}/repos")
+    public GitHubPaginator<Repository> getAllOrganizationRepositories(Organization org) {
+        return getAllOrganizationRepositories(org.getLogin(), null);
+    }
+
+    /**
+     * Method to iterate all the repositories for the specified organization following all the pages of the list
+     *
+     * @param org: the organization name. The name is not case-sensitive
+     * @return all the repositories as {@link GitHubPaginator} of {@link Repository} custom object, the pages are
+     * fetched while the repositories are iterated
+     * @apiNote see the official documentation at: <a href="https://docs.github.com/en/rest/repos/repos#list-organization-repositories">
+     * List organization repositories</a>
+     **/
+    @Wrapper
+    @RequestPath(method = GET, path = "/orgs/{org}/repos")
+    public GitHubPaginator<Repository> getAllOrganizationRepositories(String org) {
+        return getAllOrganizationRepositories(org, null);
+    }
+
+    /**
+     * Method to iterate all the repositories for the specified organization following all the pages of the list
+     *
+     * @param org:         the organization name. The name is not case-sensitive
+     * @param queryParams: extra query params not mandatory, keys accepted are:
+     *                     <ul>
+     *                        <li>
+     *                            {@code "type"} -> specifies the types of repositories you want returned, constants
+     *                            available {@link RepositoryType} - [string]
+     *                        </li>
+     *                        <li>
+     *                            {@code "sort"} -> the property to sort the results by, constants available
+     *                            {@link RepositorySort} - [string]
+     *                        </li>
+     *                        <li>
+     *                            {@code "direction"} -> the order to sort by. Default: asc when using full_name,
+     *                            otherwise desc, constants available {@link Directions} - [string]
+     *                        </li>
+     *                        <li>
+     *                            {@code "per_page"} -> the number of results per page (max 100) - [integer, default 100]
+     *                        </li>
+     *                     </ul>
+     * @return all the repositories as {@link GitHubPaginator} of {@link Repository} custom object, the pages are
+     * fetched while the repositories are iterated
+     * @apiNote see the official documentation at: <a href="https://docs.github.com/en/rest/repos/repos#list-organization-repositories">
+     * List organization repositories</a>
+     **/
+    @RequestPath(method = GET, path = "/orgs/{org}/repos")
+    public GitHubPaginator<Repository> getAllOrganizationRepositories(String org, Params queryParams) {
+        return paginate(ORGS_PATH + org + REPOS_QUERY_PATH, queryParams,
+                repositories -> returnRepositories(repositories, LIBRARY_OBJECT));
+    }
+
     /**
      * Method to create a new repository in the specified organization.
      * The authenticated user must be a member of the organization <br>
@@ -1200,6 +1266,7 @@ public class GitHubRepositoriesManager extends GitHubManager {
     @RequestPath(method = POST, path = "/orgs/{org}/repos")
     public <T> T createOrganizationRepository(String org, String name, Params bodyParams,
                                               ReturnFormat format) throws IOException {
+        requireNonStream(format);
         if (bodyParams == null)
             bodyParams = new Params();
         bodyParams.addParam("name", name);
@@ -1256,6 +1323,7 @@ public class GitHubRepositoriesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}")
     public <T> T getRepository(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepository(sendGetRequest(REPOS_PATH + owner + "/" + repo), format);
     }
 
@@ -1828,6 +1896,7 @@ public class GitHubRepositoriesManager extends GitHubManager {
      **/
     @RequestPath(method = PATCH, path = "/repos/{owner}/{repo}")
     public <T> T updateRepository(String owner, String repo, Params bodyParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepository(sendPatchRequest(REPOS_PATH + owner + "/" + repo, bodyParams), format);
     }
 
@@ -1864,7 +1933,7 @@ public class GitHubRepositoriesManager extends GitHubManager {
     public boolean deleteRepository(String owner, String repo) {
         try {
             sendDeleteRequest(REPOS_PATH + owner + "/" + repo);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -1904,7 +1973,7 @@ public class GitHubRepositoriesManager extends GitHubManager {
     public boolean enableAutomatedSecurityFixes(String owner, String repo) {
         try {
             sendPutRequest(REPOS_PATH + owner + "/" + repo + AUTOMATED_SECURITY_FIXES_PATH, null);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -1944,7 +2013,7 @@ public class GitHubRepositoriesManager extends GitHubManager {
     public boolean disableAutomatedSecurityFixes(String owner, String repo) {
         try {
             sendDeleteRequest(REPOS_PATH + owner + "/" + repo + AUTOMATED_SECURITY_FIXES_PATH);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -2177,6 +2246,7 @@ public class GitHubRepositoriesManager extends GitHubManager {
     @Returner
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/codeowners/errors")
     public <T> T getCodeOwnersErrors(String owner, String repo, String ref, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String reqUrl = REPOS_PATH + owner + "/" + repo + CODEOWNERS_ERRORS_PATH;
         if (ref != null)
             reqUrl += "?ref=" + ref;
@@ -2324,6 +2394,7 @@ public class GitHubRepositoriesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/contributors")
     public <T> T getRepositoryContributors(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnUsersList(sendGetRequest(REPOS_PATH + owner + "/" + repo + CONTRIBUTORS_PATH), format);
     }
 
@@ -2507,6 +2578,7 @@ public class GitHubRepositoriesManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/contributors")
     public <T> T getRepositoryContributors(String owner, String repo, Params queryParams,
                                            ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnUsersList(sendGetRequest(REPOS_PATH + owner + "/" + repo + CONTRIBUTORS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -2579,7 +2651,7 @@ public class GitHubRepositoriesManager extends GitHubManager {
             if (clientPayload != null)
                 payload.addParam("client_payload", clientPayload);
             sendPostRequest(REPOS_PATH + owner + "/" + repo + DISPATCHES_PATH, payload);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -2700,6 +2772,7 @@ public class GitHubRepositoriesManager extends GitHubManager {
     @Returner
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/languages")
     public <T> T getRepositoryLanguages(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String repositoryLanguagesResponse = sendGetRequest(REPOS_PATH + owner + "/" + repo + LANGUAGES_PATH);
         switch (format) {
             case JSON:
@@ -2816,6 +2889,7 @@ public class GitHubRepositoriesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/tags")
     public <T> T getRepositoryTags(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositoryTags(sendGetRequest(REPOS_PATH + owner + "/" + repo + TAGS_PATH), format);
     }
 
@@ -2960,6 +3034,7 @@ public class GitHubRepositoriesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/tags")
     public <T> T getRepositoryTags(String owner, String repo, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositoryTags(sendGetRequest(REPOS_PATH + owner + "/" + repo + TAGS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -3092,6 +3167,7 @@ public class GitHubRepositoriesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/teams")
     public <T> T getRepositoryTeams(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnTeamsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + TEAMS_PATH), format);
     }
 
@@ -3239,6 +3315,7 @@ public class GitHubRepositoriesManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/teams")
     public <T> T getRepositoryTeams(String owner, String repo, Params queryParams,
                                     ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnTeamsList(sendGetRequest(REPOS_PATH + owner + "/" + repo + TEAMS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -3348,6 +3425,7 @@ public class GitHubRepositoriesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/topics")
     public <T> T getAllRepositoryTopics(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositoryTopics(sendGetRequest(REPOS_PATH + owner + "/" + repo + TOPICS_PATH), format);
     }
 
@@ -3495,6 +3573,7 @@ public class GitHubRepositoriesManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/topics")
     public <T> T getAllRepositoryTopics(String owner, String repo, Params queryParams,
                                         ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositoryTopics(sendGetRequest(REPOS_PATH + owner + "/" + repo + TOPICS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -3618,6 +3697,7 @@ public class GitHubRepositoriesManager extends GitHubManager {
     @RequestPath(method = PUT, path = "/repos/{owner}/{repo}/topics")
     public <T> T replaceAllRepositoryTopics(String owner, String repo, ReturnFormat format,
                                             String... names) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("names", names);
         return returnRepositoryTopics(sendPutRequest(REPOS_PATH + owner + "/" + repo + TOPICS_PATH, payload),
@@ -3931,6 +4011,7 @@ public class GitHubRepositoriesManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/transfer")
     public <T> T transferRepository(String owner, String repo, String newOwner, Params bodyParams,
                                     ReturnFormat format) throws IOException {
+        requireNonStream(format);
         if (bodyParams == null)
             bodyParams = new Params();
         bodyParams.addParam("new_owner", newOwner);
@@ -3969,7 +4050,7 @@ public class GitHubRepositoriesManager extends GitHubManager {
     public boolean checkIfVulnerabilityAlertsAreEnabled(String owner, String repo) {
         try {
             sendGetRequest(REPOS_PATH + owner + "/" + repo + VULNERABILITY_ALERTS_PATH);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -4009,7 +4090,7 @@ public class GitHubRepositoriesManager extends GitHubManager {
     public boolean enableVulnerabilityAlerts(String owner, String repo) {
         try {
             sendPutRequest(REPOS_PATH + owner + "/" + repo + VULNERABILITY_ALERTS_PATH, null);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -4049,7 +4130,7 @@ public class GitHubRepositoriesManager extends GitHubManager {
     public boolean disableVulnerabilityAlerts(String owner, String repo) {
         try {
             sendDeleteRequest(REPOS_PATH + owner + "/" + repo + VULNERABILITY_ALERTS_PATH);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -4211,6 +4292,7 @@ public class GitHubRepositoriesManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{template_owner}/{template_repo}/generate")
     public <T> T createRepositoryUsingTemplate(String templateOwner, String templateRepo, String name, Params bodyParams,
                                                ReturnFormat format) throws IOException {
+        requireNonStream(format);
         if (bodyParams == null)
             bodyParams = new Params();
         bodyParams.addParam("name", name);
@@ -4318,6 +4400,7 @@ public class GitHubRepositoriesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repositories")
     public <T> T getPublicRepositories(long since, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String reqUrl = "repositories";
         if (since != -1)
             reqUrl += "?since=" + since;
@@ -4377,6 +4460,7 @@ public class GitHubRepositoriesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/repos")
     public <T> T getAuthenticatedUserRepositories(ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositories(sendGetRequest(USER_REPOS_PATH), format);
     }
 
@@ -4505,6 +4589,7 @@ public class GitHubRepositoriesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/repos")
     public <T> T getAuthenticatedUserRepositories(Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositories(sendGetRequest(USER_REPOS_PATH + queryParams.createQueryString()),
                 format);
     }
@@ -4882,6 +4967,7 @@ public class GitHubRepositoriesManager extends GitHubManager {
      **/
     @RequestPath(method = POST, path = "/user/repos")
     public <T> T createAuthenticatedUserRepository(String name, Params bodyParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         if (bodyParams == null)
             bodyParams = new Params();
         bodyParams.addParam("name", name);
@@ -4939,6 +5025,7 @@ public class GitHubRepositoriesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/users/{username}/repos")
     public <T> T getUserRepositories(String username, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositories(sendGetRequest(USERS_PATH + username + REPOS_QUERY_PATH), format);
     }
 
@@ -5035,6 +5122,7 @@ public class GitHubRepositoriesManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/users/{username}/repos")
     public <T> T getUserRepositories(String username, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositories(sendGetRequest(USERS_PATH + username + REPOS_QUERY_PATH
                 + queryParams.createQueryString()), format);
     }
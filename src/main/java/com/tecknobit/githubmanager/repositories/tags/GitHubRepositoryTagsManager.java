@@ -205,6 +205,7 @@ public class GitHubRepositoryTagsManager extends GitHubManager {
     @Returner
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/tags/protection")
     public <T> T getRepositoryTagProtectionStates(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         String tagProtectionStatesResponse = sendGetRequest(REPOS_PATH + owner + "/" + repo
                 + TAGS_PROTECTION_PATH);
         switch (format) {
@@ -338,6 +339,7 @@ public class GitHubRepositoryTagsManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/tags/protection")
     public <T> T createRepositoryTagProtectionState(String owner, String repo, String pattern,
                                                     ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("pattern", pattern);
         String tagProtectionStateResponse = sendPostRequest(REPOS_PATH + owner + "/" + repo
@@ -418,7 +420,7 @@ public class GitHubRepositoryTagsManager extends GitHubManager {
     public boolean deleteRepositoryTagProtectionState(String owner, String repo, long tagProtectionId) {
         try {
             sendDeleteRequest(REPOS_PATH + owner + "/" + repo + TAGS_PROTECTION_PATH + "/" + tagProtectionId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -211,6 +211,7 @@ public class GitHubRepoWebHookConfiguration extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/hooks/{hook_id}/config")
     public <T> T getRepositoryWebhookConfiguration(String owner, String repo, long hookId,
                                                    ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnWebhook(sendGetRequest(REPOS_PATH + owner + "/" + repo + HOOKS_PATH + "/" +
                 hookId + CONFIG_PATH), format);
     }
@@ -426,6 +427,7 @@ public class GitHubRepoWebHookConfiguration extends GitHubManager {
     @RequestPath(method = PATCH, path = "/repos/{owner}/{repo}/hooks/{hook_id}/config")
     public <T> T updateRepositoryWebhookConfiguration(String owner, String repo, long hookId, Params bodyParams,
                                                       ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnWebhook(sendPatchRequest(REPOS_PATH + owner + "/" + repo + HOOKS_PATH + "/" +
                 hookId + CONFIG_PATH, bodyParams), format);
     }
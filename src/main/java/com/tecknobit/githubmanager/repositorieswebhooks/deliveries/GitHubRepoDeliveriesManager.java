@@ -200,6 +200,7 @@ public class GitHubRepoDeliveriesManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/hooks/{hook_id}/deliveries")
     public <T> T getRepositoryWebhookDeliveries(String owner, String repo, long hookId,
                                                 ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnDeliveriesList(sendGetRequest(REPOS_PATH + owner + "/" + repo + HOOKS_PATH + "/"
                 + hookId + DELIVERIES_PATH), format);
     }
@@ -375,6 +376,7 @@ public class GitHubRepoDeliveriesManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/hooks/{hook_id}/deliveries")
     public <T> T getRepositoryWebhookDeliveries(String owner, String repo, long hookId, Params queryParams,
                                                 ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnDeliveriesList(sendGetRequest(REPOS_PATH + owner + "/" + repo + HOOKS_PATH + "/"
                 + hookId + DELIVERIES_PATH + queryParams.createQueryString()), format);
     }
@@ -496,6 +498,7 @@ public class GitHubRepoDeliveriesManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/hooks/{hook_id}/deliveries/{delivery_id}")
     public <T> T getRepositoryWebhookDelivery(String owner, String repo, long hookId, long deliveryId,
                                               ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnDelivery(sendGetRequest(REPOS_PATH + owner + "/" + repo + HOOKS_PATH + "/" + hookId
                 + DELIVERIES_PATH + "/" + deliveryId), format);
     }
@@ -567,7 +570,7 @@ public class GitHubRepoDeliveriesManager extends GitHubManager {
         try {
             sendPostRequest(REPOS_PATH + owner + "/" + repo + HOOKS_PATH + "/" + hookId + DELIVERIES_PATH
                     + "/" + deliveryId + ATTEMPTS_QUERY_PATH, null);
-            if (apiRequest.getResponseStatusCode() != 202) {
+            if (getStatusCode() != 202) {
                 printErrorResponse();
                 return false;
             }
@@ -203,6 +203,7 @@ public class GitHubRepoWebhooksManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/hooks")
     public <T> T getRepositoryWebhooks(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositoryWebhooks(sendGetRequest(REPOS_PATH + owner + "/" + repo + HOOKS_PATH), format);
     }
 
@@ -353,6 +354,7 @@ public class GitHubRepoWebhooksManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/hooks")
     public <T> T getRepositoryWebhooks(String owner, String repo, Params queryParams,
                                        ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositoryWebhooks(sendGetRequest(REPOS_PATH + owner + "/" + repo + HOOKS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -538,6 +540,7 @@ public class GitHubRepoWebhooksManager extends GitHubManager {
     @RequestPath(method = POST, path = "/repos/{owner}/{repo}/hooks")
     public <T> T createRepositoryWebhook(String owner, String repo, Webhook config, Params bodyParams,
                                          ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositoryWebhook(sendPostRequest(REPOS_PATH + owner + "/" + repo + HOOKS_PATH, bodyParams),
                 format);
     }
@@ -655,6 +658,7 @@ public class GitHubRepoWebhooksManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/hooks/{hook_id}")
     public <T> T getRepositoryWebhook(String owner, String repo, long hookId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositoryWebhook(sendGetRequest(REPOS_PATH + owner + "/" + repo + HOOKS_PATH
                 + "/" + hookId), format);
     }
@@ -1083,6 +1087,7 @@ public class GitHubRepoWebhooksManager extends GitHubManager {
     @RequestPath(method = PATCH, path = "/repos/{owner}/{repo}/hooks/{hook_id}")
     public <T> T updateRepositoryWebhook(String owner, String repo, long hookId, Params bodyParams,
                                          ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositoryWebhook(sendPatchRequest(REPOS_PATH + owner + "/" + repo + HOOKS_PATH
                 + "/" + hookId, bodyParams), format);
     }
@@ -1166,7 +1171,7 @@ public class GitHubRepoWebhooksManager extends GitHubManager {
     public boolean deleteRepositoryWebhook(String owner, String repo, long hookId) {
         try {
             sendDeleteRequest(REPOS_PATH + owner + "/" + repo + HOOKS_PATH + "/" + hookId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -1241,7 +1246,7 @@ public class GitHubRepoWebhooksManager extends GitHubManager {
     public boolean pingRepositoryWebhook(String owner, String repo, long hookId) {
         try {
             sendPostRequest(REPOS_PATH + owner + "/" + repo + HOOKS_PATH + "/" + hookId + PINGS_PATH, null);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -1321,7 +1326,7 @@ public class GitHubRepoWebhooksManager extends GitHubManager {
     public boolean testPushRepositoryWebhook(String owner, String repo, long hookId) {
         try {
             sendPostRequest(REPOS_PATH + owner + "/" + repo + HOOKS_PATH + "/" + hookId + TESTS_PATH, null);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -1249,6 +1249,7 @@ public class GitHubSearchManager extends GitHubManager {
     @Returner
     private <T> T returnSearchResult(Class itemType, String path, String q, Params queryParams,
                                      ReturnFormat format) throws IOException {
+        requireNonStream(format);
         if(queryParams == null)
             queryParams = new Params();
         queryParams.addParam("q", q);
@@ -156,6 +156,7 @@ public class GitHubSecretScanningManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/enterprises/{enterprise}/secret-scanning/alerts")
     public <T> T getEnterpriseSecretScanningAlerts(String enterprise, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnSecretScanningAlerts(sendGetRequest(ENTERPRISES_PATH + enterprise
                 + SECRET_SCANNING_ALERTS_PATH), format);
     }
@@ -281,6 +282,7 @@ public class GitHubSecretScanningManager extends GitHubManager {
     @RequestPath(method = GET, path = "/enterprises/{enterprise}/secret-scanning/alerts")
     public <T> T getEnterpriseSecretScanningAlerts(String enterprise, Params queryParams,
                                                    ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnSecretScanningAlerts(sendGetRequest(ENTERPRISES_PATH + enterprise
                 + SECRET_SCANNING_ALERTS_PATH + queryParams.createQueryString()), format);
     }
@@ -400,6 +402,7 @@ public class GitHubSecretScanningManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/secret-scanning/alerts")
     public <T> T getOrganizationSecretScanningAlerts(String org, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnSecretScanningAlerts(sendGetRequest(ORGS_PATH + org + SECRET_SCANNING_ALERTS_PATH), format);
     }
 
@@ -650,6 +653,7 @@ public class GitHubSecretScanningManager extends GitHubManager {
     @RequestPath(method = GET, path = "/orgs/{org}/secret-scanning/alerts")
     public <T> T getOrganizationSecretScanningAlerts(String org, Params queryParams,
                                                      ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnSecretScanningAlerts(sendGetRequest(ORGS_PATH + org + SECRET_SCANNING_ALERTS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -771,6 +775,7 @@ public class GitHubSecretScanningManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/secret-scanning/alerts")
     public <T> T getRepositorySecretScanningAlerts(String owner, String repo, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnSecretScanningAlerts(sendGetRequest(REPOS_PATH + owner + "/" + repo
                 + SECRET_SCANNING_ALERTS_PATH), format);
     }
@@ -1066,6 +1071,7 @@ public class GitHubSecretScanningManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/secret-scanning/alerts")
     public <T> T getRepositorySecretScanningAlerts(String owner, String repo, Params queryParams,
                                                    ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnSecretScanningAlerts(sendGetRequest(REPOS_PATH + owner + "/" + repo +
                 SECRET_SCANNING_ALERTS_PATH + queryParams.createQueryString()), format);
     }
@@ -1222,6 +1228,7 @@ public class GitHubSecretScanningManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/secret-scanning/alerts/{alert_number}")
     public <T> T getSecretScanningAlert(String owner, String repo, long alertNumber, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnSecretScanningAlert(sendGetRequest(REPOS_PATH + owner + "/" + repo
                 + SECRET_SCANNING_ALERTS_PATH + "/" + alertNumber), format);
     }
@@ -1871,6 +1878,7 @@ public class GitHubSecretScanningManager extends GitHubManager {
     @RequestPath(method = PATCH, path = "/repos/{owner}/{repo}/secret-scanning/alerts/{alert_number}")
     public <T> T updateSecretScanningAlert(String owner, String repo, long alertNumber, SecretScanningAlertState state,
                                            Params bodyParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         if (bodyParams == null)
             bodyParams = new Params();
         bodyParams.addParam("state", state);
@@ -2172,6 +2180,7 @@ public class GitHubSecretScanningManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/secret-scanning/alerts/{alert_number}/locations")
     public <T> T getSecretScanningAlertLocations(String owner, String repo, long alertNumber,
                                                  ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnSecretScanningAlertLocations(sendGetRequest(REPOS_PATH + owner + "/" + repo
                 + SECRET_SCANNING_ALERTS_PATH + "/" + alertNumber + LOCATIONS_PATH), format);
     }
@@ -2526,6 +2535,7 @@ public class GitHubSecretScanningManager extends GitHubManager {
     @RequestPath(method = GET, path = "/repos/{owner}/{repo}/secret-scanning/alerts/{alert_number}/locations")
     public <T> T getSecretScanningAlertLocations(String owner, String repo, long alertNumber, Params queryParams,
                                                  ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnSecretScanningAlertLocations(sendGetRequest(REPOS_PATH + owner + "/" + repo +
                         SECRET_SCANNING_ALERTS_PATH + "/" + alertNumber + LOCATIONS_PATH + queryParams.createQueryString()),
                 format);
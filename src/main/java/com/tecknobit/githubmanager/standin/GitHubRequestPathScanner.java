@@ -0,0 +1,136 @@
+package com.tecknobit.githubmanager.standin;
+
+import com.tecknobit.apimanager.annotations.RequestPath;
+import com.tecknobit.githubmanager.GitHubManager;
+import com.tecknobit.githubmanager.standin.records.StandInRoute;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URISyntaxException;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+/**
+ * The {@code GitHubRequestPathScanner} class is useful to discover the endpoints of the managers from the
+ * {@link RequestPath} annotations of their methods <br>
+ * The classes of the library are scanned, from its folder or from its jar, to find all the {@code "*Manager"}
+ * classes
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see GitHubStandInServer
+ **/
+public class GitHubRequestPathScanner {
+
+    /**
+     * {@code PACKAGE_FOLDER} folder of the package of the library
+     **/
+    private static final String PACKAGE_FOLDER = GitHubManager.class.getPackageName().replace('.', '/');
+
+    /**
+     * {@code MANAGER_SUFFIX} suffix of the names of the class files of the managers
+     **/
+    private static final String MANAGER_SUFFIX = "Manager.class";
+
+    /**
+     * Constructor to init a {@link GitHubRequestPathScanner} <br>
+     * No-any params required
+     *
+     * @apiNote this class has only static methods
+     **/
+    private GitHubRequestPathScanner() {
+    }
+
+    /**
+     * Method to discover the endpoints of all the managers of the library <br>
+     * No-any params required
+     *
+     * @return endpoints sorted from the most specific as {@link List} of {@link StandInRoute}
+     * @throws IOException when the classes of the library cannot be scanned
+     **/
+    public static List<StandInRoute> scan() throws IOException {
+        TreeSet<StandInRoute> routes = new TreeSet<>();
+        for (Class<?> manager : findManagers())
+            routes.addAll(scan(manager));
+        return new ArrayList<>(routes);
+    }
+
+    /**
+     * Method to discover the endpoints of a manager
+     *
+     * @param manager: class of the manager to scan
+     * @return endpoints sorted from the most specific as {@link List} of {@link StandInRoute}
+     **/
+    public static List<StandInRoute> scan(Class<?> manager) {
+        TreeSet<StandInRoute> routes = new TreeSet<>();
+        for (Method method : manager.getDeclaredMethods()) {
+            RequestPath requestPath = method.getAnnotation(RequestPath.class);
+            if (requestPath != null && !requestPath.path().isEmpty())
+                routes.add(new StandInRoute(requestPath.method(), requestPath.path()));
+        }
+        return new ArrayList<>(routes);
+    }
+
+    /**
+     * Method to find the classes of the managers of the library <br>
+     * No-any params required
+     *
+     * @return classes of the managers as {@link Collection} of {@link Class}
+     * @throws IOException when the classes of the library cannot be scanned
+     **/
+    private static Collection<Class<?>> findManagers() throws IOException {
+        CodeSource codeSource = GitHubManager.class.getProtectionDomain().getCodeSource();
+        if (codeSource == null)
+            throw new IOException("The location of the classes of the library cannot be found");
+        Path location;
+        try {
+            location = Path.of(codeSource.getLocation().toURI());
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            throw new IOException("The location of the classes of the library cannot be read", e);
+        }
+        if (Files.isDirectory(location))
+            return findManagers(location);
+        try (FileSystem jar = FileSystems.newFileSystem(location)) {
+            return findManagers(jar.getPath("/"));
+        }
+    }
+
+    /**
+     * Method to find the classes of the managers of the library in a folder
+     *
+     * @param root: root folder of the classes of the library
+     * @return classes of the managers as {@link Collection} of {@link Class}
+     * @throws IOException when the folder cannot be scanned
+     **/
+    private static Collection<Class<?>> findManagers(Path root) throws IOException {
+        ArrayList<Class<?>> managers = new ArrayList<>();
+        Path packageFolder = root.resolve(PACKAGE_FOLDER);
+        if (!Files.isDirectory(packageFolder))
+            return managers;
+        ClassLoader loader = GitHubManager.class.getClassLoader();
+        try (Stream<Path> files = Files.walk(packageFolder)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = file.getFileName().toString();
+                if (!name.endsWith(MANAGER_SUFFIX) || name.contains("$"))
+                    continue;
+                String className = root.relativize(file).toString().replace(root.getFileSystem().getSeparator(), ".");
+                className = className.substring(0, className.length() - ".class".length());
+                try {
+                    Class<?> manager = Class.forName(className, false, loader);
+                    if (GitHubManager.class.isAssignableFrom(manager))
+                        managers.add(manager);
+                } catch (ClassNotFoundException | LinkageError ignored) {
+                }
+            }
+        }
+        return managers;
+    }
+
+}
@@ -0,0 +1,854 @@
+package com.tecknobit.githubmanager.standin;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.tecknobit.apimanager.apis.APIRequest.RequestMethod;
+import com.tecknobit.githubmanager.standin.records.StandInFixture;
+import com.tecknobit.githubmanager.standin.records.StandInRoute;
+import org.json.JSONObject;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.*;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The {@code GitHubStandInServer} class is useful to run a local stand-in of {@code "https://api.github.com"}, to
+ * load-test the integrations with the library without any network <br>
+ * The endpoints are discovered from the {@link com.tecknobit.apimanager.annotations.RequestPath} annotations of all
+ * the managers and each of them answers with a {@link StandInFixture}, which can be a template filled with the
+ * variables of the request. The responses have the headers of {@code "GitHub"}:
+ * <ul>
+ *     <li>
+ *         {@code "X-RateLimit-*"} -> a rate limit for the {@code "core"} resource and one for the {@code "search"}
+ *         resource, when a rate limit is exceeded the requests are answered with {@code "403"}
+ *     </li>
+ *     <li>
+ *         {@code "ETag"} -> created from the body, the requests with the same {@code "If-None-Match"} are answered
+ *         with {@code "304"} and are not counted by the rate limit
+ *     </li>
+ *     <li>
+ *         {@code "Link"} -> created for the fixtures with more than one page, from the {@code "page"} query of the
+ *         request
+ *     </li>
+ * </ul>
+ * A latency and a rate of errors can be injected to test the behavior of an integration under a slow or an unstable
+ * {@code "GitHub"}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote usage example:
+ * <pre>
+ *     {@code
+ *        try (GitHubStandInServer server = new GitHubStandInServer()) {
+ *            server.setFixture(GET, "/repos/{owner}/{repo}", new StandInFixture("{\"name\": \"${repo}\"}"));
+ *            server.setLatency(20, 10, TimeUnit.MILLISECONDS);
+ *            server.start();
+ *            GitHubManager.setDefaultBaseEndpoint(server.getBaseEndpoint());
+ *        }
+ *     }
+ * </pre>
+ * @see GitHubRequestPathScanner
+ **/
+public class GitHubStandInServer implements Closeable {
+
+    /**
+     * {@code DEFAULT_RATE_LIMIT} default number of the requests allowed for the {@code "core"} resource in an hour
+     **/
+    public static final int DEFAULT_RATE_LIMIT = 5000;
+
+    /**
+     * {@code DEFAULT_SEARCH_RATE_LIMIT} default number of the requests allowed for the {@code "search"} resource in
+     * a minute
+     **/
+    public static final int DEFAULT_SEARCH_RATE_LIMIT = 30;
+
+    /**
+     * {@code DEFAULT_PER_PAGE} default number of the items of a page, when the request has not the
+     * {@code "per_page"} query
+     **/
+    public static final int DEFAULT_PER_PAGE = 30;
+
+    /**
+     * {@code API_VERSION} version of the API answered with the {@code "X-GitHub-Api-Version"} header
+     **/
+    public static final String API_VERSION = "2022-11-28";
+
+    /**
+     * {@code DOCUMENTATION_URL} url of the documentation of the error responses
+     **/
+    private static final String DOCUMENTATION_URL = "https://docs.github.com/rest";
+
+    /**
+     * {@code SEARCH_PATH} path of the endpoints which use the {@code "search"} resource of the rate limit
+     **/
+    private static final String SEARCH_PATH = "/search/";
+
+    /**
+     * {@code PLACEHOLDER} pattern of a placeholder of the template of a fixture
+     **/
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\$\\{([A-Za-z0-9_]+)}");
+
+    /**
+     * {@code BACKLOG} maximum number of the connections waiting to be accepted
+     **/
+    private static final int BACKLOG = 1024;
+
+    /**
+     * {@code server} the HTTP server which answers to the requests
+     **/
+    private final HttpServer server;
+
+    /**
+     * {@code executor} the executor which handles the requests
+     **/
+    private final ExecutorService executor;
+
+    /**
+     * {@code routes} the endpoints served, sorted from the most specific
+     **/
+    private final ConcurrentSkipListSet<StandInRoute> routes;
+
+    /**
+     * {@code fixtures} the fixtures of the endpoints served
+     **/
+    private final ConcurrentHashMap<StandInRoute, StandInFixture> fixtures;
+
+    /**
+     * {@code servedRequests} number of the requests served
+     **/
+    private final AtomicLong servedRequests;
+
+    /**
+     * {@code requestIds} counter used to create the {@code "X-GitHub-Request-Id"} header
+     **/
+    private final AtomicLong requestIds;
+
+    /**
+     * {@code defaultFixture} the fixture of the endpoints without a fixture, {@code "null"} to answer with
+     * {@code "{}"}, or with {@code "204"} to the {@code "DELETE"} requests
+     **/
+    private volatile StandInFixture defaultFixture;
+
+    /**
+     * {@code latency} nanoseconds waited before answering to each request
+     **/
+    private volatile long latency;
+
+    /**
+     * {@code latencyJitter} maximum nanoseconds randomly added to the {@link #latency}
+     **/
+    private volatile long latencyJitter;
+
+    /**
+     * {@code errorRate} rate of the requests answered with the {@link #errorStatusCode}, from {@code "0"} to
+     * {@code "1"}
+     **/
+    private volatile double errorRate;
+
+    /**
+     * {@code errorStatusCode} status code of the errors injected
+     **/
+    private volatile int errorStatusCode;
+
+    /**
+     * {@code coreRateLimit} the rate limit of the {@code "core"} resource
+     **/
+    private volatile RateLimitWindow coreRateLimit;
+
+    /**
+     * {@code searchRateLimit} the rate limit of the {@code "search"} resource
+     **/
+    private volatile RateLimitWindow searchRateLimit;
+
+    /**
+     * Constructor to init a {@link GitHubStandInServer} on a free port of the loopback address <br>
+     * No-any params required
+     *
+     * @throws IOException when the server cannot be created or the endpoints of the managers cannot be discovered
+     **/
+    public GitHubStandInServer() throws IOException {
+        this(0);
+    }
+
+    /**
+     * Constructor to init a {@link GitHubStandInServer} on the loopback address
+     *
+     * @param port: port of the server, {@code "0"} to use a free port
+     * @throws IOException when the server cannot be created or the endpoints of the managers cannot be discovered
+     **/
+    public GitHubStandInServer(int port) throws IOException {
+        this(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+    }
+
+    /**
+     * Constructor to init a {@link GitHubStandInServer}
+     *
+     * @param address: address of the server
+     * @throws IOException when the server cannot be created or the endpoints of the managers cannot be discovered
+     **/
+    public GitHubStandInServer(InetSocketAddress address) throws IOException {
+        routes = new ConcurrentSkipListSet<>(GitHubRequestPathScanner.scan());
+        fixtures = new ConcurrentHashMap<>();
+        servedRequests = new AtomicLong();
+        requestIds = new AtomicLong();
+        errorStatusCode = 502;
+        coreRateLimit = new RateLimitWindow("core", DEFAULT_RATE_LIMIT, TimeUnit.HOURS.toMillis(1));
+        searchRateLimit = new RateLimitWindow("search", DEFAULT_SEARCH_RATE_LIMIT, TimeUnit.MINUTES.toMillis(1));
+        server = HttpServer.create(address, BACKLOG);
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "GitHubStandInServer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+    }
+
+    /**
+     * Method to start the server <br>
+     * No-any params required
+     **/
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Method to stop the server, the requests which are being served are interrupted <br>
+     * No-any params required
+     **/
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    /**
+     * Method to get the port of the server <br>
+     * No-any params required
+     *
+     * @return port of the server as int
+     **/
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Method to get the base endpoint of the server, to set as base endpoint of the managers with
+     * {@link com.tecknobit.githubmanager.GitHubManager#setDefaultBaseEndpoint(String)} <br>
+     * No-any params required
+     *
+     * @return base endpoint of the server as {@link String}, as {@code "http://127.0.0.1:8080/"}
+     **/
+    public String getBaseEndpoint() {
+        InetAddress address = server.getAddress().getAddress();
+        String host = address.isAnyLocalAddress() ? "localhost" : address.getHostAddress();
+        if (host.contains(":"))
+            host = "[" + host + "]";
+        return "http://" + host + ":" + getPort() + "/";
+    }
+
+    /**
+     * Method to get the endpoints served <br>
+     * No-any params required
+     *
+     * @return endpoints served, sorted from the most specific, as {@link List} of {@link StandInRoute}
+     **/
+    public List<StandInRoute> getRoutes() {
+        return new ArrayList<>(routes);
+    }
+
+    /**
+     * Method to add an endpoint to serve, as an endpoint of a custom manager
+     *
+     * @param method:      method of the endpoint
+     * @param requestPath: template of the endpoint, as {@code "/repos/{owner}/{repo}"}
+     **/
+    public void addRoute(RequestMethod method, String requestPath) {
+        routes.add(new StandInRoute(method, requestPath));
+    }
+
+    /**
+     * Method to add the endpoints of a manager to serve, as a custom manager
+     *
+     * @param manager: class of the manager
+     **/
+    public void addRoutes(Class<?> manager) {
+        routes.addAll(GitHubRequestPathScanner.scan(manager));
+    }
+
+    /**
+     * Method to set the fixture of an endpoint
+     *
+     * @param method:      method of the endpoint
+     * @param requestPath: template of the endpoint, as {@code "/repos/{owner}/{repo}"}
+     * @param fixture:     fixture of the endpoint
+     * @throws IllegalArgumentException when the endpoint is not served, add it with
+     *                                  {@link #addRoute(RequestMethod, String)} first
+     **/
+    public void setFixture(RequestMethod method, String requestPath, StandInFixture fixture) {
+        if (fixture == null)
+            throw new IllegalArgumentException("The fixture cannot be null");
+        fixtures.put(findRoute(method, requestPath), fixture);
+    }
+
+    /**
+     * Method to set the fixture of an endpoint, answered with the {@code "200"} status code
+     *
+     * @param method:      method of the endpoint
+     * @param requestPath: template of the endpoint, as {@code "/repos/{owner}/{repo}"}
+     * @param body:        file with the body of the response, can be a template
+     * @throws IOException              when the file cannot be read
+     * @throws IllegalArgumentException when the endpoint is not served, add it with
+     *                                  {@link #addRoute(RequestMethod, String)} first
+     **/
+    public void setFixture(RequestMethod method, String requestPath, Path body) throws IOException {
+        setFixture(method, requestPath, new StandInFixture(Files.readString(body, UTF_8)));
+    }
+
+    /**
+     * Method to remove the fixture of an endpoint, which is then answered with the default fixture
+     *
+     * @param method:      method of the endpoint
+     * @param requestPath: template of the endpoint, as {@code "/repos/{owner}/{repo}"}
+     **/
+    public void removeFixture(RequestMethod method, String requestPath) {
+        fixtures.remove(new StandInRoute(method, requestPath));
+    }
+
+    /**
+     * Method to set the fixture of the endpoints without a fixture
+     *
+     * @param defaultFixture: the fixture to use, {@code "null"} to answer with {@code "{}"}, or with {@code "204"} to
+     *                        the {@code "DELETE"} requests
+     **/
+    public void setDefaultFixture(StandInFixture defaultFixture) {
+        this.defaultFixture = defaultFixture;
+    }
+
+    /**
+     * Method to set the latency of the responses
+     *
+     * @param latency: time waited before answering to each request
+     * @param jitter:  maximum time randomly added to the latency
+     * @param unit:    unit of the times
+     **/
+    public void setLatency(long latency, long jitter, TimeUnit unit) {
+        if (latency < 0 || jitter < 0)
+            throw new IllegalArgumentException("The latency and its jitter cannot be negative");
+        this.latency = unit.toNanos(latency);
+        latencyJitter = unit.toNanos(jitter);
+    }
+
+    /**
+     * Method to inject errors in the responses
+     *
+     * @param errorRate:       rate of the requests answered with the error, from {@code "0"} to {@code "1"}, {@code "0"}
+     *                         to disable the injection
+     * @param errorStatusCode: status code of the errors, as {@code "502"}; {@code "403"} and {@code "429"} are
+     *                         answered as secondary rate limits, with the {@code "Retry-After"} header
+     **/
+    public void setErrorInjection(double errorRate, int errorStatusCode) {
+        if (errorRate < 0 || errorRate > 1)
+            throw new IllegalArgumentException("The rate of the errors must be between 0 and 1");
+        if (errorStatusCode < 400 || errorStatusCode > 599)
+            throw new IllegalArgumentException("The status code of the errors must be between 400 and 599");
+        this.errorStatusCode = errorStatusCode;
+        this.errorRate = errorRate;
+    }
+
+    /**
+     * Method to set the rate limit of the {@code "core"} resource, the requests already counted are reset
+     *
+     * @param limit:  number of the requests allowed in the window
+     * @param window: duration of the window
+     * @param unit:   unit of the duration
+     **/
+    public void setRateLimit(int limit, long window, TimeUnit unit) {
+        coreRateLimit = new RateLimitWindow("core", limit, unit.toMillis(window));
+    }
+
+    /**
+     * Method to set the rate limit of the {@code "search"} resource, the requests already counted are reset
+     *
+     * @param limit:  number of the requests allowed in the window
+     * @param window: duration of the window
+     * @param unit:   unit of the duration
+     **/
+    public void setSearchRateLimit(int limit, long window, TimeUnit unit) {
+        searchRateLimit = new RateLimitWindow("search", limit, unit.toMillis(window));
+    }
+
+    /**
+     * Method to get {@link #servedRequests} instance <br>
+     * No-any params required
+     *
+     * @return {@link #servedRequests} instance as long
+     **/
+    public long getServedRequests() {
+        return servedRequests.get();
+    }
+
+    /**
+     * Method to find an endpoint served
+     *
+     * @param method:      method of the endpoint
+     * @param requestPath: template of the endpoint
+     * @return endpoint as {@link StandInRoute}
+     * @throws IllegalArgumentException when the endpoint is not served
+     **/
+    private StandInRoute findRoute(RequestMethod method, String requestPath) {
+        StandInRoute route = new StandInRoute(method, requestPath);
+        if (!routes.contains(route))
+            throw new IllegalArgumentException("The endpoint " + method + " " + requestPath + " is not served");
+        return route;
+    }
+
+    /**
+     * Method to handle a request
+     *
+     * @param exchange: exchange of the request
+     * @throws IOException when the response cannot be sent
+     **/
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            exchange.getRequestBody().transferTo(OutputStream.nullOutputStream());
+            if (!waitLatency())
+                return;
+            servedRequests.incrementAndGet();
+            respond(exchange);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Method to wait the latency of a response <br>
+     * No-any params required
+     *
+     * @return whether the latency has been waited as boolean, {@code "false"} if the server is stopping
+     **/
+    private boolean waitLatency() {
+        long wait = latency;
+        if (latencyJitter > 0)
+            wait += ThreadLocalRandom.current().nextLong(latencyJitter + 1);
+        if (wait <= 0)
+            return true;
+        try {
+            TimeUnit.NANOSECONDS.sleep(wait);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Method to respond to a request
+     *
+     * @param exchange: exchange of the request
+     * @throws IOException when the response cannot be sent
+     **/
+    private void respond(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getRawPath();
+        if (path.length() > 1 && path.endsWith("/"))
+            path = path.substring(0, path.length() - 1);
+        String rawQuery = exchange.getRequestURI().getRawQuery();
+        Headers headers = exchange.getResponseHeaders();
+        headers.set("Content-Type", "application/json; charset=utf-8");
+        headers.set("X-GitHub-Api-Version", API_VERSION);
+        headers.set("X-GitHub-Request-Id", String.format("%08X:%08X", System.identityHashCode(this),
+                requestIds.incrementAndGet()));
+        RateLimitWindow rateLimit = path.startsWith(SEARCH_PATH) ? searchRateLimit : coreRateLimit;
+        RequestMethod method = getMethod(exchange.getRequestMethod());
+        StandInRoute route = null;
+        HashMap<String, String> variables = null;
+        if (method != null) {
+            for (StandInRoute candidate : routes) {
+                if (candidate.getMethod() == method && (variables = candidate.match(path)) != null) {
+                    route = candidate;
+                    break;
+                }
+            }
+        }
+        if (route == null) {
+            if (rateLimit.consume(headers, true))
+                sendError(exchange, 404, "Not Found");
+            else
+                sendRateLimitExceeded(exchange, rateLimit);
+            return;
+        }
+        StandInFixture fixture = fixtures.get(route);
+        if (fixture == null)
+            fixture = getDefaultFixture(method);
+        Map<String, String> values = getQueryValues(rawQuery);
+        values.putIfAbsent("page", "1");
+        values.putIfAbsent("per_page", String.valueOf(DEFAULT_PER_PAGE));
+        values.putAll(decode(variables));
+        String body = render(fixture.getBody(), values);
+        String eTag = body != null && fixture.getStatusCode() == 200 ? createETag(body) : null;
+        boolean notModified = method == GET && eTag != null
+                && isNotModified(exchange.getRequestHeaders().getFirst("If-None-Match"), eTag);
+        if (!rateLimit.consume(headers, !notModified)) {
+            sendRateLimitExceeded(exchange, rateLimit);
+            return;
+        }
+        double errorRate = this.errorRate;
+        if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+            sendInjectedError(exchange, errorStatusCode);
+            return;
+        }
+        if (eTag != null)
+            headers.set("ETag", eTag);
+        if (notModified) {
+            exchange.sendResponseHeaders(304, -1);
+            return;
+        }
+        fixture.getHeaders().forEach(headers::set);
+        if (method == GET && fixture.getPages() > 1) {
+            String link = createLink(exchange, path, rawQuery, values.get("page"), fixture.getPages());
+            if (link != null)
+                headers.set("Link", link);
+        }
+        send(exchange, fixture.getStatusCode(), body);
+    }
+
+    /**
+     * Method to get the method of a request
+     *
+     * @param method: name of the method
+     * @return method as {@link RequestMethod}, {@code "null"} if the method is not supported
+     **/
+    private RequestMethod getMethod(String method) {
+        try {
+            return RequestMethod.valueOf(method.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Method to get the fixture of an endpoint without a fixture
+     *
+     * @param method: method of the endpoint
+     * @return fixture as {@link StandInFixture}
+     **/
+    private StandInFixture getDefaultFixture(RequestMethod method) {
+        StandInFixture fixture = defaultFixture;
+        if (fixture != null)
+            return fixture;
+        if (method == DELETE)
+            return new StandInFixture(204, null);
+        return new StandInFixture(method == POST ? 201 : 200, "{}");
+    }
+
+    /**
+     * Method to get the values of the query of a request
+     *
+     * @param rawQuery: query of the request, can be {@code "null"}
+     * @return values of the query as {@link Map} of {@link String}
+     **/
+    private Map<String, String> getQueryValues(String rawQuery) {
+        HashMap<String, String> values = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty())
+            return values;
+        for (String parameter : rawQuery.split("&")) {
+            int separator = parameter.indexOf('=');
+            if (separator > 0) {
+                values.put(URLDecoder.decode(parameter.substring(0, separator), UTF_8),
+                        URLDecoder.decode(parameter.substring(separator + 1), UTF_8));
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Method to decode the values of the variables of a path
+     *
+     * @param variables: values of the variables to decode
+     * @return values decoded as {@link Map} of {@link String}
+     **/
+    private Map<String, String> decode(Map<String, String> variables) {
+        HashMap<String, String> values = new HashMap<>();
+        variables.forEach((name, value) -> values.put(name, URLDecoder.decode(value.replace("+", "%2B"), UTF_8)));
+        return values;
+    }
+
+    /**
+     * Method to render the template of a fixture
+     *
+     * @param template: template to render, can be {@code "null"}
+     * @param values:   values of the placeholders
+     * @return template rendered as {@link String}, the values are escaped to be placed in a {@code "JSON"} string and
+     * the placeholders without a value are not replaced
+     **/
+    private String render(String template, Map<String, String> values) {
+        if (template == null || !template.contains("${"))
+            return template;
+        Matcher matcher = PLACEHOLDER.matcher(template);
+        StringBuilder rendered = new StringBuilder(template.length());
+        while (matcher.find()) {
+            String value = values.get(matcher.group(1));
+            if (value == null)
+                value = matcher.group();
+            else {
+                value = JSONObject.quote(value);
+                value = value.substring(1, value.length() - 1);
+            }
+            matcher.appendReplacement(rendered, Matcher.quoteReplacement(value));
+        }
+        matcher.appendTail(rendered);
+        return rendered.toString();
+    }
+
+    /**
+     * Method to create the {@code "ETag"} of a body
+     *
+     * @param body: body from create the {@code "ETag"}
+     * @return {@code "ETag"} as {@link String}
+     **/
+    private String createETag(String body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body.getBytes(UTF_8));
+            StringBuilder eTag = new StringBuilder("W/\"");
+            for (byte b : digest)
+                eTag.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+            return eTag.append('"').toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Method to get whether a request has already the current version of a body
+     *
+     * @param ifNoneMatch: {@code "If-None-Match"} header of the request, can be {@code "null"}
+     * @param eTag:        {@code "ETag"} of the body
+     * @return whether the request has already the current version of the body as boolean
+     **/
+    private boolean isNotModified(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null)
+            return false;
+        String opaqueTag = eTag.substring(2);
+        for (String tag : ifNoneMatch.split(",")) {
+            tag = tag.trim();
+            if (tag.equals("*") || tag.equals(eTag) || tag.equals(opaqueTag))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Method to create the {@code "Link"} header of a page
+     *
+     * @param exchange: exchange of the request
+     * @param path:     path of the request
+     * @param rawQuery: query of the request, can be {@code "null"}
+     * @param page:     page requested
+     * @param pages:    number of the pages
+     * @return {@code "Link"} header as {@link String}, {@code "null"} if the page has no links
+     **/
+    private String createLink(HttpExchange exchange, String path, String rawQuery, String page, int pages) {
+        int current;
+        try {
+            current = Integer.parseInt(page);
+        } catch (NumberFormatException e) {
+            current = 1;
+        }
+        String host = exchange.getRequestHeaders().getFirst("Host");
+        if (host == null)
+            host = getBaseEndpoint().substring("http://".length(), getBaseEndpoint().length() - 1);
+        StringBuilder query = new StringBuilder();
+        if (rawQuery != null) {
+            for (String parameter : rawQuery.split("&")) {
+                if (!parameter.isEmpty() && !parameter.startsWith("page="))
+                    query.append(parameter).append("&");
+            }
+        }
+        String base = "http://" + host + path + "?" + query + "page=";
+        ArrayList<String> links = new ArrayList<>();
+        if (current > 1)
+            links.add("<" + base + Math.min(current - 1, pages) + ">; rel=\"prev\"");
+        if (current < pages) {
+            links.add("<" + base + (current + 1) + ">; rel=\"next\"");
+            links.add("<" + base + pages + ">; rel=\"last\"");
+        }
+        if (current > 1)
+            links.add("<" + base + 1 + ">; rel=\"first\"");
+        return links.isEmpty() ? null : String.join(", ", links);
+    }
+
+    /**
+     * Method to answer to a request which exceeded the rate limit
+     *
+     * @param exchange:  exchange of the request
+     * @param rateLimit: the rate limit exceeded
+     * @throws IOException when the response cannot be sent
+     **/
+    private void sendRateLimitExceeded(HttpExchange exchange, RateLimitWindow rateLimit) throws IOException {
+        sendError(exchange, 403, "API rate limit exceeded for the " + rateLimit.resource + " resource.");
+    }
+
+    /**
+     * Method to answer to a request with an injected error
+     *
+     * @param exchange:   exchange of the request
+     * @param statusCode: status code of the error
+     * @throws IOException when the response cannot be sent
+     **/
+    private void sendInjectedError(HttpExchange exchange, int statusCode) throws IOException {
+        String message;
+        switch (statusCode) {
+            case 403:
+            case 429:
+                exchange.getResponseHeaders().set("Retry-After", "1");
+                message = "You have exceeded a secondary rate limit. Please wait a few minutes before you try again.";
+                break;
+            case 500:
+                message = "Server Error";
+                break;
+            case 502:
+                message = "Bad Gateway";
+                break;
+            case 503:
+                message = "Service Unavailable";
+                break;
+            default:
+                message = "Injected error";
+        }
+        sendError(exchange, statusCode, message);
+    }
+
+    /**
+     * Method to answer to a request with an error
+     *
+     * @param exchange:   exchange of the request
+     * @param statusCode: status code of the error
+     * @param message:    message of the error
+     * @throws IOException when the response cannot be sent
+     **/
+    private void sendError(HttpExchange exchange, int statusCode, String message) throws IOException {
+        send(exchange, statusCode, new JSONObject()
+                .put("message", message)
+                .put("documentation_url", DOCUMENTATION_URL)
+                .toString());
+    }
+
+    /**
+     * Method to send a response
+     *
+     * @param exchange:   exchange of the request
+     * @param statusCode: status code of the response
+     * @param body:       body of the response, {@code "null"} for an empty body
+     * @throws IOException when the response cannot be sent
+     **/
+    private void send(HttpExchange exchange, int statusCode, String body) throws IOException {
+        byte[] bytes = body != null ? body.getBytes(UTF_8) : new byte[0];
+        boolean empty = bytes.length == 0 || statusCode == 204 || statusCode == 304
+                || exchange.getRequestMethod().equalsIgnoreCase("HEAD");
+        exchange.sendResponseHeaders(statusCode, empty ? -1 : bytes.length);
+        if (!empty) {
+            try (OutputStream responseBody = exchange.getResponseBody()) {
+                responseBody.write(bytes);
+            }
+        }
+    }
+
+    /**
+     * The {@code RateLimitWindow} class is useful to count the requests of a resource of the rate limit in a window
+     * of time, as {@code "GitHub"} does
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     **/
+    private static final class RateLimitWindow {
+
+        /**
+         * {@code resource} name of the resource
+         **/
+        private final String resource;
+
+        /**
+         * {@code limit} number of the requests allowed in the window
+         **/
+        private final int limit;
+
+        /**
+         * {@code window} duration of the window in milliseconds
+         **/
+        private final long window;
+
+        /**
+         * {@code used} number of the requests counted in the current window
+         **/
+        private int used;
+
+        /**
+         * {@code reset} time in milliseconds when the current window ends
+         **/
+        private long reset;
+
+        /**
+         * Constructor to init a {@link RateLimitWindow}
+         *
+         * @param resource: name of the resource
+         * @param limit:    number of the requests allowed in the window
+         * @param window:   duration of the window in milliseconds
+         **/
+        private RateLimitWindow(String resource, int limit, long window) {
+            if (limit < 0 || window <= 0)
+                throw new IllegalArgumentException("The limit cannot be negative and the window must be positive");
+            this.resource = resource;
+            this.limit = limit;
+            this.window = window;
+        }
+
+        /**
+         * Method to count a request and set the {@code "X-RateLimit-*"} headers of its response
+         *
+         * @param headers: headers of the response
+         * @param counted: whether the request is counted
+         * @return whether the request is allowed as boolean
+         **/
+        private synchronized boolean consume(Headers headers, boolean counted) {
+            long now = System.currentTimeMillis();
+            if (now >= reset) {
+                used = 0;
+                reset = now + window;
+            }
+            boolean allowed = true;
+            if (counted) {
+                if (used < limit)
+                    used++;
+                else
+                    allowed = false;
+            }
+            headers.set("X-RateLimit-Limit", String.valueOf(limit));
+            headers.set("X-RateLimit-Remaining", String.valueOf(limit - used));
+            headers.set("X-RateLimit-Reset", String.valueOf((reset + 999) / 1000));
+            headers.set("X-RateLimit-Used", String.valueOf(used));
+            headers.set("X-RateLimit-Resource", resource);
+            return allowed;
+        }
+
+    }
+
+}
@@ -0,0 +1,143 @@
+package com.tecknobit.githubmanager.standin.records;
+
+import org.json.JSONObject;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The {@code StandInFixture} class is useful to format the response given by a
+ * {@link com.tecknobit.githubmanager.standin.GitHubStandInServer} to the requests of an endpoint <br>
+ * The body can be a template with the {@code "${name}"} placeholders, replaced with the values of the variables of
+ * the path of the request, as {@code "${owner}"}, or with the values of its query, as {@code "${page}"}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ **/
+public final class StandInFixture {
+
+    /**
+     * {@code statusCode} status code of the response
+     **/
+    private final int statusCode;
+
+    /**
+     * {@code body} body of the response, can be a template
+     **/
+    private final String body;
+
+    /**
+     * {@code pages} number of the pages of the endpoint, announced with the {@code "Link"} header when it is greater
+     * than {@code "1"}
+     **/
+    private final int pages;
+
+    /**
+     * {@code headers} additional headers of the response
+     **/
+    private final Map<String, String> headers;
+
+    /**
+     * Constructor to init a {@link StandInFixture} with the {@code "200"} status code
+     *
+     * @param body: body of the response, can be a template
+     **/
+    public StandInFixture(String body) {
+        this(200, body, 1, null);
+    }
+
+    /**
+     * Constructor to init a {@link StandInFixture}
+     *
+     * @param statusCode: status code of the response
+     * @param body:       body of the response, can be a template
+     **/
+    public StandInFixture(int statusCode, String body) {
+        this(statusCode, body, 1, null);
+    }
+
+    /**
+     * Constructor to init a {@link StandInFixture}
+     *
+     * @param statusCode: status code of the response
+     * @param body:       body of the response, can be a template
+     * @param pages:      number of the pages of the endpoint, announced with the {@code "Link"} header when it is
+     *                    greater than {@code "1"}
+     **/
+    public StandInFixture(int statusCode, String body, int pages) {
+        this(statusCode, body, pages, null);
+    }
+
+    /**
+     * Constructor to init a {@link StandInFixture}
+     *
+     * @param statusCode: status code of the response
+     * @param body:       body of the response, can be a template, {@code "null"} for an empty body
+     * @param pages:      number of the pages of the endpoint, announced with the {@code "Link"} header when it is
+     *                    greater than {@code "1"}
+     * @param headers:    additional headers of the response, can be {@code "null"}
+     **/
+    public StandInFixture(int statusCode, String body, int pages, Map<String, String> headers) {
+        if (statusCode < 100 || statusCode > 599)
+            throw new IllegalArgumentException("The status code must be between 100 and 599");
+        if (pages < 1)
+            throw new IllegalArgumentException("The pages must be at least 1");
+        this.statusCode = statusCode;
+        this.body = body;
+        this.pages = pages;
+        this.headers = headers != null ? Collections.unmodifiableMap(new LinkedHashMap<>(headers))
+                : Collections.emptyMap();
+    }
+
+    /**
+     * Method to get {@link #statusCode} instance <br>
+     * No-any params required
+     *
+     * @return {@link #statusCode} instance as int
+     **/
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * Method to get {@link #body} instance <br>
+     * No-any params required
+     *
+     * @return {@link #body} instance as {@link String}
+     **/
+    public String getBody() {
+        return body;
+    }
+
+    /**
+     * Method to get {@link #pages} instance <br>
+     * No-any params required
+     *
+     * @return {@link #pages} instance as int
+     **/
+    public int getPages() {
+        return pages;
+    }
+
+    /**
+     * Method to get {@link #headers} instance <br>
+     * No-any params required
+     *
+     * @return {@link #headers} instance as {@link Map} of {@link String}
+     **/
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Returns a string representation of the object <br>
+     * No-any params required
+     *
+     * @return a string representation of the object as {@link String}
+     */
+    @Override
+    public String toString() {
+        return new JSONObject(this).toString();
+    }
+
+}
@@ -0,0 +1,191 @@
+package com.tecknobit.githubmanager.standin.records;
+
+import com.tecknobit.apimanager.apis.APIRequest.RequestMethod;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The {@code StandInRoute} class is useful to format an endpoint served by a
+ * {@link com.tecknobit.githubmanager.standin.GitHubStandInServer}, created from the template of a
+ * {@link com.tecknobit.apimanager.annotations.RequestPath} annotation, as {@code "/repos/{owner}/{repo}"}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote the variables of the template match a single segment of a path, except {@code "{path}"} and
+ * {@code "{ref}"} which can have slashes, as {@code "heads/main"}
+ **/
+public final class StandInRoute implements Comparable<StandInRoute> {
+
+    /**
+     * {@code VARIABLE} pattern of a variable of a template
+     **/
+    private static final Pattern VARIABLE = Pattern.compile("\\{([^}/]+)}");
+
+    /**
+     * {@code method} method of the endpoint
+     **/
+    private final RequestMethod method;
+
+    /**
+     * {@code requestPath} template of the endpoint, as {@code "/repos/{owner}/{repo}"}
+     **/
+    private final String requestPath;
+
+    /**
+     * {@code variables} names of the variables of the template, in their order
+     **/
+    private final ArrayList<String> variables;
+
+    /**
+     * {@code pattern} pattern which matches the paths of the endpoint
+     **/
+    private final Pattern pattern;
+
+    /**
+     * {@code literalLength} number of the characters of the template which are not variables, used to try the most
+     * specific routes first
+     **/
+    private final int literalLength;
+
+    /**
+     * Constructor to init a {@link StandInRoute}
+     *
+     * @param method:      method of the endpoint
+     * @param requestPath: template of the endpoint, as {@code "/repos/{owner}/{repo}"}
+     **/
+    public StandInRoute(RequestMethod method, String requestPath) {
+        if (method == null || requestPath == null)
+            throw new IllegalArgumentException("The method and the template of the route cannot be null");
+        if (!requestPath.startsWith("/"))
+            requestPath = "/" + requestPath;
+        if (requestPath.length() > 1 && requestPath.endsWith("/"))
+            requestPath = requestPath.substring(0, requestPath.length() - 1);
+        this.method = method;
+        this.requestPath = requestPath;
+        variables = new ArrayList<>();
+        StringBuilder regex = new StringBuilder();
+        Matcher matcher = VARIABLE.matcher(requestPath);
+        int literals = 0;
+        int last = 0;
+        while (matcher.find()) {
+            regex.append(Pattern.quote(requestPath.substring(last, matcher.start())));
+            literals += matcher.start() - last;
+            String variable = matcher.group(1);
+            variables.add(variable);
+            regex.append(variable.equals("path") || variable.equals("ref") ? "(.+)" : "([^/]+)");
+            last = matcher.end();
+        }
+        regex.append(Pattern.quote(requestPath.substring(last)));
+        literalLength = literals + requestPath.length() - last;
+        pattern = Pattern.compile(regex.toString());
+    }
+
+    /**
+     * Method to match a path with the route
+     *
+     * @param path: path to match, without the query
+     * @return values of the variables of the template as {@link HashMap} of {@link String}, {@code "null"} if the
+     * path does not match the route
+     **/
+    public HashMap<String, String> match(String path) {
+        Matcher matcher = pattern.matcher(path);
+        if (!matcher.matches())
+            return null;
+        HashMap<String, String> values = new HashMap<>();
+        for (int j = 0; j < variables.size(); j++)
+            values.put(variables.get(j), matcher.group(j + 1));
+        return values;
+    }
+
+    /**
+     * Method to get {@link #method} instance <br>
+     * No-any params required
+     *
+     * @return {@link #method} instance as {@link RequestMethod}
+     **/
+    public RequestMethod getMethod() {
+        return method;
+    }
+
+    /**
+     * Method to get {@link #requestPath} instance <br>
+     * No-any params required
+     *
+     * @return {@link #requestPath} instance as {@link String}
+     **/
+    public String getRequestPath() {
+        return requestPath;
+    }
+
+    /**
+     * Method to get {@link #variables} instance <br>
+     * No-any params required
+     *
+     * @return {@link #variables} instance as {@link List} of {@link String}
+     **/
+    public List<String> getVariables() {
+        return Collections.unmodifiableList(variables);
+    }
+
+    /**
+     * Method to compare the specificity of two routes, the routes with more characters which are not variables come
+     * first
+     *
+     * @param route: route to compare
+     * @return result of the comparison as int
+     **/
+    @Override
+    public int compareTo(StandInRoute route) {
+        int compare = Integer.compare(route.literalLength, literalLength);
+        if (compare != 0)
+            return compare;
+        compare = requestPath.compareTo(route.requestPath);
+        if (compare != 0)
+            return compare;
+        return method.compareTo(route.method);
+    }
+
+    /**
+     * Method to get whether an object is equal to this route
+     *
+     * @param o: object to compare
+     * @return whether the object is a route with the same method and template as boolean
+     **/
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof StandInRoute))
+            return false;
+        StandInRoute route = (StandInRoute) o;
+        return method == route.method && requestPath.equals(route.requestPath);
+    }
+
+    /**
+     * Method to get the hash code of the route <br>
+     * No-any params required
+     *
+     * @return hash code as int
+     **/
+    @Override
+    public int hashCode() {
+        return 31 * method.hashCode() + requestPath.hashCode();
+    }
+
+    /**
+     * Returns a string representation of the object <br>
+     * No-any params required
+     *
+     * @return a string representation of the object as {@link String}
+     */
+    @Override
+    public String toString() {
+        return new JSONObject(this).toString();
+    }
+
+}
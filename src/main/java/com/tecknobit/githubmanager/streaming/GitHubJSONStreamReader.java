@@ -0,0 +1,161 @@
+package com.tecknobit.githubmanager.streaming;
+
+import com.tecknobit.githubmanager.transport.GitHubBodyReader;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The {@code GitHubJSONStreamReader} class is useful to read the lists of a {@code "JSON"} body while it is received,
+ * one item at a time <br>
+ * The body is never stored as a whole {@link String} and the whole {@code "JSON"} tree is never built: only the item
+ * currently read is parsed as {@link JSONObject} before being converted in its record, so a large page is never held
+ * in memory twice
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see GitHubBodyReader
+ **/
+public class GitHubJSONStreamReader {
+
+    /**
+     * Constructor to init a {@link GitHubJSONStreamReader} <br>
+     * No-any params required
+     *
+     * @apiNote this class has only static methods
+     **/
+    private GitHubJSONStreamReader() {
+    }
+
+    /**
+     * Method to create a reader of a body which is a {@code "JSON"} array of items
+     *
+     * @param itemCreator: function to create an item from its {@code "JSON"} details
+     * @return reader as {@link GitHubBodyReader} of {@link ArrayList} of {@link T}
+     **/
+    public static <T> GitHubBodyReader<ArrayList<T>> readList(Function<JSONObject, T> itemCreator) {
+        return body -> {
+            ArrayList<T> items = new ArrayList<>();
+            forEach(body, null, null, jItem -> items.add(itemCreator.apply(jItem)));
+            return items;
+        };
+    }
+
+    /**
+     * Method to create a reader of a body which is a {@code "JSON"} object with a list of items, as
+     * {@code {"total_count": 2, "workflow_runs": [...]}}
+     *
+     * @param listKey:     key of the list of items in the object
+     * @param itemCreator: function to create an item from its {@code "JSON"} details
+     * @param listCreator: function to create the result from the other values of the object and the items
+     * @return reader as {@link GitHubBodyReader} of {@link L}
+     **/
+    public static <T, L> GitHubBodyReader<L> readObjectList(String listKey, Function<JSONObject, T> itemCreator,
+                                                            BiFunction<JSONObject, ArrayList<T>, L> listCreator) {
+        return body -> {
+            ArrayList<T> items = new ArrayList<>();
+            JSONObject values = new JSONObject();
+            forEach(body, listKey, values, jItem -> items.add(itemCreator.apply(jItem)));
+            return listCreator.apply(values, items);
+        };
+    }
+
+    /**
+     * Method to read the items of a {@code "JSON"} body one at a time
+     *
+     * @param body:    body to read
+     * @param listKey: key of the list of items when the body is an object, {@code "null"} when the body is an array
+     * @param values:  object where store the other values of the body when it is an object, can be {@code "null"}
+     * @param action:  action to perform on each item
+     * @throws IOException when the body is not a valid {@code "JSON"} value or it cannot be read
+     **/
+    public static void forEach(InputStream body, String listKey, JSONObject values,
+                               Consumer<JSONObject> action) throws IOException {
+        JSONTokener tokener = new JSONTokener(new InputStreamReader(body, UTF_8));
+        try {
+            if (listKey == null)
+                readArray(tokener, action);
+            else
+                readObject(tokener, listKey, values, action);
+        } catch (JSONException e) {
+            if (e.getCause() instanceof IOException)
+                throw (IOException) e.getCause();
+            throw new IOException("The body is not a valid JSON value: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Method to read an object which contains a list of items
+     *
+     * @param tokener: tokener from read the object
+     * @param listKey: key of the list of items in the object
+     * @param values:  object where store the other values of the object, can be {@code "null"}
+     * @param action:  action to perform on each item
+     **/
+    private static void readObject(JSONTokener tokener, String listKey, JSONObject values,
+                                   Consumer<JSONObject> action) {
+        if (tokener.nextClean() != '{')
+            throw tokener.syntaxError("A JSONObject text must begin with '{'");
+        char next = tokener.nextClean();
+        if (next == '}')
+            return;
+        tokener.back();
+        while (true) {
+            String key = tokener.nextValue().toString();
+            if (tokener.nextClean() != ':')
+                throw tokener.syntaxError("Expected a ':' after a key");
+            if (key.equals(listKey)) {
+                next = tokener.nextClean();
+                tokener.back();
+                if (next == '[')
+                    readArray(tokener, action);
+                else
+                    tokener.nextValue();
+            } else {
+                Object value = tokener.nextValue();
+                if (values != null)
+                    values.put(key, value);
+            }
+            next = tokener.nextClean();
+            if (next == '}')
+                return;
+            if (next != ',')
+                throw tokener.syntaxError("Expected a ',' or '}'");
+        }
+    }
+
+    /**
+     * Method to read an array of items
+     *
+     * @param tokener: tokener from read the array
+     * @param action:  action to perform on each item
+     **/
+    private static void readArray(JSONTokener tokener, Consumer<JSONObject> action) {
+        if (tokener.nextClean() != '[')
+            throw tokener.syntaxError("A JSONArray text must start with '['");
+        char next = tokener.nextClean();
+        if (next == ']')
+            return;
+        tokener.back();
+        while (true) {
+            Object item = tokener.nextValue();
+            if (item instanceof JSONObject)
+                action.accept((JSONObject) item);
+            next = tokener.nextClean();
+            if (next == ']')
+                return;
+            if (next != ',')
+                throw tokener.syntaxError("Expected a ',' or ']'");
+        }
+    }
+
+}
@@ -0,0 +1,304 @@
+package com.tecknobit.githubmanager.streaming;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterInputStream;
+
+/**
+ * The {@code GitHubStreamEncoder} class is useful to encode a stream while it is read, as the bodies of the uploads
+ * which must be compressed or encoded in {@code "Base64"} <br>
+ * Only a small buffer is held in memory, so the size of the stream encoded does not change the memory used
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see com.tecknobit.githubmanager.transport.GitHubRequestBody
+ **/
+public class GitHubStreamEncoder {
+
+    /**
+     * {@code BUFFER_SIZE} size of the buffers used to encode the streams, a multiple of three so each chunk encoded in
+     * {@code "Base64"} has no padding
+     **/
+    private static final int BUFFER_SIZE = 3 * 4096;
+
+    /**
+     * {@code GZIP_HEADER} header of a {@code "gzip"} stream compressed with {@code "deflate"}, without any optional
+     * field
+     **/
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+
+    /**
+     * Constructor to init a {@link GitHubStreamEncoder} <br>
+     * No-any params required
+     *
+     * @apiNote this class has only static methods
+     **/
+    private GitHubStreamEncoder() {
+    }
+
+    /**
+     * Method to compress a stream with {@code "gzip"} while it is read
+     *
+     * @param source: stream to compress, it is closed when the compressed stream is closed
+     * @return compressed stream as {@link InputStream}
+     **/
+    public static InputStream gzip(InputStream source) {
+        return new GzipInputStream(source);
+    }
+
+    /**
+     * Method to encode a stream in {@code "Base64"} while it is read
+     *
+     * @param source: stream to encode, it is closed when the encoded stream is closed
+     * @return encoded stream as {@link InputStream}
+     **/
+    public static InputStream base64(InputStream source) {
+        return new Base64InputStream(source);
+    }
+
+    /**
+     * Method to get the length of a stream encoded in {@code "Base64"}
+     *
+     * @param length: number of the bytes of the stream to encode
+     * @return number of the bytes of the stream encoded as long
+     **/
+    public static long getBase64Length(long length) {
+        return 4 * ((length + 2) / 3);
+    }
+
+    /**
+     * The {@code GzipInputStream} class is useful to compress a stream with {@code "gzip"} while it is read, writing
+     * the header, the {@code "deflate"} data and the trailer with the checksum of the source
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     **/
+    private static class GzipInputStream extends InputStream {
+
+        /**
+         * {@code checksum} checksum of the bytes read from the source
+         **/
+        private final CRC32 checksum;
+
+        /**
+         * {@code deflater} the deflater which compresses the source
+         **/
+        private final Deflater deflater;
+
+        /**
+         * {@code data} the source compressed with {@code "deflate"}
+         **/
+        private final DeflaterInputStream data;
+
+        /**
+         * {@code frame} the header and then the trailer to read, {@code "null"} while the data are read
+         **/
+        private byte[] frame;
+
+        /**
+         * {@code framePosition} position of the next byte of {@link #frame} to read
+         **/
+        private int framePosition;
+
+        /**
+         * {@code trailer} whether the trailer has been created
+         **/
+        private boolean trailer;
+
+        /**
+         * Constructor to init a {@link GzipInputStream}
+         *
+         * @param source: stream to compress
+         **/
+        private GzipInputStream(InputStream source) {
+            checksum = new CRC32();
+            deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+            data = new DeflaterInputStream(new CheckedInputStream(source, checksum), deflater, BUFFER_SIZE);
+            frame = GZIP_HEADER;
+        }
+
+        /**
+         * Method to read the next byte of the compressed stream <br>
+         * No-any params required
+         *
+         * @return next byte as int, {@code "-1"} at the end of the stream
+         * @throws IOException when the source cannot be read
+         **/
+        @Override
+        public int read() throws IOException {
+            byte[] b = new byte[1];
+            int read = read(b, 0, 1);
+            return read == -1 ? -1 : b[0] & 0xff;
+        }
+
+        /**
+         * Method to read the next bytes of the compressed stream
+         *
+         * @param b:   buffer where store the bytes read
+         * @param off: offset of the buffer where store the first byte
+         * @param len: maximum number of the bytes to read
+         * @return number of the bytes read as int, {@code "-1"} at the end of the stream
+         * @throws IOException when the source cannot be read
+         **/
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0)
+                return 0;
+            while (true) {
+                if (frame != null) {
+                    if (framePosition < frame.length) {
+                        int read = Math.min(len, frame.length - framePosition);
+                        System.arraycopy(frame, framePosition, b, off, read);
+                        framePosition += read;
+                        return read;
+                    }
+                    if (trailer)
+                        return -1;
+                    frame = null;
+                }
+                int read = data.read(b, off, len);
+                if (read != -1)
+                    return read;
+                frame = createTrailer();
+                framePosition = 0;
+                trailer = true;
+            }
+        }
+
+        /**
+         * Method to create the trailer of the compressed stream <br>
+         * No-any params required
+         *
+         * @return trailer as array of byte
+         **/
+        private byte[] createTrailer() {
+            long crc = checksum.getValue();
+            long size = deflater.getBytesRead();
+            return new byte[]{(byte) crc, (byte) (crc >> 8), (byte) (crc >> 16), (byte) (crc >> 24), (byte) size,
+                    (byte) (size >> 8), (byte) (size >> 16), (byte) (size >> 24)};
+        }
+
+        /**
+         * Method to close the compressed stream and its source <br>
+         * No-any params required
+         *
+         * @throws IOException when the source cannot be closed
+         **/
+        @Override
+        public void close() throws IOException {
+            try {
+                data.close();
+            } finally {
+                deflater.end();
+            }
+        }
+
+    }
+
+    /**
+     * The {@code Base64InputStream} class is useful to encode a stream in {@code "Base64"} while it is read, a chunk
+     * of the source at a time
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     **/
+    private static class Base64InputStream extends InputStream {
+
+        /**
+         * {@code source} stream to encode
+         **/
+        private final InputStream source;
+
+        /**
+         * {@code chunk} buffer of the bytes of the source to encode
+         **/
+        private final byte[] chunk;
+
+        /**
+         * {@code encoded} the current chunk encoded
+         **/
+        private byte[] encoded;
+
+        /**
+         * {@code position} position of the next byte of {@link #encoded} to read
+         **/
+        private int position;
+
+        /**
+         * {@code ended} whether the source has been read until its end
+         **/
+        private boolean ended;
+
+        /**
+         * Constructor to init a {@link Base64InputStream}
+         *
+         * @param source: stream to encode
+         **/
+        private Base64InputStream(InputStream source) {
+            this.source = source;
+            chunk = new byte[BUFFER_SIZE];
+            encoded = new byte[0];
+        }
+
+        /**
+         * Method to read the next byte of the encoded stream <br>
+         * No-any params required
+         *
+         * @return next byte as int, {@code "-1"} at the end of the stream
+         * @throws IOException when the source cannot be read
+         **/
+        @Override
+        public int read() throws IOException {
+            byte[] b = new byte[1];
+            int read = read(b, 0, 1);
+            return read == -1 ? -1 : b[0] & 0xff;
+        }
+
+        /**
+         * Method to read the next bytes of the encoded stream
+         *
+         * @param b:   buffer where store the bytes read
+         * @param off: offset of the buffer where store the first byte
+         * @param len: maximum number of the bytes to read
+         * @return number of the bytes read as int, {@code "-1"} at the end of the stream
+         * @throws IOException when the source cannot be read
+         **/
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0)
+                return 0;
+            if (position == encoded.length) {
+                if (ended)
+                    return -1;
+                // the chunks are filled up to a multiple of three bytes, so only the last one can have the padding
+                int filled = source.readNBytes(chunk, 0, chunk.length);
+                if (filled < chunk.length)
+                    ended = true;
+                if (filled == 0)
+                    return -1;
+                encoded = Base64.getEncoder().encode(filled == chunk.length ? chunk :
+                        Arrays.copyOf(chunk, filled));
+                position = 0;
+            }
+            int read = Math.min(len, encoded.length - position);
+            System.arraycopy(encoded, position, b, off, read);
+            position += read;
+            return read;
+        }
+
+        /**
+         * Method to close the encoded stream and its source <br>
+         * No-any params required
+         *
+         * @throws IOException when the source cannot be closed
+         **/
+        @Override
+        public void close() throws IOException {
+            source.close();
+        }
+
+    }
+
+}
@@ -313,6 +313,7 @@ public class GitHubTeamMembersManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/teams/{team_slug}/invitations")
     public <T> T getPendingTeamInvitations(String org, String teamSlug, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnEntityInvitations(sendGetRequest(ORGS_PATH + org + TEAMS_PATH + "/" + teamSlug
                 + INVITATIONS_PATH), format);
     }
@@ -616,6 +617,7 @@ public class GitHubTeamMembersManager extends GitHubManager {
     @RequestPath(method = GET, path = "/orgs/{org}/teams/{team_slug}/invitations")
     public <T> T getPendingTeamInvitations(String org, String teamSlug, Params queryParams,
                                            ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnEntityInvitations(sendGetRequest(ORGS_PATH + org + TEAMS_PATH + "/" + teamSlug
                 + INVITATIONS_PATH + queryParams.createQueryString()), format);
     }
@@ -839,6 +841,7 @@ public class GitHubTeamMembersManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/teams/{team_slug}/members")
     public <T> T getTeamMembers(String org, String teamSlug, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnUsersList(sendGetRequest(ORGS_PATH + org + TEAMS_PATH + "/" + teamSlug
                 + MEMBERS_PATH), format);
     }
@@ -1136,6 +1139,7 @@ public class GitHubTeamMembersManager extends GitHubManager {
     @RequestPath(method = GET, path = "/orgs/{org}/teams/{team_slug}/members")
     public <T> T getTeamMembers(String org, String teamSlug, Params queryParams,
                                 ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnUsersList(sendGetRequest(ORGS_PATH + org + TEAMS_PATH + "/" + teamSlug
                 + MEMBERS_PATH + queryParams.createQueryString()), format);
     }
@@ -1368,6 +1372,7 @@ public class GitHubTeamMembersManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/teams/{team_slug}/memberships/{username}")
     public <T> T getUserTeamMembership(String org, String teamSlug, String username, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnTeamMembership(sendGetRequest(ORGS_PATH + org + TEAMS_PATH + "/" + teamSlug
                 + MEMBERSHIPS_PATH + username), format);
     }
@@ -1623,6 +1628,7 @@ public class GitHubTeamMembersManager extends GitHubManager {
     @RequestPath(method = PUT, path = "/orgs/{org}/teams/{team_slug}/memberships/{username}")
     public <T> T workWithUserTeamMembership(String org, String teamSlug, String username, TeamRole role,
                                             ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("role", role);
         return returnTeamMembership(sendPutRequest(ORGS_PATH + org + TEAMS_PATH + "/" + teamSlug
@@ -1718,7 +1724,7 @@ public class GitHubTeamMembersManager extends GitHubManager {
     public boolean removeUserTeamMembership(String org, String teamSlug, String username) {
         try {
             sendDeleteRequest(ORGS_PATH + org + TEAMS_PATH + "/" + teamSlug + MEMBERSHIPS_PATH + username);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
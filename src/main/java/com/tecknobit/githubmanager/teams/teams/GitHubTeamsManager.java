@@ -204,6 +204,7 @@ public class GitHubTeamsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/teams")
     public <T> T getTeams(String org, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnTeamsList(sendGetRequest(ORGS_PATH + org + TEAMS_PATH), format);
     }
 
@@ -346,6 +347,7 @@ public class GitHubTeamsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/teams")
     public <T> T getTeams(String org, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnTeamsList(sendGetRequest(ORGS_PATH + org + TEAMS_PATH + queryParams.createQueryString()),
                 format);
     }
@@ -719,6 +721,7 @@ public class GitHubTeamsManager extends GitHubManager {
      **/
     @RequestPath(method = POST, path = "/orgs/{org}/teams")
     public <T> T createTeam(String org, String name, Params bodyParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         if (bodyParams == null)
             bodyParams = new Params();
         bodyParams.addParam("name", name);
@@ -832,6 +835,7 @@ public class GitHubTeamsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/teams/{team_slug}")
     public <T> T getTeamByName(String org, String teamSlug, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnTeam(sendGetRequest(ORGS_PATH + org + TEAMS_PATH + "/" + teamSlug), format);
     }
 
@@ -1318,6 +1322,7 @@ public class GitHubTeamsManager extends GitHubManager {
      **/
     @RequestPath(method = PATCH, path = "/orgs/{org}/teams/{team_slug}")
     public <T> T updateTeam(String org, String teamSlug, Params bodyParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnTeam(sendPatchRequest(ORGS_PATH + org + TEAMS_PATH + "/" + teamSlug, bodyParams), format);
     }
 
@@ -1402,7 +1407,7 @@ public class GitHubTeamsManager extends GitHubManager {
     public boolean deleteTeam(String org, String teamSlug) {
         try {
             sendDeleteRequest(ORGS_PATH + org + TEAMS_PATH + "/" + teamSlug);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -1632,6 +1637,7 @@ public class GitHubTeamsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/teams/{team_slug}/projects")
     public <T> T getTeamProjects(String org, String teamSlug, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnProjects(sendGetRequest(ORGS_PATH + org + TEAMS_PATH + "/" + teamSlug + PROJECTS_PATH),
                 format);
     }
@@ -1929,6 +1935,7 @@ public class GitHubTeamsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/orgs/{org}/teams/{team_slug}/projects")
     public <T> T getTeamProjects(String org, String teamSlug, Params queryParams,
                                  ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnProjects(sendGetRequest(ORGS_PATH + org + TEAMS_PATH + "/" + teamSlug + PROJECTS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -2415,6 +2422,7 @@ public class GitHubTeamsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/orgs/{org}/teams/{team_slug}/projects/{project_id}")
     public <T> T checkProjectTeamPermissions(String org, String teamSlug, long projectId,
                                              ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnProject(sendGetRequest(ORGS_PATH + org + TEAMS_PATH + "/" + teamSlug + PROJECTS_PATH
                 + "/" + projectId), format);
     }
@@ -2575,7 +2583,7 @@ public class GitHubTeamsManager extends GitHubManager {
             payload.addParam("permission", permission);
             sendPutRequest(ORGS_PATH + org + TEAMS_PATH + "/" + teamSlug + PROJECTS_PATH + "/" + projectId,
                     payload);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -2712,7 +2720,7 @@ public class GitHubTeamsManager extends GitHubManager {
     public boolean removeTeamProject(String org, String teamSlug, long projectId) {
         try {
             sendDeleteRequest(ORGS_PATH + org + TEAMS_PATH + "/" + teamSlug + PROJECTS_PATH + "/" + projectId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -2942,6 +2950,7 @@ public class GitHubTeamsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/teams/{team_slug}/repos")
     public <T> T getTeamRepositories(String org, String teamSlug, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositories(sendGetRequest(ORGS_PATH + org + TEAMS_PATH + "/" + teamSlug + REPOS_QUERY_PATH),
                 format);
     }
@@ -3239,6 +3248,7 @@ public class GitHubTeamsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/orgs/{org}/teams/{team_slug}/repos")
     public <T> T getTeamRepositories(String org, String teamSlug, Params queryParams,
                                      ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepositories(sendGetRequest(ORGS_PATH + org + TEAMS_PATH + "/" + teamSlug + REPOS_QUERY_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -3745,6 +3755,7 @@ public class GitHubTeamsManager extends GitHubManager {
     @RequestPath(method = GET, path = "/orgs/{org}/teams/{team_slug}/repos/{owner}/{repo}")
     public <T> T checkRepositoryTeamPermissions(String org, String teamSlug, String owner, String repo,
                                                 ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnRepository(sendGetRequest(ORGS_PATH + org + TEAMS_PATH + "/" + teamSlug + REPOS_QUERY_PATH
                 + "/" + owner + "/" + repo), format);
     }
@@ -3909,7 +3920,7 @@ public class GitHubTeamsManager extends GitHubManager {
             payload.addParam("permission", permission);
             sendPutRequest(ORGS_PATH + org + TEAMS_PATH + "/" + teamSlug + REPOS_QUERY_PATH + "/" + owner
                     + "/" + repo, payload);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -4052,7 +4063,7 @@ public class GitHubTeamsManager extends GitHubManager {
         try {
             sendDeleteRequest(ORGS_PATH + org + TEAMS_PATH + "/" + teamSlug + REPOS_QUERY_PATH + "/" + owner
                     + "/" + repo);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -4282,6 +4293,7 @@ public class GitHubTeamsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/teams/{team_slug}/teams")
     public <T> T getChildTeams(String org, String teamSlug, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnTeamsList(sendGetRequest(ORGS_PATH + org + TEAMS_PATH + "/" + teamSlug + TEAMS_PATH), format);
     }
 
@@ -4577,6 +4589,7 @@ public class GitHubTeamsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/orgs/{org}/teams/{team_slug}/teams")
     public <T> T getChildTeams(String org, String teamSlug, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnTeamsList(sendGetRequest(ORGS_PATH + org + TEAMS_PATH + "/" + teamSlug + TEAMS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -4629,6 +4642,7 @@ public class GitHubTeamsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/teams")
     public <T> T getAuthenticatedUserTeams(ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnTeamsList(sendGetRequest(USER_TEAMS_PATH), format);
     }
 
@@ -4697,6 +4711,7 @@ public class GitHubTeamsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/teams")
     public <T> T getAuthenticatedUserTeams(Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnTeamsList(sendGetRequest(USER_TEAMS_PATH + queryParams.createQueryString()), format);
     }
 
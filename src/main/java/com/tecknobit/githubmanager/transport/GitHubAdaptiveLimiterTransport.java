@@ -0,0 +1,456 @@
+package com.tecknobit.githubmanager.transport;
+
+import com.tecknobit.apimanager.apis.APIRequest.RequestMethod;
+import com.tecknobit.githubmanager.monitoring.GitHubRequestTracer;
+import com.tecknobit.githubmanager.transport.records.GitHubHTTPRequest;
+import com.tecknobit.githubmanager.transport.records.GitHubHTTPResponse;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.*;
+
+/**
+ * The {@code GitHubAdaptiveLimiterTransport} class is a {@link GitHubTransport} which adapts the number of the
+ * concurrent requests to the secondary rate limits of {@code "GitHub"} <br>
+ * The limit of the concurrent requests grows by one for each window of successful requests and halves when a
+ * secondary rate limit is hit ({@code "AIMD"}), so the throughput stays near the maximum allowed instead of
+ * oscillating between bursts and lockouts. When a response has the {@code "Retry-After"} header all the requests wait
+ * that time and the idempotent requests are retried with a jittered exponential backoff; when the time requested by
+ * {@code "GitHub"} exceeds {@link #getMaxRetryAfter()} the request is not retried and its response is returned <br>
+ * The {@code "POST"} requests can be retried too, only after a secondary rate limit, when the limiter is created with
+ * {@code "retryPosts"} enabled
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote see the official documentation at: <a href="https://docs.github.com/en/rest/guides/best-practices-for-integrators#dealing-with-secondary-rate-limits">
+ * Dealing with secondary rate limits</a>
+ * @see GitHubTransport
+ **/
+public class GitHubAdaptiveLimiterTransport implements GitHubTransport {
+
+    /**
+     * {@code DEFAULT_INITIAL_LIMIT} default number of the concurrent requests allowed at the start
+     **/
+    public static final int DEFAULT_INITIAL_LIMIT = 8;
+
+    /**
+     * {@code DEFAULT_MAX_LIMIT} default maximum number of the concurrent requests
+     **/
+    public static final int DEFAULT_MAX_LIMIT = 64;
+
+    /**
+     * {@code DEFAULT_MAX_RETRIES} default maximum number of the retries of an idempotent request
+     **/
+    public static final int DEFAULT_MAX_RETRIES = 3;
+
+    /**
+     * {@code DEFAULT_MAX_RETRY_AFTER} default maximum milliseconds requested by {@code "GitHub"} which are waited
+     * before retrying a request
+     **/
+    public static final long DEFAULT_MAX_RETRY_AFTER = 300000;
+
+    /**
+     * {@code BASE_BACKOFF} milliseconds of the first backoff when the response has not the {@code "Retry-After"} header
+     **/
+    private static final long BASE_BACKOFF = 1000;
+
+    /**
+     * {@code MAX_BACKOFF} maximum milliseconds of an exponential backoff
+     **/
+    private static final long MAX_BACKOFF = 60000;
+
+    /**
+     * {@code transport} used to send the requests
+     **/
+    protected final GitHubTransport transport;
+
+    /**
+     * {@code maxLimit} maximum number of the concurrent requests
+     **/
+    protected final int maxLimit;
+
+    /**
+     * {@code maxRetries} maximum number of the retries of an idempotent request
+     **/
+    protected final int maxRetries;
+
+    /**
+     * {@code maxRetryAfter} maximum milliseconds requested by {@code "GitHub"} which are waited before retrying a
+     * request, when exceeded the request is not retried
+     **/
+    protected final long maxRetryAfter;
+
+    /**
+     * {@code retryPosts} whether the {@code "POST"} requests are retried after a secondary rate limit
+     **/
+    protected final boolean retryPosts;
+
+    /**
+     * {@code lock} to synchronize the state of the limiter
+     **/
+    private final ReentrantLock lock;
+
+    /**
+     * {@code permitReleased} condition signaled when a request can be sent
+     **/
+    private final Condition permitReleased;
+
+    /**
+     * {@code limit} current number of the concurrent requests allowed
+     **/
+    private double limit;
+
+    /**
+     * {@code inFlight} number of the requests currently sent
+     **/
+    private int inFlight;
+
+    /**
+     * {@code pausedUntil} time in milliseconds until which the requests are paused after a {@code "Retry-After"}
+     **/
+    private long pausedUntil;
+
+    /**
+     * {@code lastDecrease} time in milliseconds of the last decrease of the {@link #limit}
+     **/
+    private long lastDecrease;
+
+    /**
+     * Constructor to init a {@link GitHubAdaptiveLimiterTransport}
+     *
+     * @param transport: transport used to send the requests
+     **/
+    public GitHubAdaptiveLimiterTransport(GitHubTransport transport) {
+        this(transport, DEFAULT_INITIAL_LIMIT, DEFAULT_MAX_LIMIT, DEFAULT_MAX_RETRIES);
+    }
+
+    /**
+     * Constructor to init a {@link GitHubAdaptiveLimiterTransport}
+     *
+     * @param transport:    transport used to send the requests
+     * @param initialLimit: number of the concurrent requests allowed at the start
+     * @param maxLimit:     maximum number of the concurrent requests
+     * @param maxRetries:   maximum number of the retries of an idempotent request
+     **/
+    public GitHubAdaptiveLimiterTransport(GitHubTransport transport, int initialLimit, int maxLimit, int maxRetries) {
+        this(transport, initialLimit, maxLimit, maxRetries, DEFAULT_MAX_RETRY_AFTER, false);
+    }
+
+    /**
+     * Constructor to init a {@link GitHubAdaptiveLimiterTransport}
+     *
+     * @param transport:     transport used to send the requests
+     * @param initialLimit:  number of the concurrent requests allowed at the start
+     * @param maxLimit:      maximum number of the concurrent requests
+     * @param maxRetries:    maximum number of the retries of a request
+     * @param maxRetryAfter: maximum milliseconds requested by {@code "GitHub"} which are waited before retrying a
+     *                       request, when exceeded the request is not retried
+     * @param retryPosts:    whether the {@code "POST"} requests are retried after a secondary rate limit, a request
+     *                       limited has not been processed by {@code "GitHub"}, but a {@code "POST"} is not idempotent
+     **/
+    public GitHubAdaptiveLimiterTransport(GitHubTransport transport, int initialLimit, int maxLimit, int maxRetries,
+                                          long maxRetryAfter, boolean retryPosts) {
+        if (transport == null)
+            throw new IllegalArgumentException("The transport cannot be null");
+        if (initialLimit < 1 || maxLimit < initialLimit)
+            throw new IllegalArgumentException("The limits must be at least 1 and the initial limit cannot exceed the maximum");
+        if (maxRetries < 0)
+            throw new IllegalArgumentException("The retries cannot be negative");
+        if (maxRetryAfter < 0)
+            throw new IllegalArgumentException("The maximum time to wait before a retry cannot be negative");
+        this.transport = transport;
+        this.maxLimit = maxLimit;
+        this.maxRetries = maxRetries;
+        this.maxRetryAfter = maxRetryAfter;
+        this.retryPosts = retryPosts;
+        limit = initialLimit;
+        lock = new ReentrantLock();
+        permitReleased = lock.newCondition();
+    }
+
+    /**
+     * Method to send a request
+     *
+     * @param request: request to send
+     * @return response of the request as {@link GitHubHTTPResponse}, when the retries are exhausted the last error
+     * response is returned
+     * @throws IOException when the request cannot be sent, its response cannot be read or the thread has been
+     *                     interrupted while waiting
+     **/
+    @Override
+    public GitHubHTTPResponse execute(GitHubHTTPRequest request) throws IOException {
+        return execute(request, null);
+    }
+
+    /**
+     * Method to send a request reading the body of its response with a {@link GitHubBodyReader}
+     *
+     * @param request: request to send
+     * @param reader:  reader of the body of a successful response, {@code "null"} to read it as {@link String}
+     * @return response of the request as {@link GitHubHTTPResponse}
+     * @throws IOException when the request cannot be sent, its response cannot be read or the thread has been
+     *                     interrupted while waiting
+     **/
+    @Override
+    public GitHubHTTPResponse execute(GitHubHTTPRequest request, GitHubBodyReader<?> reader) throws IOException {
+        boolean retryable = isRetryable(request);
+        int attempt = 0;
+        while (true) {
+            acquire(request);
+            GitHubHTTPResponse response;
+            boolean completed = false;
+            boolean limited = false;
+            try {
+                response = transport.execute(request, reader);
+                limited = isSecondaryRateLimit(response);
+                completed = true;
+            } finally {
+                // a request gone wrong without a response says nothing about the secondary rate limits
+                release(completed, limited);
+            }
+            int statusCode = response.getStatusCode();
+            boolean transientError = statusCode == 502 || statusCode == 503 || statusCode == 504;
+            if ((!limited && !transientError) || !retryable || attempt == maxRetries)
+                return response;
+            // a transient error could have happened after the request has been processed
+            if (!limited && request.getMethod() == POST)
+                return response;
+            long retryAfter = getRetryAfter(response);
+            if (retryAfter > maxRetryAfter)
+                return response;
+            if (retryAfter != -1)
+                pause(retryAfter);
+            GitHubRequestTracer.retry(request, attempt + 1, statusCode, null);
+            sleep(getBackoff(attempt, retryAfter), request);
+            attempt++;
+        }
+    }
+
+    /**
+     * Method to wait a free permit before sending a request
+     *
+     * @param request: request to send
+     * @throws IOException when the thread has been interrupted
+     **/
+    private void acquire(GitHubHTTPRequest request) throws IOException {
+        lock.lock();
+        try {
+            long wait;
+            while ((wait = pausedUntil - System.currentTimeMillis()) > 0 || inFlight >= (int) limit) {
+                if (wait > 0)
+                    permitReleased.await(wait, TimeUnit.MILLISECONDS);
+                else
+                    permitReleased.await();
+            }
+            inFlight++;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Request interrupted while waiting a permit: " + request);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Method to release the permit of a request and adapt the {@link #limit}
+     *
+     * @param completed: whether the request has received a response, when not the {@link #limit} is not adapted
+     * @param limited:   whether the request hit a secondary rate limit
+     **/
+    private void release(boolean completed, boolean limited) {
+        lock.lock();
+        try {
+            inFlight--;
+            long now = System.currentTimeMillis();
+            if (!completed) {
+                permitReleased.signalAll();
+                return;
+            }
+            if (limited) {
+                // the concurrent requests of the same burst are limited together, so halve once for each burst
+                if (now - lastDecrease > BASE_BACKOFF) {
+                    limit = Math.max(1, limit / 2);
+                    lastDecrease = now;
+                }
+            } else
+                limit = Math.min(maxLimit, limit + 1 / limit);
+            permitReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Method to pause all the requests
+     *
+     * @param time: milliseconds of the pause
+     **/
+    private void pause(long time) {
+        lock.lock();
+        try {
+            pausedUntil = Math.max(pausedUntil, System.currentTimeMillis() + time);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Method to sleep before retrying a request
+     *
+     * @param time:    milliseconds to sleep
+     * @param request: request to retry
+     * @throws IOException when the thread has been interrupted
+     **/
+    private void sleep(long time, GitHubHTTPRequest request) throws IOException {
+        try {
+            Thread.sleep(time);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Request interrupted while waiting to retry: " + request);
+        }
+    }
+
+    /**
+     * Method to get the milliseconds to wait before retrying a request
+     *
+     * @param attempt:    number of the attempts already retried
+     * @param retryAfter: milliseconds requested by the {@code "Retry-After"} header, {@code "-1"} if not requested
+     * @return milliseconds to wait as long
+     **/
+    private long getBackoff(int attempt, long retryAfter) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (retryAfter != -1)
+            return retryAfter + random.nextLong(BASE_BACKOFF);
+        long cap = Math.min(MAX_BACKOFF, BASE_BACKOFF << Math.min(attempt, 16));
+        return cap / 2 + random.nextLong(cap / 2 + 1);
+    }
+
+    /**
+     * Method to get the time requested by a response before sending other requests
+     *
+     * @param response: response from get the time
+     * @return milliseconds requested by the {@code "Retry-After"} header or by the {@code "X-RateLimit-Reset"} header
+     * when there are no more requests, {@code "-1"} if the response does not request a time
+     * @implNote the time requested is never shortened, a request retried before it is penalized by {@code "GitHub"}
+     **/
+    protected long getRetryAfter(GitHubHTTPResponse response) {
+        String retryAfter = response.getHeader("Retry-After");
+        if (retryAfter != null) {
+            try {
+                return Math.max(0, Long.parseLong(retryAfter.trim()) * 1000);
+            } catch (NumberFormatException ignored) {
+            }
+        }
+        if ("0".equals(response.getHeader("X-RateLimit-Remaining"))) {
+            String reset = response.getHeader("X-RateLimit-Reset");
+            if (reset != null) {
+                try {
+                    return Math.max(0, Long.parseLong(reset) * 1000 - System.currentTimeMillis());
+                } catch (NumberFormatException ignored) {
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Method to get whether a response has been limited by a secondary rate limit
+     *
+     * @param response: response to check
+     * @return whether a response has been limited by a secondary rate limit as boolean
+     **/
+    protected boolean isSecondaryRateLimit(GitHubHTTPResponse response) {
+        int statusCode = response.getStatusCode();
+        if (statusCode == 429)
+            return true;
+        if (statusCode != 403)
+            return false;
+        if (response.getHeader("Retry-After") != null)
+            return true;
+        String body = response.getBody();
+        return body != null && body.toLowerCase().contains("secondary rate limit");
+    }
+
+    /**
+     * Method to get whether a request can be retried
+     *
+     * @param request: request to check
+     * @return whether a request can be retried as boolean
+     * @implNote only the idempotent methods are retried by default: {@code "GET"}, {@code "PUT"} and {@code "DELETE"},
+     * the {@code "POST"} requests are retried only after a secondary rate limit when {@link #retryPosts} is enabled
+     **/
+    protected boolean isRetryable(GitHubHTTPRequest request) {
+        RequestMethod method = request.getMethod();
+        return method == GET || method == PUT || method == DELETE || (retryPosts && method == POST);
+    }
+
+    /**
+     * Method to get the current number of the concurrent requests allowed <br>
+     * No-any params required
+     *
+     * @return current number of the concurrent requests allowed as int
+     **/
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Method to get {@link #transport} instance <br>
+     * No-any params required
+     *
+     * @return {@link #transport} instance as {@link GitHubTransport}
+     **/
+    public GitHubTransport getTransport() {
+        return transport;
+    }
+
+    /**
+     * Method to get {@link #maxLimit} instance <br>
+     * No-any params required
+     *
+     * @return {@link #maxLimit} instance as int
+     **/
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    /**
+     * Method to get {@link #maxRetries} instance <br>
+     * No-any params required
+     *
+     * @return {@link #maxRetries} instance as int
+     **/
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    /**
+     * Method to get {@link #maxRetryAfter} instance <br>
+     * No-any params required
+     *
+     * @return {@link #maxRetryAfter} instance as long
+     **/
+    public long getMaxRetryAfter() {
+        return maxRetryAfter;
+    }
+
+    /**
+     * Method to get {@link #retryPosts} instance <br>
+     * No-any params required
+     *
+     * @return {@link #retryPosts} instance as boolean
+     **/
+    public boolean isRetryPosts() {
+        return retryPosts;
+    }
+
+}
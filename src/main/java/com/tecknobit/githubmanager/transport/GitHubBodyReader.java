@@ -0,0 +1,41 @@
+package com.tecknobit.githubmanager.transport;
+
+import com.tecknobit.githubmanager.transport.records.GitHubHTTPResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * The {@code GitHubBodyReader} interface is useful to read the body of a successful response while it is received,
+ * without storing it as a whole {@link String} before
+ *
+ * @param <T> type of the content read from the body
+ * @author N7ghtm4r3 - Tecknobit
+ * @see GitHubTransport#execute(com.tecknobit.githubmanager.transport.records.GitHubHTTPRequest, GitHubBodyReader)
+ **/
+@FunctionalInterface
+public interface GitHubBodyReader<T> {
+
+    /**
+     * Method to read the body of a response
+     *
+     * @param body: body of the response, already decompressed, closed by the transport when this method returns
+     * @return content read from the body as {@link T}
+     * @throws IOException when the body cannot be read
+     **/
+    T read(InputStream body) throws IOException;
+
+    /**
+     * Method to read the body of a response knowing its status code and its headers
+     *
+     * @param response: response without the body, to read its status code and its headers
+     * @param body:     body of the response, already decompressed, closed by the transport when this method returns
+     * @return content read from the body as {@link T}
+     * @throws IOException when the body cannot be read
+     * @implSpec the default implementation ignores the response and calls {@link #read(InputStream)}
+     **/
+    default T read(GitHubHTTPResponse response, InputStream body) throws IOException {
+        return read(body);
+    }
+
+}
@@ -0,0 +1,757 @@
+package com.tecknobit.githubmanager.transport;
+
+import com.tecknobit.githubmanager.monitoring.GitHubRequestTracer;
+import com.tecknobit.githubmanager.transport.records.CassetteExchange;
+import com.tecknobit.githubmanager.transport.records.GitHubHTTPRequest;
+import com.tecknobit.githubmanager.transport.records.GitHubHTTPResponse;
+import org.json.JSONObject;
+
+import java.io.*;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static com.tecknobit.githubmanager.transport.GitHubCassetteTransport.CassetteMode.RECORD;
+import static com.tecknobit.githubmanager.transport.GitHubCassetteTransport.CassetteMode.REPLAY;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The {@code GitHubCassetteTransport} class is a {@link GitHubTransport} which records the exchanges with
+ * {@code "GitHub"} in a cassette and replays them later without any network access <br>
+ * In {@link CassetteMode#RECORD} mode each request is sent with another transport and the exchange, with the headers
+ * and the body of the response and the time elapsed to receive it, is appended to the cassette as a
+ * {@link CassetteExchange}; in {@link CassetteMode#REPLAY} mode the responses are served from the cassette, at full
+ * speed or with the recorded timing, so the same workload can be run as a repeatable performance test <br>
+ * The cassette is a file with a {@code "JSON"} object for each line, compressed with {@code "GZIP"} when its name
+ * ends with {@code ".gz"}; the bodies read with a {@link GitHubBodyReader} larger than {@link #maxInlineBodySize} are
+ * stored in side files, in the {@code "<cassette name>.bodies"} folder next to the cassette
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the {@code "Authorization"} header of the requests is never written in the cassette, and the requests are
+ * matched in replay by their method, their url, their {@code "Accept"} and {@code "Range"} headers and their body,
+ * see {@link CassetteExchange#createKey(GitHubHTTPRequest)}, so a cassette can be replayed with any token
+ * @see GitHubTransport
+ * @see CassetteExchange
+ **/
+public class GitHubCassetteTransport implements GitHubTransport, Closeable {
+
+    /**
+     * {@code CASSETTE_VERSION} version of the format of the cassettes
+     **/
+    public static final int CASSETTE_VERSION = 1;
+
+    /**
+     * {@code DEFAULT_MAX_INLINE_BODY_SIZE} default number of the bytes of the largest body stored in the cassette
+     **/
+    public static final int DEFAULT_MAX_INLINE_BODY_SIZE = 64 * 1024;
+
+    /**
+     * {@code CassetteMode} list of available modes of a cassette
+     **/
+    public enum CassetteMode {
+
+        /**
+         * {@code RECORD} the requests are sent and their exchanges are recorded in the cassette
+         **/
+        RECORD,
+
+        /**
+         * {@code REPLAY} the responses are served from the cassette
+         **/
+        REPLAY
+
+    }
+
+    /**
+     * {@code ReplaySpeed} list of available speeds to replay a cassette
+     **/
+    public enum ReplaySpeed {
+
+        /**
+         * {@code FULL_SPEED} the responses are served as soon as they are requested
+         **/
+        FULL_SPEED,
+
+        /**
+         * {@code RECORDED_TIMING} each response is served at the same time from the start of the replay at which it
+         * was received from the first recorded request, so the pauses between the requests and the concurrency of the
+         * recorded workload are replayed too
+         **/
+        RECORDED_TIMING
+
+    }
+
+    /**
+     * {@code cassette} path of the cassette
+     **/
+    protected final Path cassette;
+
+    /**
+     * {@code mode} mode of the cassette
+     **/
+    protected final CassetteMode mode;
+
+    /**
+     * {@code transport} used to send the requests in {@link CassetteMode#RECORD} mode, {@code "null"} in
+     * {@link CassetteMode#REPLAY} mode
+     **/
+    protected final GitHubTransport transport;
+
+    /**
+     * {@code speed} speed to replay the cassette, {@code "null"} in {@link CassetteMode#RECORD} mode
+     **/
+    protected final ReplaySpeed speed;
+
+    /**
+     * {@code maxInlineBodySize} number of the bytes of the largest body read with a {@link GitHubBodyReader} stored in
+     * the cassette, the larger ones are stored in side files
+     **/
+    protected final int maxInlineBodySize;
+
+    /**
+     * {@code folder} folder of the cassette
+     **/
+    private final Path folder;
+
+    /**
+     * {@code bodiesFolder} name of the folder of the side files of the bodies, relative to {@link #folder}
+     **/
+    private final String bodiesFolder;
+
+    /**
+     * {@code bodyFiles} number of the side files of the bodies created
+     **/
+    private final AtomicInteger bodyFiles;
+
+    /**
+     * {@code writer} the writer of the cassette in {@link CassetteMode#RECORD} mode, {@code "null"} when closed
+     **/
+    private Writer writer;
+
+    /**
+     * {@code start} {@link System#nanoTime()} when the recording has been started
+     **/
+    private final long start;
+
+    /**
+     * {@code firstOffset} offset of the first exchange recorded in the cassette, so the replay starts from its first
+     * request and not from the creation of the recording transport
+     **/
+    private final long firstOffset;
+
+    /**
+     * {@code replayStart} {@link System#nanoTime()} when the first exchange has been replayed since the creation of the
+     * transport or the last {@link #rewind()}, {@code "null"} if no exchange has been replayed yet
+     **/
+    private Long replayStart;
+
+    /**
+     * {@code recorded} number of the exchanges recorded
+     **/
+    private int recorded;
+
+    /**
+     * {@code exchanges} the exchanges of the cassette in {@link CassetteMode#REPLAY} mode, the keys are created with
+     * {@link CassetteExchange#createKey(GitHubHTTPRequest)}
+     **/
+    private final Map<String, List<CassetteExchange>> exchanges;
+
+    /**
+     * {@code cursors} the index of the next exchange to replay for each key of {@link #exchanges}
+     **/
+    private final Map<String, AtomicInteger> cursors;
+
+    /**
+     * Constructor to init a {@link GitHubCassetteTransport} in {@link CassetteMode#RECORD} mode
+     *
+     * @param transport: transport used to send the requests
+     * @param cassette:  path of the cassette where record the exchanges, it is overwritten if exists
+     * @throws IOException when the cassette cannot be created
+     **/
+    public GitHubCassetteTransport(GitHubTransport transport, Path cassette) throws IOException {
+        this(transport, cassette, DEFAULT_MAX_INLINE_BODY_SIZE);
+    }
+
+    /**
+     * Constructor to init a {@link GitHubCassetteTransport} in {@link CassetteMode#RECORD} mode
+     *
+     * @param transport:         transport used to send the requests
+     * @param cassette:          path of the cassette where record the exchanges, it is overwritten if exists with
+     *                           its side files
+     * @param maxInlineBodySize: number of the bytes of the largest body read with a {@link GitHubBodyReader} stored in
+     *                           the cassette, the larger ones are stored in side files
+     * @throws IOException when the cassette cannot be created
+     **/
+    public GitHubCassetteTransport(GitHubTransport transport, Path cassette, int maxInlineBodySize) throws IOException {
+        if (transport == null)
+            throw new IllegalArgumentException("The transport cannot be null");
+        if (cassette == null)
+            throw new IllegalArgumentException("The cassette cannot be null");
+        if (maxInlineBodySize < 0)
+            throw new IllegalArgumentException("The max inline body size cannot be negative");
+        this.cassette = cassette;
+        this.transport = transport;
+        this.maxInlineBodySize = maxInlineBodySize;
+        mode = RECORD;
+        speed = null;
+        exchanges = null;
+        cursors = null;
+        folder = cassette.toAbsolutePath().getParent();
+        bodiesFolder = cassette.getFileName() + ".bodies";
+        bodyFiles = new AtomicInteger();
+        Files.createDirectories(folder);
+        Path bodies = folder.resolve(bodiesFolder);
+        if (Files.isDirectory(bodies)) {
+            try (DirectoryStream<Path> bodyFiles = Files.newDirectoryStream(bodies, "*.bin")) {
+                for (Path bodyFile : bodyFiles)
+                    Files.delete(bodyFile);
+            }
+        }
+        OutputStream output = Files.newOutputStream(cassette);
+        if (isCompressed(cassette))
+            output = new GZIPOutputStream(output, 8192, true);
+        writer = new BufferedWriter(new OutputStreamWriter(output, UTF_8));
+        writer.write(new JSONObject()
+                .put("cassette", CASSETTE_VERSION)
+                .put("recorded", Instant.now().toString()) + "\n");
+        writer.flush();
+        start = System.nanoTime();
+        firstOffset = 0;
+    }
+
+    /**
+     * Constructor to init a {@link GitHubCassetteTransport} in {@link CassetteMode#REPLAY} mode at
+     * {@link ReplaySpeed#FULL_SPEED}
+     *
+     * @param cassette: path of the cassette to replay
+     * @throws IOException when the cassette cannot be read
+     **/
+    public GitHubCassetteTransport(Path cassette) throws IOException {
+        this(cassette, ReplaySpeed.FULL_SPEED);
+    }
+
+    /**
+     * Constructor to init a {@link GitHubCassetteTransport} in {@link CassetteMode#REPLAY} mode
+     *
+     * @param cassette: path of the cassette to replay
+     * @param speed:    speed to replay the cassette
+     * @throws IOException when the cassette cannot be read or its format is not valid
+     **/
+    public GitHubCassetteTransport(Path cassette, ReplaySpeed speed) throws IOException {
+        if (cassette == null)
+            throw new IllegalArgumentException("The cassette cannot be null");
+        if (speed == null)
+            throw new IllegalArgumentException("The speed cannot be null");
+        this.cassette = cassette;
+        this.speed = speed;
+        transport = null;
+        maxInlineBodySize = DEFAULT_MAX_INLINE_BODY_SIZE;
+        folder = cassette.toAbsolutePath().getParent();
+        bodiesFolder = cassette.getFileName() + ".bodies";
+        bodyFiles = null;
+        mode = REPLAY;
+        start = 0;
+        long firstOffset = Long.MAX_VALUE;
+        exchanges = new HashMap<>();
+        cursors = new HashMap<>();
+        InputStream input = new BufferedInputStream(Files.newInputStream(cassette));
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(openCassette(input), UTF_8))) {
+            String header = reader.readLine();
+            if (header == null || new JSONObject(header).optInt("cassette", -1) != CASSETTE_VERSION)
+                throw new IOException("The file is not a cassette with version " + CASSETTE_VERSION + ": " + cassette);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank())
+                    continue;
+                CassetteExchange exchange = new CassetteExchange(new JSONObject(line), folder);
+                exchanges.computeIfAbsent(exchange.getKey(), key -> new ArrayList<>()).add(exchange);
+                firstOffset = Math.min(firstOffset, exchange.getOffset());
+                recorded++;
+            }
+        }
+        this.firstOffset = recorded > 0 ? firstOffset : 0;
+        for (String key : exchanges.keySet())
+            cursors.put(key, new AtomicInteger());
+    }
+
+    /**
+     * Method to send a request
+     *
+     * @param request: request to send
+     * @return response of the request as {@link GitHubHTTPResponse}
+     * @throws IOException when the request cannot be sent, when the cassette cannot be written or when the request
+     *                     has not been recorded in the cassette to replay
+     **/
+    @Override
+    public GitHubHTTPResponse execute(GitHubHTTPRequest request) throws IOException {
+        if (mode == REPLAY) {
+            CassetteExchange exchange = replay(request);
+            if (exchange.getBodyFile() == null)
+                return exchange.toResponse();
+            try (InputStream body = exchange.openBody()) {
+                return new GitHubHTTPResponse(exchange.getStatusCode(), exchange.getHeaders(),
+                        new String(body.readAllBytes(), UTF_8));
+            }
+        }
+        long offset = System.nanoTime() - start;
+        GitHubHTTPResponse response = transport.execute(request);
+        long duration = System.nanoTime() - start - offset;
+        String body = response.getBody();
+        record(new CassetteExchange(request, response, body != null ? body.getBytes(UTF_8) : null, true, offset,
+                duration));
+        return response;
+    }
+
+    /**
+     * Method to send a request reading the body of its response with a {@link GitHubBodyReader}
+     *
+     * @param request: request to send
+     * @param reader:  reader of the body of a successful response, {@code "null"} to read it as {@link String}
+     * @return response of the request as {@link GitHubHTTPResponse}, when the response is successful its content is
+     * the one read by the reader
+     * @throws IOException when the request cannot be sent, when the cassette cannot be written or when the request
+     *                     has not been recorded in the cassette to replay
+     * @implNote while recording, the body is copied while the reader reads it: up to {@link #maxInlineBodySize} bytes
+     * in memory, to store it in the cassette, then streaming it in a side file, so the large downloads are never held in
+     * memory; the small bodies which are not {@code "JSON"} are stored encoded in {@code "Base64"}. Only the part of the
+     * body read by the reader is recorded and replayed, the part not read is not downloaded
+     **/
+    @Override
+    public GitHubHTTPResponse execute(GitHubHTTPRequest request, GitHubBodyReader<?> reader) throws IOException {
+        if (reader == null)
+            return execute(request);
+        if (mode == REPLAY) {
+            CassetteExchange exchange = replay(request);
+            int statusCode = exchange.getStatusCode();
+            if (statusCode < 200 || statusCode >= 300 || !exchange.hasBody())
+                return exchange.toResponse();
+            Map<String, List<String>> headers = exchange.getHeaders();
+            try (InputStream body = exchange.openBody()) {
+                return new GitHubHTTPResponse(statusCode, headers, null,
+                        reader.read(new GitHubHTTPResponse(statusCode, headers, null), body));
+            }
+        }
+        BodySink copy = new BodySink();
+        long offset = System.nanoTime() - start;
+        GitHubHTTPResponse response;
+        try {
+            response = transport.execute(request, new GitHubBodyReader<>() {
+
+                @Override
+                public Object read(InputStream body) throws IOException {
+                    return read(null, body);
+                }
+
+                @Override
+                public Object read(GitHubHTTPResponse response, InputStream body) throws IOException {
+                    try (TeeInputStream tee = new TeeInputStream(body, copy)) {
+                        return reader.read(response, tee);
+                    }
+                }
+
+            });
+            copy.close();
+        } catch (IOException | RuntimeException e) {
+            copy.discard();
+            throw e;
+        }
+        long duration = System.nanoTime() - start - offset;
+        CassetteExchange exchange;
+        if (response.getBody() != null || copy.getLength() == 0) {
+            String body = response.getBody();
+            exchange = new CassetteExchange(request, response, body != null ? body.getBytes(UTF_8) : null, true,
+                    offset, duration);
+        } else if (copy.getBodyFile() != null) {
+            exchange = new CassetteExchange(request, response, folder, copy.getBodyFile(), copy.getLength(), offset,
+                    duration);
+        } else
+            exchange = new CassetteExchange(request, response, copy.toByteArray(), request.isJSON(), offset, duration);
+        record(exchange);
+        return response;
+    }
+
+    /**
+     * Method to append an exchange to the cassette
+     *
+     * @param exchange: exchange to record
+     * @throws IOException when the cassette cannot be written or has been closed
+     **/
+    private synchronized void record(CassetteExchange exchange) throws IOException {
+        if (writer == null)
+            throw new IOException("The cassette has been closed: " + cassette);
+        writer.write(exchange.toJSON().toString());
+        writer.write('\n');
+        writer.flush();
+        recorded++;
+    }
+
+    /**
+     * Method to find the exchange to replay for a request, waiting until the time from the start of the replay at
+     * which its response was received from the first recorded request when the speed is
+     * {@link ReplaySpeed#RECORDED_TIMING}
+     *
+     * @param request: request to replay
+     * @return exchange to replay as {@link CassetteExchange}
+     * @throws IOException when the request has not been recorded in the cassette, all its exchanges have already been
+     *                     replayed or the thread has been interrupted
+     * @implNote the identical requests replay the exchanges recorded in the same order, once for each exchange, so a
+     * workload which sends more requests than the recorded ones fails instead of replaying stale responses, use
+     * {@link #rewind()} to replay the cassette again
+     **/
+    private CassetteExchange replay(GitHubHTTPRequest request) throws IOException {
+        String key = CassetteExchange.createKey(request);
+        List<CassetteExchange> recordedExchanges = exchanges.get(key);
+        if (recordedExchanges == null)
+            throw new IOException("The request has not been recorded in the cassette " + cassette + ": " + key);
+        int index = cursors.get(key).getAndIncrement();
+        if (index >= recordedExchanges.size()) {
+            throw new IOException("All the " + recordedExchanges.size() + " exchanges recorded for the request have "
+                    + "been replayed from the cassette " + cassette + ": " + key);
+        }
+        CassetteExchange exchange = recordedExchanges.get(index);
+        if (speed == ReplaySpeed.RECORDED_TIMING) {
+            long wait = getReplayStart() + exchange.getOffset() - firstOffset + exchange.getDuration() - System.nanoTime();
+            try {
+                if (wait > 0)
+                    TimeUnit.NANOSECONDS.sleep(wait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Replay interrupted: " + key);
+            }
+        }
+        GitHubRequestTracer.firstByte(exchange.getStatusCode());
+        return exchange;
+    }
+
+    /**
+     * Method to get the start of the replay, starting it if no exchange has been replayed yet <br>
+     * No-any params required
+     *
+     * @return {@link #replayStart} instance as long
+     **/
+    private synchronized long getReplayStart() {
+        if (replayStart == null)
+            replayStart = System.nanoTime();
+        return replayStart;
+    }
+
+    /**
+     * Method to replay the cassette from the start, so the identical requests replay again the exchanges recorded in
+     * the same order and with {@link ReplaySpeed#RECORDED_TIMING} the timing starts again from the next request <br>
+     * No-any params required
+     *
+     * @apiNote in {@link CassetteMode#RECORD} mode this method has no effect
+     **/
+    public void rewind() {
+        if (cursors != null) {
+            cursors.values().forEach(cursor -> cursor.set(0));
+            synchronized (this) {
+                replayStart = null;
+            }
+        }
+    }
+
+    /**
+     * Method to get the number of the exchanges recorded in the cassette <br>
+     * No-any params required
+     *
+     * @return number of the exchanges recorded as int
+     **/
+    public synchronized int getExchangesCount() {
+        return recorded;
+    }
+
+    /**
+     * Method to get {@link #cassette} instance <br>
+     * No-any params required
+     *
+     * @return {@link #cassette} instance as {@link Path}
+     **/
+    public Path getCassette() {
+        return cassette;
+    }
+
+    /**
+     * Method to get {@link #mode} instance <br>
+     * No-any params required
+     *
+     * @return {@link #mode} instance as {@link CassetteMode}
+     **/
+    public CassetteMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Method to get {@link #speed} instance <br>
+     * No-any params required
+     *
+     * @return {@link #speed} instance as {@link ReplaySpeed}
+     **/
+    public ReplaySpeed getSpeed() {
+        return speed;
+    }
+
+    /**
+     * Method to get {@link #maxInlineBodySize} instance <br>
+     * No-any params required
+     *
+     * @return {@link #maxInlineBodySize} instance as int
+     **/
+    public int getMaxInlineBodySize() {
+        return maxInlineBodySize;
+    }
+
+    /**
+     * Method to get {@link #transport} instance <br>
+     * No-any params required
+     *
+     * @return {@link #transport} instance as {@link GitHubTransport}
+     **/
+    public GitHubTransport getTransport() {
+        return transport;
+    }
+
+    /**
+     * Method to close the cassette, in {@link CassetteMode#RECORD} mode completes its file and stops the recording
+     * <br>
+     * No-any params required
+     *
+     * @throws IOException when the cassette cannot be completed
+     **/
+    @Override
+    public synchronized void close() throws IOException {
+        if (writer != null) {
+            Writer writer = this.writer;
+            this.writer = null;
+            writer.close();
+        }
+    }
+
+    /**
+     * Method to get whether a cassette has to be compressed
+     *
+     * @param cassette: path of the cassette
+     * @return whether the cassette has to be compressed as boolean
+     **/
+    private static boolean isCompressed(Path cassette) {
+        Path name = cassette.getFileName();
+        return name != null && name.toString().toLowerCase(Locale.ROOT).endsWith(".gz");
+    }
+
+    /**
+     * Method to open a cassette, decompressing it when it has been compressed
+     *
+     * @param input: input of the cassette, must support the mark
+     * @return cassette as {@link InputStream}
+     * @throws IOException when the cassette cannot be read
+     **/
+    private static InputStream openCassette(InputStream input) throws IOException {
+        input.mark(2);
+        int first = input.read();
+        int second = input.read();
+        input.reset();
+        if (first == 0x1f && second == 0x8b)
+            return new GZIPInputStream(input);
+        return input;
+    }
+
+    /**
+     * The {@code BodySink} class is useful to store the copy of a body, in memory up to {@link #maxInlineBodySize}
+     * bytes and then streaming it in a side file
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     **/
+    private final class BodySink extends OutputStream {
+
+        /**
+         * {@code inline} the bytes copied in memory, {@code "null"} when the body has been moved in a side file
+         **/
+        private ByteArrayOutputStream inline = new ByteArrayOutputStream();
+
+        /**
+         * {@code bodyFile} side file of the body relative to {@link #folder}, {@code "null"} if the body is in memory
+         **/
+        private String bodyFile;
+
+        /**
+         * {@code output} output of the side file, {@code "null"} if the body is in memory or the sink is closed
+         **/
+        private OutputStream output;
+
+        /**
+         * {@code length} number of the bytes copied
+         **/
+        private long length;
+
+        /**
+         * {@inheritDoc}
+         **/
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        /**
+         * {@inheritDoc}
+         **/
+        @Override
+        public void write(byte[] buffer, int offset, int length) throws IOException {
+            if (inline != null && inline.size() + length > maxInlineBodySize) {
+                bodyFile = bodiesFolder + "/" + bodyFiles.incrementAndGet() + ".bin";
+                Path file = folder.resolve(bodyFile);
+                Files.createDirectories(file.getParent());
+                output = new BufferedOutputStream(Files.newOutputStream(file), 65536);
+                inline.writeTo(output);
+                inline = null;
+            }
+            if (inline != null)
+                inline.write(buffer, offset, length);
+            else if (output != null)
+                output.write(buffer, offset, length);
+            else
+                throw new IOException("The copy of the body has been closed");
+            this.length += length;
+        }
+
+        /**
+         * Method to get the bytes copied in memory <br>
+         * No-any params required
+         *
+         * @return bytes copied as array of byte, {@code "null"} if the body has been moved in a side file
+         **/
+        private byte[] toByteArray() {
+            return inline != null ? inline.toByteArray() : null;
+        }
+
+        /**
+         * Method to get {@link #bodyFile} instance <br>
+         * No-any params required
+         *
+         * @return {@link #bodyFile} instance as {@link String}
+         **/
+        private String getBodyFile() {
+            return bodyFile;
+        }
+
+        /**
+         * Method to get {@link #length} instance <br>
+         * No-any params required
+         *
+         * @return {@link #length} instance as long
+         **/
+        private long getLength() {
+            return length;
+        }
+
+        /**
+         * Method to close the side file of the body, if created <br>
+         * No-any params required
+         *
+         * @throws IOException when the side file cannot be completed
+         **/
+        @Override
+        public void close() throws IOException {
+            if (output != null) {
+                OutputStream output = this.output;
+                this.output = null;
+                output.close();
+            }
+        }
+
+        /**
+         * Method to close and delete the side file of the body, if created, when the exchange is not recorded <br>
+         * No-any params required
+         **/
+        private void discard() {
+            try {
+                close();
+            } catch (IOException ignored) {
+            }
+            if (bodyFile != null) {
+                try {
+                    Files.deleteIfExists(folder.resolve(bodyFile));
+                } catch (IOException ignored) {
+                }
+            }
+        }
+
+    }
+
+    /**
+     * The {@code TeeInputStream} class is useful to copy the bytes of a body while they are read
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     **/
+    private static final class TeeInputStream extends FilterInputStream {
+
+        /**
+         * {@code copy} where the bytes read are copied
+         **/
+        private final OutputStream copy;
+
+        /**
+         * Constructor to init a {@link TeeInputStream}
+         *
+         * @param body: body to read
+         * @param copy: where the bytes read are copied
+         **/
+        private TeeInputStream(InputStream body, OutputStream copy) {
+            super(body);
+            this.copy = copy;
+        }
+
+        /**
+         * {@inheritDoc}
+         **/
+        @Override
+        public int read() throws IOException {
+            int read = in.read();
+            if (read != -1)
+                copy.write(read);
+            return read;
+        }
+
+        /**
+         * {@inheritDoc}
+         **/
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = in.read(buffer, offset, length);
+            if (read > 0)
+                copy.write(buffer, offset, read);
+            return read;
+        }
+
+        /**
+         * {@inheritDoc}
+         **/
+        @Override
+        public long skip(long n) throws IOException {
+            byte[] buffer = new byte[(int) Math.min(n, 8192)];
+            long skipped = 0;
+            while (skipped < n) {
+                int read = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+                if (read == -1)
+                    break;
+                skipped += read;
+            }
+            return skipped;
+        }
+
+        /**
+         * {@inheritDoc}
+         **/
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+    }
+
+}
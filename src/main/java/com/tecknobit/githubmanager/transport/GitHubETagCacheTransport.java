@@ -0,0 +1,229 @@
+package com.tecknobit.githubmanager.transport;
+
+import com.tecknobit.githubmanager.monitoring.GitHubRequestTracer;
+import com.tecknobit.githubmanager.transport.records.GitHubHTTPRequest;
+import com.tecknobit.githubmanager.transport.records.GitHubHTTPResponse;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.GET;
+
+/**
+ * The {@code GitHubETagCacheTransport} class is a {@link GitHubTransport} which caches the {@code "GET"} responses
+ * that have an {@code "ETag"} header and revalidates them with conditional requests <br>
+ * When the cached response is still valid {@code "GitHub"} replies with {@code "304 Not Modified"}, which is not
+ * counted against the primary rate limit, and the cached body is returned as a normal {@code "200"} response, so it
+ * is formatted by the managers with the {@code "ReturnFormat"} chosen as usual <br>
+ * The entries are kept for each url, access token and accepted media type, so the responses are never shared between
+ * different tokens or different representations of the same resource, and the bodies larger than
+ * {@link #getMaxBodySize()} characters are not cached
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote see the official documentation at: <a href="https://docs.github.com/en/rest/overview/resources-in-the-rest-api#conditional-requests">
+ * Conditional requests</a>
+ * @see GitHubTransport
+ **/
+public class GitHubETagCacheTransport implements GitHubTransport {
+
+    /**
+     * {@code DEFAULT_MAX_ENTRIES} default maximum number of the responses kept in the cache
+     **/
+    public static final int DEFAULT_MAX_ENTRIES = 500;
+
+    /**
+     * {@code DEFAULT_MAX_BODY_SIZE} default maximum number of the characters of a body kept in the cache
+     **/
+    public static final int DEFAULT_MAX_BODY_SIZE = 1024 * 1024;
+
+    /**
+     * {@code transport} used to send the requests
+     **/
+    protected final GitHubTransport transport;
+
+    /**
+     * {@code maxEntries} maximum number of the responses kept in the cache, the least recently used are removed first
+     **/
+    protected final int maxEntries;
+
+    /**
+     * {@code maxBodySize} maximum number of the characters of a body kept in the cache, the larger responses are not
+     * cached
+     **/
+    protected final int maxBodySize;
+
+    /**
+     * {@code cache} the cached responses, the keys are created with {@link #createKey(GitHubHTTPRequest)}
+     **/
+    private final LinkedHashMap<String, GitHubHTTPResponse> cache;
+
+    /**
+     * Constructor to init a {@link GitHubETagCacheTransport}
+     *
+     * @param transport: transport used to send the requests
+     **/
+    public GitHubETagCacheTransport(GitHubTransport transport) {
+        this(transport, DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * Constructor to init a {@link GitHubETagCacheTransport}
+     *
+     * @param transport:  transport used to send the requests
+     * @param maxEntries: maximum number of the responses kept in the cache
+     **/
+    public GitHubETagCacheTransport(GitHubTransport transport, int maxEntries) {
+        this(transport, maxEntries, DEFAULT_MAX_BODY_SIZE);
+    }
+
+    /**
+     * Constructor to init a {@link GitHubETagCacheTransport}
+     *
+     * @param transport:   transport used to send the requests
+     * @param maxEntries:  maximum number of the responses kept in the cache
+     * @param maxBodySize: maximum number of the characters of a body kept in the cache
+     **/
+    public GitHubETagCacheTransport(GitHubTransport transport, int maxEntries, int maxBodySize) {
+        if (transport == null)
+            throw new IllegalArgumentException("The transport cannot be null");
+        if (maxEntries < 1)
+            throw new IllegalArgumentException("The cache must keep at least one entry");
+        if (maxBodySize < 0)
+            throw new IllegalArgumentException("The maximum size of the bodies cannot be negative");
+        this.transport = transport;
+        this.maxEntries = maxEntries;
+        this.maxBodySize = maxBodySize;
+        cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, GitHubHTTPResponse> eldest) {
+                return size() > GitHubETagCacheTransport.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Method to send a request
+     *
+     * @param request: request to send
+     * @return response of the request as {@link GitHubHTTPResponse}
+     * @throws IOException when the request cannot be sent or its response cannot be read
+     * @implNote only the {@code "GET"} requests without an {@code "If-None-Match"} header chosen by the caller are
+     * cached, the other requests are sent as they are; a response with a body larger than {@link #maxBodySize}
+     * replaces the cached one without being cached
+     **/
+    @Override
+    public GitHubHTTPResponse execute(GitHubHTTPRequest request) throws IOException {
+        if (request.getMethod() != GET || request.getHeader("If-None-Match") != null)
+            return transport.execute(request);
+        String key = createKey(request);
+        GitHubHTTPResponse cached;
+        synchronized (cache) {
+            cached = cache.get(key);
+        }
+        if (cached != null)
+            request = request.withHeader("If-None-Match", cached.getHeader("ETag"));
+        GitHubHTTPResponse response = transport.execute(request);
+        int statusCode = response.getStatusCode();
+        if (statusCode == 304 && cached != null) {
+            GitHubRequestTracer.cacheHit(request);
+            TreeMap<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            headers.putAll(cached.getHeaders());
+            headers.putAll(response.getHeaders());
+            response = new GitHubHTTPResponse(cached.getStatusCode(), headers, cached.getBody());
+        }
+        String body = response.getBody();
+        if (statusCode == 200 && response.getHeader("ETag") != null && body != null && body.length() <= maxBodySize) {
+            synchronized (cache) {
+                cache.put(key, response);
+            }
+        } else if (statusCode != 304) {
+            synchronized (cache) {
+                cache.remove(key);
+            }
+        }
+        return response;
+    }
+
+    /**
+     * Method to send a request reading the body of its response with a {@link GitHubBodyReader}
+     *
+     * @param request: request to send
+     * @param reader:  reader of the body of a successful response, {@code "null"} to read it as {@link String}
+     * @return response of the request as {@link GitHubHTTPResponse}
+     * @throws IOException when the request cannot be sent or its response cannot be read
+     * @implNote the requests of a part of a body or of a body which is not {@code "JSON"}, as the downloads, are
+     * sent as they are without being cached, because their bodies cannot be stored as {@link String}
+     **/
+    @Override
+    public GitHubHTTPResponse execute(GitHubHTTPRequest request, GitHubBodyReader<?> reader) throws IOException {
+        if (reader != null && !request.isJSON())
+            return transport.execute(request, reader);
+        return GitHubTransport.super.execute(request, reader);
+    }
+
+    /**
+     * Method to create the key of a request in the cache
+     *
+     * @param request: request from create the key
+     * @return key of the request as {@link String}
+     **/
+    protected String createKey(GitHubHTTPRequest request) {
+        return request.getHeader("authorization") + " " + request.getHeader("accept") + " " + request.getUrl();
+    }
+
+    /**
+     * Method to remove all the responses from the cache <br>
+     * No-any params required
+     **/
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Method to get the number of the responses in the cache <br>
+     * No-any params required
+     *
+     * @return number of the responses in the cache as int
+     **/
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    /**
+     * Method to get {@link #transport} instance <br>
+     * No-any params required
+     *
+     * @return {@link #transport} instance as {@link GitHubTransport}
+     **/
+    public GitHubTransport getTransport() {
+        return transport;
+    }
+
+    /**
+     * Method to get {@link #maxEntries} instance <br>
+     * No-any params required
+     *
+     * @return {@link #maxEntries} instance as int
+     **/
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * Method to get {@link #maxBodySize} instance <br>
+     * No-any params required
+     *
+     * @return {@link #maxBodySize} instance as int
+     **/
+    public int getMaxBodySize() {
+        return maxBodySize;
+    }
+
+}
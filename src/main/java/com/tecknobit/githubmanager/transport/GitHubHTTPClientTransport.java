@@ -0,0 +1,731 @@
+package com.tecknobit.githubmanager.transport;
+
+import com.tecknobit.githubmanager.GitHubManager;
+import com.tecknobit.githubmanager.monitoring.GitHubRequestTracer;
+import com.tecknobit.githubmanager.transport.records.GitHubHTTPRequest;
+import com.tecknobit.githubmanager.transport.records.GitHubHTTPResponse;
+
+import java.io.*;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpTimeoutException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import static java.net.http.HttpClient.Redirect.NEVER;
+import static java.net.http.HttpClient.Version.HTTP_2;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The {@code GitHubHTTPClientTransport} class is the default {@link GitHubTransport} used by the managers <br>
+ * It is backed by {@link HttpClient}s which keep alive and reuse their connections, multiplexing the requests over
+ * {@code "HTTP/2"} when the server supports it, so the {@code "TLS"} handshakes are not repeated for each request <br>
+ * Each host of the API and of the uploads configured on the managers, see {@link GitHubManager#getEndpointsHosts()},
+ * as a {@code "GitHub Enterprise Server"} or a proxy, has its own client, so the requests to a slow host, as the
+ * storage of the downloads, do not hold their connections, while all the other hosts, as the targets of the redirects,
+ * share a single client, so the redirects to many different hosts do not create a client each <br>
+ * The responses are requested compressed and their bodies are decompressed while they are read; a read of a body
+ * which stays blocked longer than the timeout of the request is aborted, so a stalled download or list does not block
+ * the thread forever; in the same way, the requests with a body sent while it is read, as the uploads, have not a
+ * timeout for the whole exchange, which would abort the large uploads on the slow links, but are aborted when no byte
+ * of the body is sent, or no response is received after the body, for longer than the timeout <br>
+ * The redirects are not followed by the client but returned as they are, the {@link com.tecknobit.githubmanager.GitHubManager}
+ * follows them without sending the authorization to the other hosts, as the storages of the downloads
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see GitHubTransport
+ **/
+public class GitHubHTTPClientTransport implements GitHubTransport {
+
+    /**
+     * {@code DEFAULT_CONNECT_TIMEOUT} default timeout in milliseconds to establish a connection
+     **/
+    public static final int DEFAULT_CONNECT_TIMEOUT = 10000;
+
+    /**
+     * {@code DEFAULT_READ_TIMEOUT} default timeout in milliseconds to wait the response of a request
+     **/
+    public static final int DEFAULT_READ_TIMEOUT = 30000;
+
+    /**
+     * {@code BUFFER_SIZE} size of the buffers used to decompress the bodies
+     **/
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * {@code watchdog} executor used to abort the reads of the bodies which stay blocked longer than the timeout
+     **/
+    private static final ScheduledThreadPoolExecutor watchdog = new ScheduledThreadPoolExecutor(1, runnable -> {
+        Thread thread = new Thread(runnable, "github-body-watchdog");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        watchdog.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * {@code httpClient} client used to send the requests to the host of the API, or to all the hosts when the
+     * clients are not created by a factory
+     **/
+    protected final HttpClient httpClient;
+
+    /**
+     * {@code clientsFactory} factory of the clients of the hosts, {@code "null"} if the {@link #httpClient} is used
+     * for all the hosts
+     **/
+    protected final Supplier<HttpClient> clientsFactory;
+
+    /**
+     * {@code OTHER_HOSTS} key of the client shared by the hosts which are not the ones of the API and of the uploads
+     * configured on the managers
+     **/
+    private static final String OTHER_HOSTS = "";
+
+    /**
+     * {@code hostsClients} the clients already created besides the {@link #httpClient}, the keys are the scheme and the
+     * authority of a host of the API or of the uploads, as {@code "https://uploads.github.com"}, or
+     * {@link #OTHER_HOSTS} for the client shared by the other hosts
+     **/
+    private final ConcurrentHashMap<String, HttpClient> hostsClients;
+
+    /**
+     * {@code readTimeout} timeout in milliseconds to wait the response of a request, and the maximum time which a read
+     * of its body can stay blocked
+     **/
+    protected final int readTimeout;
+
+    /**
+     * {@code compression} whether the responses are requested compressed with {@code "gzip"}
+     **/
+    protected final boolean compression;
+
+    /**
+     * Constructor to init a {@link GitHubHTTPClientTransport} <br>
+     * No-any params required
+     **/
+    public GitHubHTTPClientTransport() {
+        this(DEFAULT_CONNECT_TIMEOUT, DEFAULT_READ_TIMEOUT);
+    }
+
+    /**
+     * Constructor to init a {@link GitHubHTTPClientTransport}
+     *
+     * @param connectTimeout: timeout in milliseconds to establish a connection
+     * @param readTimeout:    timeout in milliseconds to wait the response of a request
+     **/
+    public GitHubHTTPClientTransport(int connectTimeout, int readTimeout) {
+        this(connectTimeout, readTimeout, true);
+    }
+
+    /**
+     * Constructor to init a {@link GitHubHTTPClientTransport}
+     *
+     * @param connectTimeout: timeout in milliseconds to establish a connection
+     * @param readTimeout:    timeout in milliseconds to wait the response of a request
+     * @param compression:    whether the responses are requested compressed with {@code "gzip"}
+     **/
+    public GitHubHTTPClientTransport(int connectTimeout, int readTimeout, boolean compression) {
+        this(() -> HttpClient.newBuilder()
+                .version(HTTP_2)
+                .followRedirects(NEVER)
+                .connectTimeout(Duration.ofMillis(connectTimeout))
+                .build(), readTimeout, compression);
+    }
+
+    /**
+     * Constructor to init a {@link GitHubHTTPClientTransport} with a client for each host
+     *
+     * @param clientsFactory: factory of the clients, invoked for each host of the API and of the uploads configured on
+     *                        the managers and once for all the other hosts
+     * @param readTimeout:    timeout in milliseconds to wait the response of a request
+     * @param compression:    whether the responses are requested compressed with {@code "gzip"}
+     * @apiNote the clients should not follow the redirects
+     **/
+    public GitHubHTTPClientTransport(Supplier<HttpClient> clientsFactory, int readTimeout, boolean compression) {
+        if (clientsFactory == null)
+            throw new IllegalArgumentException("The factory of the clients cannot be null");
+        this.clientsFactory = clientsFactory;
+        httpClient = clientsFactory.get();
+        this.readTimeout = readTimeout;
+        this.compression = compression;
+        hostsClients = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Constructor to init a {@link GitHubHTTPClientTransport} with a single client for all the hosts
+     *
+     * @param httpClient:  client to use to send the requests
+     * @param readTimeout: timeout in milliseconds to wait the response of a request
+     **/
+    public GitHubHTTPClientTransport(HttpClient httpClient, int readTimeout) {
+        this(httpClient, readTimeout, true);
+    }
+
+    /**
+     * Constructor to init a {@link GitHubHTTPClientTransport} with a single client for all the hosts
+     *
+     * @param httpClient:  client to use to send the requests
+     * @param readTimeout: timeout in milliseconds to wait the response of a request
+     * @param compression: whether the responses are requested compressed with {@code "gzip"}
+     **/
+    public GitHubHTTPClientTransport(HttpClient httpClient, int readTimeout, boolean compression) {
+        this.httpClient = httpClient;
+        this.readTimeout = readTimeout;
+        this.compression = compression;
+        clientsFactory = null;
+        hostsClients = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Method to send a request
+     *
+     * @param request: request to send
+     * @return response of the request as {@link GitHubHTTPResponse}
+     * @throws IOException when the request cannot be sent or its response cannot be read
+     **/
+    @Override
+    public GitHubHTTPResponse execute(GitHubHTTPRequest request) throws IOException {
+        HttpResponse<InputStream> response = send(request);
+        try (InputStream body = openBody(response)) {
+            return new GitHubHTTPResponse(response.statusCode(), getDecodedHeaders(response),
+                    new String(body.readAllBytes(), UTF_8));
+        }
+    }
+
+    /**
+     * Method to send a request reading the body of its response with a {@link GitHubBodyReader} while it is received
+     *
+     * @param request: request to send
+     * @param reader:  reader of the body of a successful response, {@code "null"} to read it as {@link String}
+     * @return response of the request as {@link GitHubHTTPResponse}, when the response is successful its content is
+     * the one read by the reader
+     * @throws IOException when the request cannot be sent or its response cannot be read
+     **/
+    @Override
+    public GitHubHTTPResponse execute(GitHubHTTPRequest request, GitHubBodyReader<?> reader) throws IOException {
+        if (reader == null)
+            return execute(request);
+        HttpResponse<InputStream> response = send(request);
+        try (InputStream body = openBody(response)) {
+            int statusCode = response.statusCode();
+            Map<String, List<String>> headers = getDecodedHeaders(response);
+            if (statusCode >= 200 && statusCode < 300) {
+                return new GitHubHTTPResponse(statusCode, headers, null,
+                        reader.read(new GitHubHTTPResponse(statusCode, headers, null), body));
+            }
+            return new GitHubHTTPResponse(statusCode, headers, new String(body.readAllBytes(), UTF_8));
+        }
+    }
+
+    /**
+     * Method to open the body of a response, decompressing it while it is read when it has been compressed
+     *
+     * @param response: response from open the body
+     * @return body of the response as {@link InputStream}
+     * @throws IOException when the body cannot be decompressed
+     **/
+    protected InputStream openBody(HttpResponse<InputStream> response) throws IOException {
+        long idleTimeout = response.request().timeout().map(Duration::toMillis).orElse((long) readTimeout);
+        InputStream body = response.body();
+        if (idleTimeout > 0)
+            body = new IdleTimeoutInputStream(body, idleTimeout);
+        String encoding = response.headers().firstValue("content-encoding").orElse("").trim();
+        try {
+            if (encoding.equalsIgnoreCase("gzip") || encoding.equalsIgnoreCase("x-gzip"))
+                return new GZIPInputStream(body, BUFFER_SIZE);
+            if (encoding.equalsIgnoreCase("deflate"))
+                return new InflaterInputStream(body, new Inflater(), BUFFER_SIZE);
+        } catch (IOException e) {
+            body.close();
+            throw e;
+        }
+        return body;
+    }
+
+    /**
+     * Method to get the headers of a response as they are after the decompression of the body
+     *
+     * @param response: response from get the headers
+     * @return headers of the response, without the {@code "Content-Encoding"} and the {@code "Content-Length"} of
+     * the compressed body, as {@link Map} of {@link List} of {@link String}
+     **/
+    protected Map<String, List<String>> getDecodedHeaders(HttpResponse<?> response) {
+        Map<String, List<String>> headers = response.headers().map();
+        if (response.headers().firstValue("content-encoding").isEmpty())
+            return headers;
+        TreeMap<String, List<String>> decodedHeaders = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (Map.Entry<String, List<String>> header : headers.entrySet())
+            if (header.getKey() != null)
+                decodedHeaders.put(header.getKey(), header.getValue());
+        decodedHeaders.remove("content-encoding");
+        decodedHeaders.remove("content-length");
+        return decodedHeaders;
+    }
+
+    /**
+     * Method to send a request and get its response with the body not read yet
+     *
+     * @param request: request to send
+     * @return response of the request as {@link HttpResponse} of {@link InputStream}
+     * @throws IOException when the request cannot be sent
+     **/
+    protected HttpResponse<InputStream> send(GitHubHTTPRequest request) throws IOException {
+        try {
+            HttpResponse<InputStream> response;
+            if (request.getStreamedBody() != null) {
+                IdleUploadBody uploadBody = new IdleUploadBody(request.getStreamedBody(), getTimeout(request));
+                HttpRequest httpRequest = createHttpRequest(request.withStreamedBody(uploadBody));
+                response = uploadBody.await(getHttpClient(httpRequest.uri()).sendAsync(httpRequest,
+                        BodyHandlers.ofInputStream()));
+            } else {
+                HttpRequest httpRequest = createHttpRequest(request);
+                response = getHttpClient(httpRequest.uri()).send(httpRequest, BodyHandlers.ofInputStream());
+            }
+            GitHubRequestTracer.firstByte(response.statusCode());
+            return response;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Request interrupted: " + request);
+        }
+    }
+
+    /**
+     * Method to get the timeout of a request
+     *
+     * @param request: request from get the timeout
+     * @return timeout of the request in milliseconds, the {@link #readTimeout} if the request has not its own timeout,
+     * as int
+     **/
+    private int getTimeout(GitHubHTTPRequest request) {
+        int timeout = request.getTimeout();
+        if (timeout == -1)
+            timeout = readTimeout;
+        return timeout;
+    }
+
+    /**
+     * Method to create the {@link HttpRequest} to send
+     *
+     * @param request: request to convert
+     * @return request as {@link HttpRequest}
+     * @implNote the requests with a body sent while it is read have not a timeout for the whole exchange, it is
+     * enforced by {@link #send(GitHubHTTPRequest)} as the idle time between the chunks of the body
+     **/
+    protected HttpRequest createHttpRequest(GitHubHTTPRequest request) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(request.getUrl()));
+        GitHubRequestBody streamedBody = request.getStreamedBody();
+        if (streamedBody == null)
+            builder.timeout(Duration.ofMillis(getTimeout(request)));
+        for (Map.Entry<String, String> header : request.getHeaders().entrySet())
+            builder.header(header.getKey(), header.getValue());
+        if (compression && request.getHeader("accept-encoding") == null)
+            builder.header("accept-encoding", "gzip, deflate");
+        byte[] body = request.getBody();
+        if (streamedBody != null)
+            builder.method(request.getMethod().name(), createBodyPublisher(streamedBody));
+        else if (body == null)
+            builder.method(request.getMethod().name(), BodyPublishers.noBody());
+        else
+            builder.method(request.getMethod().name(), BodyPublishers.ofByteArray(body));
+        return builder.build();
+    }
+
+    /**
+     * Method to create the publisher of a body sent while it is read
+     *
+     * @param streamedBody: body to send
+     * @return publisher of the body as {@link BodyPublisher}
+     * @implNote the body is read in small chunks and, when its length is known, it is sent with the
+     * {@code "Content-Length"} header, otherwise it is sent in chunks
+     **/
+    protected BodyPublisher createBodyPublisher(GitHubRequestBody streamedBody) {
+        BodyPublisher publisher = BodyPublishers.ofInputStream(() -> {
+            try {
+                return streamedBody.open();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        long length = streamedBody.getLength();
+        if (length >= 0)
+            return BodyPublishers.fromPublisher(publisher, length);
+        return publisher;
+    }
+
+    /**
+     * Method to get the client used to send the requests to a host
+     *
+     * @param uri: uri of the request
+     * @return client of the host as {@link HttpClient}, created with the {@link #clientsFactory} the first time that
+     * the host is contacted, the client shared by the other hosts when the host is not one of the API or of the
+     * uploads configured on the managers
+     **/
+    protected HttpClient getHttpClient(URI uri) {
+        if (clientsFactory == null)
+            return httpClient;
+        String hostKey = getHostKey(uri);
+        if (hostKey.equals(getHostKey(URI.create(GitHubManager.getDefaultBaseEndpoint()))))
+            return httpClient;
+        if (!GitHubManager.getEndpointsHosts().contains(hostKey))
+            hostKey = OTHER_HOSTS;
+        return hostsClients.computeIfAbsent(hostKey, host -> clientsFactory.get());
+    }
+
+    /**
+     * Method to get the key of the host of an uri
+     *
+     * @param uri: uri from get the key
+     * @return scheme and authority of the uri as {@link String}, as {@code "https://api.github.com"}
+     **/
+    public static String getHostKey(URI uri) {
+        return (uri.getScheme() + "://" + uri.getRawAuthority()).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Method to get {@link #httpClient} instance <br>
+     * No-any params required
+     *
+     * @return {@link #httpClient} instance as {@link HttpClient}
+     **/
+    public HttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    /**
+     * Method to get {@link #readTimeout} instance <br>
+     * No-any params required
+     *
+     * @return {@link #readTimeout} instance as int
+     **/
+    public int getReadTimeout() {
+        return readTimeout;
+    }
+
+    /**
+     * Method to get {@link #compression} instance <br>
+     * No-any params required
+     *
+     * @return {@link #compression} instance as boolean
+     **/
+    public boolean isCompression() {
+        return compression;
+    }
+
+
+    /**
+     * The {@code IdleUploadBody} class is useful to abort a request with a body sent while it is read when no byte of
+     * the body is sent, or no response is received after the body, for longer than a timeout
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     **/
+    private static final class IdleUploadBody implements GitHubRequestBody {
+
+        /**
+         * {@code body} body to send
+         **/
+        private final GitHubRequestBody body;
+
+        /**
+         * {@code idleTimeout} maximum time in milliseconds without any progress of the request
+         **/
+        private final long idleTimeout;
+
+        /**
+         * {@code lastActivity} {@link System#nanoTime()} when the request has made progress for the last time
+         **/
+        private volatile long lastActivity = System.nanoTime();
+
+        /**
+         * {@code timedOut} whether the request has been aborted because it stayed idle too long
+         **/
+        private volatile boolean timedOut;
+
+        /**
+         * Constructor to init a {@link IdleUploadBody}
+         *
+         * @param body:        body to send
+         * @param idleTimeout: maximum time in milliseconds without any progress of the request
+         **/
+        private IdleUploadBody(GitHubRequestBody body, long idleTimeout) {
+            this.body = body;
+            this.idleTimeout = idleTimeout;
+        }
+
+        /**
+         * Method to open the body to send, tracking the time of each chunk read <br>
+         * No-any params required
+         *
+         * @return body to send as {@link InputStream}
+         * @throws IOException when the body cannot be opened
+         **/
+        @Override
+        public InputStream open() throws IOException {
+            lastActivity = System.nanoTime();
+            return new FilterInputStream(body.open()) {
+
+                @Override
+                public int read() throws IOException {
+                    int read = super.read();
+                    lastActivity = System.nanoTime();
+                    return read;
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    int read = super.read(buffer, offset, length);
+                    lastActivity = System.nanoTime();
+                    return read;
+                }
+
+            };
+        }
+
+        /**
+         * Method to get the number of the bytes of the body <br>
+         * No-any params required
+         *
+         * @return number of the bytes of the body as long, {@code "-1"} if it is not known
+         **/
+        @Override
+        public long getLength() {
+            return body.getLength();
+        }
+
+        /**
+         * Method to get whether the body can be opened again from its first byte <br>
+         * No-any params required
+         *
+         * @return whether the body can be opened again from its first byte as boolean
+         **/
+        @Override
+        public boolean isRepeatable() {
+            return body.isRepeatable();
+        }
+
+        /**
+         * Method to wait the response of the request, cancelling it when it stays idle longer than the timeout
+         *
+         * @param response: response of the request sent
+         * @return response of the request as {@link HttpResponse} of {@link InputStream}
+         * @throws IOException          when the request has been go wrong or stayed idle longer than the timeout
+         * @throws InterruptedException when the thread has been interrupted while waiting
+         **/
+        private HttpResponse<InputStream> await(CompletableFuture<HttpResponse<InputStream>> response)
+                throws IOException, InterruptedException {
+            ScheduledFuture<?> check = null;
+            if (idleTimeout > 0) {
+                long period = Math.max(idleTimeout / 2, 1);
+                check = watchdog.scheduleWithFixedDelay(() -> {
+                    if (System.nanoTime() - lastActivity >= TimeUnit.MILLISECONDS.toNanos(idleTimeout)) {
+                        timedOut = true;
+                        response.cancel(true);
+                    }
+                }, period, period, TimeUnit.MILLISECONDS);
+            }
+            try {
+                return response.get();
+            } catch (InterruptedException e) {
+                response.cancel(true);
+                throw e;
+            } catch (CancellationException e) {
+                if (timedOut)
+                    throw new HttpTimeoutException("No progress of the request for " + idleTimeout + " ms");
+                throw new InterruptedIOException("Request cancelled");
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (timedOut) {
+                    HttpTimeoutException timeout = new HttpTimeoutException("No progress of the request for "
+                            + idleTimeout + " ms");
+                    timeout.initCause(cause);
+                    throw timeout;
+                }
+                if (cause instanceof IOException)
+                    throw (IOException) cause;
+                if (cause instanceof RuntimeException)
+                    throw (RuntimeException) cause;
+                throw new IOException(cause);
+            } finally {
+                if (check != null)
+                    check.cancel(false);
+            }
+        }
+
+    }
+
+    /**
+     * The {@code IdleTimeoutInputStream} class is useful to abort the reads of a body which stay blocked longer than a
+     * timeout, closing the body so the blocked read is released
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     **/
+    private static final class IdleTimeoutInputStream extends FilterInputStream {
+
+        /**
+         * {@code idleTimeout} maximum time in milliseconds which a read can stay blocked
+         **/
+        private final long idleTimeout;
+
+        /**
+         * {@code check} the periodic check of the reads in progress
+         **/
+        private final ScheduledFuture<?> check;
+
+        /**
+         * {@code readingSince} {@link System#nanoTime()} when the read in progress has been started, {@code "0"} if
+         * there is no read in progress
+         **/
+        private volatile long readingSince;
+
+        /**
+         * {@code timedOut} whether the body has been aborted because a read stayed blocked too long
+         **/
+        private volatile boolean timedOut;
+
+        /**
+         * Constructor to init a {@link IdleTimeoutInputStream}
+         *
+         * @param body:        body to read
+         * @param idleTimeout: maximum time in milliseconds which a read can stay blocked
+         **/
+        private IdleTimeoutInputStream(InputStream body, long idleTimeout) {
+            super(body);
+            this.idleTimeout = idleTimeout;
+            long period = Math.max(idleTimeout / 2, 1);
+            check = watchdog.scheduleWithFixedDelay(this::checkIdle, period, period, TimeUnit.MILLISECONDS);
+        }
+
+        /**
+         * Method to abort the body when the read in progress stays blocked longer than the timeout <br>
+         * No-any params required
+         **/
+        private void checkIdle() {
+            long since = readingSince;
+            if (since == 0 || System.nanoTime() - since < TimeUnit.MILLISECONDS.toNanos(idleTimeout))
+                return;
+            timedOut = true;
+            check.cancel(false);
+            try {
+                in.close();
+            } catch (IOException ignored) {
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         **/
+        @Override
+        public int read() throws IOException {
+            beginRead();
+            try {
+                return endRead(in.read());
+            } catch (IOException e) {
+                throw endRead(e);
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         **/
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            beginRead();
+            try {
+                return endRead(in.read(buffer, offset, length));
+            } catch (IOException e) {
+                throw endRead(e);
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         **/
+        @Override
+        public long skip(long n) throws IOException {
+            beginRead();
+            try {
+                return endRead((int) Math.min(in.skip(n), Integer.MAX_VALUE));
+            } catch (IOException e) {
+                throw endRead(e);
+            }
+        }
+
+        /**
+         * Method to start a read
+         *
+         * @throws SocketTimeoutException when the body has been already aborted
+         **/
+        private void beginRead() throws SocketTimeoutException {
+            if (timedOut)
+                throw createTimeoutException();
+            readingSince = System.nanoTime();
+        }
+
+        /**
+         * Method to end a read
+         *
+         * @param read: the value returned by the read
+         * @return the value returned by the read as int
+         * @throws SocketTimeoutException when the body has been aborted while it was read
+         **/
+        private int endRead(int read) throws SocketTimeoutException {
+            readingSince = 0;
+            if (timedOut)
+                throw createTimeoutException();
+            return read;
+        }
+
+        /**
+         * Method to end a read gone wrong
+         *
+         * @param error: error of the read
+         * @return error to throw as {@link IOException}, a {@link SocketTimeoutException} when the body has been
+         * aborted while it was read
+         **/
+        private IOException endRead(IOException error) {
+            readingSince = 0;
+            if (timedOut) {
+                SocketTimeoutException timeout = createTimeoutException();
+                timeout.initCause(error);
+                return timeout;
+            }
+            return error;
+        }
+
+        /**
+         * Method to create the exception thrown when a read stayed blocked too long <br>
+         * No-any params required
+         *
+         * @return exception as {@link SocketTimeoutException}
+         **/
+        private SocketTimeoutException createTimeoutException() {
+            return new SocketTimeoutException("No data received for " + idleTimeout + " ms while reading the body");
+        }
+
+        /**
+         * {@inheritDoc}
+         **/
+        @Override
+        public void close() throws IOException {
+            check.cancel(false);
+            super.close();
+        }
+
+    }
+
+}
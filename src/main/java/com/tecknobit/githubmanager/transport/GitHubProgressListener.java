@@ -0,0 +1,23 @@
+package com.tecknobit.githubmanager.transport;
+
+/**
+ * The {@code GitHubProgressListener} interface is useful to follow the progress of a body while it is sent, as the
+ * upload of a release asset
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see GitHubRequestBody
+ **/
+@FunctionalInterface
+public interface GitHubProgressListener {
+
+    /**
+     * Method invoked each time a chunk of the body has been read to be sent
+     *
+     * @param transferred: number of the bytes read to be sent until now, it starts again from {@code "0"} when the
+     *                     request is retried
+     * @param total:       number of the bytes of the whole body, {@code "-1"} if it is not known
+     * @implNote this method is invoked on the thread which sends the request, so it should return quickly
+     **/
+    void onProgress(long transferred, long total);
+
+}
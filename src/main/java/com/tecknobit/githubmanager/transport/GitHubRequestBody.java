@@ -0,0 +1,113 @@
+package com.tecknobit.githubmanager.transport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * The {@code GitHubRequestBody} interface is useful to send the body of a request while it is read, as a large file,
+ * without storing it in memory as array of byte
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see com.tecknobit.githubmanager.transport.records.GitHubHTTPRequest#withStreamedBody(GitHubRequestBody)
+ **/
+public interface GitHubRequestBody {
+
+    /**
+     * Method to open the body to send, the stream opened is closed by the transport when the body has been sent <br>
+     * No-any params required
+     *
+     * @return body to send as {@link InputStream}
+     * @throws IOException when the body cannot be opened
+     * @implNote when the body is not repeatable, each invocation returns the same stream
+     **/
+    InputStream open() throws IOException;
+
+    /**
+     * Method to get the number of the bytes of the body <br>
+     * No-any params required
+     *
+     * @return number of the bytes of the body as long, {@code "-1"} if it is not known
+     **/
+    long getLength();
+
+    /**
+     * Method to get whether the body can be opened again from its first byte, to retry a request <br>
+     * No-any params required
+     *
+     * @return whether the body can be opened again from its first byte as boolean
+     **/
+    boolean isRepeatable();
+
+    /**
+     * Method to create a body from a file, which is opened again each time the request is sent
+     *
+     * @param path: path of the file to send
+     * @return body as {@link GitHubRequestBody}
+     * @throws IOException when the size of the file cannot be read
+     **/
+    static GitHubRequestBody of(Path path) throws IOException {
+        long length = Files.size(path);
+        return new GitHubRequestBody() {
+
+            @Override
+            public InputStream open() throws IOException {
+                return Files.newInputStream(path);
+            }
+
+            @Override
+            public long getLength() {
+                return length;
+            }
+
+            @Override
+            public boolean isRepeatable() {
+                return true;
+            }
+
+        };
+    }
+
+    /**
+     * Method to create a body from a stream, which can be sent only once
+     *
+     * @param stream: stream to send
+     * @param length: number of the bytes to send, {@code "-1"} if it is not known
+     * @return body as {@link GitHubRequestBody}
+     **/
+    static GitHubRequestBody of(InputStream stream, long length) {
+        return new GitHubRequestBody() {
+
+            @Override
+            public InputStream open() {
+                return stream;
+            }
+
+            @Override
+            public long getLength() {
+                return length;
+            }
+
+            @Override
+            public boolean isRepeatable() {
+                return false;
+            }
+
+        };
+    }
+
+    /**
+     * Method to create a body from a channel, which can be sent only once
+     *
+     * @param channel: channel to send
+     * @param length:  number of the bytes to send, {@code "-1"} if it is not known
+     * @return body as {@link GitHubRequestBody}
+     **/
+    static GitHubRequestBody of(ReadableByteChannel channel, long length) {
+        return of(Channels.newInputStream(channel), length);
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.tecknobit.githubmanager.transport;
+
+import com.tecknobit.githubmanager.transport.records.GitHubHTTPResponse;
+
+import java.io.IOException;
+
+/**
+ * The {@code GitHubRequestException} class is the exception with which a request sent asynchronously is completed when
+ * it has been go wrong <br>
+ * It carries the last response received by the thread which sent the request, so its status code and its error can be
+ * read also from a different thread
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see com.tecknobit.githubmanager.GitHubManager#async(java.util.concurrent.Callable)
+ **/
+public class GitHubRequestException extends IOException {
+
+    /**
+     * {@code response} last response received by the thread which sent the request, {@code "null"} if no response has
+     * been received
+     **/
+    private final GitHubHTTPResponse response;
+
+    /**
+     * Constructor to init a {@link GitHubRequestException}
+     *
+     * @param response: last response received by the thread which sent the request, {@code "null"} if no response has
+     *                  been received
+     * @param cause:    exception thrown by the request
+     **/
+    public GitHubRequestException(GitHubHTTPResponse response, Throwable cause) {
+        super(response != null ? "The request has been go wrong with the status code " + response.getStatusCode()
+                : "The request has been go wrong without any response", cause);
+        this.response = response;
+    }
+
+    /**
+     * Method to get {@link #response} instance <br>
+     * No-any params required
+     *
+     * @return {@link #response} instance as {@link GitHubHTTPResponse}
+     **/
+    public GitHubHTTPResponse getResponse() {
+        return response;
+    }
+
+    /**
+     * Method to get the status code of the response <br>
+     * No-any params required
+     *
+     * @return status code of the response as int, {@code "-1"} if no response has been received
+     **/
+    public int getStatusCode() {
+        if (response == null)
+            return -1;
+        return response.getStatusCode();
+    }
+
+    /**
+     * Method to get the body of the response <br>
+     * No-any params required
+     *
+     * @return body of the response as {@link String}, {@code "null"} if no response has been received
+     **/
+    public String getErrorResponse() {
+        if (response == null)
+            return null;
+        return response.getBody();
+    }
+
+}
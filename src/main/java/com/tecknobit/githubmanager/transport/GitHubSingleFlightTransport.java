@@ -0,0 +1,171 @@
+package com.tecknobit.githubmanager.transport;
+
+import com.tecknobit.githubmanager.transport.records.GitHubHTTPRequest;
+import com.tecknobit.githubmanager.transport.records.GitHubHTTPResponse;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.GET;
+
+/**
+ * The {@code GitHubSingleFlightTransport} class is a {@link GitHubTransport} which coalesces the identical
+ * {@code "GET"} requests sent at the same time <br>
+ * When a request with the same url, the same authorization and the same accepted media type of another request still
+ * in progress is sent, it waits and shares the response of that request instead of sending a new one, so a burst of
+ * requests for the same resource costs a single call
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see GitHubTransport
+ **/
+public class GitHubSingleFlightTransport implements GitHubTransport {
+
+    /**
+     * {@code transport} used to send the requests
+     **/
+    protected final GitHubTransport transport;
+
+    /**
+     * {@code inFlight} the requests in progress, the keys are created with {@link #createKey(GitHubHTTPRequest)}
+     **/
+    private final ConcurrentHashMap<String, CompletableFuture<GitHubHTTPResponse>> inFlight;
+
+    /**
+     * Constructor to init a {@link GitHubSingleFlightTransport}
+     *
+     * @param transport: transport used to send the requests
+     **/
+    public GitHubSingleFlightTransport(GitHubTransport transport) {
+        if (transport == null)
+            throw new IllegalArgumentException("The transport cannot be null");
+        this.transport = transport;
+        inFlight = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Method to send a request
+     *
+     * @param request: request to send
+     * @return response of the request as {@link GitHubHTTPResponse}, shared with the identical requests sent at the
+     * same time
+     * @throws IOException when the request cannot be sent or its response cannot be read
+     * @implNote the shared response is immutable, so each manager formats it with its own {@code "ReturnFormat"}
+     **/
+    @Override
+    public GitHubHTTPResponse execute(GitHubHTTPRequest request) throws IOException {
+        if (request.getMethod() != GET)
+            return transport.execute(request);
+        String key = createKey(request);
+        CompletableFuture<GitHubHTTPResponse> flight = new CompletableFuture<>();
+        CompletableFuture<GitHubHTTPResponse> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null)
+            return await(leader, request);
+        try {
+            GitHubHTTPResponse response = transport.execute(request);
+            flight.complete(response);
+            return response;
+        } catch (IOException | RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Method to send a request reading the body of its response with a {@link GitHubBodyReader}
+     *
+     * @param request: request to send
+     * @param reader:  reader of the body of a successful response, {@code "null"} to read it as {@link String}
+     * @return response of the request as {@link GitHubHTTPResponse}
+     * @throws IOException when the request cannot be sent or its response cannot be read
+     * @implNote the requests of a part of a body or of a body which is not {@code "JSON"}, as the downloads, are
+     * never coalesced, because their bodies cannot be stored as {@link String}
+     **/
+    @Override
+    public GitHubHTTPResponse execute(GitHubHTTPRequest request, GitHubBodyReader<?> reader) throws IOException {
+        if (reader != null && !request.isJSON())
+            return transport.execute(request, reader);
+        return GitHubTransport.super.execute(request, reader);
+    }
+
+    /**
+     * Method to wait the response of an identical request in progress
+     *
+     * @param leader:  the request in progress
+     * @param request: request which waits the response
+     * @return response of the request as {@link GitHubHTTPResponse}
+     * @throws IOException when the request in progress has been go wrong or the thread has been interrupted
+     * @implNote the exception of the request in progress is thrown again as a new instance of the same type, with that
+     * exception as cause, so the waiting requests can still tell a timeout from the other errors
+     **/
+    private GitHubHTTPResponse await(CompletableFuture<GitHubHTTPResponse> leader,
+                                     GitHubHTTPRequest request) throws IOException {
+        try {
+            return leader.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Request interrupted while waiting an identical request: " + request);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException)
+                throw copyOf((IOException) cause);
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException) cause;
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Method to create a new instance of the same type of the exception of the request in progress, with that
+     * exception as cause, for a request which waited its response
+     *
+     * @param exception: exception of the request in progress
+     * @return exception to throw as {@link IOException}, a plain {@link IOException} if the type of the exception
+     * cannot be created with its message
+     **/
+    private static IOException copyOf(IOException exception) {
+        IOException copy;
+        try {
+            copy = exception.getClass().getConstructor(String.class).newInstance(exception.getMessage());
+            copy.initCause(exception);
+        } catch (ReflectiveOperationException | IllegalStateException e) {
+            copy = new IOException(exception.getMessage(), exception);
+        }
+        return copy;
+    }
+
+    /**
+     * Method to create the key of a request to find the identical requests
+     *
+     * @param request: request from create the key
+     * @return key of the request as {@link String}
+     **/
+    protected String createKey(GitHubHTTPRequest request) {
+        return request.getHeader("authorization") + " " + request.getHeader("accept") + " " + request.getUrl();
+    }
+
+    /**
+     * Method to get the number of the requests in progress which can be shared <br>
+     * No-any params required
+     *
+     * @return number of the requests in progress as int
+     **/
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * Method to get {@link #transport} instance <br>
+     * No-any params required
+     *
+     * @return {@link #transport} instance as {@link GitHubTransport}
+     **/
+    public GitHubTransport getTransport() {
+        return transport;
+    }
+
+}
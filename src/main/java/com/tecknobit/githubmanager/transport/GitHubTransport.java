@@ -0,0 +1,51 @@
+package com.tecknobit.githubmanager.transport;
+
+import com.tecknobit.githubmanager.GitHubManager;
+import com.tecknobit.githubmanager.transport.records.GitHubHTTPRequest;
+import com.tecknobit.githubmanager.transport.records.GitHubHTTPResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The {@code GitHubTransport} interface is useful to send the requests of the {@link GitHubManager}'s managers
+ * to {@code "GitHub"} <br>
+ * The implementations must be thread-safe, because the same transport is shared by all the managers
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see GitHubHTTPClientTransport
+ **/
+public interface GitHubTransport {
+
+    /**
+     * Method to send a request
+     *
+     * @param request: request to send
+     * @return response of the request as {@link GitHubHTTPResponse}
+     * @throws IOException when the request cannot be sent or its response cannot be read
+     * @implSpec the responses with an error status code must be returned and not thrown as exception
+     **/
+    GitHubHTTPResponse execute(GitHubHTTPRequest request) throws IOException;
+
+    /**
+     * Method to send a request reading the body of its response with a {@link GitHubBodyReader}
+     *
+     * @param request: request to send
+     * @param reader:  reader of the body of a successful response, {@code "null"} to read it as {@link String}
+     * @return response of the request as {@link GitHubHTTPResponse}, when the response is successful its content is
+     * the one read by the reader
+     * @throws IOException when the request cannot be sent or its response cannot be read
+     * @implSpec the default implementation reads the whole body with {@link #execute(GitHubHTTPRequest)} and then
+     * passes it to the reader, the transports which can stream the body while it is received should override this
+     * method, the error responses are always read as {@link String}
+     **/
+    default GitHubHTTPResponse execute(GitHubHTTPRequest request, GitHubBodyReader<?> reader) throws IOException {
+        GitHubHTTPResponse response = execute(request);
+        if (reader == null || !response.isSuccessful() || response.getBody() == null)
+            return response;
+        return response.withContent(reader.read(response, new ByteArrayInputStream(response.getBody().getBytes(UTF_8))));
+    }
+
+}
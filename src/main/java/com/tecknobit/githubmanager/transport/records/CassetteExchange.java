@@ -0,0 +1,531 @@
+package com.tecknobit.githubmanager.transport.records;
+
+import com.tecknobit.apimanager.apis.APIRequest.RequestMethod;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The {@code CassetteExchange} class is useful to format an exchange of a request and its response recorded in a
+ * cassette by a {@link com.tecknobit.githubmanager.transport.GitHubCassetteTransport} <br>
+ * The exchanges are stored as compact {@code "JSON"} objects, one for each line of the cassette:
+ * <pre>
+ *     {@code
+ *        {
+ *           "m": "GET", // method of the request
+ *           "u": "https://api.github.com/repos/octocat/Hello-World", // url of the request
+ *           "q": {"accept": "application/vnd.github+json"}, // headers of the request, without the authorization
+ *           "ql": 0, // number of the bytes of the body of the request, "-1" if unknown
+ *           "qh": "e3b0c4...", // "SHA-256" of the body of the request, missing if it has not a body or it is streamed
+ *           "s": 200, // status code of the response
+ *           "h": {"etag": ["W/\"7d1a0a\""]}, // headers of the response
+ *           "b": "{\"id\": 1296269}", // body of the response as text, or "b64" with the body encoded in Base64
+ *           // or "bf" with the side file of the body, relative to the folder of the cassette, and "bl" with its length
+ *           "o": 1250000, // nanoseconds elapsed from the start of the recording to the request
+ *           "d": 87000000 // nanoseconds elapsed to receive the response
+ *        }
+ *     }
+ * </pre>
+ * The exchanges are matched to the requests by the method, the url, the {@code "Accept"} and the {@code "Range"}
+ * headers and the body of the request, see {@link #createKey(GitHubHTTPRequest)}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ **/
+public final class CassetteExchange {
+
+    /**
+     * {@code method} method of the request
+     **/
+    private final RequestMethod method;
+
+    /**
+     * {@code url} url of the request
+     **/
+    private final String url;
+
+    /**
+     * {@code requestHeaders} headers of the request, without the {@code "authorization"}
+     **/
+    private final Map<String, String> requestHeaders;
+
+    /**
+     * {@code requestBodyLength} number of the bytes of the body of the request, {@code "-1"} if unknown
+     **/
+    private final long requestBodyLength;
+
+    /**
+     * {@code requestBodyHash} {@code "SHA-256"} of the body of the request in hexadecimal, {@code "null"} if the request
+     * has not a body or its body is streamed
+     **/
+    private final String requestBodyHash;
+
+    /**
+     * {@code statusCode} status code of the response
+     **/
+    private final int statusCode;
+
+    /**
+     * {@code headers} headers of the response
+     **/
+    private final Map<String, List<String>> headers;
+
+    /**
+     * {@code body} body of the response, {@code "null"} if the response has not a body
+     **/
+    private final byte[] body;
+
+    /**
+     * {@code textBody} whether the body of the response has been read as text
+     **/
+    private final boolean textBody;
+
+    /**
+     * {@code bodyFile} side file where the body of the response is stored, relative to {@link #folder}, {@code "null"}
+     * if the body is stored in the cassette
+     **/
+    private final String bodyFile;
+
+    /**
+     * {@code bodyLength} number of the bytes of the body of the response
+     **/
+    private final long bodyLength;
+
+    /**
+     * {@code folder} folder of the cassette, used to resolve the {@link #bodyFile}, {@code "null"} if unknown
+     **/
+    private final Path folder;
+
+    /**
+     * {@code offset} nanoseconds elapsed from the start of the recording to the request
+     **/
+    private final long offset;
+
+    /**
+     * {@code duration} nanoseconds elapsed to receive the response
+     **/
+    private final long duration;
+
+    /**
+     * Constructor to init a {@link CassetteExchange}
+     *
+     * @param request:  the request recorded
+     * @param response: response of the request, without the body
+     * @param body:     body of the response, {@code "null"} if the response has not a body
+     * @param textBody: whether the body of the response has been read as text
+     * @param offset:   nanoseconds elapsed from the start of the recording to the request
+     * @param duration: nanoseconds elapsed to receive the response
+     **/
+    public CassetteExchange(GitHubHTTPRequest request, GitHubHTTPResponse response, byte[] body, boolean textBody,
+                            long offset, long duration) {
+        method = request.getMethod();
+        url = request.getUrl();
+        TreeMap<String, String> requestHeaders = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        requestHeaders.putAll(request.getHeaders());
+        requestHeaders.remove("authorization");
+        this.requestHeaders = Collections.unmodifiableMap(requestHeaders);
+        requestBodyLength = getBodyLength(request);
+        requestBodyHash = getBodyHash(request);
+        statusCode = response.getStatusCode();
+        headers = response.getHeaders();
+        this.body = body;
+        this.textBody = textBody;
+        bodyFile = null;
+        bodyLength = body != null ? body.length : 0;
+        folder = null;
+        this.offset = offset;
+        this.duration = duration;
+    }
+
+    /**
+     * Constructor to init a {@link CassetteExchange} with the body of the response stored in a side file
+     *
+     * @param request:    the request recorded
+     * @param response:   response of the request, without the body
+     * @param folder:     folder of the cassette
+     * @param bodyFile:   side file where the body of the response is stored, relative to the folder of the cassette
+     * @param bodyLength: number of the bytes of the body of the response
+     * @param offset:     nanoseconds elapsed from the start of the recording to the request
+     * @param duration:   nanoseconds elapsed to receive the response
+     **/
+    public CassetteExchange(GitHubHTTPRequest request, GitHubHTTPResponse response, Path folder, String bodyFile,
+                            long bodyLength, long offset, long duration) {
+        method = request.getMethod();
+        url = request.getUrl();
+        TreeMap<String, String> requestHeaders = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        requestHeaders.putAll(request.getHeaders());
+        requestHeaders.remove("authorization");
+        this.requestHeaders = Collections.unmodifiableMap(requestHeaders);
+        requestBodyLength = getBodyLength(request);
+        requestBodyHash = getBodyHash(request);
+        statusCode = response.getStatusCode();
+        headers = response.getHeaders();
+        body = null;
+        textBody = false;
+        this.bodyFile = bodyFile;
+        this.bodyLength = bodyLength;
+        this.folder = folder;
+        this.offset = offset;
+        this.duration = duration;
+    }
+
+    /**
+     * Constructor to init a {@link CassetteExchange}
+     *
+     * @param jExchange: exchange details as {@link JSONObject}
+     * @apiNote the bodies stored in side files cannot be opened, use
+     * {@link #CassetteExchange(JSONObject, Path)} instead
+     **/
+    public CassetteExchange(JSONObject jExchange) {
+        this(jExchange, null);
+    }
+
+    /**
+     * Constructor to init a {@link CassetteExchange}
+     *
+     * @param jExchange: exchange details as {@link JSONObject}
+     * @param folder:    folder of the cassette, used to open the bodies stored in side files
+     **/
+    public CassetteExchange(JSONObject jExchange, Path folder) {
+        method = RequestMethod.valueOf(jExchange.getString("m"));
+        url = jExchange.getString("u");
+        TreeMap<String, String> requestHeaders = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        JSONObject jRequestHeaders = jExchange.optJSONObject("q");
+        if (jRequestHeaders != null)
+            for (String name : jRequestHeaders.keySet())
+                requestHeaders.put(name, jRequestHeaders.getString(name));
+        this.requestHeaders = Collections.unmodifiableMap(requestHeaders);
+        requestBodyLength = jExchange.optLong("ql", 0);
+        requestBodyHash = jExchange.optString("qh", null);
+        statusCode = jExchange.getInt("s");
+        TreeMap<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        JSONObject jHeaders = jExchange.optJSONObject("h");
+        if (jHeaders != null) {
+            for (String name : jHeaders.keySet()) {
+                JSONArray jValues = jHeaders.getJSONArray(name);
+                ArrayList<String> values = new ArrayList<>();
+                for (int j = 0; j < jValues.length(); j++)
+                    values.add(jValues.getString(j));
+                headers.put(name, Collections.unmodifiableList(values));
+            }
+        }
+        this.headers = Collections.unmodifiableMap(headers);
+        if (jExchange.has("b")) {
+            body = jExchange.getString("b").getBytes(UTF_8);
+            textBody = true;
+        } else if (jExchange.has("b64")) {
+            body = Base64.getDecoder().decode(jExchange.getString("b64"));
+            textBody = false;
+        } else {
+            body = null;
+            textBody = !jExchange.has("bf");
+        }
+        bodyFile = jExchange.optString("bf", null);
+        bodyLength = body != null ? body.length : jExchange.optLong("bl", 0);
+        this.folder = folder;
+        offset = jExchange.optLong("o", 0);
+        duration = jExchange.optLong("d", 0);
+    }
+
+    /**
+     * Method to get the key of the exchange, used to find the response of a request <br>
+     * No-any params required
+     *
+     * @return key of the exchange as {@link String}
+     **/
+    public String getKey() {
+        return createKey(method, url, requestHeaders.get("accept"), requestHeaders.get("range"), requestBodyLength,
+                requestBodyHash);
+    }
+
+    /**
+     * Method to create the key of a request, used to find its response
+     *
+     * @param request: request from create the key
+     * @return key of the request as {@link String}
+     * @implNote the key is created with the method, the url, the {@code "Accept"} and the {@code "Range"} headers and
+     * the {@code "SHA-256"} of the body of the request, or its length when the body is streamed, so the different
+     * representations, the parts of a download and the requests with different bodies are not confused
+     **/
+    public static String createKey(GitHubHTTPRequest request) {
+        return createKey(request.getMethod(), request.getUrl(), request.getHeader("accept"),
+                request.getHeader("range"), getBodyLength(request), getBodyHash(request));
+    }
+
+    /**
+     * Method to create the key of a request, used to find its response
+     *
+     * @param method:     method of the request
+     * @param url:        url of the request
+     * @param accept:     value of the {@code "Accept"} header, {@code "null"} if not sent
+     * @param range:      value of the {@code "Range"} header, {@code "null"} if not sent
+     * @param bodyLength: number of the bytes of the body of the request
+     * @param bodyHash:   {@code "SHA-256"} of the body of the request, {@code "null"} if it has not a body or it is
+     *                    streamed
+     * @return key of the request as {@link String}
+     **/
+    private static String createKey(RequestMethod method, String url, String accept, String range, long bodyLength,
+                                    String bodyHash) {
+        return method + " " + url + " accept=" + accept + " range=" + range + " body="
+                + (bodyHash != null ? bodyHash : String.valueOf(bodyLength));
+    }
+
+    /**
+     * Method to get the number of the bytes of the body of a request
+     *
+     * @param request: request from get the length
+     * @return number of the bytes of the body as long, {@code "-1"} if unknown
+     **/
+    private static long getBodyLength(GitHubHTTPRequest request) {
+        if (request.getBody() != null)
+            return request.getBody().length;
+        else if (request.getStreamedBody() != null)
+            return request.getStreamedBody().getLength();
+        return 0;
+    }
+
+    /**
+     * Method to get the {@code "SHA-256"} of the body of a request
+     *
+     * @param request: request from get the hash
+     * @return {@code "SHA-256"} in hexadecimal as {@link String}, {@code "null"} if the request has not a body or its
+     * body is streamed
+     **/
+    private static String getBodyHash(GitHubHTTPRequest request) {
+        byte[] body = request.getBody();
+        if (body == null || body.length == 0)
+            return null;
+        try {
+            StringBuilder hash = new StringBuilder();
+            for (byte b : MessageDigest.getInstance("SHA-256").digest(body))
+                hash.append(String.format("%02x", b));
+            return hash.toString();
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform supports SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Method to get whether the response of the exchange has a body <br>
+     * No-any params required
+     *
+     * @return whether the response has a body as boolean
+     **/
+    public boolean hasBody() {
+        return body != null || bodyFile != null;
+    }
+
+    /**
+     * Method to open the body of the response, streaming it from its side file when it is not stored in the cassette
+     * <br>
+     * No-any params required
+     *
+     * @return body of the response as {@link InputStream}, {@code "null"} if the response has not a body
+     * @throws IOException when the side file of the body cannot be opened
+     **/
+    public InputStream openBody() throws IOException {
+        if (bodyFile != null) {
+            if (folder == null)
+                throw new IOException("The folder of the cassette is unknown, cannot open the body: " + bodyFile);
+            return Files.newInputStream(folder.resolve(bodyFile));
+        }
+        return body != null ? new ByteArrayInputStream(body) : null;
+    }
+
+    /**
+     * Method to get the response of the exchange <br>
+     * No-any params required
+     *
+     * @return response with the body as text as {@link GitHubHTTPResponse}
+     * @apiNote a body stored in a side file is not loaded, use {@link #openBody()} to read it
+     **/
+    public GitHubHTTPResponse toResponse() {
+        return new GitHubHTTPResponse(statusCode, headers, body != null ? new String(body, UTF_8) : null);
+    }
+
+    /**
+     * Method to get the exchange as {@link JSONObject} to store it in a cassette <br>
+     * No-any params required
+     *
+     * @return exchange as {@link JSONObject}
+     **/
+    public JSONObject toJSON() {
+        JSONObject jExchange = new JSONObject()
+                .put("m", method.name())
+                .put("u", url);
+        JSONObject jRequestHeaders = new JSONObject();
+        requestHeaders.forEach(jRequestHeaders::put);
+        jExchange.put("q", jRequestHeaders)
+                .put("ql", requestBodyLength);
+        if (requestBodyHash != null)
+            jExchange.put("qh", requestBodyHash);
+        jExchange.put("s", statusCode);
+        JSONObject jHeaders = new JSONObject();
+        headers.forEach((name, values) -> jHeaders.put(name, new JSONArray(values)));
+        jExchange.put("h", jHeaders);
+        if (bodyFile != null) {
+            jExchange.put("bf", bodyFile)
+                    .put("bl", bodyLength);
+        } else if (body != null) {
+            if (textBody)
+                jExchange.put("b", new String(body, UTF_8));
+            else
+                jExchange.put("b64", Base64.getEncoder().encodeToString(body));
+        }
+        return jExchange.put("o", offset)
+                .put("d", duration);
+    }
+
+    /**
+     * Method to get {@link #method} instance <br>
+     * No-any params required
+     *
+     * @return {@link #method} instance as {@link RequestMethod}
+     **/
+    public RequestMethod getMethod() {
+        return method;
+    }
+
+    /**
+     * Method to get {@link #url} instance <br>
+     * No-any params required
+     *
+     * @return {@link #url} instance as {@link String}
+     **/
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Method to get {@link #requestHeaders} instance <br>
+     * No-any params required
+     *
+     * @return {@link #requestHeaders} instance as {@link Map} of {@link String}
+     **/
+    public Map<String, String> getRequestHeaders() {
+        return requestHeaders;
+    }
+
+    /**
+     * Method to get {@link #requestBodyLength} instance <br>
+     * No-any params required
+     *
+     * @return {@link #requestBodyLength} instance as long
+     **/
+    public long getRequestBodyLength() {
+        return requestBodyLength;
+    }
+
+    /**
+     * Method to get {@link #requestBodyHash} instance <br>
+     * No-any params required
+     *
+     * @return {@link #requestBodyHash} instance as {@link String}
+     **/
+    public String getRequestBodyHash() {
+        return requestBodyHash;
+    }
+
+    /**
+     * Method to get {@link #statusCode} instance <br>
+     * No-any params required
+     *
+     * @return {@link #statusCode} instance as int
+     **/
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * Method to get {@link #headers} instance <br>
+     * No-any params required
+     *
+     * @return {@link #headers} instance as {@link Map} of {@link List} of {@link String}
+     **/
+    public Map<String, List<String>> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Method to get {@link #body} instance <br>
+     * No-any params required
+     *
+     * @return {@link #body} instance as array of byte, {@code "null"} if the response has not a body or it is stored
+     * in a side file, see {@link #openBody()}
+     **/
+    public byte[] getBody() {
+        return body != null ? body.clone() : null;
+    }
+
+    /**
+     * Method to get {@link #textBody} instance <br>
+     * No-any params required
+     *
+     * @return {@link #textBody} instance as boolean
+     **/
+    public boolean isTextBody() {
+        return textBody;
+    }
+
+    /**
+     * Method to get {@link #bodyFile} instance <br>
+     * No-any params required
+     *
+     * @return {@link #bodyFile} instance as {@link String}
+     **/
+    public String getBodyFile() {
+        return bodyFile;
+    }
+
+    /**
+     * Method to get {@link #bodyLength} instance <br>
+     * No-any params required
+     *
+     * @return {@link #bodyLength} instance as long
+     **/
+    public long getBodyLength() {
+        return bodyLength;
+    }
+
+    /**
+     * Method to get {@link #offset} instance <br>
+     * No-any params required
+     *
+     * @return {@link #offset} instance in nanoseconds as long
+     **/
+    public long getOffset() {
+        return offset;
+    }
+
+    /**
+     * Method to get {@link #duration} instance <br>
+     * No-any params required
+     *
+     * @return {@link #duration} instance in nanoseconds as long
+     **/
+    public long getDuration() {
+        return duration;
+    }
+
+    /**
+     * Returns a string representation of the object <br>
+     * No-any params required
+     *
+     * @return a string representation of the object as {@link String}
+     */
+    @Override
+    public String toString() {
+        return toJSON().toString();
+    }
+
+}
@@ -0,0 +1,230 @@
+package com.tecknobit.githubmanager.transport.records;
+
+import com.tecknobit.apimanager.apis.APIRequest.RequestMethod;
+import com.tecknobit.githubmanager.transport.GitHubRequestBody;
+import org.json.JSONObject;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The {@code GitHubHTTPRequest} class is useful to format a single request to send to {@code "GitHub"} with a
+ * {@link com.tecknobit.githubmanager.transport.GitHubTransport}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ **/
+public final class GitHubHTTPRequest {
+
+    /**
+     * {@code method} method of the request
+     **/
+    private final RequestMethod method;
+
+    /**
+     * {@code url} complete url of the request
+     **/
+    private final String url;
+
+    /**
+     * {@code headers} headers of the request, the keys are case-insensitive
+     **/
+    private final Map<String, String> headers;
+
+    /**
+     * {@code body} body of the request, {@code "null"} if the request has not a body
+     **/
+    private final byte[] body;
+
+    /**
+     * {@code streamedBody} body of the request sent while it is read, {@code "null"} if the request has not a streamed
+     * body
+     **/
+    private final GitHubRequestBody streamedBody;
+
+    /**
+     * {@code timeout} timeout in milliseconds to wait the response, {@code "-1"} to use the one of the transport
+     **/
+    private final int timeout;
+
+    /**
+     * Constructor to init a {@link GitHubHTTPRequest}
+     *
+     * @param method:  method of the request
+     * @param url:     complete url of the request
+     * @param headers: headers of the request
+     * @param body:    body of the request, {@code "null"} if the request has not a body
+     * @param timeout: timeout in milliseconds to wait the response, {@code "-1"} to use the one of the transport
+     **/
+    public GitHubHTTPRequest(RequestMethod method, String url, Map<String, String> headers, byte[] body, int timeout) {
+        this(method, url, headers, body, null, timeout);
+    }
+
+    /**
+     * Constructor to init a {@link GitHubHTTPRequest}
+     *
+     * @param method:       method of the request
+     * @param url:          complete url of the request
+     * @param headers:      headers of the request
+     * @param body:         body of the request, {@code "null"} if the request has not a body
+     * @param streamedBody: body of the request sent while it is read, {@code "null"} if the request has not a
+     *                      streamed body
+     * @param timeout:      timeout in milliseconds to wait the response, {@code "-1"} to use the one of the transport
+     **/
+    private GitHubHTTPRequest(RequestMethod method, String url, Map<String, String> headers, byte[] body,
+                              GitHubRequestBody streamedBody, int timeout) {
+        this.method = method;
+        this.url = url;
+        TreeMap<String, String> sHeaders = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        if (headers != null)
+            sHeaders.putAll(headers);
+        this.headers = Collections.unmodifiableMap(sHeaders);
+        this.body = body;
+        this.streamedBody = streamedBody;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Method to get {@link #method} instance <br>
+     * No-any params required
+     *
+     * @return {@link #method} instance as {@link RequestMethod}
+     **/
+    public RequestMethod getMethod() {
+        return method;
+    }
+
+    /**
+     * Method to get {@link #url} instance <br>
+     * No-any params required
+     *
+     * @return {@link #url} instance as {@link String}
+     **/
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Method to get {@link #headers} instance <br>
+     * No-any params required
+     *
+     * @return {@link #headers} instance as {@link Map} of {@link String}
+     **/
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Method to get the value of a header
+     *
+     * @param name: name of the header to fetch, case-insensitive
+     * @return value of the header as {@link String}, {@code "null"} if the header is not present
+     **/
+    public String getHeader(String name) {
+        return headers.get(name);
+    }
+
+    /**
+     * Method to get whether this request asks a whole {@code "JSON"} body, and not a part of a body or a body in
+     * another format as the downloads <br>
+     * No-any params required
+     *
+     * @return whether this request asks a whole {@code "JSON"} body as boolean
+     **/
+    public boolean isJSON() {
+        String accept = headers.get("accept");
+        return headers.get("range") == null && (accept == null || accept.contains("json"));
+    }
+
+    /**
+     * Method to get a copy of this request with a header removed
+     *
+     * @param name: name of the header to remove
+     * @return copy of this request as {@link GitHubHTTPRequest}
+     **/
+    public GitHubHTTPRequest withoutHeader(String name) {
+        TreeMap<String, String> sHeaders = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        sHeaders.putAll(headers);
+        sHeaders.remove(name);
+        return new GitHubHTTPRequest(method, url, sHeaders, body, streamedBody, timeout);
+    }
+
+    /**
+     * Method to get a copy of this request with another url
+     *
+     * @param url: complete url of the request
+     * @return copy of this request as {@link GitHubHTTPRequest}
+     **/
+    public GitHubHTTPRequest withUrl(String url) {
+        return new GitHubHTTPRequest(method, url, headers, body, streamedBody, timeout);
+    }
+
+    /**
+     * Method to get a copy of this request with a header added or replaced
+     *
+     * @param name:  name of the header
+     * @param value: value of the header
+     * @return copy of this request as {@link GitHubHTTPRequest}
+     **/
+    public GitHubHTTPRequest withHeader(String name, String value) {
+        TreeMap<String, String> sHeaders = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        sHeaders.putAll(headers);
+        sHeaders.put(name, value);
+        return new GitHubHTTPRequest(method, url, sHeaders, body, streamedBody, timeout);
+    }
+
+    /**
+     * Method to get {@link #body} instance <br>
+     * No-any params required
+     *
+     * @return {@link #body} instance as array of byte
+     **/
+    public byte[] getBody() {
+        return body;
+    }
+
+    /**
+     * Method to get a copy of this request with a body sent while it is read, which replaces the current body
+     *
+     * @param streamedBody: body of the request sent while it is read
+     * @return copy of this request as {@link GitHubHTTPRequest}
+     **/
+    public GitHubHTTPRequest withStreamedBody(GitHubRequestBody streamedBody) {
+        return new GitHubHTTPRequest(method, url, headers, null, streamedBody, timeout);
+    }
+
+    /**
+     * Method to get {@link #streamedBody} instance <br>
+     * No-any params required
+     *
+     * @return {@link #streamedBody} instance as {@link GitHubRequestBody}
+     **/
+    public GitHubRequestBody getStreamedBody() {
+        return streamedBody;
+    }
+
+    /**
+     * Method to get {@link #timeout} instance <br>
+     * No-any params required
+     *
+     * @return {@link #timeout} instance as int
+     **/
+    public int getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Returns a string representation of the object <br>
+     * No-any params required
+     *
+     * @return a string representation of the object as {@link String}
+     */
+    @Override
+    public String toString() {
+        return new JSONObject()
+                .put("method", method)
+                .put("url", url)
+                .toString();
+    }
+
+}
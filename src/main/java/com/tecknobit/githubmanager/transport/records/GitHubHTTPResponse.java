@@ -0,0 +1,213 @@
+package com.tecknobit.githubmanager.transport.records;
+
+import com.tecknobit.githubmanager.ratelimit.records.RateOverview.RateLimit;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.*;
+
+/**
+ * The {@code GitHubHTTPResponse} class is useful to format a single response received from {@code "GitHub"} <br>
+ * Every request returns its own instance, so the status code, the headers and the body of a call can be read
+ * safely also when the same manager is shared by different threads
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ **/
+public final class GitHubHTTPResponse {
+
+    /**
+     * {@code statusCode} status code of the response
+     **/
+    private final int statusCode;
+
+    /**
+     * {@code headers} headers of the response, the keys are case-insensitive
+     **/
+    private final Map<String, List<String>> headers;
+
+    /**
+     * {@code body} body of the response
+     **/
+    private final String body;
+
+    /**
+     * {@code content} content read from the body while it was received, {@code "null"} if the body has been read
+     * as {@link String}
+     **/
+    private final Object content;
+
+    /**
+     * Constructor to init a {@link GitHubHTTPResponse}
+     *
+     * @param statusCode: status code of the response
+     * @param headers:    headers of the response
+     * @param body:       body of the response
+     **/
+    public GitHubHTTPResponse(int statusCode, Map<String, List<String>> headers, String body) {
+        this(statusCode, headers, body, null);
+    }
+
+    /**
+     * Constructor to init a {@link GitHubHTTPResponse}
+     *
+     * @param statusCode: status code of the response
+     * @param headers:    headers of the response
+     * @param body:       body of the response, {@code "null"} if it has been read as content
+     * @param content:    content read from the body while it was received
+     **/
+    public GitHubHTTPResponse(int statusCode, Map<String, List<String>> headers, String body, Object content) {
+        this.statusCode = statusCode;
+        TreeMap<String, List<String>> sHeaders = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        if (headers != null) {
+            for (Map.Entry<String, List<String>> header : headers.entrySet())
+                if (header.getKey() != null)
+                    sHeaders.put(header.getKey(), List.copyOf(header.getValue()));
+        }
+        this.headers = Collections.unmodifiableMap(sHeaders);
+        this.body = body;
+        this.content = content;
+    }
+
+    /**
+     * Method to get {@link #statusCode} instance <br>
+     * No-any params required
+     *
+     * @return {@link #statusCode} instance as int
+     **/
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * Method to get whether the response has a successful status code <br>
+     * No-any params required
+     *
+     * @return whether the response has a {@code "2xx"} status code as boolean
+     **/
+    public boolean isSuccessful() {
+        return statusCode >= 200 && statusCode < 300;
+    }
+
+    /**
+     * Method to get {@link #headers} instance <br>
+     * No-any params required
+     *
+     * @return {@link #headers} instance as {@link Map} of {@link List} of {@link String}
+     **/
+    public Map<String, List<String>> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Method to get the first value of a header
+     *
+     * @param name: name of the header to fetch, case-insensitive
+     * @return first value of the header as {@link String}, {@code "null"} if the header is not present
+     **/
+    public String getHeader(String name) {
+        List<String> values = headers.get(name);
+        if (values == null || values.isEmpty())
+            return null;
+        return values.get(0);
+    }
+
+    /**
+     * Method to get the rate limit of the resource used by the request from the {@code "X-RateLimit-*"} headers <br>
+     * No-any params required
+     *
+     * @return rate limit as {@link RateLimit} custom object, {@code "null"} if the response has not the rate limit headers
+     **/
+    public RateLimit getRateLimit() {
+        String limit = getHeader("X-RateLimit-Limit");
+        String remaining = getHeader("X-RateLimit-Remaining");
+        String reset = getHeader("X-RateLimit-Reset");
+        if (limit == null || remaining == null || reset == null)
+            return null;
+        String used = getHeader("X-RateLimit-Used");
+        try {
+            return new RateLimit(Integer.parseInt(limit), Integer.parseInt(remaining), Long.parseLong(reset),
+                    used != null ? Integer.parseInt(used) : Integer.parseInt(limit) - Integer.parseInt(remaining));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Method to get the resource of the rate limit used by the request from the {@code "X-RateLimit-Resource"} header <br>
+     * No-any params required
+     *
+     * @return resource of the rate limit as {@link String}, for example {@code "core"} or {@code "search"},
+     * {@code "null"} if the response has not the header
+     **/
+    public String getRateLimitResource() {
+        return getHeader("X-RateLimit-Resource");
+    }
+
+    /**
+     * Method to get {@link #body} instance <br>
+     * No-any params required
+     *
+     * @return {@link #body} instance as {@link String}
+     **/
+    public String getBody() {
+        return body;
+    }
+
+    /**
+     * Method to get {@link #content} instance <br>
+     * No-any params required
+     *
+     * @return {@link #content} instance as {@link T}, {@code "null"} if the body has been read as {@link String}
+     **/
+    public <T> T getContent() {
+        return (T) content;
+    }
+
+    /**
+     * Method to get a copy of this response with a content read from its body
+     *
+     * @param content: content read from the body
+     * @return copy of this response as {@link GitHubHTTPResponse}
+     **/
+    public GitHubHTTPResponse withContent(Object content) {
+        return new GitHubHTTPResponse(statusCode, headers, body, content);
+    }
+
+    /**
+     * Method to get {@link #body} instance formatted as {@code "JSON"} <br>
+     * No-any params required
+     *
+     * @return {@link #body} instance formatted as {@link JSONObject} or {@link JSONArray}, {@code "null"} if the body
+     * is not a {@code "JSON"} value
+     **/
+    public <T> T getJSONBody() {
+        if (body == null)
+            return null;
+        try {
+            return (T) new JSONObject(body);
+        } catch (JSONException e) {
+            try {
+                return (T) new JSONArray(body);
+            } catch (JSONException ignored) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Returns a string representation of the object <br>
+     * No-any params required
+     *
+     * @return a string representation of the object as {@link String}
+     */
+    @Override
+    public String toString() {
+        return new JSONObject()
+                .put("status_code", statusCode)
+                .put("headers", headers)
+                .put("body", body)
+                .toString();
+    }
+
+}
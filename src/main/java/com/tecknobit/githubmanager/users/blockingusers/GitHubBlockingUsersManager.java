@@ -137,6 +137,7 @@ public class GitHubBlockingUsersManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/blocks")
     public <T> T getBlockedUsers(ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnUsersList(sendGetRequest(USER_BLOCKS_PATH), format);
     }
 
@@ -205,6 +206,7 @@ public class GitHubBlockingUsersManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/blocks")
     public <T> T getBlockedUsers(Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnUsersList(sendGetRequest(USER_BLOCKS_PATH + queryParams.createQueryString()), format);
     }
 
@@ -234,7 +236,7 @@ public class GitHubBlockingUsersManager extends GitHubManager {
     public boolean checkIfUserBlocked(String username) {
         try {
             sendGetRequest(USER_BLOCKS_PATH + "/" + username);
-            return apiRequest.getResponseStatusCode() == 204;
+            return getStatusCode() == 204;
         } catch (IOException e) {
             printErrorResponse();
             return false;
@@ -267,7 +269,7 @@ public class GitHubBlockingUsersManager extends GitHubManager {
     public boolean blockUser(String username) {
         try {
             sendPutRequest(USER_BLOCKS_PATH + "/" + username, null);
-            return apiRequest.getResponseStatusCode() == 204;
+            return getStatusCode() == 204;
         } catch (IOException e) {
             printErrorResponse();
             return false;
@@ -300,7 +302,7 @@ public class GitHubBlockingUsersManager extends GitHubManager {
     public boolean unblockUser(String username) {
         try {
             sendDeleteRequest(USER_BLOCKS_PATH + "/" + username);
-            return apiRequest.getResponseStatusCode() == 204;
+            return getStatusCode() == 204;
         } catch (IOException e) {
             printErrorResponse();
             return false;
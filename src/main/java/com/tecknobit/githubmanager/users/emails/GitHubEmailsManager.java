@@ -139,6 +139,7 @@ public class GitHubEmailsManager extends GitHubManager {
      **/
     @RequestPath(method = PATCH, path = "/user/email/visibility")
     public <T> T setPrimaryEmailVisibility(EmailVisibility visibility, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("visibility", visibility.toString());
         return returnEmails(sendPatchRequest(USER_PATH + "/email/visibility", payload), format);
@@ -194,6 +195,7 @@ public class GitHubEmailsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/emails")
     public <T> T getEmailAddresses(ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnEmails(sendGetRequest(USER_EMAILS_PATH), format);
     }
 
@@ -264,6 +266,7 @@ public class GitHubEmailsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/emails")
     public <T> T getEmailAddresses(Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnEmails(sendGetRequest(USER_EMAILS_PATH + queryParams.createQueryString()), format);
     }
 
@@ -320,6 +323,7 @@ public class GitHubEmailsManager extends GitHubManager {
      **/
     @RequestPath(method = POST, path = "/user/emails")
     public <T> T addEmailAddress(ReturnFormat format, String... emails) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("emails", emails);
         return returnEmails(sendPostRequest(USER_EMAILS_PATH, payload), format);
@@ -407,6 +411,7 @@ public class GitHubEmailsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/public_emails")
     public <T> T getPublicEmailAddresses(ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnEmails(sendGetRequest(USER_EMAILS_PATH), format);
     }
 
@@ -477,6 +482,7 @@ public class GitHubEmailsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/public_emails")
     public <T> T getPublicEmailAddresses(Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnEmails(sendGetRequest(USER_PATH + "/public_emails"), format);
     }
 
@@ -151,6 +151,7 @@ public class GitHubFollowersManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/followers")
     public <T> T getFollowers(ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnUsersList(sendGetRequest(USER_FOLLOWERS_PATH), format);
     }
 
@@ -219,6 +220,7 @@ public class GitHubFollowersManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/followers")
     public <T> T getFollowers(Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnUsersList(sendGetRequest(USER_FOLLOWERS_PATH + queryParams.createQueryString()), format);
     }
 
@@ -270,6 +272,7 @@ public class GitHubFollowersManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/following")
     public <T> T getFollowing(ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnUsersList(sendGetRequest(USER_FOLLOWING_PATH), format);
     }
 
@@ -338,6 +341,7 @@ public class GitHubFollowersManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/following")
     public <T> T getFollowing(Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnUsersList(sendGetRequest(USER_FOLLOWING_PATH + queryParams.createQueryString()), format);
     }
 
@@ -367,7 +371,7 @@ public class GitHubFollowersManager extends GitHubManager {
     public boolean checkIfPersonIsFollowed(String username) {
         try {
             sendGetRequest(USER_FOLLOWING_PATH + "/" + username);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -405,7 +409,7 @@ public class GitHubFollowersManager extends GitHubManager {
     public boolean followUser(String username) {
         try {
             sendPutRequest(USER_FOLLOWING_PATH + "/" + username, null);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -442,7 +446,7 @@ public class GitHubFollowersManager extends GitHubManager {
     public boolean unfollowUser(String username) {
         try {
             sendDeleteRequest(USER_FOLLOWING_PATH + "/" + username);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -556,6 +560,7 @@ public class GitHubFollowersManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/users/{username}/followers")
     public <T> T getUserFollowers(String username, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnUsersList(sendGetRequest(USERS_PATH + username + FOLLOWERS_PATH), format);
     }
 
@@ -698,6 +703,7 @@ public class GitHubFollowersManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/users/{username}/followers")
     public <T> T getUserFollowers(String username, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnUsersList(sendGetRequest(USERS_PATH + username + FOLLOWERS_PATH), format);
     }
 
@@ -804,6 +810,7 @@ public class GitHubFollowersManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/users/{username}/following")
     public <T> T getUserFollowing(String username, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnUsersList(sendGetRequest(USERS_PATH + username + FOLLOWING_PATH), format);
     }
 
@@ -942,6 +949,7 @@ public class GitHubFollowersManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/users/{username}/following")
     public <T> T getUserFollowing(String username, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnUsersList(sendGetRequest(USERS_PATH + username + FOLLOWING_PATH), format);
     }
 
@@ -1003,7 +1011,7 @@ public class GitHubFollowersManager extends GitHubManager {
     public boolean checkIfUserFollowsAnotherUser(String username, String targetUser) {
         try {
             sendGetRequest(USERS_PATH + username + FOLLOWING_PATH + "/" + targetUser);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -146,6 +146,7 @@ public class GitHubSSHKeysManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/keys")
     public <T> T getPublicSSHKeys(ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnSSHKeys(sendGetRequest(USE_KEYS_PATH), format);
     }
 
@@ -216,6 +217,7 @@ public class GitHubSSHKeysManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/keys")
     public <T> T getPublicSSHKeys(Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnSSHKeys(sendGetRequest(USE_KEYS_PATH + queryParams.createQueryString()), format);
     }
 
@@ -326,6 +328,7 @@ public class GitHubSSHKeysManager extends GitHubManager {
      **/
     @RequestPath(method = POST, path = "/user/keys")
     public <T> T createPublicSSHKey(String key, String title, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("key", key);
         if (title != null)
@@ -384,6 +387,7 @@ public class GitHubSSHKeysManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/keys/{key_id}")
     public <T> T getPublicSSHKey(long keyId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnSSHKey(sendGetRequest(USE_KEYS_PATH + "/" + keyId), format);
     }
 
@@ -434,7 +438,7 @@ public class GitHubSSHKeysManager extends GitHubManager {
     public boolean deletePublicSSHKey(long keyId) {
         try {
             sendDeleteRequest(USE_KEYS_PATH + "/" + keyId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -548,6 +552,7 @@ public class GitHubSSHKeysManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/users/{username}/keys")
     public <T> T getUserPublicSSHKeys(String username, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnSSHKeys(sendGetRequest(USERS_PATH + username + KEYS_PATH), format);
     }
 
@@ -690,6 +695,7 @@ public class GitHubSSHKeysManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/users/{username}/keys")
     public <T> T getUserPublicSSHKeys(String username, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnSSHKeys(sendGetRequest(USERS_PATH + username + KEYS_PATH + queryParams.createQueryString()),
                 format);
     }
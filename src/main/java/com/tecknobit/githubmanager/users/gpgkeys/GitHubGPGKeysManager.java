@@ -146,6 +146,7 @@ public class GitHubGPGKeysManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/gpg_keys")
     public <T> T getGPGKeys(ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnGPGKeys(sendGetRequest(USER_GPG_KEYS_PATH), format);
     }
 
@@ -216,6 +217,7 @@ public class GitHubGPGKeysManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/gpg_keys")
     public <T> T getGPGKeys(Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnGPGKeys(sendGetRequest(USER_GPG_KEYS_PATH + queryParams.createQueryString()), format);
     }
 
@@ -326,6 +328,7 @@ public class GitHubGPGKeysManager extends GitHubManager {
      **/
     @RequestPath(method = POST, path = "/user/gpg_keys")
     public <T> T createGPGKey(String armoredPublicKey, String name, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("armored_public_key", armoredPublicKey);
         if (name != null)
@@ -384,6 +387,7 @@ public class GitHubGPGKeysManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/gpg_keys/{gpg_key_id}")
     public <T> T getGPGKey(long GPGKeyId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnGPGKey(sendGetRequest(USER_GPG_KEYS_PATH + "/" + GPGKeyId), format);
     }
 
@@ -435,7 +439,7 @@ public class GitHubGPGKeysManager extends GitHubManager {
     public boolean deleteGPGKey(long GPGKeyId) {
         try {
             sendDeleteRequest(USER_GPG_KEYS_PATH + "/" + GPGKeyId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -549,6 +553,7 @@ public class GitHubGPGKeysManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/users/{username}/gpg_keys")
     public <T> T getUserGPGKeys(String username, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnGPGKeys(sendGetRequest(USERS_PATH + username + GPG_KEYS_PATH), format);
     }
 
@@ -691,6 +696,7 @@ public class GitHubGPGKeysManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/users/{username}/gpg_keys")
     public <T> T getUserGPGKeys(String username, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnGPGKeys(sendGetRequest(USERS_PATH + username + GPG_KEYS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -144,6 +144,7 @@ public class GitHubSocialAccountsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/social_accounts")
     public <T> T getSocialAccounts(ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnSocialAccounts(sendGetRequest(USER_SOCIAL_ACCOUNTS_PATH), format);
     }
 
@@ -212,6 +213,7 @@ public class GitHubSocialAccountsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/social_accounts")
     public <T> T getSocialAccounts(Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnSocialAccounts(sendGetRequest(USER_SOCIAL_ACCOUNTS_PATH + queryParams.createQueryString()),
                 format);
     }
@@ -267,6 +269,7 @@ public class GitHubSocialAccountsManager extends GitHubManager {
      **/
     @RequestPath(method = POST, path = "/user/social_accounts")
     public <T> T addSocialAccounts(ReturnFormat format, String... accountsUrl) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("account_urls", accountsUrl);
         return returnSocialAccounts(sendPostRequest(USER_SOCIAL_ACCOUNTS_PATH, payload), format);
@@ -408,6 +411,7 @@ public class GitHubSocialAccountsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/users/{username}/social_accounts")
     public <T> T getUserSocialAccounts(String username, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnSocialAccounts(sendGetRequest(USERS_PATH + username + SOCIAL_ACCOUNTS_PATH), format);
     }
 
@@ -550,6 +554,7 @@ public class GitHubSocialAccountsManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/users/{username}/social_accounts")
     public <T> T getUserSocialAccounts(String username, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnSocialAccounts(sendGetRequest(USERS_PATH + username + SOCIAL_ACCOUNTS_PATH
                 + queryParams.createQueryString()), format);
     }
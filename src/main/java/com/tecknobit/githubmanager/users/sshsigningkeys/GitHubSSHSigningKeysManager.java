@@ -149,6 +149,7 @@ public class GitHubSSHSigningKeysManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/ssh_signing_keys")
     public <T> T getPublicSSHSigningKeys(ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnSSHSigningKeys(sendGetRequest(USE_SSH_SIGNING_KEYS_PATH), format);
     }
 
@@ -221,6 +222,7 @@ public class GitHubSSHSigningKeysManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/ssh_signing_keys")
     public <T> T getPublicSSHSigningKeys(Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnSSHSigningKeys(sendGetRequest(USE_SSH_SIGNING_KEYS_PATH + queryParams.createQueryString()), format);
     }
 
@@ -335,6 +337,7 @@ public class GitHubSSHSigningKeysManager extends GitHubManager {
      **/
     @RequestPath(method = POST, path = "/user/ssh_signing_keys")
     public <T> T createPublicSSHSigningKey(String key, String title, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         Params payload = new Params();
         payload.addParam("key", key);
         if (title != null)
@@ -395,6 +398,7 @@ public class GitHubSSHSigningKeysManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/ssh_signing_keys/{ssh_signing_key_id}")
     public <T> T getPublicSSHSigningKey(long keyId, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnSSHSigningKey(sendGetRequest(USE_SSH_SIGNING_KEYS_PATH + "/" + keyId), format);
     }
 
@@ -447,7 +451,7 @@ public class GitHubSSHSigningKeysManager extends GitHubManager {
     public boolean deletePublicSSHSigningKey(long keyId) {
         try {
             sendDeleteRequest(USE_SSH_SIGNING_KEYS_PATH + "/" + keyId);
-            if (apiRequest.getResponseStatusCode() != 204) {
+            if (getStatusCode() != 204) {
                 printErrorResponse();
                 return false;
             }
@@ -561,6 +565,7 @@ public class GitHubSSHSigningKeysManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/ssh_signing_keys")
     public <T> T getUserPublicSSHSigningKeys(String username, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnSSHSigningKeys(sendGetRequest(USERS_PATH + username + SSH_SIGNING_KEYS_PATH), format);
     }
 
@@ -703,6 +708,7 @@ public class GitHubSSHSigningKeysManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user/ssh_signing_keys")
     public <T> T getUserPublicSSHSigningKeys(String username, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnSSHSigningKeys(sendGetRequest(USERS_PATH + username + SSH_SIGNING_KEYS_PATH
                 + queryParams.createQueryString()), format);
     }
@@ -146,6 +146,7 @@ public class GitHubUsersManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/user")
     public <T> T getAuthenticatedUser(ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnUser(sendGetRequest(USER_PATH), format);
     }
 
@@ -256,6 +257,7 @@ public class GitHubUsersManager extends GitHubManager {
      **/
     @RequestPath(method = PATCH, path = "/user")
     public <T> T updateAuthenticatedUser(Params bodyParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnUser(sendPatchRequest(USER_PATH, bodyParams), format);
     }
 
@@ -309,6 +311,7 @@ public class GitHubUsersManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/users")
     public <T> T getUsers(ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnUsersList(sendGetRequest(USERS_ROOT_PATH), format);
     }
 
@@ -381,6 +384,7 @@ public class GitHubUsersManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/users")
     public <T> T getUsers(Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnUsersList(sendGetRequest(USERS_ROOT_PATH + queryParams.createQueryString()), format);
     }
 
@@ -433,6 +437,7 @@ public class GitHubUsersManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/users/{username}")
     public <T> T getUser(String username, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnUser(sendGetRequest(USERS_PATH + username), format);
     }
 
@@ -506,6 +511,7 @@ public class GitHubUsersManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/users/{username}/hovercard")
     public <T> T getUserContextualInformation(String username, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnContextualInformation(sendGetRequest(USERS_PATH + username + HOVERCARD_PATH), format);
     }
 
@@ -583,6 +589,7 @@ public class GitHubUsersManager extends GitHubManager {
      **/
     @RequestPath(method = GET, path = "/users/{username}/hovercard")
     public <T> T getUserContextualInformation(String username, Params queryParams, ReturnFormat format) throws IOException {
+        requireNonStream(format);
         return returnContextualInformation(sendGetRequest(USERS_PATH + username + HOVERCARD_PATH
                 + queryParams.createQueryString()), format);
     }